@@ -36,6 +36,9 @@ import org.elasticsearch.compute.operator.AggregationOperator;
 import org.elasticsearch.compute.operator.DriverContext;
 import org.elasticsearch.compute.operator.HashAggregationOperator;
 import org.elasticsearch.compute.operator.Operator;
+import org.elasticsearch.compute.operator.exchange.ExchangeSink;
+import org.elasticsearch.compute.operator.exchange.ExchangeSource;
+import org.elasticsearch.compute.operator.exchange.HashPartitionExchanger;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -45,10 +48,17 @@ import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -587,4 +597,167 @@ public class AggregatorBenchmark {
     static DriverContext driverContext() {
         return new DriverContext(BigArrays.NON_RECYCLING_INSTANCE, blockFactory);
     }
+
+    /**
+     * Final reduction of a high cardinality {@code SUM(v) BY k} on the coordinator, either in a single
+     * driver ({@code partitions = 1}) or split by the hash of the group key across {@code partitions}
+     * threads the way the planner does with the {@code final_aggregation_partitions} pragma.
+     */
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 7)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @State(Scope.Thread)
+    @Fork(1)
+    public static class PartitionedFinalReduction {
+        private static final int DATA_NODES = 8;
+
+        static {
+            // Smoke test all the expected values
+            for (int partitions : new int[] { 1, 2, 4, 8 }) {
+                PartitionedFinalReduction bench = new PartitionedFinalReduction();
+                bench.partitions = partitions;
+                bench.groups = 1000;
+                bench.setup();
+                try {
+                    bench.run();
+                } finally {
+                    bench.tearDown();
+                }
+            }
+        }
+
+        @Param({ "1", "2", "4", "8" })
+        public int partitions;
+
+        @Param({ "100000", "1000000" })
+        public int groups;
+
+        private List<Page> intermediate;
+        private ExecutorService executor;
+
+        @Setup
+        public void setup() {
+            intermediate = new ArrayList<>(DATA_NODES);
+            for (int n = 0; n < DATA_NODES; n++) {
+                intermediate.add(intermediatePage(groups));
+            }
+            executor = Executors.newFixedThreadPool(partitions);
+        }
+
+        @TearDown
+        public void tearDown() {
+            executor.shutdown();
+            for (Page page : intermediate) {
+                page.releaseBlocks();
+            }
+        }
+
+        @Benchmark
+        public long run() {
+            HashPartitionExchanger exchanger = new HashPartitionExchanger(partitions, new int[] { 0 }, Integer.MAX_VALUE);
+            List<Future<long[]>> reductions = new ArrayList<>(partitions);
+            for (int p = 0; p < partitions; p++) {
+                ExchangeSource source = exchanger.createExchangeSource();
+                reductions.add(executor.submit(() -> reduce(source)));
+            }
+            ExchangeSink sink = exchanger.createExchangeSink();
+            for (Page page : intermediate) {
+                // the exchange releases the page, keep it around for the next invocation
+                for (int b = 0; b < page.getBlockCount(); b++) {
+                    page.getBlock(b).incRef();
+                }
+                sink.addPage(page);
+            }
+            sink.finish();
+
+            long positions = 0;
+            long sum = 0;
+            try {
+                for (Future<long[]> reduction : reductions) {
+                    long[] result = reduction.get();
+                    positions += result[0];
+                    sum += result[1];
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw new AssertionError(e);
+            }
+            long expectedSum = DATA_NODES * ((long) groups * (groups - 1) / 2);
+            if (positions != groups || sum != expectedSum) {
+                throw new AssertionError(
+                    "[" + partitions + "] expected [" + groups + "/" + expectedSum + "] but was [" + positions + "/" + sum + "]"
+                );
+            }
+            return positions;
+        }
+
+        private static long[] reduce(ExchangeSource source) {
+            DriverContext driverContext = driverContext();
+            try (
+                Operator operator = new HashAggregationOperator(
+                    List.of(new SumLongAggregatorFunctionSupplier(List.of(1, 2)).groupingAggregatorFactory(AggregatorMode.FINAL)),
+                    () -> BlockHash.build(
+                        List.of(new HashAggregationOperator.GroupSpec(0, ElementType.LONG)),
+                        driverContext,
+                        BLOCK_LENGTH,
+                        false
+                    ),
+                    driverContext
+                )
+            ) {
+                while (source.isFinished() == false) {
+                    Page page = source.pollPage();
+                    if (page == null) {
+                        Thread.onSpinWait();
+                    } else {
+                        operator.addInput(page);
+                    }
+                }
+                operator.finish();
+                Page output = operator.getOutput();
+                try {
+                    LongBlock sums = output.getBlock(1);
+                    long sum = 0;
+                    for (int p = 0; p < sums.getPositionCount(); p++) {
+                        sum += sums.getLong(p);
+                    }
+                    return new long[] { output.getPositionCount(), sum };
+                } finally {
+                    output.releaseBlocks();
+                }
+            }
+        }
+
+        /**
+         * The intermediate output of one data node that saw every group once with {@code v == k}.
+         */
+        private static Page intermediatePage(int groups) {
+            DriverContext driverContext = driverContext();
+            try (
+                Operator operator = new HashAggregationOperator(
+                    List.of(new SumLongAggregatorFunctionSupplier(List.of(1)).groupingAggregatorFactory(AggregatorMode.INITIAL)),
+                    () -> BlockHash.build(
+                        List.of(new HashAggregationOperator.GroupSpec(0, ElementType.LONG)),
+                        driverContext,
+                        BLOCK_LENGTH,
+                        false
+                    ),
+                    driverContext
+                )
+            ) {
+                for (int start = 0; start < groups; start += BLOCK_LENGTH) {
+                    int end = Math.min(groups, start + BLOCK_LENGTH);
+                    long[] keys = LongStream.range(start, end).toArray();
+                    operator.addInput(
+                        new Page(
+                            blockFactory.newLongArrayVector(keys, keys.length).asBlock(),
+                            blockFactory.newLongArrayVector(keys, keys.length).asBlock()
+                        )
+                    );
+                }
+                operator.finish();
+                return operator.getOutput();
+            }
+        }
+    }
 }
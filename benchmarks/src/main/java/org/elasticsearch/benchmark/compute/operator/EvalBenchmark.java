@@ -14,6 +14,10 @@ import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.BooleanBlock;
 import org.elasticsearch.compute.data.BooleanVector;
+import org.elasticsearch.compute.data.DoubleBlock;
+import org.elasticsearch.compute.data.DoubleVector;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.IntVector;
 import org.elasticsearch.compute.data.LongBlock;
 import org.elasticsearch.compute.data.LongVector;
 import org.elasticsearch.compute.data.Page;
@@ -23,10 +27,14 @@ import org.elasticsearch.compute.operator.Operator;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.xpack.esql.evaluator.EvalMapper;
 import org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.Equals;
+import org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThan;
+import org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.LessThan;
 import org.elasticsearch.xpack.esql.expression.function.scalar.date.DateTrunc;
 import org.elasticsearch.xpack.esql.expression.function.scalar.math.Abs;
 import org.elasticsearch.xpack.esql.expression.function.scalar.multivalue.MvMin;
 import org.elasticsearch.xpack.esql.expression.predicate.operator.arithmetic.Add;
+import org.elasticsearch.xpack.esql.expression.predicate.operator.arithmetic.Mul;
+import org.elasticsearch.xpack.esql.expression.predicate.operator.arithmetic.Sub;
 import org.elasticsearch.xpack.esql.planner.Layout;
 import org.elasticsearch.xpack.esql.type.EsqlDataTypes;
 import org.elasticsearch.xpack.ql.expression.FieldAttribute;
@@ -56,7 +64,7 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Thread)
-@Fork(1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules=jdk.incubator.vector" })
 public class EvalBenchmark {
     private static final BigArrays BIG_ARRAYS = BigArrays.NON_RECYCLING_INSTANCE;  // TODO real big arrays?
     private static final BlockFactory blockFactory = BlockFactory.getInstance(
@@ -71,25 +79,50 @@ public class EvalBenchmark {
         BlockFactory.getInstance(new NoopCircuitBreaker("noop"), BigArrays.NON_RECYCLING_INSTANCE)
     );
 
+    static final DriverContext scalarDriverContext = new DriverContext(
+        BigArrays.NON_RECYCLING_INSTANCE,
+        BlockFactory.getInstance(new NoopCircuitBreaker("noop"), BigArrays.NON_RECYCLING_INSTANCE),
+        false
+    );
+
     static {
         // Smoke test all the expected values and force loading subclasses more like prod
         try {
             for (String operation : EvalBenchmark.class.getField("operation").getAnnotationsByType(Param.class)[0].value()) {
-                run(operation);
+                run(driverContext, operation);
+                run(scalarDriverContext, operation);
             }
         } catch (NoSuchFieldException e) {
             throw new AssertionError();
         }
     }
 
-    @Param({ "abs", "add", "date_trunc", "equal_to_const", "long_equal_to_long", "long_equal_to_int", "mv_min", "mv_min_ascending" })
+    @Param(
+        {
+            "abs",
+            "add",
+            "add_double",
+            "add_int",
+            "add_long_to_long",
+            "date_trunc",
+            "double_less_than_double",
+            "equal_to_const",
+            "int_less_than_int",
+            "long_equal_to_long",
+            "long_equal_to_int",
+            "long_greater_than_const",
+            "mul_double",
+            "mv_min",
+            "mv_min_ascending",
+            "sub_long" }
+    )
     public String operation;
 
-    private static Operator operator(String operation) {
-        return new EvalOperator(driverContext.blockFactory(), evaluator(operation));
+    private static Operator operator(DriverContext driverContext, String operation) {
+        return new EvalOperator(driverContext.blockFactory(), evaluator(driverContext, operation));
     }
 
-    private static EvalOperator.ExpressionEvaluator evaluator(String operation) {
+    private static EvalOperator.ExpressionEvaluator evaluator(DriverContext driverContext, String operation) {
         return switch (operation) {
             case "abs" -> {
                 FieldAttribute longField = longField();
@@ -102,6 +135,56 @@ public class EvalBenchmark {
                     layout(longField)
                 ).get(driverContext);
             }
+            case "add_double" -> {
+                FieldAttribute doubleField = doubleField();
+                yield EvalMapper.toEvaluator(
+                    new Add(Source.EMPTY, doubleField, new Literal(Source.EMPTY, 1D, DataTypes.DOUBLE)),
+                    layout(doubleField)
+                ).get(driverContext);
+            }
+            case "add_int" -> {
+                FieldAttribute intField = intField();
+                yield EvalMapper.toEvaluator(
+                    new Add(Source.EMPTY, intField, new Literal(Source.EMPTY, 1, DataTypes.INTEGER)),
+                    layout(intField)
+                ).get(driverContext);
+            }
+            case "add_long_to_long" -> {
+                FieldAttribute lhs = longField();
+                FieldAttribute rhs = longField();
+                yield EvalMapper.toEvaluator(new Add(Source.EMPTY, lhs, rhs), layout(lhs, rhs)).get(driverContext);
+            }
+            case "double_less_than_double" -> {
+                FieldAttribute lhs = doubleField();
+                FieldAttribute rhs = doubleField();
+                yield EvalMapper.toEvaluator(new LessThan(Source.EMPTY, lhs, rhs, null), layout(lhs, rhs)).get(driverContext);
+            }
+            case "int_less_than_int" -> {
+                FieldAttribute lhs = intField();
+                FieldAttribute rhs = intField();
+                yield EvalMapper.toEvaluator(new LessThan(Source.EMPTY, lhs, rhs, null), layout(lhs, rhs)).get(driverContext);
+            }
+            case "long_greater_than_const" -> {
+                FieldAttribute longField = longField();
+                yield EvalMapper.toEvaluator(
+                    new GreaterThan(Source.EMPTY, longField, new Literal(Source.EMPTY, 100_000L, DataTypes.LONG), null),
+                    layout(longField)
+                ).get(driverContext);
+            }
+            case "mul_double" -> {
+                FieldAttribute doubleField = doubleField();
+                yield EvalMapper.toEvaluator(
+                    new Mul(Source.EMPTY, doubleField, new Literal(Source.EMPTY, 2D, DataTypes.DOUBLE)),
+                    layout(doubleField)
+                ).get(driverContext);
+            }
+            case "sub_long" -> {
+                FieldAttribute longField = longField();
+                yield EvalMapper.toEvaluator(
+                    new Sub(Source.EMPTY, longField, new Literal(Source.EMPTY, 1L, DataTypes.LONG)),
+                    layout(longField)
+                ).get(driverContext);
+            }
             case "date_trunc" -> {
                 FieldAttribute timestamp = new FieldAttribute(
                     Source.EMPTY,
@@ -146,6 +229,10 @@ public class EvalBenchmark {
         return new FieldAttribute(Source.EMPTY, "int", new EsField("int", DataTypes.INTEGER, Map.of(), true));
     }
 
+    private static FieldAttribute doubleField() {
+        return new FieldAttribute(Source.EMPTY, "double", new EsField("double", DataTypes.DOUBLE, Map.of(), true));
+    }
+
     private static Layout layout(FieldAttribute... fields) {
         Layout.Builder layout = new Layout.Builder();
         layout.append(Arrays.asList(fields));
@@ -170,6 +257,63 @@ public class EvalBenchmark {
                     }
                 }
             }
+            case "add_double" -> {
+                DoubleVector v = actual.<DoubleBlock>getBlock(1).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    double expected = i * 100_000 + 1;
+                    if (v.getDouble(i) != expected) {
+                        throw new AssertionError("[" + operation + "] expected [" + expected + "] but was [" + v.getDouble(i) + "]");
+                    }
+                }
+            }
+            case "add_int" -> {
+                IntVector v = actual.<IntBlock>getBlock(1).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    if (v.getInt(i) != i * 100 + 1) {
+                        throw new AssertionError("[" + operation + "] expected [" + (i * 100 + 1) + "] but was [" + v.getInt(i) + "]");
+                    }
+                }
+            }
+            case "add_long_to_long" -> {
+                LongVector v = actual.<LongBlock>getBlock(2).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    if (v.getLong(i) != i * 200_000) {
+                        throw new AssertionError("[" + operation + "] expected [" + (i * 200_000) + "] but was [" + v.getLong(i) + "]");
+                    }
+                }
+            }
+            case "double_less_than_double", "int_less_than_int" -> {
+                BooleanVector v = actual.<BooleanBlock>getBlock(2).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    if (v.getBoolean(i) != (i % 2 == 0)) {
+                        throw new AssertionError("[" + operation + "] expected [" + (i % 2 == 0) + "] but was [" + v.getBoolean(i) + "]");
+                    }
+                }
+            }
+            case "long_greater_than_const" -> {
+                BooleanVector v = actual.<BooleanBlock>getBlock(1).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    if (v.getBoolean(i) != (i > 1)) {
+                        throw new AssertionError("[" + operation + "] expected [" + (i > 1) + "] but was [" + v.getBoolean(i) + "]");
+                    }
+                }
+            }
+            case "mul_double" -> {
+                DoubleVector v = actual.<DoubleBlock>getBlock(1).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    if (v.getDouble(i) != i * 200_000) {
+                        throw new AssertionError("[" + operation + "] expected [" + (i * 200_000) + "] but was [" + v.getDouble(i) + "]");
+                    }
+                }
+            }
+            case "sub_long" -> {
+                LongVector v = actual.<LongBlock>getBlock(1).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    if (v.getLong(i) != i * 100_000 - 1) {
+                        throw new AssertionError("[" + operation + "] expected [" + (i * 100_000 - 1) + "] but was [" + v.getLong(i) + "]");
+                    }
+                }
+            }
             case "date_trunc" -> {
                 LongVector v = actual.<LongBlock>getBlock(1).asVector();
                 long oneDay = TimeValue.timeValueHours(24).millis();
@@ -211,14 +355,46 @@ public class EvalBenchmark {
 
     private static Page page(String operation) {
         return switch (operation) {
-            case "abs", "add", "date_trunc", "equal_to_const" -> {
+            case "abs", "add", "date_trunc", "equal_to_const", "long_greater_than_const", "sub_long" -> {
                 var builder = blockFactory.newLongBlockBuilder(BLOCK_LENGTH);
                 for (int i = 0; i < BLOCK_LENGTH; i++) {
                     builder.appendLong(i * 100_000);
                 }
                 yield new Page(builder.build());
             }
-            case "long_equal_to_long" -> {
+            case "add_double", "mul_double" -> {
+                var builder = blockFactory.newDoubleBlockBuilder(BLOCK_LENGTH);
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    builder.appendDouble(i * 100_000);
+                }
+                yield new Page(builder.build());
+            }
+            case "add_int" -> {
+                var builder = blockFactory.newIntBlockBuilder(BLOCK_LENGTH);
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    builder.appendInt(i * 100);
+                }
+                yield new Page(builder.build());
+            }
+            case "double_less_than_double" -> {
+                var lhs = blockFactory.newDoubleBlockBuilder(BLOCK_LENGTH);
+                var rhs = blockFactory.newDoubleBlockBuilder(BLOCK_LENGTH);
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    lhs.appendDouble(i);
+                    rhs.appendDouble(i % 2 == 0 ? i + 1 : i);
+                }
+                yield new Page(lhs.build(), rhs.build());
+            }
+            case "int_less_than_int" -> {
+                var lhs = blockFactory.newIntBlockBuilder(BLOCK_LENGTH);
+                var rhs = blockFactory.newIntBlockBuilder(BLOCK_LENGTH);
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    lhs.appendInt(i);
+                    rhs.appendInt(i % 2 == 0 ? i + 1 : i);
+                }
+                yield new Page(lhs.build(), rhs.build());
+            }
+            case "long_equal_to_long", "add_long_to_long" -> {
                 var lhs = blockFactory.newLongBlockBuilder(BLOCK_LENGTH);
                 var rhs = blockFactory.newLongBlockBuilder(BLOCK_LENGTH);
                 for (int i = 0; i < BLOCK_LENGTH; i++) {
@@ -257,11 +433,21 @@ public class EvalBenchmark {
     @Benchmark
     @OperationsPerInvocation(1024 * BLOCK_LENGTH)
     public void run() {
-        run(operation);
+        run(driverContext, operation);
+    }
+
+    /**
+     * Runs with {@link DriverContext#vectorizedEval()} disabled so the per-position
+     * evaluators can be compared with the bulk kernels used by {@link #run}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(1024 * BLOCK_LENGTH)
+    public void runScalar() {
+        run(scalarDriverContext, operation);
     }
 
-    private static void run(String operation) {
-        try (Operator operator = operator(operation)) {
+    private static void run(DriverContext driverContext, String operation) {
+        try (Operator operator = operator(driverContext, operation)) {
             Page page = page(operation);
             Page output = null;
             for (int i = 0; i < 1024; i++) {
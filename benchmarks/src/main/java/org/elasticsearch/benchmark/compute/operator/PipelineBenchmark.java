@@ -0,0 +1,499 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.benchmark.compute.operator;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.support.PlainActionFuture;
+import org.elasticsearch.common.breaker.NoopCircuitBreaker;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.concurrent.ThreadContext;
+import org.elasticsearch.compute.aggregation.AggregatorMode;
+import org.elasticsearch.compute.aggregation.SumLongAggregatorFunction;
+import org.elasticsearch.compute.aggregation.SumLongAggregatorFunctionSupplier;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.lucene.DataPartitioning;
+import org.elasticsearch.compute.lucene.LuceneOperator;
+import org.elasticsearch.compute.lucene.LuceneSourceOperator;
+import org.elasticsearch.compute.lucene.ShardContext;
+import org.elasticsearch.compute.lucene.ValuesSourceReaderOperator;
+import org.elasticsearch.compute.operator.Driver;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.DriverRunner;
+import org.elasticsearch.compute.operator.EvalOperator;
+import org.elasticsearch.compute.operator.FilterOperator;
+import org.elasticsearch.compute.operator.HashAggregationOperator;
+import org.elasticsearch.compute.operator.Operator;
+import org.elasticsearch.compute.operator.PageConsumerOperator;
+import org.elasticsearch.compute.operator.SinkOperator;
+import org.elasticsearch.compute.operator.SourceOperator;
+import org.elasticsearch.compute.operator.exchange.ExchangeSinkHandler;
+import org.elasticsearch.compute.operator.exchange.ExchangeSinkOperator;
+import org.elasticsearch.compute.operator.exchange.ExchangeSourceHandler;
+import org.elasticsearch.compute.operator.exchange.ExchangeSourceOperator;
+import org.elasticsearch.core.IOUtils;
+import org.elasticsearch.index.mapper.BlockLoader;
+import org.elasticsearch.index.mapper.KeywordFieldMapper;
+import org.elasticsearch.index.mapper.NumberFieldMapper;
+import org.elasticsearch.search.sort.SortAndFormats;
+import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.xpack.esql.evaluator.EvalMapper;
+import org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThan;
+import org.elasticsearch.xpack.esql.expression.predicate.operator.arithmetic.Mul;
+import org.elasticsearch.xpack.esql.planner.Layout;
+import org.elasticsearch.xpack.ql.expression.FieldAttribute;
+import org.elasticsearch.xpack.ql.expression.Literal;
+import org.elasticsearch.xpack.ql.expression.ReferenceAttribute;
+import org.elasticsearch.xpack.ql.tree.Source;
+import org.elasticsearch.xpack.ql.type.DataTypes;
+import org.elasticsearch.xpack.ql.type.EsField;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Runs whole {@link Driver} pipelines the way a data node runs
+ * {@code FROM idx | EVAL d = l * 2 | WHERE d > n | STATS SUM(d) BY k}:
+ * {@link LuceneSourceOperator} → {@link ValuesSourceReaderOperator} → {@link EvalOperator}
+ * → {@link FilterOperator} → {@link HashAggregationOperator} → exchange. Each {@code pipeline}
+ * adds the next operator so comparing them shows the cost of each step in context.
+ * <p>
+ *     Results are in rows per second. The {@code pages} and {@code allocatedBytes} counters
+ *     measure the bytes that the pipeline allocates for blocks. Divide them, or read
+ *     {@code allocatedBytesPerPage}, to spot regressions in block allocation.
+ * </p>
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+public class PipelineBenchmark {
+    private static final int INDEX_SIZE = 256 * 1024;
+    private static final int COMMIT_INTERVAL = 10_000;
+    private static final int PAGE_SIZE = 8 * 1024;
+    private static final BigArrays BIG_ARRAYS = BigArrays.NON_RECYCLING_INSTANCE;
+
+    private static final ReferenceAttribute DOC_ATTRIBUTE = new ReferenceAttribute(Source.EMPTY, "_doc", DataTypes.UNSUPPORTED);
+    private static final FieldAttribute LONG = new FieldAttribute(Source.EMPTY, "l", new EsField("l", DataTypes.LONG, Map.of(), true));
+    private static final FieldAttribute KEYWORD = new FieldAttribute(
+        Source.EMPTY,
+        "k",
+        new EsField("k", DataTypes.KEYWORD, Map.of(), true)
+    );
+    private static final ReferenceAttribute DOUBLED = new ReferenceAttribute(Source.EMPTY, "d", DataTypes.LONG);
+
+    static {
+        // Smoke test all the expected values and force loading subclasses more like prod
+        try {
+            PipelineBenchmark benchmark = new PipelineBenchmark();
+            benchmark.cardinality = 1000;
+            benchmark.nullPercent = 10;
+            benchmark.setup();
+            try {
+                for (String pipeline : PipelineBenchmark.class.getField("pipeline").getAnnotationsByType(Param.class)[0].value()) {
+                    benchmark.pipeline = pipeline;
+                    try {
+                        benchmark.run(new Allocations());
+                    } catch (Exception e) {
+                        throw new AssertionError("error initializing [" + pipeline + "]", e);
+                    }
+                }
+            } finally {
+                benchmark.teardown();
+            }
+        } catch (IOException | NoSuchFieldException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * How much of the pipeline to run.
+     * <ul>
+     *     <li>{@code read} loads {@code l} and {@code k}</li>
+     *     <li>{@code eval} adds {@code EVAL d = l * 2}</li>
+     *     <li>{@code filter} adds {@code WHERE d > INDEX_SIZE}, dropping a bit more than half the rows</li>
+     *     <li>{@code stats} adds {@code STATS SUM(d) BY k} in a single driver</li>
+     *     <li>{@code exchange} splits the {@code STATS} into an initial aggregation that sends
+     *         its results through an exchange to a final aggregation in a second driver, like
+     *         the data node and the coordinator</li>
+     * </ul>
+     */
+    @Param({ "read", "eval", "filter", "stats", "exchange" })
+    public String pipeline;
+
+    /**
+     * Number of distinct values of {@code k}.
+     */
+    @Param({ "10", "1000", "100000" })
+    public int cardinality;
+
+    /**
+     * Percent of documents without a value for {@code l}.
+     */
+    @Param({ "0", "10", "50" })
+    public int nullPercent;
+
+    private Directory directory;
+    private IndexReader reader;
+    private ExecutorService executor;
+    private CountingBreaker breaker;
+    private BlockFactory blockFactory;
+
+    /**
+     * Counters reported next to the throughput.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Allocations {
+        /**
+         * Pages emitted by the {@link LuceneSourceOperator}.
+         */
+        public long pages;
+        /**
+         * Bytes allocated for blocks.
+         */
+        public long allocatedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pages = 0;
+            allocatedBytes = 0;
+        }
+
+        public double allocatedBytesPerPage() {
+            return pages == 0 ? 0 : (double) allocatedBytes / pages;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < INDEX_SIZE; i++) {
+                Document doc = new Document();
+                if (hasLong(i)) {
+                    doc.add(new NumericDocValuesField("l", i));
+                }
+                doc.add(new SortedDocValuesField("k", new BytesRef("k" + i % cardinality)));
+                iw.addDocument(doc);
+                if (i % COMMIT_INTERVAL == 0) {
+                    iw.commit();
+                }
+            }
+        }
+        reader = DirectoryReader.open(directory);
+        executor = Executors.newFixedThreadPool(2);
+        breaker = new CountingBreaker();
+        blockFactory = BlockFactory.getInstance(breaker, BIG_ARRAYS);
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        executor.shutdown();
+        IOUtils.close(reader, directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INDEX_SIZE)
+    public long run(Allocations allocations) {
+        long allocatedBefore = breaker.allocated.sum();
+        Checksum checksum = new Checksum();
+        SourceOperator source = source();
+        List<Driver> drivers = new ArrayList<>(2);
+        switch (pipeline) {
+            case "read", "eval", "filter", "stats" -> drivers.add(
+                new Driver(driverContext(), source, dataNodeOperators(AggregatorMode.SINGLE), checksum.sink(), () -> {})
+            );
+            case "exchange" -> {
+                ExchangeSourceHandler sourceHandler = new ExchangeSourceHandler(10, executor);
+                ExchangeSinkHandler sinkHandler = new ExchangeSinkHandler(10, System::currentTimeMillis);
+                sourceHandler.addRemoteSink(sinkHandler::fetchPageAsync, 1);
+                drivers.add(
+                    new Driver(
+                        driverContext(),
+                        source,
+                        dataNodeOperators(AggregatorMode.INITIAL),
+                        new ExchangeSinkOperator(sinkHandler.createExchangeSink(), Function.identity()),
+                        () -> {}
+                    )
+                );
+                DriverContext coordinatorContext = driverContext();
+                drivers.add(
+                    new Driver(
+                        coordinatorContext,
+                        new ExchangeSourceOperator(sourceHandler.createExchangeSource()),
+                        List.of(aggregation(AggregatorMode.FINAL, coordinatorContext)),
+                        checksum.sink(),
+                        () -> {}
+                    )
+                );
+            }
+            default -> throw new IllegalArgumentException("unsupported pipeline [" + pipeline + "]");
+        }
+        runToCompletion(drivers);
+        checksum.check();
+        allocations.pages += ((LuceneOperator.Status) source.status()).pagesEmitted();
+        allocations.allocatedBytes += breaker.allocated.sum() - allocatedBefore;
+        return checksum.sum.get();
+    }
+
+    private DriverContext driverContext() {
+        return new DriverContext(BIG_ARRAYS, blockFactory);
+    }
+
+    private SourceOperator source() {
+        ShardContext shard = new ShardContext() {
+            private final IndexSearcher searcher = new IndexSearcher(reader);
+
+            @Override
+            public int index() {
+                return 0;
+            }
+
+            @Override
+            public IndexSearcher searcher() {
+                return searcher;
+            }
+
+            @Override
+            public Optional<SortAndFormats> buildSort(List<SortBuilder<?>> sorts) {
+                return Optional.empty();
+            }
+
+            @Override
+            public String shardIdentifier() {
+                return "benchmark";
+            }
+        };
+        return new LuceneSourceOperator.Factory(
+            List.of(shard),
+            s -> new MatchAllDocsQuery(),
+            DataPartitioning.SHARD,
+            1,
+            PAGE_SIZE,
+            LuceneOperator.NO_LIMIT
+        ).get(driverContext());
+    }
+
+    /**
+     * The operators that run on the data node, each built by the same factories that
+     * {@code LocalExecutionPlanner} uses.
+     */
+    private List<Operator> dataNodeOperators(AggregatorMode aggregatorMode) {
+        DriverContext driverContext = driverContext();
+        List<Operator> operators = new ArrayList<>(4);
+        BlockLoader longLoader = new NumberFieldMapper.NumberFieldType("l", NumberFieldMapper.NumberType.LONG).blockLoader(null);
+        BlockLoader keywordLoader = new KeywordFieldMapper.KeywordFieldType("k").blockLoader(null);
+        operators.add(
+            new ValuesSourceReaderOperator.Factory(
+                List.of(
+                    new ValuesSourceReaderOperator.FieldInfo("l", ElementType.LONG, shard -> longLoader),
+                    new ValuesSourceReaderOperator.FieldInfo("k", ElementType.BYTES_REF, shard -> keywordLoader)
+                ),
+                List.of(new ValuesSourceReaderOperator.ShardContext(reader, () -> {
+                    throw new UnsupportedOperationException("can't load _source here");
+                })),
+                0
+            ).get(driverContext)
+        );
+        if (pipeline.equals("read")) {
+            return operators;
+        }
+        Layout.Builder layout = new Layout.Builder();
+        layout.append(List.of(DOC_ATTRIBUTE, LONG, KEYWORD));
+        Mul doubled = new Mul(Source.EMPTY, LONG, new Literal(Source.EMPTY, 2L, DataTypes.LONG));
+        operators.add(new EvalOperator.EvalOperatorFactory(EvalMapper.toEvaluator(doubled, layout.build())).get(driverContext));
+        if (pipeline.equals("eval")) {
+            return operators;
+        }
+        layout.append(DOUBLED);
+        GreaterThan filter = new GreaterThan(Source.EMPTY, DOUBLED, new Literal(Source.EMPTY, (long) INDEX_SIZE, DataTypes.LONG), null);
+        operators.add(new FilterOperator.FilterOperatorFactory(EvalMapper.toEvaluator(filter, layout.build())).get(driverContext));
+        if (pipeline.equals("filter")) {
+            return operators;
+        }
+        operators.add(aggregation(aggregatorMode, driverContext));
+        return operators;
+    }
+
+    /**
+     * {@code STATS SUM(d) BY k}.
+     */
+    private static Operator aggregation(AggregatorMode mode, DriverContext driverContext) {
+        List<Integer> channels = mode.isInputPartial()
+            ? IntStream.range(1, 1 + SumLongAggregatorFunction.intermediateStateDesc().size()).boxed().toList()
+            : List.of(3);
+        int groupChannel = mode.isInputPartial() ? 0 : 2;
+        return new HashAggregationOperator.HashAggregationOperatorFactory(
+            List.of(new HashAggregationOperator.GroupSpec(groupChannel, ElementType.BYTES_REF)),
+            List.of(new SumLongAggregatorFunctionSupplier(channels).groupingAggregatorFactory(mode)),
+            PAGE_SIZE
+        ).get(driverContext);
+    }
+
+    private void runToCompletion(List<Driver> drivers) {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        DriverRunner runner = new DriverRunner(threadContext) {
+            @Override
+            protected void start(Driver driver, ActionListener<Void> driverListener) {
+                Driver.start(threadContext, executor, driver, 10_000, driverListener);
+            }
+        };
+        PlainActionFuture<Void> future = new PlainActionFuture<>();
+        runner.runToCompletion(drivers, future);
+        future.actionGet();
+    }
+
+    private boolean hasLong(int doc) {
+        return doc % 100 >= nullPercent;
+    }
+
+    /**
+     * Sums the interesting column of the pipeline's output and checks it against
+     * the values in the index.
+     */
+    private class Checksum {
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+
+        SinkOperator sink() {
+            int channel = switch (pipeline) {
+                case "read" -> 1;
+                case "eval", "filter" -> 3;
+                case "stats", "exchange" -> 1;
+                default -> throw new IllegalArgumentException("unsupported pipeline [" + pipeline + "]");
+            };
+            return new PageConsumerOperator(page -> {
+                try {
+                    LongBlock values = page.getBlock(channel);
+                    long pageSum = 0;
+                    for (int p = 0; p < values.getPositionCount(); p++) {
+                        if (values.isNull(p) == false) {
+                            pageSum += values.getLong(values.getFirstValueIndex(p));
+                        }
+                    }
+                    rows.addAndGet(page.getPositionCount());
+                    sum.addAndGet(pageSum);
+                } finally {
+                    page.releaseBlocks();
+                }
+            });
+        }
+
+        void check() {
+            long expectedRows = 0;
+            long expectedSum = 0;
+            BitSet groups = new BitSet(cardinality);
+            for (int i = 0; i < INDEX_SIZE; i++) {
+                switch (pipeline) {
+                    case "read" -> {
+                        expectedRows++;
+                        expectedSum += hasLong(i) ? i : 0;
+                    }
+                    case "eval" -> {
+                        expectedRows++;
+                        expectedSum += hasLong(i) ? 2L * i : 0;
+                    }
+                    default -> {
+                        if (hasLong(i) && 2L * i > INDEX_SIZE) {
+                            expectedRows++;
+                            expectedSum += 2L * i;
+                            groups.set(i % cardinality);
+                        }
+                    }
+                }
+            }
+            if (pipeline.equals("stats") || pipeline.equals("exchange")) {
+                expectedRows = groups.cardinality();
+            }
+            if (rows.get() != expectedRows || sum.get() != expectedSum) {
+                throw new AssertionError(
+                    "["
+                        + pipeline
+                        + "] expected ["
+                        + expectedRows
+                        + "/"
+                        + expectedSum
+                        + "] but was ["
+                        + rows.get()
+                        + "/"
+                        + sum.get()
+                        + "]"
+                );
+            }
+        }
+    }
+
+    /**
+     * A breaker that never breaks but counts every byte allocated through it.
+     */
+    private static class CountingBreaker extends NoopCircuitBreaker {
+        private final LongAdder allocated = new LongAdder();
+
+        CountingBreaker() {
+            super("counting");
+        }
+
+        @Override
+        public void addEstimateBytesAndMaybeBreak(long bytes, String label) {
+            if (bytes > 0) {
+                allocated.add(bytes);
+            }
+        }
+
+        @Override
+        public void addWithoutBreaking(long bytes) {
+            if (bytes > 0) {
+                allocated.add(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.benchmark.index.codec;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.index.codec.CodecService;
+import org.elasticsearch.index.codec.zstd.Zstd;
+import org.elasticsearch.index.mapper.SourceFieldMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fetching {@code _source} from indices that use the {@code default},
+ * {@code best_compression} and {@code zstd} codecs.
+ * <p>
+ *     Results are in microseconds per fetched document. The {@code bytesPerDoc}
+ *     counter is the size of the stored fields files divided by the number of docs.
+ * </p>
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StoredFieldsCompressionBenchmark {
+    private static final int NUM_DOCS = 100_000;
+    private static final int SEED = 17;
+    private static final String[] LEVELS = { "DEBUG", "INFO", "INFO", "INFO", "WARN", "ERROR" };
+    private static final String[] PATHS = { "/", "/cart", "/checkout", "/login", "/search", "/products" };
+
+    static {
+        // Smoke test that every codec returns the same source
+        try {
+            for (String codec : StoredFieldsCompressionBenchmark.class.getDeclaredField("codec").getAnnotation(Param.class).value()) {
+                if (codec.equals(CodecService.ZSTD_CODEC) && Zstd.isAvailable() == false) {
+                    continue;
+                }
+                StoredFieldsCompressionBenchmark bench = new StoredFieldsCompressionBenchmark();
+                bench.codec = codec;
+                bench.setup();
+                try {
+                    BytesRef expected = new BytesRef(source(new Random(SEED), 0));
+                    BytesRef actual = bench.reader.storedFields().document(0).getBinaryValue(SourceFieldMapper.NAME);
+                    if (expected.equals(actual) == false) {
+                        throw new AssertionError("[" + codec + "] expected [" + expected.utf8ToString() + "] but was [" + actual + "]");
+                    }
+                } finally {
+                    bench.teardown();
+                }
+            }
+        } catch (IOException | NoSuchFieldException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Param({ CodecService.DEFAULT_CODEC, CodecService.BEST_COMPRESSION_CODEC, CodecService.ZSTD_CODEC })
+    public String codec;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private double bytesPerDoc;
+
+    /**
+     * Counters reported next to the latency.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Storage {
+        /**
+         * Bytes of stored fields per document.
+         */
+        public double bytesPerDoc;
+    }
+
+    /**
+     * Per thread state that picks the documents to fetch.
+     */
+    @State(Scope.Thread)
+    public static class Docs {
+        private final Random random = new Random(SEED);
+        private StoredFields storedFields;
+
+        @Setup
+        public void setup(StoredFieldsCompressionBenchmark bench) throws IOException {
+            storedFields = bench.reader.storedFields();
+        }
+
+        int next() {
+            return random.nextInt(NUM_DOCS);
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        TieredMergePolicy mergePolicy = new TieredMergePolicy();
+        mergePolicy.setNoCFSRatio(0);
+        IndexWriterConfig config = new IndexWriterConfig().setUseCompoundFile(false)
+            .setMergePolicy(mergePolicy)
+            .setCodec(new CodecService(null, BigArrays.NON_RECYCLING_INSTANCE).codec(codec));
+        Random random = new Random(SEED);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                Document doc = new Document();
+                doc.add(new StoredField(SourceFieldMapper.NAME, new BytesRef(source(random, i))));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        long bytes = 0;
+        for (String file : directory.listAll()) {
+            if (file.endsWith(".fdt") || file.endsWith(".fdx") || file.endsWith(".fdm")) {
+                bytes += directory.fileLength(file);
+            }
+        }
+        bytesPerDoc = (double) bytes / NUM_DOCS;
+        reader = DirectoryReader.open(directory);
+    }
+
+    /**
+     * A log line shaped {@code _source}.
+     */
+    private static byte[] source(Random random, int i) {
+        String json = "{\"@timestamp\":\""
+            + (1_700_000_000_000L + i * 10L)
+            + "\",\"host\":{\"name\":\"host-"
+            + random.nextInt(100)
+            + "\"},\"log\":{\"level\":\""
+            + LEVELS[random.nextInt(LEVELS.length)]
+            + "\"},\"url\":{\"path\":\""
+            + PATHS[random.nextInt(PATHS.length)]
+            + "\"},\"http\":{\"response\":{\"status_code\":"
+            + (random.nextInt(10) == 0 ? 500 : 200)
+            + ",\"bytes\":"
+            + random.nextInt(100_000)
+            + "}},\"message\":\"request "
+            + Long.toHexString(random.nextLong())
+            + " handled in "
+            + random.nextInt(1000)
+            + "ms\"}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    /**
+     * Fetch the {@code _source} of a random document.
+     */
+    @Benchmark
+    public BytesRef fetchSource(Docs docs, Storage storage) throws IOException {
+        storage.bytesPerDoc = bytesPerDoc;
+        return docs.storedFields.document(docs.next()).getBinaryValue(SourceFieldMapper.NAME);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.benchmark.index.codec.tsdb;
+
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSortField;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.index.codec.tsdb.ES87TSDBDocValuesFormat;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the doc values of log documents in a {@code standard} index with
+ * the doc values of the same documents in a {@code logs} index. {@code logs}
+ * indices sort on {@code host.name} and {@code @timestamp} and use the
+ * {@link ES87TSDBDocValuesFormat}.
+ * <p>
+ *     Results are in docs decoded per second. The {@code bytesPerDoc} counter is
+ *     the size of the doc values files divided by the number of docs.
+ * </p>
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(LogsDocValuesBenchmark.NUM_DOCS)
+@State(Scope.Benchmark)
+public class LogsDocValuesBenchmark {
+    static final int NUM_DOCS = 200_000;
+    private static final int SEED = 17;
+    private static final int HOSTS = 100;
+    private static final long START = 1_700_000_000_000L;
+
+    static {
+        // Smoke test that both modes decode the same values
+        try {
+            long expected = -1;
+            for (String mode : LogsDocValuesBenchmark.class.getDeclaredField("mode").getAnnotation(Param.class).value()) {
+                LogsDocValuesBenchmark bench = new LogsDocValuesBenchmark();
+                bench.mode = mode;
+                bench.setup();
+                try {
+                    long sum = bench.decode(new Storage());
+                    if (expected != -1 && expected != sum) {
+                        throw new AssertionError("[" + mode + "] expected [" + expected + "] but was [" + sum + "]");
+                    }
+                    expected = sum;
+                } finally {
+                    bench.teardown();
+                }
+            }
+        } catch (IOException | NoSuchFieldException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Param({ "standard", "logs" })
+    public String mode;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private double bytesPerDoc;
+
+    /**
+     * Counters reported next to the throughput.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Storage {
+        /**
+         * Bytes of doc values per document.
+         */
+        public double bytesPerDoc;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        TieredMergePolicy mergePolicy = new TieredMergePolicy();
+        mergePolicy.setNoCFSRatio(0);
+        IndexWriterConfig config = new IndexWriterConfig().setUseCompoundFile(false).setMergePolicy(mergePolicy);
+        switch (mode) {
+            case "standard" -> {}
+            case "logs" -> {
+                DocValuesFormat tsdb = new ES87TSDBDocValuesFormat();
+                config.setCodec(new Lucene99Codec() {
+                    @Override
+                    public DocValuesFormat getDocValuesFormatForField(String field) {
+                        return tsdb;
+                    }
+                });
+                SortField host = new SortedSetSortField("host.name", false);
+                host.setMissingValue(SortField.STRING_LAST);
+                config.setIndexSort(new Sort(host, new SortedNumericSortField("@timestamp", SortField.Type.LONG, true)));
+            }
+            default -> throw new IllegalArgumentException("unsupported mode [" + mode + "]");
+        }
+        Random random = new Random(SEED);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                // Logs arrive roughly in time order from many hosts at once
+                Document doc = new Document();
+                doc.add(new SortedSetDocValuesField("host.name", new BytesRef("host-" + random.nextInt(HOSTS))));
+                doc.add(new SortedNumericDocValuesField("@timestamp", START + i * 10L + random.nextInt(100)));
+                doc.add(new SortedNumericDocValuesField("http.response.status_code", status(random)));
+                doc.add(new SortedNumericDocValuesField("http.response.bytes", random.nextInt(100_000)));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        long bytes = 0;
+        for (String file : directory.listAll()) {
+            if (file.endsWith(".dvd") || file.endsWith(".dvm")) {
+                bytes += directory.fileLength(file);
+            }
+        }
+        bytesPerDoc = (double) bytes / NUM_DOCS;
+        reader = DirectoryReader.open(directory);
+    }
+
+    private static int status(Random random) {
+        int r = random.nextInt(100);
+        if (r < 90) {
+            return 200;
+        }
+        return r < 97 ? 404 : 500;
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    /**
+     * Decode every doc value in the index.
+     */
+    @Benchmark
+    public long decode(Storage storage) throws IOException {
+        storage.bytesPerDoc = bytesPerDoc;
+        long sum = 0;
+        for (LeafReaderContext ctx : reader.leaves()) {
+            SortedSetDocValues hosts = DocValues.getSortedSet(ctx.reader(), "host.name");
+            SortedNumericDocValues timestamps = DocValues.getSortedNumeric(ctx.reader(), "@timestamp");
+            SortedNumericDocValues statuses = DocValues.getSortedNumeric(ctx.reader(), "http.response.status_code");
+            SortedNumericDocValues sizes = DocValues.getSortedNumeric(ctx.reader(), "http.response.bytes");
+            for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                if (hosts.advanceExact(doc)) {
+                    sum += hosts.nextOrd();
+                }
+                if (timestamps.advanceExact(doc)) {
+                    sum += timestamps.nextValue() - START;
+                }
+                if (statuses.advanceExact(doc)) {
+                    sum += statuses.nextValue();
+                }
+                if (sizes.advanceExact(doc)) {
+                    sum += sizes.nextValue();
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.benchmark.vector;
+
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.VectorUtil;
+import org.elasticsearch.core.IOUtils;
+import org.elasticsearch.vec.Int8VectorScorer;
+import org.elasticsearch.vec.VectorScorerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scoring int8 quantized vectors the way Lucene does with the SIMD scorers of
+ * {@link VectorScorerFactory}. Both read each vector from the memory mapped file onto the heap
+ * before comparing it. Complements {@link DistanceFunctionBenchmark} which covers the distance
+ * functions on heap vectors. Results are in nanoseconds per scored vector.
+ */
+@Fork(value = 1, jvmArgsPrepend = { "--add-modules=jdk.incubator.vector" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(Int8VectorScorerBenchmark.NUM_VECTORS)
+@State(Scope.Benchmark)
+public class Int8VectorScorerBenchmark {
+    static final int NUM_VECTORS = 1000;
+
+    @Param({ "96", "768", "1024" })
+    public int dims;
+
+    @Param({ "dot_product", "euclidean" })
+    public String similarity;
+
+    private Directory directory;
+    private IndexInput input;
+    private VectorSimilarityFunction similarityFunction;
+    private byte[] query;
+    private byte[] vector;
+    private Int8VectorScorer panamaScorer;
+
+    @Setup
+    public void setup() throws IOException {
+        similarityFunction = VectorSimilarityFunction.valueOf(similarity.toUpperCase(Locale.ROOT));
+        directory = new MMapDirectory(Files.createTempDirectory("int8-vectors"));
+        Random random = new Random(17);
+        try (IndexOutput out = directory.createOutput("vectors", IOContext.DEFAULT)) {
+            for (int i = 0; i < NUM_VECTORS; i++) {
+                byte[] v = randomVector(random, dims);
+                out.writeBytes(v, v.length);
+                out.writeInt(Float.floatToIntBits(random.nextFloat()));
+            }
+        }
+        input = directory.openInput("vectors", IOContext.DEFAULT);
+        query = randomVector(random, dims);
+        vector = new byte[dims];
+        panamaScorer = VectorScorerFactory.instance()
+            .map(f -> f.getInt8ScalarQuantizedVectorScorer(input.clone(), dims, similarityFunction, 0.01f, query, 0.5f))
+            .orElse(null);
+    }
+
+    private static byte[] randomVector(Random random, int dims) {
+        byte[] v = new byte[dims];
+        for (int i = 0; i < dims; i++) {
+            v[i] = (byte) random.nextInt(128);
+        }
+        return v;
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        IOUtils.close(input, directory);
+    }
+
+    /**
+     * Scores each vector like Lucene's {@code ScalarQuantizedVectorSimilarity}.
+     */
+    @Benchmark
+    public float lucene() throws IOException {
+        float total = 0;
+        for (int ord = 0; ord < NUM_VECTORS; ord++) {
+            input.seek((long) ord * (dims + Float.BYTES));
+            input.readBytes(vector, 0, dims);
+            float vectorCorrection = Float.intBitsToFloat(input.readInt());
+            if (similarityFunction == VectorSimilarityFunction.EUCLIDEAN) {
+                total += 1 / (1f + VectorUtil.squareDistance(query, vector) * 0.01f);
+            } else {
+                total += (1 + VectorUtil.dotProduct(query, vector) * 0.01f + 0.5f + vectorCorrection) / 2;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Scores each vector with the SIMD scorer.
+     */
+    @Benchmark
+    public float panama() throws IOException {
+        if (panamaScorer == null) {
+            throw new IllegalStateException("the SIMD scorers require JDK 21+ and a CPU with 256 bit vectors");
+        }
+        float total = 0;
+        for (int ord = 0; ord < NUM_VECTORS; ord++) {
+            total += panamaScorer.score(ord);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.benchmark.vector;
+
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswScalarQuantizedVectorsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.index.codec.vectors.ES813BbqFlatVectorFormat;
+import org.elasticsearch.index.codec.vectors.ES813BbqHnswVectorsFormat;
+import org.elasticsearch.index.codec.vectors.ES813Int4HnswVectorsFormat;
+import org.elasticsearch.search.vectors.ESKnnFloatVectorQuery;
+import org.elasticsearch.search.vectors.RescoreKnnFloatVectorQuery;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency and the recall of knn searches over the quantized {@code dense_vector}
+ * index types, with the rescoring the mapper enables for them, against plain {@code hnsw}.
+ * <p>
+ *     Results are in microseconds per search. The {@code recall} counter is the share of the
+ *     exact {@code k} nearest neighbors that the searches find, averaged over all queries.
+ * </p>
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class KnnQuantizationBenchmark {
+    private static final int NUM_QUERIES = 100;
+    private static final int SEED = 17;
+    private static final String FIELD = "vector";
+
+    @Param({ "hnsw", "int8_hnsw", "int4_hnsw", "bbq_hnsw", "bbq_flat" })
+    public String type;
+
+    @Param({ "768" })
+    public int dims;
+
+    @Param({ "20000" })
+    public int numDocs;
+
+    @Param({ "10" })
+    public int k;
+
+    @Param({ "100" })
+    public int numCands;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+    private float[][] queries;
+    private double recall;
+
+    /**
+     * Counters reported next to the latency.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Quality {
+        /**
+         * Share of the exact nearest neighbors the searches find.
+         */
+        public double recall;
+    }
+
+    /**
+     * Per thread state that picks the queries.
+     */
+    @State(Scope.Thread)
+    public static class Queries {
+        private final Random random = new Random(SEED);
+
+        int next() {
+            return random.nextInt(NUM_QUERIES);
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        KnnVectorsFormat format = format(type);
+        IndexWriterConfig config = new IndexWriterConfig().setCodec(new Lucene99Codec() {
+            @Override
+            public KnnVectorsFormat getKnnVectorsFormatForField(String field) {
+                return format;
+            }
+        });
+        Random random = new Random(SEED);
+        float[][] vectors = new float[numDocs][];
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < numDocs; i++) {
+                vectors[i] = randomVector(random, dims);
+                Document doc = new Document();
+                doc.add(new KnnFloatVectorField(FIELD, vectors[i], VectorSimilarityFunction.DOT_PRODUCT));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        searcher = new IndexSearcher(reader);
+        queries = new float[NUM_QUERIES][];
+        double totalRecall = 0;
+        for (int q = 0; q < NUM_QUERIES; q++) {
+            queries[q] = randomVector(random, dims);
+            Set<Integer> expected = exactNearest(vectors, queries[q]);
+            int found = 0;
+            for (ScoreDoc scoreDoc : searchQuery(q).scoreDocs) {
+                if (expected.contains(scoreDoc.doc)) {
+                    found++;
+                }
+            }
+            totalRecall += (double) found / k;
+        }
+        recall = totalRecall / NUM_QUERIES;
+    }
+
+    private static KnnVectorsFormat format(String type) {
+        return switch (type) {
+            case "hnsw" -> new Lucene99HnswVectorsFormat();
+            case "int8_hnsw" -> new Lucene99HnswScalarQuantizedVectorsFormat();
+            case "int4_hnsw" -> new ES813Int4HnswVectorsFormat();
+            case "bbq_hnsw" -> new ES813BbqHnswVectorsFormat();
+            case "bbq_flat" -> new ES813BbqFlatVectorFormat();
+            default -> throw new IllegalArgumentException("unknown type [" + type + "]");
+        };
+    }
+
+    /**
+     * The oversampling the {@code dense_vector} mapper uses for each index type.
+     */
+    private static float oversample(String type) {
+        return switch (type) {
+            case "int4_hnsw" -> 1.5f;
+            case "bbq_hnsw", "bbq_flat" -> 3f;
+            default -> 1f;
+        };
+    }
+
+    /**
+     * A random unit vector.
+     */
+    private static float[] randomVector(Random random, int dims) {
+        float[] vector = new float[dims];
+        double norm = 0;
+        for (int i = 0; i < dims; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < dims; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+    private Set<Integer> exactNearest(float[][] vectors, float[] query) {
+        PriorityQueue<ScoreDoc> top = new PriorityQueue<>((a, b) -> Float.compare(a.score, b.score));
+        for (int doc = 0; doc < vectors.length; doc++) {
+            top.add(new ScoreDoc(doc, VectorSimilarityFunction.DOT_PRODUCT.compare(query, vectors[doc])));
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+        Set<Integer> docs = new HashSet<>();
+        for (ScoreDoc scoreDoc : top) {
+            docs.add(scoreDoc.doc);
+        }
+        return docs;
+    }
+
+    private TopDocs searchQuery(int query) throws IOException {
+        float oversample = oversample(type);
+        Query knnQuery = oversample > 1f
+            ? new RescoreKnnFloatVectorQuery(FIELD, queries[query], numCands, oversample, null)
+            : new ESKnnFloatVectorQuery(FIELD, queries[query], numCands, null);
+        return searcher.search(knnQuery, k);
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    /**
+     * Run the knn search of a random query.
+     */
+    @Benchmark
+    public TopDocs search(Queries queries, Quality quality) throws IOException {
+        quality.recall = recall;
+        return searchQuery(queries.next());
+    }
+}
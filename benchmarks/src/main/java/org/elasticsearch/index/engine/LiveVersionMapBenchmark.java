@@ -0,0 +1,133 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.core.Releasable;
+import org.elasticsearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the {@link LiveVersionMap} that keeps an object per document with the
+ * one that keeps documents in a {@link CompactVersionValueMap}. Indexing threads
+ * put and get concurrently while a single thread refreshes and prunes tombstones.
+ * <p>
+ *     This lives in the engine package because the version map's API is package private.
+ *     The {@code bytesPerDoc} counter is the version map's estimated RAM usage divided
+ *     by the number of docs it holds.
+ * </p>
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean compact;
+
+    @Param({ "1000000" })
+    public int numDocs;
+
+    private LiveVersionMap map;
+    private BytesRef[] uids;
+    private final AtomicLong seqNo = new AtomicLong();
+    private double bytesPerDoc;
+
+    /**
+     * Counters reported next to the throughput.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Storage {
+        /**
+         * Estimated bytes of version map per document once all documents are indexed.
+         */
+        public double bytesPerDoc;
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        map = new LiveVersionMap(LiveVersionMapArchive.NOOP_ARCHIVE, compact ? BigArrays.NON_RECYCLING_INSTANCE : null);
+        map.enforceSafeAccess();
+        uids = new BytesRef[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            uids[i] = new BytesRef(String.format(Locale.ROOT, "%020d", i).getBytes(StandardCharsets.UTF_8));
+            put(uids[i]);
+        }
+        bytesPerDoc = (double) map.ramBytesUsed() / numDocs;
+    }
+
+    private void put(BytesRef uid) {
+        long s = seqNo.incrementAndGet();
+        try (Releasable r = map.acquireLock(uid)) {
+            map.putIndexUnderLock(uid, new IndexVersionValue(new Translog.Location(1, s * 100, 100), 1, s, 1));
+        }
+    }
+
+    private BytesRef randomUid() {
+        return uids[ThreadLocalRandom.current().nextInt(uids.length)];
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void put(Storage storage) {
+        storage.bytesPerDoc = bytesPerDoc;
+        put(randomUid());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public VersionValue get() {
+        BytesRef uid = randomUid();
+        try (Releasable r = map.acquireLock(uid)) {
+            return map.getUnderLock(uid);
+        }
+    }
+
+    /**
+     * Delete a document, refresh and prune the tombstones that are old enough. This
+     * is what the engine does on every refresh, dropping the version map of the
+     * previous refresh.
+     */
+    @Benchmark
+    public void deleteRefreshAndPrune() throws IOException {
+        BytesRef uid = randomUid();
+        long s = seqNo.incrementAndGet();
+        try (Releasable r = map.acquireLock(uid)) {
+            map.putDeleteUnderLock(uid, new DeleteVersionValue(1, s, 1, s));
+        }
+        map.beforeRefresh();
+        map.afterRefresh(true);
+        map.pruneTombstones(s, s);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.vec;
+
+import java.io.IOException;
+
+/**
+ * Scores int8 quantized vectors against a query.
+ */
+public interface Int8VectorScorer {
+
+    /**
+     * The score of the vector with ordinal {@code ord} against the query, computed the same way as Lucene's
+     * {@code ScalarQuantizedVectorSimilarity} does.
+     */
+    float score(int ord) throws IOException;
+}
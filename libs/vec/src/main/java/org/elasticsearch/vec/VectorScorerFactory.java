@@ -0,0 +1,51 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.vec;
+
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.IndexInput;
+
+import java.util.Optional;
+
+/**
+ * Builds scorers that compare quantized vectors with SIMD instructions. The factory is only available when
+ * the JVM supports the Panama Vector API, that is on JDK 21+ started with
+ * {@code --add-modules=jdk.incubator.vector}, and when its vectors are wide enough to be worth it.
+ */
+public interface VectorScorerFactory {
+
+    /**
+     * The factory, or empty if the SIMD scorers aren't supported by this JVM.
+     */
+    static Optional<VectorScorerFactory> instance() {
+        return Optional.ofNullable(VectorScorerFactoryImpl.INSTANCE);
+    }
+
+    /**
+     * Returns a scorer of the int8 scalar quantized vectors of {@code input} against the quantized query. Vectors
+     * are expected in the layout of Lucene's {@code Lucene99ScalarQuantizedVectorsFormat}: {@code dims} bytes
+     * followed by the little endian float correction of the vector. The scorer reads from {@code input} so it
+     * must not be shared with other scorers or threads.
+     *
+     * @param input the quantized vectors
+     * @param dims the number of dimensions of the vectors
+     * @param similarity the similarity function of the field
+     * @param constMultiplier the constant multiplier of the quantization
+     * @param quantizedQuery the quantized query
+     * @param queryCorrection the score correction of the quantized query
+     */
+    Int8VectorScorer getInt8ScalarQuantizedVectorScorer(
+        IndexInput input,
+        int dims,
+        VectorSimilarityFunction similarity,
+        float constMultiplier,
+        byte[] quantizedQuery,
+        float queryCorrection
+    );
+}
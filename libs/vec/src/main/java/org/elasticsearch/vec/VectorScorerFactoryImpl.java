@@ -0,0 +1,19 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.vec;
+
+/**
+ * The SIMD scorers need the Panama Vector API of JDK 21+, see the {@code main21} source set.
+ */
+final class VectorScorerFactoryImpl {
+
+    static final VectorScorerFactory INSTANCE = null;
+
+    private VectorScorerFactoryImpl() {}
+}
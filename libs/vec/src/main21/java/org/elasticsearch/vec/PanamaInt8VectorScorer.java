@@ -0,0 +1,129 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.vec;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.VectorUtil;
+
+import java.io.IOException;
+
+/**
+ * {@link Int8VectorScorer} implemented with the Panama Vector API. Each vector is read from the
+ * {@link IndexInput} into a reused buffer, widened from bytes to ints as many lanes at a time as
+ * fit in the preferred species, and the tail is finished with a scalar loop. Scores are the ones
+ * of Lucene's {@code ScalarQuantizedVectorSimilarity}.
+ */
+final class PanamaInt8VectorScorer implements Int8VectorScorer {
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    /**
+     * Bytes are widened to ints so a byte vector has as many lanes as the preferred int vector.
+     */
+    private static final VectorSpecies<Byte> BYTE_SPECIES = VectorSpecies.of(
+        byte.class,
+        VectorShape.forBitSize(INT_SPECIES.vectorBitSize() / Integer.BYTES)
+    );
+
+    /**
+     * Is SIMD worth it on this CPU? Bytes are widened to the preferred int species so it must be at
+     * least 256 bits for the byte species to have the smallest supported shape of 64 bits.
+     */
+    static boolean supported() {
+        return INT_SPECIES.vectorBitSize() >= 256;
+    }
+
+    private final IndexInput input;
+    private final int dims;
+    private final long recordBytes;
+    private final VectorSimilarityFunction similarity;
+    private final float constMultiplier;
+    private final int[] query;
+    private final float queryCorrection;
+    private final byte[] vector;
+
+    PanamaInt8VectorScorer(
+        IndexInput input,
+        int dims,
+        VectorSimilarityFunction similarity,
+        float constMultiplier,
+        byte[] quantizedQuery,
+        float queryCorrection
+    ) {
+        this.input = input;
+        this.dims = dims;
+        // each vector is followed by its float score correction
+        this.recordBytes = dims + Float.BYTES;
+        this.similarity = similarity;
+        this.constMultiplier = constMultiplier;
+        // widen the query once rather than on every comparison
+        this.query = new int[dims];
+        for (int i = 0; i < dims; i++) {
+            query[i] = quantizedQuery[i];
+        }
+        this.queryCorrection = queryCorrection;
+        this.vector = new byte[dims];
+    }
+
+    @Override
+    public float score(int ord) throws IOException {
+        input.seek(ord * recordBytes);
+        input.readBytes(vector, 0, dims);
+        if (similarity == VectorSimilarityFunction.EUCLIDEAN) {
+            return 1 / (1f + squareDistance() * constMultiplier);
+        }
+        float vectorCorrection = Float.intBitsToFloat(input.readInt());
+        float adjustedDistance = dotProduct() * constMultiplier + queryCorrection + vectorCorrection;
+        if (similarity == VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT) {
+            return VectorUtil.scaleMaxInnerProductScore(adjustedDistance);
+        }
+        return (1 + adjustedDistance) / 2;
+    }
+
+    private int dotProduct() {
+        int bound = INT_SPECIES.loopBound(dims);
+        int i = 0;
+        IntVector acc = IntVector.zero(INT_SPECIES);
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector q = IntVector.fromArray(INT_SPECIES, query, i);
+            IntVector v = load(i);
+            acc = acc.add(q.mul(v));
+        }
+        int res = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < dims; i++) {
+            res += query[i] * vector[i];
+        }
+        return res;
+    }
+
+    private int squareDistance() {
+        int bound = INT_SPECIES.loopBound(dims);
+        int i = 0;
+        IntVector acc = IntVector.zero(INT_SPECIES);
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector diff = IntVector.fromArray(INT_SPECIES, query, i).sub(load(i));
+            acc = acc.add(diff.mul(diff));
+        }
+        int res = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < dims; i++) {
+            int diff = query[i] - vector[i];
+            res += diff * diff;
+        }
+        return res;
+    }
+
+    private IntVector load(int offset) {
+        return (IntVector) ByteVector.fromArray(BYTE_SPECIES, vector, offset).convertShape(VectorOperators.B2I, INT_SPECIES, 0);
+    }
+}
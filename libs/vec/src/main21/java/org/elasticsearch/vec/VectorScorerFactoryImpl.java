@@ -0,0 +1,58 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.vec;
+
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.IndexInput;
+import org.elasticsearch.logging.LogManager;
+import org.elasticsearch.logging.Logger;
+
+import java.util.Optional;
+
+/**
+ * Builds the {@link PanamaInt8VectorScorer}s if the {@code jdk.incubator.vector} module was added to the boot
+ * layer with {@code --add-modules jdk.incubator.vector}.
+ */
+final class VectorScorerFactoryImpl implements VectorScorerFactory {
+    private static final Logger logger = LogManager.getLogger(VectorScorerFactoryImpl.class);
+
+    static final VectorScorerFactory INSTANCE = lookup();
+
+    private VectorScorerFactoryImpl() {}
+
+    private static VectorScorerFactory lookup() {
+        Optional<Module> vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (vectorModule.isEmpty()) {
+            logger.debug("jdk.incubator.vector isn't available, using the scalar vector scorers");
+            return null;
+        }
+        VectorScorerFactoryImpl.class.getModule().addReads(vectorModule.get());
+        if (PanamaInt8VectorScorer.supported() == false) {
+            logger.debug("preferred vector size is too small for SIMD, using the scalar vector scorers");
+            return null;
+        }
+        logger.debug("using Panama vector scorers");
+        return new VectorScorerFactoryImpl();
+    }
+
+    @Override
+    public Int8VectorScorer getInt8ScalarQuantizedVectorScorer(
+        IndexInput input,
+        int dims,
+        VectorSimilarityFunction similarity,
+        float constMultiplier,
+        byte[] quantizedQuery,
+        float queryCorrection
+    ) {
+        if (quantizedQuery.length != dims) {
+            throw new IllegalArgumentException("query has [" + quantizedQuery.length + "] dimensions but vectors have [" + dims + "]");
+        }
+        return new PanamaInt8VectorScorer(input, dims, similarity, constMultiplier, quantizedQuery, queryCorrection);
+    }
+}
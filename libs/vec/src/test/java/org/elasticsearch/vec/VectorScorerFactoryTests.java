@@ -0,0 +1,101 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.vec;
+
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.VectorUtil;
+import org.elasticsearch.test.ESTestCase;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+public class VectorScorerFactoryTests extends ESTestCase {
+
+    public void testScoresMatchLucene() throws IOException {
+        assumeTrue("requires the Panama Vector API", VectorScorerFactory.instance().isPresent());
+        VectorScorerFactory factory = VectorScorerFactory.instance().get();
+        // cover dimensions that aren't multiples of the species length to exercise the scalar tail
+        int dims = randomIntBetween(1, 1030);
+        int count = randomIntBetween(1, 100);
+        byte[][] vectors = new byte[count][];
+        float[] corrections = new float[count];
+        try (Directory dir = randomBoolean() ? new MMapDirectory(createTempDir()) : new ByteBuffersDirectory()) {
+            try (IndexOutput out = dir.createOutput("vectors", IOContext.DEFAULT)) {
+                for (int i = 0; i < count; i++) {
+                    vectors[i] = randomQuantizedVector(dims);
+                    corrections[i] = randomFloat();
+                    out.writeBytes(vectors[i], dims);
+                    out.writeInt(Float.floatToIntBits(corrections[i]));
+                }
+            }
+            byte[] query = randomQuantizedVector(dims);
+            float queryCorrection = randomFloat();
+            float constMultiplier = randomFloat();
+            try (IndexInput in = dir.openInput("vectors", IOContext.DEFAULT)) {
+                for (VectorSimilarityFunction similarity : VectorSimilarityFunction.values()) {
+                    Int8VectorScorer scorer = factory.getInt8ScalarQuantizedVectorScorer(
+                        in.clone(),
+                        dims,
+                        similarity,
+                        constMultiplier,
+                        query,
+                        queryCorrection
+                    );
+                    // score out of order, like a graph search does
+                    for (int ord : shuffledList(IntStream.range(0, count).boxed().toList())) {
+                        float expected = expectedScore(
+                            similarity,
+                            constMultiplier,
+                            query,
+                            queryCorrection,
+                            vectors[ord],
+                            corrections[ord]
+                        );
+                        assertEquals(similarity + " ord " + ord, expected, scorer.score(ord), 1e-5f);
+                    }
+                }
+            }
+        }
+    }
+
+    private static byte[] randomQuantizedVector(int dims) {
+        byte[] vector = new byte[dims];
+        for (int i = 0; i < dims; i++) {
+            vector[i] = (byte) randomIntBetween(0, 127);
+        }
+        return vector;
+    }
+
+    /**
+     * The scores of Lucene's {@code ScalarQuantizedVectorSimilarity}.
+     */
+    private static float expectedScore(
+        VectorSimilarityFunction similarity,
+        float constMultiplier,
+        byte[] query,
+        float queryCorrection,
+        byte[] vector,
+        float vectorCorrection
+    ) {
+        if (similarity == VectorSimilarityFunction.EUCLIDEAN) {
+            return 1 / (1f + VectorUtil.squareDistance(query, vector) * constMultiplier);
+        }
+        float adjustedDistance = VectorUtil.dotProduct(query, vector) * constMultiplier + queryCorrection + vectorCorrection;
+        if (similarity == VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT) {
+            return VectorUtil.scaleMaxInnerProductScore(adjustedDistance);
+        }
+        return (1 + adjustedDistance) / 2;
+    }
+}
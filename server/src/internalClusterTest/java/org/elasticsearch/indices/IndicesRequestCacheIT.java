@@ -14,12 +14,15 @@ import org.elasticsearch.action.support.broadcast.BroadcastResponse;
 import org.elasticsearch.client.internal.Client;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.time.DateFormatter;
+import org.elasticsearch.index.IndexSettings;
+import org.elasticsearch.index.MergePolicyConfig;
 import org.elasticsearch.index.cache.request.RequestCacheStats;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.aggregations.bucket.global.GlobalAggregationBuilder;
 import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.elasticsearch.search.aggregations.bucket.histogram.Histogram;
 import org.elasticsearch.search.aggregations.bucket.histogram.Histogram.Bucket;
+import org.elasticsearch.search.aggregations.metrics.Max;
 import org.elasticsearch.test.ESIntegTestCase;
 import org.elasticsearch.test.hamcrest.ElasticsearchAssertions;
 
@@ -33,6 +36,7 @@ import java.util.List;
 import static org.elasticsearch.search.aggregations.AggregationBuilders.dateHistogram;
 import static org.elasticsearch.search.aggregations.AggregationBuilders.dateRange;
 import static org.elasticsearch.search.aggregations.AggregationBuilders.filter;
+import static org.elasticsearch.search.aggregations.AggregationBuilders.max;
 import static org.elasticsearch.test.hamcrest.ElasticsearchAssertions.assertAcked;
 import static org.elasticsearch.test.hamcrest.ElasticsearchAssertions.assertNoFailuresAndResponse;
 import static org.elasticsearch.test.hamcrest.ElasticsearchAssertions.assertResponse;
@@ -604,6 +608,80 @@ public class IndicesRequestCacheIT extends ESIntegTestCase {
         }
     }
 
+    public void testSegmentLevelCacheSurvivesRefresh() {
+        Client client = client();
+        assertAcked(
+            indicesAdmin().prepareCreate("index")
+                .setMapping("n", "type=long")
+                .setSettings(
+                    indexSettings(1, 0).put(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING.getKey(), true)
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), -1)
+                        .put(MergePolicyConfig.INDEX_MERGE_ENABLED, false)
+                )
+        );
+        client.prepareIndex("index").setSource("n", 1).get();
+        indicesAdmin().prepareRefresh("index").get();
+        ensureSearchable("index");
+        assertCacheState(client, "index", 0, 0);
+
+        assertNoFailuresAndResponse(client.prepareSearch("index").setSize(0).addAggregation(max("max").field("n")), response -> {
+            assertThat(response.getHits().getTotalHits().value, equalTo(1L));
+            Max max = response.getAggregations().get("max");
+            assertThat(max.value(), equalTo(1.0));
+        });
+        assertCacheState(client, "index", 0, 1);
+
+        // the refresh adds a segment, only that segment is searched
+        client.prepareIndex("index").setSource("n", 5).get();
+        indicesAdmin().prepareRefresh("index").get();
+        assertNoFailuresAndResponse(client.prepareSearch("index").setSize(0).addAggregation(max("max").field("n")), response -> {
+            assertThat(response.getHits().getTotalHits().value, equalTo(2L));
+            Max max = response.getAggregations().get("max");
+            assertThat(max.value(), equalTo(5.0));
+        });
+        assertCacheState(client, "index", 1, 2);
+
+        assertNoFailuresAndResponse(client.prepareSearch("index").setSize(0).addAggregation(max("max").field("n")), response -> {
+            assertThat(response.getHits().getTotalHits().value, equalTo(2L));
+            Max max = response.getAggregations().get("max");
+            assertThat(max.value(), equalTo(5.0));
+        });
+        assertCacheState(client, "index", 3, 2);
+    }
+
+    public void testNowRounding() throws Exception {
+        Client client = client();
+        assertAcked(
+            indicesAdmin().prepareCreate("index")
+                .setMapping("d", "type=date")
+                .setSettings(
+                    indexSettings(1, 0)
+                        // a granularity large enough for both searches to round to the same now
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING.getKey(), "3650d")
+                )
+        );
+        indexRandom(true, client.prepareIndex("index").setId("1").setSource("d", "2016-03-19"));
+        ensureSearchable("index");
+
+        for (int i = 0; i < 2; i++) {
+            assertNoFailuresAndResponse(
+                client.prepareSearch("index").setSize(0).setQuery(QueryBuilders.rangeQuery("d").gte("now-100y").lte("now")),
+                response -> assertThat(response.getHits().getTotalHits().value, equalTo(1L))
+            );
+            assertCacheState(client, "index", i, 1);
+        }
+
+        // a request that opts out of the request cache uses the exact now
+        assertNoFailuresAndResponse(
+            client.prepareSearch("index")
+                .setSize(0)
+                .setRequestCache(false)
+                .setQuery(QueryBuilders.rangeQuery("d").gte("now-100y").lte("now")),
+            response -> assertThat(response.getHits().getTotalHits().value, equalTo(1L))
+        );
+        assertCacheState(client, "index", 1, 1);
+    }
+
     private static void assertCacheState(Client client, String index, long expectedHits, long expectedMisses) {
         RequestCacheStats requestCacheStats = client.admin()
             .indices()
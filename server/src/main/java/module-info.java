@@ -30,8 +30,10 @@ module org.elasticsearch.server {
     requires org.elasticsearch.plugin.analysis;
     requires org.elasticsearch.grok;
     requires org.elasticsearch.tdigest;
+    requires org.elasticsearch.vec;
 
     requires com.sun.jna;
+    requires com.github.luben.zstd_jni;
     requires hppc;
     requires HdrHistogram;
     requires jopt.simple;
@@ -241,6 +243,8 @@ module org.elasticsearch.server {
     exports org.elasticsearch.index.codec;
     exports org.elasticsearch.index.codec.tsdb;
     exports org.elasticsearch.index.codec.bloomfilter;
+    exports org.elasticsearch.index.codec.zstd;
+    exports org.elasticsearch.index.codec.vectors;
     exports org.elasticsearch.index.engine;
     exports org.elasticsearch.index.fielddata;
     exports org.elasticsearch.index.fielddata.fieldcomparator;
@@ -424,10 +428,15 @@ module org.elasticsearch.server {
             org.elasticsearch.index.codec.bloomfilter.ES87BloomFilterPostingsFormat,
             org.elasticsearch.index.codec.postings.ES812PostingsFormat;
     provides org.apache.lucene.codecs.DocValuesFormat with ES87TSDBDocValuesFormat;
+    provides org.apache.lucene.codecs.Codec with org.elasticsearch.index.codec.zstd.ES813ZstdCodec;
     provides org.apache.lucene.codecs.KnnVectorsFormat
         with
             org.elasticsearch.index.codec.vectors.ES813FlatVectorFormat,
-            org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat;
+            org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat,
+            org.elasticsearch.index.codec.vectors.ES813Int8QuantizedFlatVectorFormat,
+            org.elasticsearch.index.codec.vectors.ES813Int4HnswVectorsFormat,
+            org.elasticsearch.index.codec.vectors.ES813BbqFlatVectorFormat,
+            org.elasticsearch.index.codec.vectors.ES813BbqHnswVectorsFormat;
 
     exports org.elasticsearch.cluster.routing.allocation.shards
         to
@@ -172,6 +172,11 @@ public class TransportVersions {
     public static final TransportVersion NLP_DOCUMENT_CHUNKING_ADDED = def(8_585_00_0);
     public static final TransportVersion SEARCH_TIMEOUT_EXCEPTION_ADDED = def(8_586_00_0);
     public static final TransportVersion ML_TEXT_EMBEDDING_INFERENCE_SERVICE_ADDED = def(8_587_00_0);
+    public static final TransportVersion ESQL_STATUS_INCLUDE_STOLEN_SLICES = def(8_588_00_0);
+    public static final TransportVersion ESQL_ASYNC_PROGRESS = def(8_589_00_0);
+    public static final TransportVersion TRANSLOG_GROUP_COMMIT_STATS = def(8_590_00_0);
+    public static final TransportVersion MERGE_STATS_VECTORS_TIME = def(8_591_00_0);
+    public static final TransportVersion SEARCH_QUERY_NODE_ACTION = def(8_592_00_0);
 
     /*
      * STOP! READ THIS FIRST! No, really,
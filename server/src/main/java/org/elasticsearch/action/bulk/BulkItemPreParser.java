@@ -0,0 +1,270 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.util.concurrent.AbstractRunnable;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.core.Releasable;
+import org.elasticsearch.index.mapper.DocumentMapper;
+import org.elasticsearch.index.mapper.MapperService;
+import org.elasticsearch.index.mapper.ParsedDocument;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parses the index requests of a {@link BulkShardRequest} on other threads of
+ * the write pool, ahead of the thread that executes the items. Parsing and
+ * mapping a document doesn't depend on the items before it so it can run in
+ * parallel, while the executing thread still assigns sequence numbers and
+ * writes to the engine one item after the other.
+ * <p>
+ * An item is parsed by whichever thread gets to it first. If the executing
+ * thread gets to an item before the helpers it parses the item itself, if a
+ * helper is parsing the item it waits for the helper to finish. Documents are
+ * only handed out if the mapping didn't change since they were parsed, the
+ * executing thread parses again otherwise. Helpers stop once the mapping
+ * changed, as everything they'd parse would be thrown away.
+ * <p>
+ * Helpers only parse so far ahead: they stop once the documents that they
+ * parsed and that the executing thread didn't take yet come from more than
+ * {@link #MAX_SOURCE_BYTES_AHEAD} bytes of source. They are started again as
+ * the executing thread takes documents. That bounds the memory of the parsed
+ * documents regardless of the size of the bulk, on top of the request itself
+ * that indexing pressure accounts for.
+ */
+final class BulkItemPreParser implements Releasable {
+
+    private static final Logger logger = LogManager.getLogger(BulkItemPreParser.class);
+
+    /**
+     * The most bytes of source that the helpers parse ahead of the executing thread.
+     */
+    static final long MAX_SOURCE_BYTES_AHEAD = ByteSizeUnit.MB.toBytes(4);
+
+    private static final int UNCLAIMED = 0;
+    private static final int PARSING = 1;
+    private static final int PARSED = 2;
+    private static final int TAKEN = 3;
+
+    private final BulkItemRequest[] items;
+    private final MapperService mapperService;
+    private final DocumentMapper documentMapper;
+    private final Executor executor;
+    private final int maxHelpers;
+    private final long maxSourceBytesAhead;
+    private final AtomicIntegerArray states;
+    private final AtomicReferenceArray<ParsedDocument> docs;
+    private final AtomicInteger nextItem = new AtomicInteger();
+    private final AtomicInteger runningHelpers = new AtomicInteger();
+    // source bytes of the items that helpers claimed and the executing thread didn't take yet
+    private final AtomicLong sourceBytesAhead = new AtomicLong();
+    private volatile boolean closed;
+
+    private BulkItemPreParser(
+        BulkItemRequest[] items,
+        MapperService mapperService,
+        DocumentMapper documentMapper,
+        Executor executor,
+        int maxHelpers,
+        long maxSourceBytesAhead
+    ) {
+        this.items = items;
+        this.mapperService = mapperService;
+        this.documentMapper = documentMapper;
+        this.executor = executor;
+        this.maxHelpers = maxHelpers;
+        this.maxSourceBytesAhead = maxSourceBytesAhead;
+        this.states = new AtomicIntegerArray(items.length);
+        this.docs = new AtomicReferenceArray<>(items.length);
+    }
+
+    /**
+     * Start parsing the index requests of {@code request} on up to {@code parallelism - 1}
+     * threads of {@code executor}.
+     *
+     * @return the pre-parser or {@code null} if parsing ahead isn't worth it
+     */
+    @Nullable
+    static BulkItemPreParser start(BulkShardRequest request, MapperService mapperService, int parallelism, Executor executor) {
+        return start(request, mapperService, parallelism, executor, MAX_SOURCE_BYTES_AHEAD);
+    }
+
+    @Nullable
+    static BulkItemPreParser start(
+        BulkShardRequest request,
+        MapperService mapperService,
+        int parallelism,
+        Executor executor,
+        long maxSourceBytesAhead
+    ) {
+        if (parallelism <= 1) {
+            return null;
+        }
+        final DocumentMapper documentMapper = mapperService.documentMapper();
+        if (documentMapper == null) {
+            // the first document creates the mapping, it has to be parsed before all others
+            return null;
+        }
+        int indexRequests = 0;
+        for (BulkItemRequest item : request.items()) {
+            if (isParseable(item)) {
+                indexRequests++;
+            }
+        }
+        if (indexRequests <= 1) {
+            return null;
+        }
+        final BulkItemPreParser preParser = new BulkItemPreParser(
+            request.items(),
+            mapperService,
+            documentMapper,
+            executor,
+            Math.min(parallelism - 1, indexRequests - 1),
+            maxSourceBytesAhead
+        );
+        preParser.maybeStartHelpers();
+        return preParser;
+    }
+
+    /**
+     * Start helpers until {@link #maxHelpers} are running, unless they'd stop right away.
+     */
+    private void maybeStartHelpers() {
+        while (canParseAhead()) {
+            final int running = runningHelpers.get();
+            if (running >= maxHelpers) {
+                return;
+            }
+            if (runningHelpers.compareAndSet(running, running + 1)) {
+                executor.execute(new AbstractRunnable() {
+                    @Override
+                    protected void doRun() {
+                        parseItems();
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        // rejected or failed, the executing thread parses whatever is left
+                        logger.debug("failed to parse bulk items ahead of execution", e);
+                    }
+
+                    @Override
+                    public void onAfter() {
+                        runningHelpers.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    private boolean canParseAhead() {
+        return closed == false
+            && nextItem.get() < items.length
+            && sourceBytesAhead.get() < maxSourceBytesAhead
+            && mapperService.documentMapper() == documentMapper;
+    }
+
+    private static boolean isParseable(BulkItemRequest item) {
+        if (item.request() instanceof IndexRequest == false) {
+            // deletes aren't parsed and updates have to read the current document first
+            return false;
+        }
+        final BulkItemResponse response = item.getPrimaryResponse();
+        return response == null || response.isFailed() == false || response.getFailure().isAborted() == false;
+    }
+
+    private static long sourceBytes(BulkItemRequest item) {
+        return ((IndexRequest) item.request()).source().length();
+    }
+
+    private void parseItems() {
+        while (canParseAhead()) {
+            final int i = nextItem.getAndIncrement();
+            if (i >= items.length) {
+                return;
+            }
+            if (isParseable(items[i]) == false || states.compareAndSet(i, UNCLAIMED, PARSING) == false) {
+                continue;
+            }
+            sourceBytesAhead.addAndGet(sourceBytes(items[i]));
+            ParsedDocument doc = null;
+            try {
+                doc = documentMapper.parse(TransportShardBulkAction.sourceToParse((IndexRequest) items[i].request()));
+            } catch (Exception e) {
+                // the executing thread parses the document again and reports the failure
+                logger.trace("failed to parse bulk item ahead of execution", e);
+            } finally {
+                docs.set(i, doc);
+                synchronized (this) {
+                    states.set(i, PARSED);
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Take the document parsed for the item at {@code index}, waiting for it if a helper
+     * is parsing it right now. Each document is handed out once, retries of the item parse
+     * it again.
+     *
+     * @return the parsed document or {@code null} if the caller has to parse the item itself
+     */
+    @Nullable
+    ParsedDocument take(int index) {
+        if (states.compareAndSet(index, UNCLAIMED, TAKEN)) {
+            return null;
+        }
+        synchronized (this) {
+            while (states.get(index) == PARSING) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        if (states.compareAndSet(index, PARSED, TAKEN) == false) {
+            // taken before
+            return null;
+        }
+        final ParsedDocument doc = docs.getAndSet(index, null);
+        sourceBytesAhead.addAndGet(-sourceBytes(items[index]));
+        maybeStartHelpers();
+        return mapperService.documentMapper() == documentMapper ? doc : null;
+    }
+
+    /**
+     * The bytes of source of the documents that are parsed or being parsed ahead of the executing thread.
+     */
+    long sourceBytesAhead() {
+        return sourceBytesAhead.get();
+    }
+
+    /**
+     * Stop the helpers once they finished the document they're parsing and drop the documents
+     * that the executing thread didn't take.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (int i = 0; i < items.length; i++) {
+            docs.set(i, null);
+        }
+    }
+}
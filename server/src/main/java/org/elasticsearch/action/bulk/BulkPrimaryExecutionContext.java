@@ -62,6 +62,7 @@ class BulkPrimaryExecutionContext {
     private BulkItemResponse executionResult;
     private int updateRetryCounter;
     private long noopMappingUpdateRetryForMappingVersion;
+    private boolean dynamicMappingUpdatesBatched;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
@@ -147,6 +148,23 @@ class BulkPrimaryExecutionContext {
         return locationToSync;
     }
 
+    /**
+     * returns {@code true} the first time it is called. The remaining items of a request are only scanned for dynamic
+     * mapping updates once, later mapping updates are submitted item by item.
+     */
+    boolean startBatchingDynamicMappingUpdates() {
+        if (dynamicMappingUpdatesBatched) {
+            return false;
+        }
+        dynamicMappingUpdatesBatched = true;
+        return true;
+    }
+
+    /** returns the position of the current item in {@link BulkShardRequest#items()} */
+    int getCurrentItemIndex() {
+        return currentIndex;
+    }
+
     private BulkItemRequest getCurrentItem() {
         return request.items()[currentIndex];
     }
@@ -37,6 +37,7 @@ import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.compress.CompressedXContent;
 import org.elasticsearch.common.inject.Inject;
 import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.settings.Setting;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.xcontent.XContentHelper;
 import org.elasticsearch.core.Nullable;
@@ -50,9 +51,12 @@ import org.elasticsearch.index.get.GetResult;
 import org.elasticsearch.index.mapper.DocumentMapper;
 import org.elasticsearch.index.mapper.MapperException;
 import org.elasticsearch.index.mapper.MapperService;
+import org.elasticsearch.index.mapper.Mapping;
+import org.elasticsearch.index.mapper.ParsedDocument;
 import org.elasticsearch.index.mapper.SourceToParse;
 import org.elasticsearch.index.seqno.SequenceNumbers;
 import org.elasticsearch.index.shard.IndexShard;
+import org.elasticsearch.index.shard.ShardId;
 import org.elasticsearch.index.translog.Translog;
 import org.elasticsearch.indices.ExecutorSelector;
 import org.elasticsearch.indices.IndicesService;
@@ -80,9 +84,23 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
     private static final Logger logger = LogManager.getLogger(TransportShardBulkAction.class);
 
+    /**
+     * The number of write threads that parse the documents of a shard level bulk request. With more than one
+     * thread the documents are parsed and mapped in parallel, ahead of the thread that writes them to the
+     * engine in order. The default of {@code 1} parses each document on the writing thread.
+     */
+    public static final Setting<Integer> PARSING_PARALLELISM_SETTING = Setting.intSetting(
+        "indices.bulk.parsing_parallelism",
+        1,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     private final UpdateHelper updateHelper;
     private final MappingUpdatedAction mappingUpdatedAction;
     private final Consumer<Runnable> postWriteAction;
+    private volatile int parsingParallelism;
 
     @Inject
     public TransportShardBulkAction(
@@ -117,6 +135,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         this.updateHelper = updateHelper;
         this.mappingUpdatedAction = mappingUpdatedAction;
         this.postWriteAction = WriteAckDelay.create(settings, threadPool);
+        clusterService.getClusterSettings().initializeAndWatch(PARSING_PARALLELISM_SETTING, v -> this.parsingParallelism = v);
     }
 
     private static final TransportRequestOptions TRANSPORT_REQUEST_OPTIONS = TransportRequestOptions.of(
@@ -160,7 +179,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             public void onTimeout(TimeValue timeout) {
                 mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
             }
-        }), listener, threadPool, executor(primary), postWriteRefresh, postWriteAction);
+        }), listener, threadPool, executor(primary), postWriteRefresh, postWriteAction, parsingParallelism);
     }
 
     @Override
@@ -211,6 +230,42 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         String executorName,
         @Nullable PostWriteRefresh postWriteRefresh,
         @Nullable Consumer<Runnable> postWriteAction
+    ) {
+        performOnPrimary(
+            request,
+            primary,
+            updateHelper,
+            nowInMillisSupplier,
+            mappingUpdater,
+            waitForMappingUpdate,
+            listener,
+            threadPool,
+            executorName,
+            postWriteRefresh,
+            postWriteAction,
+            1
+        );
+    }
+
+    /**
+     * Execute the items of {@code request} on the primary, one after the other.
+     *
+     * @param parsingParallelism the number of threads of the {@code executorName} pool that parse the documents
+     *                           of the request, see {@link #PARSING_PARALLELISM_SETTING}
+     */
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Consumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        ThreadPool threadPool,
+        String executorName,
+        @Nullable PostWriteRefresh postWriteRefresh,
+        @Nullable Consumer<Runnable> postWriteAction,
+        int parsingParallelism
     ) {
         new ActionRunnable<>(listener) {
 
@@ -218,10 +273,15 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
             private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
 
+            private BulkItemPreParser preParser;
+
             final long startBulkTime = System.nanoTime();
 
             @Override
             protected void doRun() throws Exception {
+                if (preParser == null && parsingParallelism > 1) {
+                    preParser = BulkItemPreParser.start(request, primary.mapperService(), parsingParallelism, executor);
+                }
                 while (context.hasMoreOperationsToExecute()) {
                     if (executeBulkItemRequest(
                         context,
@@ -229,7 +289,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                         nowInMillisSupplier,
                         mappingUpdater,
                         waitForMappingUpdate,
-                        ActionListener.wrap(v -> executor.execute(this), this::onRejection)
+                        ActionListener.wrap(v -> executor.execute(this), this::onRejection),
+                        preParser
                     ) == false) {
                         // We are waiting for a mapping update on another thread, that will invoke this action again once its done
                         // so we just break out here.
@@ -277,6 +338,9 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             }
 
             private void finishRequest() {
+                if (preParser != null) {
+                    preParser.close();
+                }
                 ActionListener.completeWith(
                     listener,
                     () -> new WritePrimaryResult<>(
@@ -305,6 +369,32 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         MappingUpdatePerformer mappingUpdater,
         Consumer<ActionListener<Void>> waitForMappingUpdate,
         ActionListener<Void> itemDoneListener
+    ) throws Exception {
+        return executeBulkItemRequest(
+            context,
+            updateHelper,
+            nowInMillisSupplier,
+            mappingUpdater,
+            waitForMappingUpdate,
+            itemDoneListener,
+            null
+        );
+    }
+
+    /**
+     * Executes bulk item requests and handles request execution exceptions, using the documents that
+     * {@code preParser} parsed ahead of time if there is one.
+     * @return {@code true} if request completed on this thread and the listener was invoked, {@code false} if the request triggered
+     *                      a mapping update that will finish and invoke the listener on a different thread
+     */
+    static boolean executeBulkItemRequest(
+        BulkPrimaryExecutionContext context,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Consumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<Void> itemDoneListener,
+        @Nullable BulkItemPreParser preParser
     ) throws Exception {
         final DocWriteRequest.OpType opType = context.getCurrent().opType();
 
@@ -351,23 +441,33 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            final SourceToParse sourceToParse = new SourceToParse(
-                request.id(),
-                request.source(),
-                request.getContentType(),
-                request.routing(),
-                request.getDynamicTemplates(),
-                request.pipelinesHaveRun() == false
-            );
-            result = primary.applyIndexOperationOnPrimary(
-                version,
-                request.versionType(),
-                sourceToParse,
-                request.ifSeqNo(),
-                request.ifPrimaryTerm(),
-                request.getAutoGeneratedTimestamp(),
-                request.isRetry()
-            );
+            final SourceToParse sourceToParse = sourceToParse(request);
+            // updates are translated into new index requests that weren't parsed ahead
+            final ParsedDocument parsedDoc = preParser == null || updateResult != null
+                ? null
+                : preParser.take(context.getCurrentItemIndex());
+            if (parsedDoc == null) {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse,
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry()
+                );
+            } else {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse,
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry(),
+                    parsedDoc
+                );
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
@@ -394,7 +494,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 return true;
             }
 
-            mappingUpdater.updateMappings(result.getRequiredMappingUpdate(), primary.shardId(), new ActionListener<>() {
+            final Mapping mappingUpdate = batchDynamicMappingUpdates(context, result.getRequiredMappingUpdate());
+            mappingUpdater.updateMappings(mappingUpdate, primary.shardId(), new ActionListener<>() {
                 @Override
                 public void onResponse(Void v) {
                     context.markAsRequiringMappingUpdate();
@@ -427,6 +528,68 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return true;
     }
 
+    /**
+     * Adds the dynamic mapping updates that the remaining index requests of the bulk require to {@code update} so that
+     * they all go to the master in one mapping update rather than one after the other. Items that fail to parse or
+     * whose updates conflict with earlier ones are left out, they fail or update the mapping on their own once they
+     * are executed. The items are scanned with the current mapping, so this only happens for the first mapping update
+     * of a request.
+     *
+     * @return the combined mapping update or {@code update} if the other items don't need one or the combined
+     *         update wouldn't apply
+     */
+    private static Mapping batchDynamicMappingUpdates(BulkPrimaryExecutionContext context, Mapping update) {
+        final MapperService mapperService = context.getPrimary().mapperService();
+        final DocumentMapper documentMapper = mapperService.documentMapper();
+        if (documentMapper == null || context.startBatchingDynamicMappingUpdates() == false) {
+            return update;
+        }
+        final ShardId shardId = context.getPrimary().shardId();
+        final BulkItemRequest[] items = context.getBulkShardRequest().items();
+        Mapping batched = update;
+        for (int i = context.getCurrentItemIndex() + 1; i < items.length; i++) {
+            final BulkItemResponse response = items[i].getPrimaryResponse();
+            if (items[i].request() instanceof IndexRequest == false || (response != null && response.isFailed())) {
+                continue;
+            }
+            try {
+                final Mapping itemUpdate = documentMapper.parse(sourceToParse((IndexRequest) items[i].request())).dynamicMappingsUpdate();
+                if (itemUpdate != null) {
+                    batched = batched.mergeDynamicUpdate(itemUpdate);
+                }
+            } catch (Exception e) {
+                final int item = i;
+                logger.trace(() -> format("%s failed to collect the mapping update of bulk item [%s]", shardId, item), e);
+            }
+        }
+        if (batched == update) {
+            return update;
+        }
+        try {
+            // the combined update may exceed limits that the single update doesn't, like the total number of fields
+            mapperService.merge(
+                MapperService.SINGLE_MAPPING_NAME,
+                new CompressedXContent(batched),
+                MapperService.MergeReason.MAPPING_AUTO_UPDATE_PREFLIGHT
+            );
+            return batched;
+        } catch (Exception e) {
+            logger.debug(() -> format("%s combined mapping update of bulk request rejected by primary", shardId), e);
+            return update;
+        }
+    }
+
+    static SourceToParse sourceToParse(IndexRequest request) {
+        return new SourceToParse(
+            request.id(),
+            request.source(),
+            request.getContentType(),
+            request.routing(),
+            request.getDynamicTemplates(),
+            request.pipelinesHaveRun() == false
+        );
+    }
+
     private static Engine.Result exceptionToResult(Exception e, IndexShard primary, boolean isDelete, long version, String id) {
         assert id != null;
         return isDelete ? primary.getFailedDeleteResult(e, version, id) : primary.getFailedIndexResult(e, version, id);
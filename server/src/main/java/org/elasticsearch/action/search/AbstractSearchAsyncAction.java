@@ -240,16 +240,34 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                     );
                 }
             }
+            // batched requests are throttled on the data nodes
+            final boolean throttle = batchesShardRequestsByNode() == false;
             for (int i = 0; i < shardsIts.size(); i++) {
                 final SearchShardIterator shardRoutings = shardsIts.get(i);
                 assert shardRoutings.skip() == false;
                 assert shardIndexMap.containsKey(shardRoutings);
                 int shardIndex = shardIndexMap.get(shardRoutings);
-                performPhaseOnShard(shardIndex, shardRoutings, shardRoutings.nextOrNull());
+                performPhaseOnShard(shardIndex, shardRoutings, shardRoutings.nextOrNull(), throttle);
             }
+            onAllShardsStarted();
         }
     }
 
+    /**
+     * Whether {@link #executePhaseOnShard} buffers the requests of the first copy of every shard until {@link #onAllShardsStarted}
+     * to send them as a single request per node. These requests don't count towards the maximum number of concurrent shard requests
+     * per node, the data nodes apply it to the shards of the node-level requests instead. Retries on other copies still count.
+     */
+    protected boolean batchesShardRequestsByNode() {
+        return false;
+    }
+
+    /**
+     * Called once the phase was started on the first copy of every shard, so that implementations that buffer shard requests in
+     * {@link #executePhaseOnShard} can send them.
+     */
+    protected void onAllShardsStarted() {}
+
     void skipShard(SearchShardIterator iterator) {
         successfulOps.incrementAndGet();
         skippedOps.incrementAndGet();
@@ -299,6 +317,15 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     }
 
     protected void performPhaseOnShard(final int shardIndex, final SearchShardIterator shardIt, final SearchShardTarget shard) {
+        performPhaseOnShard(shardIndex, shardIt, shard, true);
+    }
+
+    private void performPhaseOnShard(
+        final int shardIndex,
+        final SearchShardIterator shardIt,
+        final SearchShardTarget shard,
+        final boolean throttle
+    ) {
         /*
          * We capture the thread that this phase is starting on. When we are called back after executing the phase, we are either on the
          * same thread (because we never went async, or the same thread was selected from the thread pool) or a different thread. If we
@@ -311,7 +338,8 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
             SearchShardTarget unassignedShard = new SearchShardTarget(null, shardIt.shardId(), shardIt.getClusterAlias());
             onShardFailure(shardIndex, unassignedShard, shardIt, new NoShardAvailableActionException(shardIt.shardId()));
         } else {
-            final PendingExecutions pendingExecutions = throttleConcurrentRequests
+            final boolean throttled = throttle && throttleConcurrentRequests;
+            final PendingExecutions pendingExecutions = throttled
                 ? pendingExecutionsPerNode.computeIfAbsent(shard.getNodeId(), n -> new PendingExecutions(maxConcurrentRequestsPerNode))
                 : null;
             Runnable r = () -> {
@@ -350,7 +378,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                     }
                 }
             };
-            if (throttleConcurrentRequests) {
+            if (throttled) {
                 pendingExecutions.tryRun(r);
             } else {
                 r.run();
@@ -50,6 +50,9 @@ import static org.elasticsearch.action.search.SearchPhaseController.setShardInde
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * By default partial reduces run one at a time, each one reducing a batch of shard results together with the result of
+ * the previous partial reduce. When more than one partial reduce may run concurrently, batches of shard results are
+ * reduced independently and their results are in turn reduced together once there are enough of them, as a reduction tree.
  */
 public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhaseResult> {
     private static final Logger logger = LogManager.getLogger(QueryPhaseResultConsumer.class);
@@ -61,6 +64,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final RankCoordinatorContext rankCoordinatorContext;
 
     private final int topNSize;
+    private final int maxConcurrentPartialReduces;
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
@@ -81,12 +85,47 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         SearchProgressListener progressListener,
         int expectedResultSize,
         Consumer<Exception> onPartialMergeFailure
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            isCanceled,
+            progressListener,
+            expectedResultSize,
+            1,
+            onPartialMergeFailure
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, running up to {@code maxConcurrentPartialReduces} partial
+     * reduces concurrently on the provided executor. Partial reduces run one at a time if the
+     * progress listener needs to be notified of partial results, since reduction trees only
+     * produce the partial results of subsets of the shards.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        Supplier<Boolean> isCanceled,
+        SearchProgressListener progressListener,
+        int expectedResultSize,
+        int maxConcurrentPartialReduces,
+        Consumer<Exception> onPartialMergeFailure
     ) {
         super(expectedResultSize);
+        if (maxConcurrentPartialReduces < 1) {
+            throw new IllegalArgumentException("maxConcurrentPartialReduces must be >= 1 (got " + maxConcurrentPartialReduces + ")");
+        }
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.progressListener = progressListener;
         this.topNSize = getTopDocsSize(request);
+        this.maxConcurrentPartialReduces = progressListener == SearchProgressListener.NOOP ? maxConcurrentPartialReduces : 1;
         this.performFinalReduce = request.isFinalReduce();
         this.onPartialMergeFailure = onPartialMergeFailure;
 
@@ -132,7 +171,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         long breakerSize = pendingMerges.circuitBreakerBytes;
         if (hasAggs) {
             // Add an estimate of the final reduce size
-            breakerSize = pendingMerges.addEstimateAndMaybeBreak(PendingMerges.estimateRamBytesUsedForReduce(breakerSize));
+            breakerSize = pendingMerges.addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce(breakerSize));
         }
         SearchPhaseController.ReducedQueryPhase reducePhase = SearchPhaseController.reducedQueryPhase(
             results.asList(),
@@ -171,20 +210,23 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         QuerySearchResult[] toConsume,
         List<SearchShard> emptyResults,
         TopDocsStats topDocsStats,
-        MergeResult lastMerge,
+        List<MergeResult> lastMerges,
         int numReducePhases
     ) {
         // ensure consistent ordering
         Arrays.sort(toConsume, RESULT_COMPARATOR);
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+        // partial reduces of a reduction tree may run concurrently
+        synchronized (topDocsStats) {
+            for (QuerySearchResult result : toConsume) {
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            }
         }
 
         final TopDocs newTopDocs;
         if (hasTopDocs) {
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (lastMerge != null) {
+            for (MergeResult lastMerge : lastMerges) {
                 topDocsList.add(lastMerge.reducedTopDocs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -205,7 +247,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastMerge != null) {
+            for (MergeResult lastMerge : lastMerges) {
                 aggsList.add(lastMerge.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -216,7 +258,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             newAggs = null;
         }
         List<SearchShard> processedShards = new ArrayList<>(emptyResults);
-        if (lastMerge != null) {
+        for (MergeResult lastMerge : lastMerges) {
             processedShards.addAll(lastMerge.processedShards);
         }
         for (QuerySearchResult result : toConsume) {
@@ -236,6 +278,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         return pendingMerges.numReducePhases;
     }
 
+    /**
+     * Returns an estimation of the size that a reduce of the provided size
+     * would take on memory.
+     * This size is estimated as roughly 1.5 times the size of the serialized
+     * aggregations that need to be reduced. This estimation can be completely
+     * off for some aggregations but it is corrected with the real size after
+     * the reduce completes.
+     */
+    public static long estimateRamBytesUsedForReduce(long size) {
+        return Math.round(1.5d * size - size);
+    }
+
     private class PendingMerges implements Releasable {
         private final int batchReduceSize;
         private final List<QuerySearchResult> buffer = new ArrayList<>();
@@ -247,11 +301,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<MergeTask> queue = new ArrayDeque<>();
-        private final AtomicReference<MergeTask> runningTask = new AtomicReference<>();
+        private final List<MergeTask> runningTasks = new ArrayList<>();
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final TopDocsStats topDocsStats;
-        private volatile MergeResult mergeResult;
+        // the results of the partial reduces that have not been reduced further yet, at most one unless reducing as a tree
+        private final List<MergeResult> mergeResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
@@ -286,8 +341,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        boolean hasPendingMerges() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        synchronized boolean hasPendingMerges() {
+            return queue.isEmpty() == false || runningTasks.isEmpty() == false;
+        }
+
+        private boolean isTreeReduce() {
+            return maxConcurrentPartialReduces > 1;
         }
 
         void sortBuffer() {
@@ -317,18 +376,6 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return hasAggs ? result.aggregations().getSerializedSize() : 0;
         }
 
-        /**
-         * Returns an estimation of the size that a reduce of the provided size
-         * would take on memory.
-         * This size is estimated as roughly 1.5 times the size of the serialized
-         * aggregations that need to be reduced. This estimation can be completely
-         * off for some aggregations but it is corrected with the real size after
-         * the reduce completes.
-         */
-        static long estimateRamBytesUsedForReduce(long size) {
-            return Math.round(1.5d * size - size);
-        }
-
         public void consume(QuerySearchResult result, Runnable next) {
             boolean executeNextImmediately = true;
             synchronized (this) {
@@ -352,13 +399,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         }
                         aggsCurrentBufferSize += aggsSize;
                     }
-                    // add one if a partial merge is pending
-                    int size = buffer.size() + (hasPartialReduce ? 1 : 0);
+                    // add one if a partial merge is pending, unless it is reduced independently as part of a tree
+                    int size = buffer.size() + (hasPartialReduce && isTreeReduce() == false ? 1 : 0);
                     if (size >= batchReduceSize) {
                         hasPartialReduce = true;
                         executeNextImmediately = false;
                         QuerySearchResult[] clone = buffer.toArray(QuerySearchResult[]::new);
-                        MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), next);
+                        MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), List.of(), next);
                         aggsCurrentBufferSize = 0;
                         buffer.clear();
                         emptyResults.clear();
@@ -392,15 +439,15 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             failure.compareAndSet(null, exc);
             final List<Releasable> toCancels = new ArrayList<>();
             toCancels.add(() -> onPartialMergeFailure.accept(exc));
-            final MergeTask task = runningTask.getAndSet(null);
-            if (task != null) {
+            for (MergeTask task : runningTasks) {
                 toCancels.add(task::cancel);
             }
+            runningTasks.clear();
             MergeTask mergeTask;
             while ((mergeTask = queue.pollFirst()) != null) {
                 toCancels.add(mergeTask::cancel);
             }
-            mergeResult = null;
+            mergeResults.clear();
             Releasables.close(toCancels);
         }
 
@@ -409,39 +456,64 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 if (hasFailure()) {
                     return;
                 }
-                runningTask.compareAndSet(task, null);
-                mergeResult = newResult;
+                runningTasks.remove(task);
+                mergeResults.add(newResult);
                 if (hasAggs) {
                     // Update the circuit breaker to remove the size of the source aggregations
                     // and replace the estimation with the serialized size of the newly reduced result.
-                    long newSize = mergeResult.estimatedSize - estimatedSize;
+                    long newSize = newResult.estimatedSize - estimatedSize;
                     addWithoutBreaking(newSize);
                     logger.trace(
                         "aggs partial reduction [{}->{}] max [{}]",
                         estimatedSize,
-                        mergeResult.estimatedSize,
+                        newResult.estimatedSize,
                         maxAggsCurrentBufferSize
                     );
                 }
-                task.consumeListener();
+                if (isTreeReduce() && mergeResults.size() >= batchReduceSize) {
+                    // reduce the results of the previous partial reduces one level up the tree. This merge holds on to
+                    // the listener of the task, so that all shard results are only consumed once every merge completed.
+                    List<MergeResult> inputs = new ArrayList<>(mergeResults);
+                    mergeResults.clear();
+                    queue.add(new MergeTask(new QuerySearchResult[0], 0, List.of(), inputs, task.takeListener()));
+                } else {
+                    task.consumeListener();
+                }
             }
         }
 
         private void tryExecuteNext() {
-            final MergeTask task;
-            synchronized (this) {
-                if (queue.isEmpty() || hasFailure() || runningTask.get() != null) {
-                    return;
+            while (true) {
+                final MergeTask task;
+                final List<MergeResult> lastMerges;
+                final int reducePhase;
+                synchronized (this) {
+                    if (queue.isEmpty() || hasFailure() || runningTasks.size() >= maxConcurrentPartialReduces) {
+                        return;
+                    }
+                    task = queue.poll();
+                    runningTasks.add(task);
+                    if (isTreeReduce()) {
+                        lastMerges = task.mergeInputs;
+                    } else {
+                        // partial reduces run one at a time, each one on top of the result of the previous one
+                        lastMerges = new ArrayList<>(mergeResults);
+                        mergeResults.clear();
+                    }
+                    reducePhase = ++numReducePhases;
                 }
-                task = queue.poll();
-                runningTask.compareAndSet(null, task);
+                executeMerge(task, lastMerges, reducePhase);
             }
+        }
 
+        private void executeMerge(MergeTask task, List<MergeResult> lastMerges, int reducePhase) {
             executor.execute(new AbstractRunnable() {
                 @Override
                 protected void doRun() {
-                    final MergeResult thisMergeResult = mergeResult;
-                    long estimatedTotalSize = (thisMergeResult != null ? thisMergeResult.estimatedSize : 0) + task.aggsBufferSize;
+                    long estimatedTotalSize = task.aggsBufferSize;
+                    for (MergeResult lastMerge : lastMerges) {
+                        estimatedTotalSize += lastMerge.estimatedSize;
+                    }
                     final MergeResult newMerge;
                     final QuerySearchResult[] toConsume = task.consumeBuffer();
                     if (toConsume == null) {
@@ -451,8 +523,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         long estimatedMergeSize = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimatedMergeSize);
                         estimatedTotalSize += estimatedMergeSize;
-                        ++numReducePhases;
-                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, thisMergeResult, numReducePhases);
+                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, lastMerges, reducePhase);
                     } catch (Exception t) {
                         for (QuerySearchResult result : toConsume) {
                             result.releaseAggs();
@@ -483,7 +554,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (mergeResult != null) {
+            for (MergeResult mergeResult : mergeResults) {
                 topDocsList.add(mergeResult.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
@@ -499,7 +570,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (mergeResult != null) {
+            for (MergeResult mergeResult : mergeResults) {
                 aggsList.add(mergeResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
@@ -518,17 +589,32 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
     private static class MergeTask {
         private final List<SearchShard> emptyResults;
+        // the results of previous partial reduces to reduce with the buffer when reducing as a tree
+        private final List<MergeResult> mergeInputs;
         private QuerySearchResult[] buffer;
         private final long aggsBufferSize;
         private Runnable next;
 
-        private MergeTask(QuerySearchResult[] buffer, long aggsBufferSize, List<SearchShard> emptyResults, Runnable next) {
+        private MergeTask(
+            QuerySearchResult[] buffer,
+            long aggsBufferSize,
+            List<SearchShard> emptyResults,
+            List<MergeResult> mergeInputs,
+            Runnable next
+        ) {
             this.buffer = buffer;
             this.aggsBufferSize = aggsBufferSize;
             this.emptyResults = emptyResults;
+            this.mergeInputs = mergeInputs;
             this.next = next;
         }
 
+        public synchronized Runnable takeListener() {
+            Runnable toRet = next;
+            next = null;
+            return toRet;
+        }
+
         public synchronized QuerySearchResult[] consumeBuffer() {
             QuerySearchResult[] toRet = buffer;
             buffer = null;
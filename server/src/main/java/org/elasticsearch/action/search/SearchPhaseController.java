@@ -795,6 +795,23 @@ public final class SearchPhaseController {
         SearchRequest request,
         int numShards,
         Consumer<Exception> onPartialMergeFailure
+    ) {
+        return newSearchPhaseResults(executor, circuitBreaker, isCanceled, listener, request, numShards, 1, onPartialMergeFailure);
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally,
+     * running up to {@code maxConcurrentPartialReduces} partial reduces concurrently.
+     */
+    SearchPhaseResults<SearchPhaseResult> newSearchPhaseResults(
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        Supplier<Boolean> isCanceled,
+        SearchProgressListener listener,
+        SearchRequest request,
+        int numShards,
+        int maxConcurrentPartialReduces,
+        Consumer<Exception> onPartialMergeFailure
     ) {
         final int size = request.source() == null || request.source().size() == -1 ? SearchService.DEFAULT_SIZE : request.source().size();
         // Use CountOnlyQueryPhaseResultConsumer for requests without aggs, suggest, etc. things only wanting a total count and
@@ -817,6 +834,7 @@ public final class SearchPhaseController {
             isCanceled,
             listener,
             numShards,
+            maxConcurrentPartialReduces,
             onPartialMergeFailure
         );
     }
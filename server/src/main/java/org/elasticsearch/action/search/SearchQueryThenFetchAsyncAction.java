@@ -10,6 +10,7 @@ package org.elasticsearch.action.search;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopFieldDocs;
+import org.elasticsearch.TransportVersions;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.cluster.ClusterState;
 import org.elasticsearch.cluster.routing.GroupShardsIterator;
@@ -22,6 +23,9 @@ import org.elasticsearch.search.internal.ShardSearchRequest;
 import org.elasticsearch.search.query.QuerySearchResult;
 import org.elasticsearch.transport.Transport;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
@@ -37,6 +41,12 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
     private final int trackTotalHitsUpTo;
     private volatile BottomSortValuesCollector bottomSortCollector;
 
+    private final boolean batchQueryPhaseByNode;
+    // the shard requests of the initial round, per node, until they are sent as node-level requests or null if they are not batched
+    private Map<String, List<PendingShardRequest>> pendingNodeRequests;
+
+    private record PendingShardRequest(ShardSearchRequest request, SearchActionListener<SearchPhaseResult> listener) {}
+
     SearchQueryThenFetchAsyncAction(
         Logger logger,
         NamedWriteableRegistry namedWriteableRegistry,
@@ -53,6 +63,44 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         ClusterState clusterState,
         SearchTask task,
         SearchResponse.Clusters clusters
+    ) {
+        this(
+            logger,
+            namedWriteableRegistry,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            executor,
+            resultConsumer,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            clusters,
+            false
+        );
+    }
+
+    SearchQueryThenFetchAsyncAction(
+        Logger logger,
+        NamedWriteableRegistry namedWriteableRegistry,
+        SearchTransportService searchTransportService,
+        BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        Map<String, AliasFilter> aliasFilter,
+        Map<String, Float> concreteIndexBoosts,
+        Executor executor,
+        SearchPhaseResults<SearchPhaseResult> resultConsumer,
+        SearchRequest request,
+        ActionListener<SearchResponse> listener,
+        GroupShardsIterator<SearchShardIterator> shardsIts,
+        TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        SearchResponse.Clusters clusters,
+        boolean batchQueryPhaseByNode
     ) {
         super(
             "query",
@@ -73,6 +121,10 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
             request.getMaxConcurrentShardRequests(),
             clusters
         );
+        this.batchQueryPhaseByNode = canBatchQueryPhaseByNode(batchQueryPhaseByNode, request, shardsIts, clusterState);
+        if (this.batchQueryPhaseByNode) {
+            this.pendingNodeRequests = new HashMap<>();
+        }
         this.topDocsSize = getTopDocsSize(request);
         this.trackTotalHitsUpTo = request.resolveTrackTotalHitsUpTo();
         this.progressListener = task.getProgressListener();
@@ -83,15 +135,93 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         }
     }
 
+    /**
+     * Whether the query phase can be sent as a single request per node that partially reduces the aggregations of its shards. This
+     * only pays off for requests with aggregations, and requires all the shards to belong to the local cluster and all the nodes to
+     * support node-level query requests.
+     */
+    static boolean canBatchQueryPhaseByNode(
+        boolean batchQueryPhaseByNode,
+        SearchRequest request,
+        GroupShardsIterator<SearchShardIterator> shardsIts,
+        ClusterState clusterState
+    ) {
+        if (batchQueryPhaseByNode == false
+            || shardsIts.size() <= 1
+            || request.scroll() != null
+            || request.source() == null
+            || request.source().aggregations() == null
+            || request.source().rankBuilder() != null
+            || clusterState.getMinTransportVersion().before(TransportVersions.SEARCH_QUERY_NODE_ACTION)) {
+            return false;
+        }
+        for (SearchShardIterator shardIt : shardsIts) {
+            if (shardIt.getClusterAlias() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void executePhaseOnShard(
         final SearchShardIterator shardIt,
         final SearchShardTarget shard,
         final SearchActionListener<SearchPhaseResult> listener
     ) {
         ShardSearchRequest request = rewriteShardSearchRequest(super.buildShardSearchRequest(shardIt, listener.requestIndex));
+        synchronized (this) {
+            if (pendingNodeRequests != null) {
+                pendingNodeRequests.computeIfAbsent(shard.getNodeId(), n -> new ArrayList<>())
+                    .add(new PendingShardRequest(request, listener));
+                return;
+            }
+        }
         getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
     }
 
+    @Override
+    protected boolean batchesShardRequestsByNode() {
+        return batchQueryPhaseByNode;
+    }
+
+    @Override
+    protected void onAllShardsStarted() {
+        final Map<String, List<PendingShardRequest>> nodeRequests;
+        synchronized (this) {
+            nodeRequests = pendingNodeRequests;
+            // retries on other shard copies are sent as shard-level requests
+            pendingNodeRequests = null;
+        }
+        if (nodeRequests == null) {
+            return;
+        }
+        for (Map.Entry<String, List<PendingShardRequest>> entry : nodeRequests.entrySet()) {
+            final List<PendingShardRequest> pending = entry.getValue();
+            final Transport.Connection connection;
+            try {
+                connection = getConnection(null, entry.getKey());
+            } catch (Exception e) {
+                for (PendingShardRequest shardRequest : pending) {
+                    fork(() -> shardRequest.listener().onFailure(e));
+                }
+                continue;
+            }
+            if (pending.size() == 1) {
+                getSearchTransport().sendExecuteQuery(connection, pending.get(0).request(), getTask(), pending.get(0).listener());
+            } else {
+                getSearchTransport().sendExecuteQueryNode(
+                    connection,
+                    new NodeQueryRequest(
+                        pending.stream().map(PendingShardRequest::request).toList(),
+                        getRequest().getMaxConcurrentShardRequests()
+                    ),
+                    getTask(),
+                    pending.stream().<SearchActionListener<? super SearchPhaseResult>>map(PendingShardRequest::listener).toList()
+                );
+            }
+        }
+    }
+
     @Override
     protected void onShardGroupFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
         progressListener.notifyQueryFailure(shardIndex, shardTarget, exc);
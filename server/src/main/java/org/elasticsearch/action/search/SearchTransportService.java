@@ -53,7 +53,9 @@ import org.elasticsearch.transport.TransportResponseHandler;
 import org.elasticsearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -69,6 +71,7 @@ import static org.elasticsearch.action.search.SearchTransportAPMMetrics.QUERY_AC
 import static org.elasticsearch.action.search.SearchTransportAPMMetrics.QUERY_CAN_MATCH_NODE_METRIC;
 import static org.elasticsearch.action.search.SearchTransportAPMMetrics.QUERY_FETCH_SCROLL_ACTION_METRIC;
 import static org.elasticsearch.action.search.SearchTransportAPMMetrics.QUERY_ID_ACTION_METRIC;
+import static org.elasticsearch.action.search.SearchTransportAPMMetrics.QUERY_NODE_ACTION_METRIC;
 import static org.elasticsearch.action.search.SearchTransportAPMMetrics.QUERY_SCROLL_ACTION_METRIC;
 
 /**
@@ -87,6 +90,12 @@ public class SearchTransportService {
     public static final String DFS_ACTION_NAME = "indices:data/read/search[phase/dfs]";
     public static final String QUERY_ACTION_NAME = "indices:data/read/search[phase/query]";
 
+    /**
+     * Part of QUERY_THEN_FETCH, which executes the query phase of all the shards of a node and partially reduces their aggregations
+     * on the node.
+     */
+    public static final String QUERY_NODE_ACTION_NAME = "indices:data/read/search[phase/query][n]";
+
     /**
      * Part of DFS_QUERY_THEN_FETCH, which fetches distributed term frequencies and executes KNN.
      */
@@ -220,6 +229,50 @@ public class SearchTransportService {
         );
     }
 
+    /**
+     * Sends the query phase of several shards of the same node as a single node-level request. Each listener is notified with the
+     * result or the failure of the shard request at the same position, or with the failure of the node-level request.
+     */
+    public void sendExecuteQueryNode(
+        Transport.Connection connection,
+        final NodeQueryRequest request,
+        SearchTask task,
+        final List<SearchActionListener<? super SearchPhaseResult>> listeners
+    ) {
+        assert request.getShardLevelRequests().size() == listeners.size();
+        final List<ActionListener<? super SearchPhaseResult>> handlers = new ArrayList<>(listeners.size());
+        for (SearchActionListener<? super SearchPhaseResult> listener : listeners) {
+            handlers.add(responseWrapper.apply(connection, listener));
+        }
+        transportService.sendChildRequest(
+            connection,
+            QUERY_NODE_ACTION_NAME,
+            request,
+            task,
+            new ConnectionCountingHandler<>(new ActionListener<NodeQueryResponse>() {
+                @Override
+                public void onResponse(NodeQueryResponse response) {
+                    final List<NodeQueryResponse.ResponseOrFailure> responses = response.getResponses();
+                    for (int i = 0; i < responses.size(); i++) {
+                        final NodeQueryResponse.ResponseOrFailure responseOrFailure = responses.get(i);
+                        if (responseOrFailure.getResponse() != null) {
+                            handlers.get(i).onResponse(responseOrFailure.getResponse());
+                        } else {
+                            handlers.get(i).onFailure(responseOrFailure.getException());
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    for (ActionListener<? super SearchPhaseResult> handler : handlers) {
+                        handler.onFailure(e);
+                    }
+                }
+            }, NodeQueryResponse::new, connection)
+        );
+    }
+
     public void sendExecuteQuery(
         Transport.Connection connection,
         final QuerySearchRequest request,
@@ -571,6 +624,22 @@ public class SearchTransportService {
             )
         );
         TransportActionProxy.registerProxyAction(transportService, QUERY_CAN_MATCH_NODE_NAME, true, CanMatchNodeResponse::new);
+
+        transportService.registerRequestHandler(
+            QUERY_NODE_ACTION_NAME,
+            EsExecutors.DIRECT_EXECUTOR_SERVICE,
+            NodeQueryRequest::new,
+            instrumentedHandler(
+                QUERY_NODE_ACTION_METRIC,
+                transportService,
+                searchTransportMetrics,
+                (request, channel, task) -> searchService.executeQueryPhase(
+                    request,
+                    (SearchShardTask) task,
+                    new ChannelActionListener<>(channel)
+                )
+            )
+        );
     }
 
     private static <Request extends TransportRequest> TransportRequestHandler<Request> instrumentedHandler(
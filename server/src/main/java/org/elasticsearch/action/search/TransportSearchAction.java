@@ -129,6 +129,30 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Property.NodeScope
     );
 
+    /**
+     * The maximum number of partial reduces of the shard results of a single search request that run concurrently on the
+     * coordinating node. Partial reduces run one after the other by default, when more than one may run concurrently they
+     * run on the {@link ThreadPool.Names#SEARCH_COORDINATION} thread pool and reduce the shard results as a tree.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_PARTIAL_REDUCES_SETTING = Setting.intSetting(
+        "action.search.max_concurrent_partial_reduces",
+        1,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Whether the query phase of query then fetch requests with aggregations is sent as a single request per data node, which
+     * executes the query phase of its shards and partially reduces their aggregations before responding.
+     */
+    public static final Setting<Boolean> BATCH_QUERY_PHASE_BY_NODE_SETTING = Setting.boolSetting(
+        "action.search.batch_query_phase_by_node",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final Setting<Integer> DEFAULT_PRE_FILTER_SHARD_SIZE = Setting.intSetting(
         "action.search.pre_filter_shard_size.default",
         SearchRequest.DEFAULT_PRE_FILTER_SHARD_SIZE,
@@ -1321,13 +1345,15 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                     && task.getProgressListener() == SearchProgressListener.NOOP) {
                     task.setProgressListener(new CCSSingleCoordinatorSearchProgressListener());
                 }
+                final int maxConcurrentPartialReduces = clusterService.getClusterSettings().get(MAX_CONCURRENT_PARTIAL_REDUCES_SETTING);
                 final SearchPhaseResults<SearchPhaseResult> queryResultConsumer = searchPhaseController.newSearchPhaseResults(
-                    executor,
+                    maxConcurrentPartialReduces > 1 ? threadPool.executor(ThreadPool.Names.SEARCH_COORDINATION) : executor,
                     circuitBreaker,
                     task::isCancelled,
                     task.getProgressListener(),
                     searchRequest,
                     shardIterators.size(),
+                    maxConcurrentPartialReduces,
                     exc -> searchTransportService.cancelSearchTask(task, "failed to merge result [" + exc.getMessage() + "]")
                 );
                 if (searchRequest.searchType() == DFS_QUERY_THEN_FETCH) {
@@ -1365,7 +1391,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         timeProvider,
                         clusterState,
                         task,
-                        clusters
+                        clusters,
+                        clusterService.getClusterSettings().get(BATCH_QUERY_PHASE_BY_NODE_SETTING)
                     );
                 }
             }
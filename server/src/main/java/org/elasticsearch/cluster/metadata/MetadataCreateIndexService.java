@@ -467,6 +467,8 @@ public class MetadataCreateIndexService {
         final BiConsumer<Metadata.Builder, IndexMetadata> metadataTransformer,
         final ActionListener<Void> rerouteListener
     ) throws Exception {
+        indicesService.validateIndexCodec(currentState, temporaryIndexMeta.getSettings());
+        indicesService.validateIndexMode(currentState, temporaryIndexMeta.getSettings());
         // create the index here (on the master) to validate it can be created, as well as adding the mapping
         return indicesService.<ClusterState, Exception>withTempIndexService(temporaryIndexMeta, indexService -> {
             try {
@@ -71,6 +71,10 @@ public class ScriptScoreQuery extends Query {
         return subQuery;
     }
 
+    public Float getMinScore() {
+        return minScore;
+    }
+
     @Override
     public Query rewrite(IndexSearcher searcher) throws IOException {
         Query newQ = subQuery.rewrite(searcher);
@@ -147,6 +147,21 @@ public final class BytesRefHash extends AbstractHash implements Accountable {
         return find(key, key.hashCode());
     }
 
+    /**
+     * Get the id associated with <code>key</code>, reading the keys in the hash into
+     * <code>scratch</code>. Unlike {@link #find(BytesRef)} this doesn't touch any state
+     * of the hash so many threads may call it at once as long as none of them adds keys.
+     */
+    public long find(BytesRef key, BytesRef scratch) {
+        final long slot = slot(rehash(key.hashCode()), mask);
+        for (long index = slot;; index = nextSlot(index, mask)) {
+            final long id = id(index);
+            if (id == -1L || key.bytesEquals(get(id, scratch))) {
+                return id;
+            }
+        }
+    }
+
     private long set(BytesRef key, int code, long id) {
         assert rehash(key.hashCode()) == code;
         assert size < maxSize;
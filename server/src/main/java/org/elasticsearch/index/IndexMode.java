@@ -15,11 +15,13 @@ import org.elasticsearch.common.compress.CompressedXContent;
 import org.elasticsearch.common.settings.Setting;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.core.Nullable;
+import org.elasticsearch.features.NodeFeature;
 import org.elasticsearch.index.mapper.DataStreamTimestampFieldMapper;
 import org.elasticsearch.index.mapper.DateFieldMapper;
 import org.elasticsearch.index.mapper.DocumentDimensions;
 import org.elasticsearch.index.mapper.FieldMapper;
 import org.elasticsearch.index.mapper.IdFieldMapper;
+import org.elasticsearch.index.mapper.KeywordFieldMapper;
 import org.elasticsearch.index.mapper.MapperService;
 import org.elasticsearch.index.mapper.MappingLookup;
 import org.elasticsearch.index.mapper.MetadataFieldMapper;
@@ -57,12 +59,6 @@ public enum IndexMode {
             settingRequiresTimeSeries(settings, IndexSettings.TIME_SERIES_END_TIME);
         }
 
-        private static void settingRequiresTimeSeries(Map<Setting<?>, Object> settings, Setting<?> setting) {
-            if (false == Objects.equals(setting.getDefault(Settings.EMPTY), settings.get(setting))) {
-                throw new IllegalArgumentException("[" + setting.getKey() + "] requires " + tsdbMode());
-            }
-        }
-
         @Override
         public void validateMapping(MappingLookup lookup) {};
 
@@ -217,12 +213,89 @@ public enum IndexMode {
         public boolean isSyntheticSourceEnabled() {
             return true;
         }
+    },
+    /**
+     * Plain log data. Doesn't need the dimensions or {@code _tsid} of
+     * {@link #TIME_SERIES} but gets the same storage optimizations: indices
+     * are sorted on {@code host.name} and {@code @timestamp} by default and
+     * use the TSDB doc values codec.
+     */
+    LOGS("logs") {
+        @Override
+        void validateWithOtherSettings(Map<Setting<?>, Object> settings) {
+            settingRequiresTimeSeries(settings, IndexMetadata.INDEX_ROUTING_PATH);
+            settingRequiresTimeSeries(settings, IndexSettings.TIME_SERIES_START_TIME);
+            settingRequiresTimeSeries(settings, IndexSettings.TIME_SERIES_END_TIME);
+        }
+
+        @Override
+        public void validateMapping(MappingLookup lookup) {}
+
+        @Override
+        public void validateAlias(@Nullable String indexRouting, @Nullable String searchRouting) {}
+
+        @Override
+        public void validateTimestampFieldMapping(boolean isDataStream, MappingLookup mappingLookup) throws IOException {
+            if (isDataStream) {
+                MetadataCreateDataStreamService.validateTimestampFieldMapping(mappingLookup);
+            }
+        }
+
+        @Override
+        public CompressedXContent getDefaultMapping() {
+            return DEFAULT_LOGS_MAPPING;
+        }
+
+        @Override
+        public TimestampBounds getTimestampBound(IndexMetadata indexMetadata) {
+            return null;
+        }
+
+        @Override
+        public MetadataFieldMapper timeSeriesIdFieldMapper() {
+            // non time-series indices must not have a TimeSeriesIdFieldMapper
+            return null;
+        }
+
+        @Override
+        public IdFieldMapper idFieldMapperWithoutFieldData() {
+            return ProvidedIdFieldMapper.NO_FIELD_DATA;
+        }
+
+        @Override
+        public IdFieldMapper buildIdFieldMapper(BooleanSupplier fieldDataEnabled) {
+            return new ProvidedIdFieldMapper(fieldDataEnabled);
+        }
+
+        @Override
+        public DocumentDimensions buildDocumentDimensions(IndexSettings settings) {
+            return new DocumentDimensions.OnlySingleValueAllowed();
+        }
+
+        @Override
+        public boolean shouldValidateTimestamp() {
+            return false;
+        }
+
+        @Override
+        public void validateSourceFieldMapper(SourceFieldMapper sourceFieldMapper) {}
+
+        @Override
+        public boolean isSyntheticSourceEnabled() {
+            return false;
+        }
     };
 
     protected static String tsdbMode() {
         return "[" + IndexSettings.MODE.getKey() + "=time_series]";
     }
 
+    private static void settingRequiresTimeSeries(Map<Setting<?>, Object> settings, Setting<?> setting) {
+        if (false == Objects.equals(setting.getDefault(Settings.EMPTY), settings.get(setting))) {
+            throw new IllegalArgumentException("[" + setting.getKey() + "] requires " + tsdbMode());
+        }
+    }
+
     public static final CompressedXContent DEFAULT_TIME_SERIES_TIMESTAMP_MAPPING;
 
     static {
@@ -245,6 +318,40 @@ public enum IndexMode {
         }
     }
 
+    /**
+     * Nodes that can open {@link #LOGS} indices.
+     */
+    public static final NodeFeature LOGS_INDEX_MODE_FEATURE = new NodeFeature("index.mode.logs");
+
+    /**
+     * Maps the fields that {@link #LOGS} indices sort on by default.
+     */
+    public static final CompressedXContent DEFAULT_LOGS_MAPPING;
+
+    static {
+        try {
+            DEFAULT_LOGS_MAPPING = new CompressedXContent(
+                ((builder, params) -> builder.startObject(MapperService.SINGLE_MAPPING_NAME)
+                    .startObject("properties")
+                    .startObject(DataStreamTimestampFieldMapper.DEFAULT_PATH)
+                    .field("type", DateFieldMapper.CONTENT_TYPE)
+                    .endObject()
+                    .startObject("host")
+                    .startObject("properties")
+                    .startObject("name")
+                    .field("type", KeywordFieldMapper.CONTENT_TYPE)
+                    .field("ignore_above", 1024)
+                    .endObject()
+                    .endObject()
+                    .endObject()
+                    .endObject()
+                    .endObject())
+            );
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     private static final List<Setting<?>> TIME_SERIES_UNSUPPORTED = List.of(
         IndexSortConfig.INDEX_SORT_FIELD_SETTING,
         IndexSortConfig.INDEX_SORT_ORDER_SETTING,
@@ -349,6 +456,7 @@ public enum IndexMode {
         return switch (value) {
             case "standard" -> IndexMode.STANDARD;
             case "time_series" -> IndexMode.TIME_SERIES;
+            case "logs" -> IndexMode.LOGS;
             default -> throw new IllegalArgumentException(
                 "["
                     + value
@@ -77,6 +77,8 @@ import org.elasticsearch.index.shard.ShardPath;
 import org.elasticsearch.index.similarity.SimilarityService;
 import org.elasticsearch.index.store.Store;
 import org.elasticsearch.index.translog.Translog;
+import org.elasticsearch.index.translog.TranslogGroupCommit;
+import org.elasticsearch.index.translog.TranslogGroupCommits;
 import org.elasticsearch.indices.breaker.CircuitBreakerService;
 import org.elasticsearch.indices.cluster.IndicesClusterStateService;
 import org.elasticsearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -126,6 +128,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final IndexStorePlugin.SnapshotCommitSupplier snapshotCommitSupplier;
     private final CheckedFunction<DirectoryReader, DirectoryReader, IOException> readerWrapper;
     private final Engine.IndexCommitListener indexCommitListener;
+    private final TranslogGroupCommits translogGroupCommits;
     private final IndexCache indexCache;
     private final MapperService mapperService;
     private final XContentParserConfiguration parserConfiguration;
@@ -194,7 +197,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         IndexStorePlugin.IndexFoldersDeletionListener indexFoldersDeletionListener,
         IndexStorePlugin.SnapshotCommitSupplier snapshotCommitSupplier,
         Engine.IndexCommitListener indexCommitListener,
-        Supplier<DocumentParsingObserver> documentParsingObserverSupplier
+        Supplier<DocumentParsingObserver> documentParsingObserverSupplier,
+        TranslogGroupCommits translogGroupCommits
     ) {
         super(indexSettings);
         this.documentParsingObserverSupplier = documentParsingObserverSupplier;
@@ -268,6 +272,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.searchOperationListeners = Collections.unmodifiableList(searchOperationListeners);
         this.indexingOperationListeners = Collections.unmodifiableList(indexingOperationListeners);
         this.indexCommitListener = indexCommitListener;
+        this.translogGroupCommits = translogGroupCommits;
         try (var ignored = threadPool.getThreadContext().clearTraceContext()) {
             // kick off async ops for the first shard in this index
             this.refreshTask = new AsyncRefreshTask(this);
@@ -524,30 +529,38 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 new StoreCloseListener(shardId, () -> eventListener.onStoreClosed(shardId))
             );
             eventListener.onStoreCreated(shardId);
-            indexShard = new IndexShard(
-                routing,
-                this.indexSettings,
-                path,
-                store,
-                indexSortSupplier,
-                indexCache,
-                mapperService,
-                similarityService,
-                engineFactory,
-                eventListener,
-                readerWrapper,
-                threadPool,
-                bigArrays,
-                engineWarmer,
-                searchOperationListeners,
-                indexingOperationListeners,
-                globalCheckpointSyncer,
-                retentionLeaseSyncer,
-                circuitBreakerService,
-                snapshotCommitSupplier,
-                System::nanoTime,
-                indexCommitListener
-            );
+            final TranslogGroupCommit translogGroupCommit = translogGroupCommits.acquire(path.getRootDataPath());
+            try {
+                indexShard = new IndexShard(
+                    routing,
+                    this.indexSettings,
+                    path,
+                    store,
+                    indexSortSupplier,
+                    indexCache,
+                    mapperService,
+                    similarityService,
+                    engineFactory,
+                    eventListener,
+                    readerWrapper,
+                    threadPool,
+                    bigArrays,
+                    engineWarmer,
+                    searchOperationListeners,
+                    indexingOperationListeners,
+                    globalCheckpointSyncer,
+                    retentionLeaseSyncer,
+                    circuitBreakerService,
+                    snapshotCommitSupplier,
+                    System::nanoTime,
+                    indexCommitListener,
+                    translogGroupCommit
+                );
+            } finally {
+                if (indexShard == null) {
+                    translogGroupCommits.release(path.getRootDataPath());
+                }
+            }
             eventListener.indexShardStateChanged(indexShard, null, indexShard.state(), "shard created");
             eventListener.afterIndexShardCreated(indexShard);
             shards = Maps.copyMapWithAddedEntry(shards, shardId.id(), indexShard);
@@ -601,6 +614,9 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 listener.afterIndexShardClosed(sId, indexShard, indexSettings);
             }
         } finally {
+            if (indexShard != null) {
+                translogGroupCommits.release(indexShard.shardPath().getRootDataPath());
+            }
             try {
                 if (store != null) {
                     store.close();
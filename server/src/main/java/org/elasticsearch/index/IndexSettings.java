@@ -411,6 +411,17 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Whether the live version map keeps the versions of the documents indexed since the last refresh in paged primitive
+     * arrays rather than in an object per document. This uses much less heap and creates less garbage for update heavy
+     * indices with long refresh intervals but makes every version lookup build a new version value.
+     */
+    public static final Setting<Boolean> INDEX_COMPACT_VERSION_MAP_SETTING = Setting.boolSetting(
+        "index.version_map.compact",
+        false,
+        Property.IndexScope
+    );
+
     /**
      * Specifies if the index should use soft-delete instead of hard-delete for update/delete operations.
      * Soft-deletes is enabled by default for 7.0 indices and mandatory for 8.0 indices.
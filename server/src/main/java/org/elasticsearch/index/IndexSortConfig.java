@@ -109,6 +109,23 @@ public final class IndexSortConfig {
         TIME_SERIES_SORT = new FieldSortSpec[] { new FieldSortSpec(TimeSeriesIdFieldMapper.NAME), timeStampSpec };
     }
 
+    public static final String LOGS_HOST_FIELD = "host.name";
+
+    /**
+     * The default sort of {@link IndexMode#LOGS} indices. Users may replace it
+     * with the {@code index.sort.*} settings.
+     */
+    public static final FieldSortSpec[] LOGS_SORT;
+
+    static {
+        FieldSortSpec hostSpec = new FieldSortSpec(LOGS_HOST_FIELD);
+        hostSpec.order = SortOrder.ASC;
+        hostSpec.missingValue = "_last";
+        FieldSortSpec timeStampSpec = new FieldSortSpec(DataStreamTimestampFieldMapper.DEFAULT_PATH);
+        timeStampSpec.order = SortOrder.DESC;
+        LOGS_SORT = new FieldSortSpec[] { hostSpec, timeStampSpec };
+    }
+
     private static String validateMissingValue(String missing) {
         if ("_last".equals(missing) == false && "_first".equals(missing) == false) {
             throw new IllegalArgumentException("Illegal missing value:[" + missing + "], " + "must be one of [_last, _first]");
@@ -150,6 +167,10 @@ public final class IndexSortConfig {
             this.sortSpecs = TIME_SERIES_SORT;
             return;
         }
+        if (this.indexMode == IndexMode.LOGS && INDEX_SORT_FIELD_SETTING.exists(settings) == false) {
+            this.sortSpecs = LOGS_SORT;
+            return;
+        }
 
         List<String> fields = INDEX_SORT_FIELD_SETTING.get(settings);
         this.sortSpecs = fields.stream().map((name) -> new FieldSortSpec(name)).toArray(FieldSortSpec[]::new);
@@ -218,8 +239,8 @@ public final class IndexSortConfig {
             final MappedFieldType ft = fieldTypeLookup.apply(sortSpec.field);
             if (ft == null) {
                 String err = "unknown index sort field:[" + sortSpec.field + "]";
-                if (this.indexMode == IndexMode.TIME_SERIES) {
-                    err += " required by [" + IndexSettings.MODE.getKey() + "=time_series]";
+                if (this.indexMode == IndexMode.TIME_SERIES || sortSpecs == LOGS_SORT) {
+                    err += " required by [" + IndexSettings.MODE.getKey() + "=" + indexMode.getName() + "]";
                 }
                 throw new IllegalArgumentException(err);
             }
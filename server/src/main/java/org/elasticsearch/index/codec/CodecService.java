@@ -12,6 +12,11 @@ import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.lucene99.Lucene99Codec;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.core.Nullable;
+import org.elasticsearch.features.NodeFeature;
+import org.elasticsearch.index.codec.vectors.VectorsMergeContext;
+import org.elasticsearch.index.codec.zstd.ES813ZstdCodec;
+import org.elasticsearch.index.codec.zstd.Zstd;
+import org.elasticsearch.index.engine.EngineConfig;
 import org.elasticsearch.index.mapper.MapperService;
 
 import java.util.HashMap;
@@ -29,17 +34,46 @@ public class CodecService {
 
     public static final String DEFAULT_CODEC = "default";
     public static final String BEST_COMPRESSION_CODEC = "best_compression";
+    /** compresses stored fields with zstd, only available if the zstd library could be loaded */
+    public static final String ZSTD_CODEC = "zstd";
+    /** nodes that can read segments written by the {@link #ZSTD_CODEC} codec */
+    public static final NodeFeature ZSTD_CODEC_FEATURE = new NodeFeature("index.codec.zstd");
     /** the raw unfiltered lucene default. useful for testing */
     public static final String LUCENE_DEFAULT_CODEC = "lucene_default";
 
+    private final VectorsMergeContext vectorsMergeContext;
+
     public CodecService(@Nullable MapperService mapperService, BigArrays bigArrays) {
+        this(mapperService, bigArrays, VectorsMergeContext.singleThreaded());
+    }
+
+    /**
+     * @param vectorsMergeContext how the codecs build the graphs of vector fields on merge
+     */
+    public CodecService(@Nullable MapperService mapperService, BigArrays bigArrays, VectorsMergeContext vectorsMergeContext) {
+        this.vectorsMergeContext = vectorsMergeContext;
         final var codecs = new HashMap<String, Codec>();
         if (mapperService == null) {
             codecs.put(DEFAULT_CODEC, new Lucene99Codec());
             codecs.put(BEST_COMPRESSION_CODEC, new Lucene99Codec(Lucene99Codec.Mode.BEST_COMPRESSION));
         } else {
-            codecs.put(DEFAULT_CODEC, new PerFieldMapperCodec(Lucene99Codec.Mode.BEST_SPEED, mapperService, bigArrays));
-            codecs.put(BEST_COMPRESSION_CODEC, new PerFieldMapperCodec(Lucene99Codec.Mode.BEST_COMPRESSION, mapperService, bigArrays));
+            codecs.put(
+                DEFAULT_CODEC,
+                new PerFieldMapperCodec(Lucene99Codec.Mode.BEST_SPEED, mapperService, bigArrays, vectorsMergeContext)
+            );
+            codecs.put(
+                BEST_COMPRESSION_CODEC,
+                new PerFieldMapperCodec(Lucene99Codec.Mode.BEST_COMPRESSION, mapperService, bigArrays, vectorsMergeContext)
+            );
+        }
+        if (Zstd.isAvailable()) {
+            if (mapperService == null) {
+                codecs.put(ZSTD_CODEC, new ES813ZstdCodec(new Lucene99Codec(), ES813ZstdCodec.DEFAULT_LEVEL));
+            } else {
+                int level = mapperService.getIndexSettings().getValue(EngineConfig.INDEX_CODEC_ZSTD_LEVEL_SETTING);
+                Codec delegate = new PerFieldMapperCodec(Lucene99Codec.Mode.BEST_SPEED, mapperService, bigArrays, vectorsMergeContext);
+                codecs.put(ZSTD_CODEC, new ES813ZstdCodec(delegate, level));
+            }
         }
         codecs.put(LUCENE_DEFAULT_CODEC, Codec.getDefault());
         for (String codec : Codec.availableCodecs()) {
@@ -56,6 +90,13 @@ public class CodecService {
         return codec;
     }
 
+    /**
+     * How the codecs build the graphs of vector fields on merge, and the time they spent merging vector fields.
+     */
+    public VectorsMergeContext vectorsMergeContext() {
+        return vectorsMergeContext;
+    }
+
     /**
      * Returns all registered available codec names
      */
@@ -21,6 +21,8 @@ import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.codec.bloomfilter.ES87BloomFilterPostingsFormat;
 import org.elasticsearch.index.codec.postings.ES812PostingsFormat;
 import org.elasticsearch.index.codec.tsdb.ES87TSDBDocValuesFormat;
+import org.elasticsearch.index.codec.vectors.VectorsMergeContext;
+import org.elasticsearch.index.mapper.BinaryFieldMapper;
 import org.elasticsearch.index.mapper.DateFieldMapper;
 import org.elasticsearch.index.mapper.IdFieldMapper;
 import org.elasticsearch.index.mapper.KeywordFieldMapper;
@@ -47,6 +49,7 @@ public final class PerFieldMapperCodec extends Lucene99Codec {
     private final ES87TSDBDocValuesFormat tsdbDocValuesFormat;
 
     private final ES812PostingsFormat es812PostingsFormat;
+    private final VectorsMergeContext vectorsMergeContext;
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMapperCodec.class)
@@ -54,8 +57,18 @@ public final class PerFieldMapperCodec extends Lucene99Codec {
     }
 
     public PerFieldMapperCodec(Mode compressionMode, MapperService mapperService, BigArrays bigArrays) {
+        this(compressionMode, mapperService, bigArrays, VectorsMergeContext.singleThreaded());
+    }
+
+    public PerFieldMapperCodec(
+        Mode compressionMode,
+        MapperService mapperService,
+        BigArrays bigArrays,
+        VectorsMergeContext vectorsMergeContext
+    ) {
         super(compressionMode);
         this.mapperService = mapperService;
+        this.vectorsMergeContext = vectorsMergeContext;
         this.bloomFilterPostingsFormat = new ES87BloomFilterPostingsFormat(bigArrays, this::internalGetPostingsFormatForField);
         this.tsdbDocValuesFormat = new ES87TSDBDocValuesFormat();
         this.es812PostingsFormat = new ES812PostingsFormat();
@@ -97,7 +110,7 @@ public final class PerFieldMapperCodec extends Lucene99Codec {
     public KnnVectorsFormat getKnnVectorsFormatForField(String field) {
         Mapper mapper = mapperService.mappingLookup().getMapper(field);
         if (mapper instanceof DenseVectorFieldMapper vectorMapper) {
-            return vectorMapper.getKnnVectorsFormatForField(super.getKnnVectorsFormatForField(field));
+            return vectorMapper.getKnnVectorsFormatForField(super.getKnnVectorsFormatForField(field), vectorsMergeContext);
         }
         return super.getKnnVectorsFormatForField(field);
     }
@@ -111,7 +124,7 @@ public final class PerFieldMapperCodec extends Lucene99Codec {
     }
 
     boolean useTSDBDocValuesFormat(final String field) {
-        if (mapperService != null && mapperService.getIndexSettings().isES87TSDBCodecEnabled() && isTimeSeriesModeIndex()) {
+        if (mapperService != null && mapperService.getIndexSettings().isES87TSDBCodecEnabled() && isTimeSeriesOrLogsModeIndex()) {
             final MappingLookup mappingLookup = mapperService.mappingLookup();
             if (mappingLookup.getMapper(field) instanceof NumberFieldMapper) {
                 return true;
@@ -125,12 +138,16 @@ public final class PerFieldMapperCodec extends Lucene99Codec {
             if (mappingLookup.getMapper(field) instanceof TimeSeriesIdFieldMapper) {
                 return true;
             }
+            if (mappingLookup.getMapper(field) instanceof BinaryFieldMapper) {
+                return true;
+            }
         }
         return false;
     }
 
-    private boolean isTimeSeriesModeIndex() {
-        return IndexMode.TIME_SERIES == mapperService.getIndexSettings().getMode();
+    private boolean isTimeSeriesOrLogsModeIndex() {
+        IndexMode mode = mapperService.getIndexSettings().getMode();
+        return mode == IndexMode.TIME_SERIES || mode == IndexMode.LOGS;
     }
 
 }
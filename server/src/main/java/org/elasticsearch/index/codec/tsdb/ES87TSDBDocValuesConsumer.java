@@ -12,6 +12,7 @@ import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.codecs.lucene90.IndexedDISI;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.EmptyDocValuesProducer;
 import org.apache.lucene.index.FieldInfo;
@@ -191,7 +192,114 @@ final class ES87TSDBDocValuesConsumer extends DocValuesConsumer {
 
     @Override
     public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
-        throw new UnsupportedOperationException("Unsupported binary doc values for field [" + field.name + "]");
+        meta.writeInt(field.number);
+        meta.writeByte(ES87TSDBDocValuesFormat.BINARY);
+
+        int numDocsWithField = 0;
+        BinaryDocValues values = valuesProducer.getBinary(field);
+        for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+            numDocsWithField++;
+        }
+
+        if (numDocsWithField == 0) { // meta[-2, 0]: No documents with values
+            meta.writeLong(-2); // docsWithFieldOffset
+            meta.writeLong(0L); // docsWithFieldLength
+            meta.writeShort((short) -1); // jumpTableEntryCount
+            meta.writeByte((byte) -1); // denseRankPower
+        } else if (numDocsWithField == maxDoc) { // meta[-1, 0]: All documents have values
+            meta.writeLong(-1); // docsWithFieldOffset
+            meta.writeLong(0L); // docsWithFieldLength
+            meta.writeShort((short) -1); // jumpTableEntryCount
+            meta.writeByte((byte) -1); // denseRankPower
+        } else { // meta[data.offset, data.length]: IndexedDISI structure for documents with values
+            long offset = data.getFilePointer();
+            meta.writeLong(offset); // docsWithFieldOffset
+            values = valuesProducer.getBinary(field);
+            final short jumpTableEntryCount = IndexedDISI.writeBitSet(values, data, IndexedDISI.DEFAULT_DENSE_RANK_POWER);
+            meta.writeLong(data.getFilePointer() - offset); // docsWithFieldLength
+            meta.writeShort(jumpTableEntryCount);
+            meta.writeByte(IndexedDISI.DEFAULT_DENSE_RANK_POWER);
+        }
+
+        meta.writeInt(numDocsWithField);
+        if (numDocsWithField > 0) {
+            writeCompressedBinaryBlocks(valuesProducer.getBinary(field), numDocsWithField);
+        }
+    }
+
+    /**
+     * Write the values in blocks of {@link ES87TSDBDocValuesFormat#BINARY_BLOCK_SIZE} docs. Each block
+     * is the lengths of its values followed by the LZ4 compressed concatenation of the values so a
+     * reader decompresses a block once and then slices values out of it.
+     */
+    private void writeCompressedBinaryBlocks(BinaryDocValues values, int numDocsWithField) throws IOException {
+        final long numBlocks = 1L + ((numDocsWithField - 1) >>> ES87TSDBDocValuesFormat.BINARY_BLOCK_SHIFT);
+        meta.writeInt(DIRECT_MONOTONIC_BLOCK_SHIFT);
+        final ByteBuffersDataOutput addressBuffer = new ByteBuffersDataOutput();
+        final ByteBuffersIndexOutput addressOutput = new ByteBuffersIndexOutput(addressBuffer, "temp", "temp");
+        final DirectMonotonicWriter writer = DirectMonotonicWriter.getInstance(
+            meta,
+            addressOutput,
+            numBlocks,
+            DIRECT_MONOTONIC_BLOCK_SHIFT
+        );
+
+        final LZ4.FastCompressionHashTable ht = new LZ4.FastCompressionHashTable();
+        final int[] docLengths = new int[ES87TSDBDocValuesFormat.BINARY_BLOCK_SIZE];
+        byte[] block = new byte[1 << 14];
+        int blockLength = 0;
+        int docsInBlock = 0;
+        int maxUncompressedBlockLength = 0;
+        final long start = data.getFilePointer();
+        for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+            BytesRef v = values.binaryValue();
+            block = ArrayUtil.grow(block, blockLength + v.length);
+            System.arraycopy(v.bytes, v.offset, block, blockLength, v.length);
+            blockLength += v.length;
+            docLengths[docsInBlock++] = v.length;
+            if (docsInBlock == ES87TSDBDocValuesFormat.BINARY_BLOCK_SIZE) {
+                writer.add(data.getFilePointer() - start);
+                writeBinaryBlock(block, blockLength, docLengths, docsInBlock, ht);
+                maxUncompressedBlockLength = Math.max(maxUncompressedBlockLength, blockLength);
+                blockLength = 0;
+                docsInBlock = 0;
+            }
+        }
+        if (docsInBlock > 0) {
+            writer.add(data.getFilePointer() - start);
+            writeBinaryBlock(block, blockLength, docLengths, docsInBlock, ht);
+            maxUncompressedBlockLength = Math.max(maxUncompressedBlockLength, blockLength);
+        }
+        writer.finish();
+
+        meta.writeInt(maxUncompressedBlockLength);
+        meta.writeLong(start);
+        meta.writeLong(data.getFilePointer() - start);
+        long addressesStart = data.getFilePointer();
+        addressBuffer.copyTo(data);
+        meta.writeLong(addressesStart);
+        meta.writeLong(data.getFilePointer() - addressesStart);
+    }
+
+    private void writeBinaryBlock(byte[] block, int blockLength, int[] docLengths, int docsInBlock, LZ4.FastCompressionHashTable ht)
+        throws IOException {
+        boolean allLengthsSame = true;
+        for (int i = 1; i < docsInBlock; i++) {
+            if (docLengths[i] != docLengths[0]) {
+                allLengthsSame = false;
+                break;
+            }
+        }
+        // The lowest bit of the first length says whether all the values in the block have that length
+        data.writeVInt((docLengths[0] << 1) | (allLengthsSame ? 1 : 0));
+        if (allLengthsSame == false) {
+            for (int i = 1; i < docsInBlock; i++) {
+                data.writeVInt(docLengths[i]);
+            }
+        }
+        if (blockLength > 0) {
+            LZ4.compress(block, 0, blockLength, data, ht);
+        }
     }
 
     @Override
@@ -27,13 +27,21 @@ public class ES87TSDBDocValuesFormat extends org.apache.lucene.codecs.DocValuesF
     static final String META_CODEC = "ES87TSDBDocValuesMetadata";
     static final String META_EXTENSION = "dvm";
     static final int VERSION_START = 0;
-    static final int VERSION_CURRENT = VERSION_START;
+    /**
+     * Adds binary doc values. Segments written before this never contain binary fields.
+     */
+    static final int VERSION_BINARY = 1;
+    static final int VERSION_CURRENT = VERSION_BINARY;
     static final byte NUMERIC = 0;
     static final byte BINARY = 1;
     static final byte SORTED = 2;
     static final byte SORTED_SET = 3;
     static final byte SORTED_NUMERIC = 4;
 
+    static final int BINARY_BLOCK_SHIFT = 5;
+    static final int BINARY_BLOCK_SIZE = 1 << BINARY_BLOCK_SHIFT;
+    static final int BINARY_BLOCK_MASK = BINARY_BLOCK_SIZE - 1;
+
     static final int TERMS_DICT_BLOCK_LZ4_SHIFT = 6;
     static final int TERMS_DICT_BLOCK_LZ4_SIZE = 1 << TERMS_DICT_BLOCK_LZ4_SHIFT;
     static final int TERMS_DICT_BLOCK_LZ4_MASK = TERMS_DICT_BLOCK_LZ4_SIZE - 1;
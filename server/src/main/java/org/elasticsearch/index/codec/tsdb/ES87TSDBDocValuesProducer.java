@@ -46,6 +46,7 @@ import static org.elasticsearch.index.codec.tsdb.ES87TSDBDocValuesFormat.TERMS_D
 
 public class ES87TSDBDocValuesProducer extends DocValuesProducer {
     private final Map<String, NumericEntry> numerics = new HashMap<>();
+    private final Map<String, BinaryEntry> binaries = new HashMap<>();
     private final Map<String, SortedEntry> sorted = new HashMap<>();
     private final Map<String, SortedSetEntry> sortedSets = new HashMap<>();
     private final Map<String, SortedNumericEntry> sortedNumerics = new HashMap<>();
@@ -72,7 +73,7 @@ public class ES87TSDBDocValuesProducer extends DocValuesProducer {
                     state.segmentSuffix
                 );
 
-                readFields(in, state.fieldInfos);
+                readFields(in, state.fieldInfos, version);
 
             } catch (Throwable exception) {
                 priorE = exception;
@@ -119,7 +120,154 @@ public class ES87TSDBDocValuesProducer extends DocValuesProducer {
 
     @Override
     public BinaryDocValues getBinary(FieldInfo field) throws IOException {
-        throw new UnsupportedOperationException("Unsupported binary doc values for field [" + field.name + "]");
+        BinaryEntry entry = binaries.get(field.name);
+        if (entry.docsWithFieldOffset == -2) {
+            return DocValues.emptyBinary();
+        }
+
+        final RandomAccessInput addressesData = data.randomAccessSlice(entry.addressesOffset, entry.addressesLength);
+        final LongValues addresses = DirectMonotonicReader.getInstance(entry.addressesMeta, addressesData);
+        final IndexInput bytesSlice = data.slice("binary", entry.dataOffset, entry.dataLength);
+        final BinaryDecoder decoder = new BinaryDecoder(addresses, bytesSlice, entry.maxUncompressedBlockLength, entry.numDocsWithField);
+
+        if (entry.docsWithFieldOffset == -1) {
+            // dense
+            return new BinaryDocValues() {
+
+                private final int maxDoc = ES87TSDBDocValuesProducer.this.maxDoc;
+                private int doc = -1;
+
+                @Override
+                public int nextDoc() {
+                    return advance(doc + 1);
+                }
+
+                @Override
+                public int docID() {
+                    return doc;
+                }
+
+                @Override
+                public long cost() {
+                    return maxDoc;
+                }
+
+                @Override
+                public int advance(int target) {
+                    if (target >= maxDoc) {
+                        return doc = NO_MORE_DOCS;
+                    }
+                    return doc = target;
+                }
+
+                @Override
+                public boolean advanceExact(int target) {
+                    doc = target;
+                    return true;
+                }
+
+                @Override
+                public BytesRef binaryValue() throws IOException {
+                    return decoder.decode(doc);
+                }
+            };
+        } else {
+            // sparse
+            final IndexedDISI disi = new IndexedDISI(
+                data,
+                entry.docsWithFieldOffset,
+                entry.docsWithFieldLength,
+                entry.jumpTableEntryCount,
+                entry.denseRankPower,
+                entry.numDocsWithField
+            );
+            return new BinaryDocValues() {
+
+                @Override
+                public int nextDoc() throws IOException {
+                    return disi.nextDoc();
+                }
+
+                @Override
+                public int docID() {
+                    return disi.docID();
+                }
+
+                @Override
+                public long cost() {
+                    return disi.cost();
+                }
+
+                @Override
+                public int advance(int target) throws IOException {
+                    return disi.advance(target);
+                }
+
+                @Override
+                public boolean advanceExact(int target) throws IOException {
+                    return disi.advanceExact(target);
+                }
+
+                @Override
+                public BytesRef binaryValue() throws IOException {
+                    return decoder.decode(disi.index());
+                }
+            };
+        }
+    }
+
+    /**
+     * Decodes the values of a binary field. Values are compressed in blocks of
+     * {@link ES87TSDBDocValuesFormat#BINARY_BLOCK_SIZE} docs and the last
+     * decompressed block is kept around, so reading docs in order, like
+     * aggregations and the compute engine do, decompresses each block once.
+     */
+    private static class BinaryDecoder {
+        private final LongValues addresses;
+        private final IndexInput compressedData;
+        private final int numDocsWithField;
+        private final int[] docOffsets = new int[ES87TSDBDocValuesFormat.BINARY_BLOCK_SIZE + 1];
+        private final byte[] uncompressedBlock;
+        private final BytesRef value;
+        private long currentBlock = -1;
+
+        BinaryDecoder(LongValues addresses, IndexInput compressedData, int maxUncompressedBlockLength, int numDocsWithField) {
+            this.addresses = addresses;
+            this.compressedData = compressedData;
+            this.numDocsWithField = numDocsWithField;
+            this.uncompressedBlock = new byte[maxUncompressedBlockLength + TermsDict.LZ4_DECOMPRESSOR_PADDING];
+            this.value = new BytesRef(uncompressedBlock, 0, 0);
+        }
+
+        BytesRef decode(int index) throws IOException {
+            final long block = index >>> ES87TSDBDocValuesFormat.BINARY_BLOCK_SHIFT;
+            if (block != currentBlock) {
+                decompressBlock(block);
+            }
+            final int indexInBlock = index & ES87TSDBDocValuesFormat.BINARY_BLOCK_MASK;
+            value.offset = docOffsets[indexInBlock];
+            value.length = docOffsets[indexInBlock + 1] - value.offset;
+            return value;
+        }
+
+        private void decompressBlock(long block) throws IOException {
+            compressedData.seek(addresses.get(block));
+            final long firstIndex = block << ES87TSDBDocValuesFormat.BINARY_BLOCK_SHIFT;
+            final int docsInBlock = (int) Math.min(ES87TSDBDocValuesFormat.BINARY_BLOCK_SIZE, numDocsWithField - firstIndex);
+            final int header = compressedData.readVInt();
+            final int firstLength = header >>> 1;
+            final boolean allLengthsSame = (header & 1) == 1;
+            docOffsets[0] = 0;
+            docOffsets[1] = firstLength;
+            for (int i = 2; i <= docsInBlock; i++) {
+                docOffsets[i] = docOffsets[i - 1] + (allLengthsSame ? firstLength : compressedData.readVInt());
+            }
+            final int blockLength = docOffsets[docsInBlock];
+            if (blockLength > 0) {
+                LZ4.decompress(compressedData, blockLength, uncompressedBlock, 0);
+            }
+            currentBlock = block;
+        }
     }
 
     @Override
@@ -563,7 +711,7 @@ public class ES87TSDBDocValuesProducer extends DocValuesProducer {
         data.close();
     }
 
-    private void readFields(IndexInput meta, FieldInfos infos) throws IOException {
+    private void readFields(IndexInput meta, FieldInfos infos, int version) throws IOException {
         for (int fieldNumber = meta.readInt(); fieldNumber != -1; fieldNumber = meta.readInt()) {
             FieldInfo info = infos.fieldInfo(fieldNumber);
             if (info == null) {
@@ -573,7 +721,10 @@ public class ES87TSDBDocValuesProducer extends DocValuesProducer {
             if (type == ES87TSDBDocValuesFormat.NUMERIC) {
                 numerics.put(info.name, readNumeric(meta));
             } else if (type == ES87TSDBDocValuesFormat.BINARY) {
-                throw new CorruptIndexException("unsupported type: " + type, meta);
+                if (version < ES87TSDBDocValuesFormat.VERSION_BINARY) {
+                    throw new CorruptIndexException("unsupported type: " + type, meta);
+                }
+                binaries.put(info.name, readBinary(meta));
             } else if (type == ES87TSDBDocValuesFormat.SORTED) {
                 sorted.put(info.name, readSorted(meta));
             } else if (type == ES87TSDBDocValuesFormat.SORTED_SET) {
@@ -616,6 +767,26 @@ public class ES87TSDBDocValuesProducer extends DocValuesProducer {
         }
     }
 
+    private static BinaryEntry readBinary(IndexInput meta) throws IOException {
+        BinaryEntry entry = new BinaryEntry();
+        entry.docsWithFieldOffset = meta.readLong();
+        entry.docsWithFieldLength = meta.readLong();
+        entry.jumpTableEntryCount = meta.readShort();
+        entry.denseRankPower = meta.readByte();
+        entry.numDocsWithField = meta.readInt();
+        if (entry.numDocsWithField > 0) {
+            final int blockShift = meta.readInt();
+            final long numBlocks = 1L + ((entry.numDocsWithField - 1) >>> ES87TSDBDocValuesFormat.BINARY_BLOCK_SHIFT);
+            entry.addressesMeta = DirectMonotonicReader.loadMeta(meta, numBlocks, blockShift);
+            entry.maxUncompressedBlockLength = meta.readInt();
+            entry.dataOffset = meta.readLong();
+            entry.dataLength = meta.readLong();
+            entry.addressesOffset = meta.readLong();
+            entry.addressesLength = meta.readLong();
+        }
+        return entry;
+    }
+
     private static SortedNumericEntry readSortedNumeric(IndexInput meta) throws IOException {
         SortedNumericEntry entry = new SortedNumericEntry();
         readSortedNumeric(meta, entry);
@@ -1089,6 +1260,20 @@ public class ES87TSDBDocValuesProducer extends DocValuesProducer {
         long valuesLength;
     }
 
+    private static class BinaryEntry {
+        long docsWithFieldOffset;
+        long docsWithFieldLength;
+        short jumpTableEntryCount;
+        byte denseRankPower;
+        int numDocsWithField;
+        int maxUncompressedBlockLength;
+        long dataOffset;
+        long dataLength;
+        DirectMonotonicReader.Meta addressesMeta;
+        long addressesOffset;
+        long addressesLength;
+    }
+
     private static class SortedNumericEntry extends NumericEntry {
         int numDocsWithField;
         DirectMonotonicReader.Meta addressesMeta;
@@ -0,0 +1,52 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.FlatVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat.ES813FlatVectorReader;
+import org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat.ES813FlatVectorWriter;
+
+import java.io.IOException;
+
+/**
+ * Brute force search over float vectors quantized to a single bit per dimension.
+ */
+public class ES813BbqFlatVectorFormat extends KnnVectorsFormat {
+
+    static final String NAME = "ES813BbqFlatVectorFormat";
+
+    private final FlatVectorsFormat format = new ES813QuantizedFlatVectorsFormat(ES813VectorQuantizer.Encoding.BINARY, null);
+
+    /**
+     * Sole constructor
+     */
+    public ES813BbqFlatVectorFormat() {
+        super(NAME);
+    }
+
+    @Override
+    public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
+        return new ES813FlatVectorWriter(format.fieldsWriter(state));
+    }
+
+    @Override
+    public KnnVectorsReader fieldsReader(SegmentReadState state) throws IOException {
+        return new ES813FlatVectorReader(format.fieldsReader(state));
+    }
+
+    @Override
+    public String toString() {
+        return NAME + "(format=" + format + ")";
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.FlatVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsReader;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsWriter;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.search.TaskExecutor;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+import static org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat.DEFAULT_BEAM_WIDTH;
+import static org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat.DEFAULT_MAX_CONN;
+import static org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat.MAXIMUM_BEAM_WIDTH;
+import static org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat.MAXIMUM_MAX_CONN;
+
+/**
+ * An HNSW graph over float vectors quantized to 4 bits per dimension. The graph is built with the
+ * raw vectors and searched with the quantized ones.
+ */
+public class ES813Int4HnswVectorsFormat extends KnnVectorsFormat {
+
+    static final String NAME = "ES813Int4HnswVectorsFormat";
+
+    private final int maxConn;
+    private final int beamWidth;
+    private final int numMergeWorkers;
+    private final TaskExecutor mergeExec;
+    private final FlatVectorsFormat flatVectorsFormat;
+
+    public ES813Int4HnswVectorsFormat() {
+        this(DEFAULT_MAX_CONN, DEFAULT_BEAM_WIDTH, null);
+    }
+
+    public ES813Int4HnswVectorsFormat(int maxConn, int beamWidth, Float confidenceInterval) {
+        this(maxConn, beamWidth, confidenceInterval, 1, null);
+    }
+
+    /**
+     * @param numMergeWorkers how many threads build the graph on merge, {@code 1} builds it on the merge thread
+     * @param mergeExec the executor of the merge workers, {@code null} if {@code numMergeWorkers} is {@code 1}
+     */
+    public ES813Int4HnswVectorsFormat(
+        int maxConn,
+        int beamWidth,
+        Float confidenceInterval,
+        int numMergeWorkers,
+        ExecutorService mergeExec
+    ) {
+        super(NAME);
+        if (maxConn <= 0 || maxConn > MAXIMUM_MAX_CONN) {
+            throw new IllegalArgumentException(
+                "maxConn must be positive and less than or equal to " + MAXIMUM_MAX_CONN + "; maxConn=" + maxConn
+            );
+        }
+        if (beamWidth <= 0 || beamWidth > MAXIMUM_BEAM_WIDTH) {
+            throw new IllegalArgumentException(
+                "beamWidth must be positive and less than or equal to " + MAXIMUM_BEAM_WIDTH + "; beamWidth=" + beamWidth
+            );
+        }
+        if (numMergeWorkers > 1 && mergeExec == null) {
+            throw new IllegalArgumentException("No executor service passed in when " + numMergeWorkers + " merge workers are requested");
+        }
+        if (numMergeWorkers == 1 && mergeExec != null) {
+            throw new IllegalArgumentException("No executor service is needed as we'll use single thread to merge");
+        }
+        this.maxConn = maxConn;
+        this.beamWidth = beamWidth;
+        this.numMergeWorkers = numMergeWorkers;
+        this.mergeExec = mergeExec == null ? null : new TaskExecutor(mergeExec);
+        this.flatVectorsFormat = new ES813QuantizedFlatVectorsFormat(ES813VectorQuantizer.Encoding.INT4, confidenceInterval);
+    }
+
+    @Override
+    public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
+        return new Lucene99HnswVectorsWriter(state, maxConn, beamWidth, flatVectorsFormat.fieldsWriter(state), numMergeWorkers, mergeExec);
+    }
+
+    @Override
+    public KnnVectorsReader fieldsReader(SegmentReadState state) throws IOException {
+        return new Lucene99HnswVectorsReader(state, flatVectorsFormat.fieldsReader(state));
+    }
+
+    @Override
+    public String toString() {
+        return NAME + "(maxConn=" + maxConn + ", beamWidth=" + beamWidth + ", flatVectorsFormat=" + flatVectorsFormat + ")";
+    }
+}
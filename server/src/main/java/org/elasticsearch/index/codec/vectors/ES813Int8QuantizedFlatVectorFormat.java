@@ -0,0 +1,59 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.FlatVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat.ES813FlatVectorReader;
+import org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat.ES813FlatVectorWriter;
+
+import java.io.IOException;
+
+/**
+ * Brute force search over float vectors quantized to 8 bits per dimension. Unlike {@link ES813Int8FlatVectorFormat},
+ * which keeps reading the segments it wrote, the quantized vectors are stored in a file of this format so searches
+ * can score them with the SIMD scorers of {@link org.elasticsearch.vec.VectorScorerFactory}.
+ */
+public class ES813Int8QuantizedFlatVectorFormat extends KnnVectorsFormat {
+
+    static final String NAME = "ES813Int8QuantizedFlatVectorFormat";
+
+    private final FlatVectorsFormat format;
+
+    public ES813Int8QuantizedFlatVectorFormat() {
+        this(null);
+    }
+
+    /**
+     * Sole constructor
+     */
+    public ES813Int8QuantizedFlatVectorFormat(Float confidenceInterval) {
+        super(NAME);
+        this.format = new ES813QuantizedFlatVectorsFormat(ES813VectorQuantizer.Encoding.INT8, confidenceInterval);
+    }
+
+    @Override
+    public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
+        return new ES813FlatVectorWriter(format.fieldsWriter(state));
+    }
+
+    @Override
+    public KnnVectorsReader fieldsReader(SegmentReadState state) throws IOException {
+        return new ES813FlatVectorReader(format.fieldsReader(state));
+    }
+
+    @Override
+    public String toString() {
+        return NAME + "(format=" + format + ")";
+    }
+}
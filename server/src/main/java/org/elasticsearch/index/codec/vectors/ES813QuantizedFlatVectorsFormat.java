@@ -0,0 +1,66 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.FlatVectorsFormat;
+import org.apache.lucene.codecs.FlatVectorsReader;
+import org.apache.lucene.codecs.FlatVectorsWriter;
+import org.apache.lucene.codecs.lucene99.Lucene99FlatVectorsFormat;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+
+import java.io.IOException;
+
+/**
+ * A flat vectors format that stores float vectors quantized to {@link ES813VectorQuantizer.Encoding#INT8 8 bits},
+ * {@link ES813VectorQuantizer.Encoding#INT4 4 bits} or {@link ES813VectorQuantizer.Encoding#BINARY 1 bit} per
+ * dimension next to the raw vectors. Searches score the quantized vectors, the raw vectors are kept for merges,
+ * for building graphs and to rescore the best hits.
+ */
+public final class ES813QuantizedFlatVectorsFormat extends FlatVectorsFormat {
+
+    static final String META_CODEC_NAME = "ES813QuantizedFlatVectorsFormatMeta";
+    static final String DATA_CODEC_NAME = "ES813QuantizedFlatVectorsFormatData";
+    static final String META_EXTENSION = "vemqb";
+    static final String DATA_EXTENSION = "veqb";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    private final ES813VectorQuantizer.Encoding encoding;
+    private final Float confidenceInterval;
+    private final FlatVectorsFormat rawVectorsFormat = new Lucene99FlatVectorsFormat();
+
+    /**
+     * @param confidenceInterval the share of values that {@link ES813VectorQuantizer.Encoding#INT4} and
+     *                           {@link ES813VectorQuantizer.Encoding#INT8} quantize without clipping or
+     *                           {@code null} to derive it from the number of dimensions
+     */
+    ES813QuantizedFlatVectorsFormat(ES813VectorQuantizer.Encoding encoding, Float confidenceInterval) {
+        if (confidenceInterval != null && (confidenceInterval < 0.9f || confidenceInterval > 1f)) {
+            throw new IllegalArgumentException("confidenceInterval must be between 0.9 and 1.0; confidenceInterval=" + confidenceInterval);
+        }
+        this.encoding = encoding;
+        this.confidenceInterval = confidenceInterval;
+    }
+
+    @Override
+    public FlatVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
+        return new ES813QuantizedFlatVectorsWriter(state, encoding, confidenceInterval, rawVectorsFormat.fieldsWriter(state));
+    }
+
+    @Override
+    public FlatVectorsReader fieldsReader(SegmentReadState state) throws IOException {
+        return new ES813QuantizedFlatVectorsReader(state, rawVectorsFormat.fieldsReader(state));
+    }
+
+    @Override
+    public String toString() {
+        return "ES813QuantizedFlatVectorsFormat(encoding=" + encoding + ", confidenceInterval=" + confidenceInterval + ")";
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.FlatVectorsReader;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.elasticsearch.vec.Int8VectorScorer;
+import org.elasticsearch.vec.VectorScorerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.DATA_CODEC_NAME;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.DATA_EXTENSION;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.META_CODEC_NAME;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.META_EXTENSION;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.VERSION_CURRENT;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.VERSION_START;
+
+/**
+ * Reads the quantized vectors written by {@link ES813QuantizedFlatVectorsWriter}. Float queries are
+ * scored against the quantized vectors, everything else is served by the raw vectors reader. Int8
+ * quantized vectors are scored with the SIMD scorers of {@link VectorScorerFactory} when the JVM
+ * supports them.
+ */
+final class ES813QuantizedFlatVectorsReader extends FlatVectorsReader {
+
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(ES813QuantizedFlatVectorsReader.class);
+
+    private static final VectorScorerFactory FACTORY = VectorScorerFactory.instance().orElse(null);
+
+    private final FlatVectorsReader rawVectorsReader;
+    private final Map<String, FieldEntry> fields = new HashMap<>();
+    private final IndexInput data;
+
+    ES813QuantizedFlatVectorsReader(SegmentReadState state, FlatVectorsReader rawVectorsReader) throws IOException {
+        this.rawVectorsReader = rawVectorsReader;
+        final String metaFileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, META_EXTENSION);
+        final String dataFileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, DATA_EXTENSION);
+        boolean success = false;
+        try {
+            int version;
+            try (ChecksumIndexInput meta = state.directory.openChecksumInput(metaFileName, state.context)) {
+                Throwable priorE = null;
+                version = -1;
+                try {
+                    version = CodecUtil.checkIndexHeader(
+                        meta,
+                        META_CODEC_NAME,
+                        VERSION_START,
+                        VERSION_CURRENT,
+                        state.segmentInfo.getId(),
+                        state.segmentSuffix
+                    );
+                    readFields(meta, state);
+                } catch (Throwable exception) {
+                    priorE = exception;
+                } finally {
+                    CodecUtil.checkFooter(meta, priorE);
+                }
+            }
+            data = state.directory.openInput(dataFileName, state.context);
+            final int dataVersion = CodecUtil.checkIndexHeader(
+                data,
+                DATA_CODEC_NAME,
+                VERSION_START,
+                VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            if (dataVersion != version) {
+                throw new CorruptIndexException("format versions mismatch: meta=" + version + ", data=" + dataVersion, data);
+            }
+            CodecUtil.retrieveChecksum(data);
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(this);
+            }
+        }
+    }
+
+    private void readFields(ChecksumIndexInput meta, SegmentReadState state) throws IOException {
+        for (int fieldNumber = meta.readInt(); fieldNumber != -1; fieldNumber = meta.readInt()) {
+            final FieldInfo info = state.fieldInfos.fieldInfo(fieldNumber);
+            if (info == null) {
+                throw new CorruptIndexException("invalid field number: " + fieldNumber, meta);
+            }
+            final int encodingOrdinal = meta.readByte();
+            if (encodingOrdinal < 0 || encodingOrdinal >= ES813VectorQuantizer.Encoding.values().length) {
+                throw new CorruptIndexException("invalid encoding: " + encodingOrdinal, meta);
+            }
+            final ES813VectorQuantizer.Encoding encoding = ES813VectorQuantizer.Encoding.values()[encodingOrdinal];
+            final int dims = meta.readVInt();
+            if (dims != info.getVectorDimension()) {
+                throw new CorruptIndexException("dimension mismatch: field=" + info.getVectorDimension() + ", meta=" + dims, meta);
+            }
+            final int count = meta.readVInt();
+            final long offset = meta.readVLong();
+            final long length = meta.readVLong();
+            final ES813VectorQuantizer quantizer = ES813VectorQuantizer.read(encoding, dims, info.getVectorSimilarityFunction(), meta);
+            final FieldEntry entry = new FieldEntry(quantizer, count, offset, length);
+            final long expectedLength = entry.recordBytes() * count;
+            if (expectedLength != length) {
+                throw new CorruptIndexException("unexpected data length: expected=" + expectedLength + ", got=" + length, meta);
+            }
+            fields.put(info.name, entry);
+        }
+    }
+
+    @Override
+    public RandomVectorScorer getRandomVectorScorer(String field, float[] target) throws IOException {
+        final FieldEntry entry = fields.get(field);
+        final RandomVectorScorer rawScorer = rawVectorsReader.getRandomVectorScorer(field, target);
+        if (entry == null || rawScorer == null) {
+            return rawScorer;
+        }
+        final ES813VectorQuantizer quantizer = entry.quantizer;
+        final byte[] quantizedTarget = new byte[quantizer.bytesPerVector()];
+        final float[] targetCorrections = new float[quantizer.corrections()];
+        quantizer.quantize(target, quantizedTarget, targetCorrections);
+        final IndexInput slice = data.slice("quantized-vector-data", entry.offset, entry.length);
+        if (FACTORY != null && quantizer instanceof ES813VectorQuantizer.Int8 int8) {
+            final Int8VectorScorer int8Scorer = FACTORY.getInt8ScalarQuantizedVectorScorer(
+                slice,
+                quantizer.dims,
+                quantizer.similarity,
+                int8.constantMultiplier(),
+                quantizedTarget,
+                targetCorrections[0]
+            );
+            return new Int8Scorer(rawScorer, int8Scorer);
+        }
+        return new QuantizedScorer(rawScorer, quantizer, slice, quantizedTarget, targetCorrections);
+    }
+
+    @Override
+    public RandomVectorScorer getRandomVectorScorer(String field, byte[] target) throws IOException {
+        return rawVectorsReader.getRandomVectorScorer(field, target);
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+        rawVectorsReader.checkIntegrity();
+        CodecUtil.checksumEntireFile(data);
+    }
+
+    @Override
+    public FloatVectorValues getFloatVectorValues(String field) throws IOException {
+        return rawVectorsReader.getFloatVectorValues(field);
+    }
+
+    @Override
+    public ByteVectorValues getByteVectorValues(String field) throws IOException {
+        return rawVectorsReader.getByteVectorValues(field);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(data, rawVectorsReader);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long total = SHALLOW_SIZE + rawVectorsReader.ramBytesUsed();
+        for (FieldEntry entry : fields.values()) {
+            total += RamUsageEstimator.shallowSizeOf(entry) + (long) entry.quantizer.dims * Float.BYTES;
+        }
+        return total;
+    }
+
+    private record FieldEntry(ES813VectorQuantizer quantizer, int count, long offset, long length) {
+        long recordBytes() {
+            return quantizer.bytesPerVector() + (long) quantizer.corrections() * Float.BYTES;
+        }
+    }
+
+    /**
+     * Scores the quantized vectors against the quantized target. Ordinals, doc ids and
+     * accepted ordinals are the ones of the raw vectors.
+     */
+    private static final class QuantizedScorer implements RandomVectorScorer {
+        private final RandomVectorScorer rawScorer;
+        private final ES813VectorQuantizer quantizer;
+        private final IndexInput slice;
+        private final byte[] target;
+        private final float[] targetCorrections;
+        private final byte[] vector;
+        private final float[] corrections;
+        private final long recordBytes;
+
+        QuantizedScorer(
+            RandomVectorScorer rawScorer,
+            ES813VectorQuantizer quantizer,
+            IndexInput slice,
+            byte[] target,
+            float[] targetCorrections
+        ) {
+            this.rawScorer = rawScorer;
+            this.quantizer = quantizer;
+            this.slice = slice;
+            this.target = target;
+            this.targetCorrections = targetCorrections;
+            this.vector = new byte[target.length];
+            this.corrections = new float[targetCorrections.length];
+            this.recordBytes = vector.length + (long) corrections.length * Float.BYTES;
+        }
+
+        @Override
+        public float score(int node) throws IOException {
+            slice.seek(node * recordBytes);
+            slice.readBytes(vector, 0, vector.length);
+            slice.readFloats(corrections, 0, corrections.length);
+            return quantizer.score(target, targetCorrections, vector, corrections);
+        }
+
+        @Override
+        public int maxOrd() {
+            return rawScorer.maxOrd();
+        }
+
+        @Override
+        public int ordToDoc(int ord) {
+            return rawScorer.ordToDoc(ord);
+        }
+
+        @Override
+        public Bits getAcceptOrds(Bits acceptDocs) {
+            return rawScorer.getAcceptOrds(acceptDocs);
+        }
+    }
+
+    /**
+     * Scores the int8 quantized vectors with the SIMD scorer. Ordinals, doc ids and
+     * accepted ordinals are the ones of the raw vectors.
+     */
+    private static final class Int8Scorer implements RandomVectorScorer {
+        private final RandomVectorScorer rawScorer;
+        private final Int8VectorScorer int8Scorer;
+
+        Int8Scorer(RandomVectorScorer rawScorer, Int8VectorScorer int8Scorer) {
+            this.rawScorer = rawScorer;
+            this.int8Scorer = int8Scorer;
+        }
+
+        @Override
+        public float score(int node) throws IOException {
+            return int8Scorer.score(node);
+        }
+
+        @Override
+        public int maxOrd() {
+            return rawScorer.maxOrd();
+        }
+
+        @Override
+        public int ordToDoc(int ord) {
+            return rawScorer.ordToDoc(ord);
+        }
+
+        @Override
+        public Bits getAcceptOrds(Bits acceptDocs) {
+            return rawScorer.getAcceptOrds(acceptDocs);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.FlatFieldVectorsWriter;
+import org.apache.lucene.codecs.FlatVectorsWriter;
+import org.apache.lucene.codecs.KnnFieldVectorsWriter;
+import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.index.DocsWithFieldSet;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.Sorter;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.hnsw.CloseableRandomVectorScorerSupplier;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.DATA_CODEC_NAME;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.DATA_EXTENSION;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.META_CODEC_NAME;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.META_EXTENSION;
+import static org.elasticsearch.index.codec.vectors.ES813QuantizedFlatVectorsFormat.VERSION_CURRENT;
+
+/**
+ * Writes the quantized vectors of {@link ES813QuantizedFlatVectorsFormat} and delegates the raw vectors
+ * to another {@link FlatVectorsWriter}. Quantized vectors are written in the same order as the raw ones
+ * so both share their ordinals.
+ */
+final class ES813QuantizedFlatVectorsWriter extends FlatVectorsWriter {
+
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(ES813QuantizedFlatVectorsWriter.class);
+
+    private final ES813VectorQuantizer.Encoding encoding;
+    private final Float confidenceInterval;
+    private final FlatVectorsWriter rawVectorsWriter;
+    private final IndexOutput meta;
+    private final IndexOutput data;
+    private final List<FieldWriter> fields = new ArrayList<>();
+    private boolean finished;
+
+    ES813QuantizedFlatVectorsWriter(
+        SegmentWriteState state,
+        ES813VectorQuantizer.Encoding encoding,
+        Float confidenceInterval,
+        FlatVectorsWriter rawVectorsWriter
+    ) throws IOException {
+        this.encoding = encoding;
+        this.confidenceInterval = confidenceInterval;
+        this.rawVectorsWriter = rawVectorsWriter;
+        final String metaFileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, META_EXTENSION);
+        final String dataFileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, DATA_EXTENSION);
+        boolean success = false;
+        IndexOutput meta = null;
+        IndexOutput data = null;
+        try {
+            meta = state.directory.createOutput(metaFileName, state.context);
+            data = state.directory.createOutput(dataFileName, state.context);
+            CodecUtil.writeIndexHeader(meta, META_CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+            CodecUtil.writeIndexHeader(data, DATA_CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(meta, data, rawVectorsWriter);
+            }
+        }
+        this.meta = meta;
+        this.data = data;
+    }
+
+    @Override
+    public FlatFieldVectorsWriter<?> addField(FieldInfo fieldInfo, KnnFieldVectorsWriter<?> indexWriter) throws IOException {
+        final FlatFieldVectorsWriter<?> rawFieldWriter = rawVectorsWriter.addField(fieldInfo, indexWriter);
+        if (fieldInfo.getVectorEncoding() != VectorEncoding.FLOAT32) {
+            // byte vectors are already small, they are only stored raw
+            return rawFieldWriter;
+        }
+        @SuppressWarnings("unchecked")
+        final FieldWriter fieldWriter = new FieldWriter(fieldInfo, (KnnFieldVectorsWriter<float[]>) rawFieldWriter);
+        fields.add(fieldWriter);
+        return fieldWriter;
+    }
+
+    @Override
+    public void flush(int maxDoc, Sorter.DocMap sortMap) throws IOException {
+        rawVectorsWriter.flush(maxDoc, sortMap);
+        for (FieldWriter field : fields) {
+            final int[] ordMap = sortMap == null ? null : field.newOrdToOldOrd(sortMap);
+            final List<float[]> vectors = field.vectors;
+            writeField(field.fieldInfo, vectors.size(), consumer -> {
+                for (int ord = 0; ord < vectors.size(); ord++) {
+                    consumer.accept(vectors.get(ordMap == null ? ord : ordMap[ord]));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void mergeOneField(FieldInfo fieldInfo, MergeState mergeState) throws IOException {
+        rawVectorsWriter.mergeOneField(fieldInfo, mergeState);
+        if (fieldInfo.getVectorEncoding() == VectorEncoding.FLOAT32) {
+            mergeQuantizedField(fieldInfo, mergeState);
+        }
+    }
+
+    @Override
+    public CloseableRandomVectorScorerSupplier mergeOneFieldToIndex(FieldInfo fieldInfo, MergeState mergeState) throws IOException {
+        // graphs are built with the raw vectors
+        final CloseableRandomVectorScorerSupplier supplier = rawVectorsWriter.mergeOneFieldToIndex(fieldInfo, mergeState);
+        boolean success = false;
+        try {
+            if (fieldInfo.getVectorEncoding() == VectorEncoding.FLOAT32) {
+                mergeQuantizedField(fieldInfo, mergeState);
+            }
+            success = true;
+            return supplier;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(supplier);
+            }
+        }
+    }
+
+    private void mergeQuantizedField(FieldInfo fieldInfo, MergeState mergeState) throws IOException {
+        // merged vectors come in the same order as the raw vectors writer writes them
+        final int count = KnnVectorsWriter.MergedVectorValues.mergeFloatVectorValues(fieldInfo, mergeState).size();
+        writeField(fieldInfo, count, consumer -> {
+            final FloatVectorValues values = KnnVectorsWriter.MergedVectorValues.mergeFloatVectorValues(fieldInfo, mergeState);
+            for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                consumer.accept(values.vectorValue());
+            }
+        });
+    }
+
+    private void writeField(FieldInfo fieldInfo, int count, ES813VectorQuantizer.VectorSource vectors) throws IOException {
+        final ES813VectorQuantizer quantizer = ES813VectorQuantizer.build(
+            encoding,
+            fieldInfo.getVectorDimension(),
+            fieldInfo.getVectorSimilarityFunction(),
+            count,
+            vectors,
+            confidenceInterval
+        );
+        final long offset = data.getFilePointer();
+        final byte[] quantized = new byte[quantizer.bytesPerVector()];
+        final float[] corrections = new float[quantizer.corrections()];
+        vectors.forEach(vector -> {
+            quantizer.quantize(vector, quantized, corrections);
+            data.writeBytes(quantized, quantized.length);
+            for (float correction : corrections) {
+                data.writeInt(Float.floatToIntBits(correction));
+            }
+        });
+        meta.writeInt(fieldInfo.number);
+        meta.writeByte((byte) encoding.ordinal());
+        meta.writeVInt(fieldInfo.getVectorDimension());
+        meta.writeVInt(count);
+        meta.writeVLong(offset);
+        meta.writeVLong(data.getFilePointer() - offset);
+        quantizer.writeParameters(meta);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (finished) {
+            throw new IllegalStateException("already finished");
+        }
+        finished = true;
+        rawVectorsWriter.finish();
+        // end of fields
+        meta.writeInt(-1);
+        CodecUtil.writeFooter(meta);
+        CodecUtil.writeFooter(data);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long total = SHALLOW_SIZE + rawVectorsWriter.ramBytesUsed();
+        for (FieldWriter field : fields) {
+            total += field.ramBytesUsed();
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(meta, data, rawVectorsWriter);
+    }
+
+    /**
+     * Keeps the vectors of a field until they are quantized on flush. Each vector is also
+     * passed on to the raw vectors writer of the field.
+     */
+    static final class FieldWriter extends FlatFieldVectorsWriter<float[]> {
+        private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(FieldWriter.class);
+
+        private final FieldInfo fieldInfo;
+        private final List<float[]> vectors = new ArrayList<>();
+        private final DocsWithFieldSet docsWithField = new DocsWithFieldSet();
+
+        FieldWriter(FieldInfo fieldInfo, KnnFieldVectorsWriter<float[]> rawFieldWriter) {
+            super(rawFieldWriter);
+            this.fieldInfo = fieldInfo;
+        }
+
+        @Override
+        public void addValue(int docID, float[] vectorValue) throws IOException {
+            // the raw field writer rejects documents with more than one vector
+            indexingDelegate.addValue(docID, vectorValue);
+            vectors.add(copyValue(vectorValue));
+            docsWithField.add(docID);
+        }
+
+        @Override
+        public float[] copyValue(float[] vectorValue) {
+            return ArrayUtil.copyOfSubArray(vectorValue, 0, vectorValue.length);
+        }
+
+        /**
+         * Maps the ordinals of the vectors after sorting, which follow the new doc ids, to their ordinals before sorting.
+         */
+        int[] newOrdToOldOrd(Sorter.DocMap sortMap) throws IOException {
+            final long[] newDocAndOldOrd = new long[vectors.size()];
+            final DocIdSetIterator docs = docsWithField.iterator();
+            int ord = 0;
+            for (int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc()) {
+                newDocAndOldOrd[ord] = ((long) sortMap.oldToNew(doc) << 32) | ord;
+                ord++;
+            }
+            Arrays.sort(newDocAndOldOrd);
+            final int[] ordMap = new int[newDocAndOldOrd.length];
+            for (int i = 0; i < ordMap.length; i++) {
+                ordMap[i] = (int) newDocAndOldOrd[i];
+            }
+            return ordMap;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            // the raw field writer is accounted for by the raw vectors writer
+            long vectorBytes = RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) fieldInfo.getVectorDimension() * Float.BYTES;
+            return SHALLOW_SIZE + docsWithField.ramBytesUsed() + vectors.size() * (RamUsageEstimator.NUM_BYTES_OBJECT_REF + vectorBytes);
+        }
+    }
+}
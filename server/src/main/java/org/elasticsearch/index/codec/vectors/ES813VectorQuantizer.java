@@ -0,0 +1,439 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.ScalarQuantizedVectorSimilarity;
+import org.apache.lucene.util.ScalarQuantizer;
+import org.apache.lucene.util.VectorUtil;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Quantizes float vectors to a few bits per dimension and estimates the similarity
+ * of two quantized vectors. The parameters of the quantization, like the range of the
+ * values, are computed per segment and field from the vectors that are written.
+ * <p>
+ * Each quantized vector is stored as {@link #bytesPerVector()} bytes followed by
+ * {@link #corrections()} floats that correct the similarity estimate.
+ */
+abstract class ES813VectorQuantizer {
+
+    /**
+     * The number of vectors sampled to compute the quantization parameters.
+     */
+    static final int SAMPLE_SIZE = 1_000;
+
+    /**
+     * The encodings the quantizer supports.
+     */
+    enum Encoding {
+        /**
+         * Four bits per dimension, two dimensions per byte.
+         */
+        INT4,
+        /**
+         * One bit per dimension that records on which side of the centroid of all vectors the dimension is.
+         */
+        BINARY,
+        /**
+         * Eight bits per dimension, quantized like Lucene's {@link ScalarQuantizer} does.
+         */
+        INT8
+    }
+
+    /**
+     * Visits the vectors of a field in ordinal order.
+     */
+    @FunctionalInterface
+    interface VectorSource {
+        void forEach(VectorConsumer consumer) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface VectorConsumer {
+        void accept(float[] vector) throws IOException;
+    }
+
+    final int dims;
+    final VectorSimilarityFunction similarity;
+
+    private ES813VectorQuantizer(int dims, VectorSimilarityFunction similarity) {
+        this.dims = dims;
+        this.similarity = similarity;
+    }
+
+    /**
+     * Compute the quantization parameters from {@code count} vectors.
+     *
+     * @param confidenceInterval the share of values that {@link Encoding#INT4} and {@link Encoding#INT8} quantize
+     *                           without clipping or {@code null} to derive it from the number of dimensions
+     */
+    static ES813VectorQuantizer build(
+        Encoding encoding,
+        int dims,
+        VectorSimilarityFunction similarity,
+        int count,
+        VectorSource vectors,
+        Float confidenceInterval
+    ) throws IOException {
+        return switch (encoding) {
+            case INT4 -> Int4.build(dims, similarity, count, vectors, confidenceInterval);
+            case BINARY -> Binary.build(dims, similarity, vectors);
+            case INT8 -> Int8.build(dims, similarity, count, vectors, confidenceInterval);
+        };
+    }
+
+    /**
+     * Read the quantization parameters written by {@link #writeParameters}.
+     */
+    static ES813VectorQuantizer read(Encoding encoding, int dims, VectorSimilarityFunction similarity, DataInput in) throws IOException {
+        return switch (encoding) {
+            case INT4 -> new Int4(dims, similarity, Float.intBitsToFloat(in.readInt()), Float.intBitsToFloat(in.readInt()));
+            case BINARY -> {
+                float[] centroid = new float[dims];
+                in.readFloats(centroid, 0, dims);
+                yield new Binary(dims, similarity, centroid);
+            }
+            case INT8 -> new Int8(
+                dims,
+                similarity,
+                Float.intBitsToFloat(in.readInt()),
+                Float.intBitsToFloat(in.readInt()),
+                Float.intBitsToFloat(in.readInt())
+            );
+        };
+    }
+
+    abstract Encoding encoding();
+
+    abstract void writeParameters(DataOutput out) throws IOException;
+
+    /**
+     * The number of bytes of a quantized vector, without its corrections.
+     */
+    abstract int bytesPerVector();
+
+    /**
+     * The number of correction floats of a quantized vector.
+     */
+    abstract int corrections();
+
+    /**
+     * Quantize {@code vector} into {@code quantized} and {@code corrections}.
+     */
+    final void quantize(float[] vector, byte[] quantized, float[] corrections) {
+        if (similarity == VectorSimilarityFunction.COSINE) {
+            vector = normalize(vector);
+        }
+        doQuantize(vector, quantized, corrections);
+    }
+
+    abstract void doQuantize(float[] vector, byte[] quantized, float[] corrections);
+
+    /**
+     * Estimate the similarity score of two quantized vectors. The score is on the same
+     * scale as {@link VectorSimilarityFunction#compare(float[], float[])}.
+     */
+    abstract float score(byte[] a, float[] aCorrections, byte[] b, float[] bCorrections);
+
+    static float[] normalize(float[] vector) {
+        float[] copy = Arrays.copyOf(vector, vector.length);
+        float norm = (float) Math.sqrt(VectorUtil.dotProduct(copy, copy));
+        if (norm > 0) {
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] /= norm;
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Turn an estimated dot product into a score like {@link VectorSimilarityFunction} does.
+     */
+    final float scoreDotProduct(float dotProduct) {
+        return switch (similarity) {
+            case DOT_PRODUCT, COSINE -> Math.max((1 + dotProduct) / 2, 0);
+            case MAXIMUM_INNER_PRODUCT -> dotProduct < 0 ? 1 / (1 + -1 * dotProduct) : dotProduct + 1;
+            case EUCLIDEAN -> throw new IllegalStateException("euclidean scores are computed from the distance");
+        };
+    }
+
+    static float squareDistanceScore(float squareDistance) {
+        return 1 / (1 + Math.max(squareDistance, 0));
+    }
+
+    static float confidenceInterval(int dims, Float confidenceInterval) {
+        return confidenceInterval != null ? confidenceInterval : Math.max(0.9f, 1f - 1f / (dims + 1));
+    }
+
+    /**
+     * The lower and upper bounds of the values of up to {@link #SAMPLE_SIZE} evenly spread vectors once
+     * {@code 1 - confidenceInterval} of the values are clipped, or {@code null} if there are no vectors.
+     */
+    static float[] quantiles(int dims, VectorSimilarityFunction similarity, int count, VectorSource vectors, float confidenceInterval)
+        throws IOException {
+        final int stride = Math.max(1, count / SAMPLE_SIZE);
+        final float[] sample = new float[Math.min(count, SAMPLE_SIZE) * dims];
+        final int[] upTo = new int[2];
+        vectors.forEach(vector -> {
+            // upTo[0] is the ordinal of the vector, upTo[1] the number of sampled values
+            if (upTo[0]++ % stride == 0 && upTo[1] < sample.length) {
+                float[] v = similarity == VectorSimilarityFunction.COSINE ? normalize(vector) : vector;
+                System.arraycopy(v, 0, sample, upTo[1], dims);
+                upTo[1] += dims;
+            }
+        });
+        if (upTo[1] == 0) {
+            return null;
+        }
+        Arrays.sort(sample, 0, upTo[1]);
+        final int clipped = (int) (upTo[1] * (1 - confidenceInterval) / 2);
+        return new float[] { sample[clipped], sample[upTo[1] - 1 - clipped] };
+    }
+
+    /**
+     * Scalar quantization to 4 bits. Values are clipped to the {@code [lower, upper]}
+     * range that holds the configured share of all values and mapped to {@code [0, 15]}.
+     */
+    static final class Int4 extends ES813VectorQuantizer {
+        private static final int MAX_VALUE = 15;
+
+        private final float lower;
+        private final float upper;
+        private final float alpha;
+
+        Int4(int dims, VectorSimilarityFunction similarity, float lower, float upper) {
+            super(dims, similarity);
+            this.lower = lower;
+            this.upper = upper;
+            this.alpha = upper > lower ? (upper - lower) / MAX_VALUE : 1f;
+        }
+
+        static Int4 build(int dims, VectorSimilarityFunction similarity, int count, VectorSource vectors, Float confidenceInterval)
+            throws IOException {
+            final float[] quantiles = quantiles(dims, similarity, count, vectors, confidenceInterval(dims, confidenceInterval));
+            if (quantiles == null) {
+                return new Int4(dims, similarity, 0f, 0f);
+            }
+            return new Int4(dims, similarity, quantiles[0], quantiles[1]);
+        }
+
+        @Override
+        Encoding encoding() {
+            return Encoding.INT4;
+        }
+
+        @Override
+        void writeParameters(DataOutput out) throws IOException {
+            out.writeInt(Float.floatToIntBits(lower));
+            out.writeInt(Float.floatToIntBits(upper));
+        }
+
+        @Override
+        int bytesPerVector() {
+            return (dims + 1) / 2;
+        }
+
+        @Override
+        int corrections() {
+            return 1;
+        }
+
+        @Override
+        void doQuantize(float[] vector, byte[] quantized, float[] corrections) {
+            Arrays.fill(quantized, (byte) 0);
+            int sum = 0;
+            for (int i = 0; i < dims; i++) {
+                float value = Math.min(Math.max(vector[i], lower), upper);
+                int q = Math.round((value - lower) / alpha);
+                sum += q;
+                quantized[i >> 1] |= (byte) ((i & 1) == 0 ? q : q << 4);
+            }
+            corrections[0] = sum;
+        }
+
+        @Override
+        float score(byte[] a, float[] aCorrections, byte[] b, float[] bCorrections) {
+            // padding nibbles are 0 in both vectors so they add nothing
+            if (similarity == VectorSimilarityFunction.EUCLIDEAN) {
+                int squareDistance = 0;
+                for (int i = 0; i < a.length; i++) {
+                    int low = (a[i] & 0x0F) - (b[i] & 0x0F);
+                    int high = ((a[i] >> 4) & 0x0F) - ((b[i] >> 4) & 0x0F);
+                    squareDistance += low * low + high * high;
+                }
+                return squareDistanceScore(alpha * alpha * squareDistance);
+            }
+            int dotProduct = 0;
+            for (int i = 0; i < a.length; i++) {
+                dotProduct += (a[i] & 0x0F) * (b[i] & 0x0F) + ((a[i] >> 4) & 0x0F) * ((b[i] >> 4) & 0x0F);
+            }
+            // each value is alpha * q + lower
+            float estimate = alpha * alpha * dotProduct + alpha * lower * (aCorrections[0] + bCorrections[0]) + dims * lower * lower;
+            return scoreDotProduct(estimate);
+        }
+    }
+
+    /**
+     * Binary quantization. Each dimension is a single bit that tells whether it is above
+     * the centroid of all vectors. The angle between two vectors, relative to the centroid,
+     * is estimated from the share of bits that differ and the similarity is rebuilt from it
+     * with the distance of each vector to the centroid and its dot product with the centroid.
+     */
+    static final class Binary extends ES813VectorQuantizer {
+        private final float[] centroid;
+        private final float centroidDotProduct;
+
+        Binary(int dims, VectorSimilarityFunction similarity, float[] centroid) {
+            super(dims, similarity);
+            this.centroid = centroid;
+            this.centroidDotProduct = VectorUtil.dotProduct(centroid, centroid);
+        }
+
+        static Binary build(int dims, VectorSimilarityFunction similarity, VectorSource vectors) throws IOException {
+            final double[] sum = new double[dims];
+            final int[] count = new int[1];
+            vectors.forEach(vector -> {
+                float[] v = similarity == VectorSimilarityFunction.COSINE ? normalize(vector) : vector;
+                for (int i = 0; i < dims; i++) {
+                    sum[i] += v[i];
+                }
+                count[0]++;
+            });
+            final float[] centroid = new float[dims];
+            if (count[0] > 0) {
+                for (int i = 0; i < dims; i++) {
+                    centroid[i] = (float) (sum[i] / count[0]);
+                }
+            }
+            return new Binary(dims, similarity, centroid);
+        }
+
+        @Override
+        Encoding encoding() {
+            return Encoding.BINARY;
+        }
+
+        @Override
+        void writeParameters(DataOutput out) throws IOException {
+            for (float value : centroid) {
+                out.writeInt(Float.floatToIntBits(value));
+            }
+        }
+
+        @Override
+        int bytesPerVector() {
+            return (dims + 7) / 8;
+        }
+
+        @Override
+        int corrections() {
+            return 2;
+        }
+
+        @Override
+        void doQuantize(float[] vector, byte[] quantized, float[] corrections) {
+            Arrays.fill(quantized, (byte) 0);
+            float squareDistance = 0;
+            for (int i = 0; i < dims; i++) {
+                float diff = vector[i] - centroid[i];
+                if (diff > 0) {
+                    quantized[i >> 3] |= (byte) (1 << (i & 7));
+                }
+                squareDistance += diff * diff;
+            }
+            corrections[0] = (float) Math.sqrt(squareDistance);
+            corrections[1] = VectorUtil.dotProduct(vector, centroid);
+        }
+
+        @Override
+        float score(byte[] a, float[] aCorrections, byte[] b, float[] bCorrections) {
+            int differentBits = 0;
+            for (int i = 0; i < a.length; i++) {
+                differentBits += Integer.bitCount((a[i] ^ b[i]) & 0xFF);
+            }
+            // the dot product of the vectors relative to the centroid
+            float centered = aCorrections[0] * bCorrections[0] * (float) Math.cos(Math.PI * differentBits / dims);
+            if (similarity == VectorSimilarityFunction.EUCLIDEAN) {
+                return squareDistanceScore(aCorrections[0] * aCorrections[0] + bCorrections[0] * bCorrections[0] - 2 * centered);
+            }
+            return scoreDotProduct(centered + aCorrections[1] + bCorrections[1] - centroidDotProduct);
+        }
+    }
+
+    /**
+     * Scalar quantization to 8 bits with Lucene's {@link ScalarQuantizer}. The quantized vectors and their
+     * corrections are laid out like the ones of Lucene's {@code Lucene99ScalarQuantizedVectorsFormat} so
+     * they can be scored with the SIMD scorers of {@code org.elasticsearch.vec.VectorScorerFactory}.
+     */
+    static final class Int8 extends ES813VectorQuantizer {
+        private final ScalarQuantizer quantizer;
+        private final ScalarQuantizedVectorSimilarity similarityScorer;
+
+        Int8(int dims, VectorSimilarityFunction similarity, float lower, float upper, float confidenceInterval) {
+            super(dims, similarity);
+            // a single distinct value would make the range, and so the scale, of the quantization 0
+            this.quantizer = new ScalarQuantizer(lower, upper > lower ? upper : lower + 1f, confidenceInterval);
+            this.similarityScorer = ScalarQuantizedVectorSimilarity.fromVectorSimilarity(similarity, quantizer.getConstantMultiplier());
+        }
+
+        static Int8 build(int dims, VectorSimilarityFunction similarity, int count, VectorSource vectors, Float confidenceInterval)
+            throws IOException {
+            final float interval = confidenceInterval(dims, confidenceInterval);
+            final float[] quantiles = quantiles(dims, similarity, count, vectors, interval);
+            if (quantiles == null) {
+                return new Int8(dims, similarity, 0f, 0f, interval);
+            }
+            return new Int8(dims, similarity, quantiles[0], quantiles[1], interval);
+        }
+
+        /**
+         * The multiplier that turns the similarity of two quantized vectors into their estimated similarity.
+         */
+        float constantMultiplier() {
+            return quantizer.getConstantMultiplier();
+        }
+
+        @Override
+        Encoding encoding() {
+            return Encoding.INT8;
+        }
+
+        @Override
+        void writeParameters(DataOutput out) throws IOException {
+            out.writeInt(Float.floatToIntBits(quantizer.getLowerQuantile()));
+            out.writeInt(Float.floatToIntBits(quantizer.getUpperQuantile()));
+            out.writeInt(Float.floatToIntBits(quantizer.getConfidenceInterval()));
+        }
+
+        @Override
+        int bytesPerVector() {
+            return dims;
+        }
+
+        @Override
+        int corrections() {
+            return 1;
+        }
+
+        @Override
+        void doQuantize(float[] vector, byte[] quantized, float[] corrections) {
+            corrections[0] = quantizer.quantize(vector, quantized, similarity);
+        }
+
+        @Override
+        float score(byte[] a, float[] aCorrections, byte[] b, float[] bCorrections) {
+            return similarityScorer.score(a, aCorrections[0], b, bCorrections[0]);
+        }
+    }
+}
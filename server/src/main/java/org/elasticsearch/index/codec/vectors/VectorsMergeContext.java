@@ -0,0 +1,133 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.KnnFieldVectorsWriter;
+import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.Sorter;
+import org.elasticsearch.common.metrics.CounterMetric;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How the HNSW graphs of a shard's vector fields are built when segments are merged: with how many workers
+ * and on which executor. Also tracks the time spent merging vector fields.
+ */
+public final class VectorsMergeContext {
+
+    private final int numMergeWorkers;
+    @Nullable
+    private final ExecutorService mergeExecutor;
+    private final CounterMetric totalTimeInNanos = new CounterMetric();
+
+    /**
+     * @param numMergeWorkers how many threads build a graph on merge, {@code 1} builds it on the merge thread
+     * @param mergeExecutor the executor of the workers, {@code null} if and only if {@code numMergeWorkers} is {@code 1}
+     */
+    public VectorsMergeContext(int numMergeWorkers, @Nullable ExecutorService mergeExecutor) {
+        if (numMergeWorkers < 1) {
+            throw new IllegalArgumentException("numMergeWorkers must be at least 1; numMergeWorkers=" + numMergeWorkers);
+        }
+        if ((numMergeWorkers == 1) != (mergeExecutor == null)) {
+            throw new IllegalArgumentException("a merge executor is required if and only if there is more than one merge worker");
+        }
+        this.numMergeWorkers = numMergeWorkers;
+        this.mergeExecutor = mergeExecutor;
+    }
+
+    /**
+     * Builds graphs on the merge thread.
+     */
+    public static VectorsMergeContext singleThreaded() {
+        return new VectorsMergeContext(1, null);
+    }
+
+    /**
+     * Builds graphs with as many workers as the {@link ThreadPool.Names#VECTOR_MERGE} thread pool has threads.
+     */
+    public static VectorsMergeContext of(ThreadPool threadPool) {
+        final ThreadPool.Info info = threadPool.info(ThreadPool.Names.VECTOR_MERGE);
+        if (info == null || info.getMax() <= 1) {
+            return singleThreaded();
+        }
+        return new VectorsMergeContext(info.getMax(), threadPool.executor(ThreadPool.Names.VECTOR_MERGE));
+    }
+
+    public int numMergeWorkers() {
+        return numMergeWorkers;
+    }
+
+    @Nullable
+    public ExecutorService mergeExecutor() {
+        return mergeExecutor;
+    }
+
+    /**
+     * The total time spent merging vector fields, including building their graphs.
+     */
+    public long totalTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalTimeInNanos.count());
+    }
+
+    /**
+     * Wraps {@code writer} to track the time it spends merging fields.
+     */
+    public KnnVectorsWriter trackMerges(KnnVectorsWriter writer) {
+        return new TimedKnnVectorsWriter(writer);
+    }
+
+    private final class TimedKnnVectorsWriter extends KnnVectorsWriter {
+        private final KnnVectorsWriter delegate;
+
+        TimedKnnVectorsWriter(KnnVectorsWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public KnnFieldVectorsWriter<?> addField(FieldInfo fieldInfo) throws IOException {
+            return delegate.addField(fieldInfo);
+        }
+
+        @Override
+        public void flush(int maxDoc, Sorter.DocMap sortMap) throws IOException {
+            delegate.flush(maxDoc, sortMap);
+        }
+
+        @Override
+        public void mergeOneField(FieldInfo fieldInfo, MergeState mergeState) throws IOException {
+            final long start = System.nanoTime();
+            try {
+                delegate.mergeOneField(fieldInfo, mergeState);
+            } finally {
+                totalTimeInNanos.inc(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            delegate.finish();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return delegate.ramBytesUsed();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.zstd;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene90.compressing.Lucene90CompressingStoredFieldsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+
+/**
+ * {@link Codec} that compresses stored fields with zstd and delegates everything
+ * else. Segments only record the codec's name so this must be registered with
+ * SPI and the no-arg constructor must be able to read any segment it wrote.
+ * Postings, doc values and vectors record their own per field formats so they
+ * can be read by the {@link Lucene99Codec} no matter which formats were used to
+ * write them.
+ */
+public final class ES813ZstdCodec extends FilterCodec {
+    public static final String NAME = "ES813Zstd";
+    public static final int DEFAULT_LEVEL = 3;
+
+    /**
+     * Chunks are half the size of the ones {@code best_compression} uses so
+     * reading a document decompresses less.
+     */
+    private static final int CHUNK_SIZE = 10 * 24 * 1024;
+    private static final int MAX_DOCS_PER_CHUNK = 4096;
+    private static final int BLOCK_SHIFT = 10;
+
+    private final StoredFieldsFormat storedFieldsFormat;
+
+    /**
+     * Used by SPI to read segments.
+     */
+    public ES813ZstdCodec() {
+        this(new Lucene99Codec(), DEFAULT_LEVEL);
+    }
+
+    public ES813ZstdCodec(Codec delegate, int level) {
+        super(NAME, delegate);
+        this.storedFieldsFormat = new Lucene90CompressingStoredFieldsFormat(
+            "ES813ZstdStoredFields",
+            new ZstdCompressionMode(level),
+            CHUNK_SIZE,
+            MAX_DOCS_PER_CHUNK,
+            BLOCK_SHIFT
+        );
+    }
+
+    @Override
+    public StoredFieldsFormat storedFieldsFormat() {
+        return storedFieldsFormat;
+    }
+}
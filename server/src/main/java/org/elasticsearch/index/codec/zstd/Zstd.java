@@ -0,0 +1,106 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.zstd;
+
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.util.Native;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Access to the zstd library that the {@code zstd} codec uses. The library is
+ * bundled with the zstd-jni jar for every platform that we ship for and is
+ * loaded while bootstrapping, before the security manager is installed. The
+ * codec is disabled if it can't be loaded.
+ */
+public final class Zstd {
+
+    private static final Logger logger = LogManager.getLogger(Zstd.class);
+
+    /**
+     * The lowest compression level that the {@code zstd} codec supports.
+     */
+    public static final int MIN_LEVEL = 1;
+    /**
+     * The highest compression level that the {@code zstd} codec supports. zstd
+     * goes up to 22 but levels above 19 need a lot of memory to decompress.
+     */
+    public static final int MAX_LEVEL = 19;
+
+    private static final boolean AVAILABLE = load();
+
+    /**
+     * The most decompression contexts that are kept around for reuse, each takes about 100kb of native memory.
+     */
+    private static final int MAX_POOLED_DECOMPRESSION_CONTEXTS = 64;
+
+    /**
+     * Lucene never closes {@link org.apache.lucene.codecs.compressing.Decompressor}s so they can't own a
+     * decompression context. Instead they borrow one from here for every chunk they read.
+     */
+    private static final BlockingQueue<ZstdDecompressCtx> DECOMPRESSION_CONTEXTS = new ArrayBlockingQueue<>(
+        MAX_POOLED_DECOMPRESSION_CONTEXTS
+    );
+
+    private static boolean load() {
+        try {
+            Native.load();
+            logger.debug("zstd library loaded");
+            return true;
+        } catch (LinkageError | RuntimeException e) {
+            logger.debug("unable to load the zstd library, the [zstd] codec will be disabled", e);
+            return false;
+        }
+    }
+
+    private Zstd() {}
+
+    /**
+     * Is the zstd library available? The first call loads it.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    static void ensureAvailable() {
+        if (AVAILABLE == false) {
+            throw new IllegalStateException("the zstd library isn't available on this node");
+        }
+    }
+
+    /**
+     * The maximum size of the compressed form of {@code length} bytes.
+     */
+    static int compressBound(int length) {
+        return Math.toIntExact(com.github.luben.zstd.Zstd.compressBound(length));
+    }
+
+    static ZstdCompressCtx createCompressionContext(int level) {
+        return new ZstdCompressCtx().setLevel(level);
+    }
+
+    /**
+     * Borrow a decompression context, it must be given back with {@link #releaseDecompressionContext}.
+     */
+    static ZstdDecompressCtx borrowDecompressionContext() {
+        final ZstdDecompressCtx dctx = DECOMPRESSION_CONTEXTS.poll();
+        return dctx == null ? new ZstdDecompressCtx() : dctx;
+    }
+
+    static void releaseDecompressionContext(ZstdDecompressCtx dctx) {
+        if (DECOMPRESSION_CONTEXTS.offer(dctx) == false) {
+            dctx.close();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.zstd;
+
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdException;
+
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.ByteBuffersDataInput;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+
+/**
+ * {@link CompressionMode} that compresses stored fields with zstd.
+ * <p>
+ *     Like Lucene's preset dictionary modes each chunk is split into a dictionary
+ *     and {@value #NUM_SUB_BLOCKS} sub blocks. The dictionary is a slice of the
+ *     chunk's own data and every sub block is compressed with it, so reading a
+ *     document decompresses the dictionary and the sub blocks that hold the
+ *     document rather than the whole chunk.
+ * </p>
+ */
+final class ZstdCompressionMode extends CompressionMode {
+    private static final int NUM_SUB_BLOCKS = 10;
+    private static final int DICT_SIZE_FACTOR = 6;
+
+    private final int level;
+
+    ZstdCompressionMode(int level) {
+        if (level < Zstd.MIN_LEVEL || level > Zstd.MAX_LEVEL) {
+            throw new IllegalArgumentException(
+                "zstd level must be between [" + Zstd.MIN_LEVEL + "] and [" + Zstd.MAX_LEVEL + "] but was [" + level + "]"
+            );
+        }
+        this.level = level;
+    }
+
+    @Override
+    public Compressor newCompressor() {
+        return new ZstdCompressor(level);
+    }
+
+    @Override
+    public Decompressor newDecompressor() {
+        return new ZstdDecompressor();
+    }
+
+    @Override
+    public String toString() {
+        return "ZSTD(level=" + level + ")";
+    }
+
+    private static final class ZstdCompressor extends Compressor {
+        private final int level;
+        private byte[] buffer = BytesRef.EMPTY_BYTES;
+        private byte[] compressed = BytesRef.EMPTY_BYTES;
+        private ZstdCompressCtx cctx;
+
+        ZstdCompressor(int level) {
+            this.level = level;
+        }
+
+        @Override
+        public void compress(ByteBuffersDataInput buffersInput, DataOutput out) throws IOException {
+            Zstd.ensureAvailable();
+            if (cctx == null) {
+                cctx = Zstd.createCompressionContext(level);
+            }
+            final int len = Math.toIntExact(buffersInput.length());
+            buffer = ArrayUtil.growNoCopy(buffer, len);
+            buffersInput.readBytes(buffer, 0, len);
+
+            final int dictLength = len / (NUM_SUB_BLOCKS * DICT_SIZE_FACTOR);
+            final int blockLength = (len - dictLength + NUM_SUB_BLOCKS - 1) / NUM_SUB_BLOCKS;
+            out.writeVInt(dictLength);
+            out.writeVInt(blockLength);
+
+            compressed = ArrayUtil.growNoCopy(compressed, Zstd.compressBound(Math.max(dictLength, blockLength)));
+
+            // the dictionary itself is compressed without a dictionary
+            cctx.loadDict(BytesRef.EMPTY_BYTES);
+            if (dictLength > 0) {
+                compressBlock(out, 0, dictLength);
+                cctx.loadDict(ArrayUtil.copyOfSubArray(buffer, 0, dictLength));
+            }
+            for (int start = dictLength; start < len; start += blockLength) {
+                compressBlock(out, start, Math.min(blockLength, len - start));
+            }
+        }
+
+        private void compressBlock(DataOutput out, int offset, int length) throws IOException {
+            final int compressedLength = cctx.compressByteArray(compressed, 0, compressed.length, buffer, offset, length);
+            out.writeVInt(compressedLength);
+            out.writeBytes(compressed, 0, compressedLength);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (cctx != null) {
+                cctx.close();
+                cctx = null;
+            }
+        }
+    }
+
+    private static final class ZstdDecompressor extends Decompressor {
+        private byte[] compressed = BytesRef.EMPTY_BYTES;
+        private byte[] dict = BytesRef.EMPTY_BYTES;
+        private byte[] block = BytesRef.EMPTY_BYTES;
+
+        @Override
+        public void decompress(DataInput in, int originalLength, int offset, int length, BytesRef bytes) throws IOException {
+            assert offset + length <= originalLength;
+            if (length == 0) {
+                bytes.length = 0;
+                return;
+            }
+            Zstd.ensureAvailable();
+            final int dictLength = in.readVInt();
+            final int blockLength = in.readVInt();
+            bytes.bytes = ArrayUtil.growNoCopy(bytes.bytes, length);
+            bytes.offset = 0;
+            bytes.length = 0;
+
+            final ZstdDecompressCtx dctx = Zstd.borrowDecompressionContext();
+            try {
+                // a borrowed context may still hold the dictionary of another chunk
+                dctx.loadDict(BytesRef.EMPTY_BYTES);
+                if (dictLength > 0) {
+                    if (dict.length != dictLength) {
+                        // zstd-jni takes the whole array as the dictionary
+                        dict = new byte[dictLength];
+                    }
+                    decompressBlock(in, in.readVInt(), dctx, dict, dictLength);
+                    copyOverlap(dict, 0, dictLength, offset, length, bytes);
+                    dctx.loadDict(dict);
+                }
+                block = ArrayUtil.growNoCopy(block, blockLength);
+                for (int start = dictLength; start < originalLength && bytes.length < length; start += blockLength) {
+                    final int compressedLength = in.readVInt();
+                    final int end = Math.min(start + blockLength, originalLength);
+                    if (end <= offset) {
+                        // the sub block is before the requested bytes, skip it without decompressing it
+                        in.skipBytes(compressedLength);
+                        continue;
+                    }
+                    decompressBlock(in, compressedLength, dctx, block, end - start);
+                    copyOverlap(block, start, end, offset, length, bytes);
+                }
+            } finally {
+                Zstd.releaseDecompressionContext(dctx);
+            }
+            assert bytes.length == length : bytes.length + " != " + length;
+        }
+
+        private void decompressBlock(DataInput in, int compressedLength, ZstdDecompressCtx dctx, byte[] into, int expectedLength)
+            throws IOException {
+            compressed = ArrayUtil.growNoCopy(compressed, compressedLength);
+            in.readBytes(compressed, 0, compressedLength);
+            final int decompressedLength;
+            try {
+                decompressedLength = dctx.decompressByteArray(into, 0, expectedLength, compressed, 0, compressedLength);
+            } catch (ZstdException e) {
+                throw new CorruptIndexException("zstd failed to decompress", in, e);
+            }
+            if (decompressedLength != expectedLength) {
+                throw new CorruptIndexException(
+                    "expected [" + expectedLength + "] decompressed bytes but got [" + decompressedLength + "]",
+                    in
+                );
+            }
+        }
+
+        /**
+         * Copy the part of {@code [start, end)} of the original chunk that overlaps
+         * the requested {@code [offset, offset + length)} to the end of {@code bytes}.
+         */
+        private static void copyOverlap(byte[] decompressed, int start, int end, int offset, int length, BytesRef bytes) {
+            final int from = Math.max(start, offset);
+            final int to = Math.min(end, offset + length);
+            if (from < to) {
+                System.arraycopy(decompressed, from - start, bytes.bytes, bytes.length, to - from);
+                bytes.length += to - from;
+            }
+        }
+
+        @Override
+        public Decompressor clone() {
+            return new ZstdDecompressor();
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.engine;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.ByteArray;
+import org.elasticsearch.common.util.BytesRefHash;
+import org.elasticsearch.common.util.IntArray;
+import org.elasticsearch.common.util.LongArray;
+import org.elasticsearch.core.Releasable;
+import org.elasticsearch.core.Releasables;
+import org.elasticsearch.index.translog.Translog;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link Map} from _uid to {@link VersionValue} that stores the uids and the
+ * version values in a few paged primitive arrays rather than in an object per
+ * document. Updates between refreshes can put millions of entries into the
+ * {@link LiveVersionMap} and with a {@link java.util.concurrent.ConcurrentHashMap}
+ * each of them costs a node, a {@link BytesRef}, a {@code byte[]}, a
+ * {@link VersionValue} and a {@link Translog.Location}.
+ * <p>
+ * Entries are split into stripes by the hash of their uid. Each stripe is a
+ * {@link BytesRefHash} that assigns ids to the uids and parallel arrays that
+ * hold the values of each id. Stripes are synchronized so that operations on
+ * different uids mostly don't contend. Removed entries are only marked as
+ * removed, their uid stays in the stripe until the map is released on refresh.
+ * {@link VersionValue}s are built on every read.
+ * <p>
+ * The arrays come from the engine's {@link BigArrays} so they are accounted for
+ * in the circuit breaker and must be {@link #close closed}. Once closed the map
+ * is empty: reads find nothing and writes fail.
+ */
+final class CompactVersionValueMap extends AbstractMap<BytesRef, VersionValue> implements Accountable, Releasable {
+
+    private static final int STRIPE_BITS = 4;
+
+    private static final byte REMOVED = 0;
+    private static final byte INDEX = 1;
+    private static final byte INDEX_WITH_LOCATION = 2;
+    private static final byte DELETE = 3;
+
+    private final BigArrays bigArrays;
+    private final int capacityPerStripe;
+    // stripes are only allocated once they get their first entry so that empty maps, which we build on every refresh, are free
+    private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(1 << STRIPE_BITS);
+    private volatile boolean closed;
+
+    CompactVersionValueMap(BigArrays bigArrays, int expectedSize) {
+        this.bigArrays = bigArrays;
+        this.capacityPerStripe = Math.max(expectedSize >> STRIPE_BITS, 1);
+    }
+
+    private static int stripeIndex(BytesRef uid) {
+        // use the high bits of the hash, the BytesRefHash of the stripe mixes all of them to pick a slot
+        return uid.hashCode() >>> (Integer.SIZE - STRIPE_BITS);
+    }
+
+    private Stripe stripeForWrite(BytesRef uid) {
+        final int index = stripeIndex(uid);
+        final Stripe stripe = stripes.get(index);
+        if (stripe != null) {
+            return stripe;
+        }
+        if (closed) {
+            throw new IllegalStateException("version map is closed");
+        }
+        final Stripe newStripe = new Stripe(bigArrays, capacityPerStripe);
+        if (stripes.compareAndSet(index, null, newStripe) == false) {
+            newStripe.close();
+        }
+        return stripes.get(index);
+    }
+
+    @Override
+    public VersionValue get(Object key) {
+        if (key instanceof BytesRef uid) {
+            final Stripe stripe = stripes.get(stripeIndex(uid));
+            return stripe == null ? null : stripe.get(uid);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public VersionValue put(BytesRef key, VersionValue value) {
+        return stripeForWrite(key).put(key, value);
+    }
+
+    @Override
+    public VersionValue remove(Object key) {
+        if (key instanceof BytesRef uid) {
+            final Stripe stripe = stripes.get(stripeIndex(uid));
+            return stripe == null ? null : stripe.remove(uid);
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            final Stripe stripe = stripes.get(i);
+            if (stripe != null) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all entries and releases the arrays that held them.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < stripes.length(); i++) {
+            final Stripe stripe = stripes.getAndSet(i, null);
+            if (stripe != null) {
+                stripe.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        clear();
+    }
+
+    /**
+     * A point in time copy of the entries. Used when merging version maps and in tests.
+     */
+    @Override
+    public Set<Entry<BytesRef, VersionValue>> entrySet() {
+        final Set<Entry<BytesRef, VersionValue>> entries = new HashSet<>();
+        for (int i = 0; i < stripes.length(); i++) {
+            final Stripe stripe = stripes.get(i);
+            if (stripe != null) {
+                entries.addAll(stripe.entries());
+            }
+        }
+        return Collections.unmodifiableSet(entries);
+    }
+
+    /**
+     * The bytes used by the stripes. Like the accounting of the {@link java.util.concurrent.ConcurrentHashMap}
+     * version maps this leaves out the fixed size of the map itself so an empty map uses {@code 0} bytes.
+     */
+    @Override
+    public long ramBytesUsed() {
+        long bytes = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            final Stripe stripe = stripes.get(i);
+            if (stripe != null) {
+                bytes += stripe.ramBytesUsed();
+            }
+        }
+        return bytes;
+    }
+
+    private static final class Stripe implements Accountable, Releasable {
+        private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(Stripe.class);
+
+        private final BigArrays bigArrays;
+        private final BytesRefHash uids;
+        private ByteArray types;
+        private LongArray versions;
+        private LongArray seqNos;
+        private LongArray terms;
+        // the translog generation for indexed docs and the delete time for deleted ones
+        private LongArray generationsOrTimes;
+        private LongArray translogLocations;
+        private IntArray translogSizes;
+        private int size;
+        private boolean closed;
+
+        Stripe(BigArrays bigArrays, int capacity) {
+            this.bigArrays = bigArrays;
+            this.uids = new BytesRefHash(capacity, bigArrays);
+            this.types = bigArrays.newByteArray(capacity, false);
+            this.versions = bigArrays.newLongArray(capacity, false);
+            this.seqNos = bigArrays.newLongArray(capacity, false);
+            this.terms = bigArrays.newLongArray(capacity, false);
+            this.generationsOrTimes = bigArrays.newLongArray(capacity, false);
+            this.translogLocations = bigArrays.newLongArray(capacity, false);
+            this.translogSizes = bigArrays.newIntArray(capacity, false);
+        }
+
+        synchronized VersionValue get(BytesRef uid) {
+            if (closed) {
+                return null;
+            }
+            final long id = uids.find(uid);
+            return id < 0 ? null : read(id);
+        }
+
+        synchronized VersionValue put(BytesRef uid, VersionValue value) {
+            if (closed) {
+                throw new IllegalStateException("version map is closed");
+            }
+            long id = uids.add(uid);
+            final VersionValue previous;
+            if (id < 0) {
+                id = -1 - id;
+                previous = read(id);
+            } else {
+                previous = null;
+                grow(id + 1);
+            }
+            if (previous == null) {
+                size++;
+            }
+            write(id, value);
+            return previous;
+        }
+
+        synchronized VersionValue remove(BytesRef uid) {
+            if (closed) {
+                return null;
+            }
+            final long id = uids.find(uid);
+            if (id < 0) {
+                return null;
+            }
+            final VersionValue previous = read(id);
+            if (previous != null) {
+                types.set(id, REMOVED);
+                size--;
+            }
+            return previous;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized List<Entry<BytesRef, VersionValue>> entries() {
+            final List<Entry<BytesRef, VersionValue>> entries = new ArrayList<>(size);
+            if (closed) {
+                return entries;
+            }
+            final BytesRef spare = new BytesRef();
+            for (long id = 0; id < uids.size(); id++) {
+                final VersionValue value = read(id);
+                if (value != null) {
+                    entries.add(new SimpleImmutableEntry<>(BytesRef.deepCopyOf(uids.get(id, spare)), value));
+                }
+            }
+            return entries;
+        }
+
+        @Override
+        public synchronized long ramBytesUsed() {
+            if (closed) {
+                return 0;
+            }
+            long bytes = SHALLOW_SIZE + uids.ramBytesUsed() + types.ramBytesUsed() + translogSizes.ramBytesUsed();
+            bytes += versions.ramBytesUsed() + seqNos.ramBytesUsed() + terms.ramBytesUsed();
+            bytes += generationsOrTimes.ramBytesUsed() + translogLocations.ramBytesUsed();
+            return bytes;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed == false) {
+                closed = true;
+                size = 0;
+                Releasables.close(uids, types, versions, seqNos, terms, generationsOrTimes, translogLocations, translogSizes);
+            }
+        }
+
+        private void grow(long minSize) {
+            types = bigArrays.grow(types, minSize);
+            versions = bigArrays.grow(versions, minSize);
+            seqNos = bigArrays.grow(seqNos, minSize);
+            terms = bigArrays.grow(terms, minSize);
+            generationsOrTimes = bigArrays.grow(generationsOrTimes, minSize);
+            translogLocations = bigArrays.grow(translogLocations, minSize);
+            translogSizes = bigArrays.grow(translogSizes, minSize);
+        }
+
+        private VersionValue read(long id) {
+            return switch (types.get(id)) {
+                case REMOVED -> null;
+                case INDEX -> new IndexVersionValue(null, versions.get(id), seqNos.get(id), terms.get(id));
+                case INDEX_WITH_LOCATION -> new IndexVersionValue(
+                    new Translog.Location(generationsOrTimes.get(id), translogLocations.get(id), translogSizes.get(id)),
+                    versions.get(id),
+                    seqNos.get(id),
+                    terms.get(id)
+                );
+                case DELETE -> new DeleteVersionValue(versions.get(id), seqNos.get(id), terms.get(id), generationsOrTimes.get(id));
+                default -> throw new IllegalStateException("unknown version value type [" + types.get(id) + "]");
+            };
+        }
+
+        private void write(long id, VersionValue value) {
+            versions.set(id, value.version);
+            seqNos.set(id, value.seqNo);
+            terms.set(id, value.term);
+            if (value instanceof DeleteVersionValue delete) {
+                types.set(id, DELETE);
+                generationsOrTimes.set(id, delete.time);
+            } else if (value.getLocation() != null) {
+                final Translog.Location location = value.getLocation();
+                types.set(id, INDEX_WITH_LOCATION);
+                generationsOrTimes.set(id, location.generation);
+                translogLocations.set(id, location.translogLocation);
+                translogSizes.set(id, location.size);
+            } else {
+                types.set(id, INDEX);
+            }
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.codec.CodecService;
+import org.elasticsearch.index.codec.zstd.ES813ZstdCodec;
+import org.elasticsearch.index.codec.zstd.Zstd;
 import org.elasticsearch.index.seqno.RetentionLeases;
 import org.elasticsearch.index.shard.ShardId;
 import org.elasticsearch.index.store.Store;
@@ -99,16 +101,33 @@ public final class EngineConfig {
             case "best_compression":
             case "lucene_default":
                 return s;
+            case "zstd":
+                if (Zstd.isAvailable() == false) {
+                    throw new IllegalArgumentException("[index.codec] can't be [zstd] because the zstd library isn't available");
+                }
+                return s;
             default:
                 if (Codec.availableCodecs().contains(s) == false) { // we don't error message the not officially supported ones
                     throw new IllegalArgumentException(
-                        "unknown value for [index.codec] must be one of [default, best_compression] but was: " + s
+                        "unknown value for [index.codec] must be one of [default, best_compression, zstd] but was: " + s
                     );
                 }
                 return s;
         }
     }, Property.IndexScope, Property.NodeScope, Property.ServerlessPublic);
 
+    /**
+     * The zstd compression level used by the {@code zstd} codec. Higher levels
+     * compress better but index more slowly; decompression speed barely changes.
+     */
+    public static final Setting<Integer> INDEX_CODEC_ZSTD_LEVEL_SETTING = Setting.intSetting(
+        "index.codec.zstd.level",
+        ES813ZstdCodec.DEFAULT_LEVEL,
+        Zstd.MIN_LEVEL,
+        Zstd.MAX_LEVEL,
+        Property.IndexScope
+    );
+
     // don't convert to Setting<> and register... we only set this in tests and register via a test plugin
     public static final String USE_COMPOUND_FILE = "index.use_compound_file";
 
@@ -232,7 +232,13 @@ public class InternalEngine extends Engine {
         this.relativeTimeInNanosSupplier = config().getRelativeTimeInNanosSupplier();
         this.lastFlushTimestamp = relativeTimeInNanosSupplier.getAsLong(); // default to creation timestamp
         this.liveVersionMapArchive = createLiveVersionMapArchive();
-        this.versionMap = new LiveVersionMap(liveVersionMapArchive);
+        // compact version maps are released on refresh so they can't be handed over to an archive
+        final boolean compactVersionMap = engineConfig.getIndexSettings().getValue(IndexSettings.INDEX_COMPACT_VERSION_MAP_SETTING)
+            && liveVersionMapArchive == LiveVersionMapArchive.NOOP_ARCHIVE;
+        this.versionMap = new LiveVersionMap(
+            liveVersionMapArchive,
+            compactVersionMap ? engineConfig.getTranslogConfig().getBigArrays() : null
+        );
         final TranslogDeletionPolicy translogDeletionPolicy = new TranslogDeletionPolicy();
         store.incRef();
         IndexWriter writer = null;
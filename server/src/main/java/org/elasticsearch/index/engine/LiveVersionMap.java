@@ -12,8 +12,10 @@ import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.concurrent.ConcurrentCollections;
 import org.elasticsearch.common.util.concurrent.KeyedLock;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
 
 import java.io.IOException;
@@ -28,23 +30,40 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
 
     private final LiveVersionMapArchive archive;
 
+    /**
+     * The arrays to keep the version values of each refresh in a {@link CompactVersionValueMap}
+     * or {@code null} to keep them in a {@link java.util.concurrent.ConcurrentHashMap}.
+     */
+    @Nullable
+    private final BigArrays compactMapBigArrays;
+
     LiveVersionMap() {
         this(LiveVersionMapArchive.NOOP_ARCHIVE);
     }
 
     LiveVersionMap(LiveVersionMapArchive archive) {
+        this(archive, null);
+    }
+
+    LiveVersionMap(LiveVersionMapArchive archive, @Nullable BigArrays compactMapBigArrays) {
+        // compact maps are released once they are refreshed, archived maps outlive that so they have to be plain maps
+        assert compactMapBigArrays == null || archive == LiveVersionMapArchive.NOOP_ARCHIVE : "compact version maps can't be archived";
         this.archive = archive;
+        this.compactMapBigArrays = compactMapBigArrays;
+        this.maps = new Maps(compactMapBigArrays);
     }
 
     public static final class VersionLookup {
 
         /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
          *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this from RAM. */
+         *  clear this from RAM. Not used if the map is a {@link CompactVersionValueMap}, it accounts for its own arrays. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
         private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
         private final Map<BytesRef, VersionValue> map;
+        @Nullable
+        private final CompactVersionValueMap compactMap;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -64,6 +83,7 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
 
         // Modifies the map of this instance by merging with the given VersionLookup
         public void merge(VersionLookup versionLookup) {
+            assert compactMap == null && versionLookup.compactMap == null : "compact version maps can't be archived";
             long existingEntriesSize = 0;
             for (var entry : versionLookup.map.entrySet()) {
                 var existingValue = map.get(entry.getKey());
@@ -77,6 +97,14 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
         // Visible for testing
         VersionLookup(Map<BytesRef, VersionValue> map) {
             this.map = map;
+            this.compactMap = map instanceof CompactVersionValueMap c ? c : null;
+        }
+
+        static VersionLookup create(@Nullable BigArrays compactMapBigArrays, int expectedSize) {
+            if (compactMapBigArrays != null) {
+                return new VersionLookup(new CompactVersionValueMap(compactMapBigArrays, expectedSize));
+            }
+            return new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize));
         }
 
         public VersionValue get(BytesRef key) {
@@ -84,6 +112,9 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
         }
 
         VersionValue put(BytesRef key, VersionValue value) {
+            if (compactMap != null) {
+                return compactMap.put(key, value);
+            }
             long ramAccounting = mapEntryBytesUsed(key, value);
             VersionValue previousValue = map.put(key, value);
             ramAccounting += previousValue == null ? 0 : -mapEntryBytesUsed(key, previousValue);
@@ -109,7 +140,7 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
 
         VersionValue remove(BytesRef uid) {
             VersionValue previousValue = map.remove(uid);
-            if (previousValue != null) {
+            if (previousValue != null && compactMap == null) {
                 adjustRamUsage(-mapEntryBytesUsed(uid, previousValue));
             }
             return previousValue;
@@ -131,13 +162,22 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
         }
 
         public long ramBytesUsed() {
-            return ramBytesUsed.get();
+            return compactMap == null ? ramBytesUsed.get() : compactMap.ramBytesUsed();
         }
 
         public static long mapEntryBytesUsed(BytesRef key, VersionValue value) {
             return (BASE_BYTES_PER_BYTESREF + key.bytes.length) + (BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed());
         }
 
+        /**
+         * Releases the arrays of a {@link CompactVersionValueMap}, the map must not be used anymore.
+         */
+        void release() {
+            if (compactMap != null) {
+                compactMap.close();
+            }
+        }
+
         // Used only for testing
         Map<BytesRef, VersionValue> getMap() {
             return map;
@@ -156,15 +196,19 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
         // have the volatile read of the Maps reference to make it visible even across threads.
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
+        @Nullable
+        final BigArrays compactMapBigArrays;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess, @Nullable BigArrays compactMapBigArrays) {
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
+            this.compactMapBigArrays = compactMapBigArrays;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(@Nullable BigArrays compactMapBigArrays) {
+            // 16 is the default capacity of a ConcurrentHashMap
+            this(VersionLookup.create(compactMapBigArrays, 16), VersionLookup.EMPTY, false, compactMapBigArrays);
         }
 
         boolean isSafeAccessMode() {
@@ -183,9 +227,10 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
          */
         Maps buildTransitionMap() {
             return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
+                VersionLookup.create(compactMapBigArrays, current.size()),
                 current,
-                shouldInheritSafeAccess()
+                shouldInheritSafeAccess(),
+                compactMapBigArrays
             );
         }
 
@@ -193,7 +238,7 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
          * similar to `invalidateOldMap` but used only for the `unsafeKeysMap` used for assertions
          */
         Maps invalidateOldMapForAssert() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, compactMapBigArrays);
         }
 
         /**
@@ -201,7 +246,17 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
          */
         Maps invalidateOldMap(LiveVersionMapArchive archive) {
             archive.afterRefresh(old);
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            // the entries of the old map are visible in the new searcher so lookups that still race with us can miss them
+            old.release();
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, compactMapBigArrays);
+        }
+
+        /**
+         * Releases both maps, they must not be used anymore.
+         */
+        void release() {
+            current.release();
+            old.release();
         }
 
         void put(BytesRef uid, VersionValue version) {
@@ -223,17 +278,17 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
         }
 
         long ramBytesUsed() {
-            return current.ramBytesUsed.get() + old.ramBytesUsed.get();
+            return current.ramBytesUsed() + old.ramBytesUsed();
         }
     }
 
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap = new Maps(null);
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -462,7 +517,9 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        final Maps previous = maps;
+        maps = new Maps(compactMapBigArrays);
+        previous.release();
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedForTombstones is non-zero after clear since the
@@ -494,7 +551,7 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
      */
     long reclaimableRefreshRamBytes() {
         return archive == LiveVersionMapArchive.NOOP_ARCHIVE
-            ? maps.current.ramBytesUsed.get()
+            ? maps.current.ramBytesUsed()
             : maps.ramBytesUsed() + archive.getReclaimableRamBytes();
     }
 
@@ -511,7 +568,7 @@ public final class LiveVersionMap implements ReferenceManager.RefreshListener, A
      * fraction of the Archive entries that are kept around until an ongoing unpromotable refresh is finished.
      */
     long getRefreshingBytes() {
-        return archive == LiveVersionMapArchive.NOOP_ARCHIVE ? maps.old.ramBytesUsed.get() : archive.getRefreshingRamBytes();
+        return archive == LiveVersionMapArchive.NOOP_ARCHIVE ? maps.old.ramBytesUsed() : archive.getRefreshingRamBytes();
     }
 
     /**
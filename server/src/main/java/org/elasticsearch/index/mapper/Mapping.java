@@ -171,6 +171,16 @@ public final class Mapping implements ToXContentFragment {
         return new Mapping(mergedRoot, mergedMetadataMappers.values().toArray(new MetadataFieldMapper[0]), mergedMeta);
     }
 
+    /**
+     * Merges two dynamic mapping updates into one, for instance the updates that several documents of a bulk request require.
+     * @param update the dynamic mapping update to add to this one
+     * @return the combined dynamic mapping update
+     * @throws IllegalArgumentException if the updates map the same field differently
+     */
+    public Mapping mergeDynamicUpdate(Mapping update) {
+        return merge(update, MergeReason.MAPPING_AUTO_UPDATE, Long.MAX_VALUE);
+    }
+
     /**
      * Returns a copy of this mapper that ensures that the number of fields isn't greater than the provided fields budget.
      * @param fieldsBudget the maximum number of fields this mapping may have
@@ -46,8 +46,13 @@ import org.apache.lucene.util.VectorUtil;
 import org.elasticsearch.common.xcontent.support.XContentMapValues;
 import org.elasticsearch.index.IndexVersion;
 import org.elasticsearch.index.IndexVersions;
+import org.elasticsearch.index.codec.vectors.ES813BbqFlatVectorFormat;
+import org.elasticsearch.index.codec.vectors.ES813BbqHnswVectorsFormat;
 import org.elasticsearch.index.codec.vectors.ES813FlatVectorFormat;
+import org.elasticsearch.index.codec.vectors.ES813Int4HnswVectorsFormat;
 import org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat;
+import org.elasticsearch.index.codec.vectors.ES813Int8QuantizedFlatVectorFormat;
+import org.elasticsearch.index.codec.vectors.VectorsMergeContext;
 import org.elasticsearch.index.fielddata.FieldDataContext;
 import org.elasticsearch.index.fielddata.IndexFieldData;
 import org.elasticsearch.index.mapper.ArraySourceValueFetcher;
@@ -69,6 +74,7 @@ import org.elasticsearch.search.vectors.ESDiversifyingChildrenByteKnnVectorQuery
 import org.elasticsearch.search.vectors.ESDiversifyingChildrenFloatKnnVectorQuery;
 import org.elasticsearch.search.vectors.ESKnnByteVectorQuery;
 import org.elasticsearch.search.vectors.ESKnnFloatVectorQuery;
+import org.elasticsearch.search.vectors.RescoreKnnFloatVectorQuery;
 import org.elasticsearch.search.vectors.VectorSimilarityQuery;
 import org.elasticsearch.xcontent.ToXContent;
 import org.elasticsearch.xcontent.XContentBuilder;
@@ -221,7 +227,8 @@ public class DenseVectorFieldMapper extends FieldMapper {
                     dims.getValue(),
                     indexed.getValue(),
                     similarity.getValue(),
-                    meta.getValue()
+                    meta.getValue(),
+                    indexOptions.getValue() == null ? 1f : indexOptions.getValue().oversample()
                 ),
                 indexOptions.getValue(),
                 indexVersionCreated,
@@ -791,6 +798,18 @@ public class DenseVectorFieldMapper extends FieldMapper {
         public abstract VectorSimilarityFunction vectorSimilarityFunction(IndexVersion indexVersion, ElementType elementType);
     }
 
+    /**
+     * How many more candidates knn searches on {@code int4_hnsw} fields collect before rescoring. Four
+     * bits per dimension are enough to keep the true nearest neighbours close to the top of the candidates.
+     */
+    static final float INT4_OVERSAMPLE = 1.5f;
+
+    /**
+     * How many more candidates knn searches on {@code bbq_hnsw} and {@code bbq_flat} fields collect before
+     * rescoring. A single bit per dimension only roughly orders the vectors so it takes more candidates.
+     */
+    static final float BBQ_OVERSAMPLE = 3f;
+
     private abstract static class IndexOptions implements ToXContent {
         final String type;
 
@@ -798,11 +817,23 @@ public class DenseVectorFieldMapper extends FieldMapper {
             this.type = type;
         }
 
-        abstract KnnVectorsFormat getVectorsFormat();
+        /**
+         * The format of the vectors of an index created on {@code indexVersionCreated}. Graph based formats
+         * build their graphs on merge as {@code mergeContext} says.
+         */
+        abstract KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext);
 
         boolean supportsElementType(ElementType elementType) {
             return true;
         }
+
+        /**
+         * How many more candidates a knn search collects from the quantized vectors before
+         * it rescores them with the raw vectors. {@code 1} means the candidates aren't rescored.
+         */
+        float oversample() {
+            return 1f;
+        }
     }
 
     private enum VectorIndexType {
@@ -863,6 +894,52 @@ public class DenseVectorFieldMapper extends FieldMapper {
                 MappingParser.checkNoRemainingFields(fieldName, indexOptionsMap);
                 return new Int8FlatIndexOption(confidenceInterval);
             }
+        },
+        INT4_HNSW("int4_hnsw") {
+            @Override
+            public IndexOptions parseIndexOptions(String fieldName, Map<String, ?> indexOptionsMap) {
+                Object mNode = indexOptionsMap.remove("m");
+                Object efConstructionNode = indexOptionsMap.remove("ef_construction");
+                Object confidenceIntervalNode = indexOptionsMap.remove("confidence_interval");
+                if (mNode == null) {
+                    mNode = Lucene99HnswVectorsFormat.DEFAULT_MAX_CONN;
+                }
+                if (efConstructionNode == null) {
+                    efConstructionNode = Lucene99HnswVectorsFormat.DEFAULT_BEAM_WIDTH;
+                }
+                int m = XContentMapValues.nodeIntegerValue(mNode);
+                int efConstruction = XContentMapValues.nodeIntegerValue(efConstructionNode);
+                Float confidenceInterval = null;
+                if (confidenceIntervalNode != null) {
+                    confidenceInterval = (float) XContentMapValues.nodeDoubleValue(confidenceIntervalNode);
+                }
+                MappingParser.checkNoRemainingFields(fieldName, indexOptionsMap);
+                return new Int4HnswIndexOptions(m, efConstruction, confidenceInterval);
+            }
+        },
+        BBQ_HNSW("bbq_hnsw") {
+            @Override
+            public IndexOptions parseIndexOptions(String fieldName, Map<String, ?> indexOptionsMap) {
+                Object mNode = indexOptionsMap.remove("m");
+                Object efConstructionNode = indexOptionsMap.remove("ef_construction");
+                if (mNode == null) {
+                    mNode = Lucene99HnswVectorsFormat.DEFAULT_MAX_CONN;
+                }
+                if (efConstructionNode == null) {
+                    efConstructionNode = Lucene99HnswVectorsFormat.DEFAULT_BEAM_WIDTH;
+                }
+                int m = XContentMapValues.nodeIntegerValue(mNode);
+                int efConstruction = XContentMapValues.nodeIntegerValue(efConstructionNode);
+                MappingParser.checkNoRemainingFields(fieldName, indexOptionsMap);
+                return new BbqHnswIndexOptions(m, efConstruction);
+            }
+        },
+        BBQ_FLAT("bbq_flat") {
+            @Override
+            public IndexOptions parseIndexOptions(String fieldName, Map<String, ?> indexOptionsMap) {
+                MappingParser.checkNoRemainingFields(fieldName, indexOptionsMap);
+                return new BbqFlatIndexOptions();
+            }
         };
 
         static Optional<VectorIndexType> fromString(String type) {
@@ -898,7 +975,11 @@ public class DenseVectorFieldMapper extends FieldMapper {
         }
 
         @Override
-        KnnVectorsFormat getVectorsFormat() {
+        KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext) {
+            if (indexVersionCreated.onOrAfter(IndexVersions.INT8_FLAT_QUANTIZED_FORMAT)) {
+                return new ES813Int8QuantizedFlatVectorFormat(confidenceInterval);
+            }
+            // older indices may be read by nodes that don't know the new format
             return new ES813Int8FlatVectorFormat(confidenceInterval);
         }
 
@@ -936,7 +1017,7 @@ public class DenseVectorFieldMapper extends FieldMapper {
         }
 
         @Override
-        KnnVectorsFormat getVectorsFormat() {
+        KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext) {
             return new ES813FlatVectorFormat();
         }
 
@@ -965,8 +1046,14 @@ public class DenseVectorFieldMapper extends FieldMapper {
         }
 
         @Override
-        public KnnVectorsFormat getVectorsFormat() {
-            return new Lucene99HnswScalarQuantizedVectorsFormat(m, efConstruction, 1, confidenceInterval, null);
+        public KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext) {
+            return new Lucene99HnswScalarQuantizedVectorsFormat(
+                m,
+                efConstruction,
+                mergeContext.numMergeWorkers(),
+                confidenceInterval,
+                mergeContext.mergeExecutor()
+            );
         }
 
         @Override
@@ -1025,8 +1112,8 @@ public class DenseVectorFieldMapper extends FieldMapper {
         }
 
         @Override
-        public KnnVectorsFormat getVectorsFormat() {
-            return new Lucene99HnswVectorsFormat(m, efConstruction, 1, null);
+        public KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext) {
+            return new Lucene99HnswVectorsFormat(m, efConstruction, mergeContext.numMergeWorkers(), mergeContext.mergeExecutor());
         }
 
         @Override
@@ -1058,6 +1145,174 @@ public class DenseVectorFieldMapper extends FieldMapper {
         }
     }
 
+    private static class Int4HnswIndexOptions extends IndexOptions {
+        private final int m;
+        private final int efConstruction;
+        private final Float confidenceInterval;
+
+        private Int4HnswIndexOptions(int m, int efConstruction, Float confidenceInterval) {
+            super("int4_hnsw");
+            this.m = m;
+            this.efConstruction = efConstruction;
+            this.confidenceInterval = confidenceInterval;
+        }
+
+        @Override
+        public KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext) {
+            return new ES813Int4HnswVectorsFormat(
+                m,
+                efConstruction,
+                confidenceInterval,
+                mergeContext.numMergeWorkers(),
+                mergeContext.mergeExecutor()
+            );
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("type", type);
+            builder.field("m", m);
+            builder.field("ef_construction", efConstruction);
+            if (confidenceInterval != null) {
+                builder.field("confidence_interval", confidenceInterval);
+            }
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Int4HnswIndexOptions that = (Int4HnswIndexOptions) o;
+            return m == that.m && efConstruction == that.efConstruction && Objects.equals(confidenceInterval, that.confidenceInterval);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(m, efConstruction, confidenceInterval);
+        }
+
+        @Override
+        public String toString() {
+            return "{type="
+                + type
+                + ", m="
+                + m
+                + ", ef_construction="
+                + efConstruction
+                + ", confidence_interval="
+                + confidenceInterval
+                + "}";
+        }
+
+        @Override
+        boolean supportsElementType(ElementType elementType) {
+            return elementType != ElementType.BYTE;
+        }
+
+        @Override
+        float oversample() {
+            return INT4_OVERSAMPLE;
+        }
+    }
+
+    private static class BbqHnswIndexOptions extends IndexOptions {
+        private final int m;
+        private final int efConstruction;
+
+        private BbqHnswIndexOptions(int m, int efConstruction) {
+            super("bbq_hnsw");
+            this.m = m;
+            this.efConstruction = efConstruction;
+        }
+
+        @Override
+        public KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext) {
+            return new ES813BbqHnswVectorsFormat(m, efConstruction, mergeContext.numMergeWorkers(), mergeContext.mergeExecutor());
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("type", type);
+            builder.field("m", m);
+            builder.field("ef_construction", efConstruction);
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BbqHnswIndexOptions that = (BbqHnswIndexOptions) o;
+            return m == that.m && efConstruction == that.efConstruction;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, m, efConstruction);
+        }
+
+        @Override
+        public String toString() {
+            return "{type=" + type + ", m=" + m + ", ef_construction=" + efConstruction + "}";
+        }
+
+        @Override
+        boolean supportsElementType(ElementType elementType) {
+            return elementType != ElementType.BYTE;
+        }
+
+        @Override
+        float oversample() {
+            return BBQ_OVERSAMPLE;
+        }
+    }
+
+    private static class BbqFlatIndexOptions extends IndexOptions {
+
+        BbqFlatIndexOptions() {
+            super("bbq_flat");
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("type", type);
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        KnnVectorsFormat getVectorsFormat(IndexVersion indexVersionCreated, VectorsMergeContext mergeContext) {
+            return new ES813BbqFlatVectorFormat();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            return o != null && getClass() == o.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type);
+        }
+
+        @Override
+        boolean supportsElementType(ElementType elementType) {
+            return elementType != ElementType.BYTE;
+        }
+
+        @Override
+        float oversample() {
+            return BBQ_OVERSAMPLE;
+        }
+    }
+
     public static final TypeParser PARSER = new TypeParser(
         (n, c) -> new Builder(n, c.indexVersionCreated()),
         notInMultiFields(CONTENT_TYPE)
@@ -1069,6 +1324,7 @@ public class DenseVectorFieldMapper extends FieldMapper {
         private final boolean indexed;
         private final VectorSimilarity similarity;
         private final IndexVersion indexVersionCreated;
+        private final float oversample;
 
         public DenseVectorFieldType(
             String name,
@@ -1078,6 +1334,23 @@ public class DenseVectorFieldMapper extends FieldMapper {
             boolean indexed,
             VectorSimilarity similarity,
             Map<String, String> meta
+        ) {
+            this(name, indexVersionCreated, elementType, dims, indexed, similarity, meta, 1f);
+        }
+
+        /**
+         * @param oversample how many more candidates knn searches collect from the quantized
+         *                   vectors before they rescore them with the raw vectors
+         */
+        public DenseVectorFieldType(
+            String name,
+            IndexVersion indexVersionCreated,
+            ElementType elementType,
+            Integer dims,
+            boolean indexed,
+            VectorSimilarity similarity,
+            Map<String, String> meta,
+            float oversample
         ) {
             super(name, indexed, false, indexed == false, TextSearchInfo.NONE, meta);
             this.elementType = elementType;
@@ -1085,6 +1358,7 @@ public class DenseVectorFieldMapper extends FieldMapper {
             this.indexed = indexed;
             this.similarity = similarity;
             this.indexVersionCreated = indexVersionCreated;
+            this.oversample = oversample;
         }
 
         @Override
@@ -1278,9 +1552,14 @@ public class DenseVectorFieldMapper extends FieldMapper {
                         ? new ESDiversifyingChildrenByteKnnVectorQuery(name(), bytes, filter, numCands, parentFilter)
                         : new ESKnnByteVectorQuery(name(), bytes, numCands, filter);
                 }
-                case FLOAT -> parentFilter != null
-                    ? new ESDiversifyingChildrenFloatKnnVectorQuery(name(), queryVector, filter, numCands, parentFilter)
-                    : new ESKnnFloatVectorQuery(name(), queryVector, numCands, filter);
+                case FLOAT -> {
+                    if (parentFilter != null) {
+                        yield new ESDiversifyingChildrenFloatKnnVectorQuery(name(), queryVector, filter, numCands, parentFilter);
+                    }
+                    yield oversample > 1f
+                        ? new RescoreKnnFloatVectorQuery(name(), queryVector, numCands, oversample, filter)
+                        : new ESKnnFloatVectorQuery(name(), queryVector, numCands, filter);
+                }
             };
 
             if (similarityThreshold != null) {
@@ -1304,6 +1583,10 @@ public class DenseVectorFieldMapper extends FieldMapper {
         ElementType getElementType() {
             return elementType;
         }
+
+        float getOversample() {
+            return oversample;
+        }
     }
 
     private final IndexOptions indexOptions;
@@ -1355,7 +1638,8 @@ public class DenseVectorFieldMapper extends FieldMapper {
                 dims,
                 fieldType().indexed,
                 fieldType().similarity,
-                fieldType().meta()
+                fieldType().meta(),
+                fieldType().oversample
             );
             Mapper update = new DenseVectorFieldMapper(
                 simpleName(),
@@ -1468,17 +1752,25 @@ public class DenseVectorFieldMapper extends FieldMapper {
      * {@code null} if the default format should be used.
      */
     public KnnVectorsFormat getKnnVectorsFormatForField(KnnVectorsFormat defaultFormat) {
+        return getKnnVectorsFormatForField(defaultFormat, VectorsMergeContext.singleThreaded());
+    }
+
+    /**
+     * @return the custom kNN vectors format that is configured for this field, building its graph on merge
+     * as {@code mergeContext} says, or {@code defaultFormat} if the default format should be used.
+     */
+    public KnnVectorsFormat getKnnVectorsFormatForField(KnnVectorsFormat defaultFormat, VectorsMergeContext mergeContext) {
         final KnnVectorsFormat format;
         if (indexOptions == null) {
             format = defaultFormat;
         } else {
-            format = indexOptions.getVectorsFormat();
+            format = indexOptions.getVectorsFormat(indexCreatedVersion, mergeContext);
         }
         // It's legal to reuse the same format name as this is the same on-disk format.
         return new KnnVectorsFormat(format.getName()) {
             @Override
             public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
-                return format.fieldsWriter(state);
+                return mergeContext.trackMerges(format.fieldsWriter(state));
             }
 
             @Override
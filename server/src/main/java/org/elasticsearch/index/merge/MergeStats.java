@@ -8,6 +8,7 @@
 
 package org.elasticsearch.index.merge;
 
+import org.elasticsearch.TransportVersions;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.io.stream.Writeable;
@@ -37,6 +38,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long totalBytesPerSecAutoThrottle;
 
+    /** Total millis spent merging vector fields, including building their graphs. */
+    private long totalVectorsTimeInMillis;
+
     public MergeStats() {
 
     }
@@ -53,6 +57,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         totalStoppedTimeInMillis = in.readVLong();
         totalThrottledTimeInMillis = in.readVLong();
         totalBytesPerSecAutoThrottle = in.readVLong();
+        if (in.getTransportVersion().onOrAfter(TransportVersions.MERGE_STATS_VECTORS_TIME)) {
+            totalVectorsTimeInMillis = in.readVLong();
+        }
     }
 
     @Override
@@ -69,7 +76,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
             && currentSizeInBytes == that.currentSizeInBytes
             && totalStoppedTimeInMillis == that.totalStoppedTimeInMillis
             && totalThrottledTimeInMillis == that.totalThrottledTimeInMillis
-            && totalBytesPerSecAutoThrottle == that.totalBytesPerSecAutoThrottle;
+            && totalBytesPerSecAutoThrottle == that.totalBytesPerSecAutoThrottle
+            && totalVectorsTimeInMillis == that.totalVectorsTimeInMillis;
     }
 
     @Override
@@ -84,7 +92,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
             currentSizeInBytes,
             totalStoppedTimeInMillis,
             totalThrottledTimeInMillis,
-            totalBytesPerSecAutoThrottle
+            totalBytesPerSecAutoThrottle,
+            totalVectorsTimeInMillis
         );
     }
 
@@ -138,6 +147,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.totalSizeInBytes += mergeStats.totalSizeInBytes;
         this.totalStoppedTimeInMillis += mergeStats.totalStoppedTimeInMillis;
         this.totalThrottledTimeInMillis += mergeStats.totalThrottledTimeInMillis;
+        this.totalVectorsTimeInMillis += mergeStats.totalVectorsTimeInMillis;
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
         } else {
@@ -145,6 +155,10 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
     }
 
+    public void addTotalVectorsTimeInMillis(long vectorsTimeInMillis) {
+        this.totalVectorsTimeInMillis += vectorsTimeInMillis;
+    }
+
     /**
      * The total number of merges executed.
      */
@@ -194,6 +208,20 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return new TimeValue(totalTimeInMillis);
     }
 
+    /**
+     * The total time spent merging vector fields, including building their graphs (in milliseconds).
+     */
+    public long getTotalVectorsTimeInMillis() {
+        return this.totalVectorsTimeInMillis;
+    }
+
+    /**
+     * The total time spent merging vector fields, including building their graphs.
+     */
+    public TimeValue getTotalVectorsTime() {
+        return new TimeValue(totalVectorsTimeInMillis);
+    }
+
     public long getTotalNumDocs() {
         return this.totalNumDocs;
     }
@@ -241,6 +269,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.TOTAL_SIZE_IN_BYTES, Fields.TOTAL_SIZE, getTotalSize());
         builder.humanReadableField(Fields.TOTAL_STOPPED_TIME_IN_MILLIS, Fields.TOTAL_STOPPED_TIME, getTotalStoppedTime());
         builder.humanReadableField(Fields.TOTAL_THROTTLED_TIME_IN_MILLIS, Fields.TOTAL_THROTTLED_TIME, getTotalThrottledTime());
+        builder.humanReadableField(Fields.TOTAL_VECTORS_TIME_IN_MILLIS, Fields.TOTAL_VECTORS_TIME, getTotalVectorsTime());
         if (builder.humanReadable() && totalBytesPerSecAutoThrottle != -1) {
             builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC).value(ByteSizeValue.ofBytes(totalBytesPerSecAutoThrottle).toString());
         }
@@ -262,6 +291,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_STOPPED_TIME_IN_MILLIS = "total_stopped_time_in_millis";
         static final String TOTAL_THROTTLED_TIME = "total_throttled_time";
         static final String TOTAL_THROTTLED_TIME_IN_MILLIS = "total_throttled_time_in_millis";
+        static final String TOTAL_VECTORS_TIME = "total_vectors_time";
+        static final String TOTAL_VECTORS_TIME_IN_MILLIS = "total_vectors_time_in_millis";
         static final String TOTAL_DOCS = "total_docs";
         static final String TOTAL_SIZE = "total_size";
         static final String TOTAL_SIZE_IN_BYTES = "total_size_in_bytes";
@@ -282,5 +313,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         out.writeVLong(totalStoppedTimeInMillis);
         out.writeVLong(totalThrottledTimeInMillis);
         out.writeVLong(totalBytesPerSecAutoThrottle);
+        if (out.getTransportVersion().onOrAfter(TransportVersions.MERGE_STATS_VECTORS_TIME)) {
+            out.writeVLong(totalVectorsTimeInMillis);
+        }
     }
 }
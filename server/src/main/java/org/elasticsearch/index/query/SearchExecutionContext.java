@@ -24,6 +24,7 @@ import org.elasticsearch.client.internal.Client;
 import org.elasticsearch.common.ParsingException;
 import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
 import org.elasticsearch.common.lucene.search.Queries;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.Index;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.IndexSortConfig;
@@ -95,6 +96,8 @@ public class SearchExecutionContext extends QueryRewriteContext {
     private final IndexSearcher searcher;
     private boolean cacheable = true;
     private final SetOnce<Boolean> frozen = new SetOnce<>();
+    private long nowRoundingInMillis = 0;
+    private long roundedNowInMillis = -1;
     private Set<String> fieldsInIndex = null;
 
     private final Map<String, Query> namedQueries = new HashMap<>();
@@ -226,6 +229,7 @@ public class SearchExecutionContext extends QueryRewriteContext {
             source.allowedFields,
             source.requestSize
         );
+        this.nowRoundingInMillis = source.nowRoundingInMillis;
     }
 
     private SearchExecutionContext(
@@ -631,10 +635,38 @@ public class SearchExecutionContext extends QueryRewriteContext {
 
     /**
      * Returns the time in milliseconds that is shared across all resources involved. Even across shards and nodes.
+     * If {@link #roundNowTo rounded}, it is rounded up to the granularity and doesn't prevent caching.
      */
     public long nowInMillis() {
-        failIfFrozen();
-        return nowInMillis.getAsLong();
+        if (nowRoundingInMillis <= 0) {
+            failIfFrozen();
+            return nowInMillis.getAsLong();
+        }
+        // the request cache adds the rounded now to its key, but it must still be read before the key is computed
+        if (frozen.get() == Boolean.TRUE) {
+            throw new IllegalArgumentException("features that prevent cachability are disabled on this context");
+        }
+        final long now = nowInMillis.getAsLong();
+        final long rounded = Math.floorDiv(now, nowRoundingInMillis) * nowRoundingInMillis;
+        roundedNowInMillis = rounded == now ? now : rounded + nowRoundingInMillis;
+        return roundedNowInMillis;
+    }
+
+    /**
+     * Rounds {@link #nowInMillis()} up to a multiple of {@code nowRounding}, so that all the requests that run within the
+     * same window see the same {@code now} and can share their cached results. Rounding up rather than down keeps ranges
+     * that end at {@code now} matching the most recent documents.
+     */
+    public void roundNowTo(TimeValue nowRounding) {
+        this.nowRoundingInMillis = nowRounding.millis();
+    }
+
+    /**
+     * Returns the rounded {@code now} the request used, or {@code -1} if it didn't use a rounded {@code now}. Requests that
+     * did can only share cached results with requests that used the same {@code now}.
+     */
+    public long roundedNowInMillis() {
+        return roundedNowInMillis;
     }
 
     public Client getClient() {
@@ -51,6 +51,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -123,6 +124,7 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
     private final TranslogDeletionPolicy deletionPolicy;
     private final LongConsumer persistedSequenceNumberConsumer;
     private final OperationListener operationListener;
+    private final TranslogGroupCommit.Stats groupCommitStats = new TranslogGroupCommit.Stats();
 
     /**
      * Creates a new Translog instance. This method will create a new transaction log unless the given {@link TranslogGeneration} is
@@ -556,7 +558,9 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
                 persistedSequenceNumberConsumer,
                 bigArrays,
                 diskIoBufferPool,
-                operationListener
+                operationListener,
+                config.getGroupCommit(),
+                groupCommitStats
             );
         } catch (final IOException e) {
             throw new TranslogException(shardId, "failed to create new translog file", e);
@@ -893,7 +897,10 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
                 sizeInBytes(),
                 totalOperationsByMinGen(uncommittedGen),
                 sizeInBytesByMinGen(uncommittedGen),
-                earliestLastModifiedAge()
+                earliestLastModifiedAge(),
+                groupCommitStats.syncs(),
+                groupCommitStats.batchedSyncs(),
+                TimeUnit.NANOSECONDS.toMillis(groupCommitStats.waitTimeInNanos())
             );
         }
     }
@@ -1929,7 +1936,9 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
             },
             BigArrays.NON_RECYCLING_INSTANCE,
             DiskIoBufferPool.INSTANCE,
-            (d, s, l) -> {}
+            (d, s, l) -> {},
+            null,
+            new TranslogGroupCommit.Stats()
         );
         writer.close();
         return uuid;
@@ -12,6 +12,7 @@ import org.elasticsearch.common.io.DiskIoBufferPool;
 import org.elasticsearch.common.unit.ByteSizeUnit;
 import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.shard.ShardId;
 
@@ -33,6 +34,8 @@ public final class TranslogConfig {
     private final Path translogPath;
     private final ByteSizeValue bufferSize;
     private final OperationListener operationListener;
+    @Nullable
+    private final TranslogGroupCommit groupCommit;
 
     /**
      * Creates a new TranslogConfig instance
@@ -42,7 +45,26 @@ public final class TranslogConfig {
      * @param bigArrays a bigArrays instance used for temporarily allocating write operations
      */
     public TranslogConfig(ShardId shardId, Path translogPath, IndexSettings indexSettings, BigArrays bigArrays) {
-        this(shardId, translogPath, indexSettings, bigArrays, DEFAULT_BUFFER_SIZE, DiskIoBufferPool.INSTANCE);
+        this(shardId, translogPath, indexSettings, bigArrays, null);
+    }
+
+    /**
+     * Creates a new TranslogConfig instance
+     * @param shardId the shard ID this translog belongs to
+     * @param translogPath the path to use for the transaction log files
+     * @param indexSettings the index settings used to set internal variables
+     * @param bigArrays a bigArrays instance used for temporarily allocating write operations
+     * @param groupCommit the group commit that batches fsyncs with the other translogs on the same data path or {@code null} to fsync
+     *                    each translog on its own
+     */
+    public TranslogConfig(
+        ShardId shardId,
+        Path translogPath,
+        IndexSettings indexSettings,
+        BigArrays bigArrays,
+        @Nullable TranslogGroupCommit groupCommit
+    ) {
+        this(shardId, translogPath, indexSettings, bigArrays, DEFAULT_BUFFER_SIZE, DiskIoBufferPool.INSTANCE, (d, s, l) -> {}, groupCommit);
     }
 
     TranslogConfig(
@@ -64,6 +86,19 @@ public final class TranslogConfig {
         ByteSizeValue bufferSize,
         DiskIoBufferPool diskIoBufferPool,
         OperationListener operationListener
+    ) {
+        this(shardId, translogPath, indexSettings, bigArrays, bufferSize, diskIoBufferPool, operationListener, null);
+    }
+
+    public TranslogConfig(
+        ShardId shardId,
+        Path translogPath,
+        IndexSettings indexSettings,
+        BigArrays bigArrays,
+        ByteSizeValue bufferSize,
+        DiskIoBufferPool diskIoBufferPool,
+        OperationListener operationListener,
+        @Nullable TranslogGroupCommit groupCommit
     ) {
         this.bufferSize = bufferSize;
         this.indexSettings = indexSettings;
@@ -72,6 +107,7 @@ public final class TranslogConfig {
         this.bigArrays = bigArrays;
         this.diskIoBufferPool = diskIoBufferPool;
         this.operationListener = operationListener;
+        this.groupCommit = groupCommit;
     }
 
     /**
@@ -120,4 +156,12 @@ public final class TranslogConfig {
     public OperationListener getOperationListener() {
         return operationListener;
     }
+
+    /**
+     * The group commit that batches fsyncs with the other translogs on the same data path or {@code null} if group commit is disabled.
+     */
+    @Nullable
+    public TranslogGroupCommit getGroupCommit() {
+        return groupCommit;
+    }
 }
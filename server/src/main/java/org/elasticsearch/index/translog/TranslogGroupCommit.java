@@ -0,0 +1,155 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.translog;
+
+import org.elasticsearch.common.metrics.MeanMetric;
+import org.elasticsearch.core.CheckedRunnable;
+import org.elasticsearch.core.TimeValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Coalesces the fsyncs of all the translogs on a data path. Without it every
+ * {@link TranslogWriter} that syncs issues its own fsync whenever it likes and,
+ * with hundreds of shards writing with {@code index.translog.durability: request},
+ * those fsyncs keep the device busy with a stream of small journal commits.
+ * <p>
+ * The first thread to request a sync becomes the leader. It may wait for
+ * {@link TranslogGroupCommits#WINDOW_SETTING} for more syncs to join and then
+ * closes the batch. Every thread in the batch then runs its own fsync, all of
+ * them in parallel, so the filesystem can fold them into fewer journal commits.
+ * Syncs requested while a batch is running queue up for the next batch, which
+ * starts once every fsync of the running batch has completed.
+ * <p>
+ * Group commits are owned by the node's {@link TranslogGroupCommits}.
+ */
+public final class TranslogGroupCommit {
+
+    private final long windowNanos;
+    private final Object mutex = new Object();
+    // guarded by mutex
+    private List<Request> pending = new ArrayList<>();
+    // guarded by mutex, true from the moment a leader is elected until every fsync of its batch has completed
+    private boolean batchActive;
+    // guarded by mutex
+    private int runningFsyncs;
+
+    TranslogGroupCommit(TimeValue window) {
+        this.windowNanos = window.nanos();
+    }
+
+    /**
+     * Run {@code fsync} as part of a batch and block until it has completed. The
+     * fsync runs on the calling thread, in parallel with the other fsyncs of its batch.
+     */
+    void sync(CheckedRunnable<IOException> fsync, Stats stats) throws IOException {
+        final Request request = new Request(System.nanoTime());
+        boolean interrupted = false;
+        boolean leader = false;
+        try {
+            synchronized (mutex) {
+                pending.add(request);
+                while (request.started == false && batchActive) {
+                    try {
+                        mutex.wait();
+                    } catch (InterruptedException e) {
+                        // the request may already be part of a batch so we have to wait for it
+                        interrupted = true;
+                    }
+                }
+                if (request.started == false) {
+                    batchActive = true;
+                    leader = true;
+                }
+            }
+            if (leader) {
+                startBatch();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        stats.batchSize.inc(request.batchSize);
+        stats.waitTime.inc(request.startedNanos - request.queuedNanos);
+        try {
+            fsync.run();
+        } finally {
+            synchronized (mutex) {
+                if (--runningFsyncs == 0) {
+                    batchActive = false;
+                    mutex.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void startBatch() {
+        if (windowNanos > 0) {
+            LockSupport.parkNanos(windowNanos);
+        }
+        synchronized (mutex) {
+            final List<Request> batch = pending;
+            pending = new ArrayList<>();
+            final long startedNanos = System.nanoTime();
+            for (Request request : batch) {
+                request.startedNanos = startedNanos;
+                request.batchSize = batch.size();
+                request.started = true;
+            }
+            runningFsyncs = batch.size();
+            mutex.notifyAll();
+        }
+    }
+
+    private static final class Request {
+        private final long queuedNanos;
+        // written by the leader under the mutex before it sets started
+        private long startedNanos;
+        private int batchSize;
+        // guarded by mutex
+        private boolean started;
+
+        Request(long queuedNanos) {
+            this.queuedNanos = queuedNanos;
+        }
+    }
+
+    /**
+     * Group commit statistics of a single translog.
+     */
+    static final class Stats {
+        private final MeanMetric batchSize = new MeanMetric();
+        private final MeanMetric waitTime = new MeanMetric();
+
+        /**
+         * The number of syncs that went through group commit.
+         */
+        long syncs() {
+            return batchSize.count();
+        }
+
+        /**
+         * The sum of the sizes of the batches that each sync was part of.
+         */
+        long batchedSyncs() {
+            return batchSize.sum();
+        }
+
+        /**
+         * The total time syncs waited for their batch to start.
+         */
+        long waitTimeInNanos() {
+            return waitTime.sum();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.translog;
+
+import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.settings.Setting.Property;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.core.TimeValue;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link TranslogGroupCommit}s of a node, one for each data path that holds
+ * at least one shard. Owned by the {@link org.elasticsearch.indices.IndicesService}.
+ */
+public final class TranslogGroupCommits {
+
+    /**
+     * How long the leader of a group commit waits for more syncs to join its batch.
+     * {@code 0} only batches syncs that arrive while another batch is being fsynced
+     * and {@code -1}, the default, disables group commit.
+     */
+    public static final Setting<TimeValue> WINDOW_SETTING = Setting.timeSetting(
+        "indices.translog.group_commit.window",
+        TimeValue.MINUS_ONE,
+        TimeValue.MINUS_ONE,
+        Property.NodeScope
+    );
+
+    private final TimeValue window;
+    // guarded by this
+    private final Map<Path, Entry> groupCommits = new HashMap<>();
+
+    public TranslogGroupCommits(Settings nodeSettings) {
+        this.window = WINDOW_SETTING.get(nodeSettings);
+    }
+
+    /**
+     * The group commit shared by the translogs on {@code dataPath} or {@code null} if
+     * group commit is disabled. Every shard that acquires a group commit must
+     * {@link #release} it once it is closed.
+     */
+    @Nullable
+    public synchronized TranslogGroupCommit acquire(Path dataPath) {
+        if (window.nanos() < 0) {
+            return null;
+        }
+        final Entry entry = groupCommits.computeIfAbsent(
+            dataPath.toAbsolutePath().normalize(),
+            p -> new Entry(new TranslogGroupCommit(window))
+        );
+        entry.shards++;
+        return entry.groupCommit;
+    }
+
+    /**
+     * Release the group commit that a shard on {@code dataPath} acquired with {@link #acquire},
+     * it is dropped once no shard on the data path uses it.
+     */
+    public synchronized void release(Path dataPath) {
+        if (window.nanos() < 0) {
+            return;
+        }
+        final Path path = dataPath.toAbsolutePath().normalize();
+        final Entry entry = groupCommits.get(path);
+        assert entry != null : "no group commit to release for [" + path + "]";
+        if (entry != null && --entry.shards == 0) {
+            groupCommits.remove(path);
+        }
+    }
+
+    /**
+     * The number of data paths with a group commit.
+     */
+    synchronized int size() {
+        return groupCommits.size();
+    }
+
+    private static final class Entry {
+        private final TranslogGroupCommit groupCommit;
+        private int shards;
+
+        Entry(TranslogGroupCommit groupCommit) {
+            this.groupCommit = groupCommit;
+        }
+    }
+}
@@ -7,11 +7,13 @@
  */
 package org.elasticsearch.index.translog;
 
+import org.elasticsearch.TransportVersions;
 import org.elasticsearch.common.Strings;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.io.stream.Writeable;
 import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.xcontent.ToXContentFragment;
 import org.elasticsearch.xcontent.XContentBuilder;
 
@@ -25,6 +27,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int uncommittedOperations;
     private long earliestLastModifiedAge;
+    private long groupCommitSyncs;
+    private long groupCommitBatchedSyncs;
+    private long groupCommitWaitTimeInMillis;
 
     public TranslogStats() {}
 
@@ -34,6 +39,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         uncommittedOperations = in.readVInt();
         uncommittedSizeInBytes = in.readVLong();
         earliestLastModifiedAge = in.readVLong();
+        if (in.getTransportVersion().onOrAfter(TransportVersions.TRANSLOG_GROUP_COMMIT_STATS)) {
+            groupCommitSyncs = in.readVLong();
+            groupCommitBatchedSyncs = in.readVLong();
+            groupCommitWaitTimeInMillis = in.readVLong();
+        }
     }
 
     public TranslogStats(
@@ -42,6 +52,19 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         int uncommittedOperations,
         long uncommittedSizeInBytes,
         long earliestLastModifiedAge
+    ) {
+        this(numberOfOperations, translogSizeInBytes, uncommittedOperations, uncommittedSizeInBytes, earliestLastModifiedAge, 0, 0, 0);
+    }
+
+    public TranslogStats(
+        int numberOfOperations,
+        long translogSizeInBytes,
+        int uncommittedOperations,
+        long uncommittedSizeInBytes,
+        long earliestLastModifiedAge,
+        long groupCommitSyncs,
+        long groupCommitBatchedSyncs,
+        long groupCommitWaitTimeInMillis
     ) {
         if (numberOfOperations < 0) {
             throw new IllegalArgumentException("numberOfOperations must be >= 0");
@@ -58,11 +81,23 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (earliestLastModifiedAge < 0) {
             throw new IllegalArgumentException("earliestLastModifiedAge must be >= 0");
         }
+        if (groupCommitSyncs < 0) {
+            throw new IllegalArgumentException("groupCommitSyncs must be >= 0");
+        }
+        if (groupCommitBatchedSyncs < groupCommitSyncs) {
+            throw new IllegalArgumentException("groupCommitBatchedSyncs must be >= groupCommitSyncs");
+        }
+        if (groupCommitWaitTimeInMillis < 0) {
+            throw new IllegalArgumentException("groupCommitWaitTimeInMillis must be >= 0");
+        }
         this.numberOfOperations = numberOfOperations;
         this.translogSizeInBytes = translogSizeInBytes;
         this.uncommittedSizeInBytes = uncommittedSizeInBytes;
         this.uncommittedOperations = uncommittedOperations;
         this.earliestLastModifiedAge = earliestLastModifiedAge;
+        this.groupCommitSyncs = groupCommitSyncs;
+        this.groupCommitBatchedSyncs = groupCommitBatchedSyncs;
+        this.groupCommitWaitTimeInMillis = groupCommitWaitTimeInMillis;
     }
 
     public void add(TranslogStats translogStats) {
@@ -79,6 +114,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         } else {
             this.earliestLastModifiedAge = Math.min(this.earliestLastModifiedAge, translogStats.earliestLastModifiedAge);
         }
+        this.groupCommitSyncs += translogStats.groupCommitSyncs;
+        this.groupCommitBatchedSyncs += translogStats.groupCommitBatchedSyncs;
+        this.groupCommitWaitTimeInMillis += translogStats.groupCommitWaitTimeInMillis;
     }
 
     public long getTranslogSizeInBytes() {
@@ -103,6 +141,21 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return earliestLastModifiedAge;
     }
 
+    /** the number of syncs that went through the translog group commit, including those that were alone in their batch */
+    public long getGroupCommitSyncs() {
+        return groupCommitSyncs;
+    }
+
+    /** the average number of syncs in the group commit batches */
+    public double getGroupCommitAvgBatchSize() {
+        return groupCommitSyncs == 0 ? 0 : (double) groupCommitBatchedSyncs / groupCommitSyncs;
+    }
+
+    /** the total time syncs waited for their group commit batch to start */
+    public long getGroupCommitWaitTimeInMillis() {
+        return groupCommitWaitTimeInMillis;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("translog");
@@ -111,6 +164,13 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", ByteSizeValue.ofBytes(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        if (groupCommitSyncs > 0) {
+            builder.startObject("group_commit");
+            builder.field("syncs", groupCommitSyncs);
+            builder.field("avg_batch_size", getGroupCommitAvgBatchSize());
+            builder.humanReadableField("wait_time_in_millis", "wait_time", TimeValue.timeValueMillis(groupCommitWaitTimeInMillis));
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -127,6 +187,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         out.writeVInt(uncommittedOperations);
         out.writeVLong(uncommittedSizeInBytes);
         out.writeVLong(earliestLastModifiedAge);
+        if (out.getTransportVersion().onOrAfter(TransportVersions.TRANSLOG_GROUP_COMMIT_STATS)) {
+            out.writeVLong(groupCommitSyncs);
+            out.writeVLong(groupCommitBatchedSyncs);
+            out.writeVLong(groupCommitWaitTimeInMillis);
+        }
     }
 
     @Override
@@ -138,7 +203,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             && translogSizeInBytes == that.translogSizeInBytes
             && uncommittedOperations == that.uncommittedOperations
             && uncommittedSizeInBytes == that.uncommittedSizeInBytes
-            && earliestLastModifiedAge == that.earliestLastModifiedAge;
+            && earliestLastModifiedAge == that.earliestLastModifiedAge
+            && groupCommitSyncs == that.groupCommitSyncs
+            && groupCommitBatchedSyncs == that.groupCommitBatchedSyncs
+            && groupCommitWaitTimeInMillis == that.groupCommitWaitTimeInMillis;
     }
 
     @Override
@@ -148,7 +216,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             translogSizeInBytes,
             uncommittedOperations,
             uncommittedSizeInBytes,
-            earliestLastModifiedAge
+            earliestLastModifiedAge,
+            groupCommitSyncs,
+            groupCommitBatchedSyncs,
+            groupCommitWaitTimeInMillis
         );
     }
 }
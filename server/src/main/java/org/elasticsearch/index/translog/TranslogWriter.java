@@ -21,7 +21,9 @@ import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.concurrent.ReleasableLock;
 import org.elasticsearch.core.Assertions;
+import org.elasticsearch.core.CheckedRunnable;
 import org.elasticsearch.core.IOUtils;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasables;
 import org.elasticsearch.core.SuppressForbidden;
 import org.elasticsearch.core.Tuple;
@@ -84,6 +86,10 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     private final DiskIoBufferPool diskIoBufferPool;
 
+    @Nullable
+    private final TranslogGroupCommit groupCommit;
+    private final TranslogGroupCommit.Stats groupCommitStats;
+
     // package private for testing
     LastModifiedTimeCache lastModifiedTimeCache;
 
@@ -105,7 +111,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final LongConsumer persistedSequenceNumberConsumer,
         final BigArrays bigArrays,
         final DiskIoBufferPool diskIoBufferPool,
-        final OperationListener operationListener
+        final OperationListener operationListener,
+        @Nullable final TranslogGroupCommit groupCommit,
+        final TranslogGroupCommit.Stats groupCommitStats
     ) throws IOException {
         super(initialCheckpoint.generation, channel, path, header);
         assert initialCheckpoint.offset == channel.position()
@@ -133,6 +141,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         this.seenSequenceNumbers = Assertions.ENABLED ? new HashMap<>() : null;
         this.tragedy = tragedy;
         this.operationListener = operationListener;
+        this.groupCommit = groupCommit;
+        this.groupCommitStats = groupCommitStats;
         this.lastModifiedTimeCache = new LastModifiedTimeCache(-1, -1, -1);
     }
 
@@ -152,8 +162,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final LongConsumer persistedSequenceNumberConsumer,
         final BigArrays bigArrays,
         DiskIoBufferPool diskIoBufferPool,
-        final OperationListener operationListener
-
+        final OperationListener operationListener,
+        @Nullable final TranslogGroupCommit groupCommit,
+        final TranslogGroupCommit.Stats groupCommitStats
     ) throws IOException {
         final Path checkpointFile = file.getParent().resolve(Translog.CHECKPOINT_FILE_NAME);
 
@@ -196,7 +207,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 persistedSequenceNumberConsumer,
                 bigArrays,
                 diskIoBufferPool,
-                operationListener
+                operationListener,
+                groupCommit,
+                groupCommitStats
             );
         } catch (Exception exception) {
             // if we fail to bake the file-generation into the checkpoint we stick with the file and once we recover and that
@@ -504,10 +517,18 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     // we can continue writing to the buffer etc.
                     try {
                         assert lastSyncedCheckpoint.offset != checkpointToSync.offset || toWrite.length() == 0;
-                        if (lastSyncedCheckpoint.offset != checkpointToSync.offset) {
-                            channel.force(false);
+                        final boolean forceChannel = lastSyncedCheckpoint.offset != checkpointToSync.offset;
+                        final CheckedRunnable<IOException> fsync = () -> {
+                            if (forceChannel) {
+                                channel.force(false);
+                            }
+                            Checkpoint.write(checkpointChannel, checkpointPath, checkpointToSync);
+                        };
+                        if (groupCommit == null) {
+                            fsync.run();
+                        } else {
+                            groupCommit.sync(fsync, groupCommitStats);
                         }
-                        Checkpoint.write(checkpointChannel, checkpointPath, checkpointToSync);
                     } catch (final Exception ex) {
                         closeWithTragicEvent(ex);
                         throw ex;
@@ -11,10 +11,18 @@ package org.elasticsearch.indices;
 import org.elasticsearch.Version;
 import org.elasticsearch.features.FeatureSpecification;
 import org.elasticsearch.features.NodeFeature;
+import org.elasticsearch.index.IndexMode;
+import org.elasticsearch.index.codec.CodecService;
 
 import java.util.Map;
+import java.util.Set;
 
 public class IndicesFeatures implements FeatureSpecification {
+    @Override
+    public Set<NodeFeature> getFeatures() {
+        return Set.of(CodecService.ZSTD_CODEC_FEATURE, IndexMode.LOGS_INDEX_MODE_FEATURE);
+    }
+
     @Override
     public Map<NodeFeature, Version> getHistoricalFeatures() {
         return Map.of(IndicesService.SUPPORTS_AUTO_PUT, Version.V_8_8_0);
@@ -59,6 +59,28 @@ public final class IndicesRequestCache implements Closeable {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * A setting to cache the results of aggregation requests per segment rather than per shard, so that refreshes only
+     * invalidate the results of the segments they change.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_level",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * A setting to round {@code now} up to a granularity in the requests against an index that may be cached, so that
+     * requests that use {@code now} can be cached. This moves the lower bound of ranges like {@code now-15m} forward, so
+     * up to one granularity of the oldest matching documents is excluded. A granularity of {@code 0} disables rounding.
+     */
+    public static final Setting<TimeValue> INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING = Setting.timeSetting(
+        "index.requests.cache.now_rounding",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_SIZE = Setting.memorySizeSetting(
         "indices.requests.cache.size",
         "1%",
@@ -110,14 +132,7 @@ public final class IndicesRequestCache implements Closeable {
         BytesReference value = cache.computeIfAbsent(key, cacheLoader);
         if (cacheLoader.isLoaded()) {
             key.entity.onMiss();
-            // see if its the first time we see this reader, and make sure to register a cleanup key
-            CleanupKey cleanupKey = new CleanupKey(cacheEntity, cacheHelper.getKey());
-            if (registeredClosedListeners.containsKey(cleanupKey) == false) {
-                Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
-                if (previous == null) {
-                    cacheHelper.addClosedListener(cleanupKey);
-                }
-            }
+            registerClosedListener(cacheEntity, cacheHelper);
             /*
              * Note that we don't use a closed listener for the mapping. Instead
              * we let cache entries for out of date mappings age out. We do this
@@ -133,6 +148,55 @@ public final class IndicesRequestCache implements Closeable {
         return value;
     }
 
+    /**
+     * The cached entry tied to the reader of {@code cacheHelper}, typically a single segment, or {@code null} if there is
+     * none. Unlike {@link #getOrCompute} the caller computes missing entries, with no guarantee that concurrent callers
+     * don't compute the same entry, and adds them with {@link #put}.
+     */
+    BytesReference get(
+        CacheEntity cacheEntity,
+        MappingLookup.CacheKey mappingCacheKey,
+        ESCacheHelper cacheHelper,
+        BytesReference cacheKey
+    ) {
+        final BytesReference value = cache.get(new Key(cacheEntity, mappingCacheKey, cacheHelper.getKey(), cacheKey));
+        if (value == null) {
+            cacheEntity.onMiss();
+        } else {
+            cacheEntity.onHit();
+        }
+        return value;
+    }
+
+    /**
+     * Caches an entry computed after {@link #get} missed it.
+     */
+    void put(
+        CacheEntity cacheEntity,
+        MappingLookup.CacheKey mappingCacheKey,
+        ESCacheHelper cacheHelper,
+        BytesReference cacheKey,
+        BytesReference value
+    ) {
+        final Key key = new Key(cacheEntity, mappingCacheKey, cacheHelper.getKey(), cacheKey);
+        cache.put(key, value);
+        cacheEntity.onCached(key, value);
+        registerClosedListener(cacheEntity, cacheHelper);
+    }
+
+    /**
+     * See if its the first time we see this reader, and make sure to register a cleanup key
+     */
+    private void registerClosedListener(CacheEntity cacheEntity, ESCacheHelper cacheHelper) {
+        CleanupKey cleanupKey = new CleanupKey(cacheEntity, cacheHelper.getKey());
+        if (registeredClosedListeners.containsKey(cleanupKey) == false) {
+            Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
+            if (previous == null) {
+                cacheHelper.addClosedListener(cleanupKey);
+            }
+        }
+    }
+
     /**
      * Invalidates the given the cache entry for the given key and it's context
      * @param cacheEntity the cache entity to invalidate for
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -50,6 +51,7 @@ import org.elasticsearch.common.io.stream.NamedWriteableAwareStreamInput;
 import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.common.lucene.index.ElasticsearchDirectoryReader;
 import org.elasticsearch.common.settings.IndexScopedSettings;
 import org.elasticsearch.common.settings.Setting;
 import org.elasticsearch.common.settings.Setting.Property;
@@ -88,7 +90,9 @@ import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.analysis.AnalysisRegistry;
 import org.elasticsearch.index.bulk.stats.BulkStats;
 import org.elasticsearch.index.cache.request.ShardRequestCache;
+import org.elasticsearch.index.codec.CodecService;
 import org.elasticsearch.index.engine.CommitStats;
+import org.elasticsearch.index.engine.EngineConfig;
 import org.elasticsearch.index.engine.EngineFactory;
 import org.elasticsearch.index.engine.InternalEngineFactory;
 import org.elasticsearch.index.engine.NoOpEngine;
@@ -120,6 +124,7 @@ import org.elasticsearch.index.shard.IndexShardState;
 import org.elasticsearch.index.shard.IndexingOperationListener;
 import org.elasticsearch.index.shard.IndexingStats;
 import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.index.translog.TranslogGroupCommits;
 import org.elasticsearch.indices.breaker.CircuitBreakerService;
 import org.elasticsearch.indices.cluster.IndicesClusterStateService;
 import org.elasticsearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -132,12 +137,15 @@ import org.elasticsearch.plugins.PluginsService;
 import org.elasticsearch.plugins.internal.DocumentParsingObserver;
 import org.elasticsearch.repositories.RepositoriesService;
 import org.elasticsearch.script.ScriptService;
+import org.elasticsearch.search.DefaultSearchContext;
+import org.elasticsearch.search.SearchService;
 import org.elasticsearch.search.aggregations.support.ValuesSourceRegistry;
 import org.elasticsearch.search.internal.AliasFilter;
 import org.elasticsearch.search.internal.SearchContext;
 import org.elasticsearch.search.internal.ShardSearchRequest;
 import org.elasticsearch.search.query.QueryPhase;
 import org.elasticsearch.search.query.QuerySearchResult;
+import org.elasticsearch.search.query.SegmentQueryResult;
 import org.elasticsearch.threadpool.ThreadPool;
 import org.elasticsearch.xcontent.XContentParser;
 import org.elasticsearch.xcontent.XContentParserConfiguration;
@@ -221,6 +229,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexScopedSettings indexScopedSettings;
     private final IndicesFieldDataCache indicesFieldDataCache;
     private final CacheCleaner cacheCleaner;
+    private final TranslogGroupCommits translogGroupCommits;
     private final ThreadPool threadPool;
     private final CircuitBreakerService circuitBreakerService;
     private final BigArrays bigArrays;
@@ -314,6 +323,7 @@ public class IndicesService extends AbstractLifecycleComponent
         });
         this.cleanInterval = INDICES_CACHE_CLEAN_INTERVAL_SETTING.get(settings);
         this.cacheCleaner = new CacheCleaner(indicesFieldDataCache, indicesRequestCache, threadPool, this.cleanInterval);
+        this.translogGroupCommits = new TranslogGroupCommits(settings);
         this.metaStateService = builder.metaStateService;
         this.engineFactoryProviders = builder.engineFactoryProviders;
 
@@ -674,6 +684,26 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Checks that every node in the cluster can read the segments that an index created with {@code indexSettings} writes.
+     */
+    public void validateIndexCodec(ClusterState state, Settings indexSettings) {
+        if (CodecService.ZSTD_CODEC.equals(EngineConfig.INDEX_CODEC_SETTING.get(indexSettings))
+            && featureService.clusterHasFeature(state, CodecService.ZSTD_CODEC_FEATURE) == false) {
+            throw new IllegalArgumentException("[index.codec] can't be [zstd] until all nodes in the cluster support it");
+        }
+    }
+
+    /**
+     * Checks that every node in the cluster can open an index created with {@code indexSettings}.
+     */
+    public void validateIndexMode(ClusterState state, Settings indexSettings) {
+        if (IndexSettings.MODE.get(indexSettings) == IndexMode.LOGS
+            && featureService.clusterHasFeature(state, IndexMode.LOGS_INDEX_MODE_FEATURE) == false) {
+            throw new IllegalArgumentException("[index.mode] can't be [logs] until all nodes in the cluster support it");
+        }
+    }
+
     public <T, E extends Exception> T withTempIndexService(
         final IndexMetadata indexMetadata,
         CheckedFunction<IndexService, T, E> indexServiceConsumer
@@ -768,7 +798,8 @@ public class IndicesService extends AbstractLifecycleComponent
             idFieldMappers.apply(idxSettings.getMode()),
             valuesSourceRegistry,
             indexFoldersDeletionListeners,
-            snapshotCommitSuppliers
+            snapshotCommitSuppliers,
+            translogGroupCommits
         );
     }
 
@@ -1469,6 +1500,33 @@ public class IndicesService extends AbstractLifecycleComponent
      * Can the shard request be cached at all?
      */
     public static boolean canCache(ShardSearchRequest request, SearchContext context) {
+        if (canCache(request, context.searchType(), context.size(), context.indexShard().indexSettings()) == false) {
+            return false;
+        }
+        // We use the cacheKey of the index reader as a part of a key of the IndicesRequestCache.
+        assert context.searcher().getIndexReader().getReaderCacheHelper() != null;
+
+        // if now in millis is used (or in the future, a more generic "isDeterministic" flag
+        // then we can't cache based on "now" key within the search request, as it is not deterministic
+        if (context.getSearchExecutionContext().isCacheable() == false) {
+            return false;
+        }
+        return true;
+
+    }
+
+    /**
+     * Would {@link #canCache(ShardSearchRequest, SearchContext)} accept the request if it didn't use {@code now}? Checked
+     * before the source of the request is parsed, to only round {@code now} in requests that may be cached.
+     */
+    public static boolean canCacheRegardlessOfNow(ShardSearchRequest request, IndexSettings settings) {
+        final int size = request.source() == null || request.source().size() == -1
+            ? SearchService.DEFAULT_SIZE
+            : request.source().size();
+        return canCache(request, request.searchType(), size, settings);
+    }
+
+    private static boolean canCache(ShardSearchRequest request, SearchType searchType, int size, IndexSettings settings) {
         // Queries that create a scroll context cannot use the cache.
         // They modify the search context during their execution so using the cache
         // may invalidate the scroll for the next query.
@@ -1480,7 +1538,7 @@ public class IndicesService extends AbstractLifecycleComponent
         // on the overridden statistics. So if you ran two queries on the same index with different stats
         // (because an other shard was updated) you would get wrong results because of the scores
         // (think about top_hits aggs or scripts using the score)
-        if (SearchType.QUERY_THEN_FETCH != context.searchType()) {
+        if (SearchType.QUERY_THEN_FETCH != searchType) {
             return false;
         }
 
@@ -1489,12 +1547,11 @@ public class IndicesService extends AbstractLifecycleComponent
             return false;
         }
 
-        IndexSettings settings = context.indexShard().indexSettings();
         // if not explicitly set in the request, use the index setting, if not, use the request
         if (request.requestCache() == null) {
             if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false) {
                 return false;
-            } else if (context.size() != 0) {
+            } else if (size != 0) {
                 // If no request cache query parameter and shard request cache
                 // is enabled in settings don't cache for requests with size > 0
                 return false;
@@ -1502,16 +1559,7 @@ public class IndicesService extends AbstractLifecycleComponent
         } else if (request.requestCache() == false) {
             return false;
         }
-        // We use the cacheKey of the index reader as a part of a key of the IndicesRequestCache.
-        assert context.searcher().getIndexReader().getReaderCacheHelper() != null;
-
-        // if now in millis is used (or in the future, a more generic "isDeterministic" flag
-        // then we can't cache based on "now" key within the search request, as it is not deterministic
-        if (context.getSearchExecutionContext().isCacheable() == false) {
-            return false;
-        }
         return true;
-
     }
 
     /**
@@ -1522,10 +1570,14 @@ public class IndicesService extends AbstractLifecycleComponent
      */
     public void loadIntoContext(ShardSearchRequest request, SearchContext context) throws Exception {
         assert canCache(request, context);
+        if (canCacheBySegment(request, context)) {
+            loadSegmentLevelIntoContext(request, context);
+            return;
+        }
         final DirectoryReader directoryReader = context.searcher().getDirectoryReader();
 
         boolean[] loadedFromCache = new boolean[] { true };
-        BytesReference cacheKey = request.cacheKey(requestCacheKeyDifferentiator);
+        BytesReference cacheKey = requestCacheKey(request, context);
         BytesReference bytesReference = cacheShardLevelResult(
             context.indexShard(),
             context.getSearchExecutionContext().mappingCacheKey(),
@@ -1568,6 +1620,94 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * The key of the shard request in the request cache. The request's own {@code now} isn't part of it since requests that
+     * use it can't be cached, but the rounded {@code now} of requests that use one is.
+     */
+    private BytesReference requestCacheKey(ShardSearchRequest request, SearchContext context) throws IOException {
+        final long roundedNowInMillis = context.getSearchExecutionContext().roundedNowInMillis();
+        if (roundedNowInMillis == -1) {
+            return request.cacheKey(requestCacheKeyDifferentiator);
+        }
+        return request.cacheKey((r, out) -> {
+            if (requestCacheKeyDifferentiator != null) {
+                requestCacheKeyDifferentiator.accept(r, out);
+            }
+            out.writeLong(roundedNowInMillis);
+        });
+    }
+
+    /**
+     * Can the shard request be cached per segment rather than for the whole shard? Only requests that the query phase can
+     * execute one segment at a time, which rules out aggregations that need scores and queries whose matches depend on
+     * scores, and whose aggregations tolerate being reduced across segments like they are across search slices, can.
+     */
+    private boolean canCacheBySegment(ShardSearchRequest request, SearchContext context) {
+        IndexSettings settings = context.indexShard().indexSettings();
+        if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING) == false) {
+            return false;
+        }
+        if (QueryPhase.canExecuteBySegment(context) == false) {
+            return false;
+        }
+        final DirectoryReader directoryReader = context.searcher().getDirectoryReader();
+        // shards that open their readers on demand cache on the shard's lifecycle rather than the reader's, their segment
+        // readers don't outlive a search
+        final Object esReaderCacheKey = ElasticsearchDirectoryReader.getESReaderCacheHelper(directoryReader).getKey();
+        if (esReaderCacheKey != directoryReader.getReaderCacheHelper().getKey()) {
+            return false;
+        }
+        for (LeafReaderContext leaf : directoryReader.leaves()) {
+            if (leaf.reader().getReaderCacheHelper() == null) {
+                return false;
+            }
+        }
+        final IndexService indexService = indexServiceSafe(context.indexShard().shardId().getIndex());
+        return request.source()
+            .aggregations()
+            .supportsParallelCollection(field -> DefaultSearchContext.getFieldCardinality(field, indexService, directoryReader));
+    }
+
+    /**
+     * Like {@link #loadIntoContext} but caches the result of each segment on its own, keyed on the segment's reader, so that
+     * a refresh only invalidates the results of the segments it adds or changes. The results of the segments are reduced
+     * into the result of the shard by {@link QueryPhase#executeBySegment}, which only caches the results of segments that
+     * didn't time out.
+     */
+    private void loadSegmentLevelIntoContext(ShardSearchRequest request, SearchContext context) throws IOException {
+        final IndexShardCacheEntity cacheEntity = new IndexShardCacheEntity(context.indexShard());
+        final MappingLookup.CacheKey mappingCacheKey = context.getSearchExecutionContext().mappingCacheKey();
+        final BytesReference cacheKey = requestCacheKey(request, context);
+        QueryPhase.executeBySegment(context, new QueryPhase.SegmentResultCache() {
+            @Override
+            public SegmentQueryResult get(LeafReaderContext leaf) throws IOException {
+                final BytesReference bytesReference = indicesRequestCache.get(
+                    cacheEntity,
+                    mappingCacheKey,
+                    new ESCacheHelper.Wrapper(leaf.reader().getReaderCacheHelper()),
+                    cacheKey
+                );
+                if (bytesReference == null) {
+                    return null;
+                }
+                try (StreamInput in = new NamedWriteableAwareStreamInput(bytesReference.streamInput(), namedWriteableRegistry)) {
+                    return SegmentQueryResult.readFrom(in);
+                }
+            }
+
+            @Override
+            public void put(LeafReaderContext leaf, SegmentQueryResult result) throws IOException {
+                indicesRequestCache.put(
+                    cacheEntity,
+                    mappingCacheKey,
+                    new ESCacheHelper.Wrapper(leaf.reader().getReaderCacheHelper()),
+                    cacheKey,
+                    serializing(result::writeTo).get()
+                );
+            }
+        });
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -1588,7 +1728,11 @@ public class IndicesService extends AbstractLifecycleComponent
         CheckedConsumer<StreamOutput, IOException> loader
     ) throws Exception {
         IndexShardCacheEntity cacheEntity = new IndexShardCacheEntity(shard);
-        CheckedSupplier<BytesReference, IOException> supplier = () -> {
+        return indicesRequestCache.getOrCompute(cacheEntity, serializing(loader), mappingCacheKey, reader, cacheKey);
+    }
+
+    private static CheckedSupplier<BytesReference, IOException> serializing(CheckedConsumer<StreamOutput, IOException> loader) {
+        return () -> {
             /* BytesStreamOutput allows to pass the expected size but by default uses
              * BigArrays.PAGE_SIZE_IN_BYTES which is 16k. A common cached result ie.
              * a date histogram with 3 buckets is ~100byte so 16k might be very wasteful
@@ -1604,7 +1748,6 @@ public class IndicesService extends AbstractLifecycleComponent
                 return out.bytes();
             }
         };
-        return indicesRequestCache.getOrCompute(cacheEntity, supplier, mappingCacheKey, reader, cacheKey);
     }
 
     static final class IndexShardCacheEntity extends AbstractIndexShardCacheEntity {
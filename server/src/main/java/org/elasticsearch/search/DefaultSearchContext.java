@@ -221,7 +221,11 @@ final class DefaultSearchContext extends SearchContext {
         }
     }
 
-    static long getFieldCardinality(String field, IndexService indexService, DirectoryReader directoryReader) {
+    /**
+     * The number of distinct values of {@code field} in {@code directoryReader}, or {@code -1} when they can't be cheaply
+     * counted. Used to decide whether aggregations on the field can be collected in parallel.
+     */
+    public static long getFieldCardinality(String field, IndexService indexService, DirectoryReader directoryReader) {
         MappedFieldType mappedFieldType = indexService.mapperService().fieldType(field);
         if (mappedFieldType == null) {
             return -1;
@@ -21,6 +21,9 @@ import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.ActionRunnable;
 import org.elasticsearch.action.search.CanMatchNodeRequest;
 import org.elasticsearch.action.search.CanMatchNodeResponse;
+import org.elasticsearch.action.search.NodeQueryRequest;
+import org.elasticsearch.action.search.NodeQueryResponse;
+import org.elasticsearch.action.search.QueryPhaseResultConsumer;
 import org.elasticsearch.action.search.SearchShardTask;
 import org.elasticsearch.action.search.SearchType;
 import org.elasticsearch.action.support.TransportActions;
@@ -41,6 +44,7 @@ import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.CollectionUtils;
 import org.elasticsearch.common.util.concurrent.ConcurrentCollections;
 import org.elasticsearch.common.util.concurrent.EsExecutors;
+import org.elasticsearch.common.util.concurrent.ThrottledIterator;
 import org.elasticsearch.core.IOUtils;
 import org.elasticsearch.core.RefCounted;
 import org.elasticsearch.core.Releasable;
@@ -66,6 +70,7 @@ import org.elasticsearch.index.shard.IndexShard;
 import org.elasticsearch.index.shard.SearchOperationListener;
 import org.elasticsearch.index.shard.ShardId;
 import org.elasticsearch.indices.ExecutorSelector;
+import org.elasticsearch.indices.IndicesRequestCache;
 import org.elasticsearch.indices.IndicesService;
 import org.elasticsearch.indices.breaker.CircuitBreakerService;
 import org.elasticsearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
@@ -75,6 +80,7 @@ import org.elasticsearch.script.ScriptService;
 import org.elasticsearch.search.aggregations.AggregationInitializationException;
 import org.elasticsearch.search.aggregations.AggregationReduceContext;
 import org.elasticsearch.search.aggregations.AggregatorFactories;
+import org.elasticsearch.search.aggregations.InternalAggregations;
 import org.elasticsearch.search.aggregations.MultiBucketConsumerService;
 import org.elasticsearch.search.aggregations.SearchContextAggregations;
 import org.elasticsearch.search.aggregations.support.AggregationContext;
@@ -126,6 +132,7 @@ import org.elasticsearch.transport.Transports;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -141,6 +148,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.elasticsearch.core.TimeValue.timeValueHours;
 import static org.elasticsearch.core.TimeValue.timeValueMillis;
@@ -298,6 +306,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private final MultiBucketConsumerService multiBucketConsumerService;
 
+    private final CircuitBreaker requestCircuitBreaker;
+
     private final AtomicInteger openScrollContexts = new AtomicInteger();
     private final String sessionId = UUIDs.randomBase64UUID();
 
@@ -323,11 +333,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.responseCollectorService = responseCollectorService;
         this.bigArrays = bigArrays;
         this.fetchPhase = fetchPhase;
-        this.multiBucketConsumerService = new MultiBucketConsumerService(
-            clusterService,
-            settings,
-            circuitBreakerService.getBreaker(CircuitBreaker.REQUEST)
-        );
+        this.requestCircuitBreaker = circuitBreakerService.getBreaker(CircuitBreaker.REQUEST);
+        this.multiBucketConsumerService = new MultiBucketConsumerService(clusterService, settings, requestCircuitBreaker);
         this.executorSelector = executorSelector;
         this.tracer = tracer;
 
@@ -1100,6 +1107,12 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 enableQueryPhaseParallelCollection,
                 minimumDocsPerSlice
             );
+            IndexSettings indexSettings = reader.indexService().getIndexSettings();
+            TimeValue nowRounding = indexSettings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_NOW_ROUNDING_SETTING);
+            // rounding changes the results so it is only worth it for requests that may be cached
+            if (nowRounding.millis() > 0 && IndicesService.canCacheRegardlessOfNow(request, indexSettings)) {
+                searchContext.getSearchExecutionContext().roundNowTo(nowRounding);
+            }
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
@@ -1591,6 +1604,113 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         listener.onResponse(new CanMatchNodeResponse(responses));
     }
 
+    /**
+     * Executes the query phase of all the shards of the given node-level request, at most
+     * {@link NodeQueryRequest#getMaxConcurrentShardRequests()} at a time, and partially reduces the aggregations of their results
+     * before responding so that the coordinating node receives a single set of aggregations for all the shards of this node.
+     * The aggregations that are held until the reduce and the reduce itself are accounted in the request circuit breaker, like the
+     * coordinating node does in {@link QueryPhaseResultConsumer}.
+     */
+    public void executeQueryPhase(NodeQueryRequest request, SearchShardTask task, ActionListener<NodeQueryResponse> listener) {
+        final List<ShardSearchRequest> shardSearchRequests = request.getShardLevelRequests();
+        final NodeQueryResponse.ResponseOrFailure[] responses = new NodeQueryResponse.ResponseOrFailure[shardSearchRequests.size()];
+        final AtomicLong circuitBreakerBytes = new AtomicLong();
+        ThrottledIterator.run(
+            IntStream.range(0, shardSearchRequests.size()).iterator(),
+            (ref, shardIndex) -> ActionListener.run(ActionListener.releaseAfter(new ActionListener<SearchPhaseResult>() {
+                @Override
+                public void onResponse(SearchPhaseResult searchPhaseResult) {
+                    final QuerySearchResult queryResult = searchPhaseResult.queryResult();
+                    if (queryResult.isNull() == false && queryResult.hasAggs()) {
+                        final long aggsSize = queryResult.aggregations().getSerializedSize();
+                        try {
+                            requestCircuitBreaker.addEstimateBytesAndMaybeBreak(aggsSize, "<reduce_aggs>");
+                        } catch (Exception e) {
+                            // the coordinating node never learns about this result, its context won't be fetched
+                            if (queryResult.getContextId() != null) {
+                                freeReaderContext(queryResult.getContextId());
+                            }
+                            responses[shardIndex] = new NodeQueryResponse.ResponseOrFailure(e);
+                            return;
+                        }
+                        circuitBreakerBytes.addAndGet(aggsSize);
+                    }
+                    // the result is released once this listener completes, keep it until the node-level response is sent
+                    queryResult.incRef();
+                    responses[shardIndex] = new NodeQueryResponse.ResponseOrFailure(queryResult);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    responses[shardIndex] = new NodeQueryResponse.ResponseOrFailure(e);
+                }
+            }, ref), l -> executeQueryPhase(shardSearchRequests.get(shardIndex), task, l)),
+            request.getMaxConcurrentShardRequests(),
+            () -> {},
+            () -> {
+                final NodeQueryResponse response = new NodeQueryResponse(Arrays.asList(responses));
+                try {
+                    reduceNodeAggs(shardSearchRequests.get(0), task, response, circuitBreakerBytes);
+                } catch (Exception e) {
+                    requestCircuitBreaker.addWithoutBreaking(-circuitBreakerBytes.get());
+                    freeReaderContexts(response);
+                    response.decRef();
+                    listener.onFailure(e);
+                    return;
+                }
+                try {
+                    ActionListener.respondAndRelease(listener, response);
+                } finally {
+                    requestCircuitBreaker.addWithoutBreaking(-circuitBreakerBytes.get());
+                }
+            }
+        );
+    }
+
+    private void freeReaderContexts(NodeQueryResponse response) {
+        for (NodeQueryResponse.ResponseOrFailure responseOrFailure : response.getResponses()) {
+            final QuerySearchResult queryResult = responseOrFailure.getResponse();
+            if (queryResult != null && queryResult.getContextId() != null) {
+                freeReaderContext(queryResult.getContextId());
+            }
+        }
+    }
+
+    private void reduceNodeAggs(
+        ShardSearchRequest request,
+        SearchShardTask task,
+        NodeQueryResponse response,
+        AtomicLong circuitBreakerBytes
+    ) {
+        final List<QuerySearchResult> withAggs = new ArrayList<>();
+        for (NodeQueryResponse.ResponseOrFailure responseOrFailure : response.getResponses()) {
+            final QuerySearchResult queryResult = responseOrFailure.getResponse();
+            if (queryResult != null && queryResult.isNull() == false && queryResult.aggregations() != null) {
+                withAggs.add(queryResult);
+            }
+        }
+        if (withAggs.size() < 2) {
+            return;
+        }
+        // add an estimate of the reduce size
+        final long estimatedSize = QueryPhaseResultConsumer.estimateRamBytesUsedForReduce(circuitBreakerBytes.get());
+        requestCircuitBreaker.addEstimateBytesAndMaybeBreak(estimatedSize, "<reduce_aggs>");
+        circuitBreakerBytes.addAndGet(estimatedSize);
+        final List<InternalAggregations> aggsList = new ArrayList<>(withAggs.size());
+        for (QuerySearchResult queryResult : withAggs) {
+            aggsList.add(queryResult.consumeAggs());
+        }
+        final InternalAggregations reduced = InternalAggregations.topLevelReduce(
+            aggsList,
+            aggReduceContextBuilder(task::isCancelled, request.source().aggregations()).forPartialReduction()
+        );
+        // the first result carries the aggregations of all the shards of this node, the others are reduced as empty aggregations
+        withAggs.get(0).aggregations(reduced);
+        for (int i = 1; i < withAggs.size(); i++) {
+            withAggs.get(i).aggregations(InternalAggregations.EMPTY);
+        }
+    }
+
     /**
      * This method uses a lightweight searcher without wrapping (i.e., not open a full reader on frozen indices) to rewrite the query
      * to check if the query can match any documents. This method can have false positives while if it returns {@code false} the query
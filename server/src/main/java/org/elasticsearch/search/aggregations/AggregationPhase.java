@@ -15,6 +15,7 @@ import org.elasticsearch.search.query.QueryPhase;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -46,6 +47,19 @@ public class AggregationPhase {
             );
     }
 
+    /**
+     * Creates the collector manager for the aggregations of a single segment of the shard, whose results are built and
+     * partially reduced on their own like those of a search slice and then handed to {@code consumer}.
+     */
+    public static AggregatorCollectorManager newSegmentCollectorManager(SearchContext context, Consumer<InternalAggregations> consumer) {
+        assert context.aggregations().isInSortOrderExecutionRequired() == false;
+        return new AggregatorCollectorManager(
+            () -> newAggregatorCollector(context),
+            consumer,
+            () -> context.aggregations().getAggregationReduceContextBuilder().forPartialReduction()
+        );
+    }
+
     private static AggregatorCollector newAggregatorCollector(SearchContext context) {
         try {
             Aggregator[] aggregators = context.aggregations().factories().createTopLevelAggregators();
@@ -20,6 +20,7 @@ import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConjunctionUtils;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterWeight;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MatchNoDocsQuery;
@@ -56,6 +57,7 @@ import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -297,8 +299,81 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         return slices;
     }
 
+    /**
+     * Like {@link #computeSlices(List, int, int)}, but leaves that hold enough documents for several slices are split into
+     * ranges of doc ids of about the size of a slice, each searched by its own slice. The remaining leaves are grouped as by
+     * {@link #computeSlices(List, int, int)}.
+     */
+    static List<List<LeafPartition>> computePartitionedSlices(List<LeafReaderContext> leaves, int maxSliceNum, int minDocsPerSlice) {
+        if (maxSliceNum < 1) {
+            throw new IllegalArgumentException("maxSliceNum must be >= 1 (got " + maxSliceNum + ")");
+        }
+        final List<List<LeafPartition>> slices = new ArrayList<>();
+        if (maxSliceNum == 1) {
+            slices.add(leaves.stream().map(LeafPartition::wholeLeaf).collect(Collectors.toCollection(ArrayList::new)));
+            return slices;
+        }
+        final int numDocs = leaves.stream().mapToInt(l -> l.reader().maxDoc()).sum();
+        final double percentageDocsPerThread = Math.max(MINIMUM_DOCS_PERCENT_PER_SLICE, 1.0 / maxSliceNum);
+        final int docsPerSlice = Math.max(minDocsPerSlice, (int) (percentageDocsPerThread * numDocs));
+        // the number of slices of the size of the minimum percentage of documents per slice
+        final int numSlices = Math.min(maxSliceNum, (int) Math.round(1 / MINIMUM_DOCS_PERCENT_PER_SLICE));
+        final List<LeafReaderContext> wholeLeaves = new ArrayList<>();
+        for (LeafReaderContext ctx : leaves) {
+            final int maxDoc = ctx.reader().maxDoc();
+            // each leaf gets its share of the slices, rounded down so that there are no more slices than allowed
+            final int numPartitions = (int) Math.min((long) maxDoc * numSlices / numDocs, maxDoc / Math.max(1, minDocsPerSlice));
+            if (numPartitions < 2) {
+                wholeLeaves.add(ctx);
+                continue;
+            }
+            for (int i = 0; i < numPartitions; i++) {
+                final int minDocId = (int) ((long) maxDoc * i / numPartitions);
+                final int maxDocId = (int) ((long) maxDoc * (i + 1) / numPartitions);
+                slices.add(new ArrayList<>(List.of(new LeafPartition(ctx, minDocId, maxDocId))));
+            }
+        }
+        if (wholeLeaves.isEmpty() == false) {
+            for (LeafSlice slice : computeSlices(wholeLeaves, docsPerSlice)) {
+                slices.add(Arrays.stream(slice.leaves).map(LeafPartition::wholeLeaf).collect(Collectors.toCollection(ArrayList::new)));
+            }
+        }
+        return slices;
+    }
+
+    /**
+     * A range of the doc ids of a leaf, from {@code minDocId} inclusive to {@code maxDocId} exclusive, that is searched as part
+     * of a slice.
+     */
+    record LeafPartition(LeafReaderContext ctx, int minDocId, int maxDocId) {
+
+        static LeafPartition wholeLeaf(LeafReaderContext ctx) {
+            return new LeafPartition(ctx, 0, DocIdSetIterator.NO_MORE_DOCS);
+        }
+
+        boolean isWholeLeaf() {
+            return minDocId == 0 && maxDocId >= ctx.reader().maxDoc();
+        }
+    }
+
     @Override
     public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        return search(query, collectorManager, false);
+    }
+
+    /**
+     * Like {@link #search(Query, CollectorManager)}, but large segments are split into ranges of doc ids that are searched by
+     * different slices, so that shards made of a few large segments, such as force-merged ones, are searched concurrently too.
+     * Collectors may then see the same segment more than once, each time for a different range of its documents, and must
+     * not rely on seeing whole segments, which rules out aggregations.
+     */
+    public <C extends Collector, T> T searchWithIntraSegmentSlices(Query query, CollectorManager<C, T> collectorManager)
+        throws IOException {
+        return search(query, collectorManager, maximumNumberOfSlices > 1);
+    }
+
+    private <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager, boolean partitionLeaves)
+        throws IOException {
         final C firstCollector = collectorManager.newCollector();
         // Take advantage of the few extra rewrite rules of ConstantScoreQuery when score are not needed.
         query = firstCollector.scoreMode().needsScores() ? rewrite(query) : rewrite(new ConstantScoreQuery(query));
@@ -310,7 +385,62 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             doAggregationPostCollection(firstCollector);
             return collectorManager.reduce(Collections.singletonList(firstCollector));
         }
-        return search(weight, collectorManager, firstCollector);
+        return search(weight, collectorManager, firstCollector, partitionLeaves);
+    }
+
+    /**
+     * Searches each of {@code leaves} on its own, as if it were the only segment of the reader, with a collector of the
+     * matching collector manager and returns the reduced results in the order of the leaves. Collectors are created on
+     * the calling thread and the segments are searched on the executor of the searcher like slices are. Used to compute
+     * per segment results that are cached on their own. Scores aren't supported since they depend on the statistics of
+     * the whole reader.
+     */
+    public <C extends Collector, T> List<T> search(
+        List<LeafReaderContext> leaves,
+        Query query,
+        List<? extends CollectorManager<C, T>> collectorManagers
+    ) throws IOException {
+        assert leaves.size() == collectorManagers.size();
+        final List<C> collectors = new ArrayList<>(leaves.size());
+        for (CollectorManager<C, T> collectorManager : collectorManagers) {
+            final C collector = collectorManager.newCollector();
+            if (collector.scoreMode().needsScores()) {
+                throw new IllegalArgumentException("segments can't be searched on their own with scores");
+            }
+            if (collectors.isEmpty() == false && collectors.get(0).scoreMode() != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManagers do not always produce collectors with the same score mode");
+            }
+            collectors.add(collector);
+        }
+        final List<T> results = new ArrayList<>(leaves.size());
+        if (leaves.isEmpty()) {
+            return results;
+        }
+        final Weight weight;
+        try {
+            weight = createWeight(rewrite(new ConstantScoreQuery(query)), collectors.get(0).scoreMode(), 1);
+        } catch (@SuppressWarnings("unused") TimeExceededException e) {
+            timeExceeded = true;
+            for (int i = 0; i < collectors.size(); i++) {
+                doAggregationPostCollection(collectors.get(i));
+                results.add(collectorManagers.get(i).reduce(Collections.singletonList(collectors.get(i))));
+            }
+            return results;
+        }
+        final List<Callable<C>> listTasks = new ArrayList<>(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            final LeafReaderContext leaf = leaves.get(i);
+            final C collector = collectors.get(i);
+            listTasks.add(() -> {
+                search(Collections.singletonList(leaf), weight, collector);
+                return collector;
+            });
+        }
+        final List<C> collectedCollectors = getTaskExecutor().invokeAll(listTasks);
+        for (int i = 0; i < collectedCollectors.size(); i++) {
+            results.add(collectorManagers.get(i).reduce(Collections.singletonList(collectedCollectors.get(i))));
+        }
+        return results;
     }
 
     /**
@@ -319,18 +449,32 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      * so it can be parallelized. Also, it needs to happen in the same thread where doc_values are read, as it consumes them and Lucene
      * does not allow consuming them from a different thread.
      * 2) handles the ES TimeExceededException
+     * 3) optionally splits large segments into ranges of doc ids, see {@link #searchWithIntraSegmentSlices}
      * */
-    private <C extends Collector, T> T search(Weight weight, CollectorManager<C, T> collectorManager, C firstCollector) throws IOException {
-        LeafSlice[] leafSlices = getSlices();
-        if (leafSlices.length == 0) {
+    private <C extends Collector, T> T search(
+        Weight weight,
+        CollectorManager<C, T> collectorManager,
+        C firstCollector,
+        boolean partitionLeaves
+    ) throws IOException {
+        final List<List<LeafPartition>> leafSlices;
+        if (partitionLeaves) {
+            leafSlices = computePartitionedSlices(leafContexts, maximumNumberOfSlices, minimumDocsPerSlice);
+            assert leafSlices.size() <= maximumNumberOfSlices : "more slices created than the maximum allowed";
+        } else {
+            leafSlices = Arrays.stream(getSlices())
+                .map(slice -> Arrays.stream(slice.leaves).map(LeafPartition::wholeLeaf).toList())
+                .toList();
+        }
+        if (leafSlices.isEmpty()) {
             assert leafContexts.isEmpty();
             doAggregationPostCollection(firstCollector);
             return collectorManager.reduce(Collections.singletonList(firstCollector));
         } else {
-            final List<C> collectors = new ArrayList<>(leafSlices.length);
+            final List<C> collectors = new ArrayList<>(leafSlices.size());
             collectors.add(firstCollector);
             final ScoreMode scoreMode = firstCollector.scoreMode();
-            for (int i = 1; i < leafSlices.length; ++i) {
+            for (int i = 1; i < leafSlices.size(); ++i) {
                 final C collector = collectorManager.newCollector();
                 collectors.add(collector);
                 if (scoreMode != collector.scoreMode()) {
@@ -338,11 +482,15 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                 }
             }
             final List<Callable<C>> listTasks = new ArrayList<>();
-            for (int i = 0; i < leafSlices.length; ++i) {
-                final LeafReaderContext[] leaves = leafSlices[i].leaves;
+            for (int i = 0; i < leafSlices.size(); ++i) {
+                final List<LeafPartition> partitions = leafSlices.get(i);
                 final C collector = collectors.get(i);
                 listTasks.add(() -> {
-                    search(Arrays.asList(leaves), weight, collector);
+                    if (partitions.stream().allMatch(LeafPartition::isWholeLeaf)) {
+                        search(partitions.stream().map(LeafPartition::ctx).toList(), weight, collector);
+                    } else {
+                        searchPartitions(partitions, weight, collector);
+                    }
                     return collector;
                 });
             }
@@ -353,11 +501,20 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     @Override
     public void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
-        collector.setWeight(weight);
+        searchPartitions(leaves.stream().map(LeafPartition::wholeLeaf).toList(), weight, collector);
+    }
+
+    private void searchPartitions(List<LeafPartition> partitions, Weight weight, Collector collector) throws IOException {
+        if (partitions.stream().allMatch(LeafPartition::isWholeLeaf)) {
+            collector.setWeight(weight);
+        } else {
+            // Weight#count counts the matches of whole segments, which would count the documents of other partitions too
+            collector.setWeight(new PartitionWeight(weight));
+        }
         boolean success = false;
         try {
-            for (LeafReaderContext ctx : leaves) { // search each subreader
-                searchLeaf(ctx, weight, collector);
+            for (LeafPartition partition : partitions) { // search each subreader
+                searchLeaf(partition.ctx(), partition.minDocId(), partition.maxDocId(), weight, collector);
             }
             success = true;
         } catch (@SuppressWarnings("unused") TimeExceededException e) {
@@ -402,13 +559,28 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         // This exception should never be re-thrown, but we fill in the stacktrace to be able to trace where it does not get properly caught
     }
 
+    /**
+     * Hides {@link Weight#count} from the collectors of slices that only search part of some segments.
+     */
+    private static final class PartitionWeight extends FilterWeight {
+
+        PartitionWeight(Weight weight) {
+            super(weight);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) {
+            return -1;
+        }
+    }
+
     /**
      * Lower-level search API.
      *
-     * {@link LeafCollector#collect(int)} is called for every matching document in
-     * the provided <code>ctx</code>.
+     * {@link LeafCollector#collect(int)} is called for every matching document between
+     * <code>minDocId</code> inclusive and <code>maxDocId</code> exclusive in the provided <code>ctx</code>.
      */
-    private void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+    private void searchLeaf(LeafReaderContext ctx, int minDocId, int maxDocId, Weight weight, Collector collector) throws IOException {
         cancellable.checkCancelled();
         final LeafCollector leafCollector;
         try {
@@ -428,7 +600,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                     bulkScorer = new CancellableBulkScorer(bulkScorer, cancellable::checkCancelled);
                 }
                 try {
-                    bulkScorer.score(leafCollector, liveDocs);
+                    bulkScorer.score(leafCollector, liveDocs, minDocId, maxDocId);
                 } catch (CollectionTerminatedException e) {
                     // collection was terminated prematurely
                     // continue with the following leaf
@@ -443,6 +615,8 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                         scorer,
                         liveDocsBitSet,
                         leafCollector,
+                        minDocId,
+                        maxDocId,
                         this.cancellable.isEnabled() ? cancellable::checkCancelled : () -> {}
                     );
                 } catch (CollectionTerminatedException e) {
@@ -471,6 +645,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     static void intersectScorerAndBitSet(Scorer scorer, BitSet acceptDocs, LeafCollector collector, Runnable checkCancelled)
         throws IOException {
+        intersectScorerAndBitSet(scorer, acceptDocs, collector, 0, DocIdSetIterator.NO_MORE_DOCS, checkCancelled);
+    }
+
+    static void intersectScorerAndBitSet(
+        Scorer scorer,
+        BitSet acceptDocs,
+        LeafCollector collector,
+        int minDocId,
+        int maxDocId,
+        Runnable checkCancelled
+    ) throws IOException {
         collector.setScorer(scorer);
         // ConjunctionDISI uses the DocIdSetIterator#cost() to order the iterators, so if roleBits has the lowest cardinality it should
         // be used first:
@@ -479,7 +664,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         );
         int seen = 0;
         checkCancelled.run();
-        for (int docId = iterator.nextDoc(); docId < DocIdSetIterator.NO_MORE_DOCS; docId = iterator.nextDoc()) {
+        for (int docId = iterator.advance(minDocId); docId < maxDocId; docId = iterator.nextDoc()) {
             if (++seen % CHECK_CANCELLED_SCORER_INTERVAL == 0) {
                 checkCancelled.run();
             }
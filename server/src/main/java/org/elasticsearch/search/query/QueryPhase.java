@@ -12,12 +12,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.AbstractKnnVectorQuery;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Sort;
@@ -26,13 +28,17 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.elasticsearch.common.lucene.Lucene;
 import org.elasticsearch.common.lucene.search.TopDocsAndMaxScore;
+import org.elasticsearch.common.lucene.search.function.FunctionScoreQuery;
+import org.elasticsearch.common.lucene.search.function.ScriptScoreQuery;
 import org.elasticsearch.common.util.concurrent.EsThreadPoolExecutor;
 import org.elasticsearch.common.util.concurrent.TaskExecutionTimeTrackingEsThreadPoolExecutor;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.lucene.queries.SearchAfterSortedDocQuery;
 import org.elasticsearch.search.DocValueFormat;
 import org.elasticsearch.search.SearchContextSourcePrinter;
 import org.elasticsearch.search.SearchService;
 import org.elasticsearch.search.aggregations.AggregationPhase;
+import org.elasticsearch.search.aggregations.InternalAggregations;
 import org.elasticsearch.search.internal.ContextIndexSearcher;
 import org.elasticsearch.search.internal.ScrollContext;
 import org.elasticsearch.search.internal.SearchContext;
@@ -41,8 +47,10 @@ import org.elasticsearch.search.rank.RankShardContext;
 import org.elasticsearch.search.rescore.RescorePhase;
 import org.elasticsearch.search.sort.SortAndFormats;
 import org.elasticsearch.search.suggest.SuggestPhase;
+import org.elasticsearch.search.vectors.VectorSimilarityQuery;
 import org.elasticsearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -202,7 +210,12 @@ public class QueryPhase {
                 searcher.addQueryCancellation(timeoutRunnable);
             }
 
-            QueryPhaseResult queryPhaseResult = searcher.search(query, collectorManager);
+            final QueryPhaseResult queryPhaseResult;
+            if (canSearchWithIntraSegmentSlices(searchContext)) {
+                queryPhaseResult = searcher.searchWithIntraSegmentSlices(query, collectorManager);
+            } else {
+                queryPhaseResult = searcher.search(query, collectorManager);
+            }
             if (searchContext.getProfilers() != null) {
                 searchContext.getProfilers().getCurrentQueryProfiler().setCollectorResult(queryPhaseResult.collectorResult());
             }
@@ -217,19 +230,207 @@ public class QueryPhase {
             if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
                 queryResult.terminatedEarly(queryPhaseResult.terminatedAfter());
             }
-            ExecutorService executor = searchContext.indexShard().getThreadPool().executor(ThreadPool.Names.SEARCH);
-            assert executor instanceof TaskExecutionTimeTrackingEsThreadPoolExecutor
-                || (executor instanceof EsThreadPoolExecutor == false /* in case thread pool is mocked out in tests */)
-                : "SEARCH threadpool should have an executor that exposes EWMA metrics, but is of type " + executor.getClass();
-            if (executor instanceof TaskExecutionTimeTrackingEsThreadPoolExecutor rExecutor) {
-                queryResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
-                queryResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
+            recordSearchExecutorStats(searchContext, queryResult);
+        } catch (Exception e) {
+            throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Failed to execute main query", e);
+        }
+    }
+
+    /**
+     * Whether large segments can be split into ranges of doc ids that are searched concurrently. Aggregations rely on
+     * collecting whole segments, and so do scrolls, which resume from the last emitted doc, and field collapsing.
+     */
+    static boolean canSearchWithIntraSegmentSlices(SearchContext searchContext) {
+        return searchContext.aggregations() == null && searchContext.scrollContext() == null && searchContext.collapse() == null;
+    }
+
+    private static void recordSearchExecutorStats(SearchContext searchContext, QuerySearchResult queryResult) {
+        ExecutorService executor = searchContext.indexShard().getThreadPool().executor(ThreadPool.Names.SEARCH);
+        assert executor instanceof TaskExecutionTimeTrackingEsThreadPoolExecutor
+            || (executor instanceof EsThreadPoolExecutor == false /* in case thread pool is mocked out in tests */)
+            : "SEARCH threadpool should have an executor that exposes EWMA metrics, but is of type " + executor.getClass();
+        if (executor instanceof TaskExecutionTimeTrackingEsThreadPoolExecutor rExecutor) {
+            queryResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
+            queryResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
+        }
+    }
+
+    /**
+     * Caches the results of single segments for {@link #executeBySegment}.
+     */
+    public interface SegmentResultCache {
+        /**
+         * The cached result of {@code leaf} or {@code null} if it has to be computed.
+         */
+        @Nullable
+        SegmentQueryResult get(LeafReaderContext leaf) throws IOException;
+
+        /**
+         * Caches the complete result that was computed for {@code leaf}.
+         */
+        void put(LeafReaderContext leaf, SegmentQueryResult result) throws IOException;
+    }
+
+    /**
+     * Can the query phase be executed one segment at a time with {@link #executeBySegment}? This is the case of requests
+     * that only need hit counts and aggregations, whose results are reduced across segments the same way they are across
+     * search slices. Nothing may depend on scores since they are computed from the statistics of the whole shard, which
+     * change with every segment. Callers must also check that the aggregations support parallel collection.
+     */
+    public static boolean canExecuteBySegment(SearchContext searchContext) {
+        return searchContext.aggregations() != null
+            && searchContext.aggregations().isInSortOrderExecutionRequired() == false
+            && searchContext.aggregations().factories().needsScores() == false
+            && matchesDependOnScores(searchContext.query()) == false
+            && searchContext.size() == 0
+            && searchContext.sort() == null
+            && searchContext.scrollContext() == null
+            && searchContext.collapse() == null
+            && searchContext.parsedPostFilter() == null
+            && searchContext.minimumScore() == null
+            && searchContext.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && searchContext.suggest() == null
+            && searchContext.rescore().isEmpty()
+            && searchContext.rankShardContext() == null
+            && searchContext.getProfilers() == null
+            && searchContext.searcher().getIndexReader().leaves().isEmpty() == false;
+    }
+
+    /**
+     * Does {@code query} select its matches by score, like knn queries that match the best hits of the whole shard or
+     * queries with a minimum score? The matches of such queries on a segment depend on the other segments of the shard.
+     */
+    private static boolean matchesDependOnScores(Query query) {
+        final boolean[] dependOnScores = new boolean[1];
+        query.visit(new QueryVisitor() {
+            @Override
+            public QueryVisitor getSubVisitor(BooleanClause.Occur occur, Query parent) {
+                check(parent);
+                return this;
+            }
+
+            @Override
+            public void visitLeaf(Query leaf) {
+                check(leaf);
+            }
+
+            private void check(Query q) {
+                if (q instanceof AbstractKnnVectorQuery
+                    || q instanceof VectorSimilarityQuery
+                    || (q instanceof FunctionScoreQuery functionScoreQuery && functionScoreQuery.getMinScore() != null)
+                    || (q instanceof ScriptScoreQuery scriptScoreQuery && scriptScoreQuery.getMinScore() != null)) {
+                    dependOnScores[0] = true;
+                }
             }
+        });
+        return dependOnScores[0];
+    }
+
+    /**
+     * Executes the query phase one segment at a time and reduces the hit counts and the partially reduced aggregations of
+     * the segments into the result of the shard. Results are taken from {@code cache} when it has them, the other segments
+     * are searched concurrently and their complete results are added to {@code cache}.
+     */
+    public static void executeBySegment(SearchContext searchContext, SegmentResultCache cache) throws QueryPhaseExecutionException {
+        assert canExecuteBySegment(searchContext);
+        final ContextIndexSearcher searcher = searchContext.searcher();
+        final QuerySearchResult queryResult = searchContext.queryResult();
+        queryResult.searchTimedOut(false);
+        try {
+            queryResult.from(searchContext.from());
+            queryResult.size(searchContext.size());
+            final Runnable timeoutRunnable = getTimeoutCheck(searchContext);
+            if (timeoutRunnable != null) {
+                searcher.addQueryCancellation(timeoutRunnable);
+            }
+            final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+            final SegmentQueryResult[] results = new SegmentQueryResult[leaves.size()];
+            final List<LeafReaderContext> misses = new ArrayList<>();
+            for (LeafReaderContext leaf : leaves) {
+                results[leaf.ord] = cache.get(leaf);
+                if (results[leaf.ord] == null) {
+                    misses.add(leaf);
+                }
+            }
+            if (misses.isEmpty() == false) {
+                final List<SegmentQueryResult> computed = executeOnSegments(searchContext, misses);
+                for (int i = 0; i < misses.size(); i++) {
+                    final SegmentQueryResult result = computed.get(i);
+                    results[misses.get(i).ord] = result;
+                    // same as the shard level cache, partial results mustn't be cached
+                    if (result.timedOut() == false) {
+                        cache.put(misses.get(i), result);
+                    }
+                }
+            }
+            final List<InternalAggregations> aggregations = new ArrayList<>(results.length);
+            long totalHits = 0;
+            TotalHits.Relation relation = TotalHits.Relation.EQUAL_TO;
+            boolean timedOut = false;
+            for (SegmentQueryResult result : results) {
+                totalHits += result.totalHits().value;
+                if (result.totalHits().relation != TotalHits.Relation.EQUAL_TO) {
+                    relation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+                }
+                aggregations.add(result.aggregations());
+                timedOut |= result.timedOut();
+            }
+            if (timedOut) {
+                if (searchContext.request().allowPartialSearchResults() == false) {
+                    throw new SearchTimeoutException(searchContext.shardTarget(), "Time exceeded");
+                }
+                queryResult.searchTimedOut(true);
+            }
+            queryResult.topDocs(
+                new TopDocsAndMaxScore(new TopDocs(new TotalHits(totalHits, relation), Lucene.EMPTY_SCORE_DOCS), Float.NaN),
+                null
+            );
+            if (aggregations.size() == 1) {
+                queryResult.aggregations(aggregations.get(0));
+            } else {
+                queryResult.aggregations(
+                    InternalAggregations.topLevelReduce(
+                        aggregations,
+                        searchContext.aggregations().getAggregationReduceContextBuilder().forPartialReduction()
+                    )
+                );
+            }
+            recordSearchExecutorStats(searchContext, queryResult);
         } catch (Exception e) {
             throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Failed to execute main query", e);
         }
     }
 
+    /**
+     * Executes the query phase against each of {@code leaves}, as if it were the only segment of the shard. Results are
+     * returned in the order of the leaves.
+     */
+    static List<SegmentQueryResult> executeOnSegments(SearchContext searchContext, List<LeafReaderContext> leaves) throws IOException {
+        final ContextIndexSearcher searcher = searchContext.searcher();
+        final InternalAggregations[] aggregations = new InternalAggregations[leaves.size()];
+        final List<CollectorManager<Collector, QueryPhaseResult>> collectorManagers = new ArrayList<>(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            final int index = i;
+            collectorManagers.add(
+                QueryPhaseCollectorManager.createQueryPhaseCollectorManager(
+                    null,
+                    AggregationPhase.newSegmentCollectorManager(searchContext, aggs -> aggregations[index] = aggs),
+                    searchContext,
+                    false
+                )
+            );
+        }
+        final List<QueryPhaseResult> queryPhaseResults = searcher.search(leaves, searchContext.rewrittenQuery(), collectorManagers);
+        // the segments are searched concurrently so we can't tell which of them timed out
+        final boolean timedOut = searcher.timeExceeded();
+        final List<SegmentQueryResult> results = new ArrayList<>(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            assert aggregations[i] != null;
+            results.add(new SegmentQueryResult(queryPhaseResults.get(i).topDocsAndMaxScore().topDocs.totalHits, aggregations[i], timedOut));
+        }
+        return results;
+    }
+
     /**
      * Returns whether collection within the provided <code>reader</code> can be early-terminated if it sorts
      * with <code>sortAndFormats</code>.
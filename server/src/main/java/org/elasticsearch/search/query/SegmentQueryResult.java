@@ -0,0 +1,40 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.search.query;
+
+import org.apache.lucene.search.TotalHits;
+import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.common.io.stream.Writeable;
+import org.elasticsearch.common.lucene.Lucene;
+import org.elasticsearch.search.aggregations.InternalAggregations;
+
+import java.io.IOException;
+
+/**
+ * The result of the query phase of a size 0 aggregation request against a single segment of a shard, as computed by
+ * {@link QueryPhase#executeOnSegments}. Only ever serialized to be cached on the node that computed it.
+ *
+ * @param totalHits the hits of the segment
+ * @param aggregations the aggregations of the segment, partially reduced like those of a search slice
+ * @param timedOut whether the search timed out while collecting the segment, in which case the result is partial
+ */
+public record SegmentQueryResult(TotalHits totalHits, InternalAggregations aggregations, boolean timedOut) implements Writeable {
+
+    public static SegmentQueryResult readFrom(StreamInput in) throws IOException {
+        return new SegmentQueryResult(Lucene.readTotalHits(in), InternalAggregations.readFrom(in), in.readBoolean());
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        Lucene.writeTotalHits(out, totalHits);
+        aggregations.writeTo(out);
+        out.writeBoolean(timedOut);
+    }
+}
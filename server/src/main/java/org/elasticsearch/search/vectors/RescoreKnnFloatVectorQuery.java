@@ -0,0 +1,134 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.search.vectors;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A knn query over quantized vectors that collects more candidates than requested and
+ * rescores them with the raw float vectors, so that the error of the quantization only
+ * decides which candidates are considered and not which of them are returned.
+ */
+public class RescoreKnnFloatVectorQuery extends ESKnnFloatVectorQuery {
+    private final int numCands;
+    private final float oversample;
+    private final float[] target;
+
+    /**
+     * @param numCands the number of candidates to return per shard
+     * @param oversample how many more candidates to collect from the quantized vectors before rescoring
+     */
+    public RescoreKnnFloatVectorQuery(String field, float[] target, int numCands, float oversample, Query filter) {
+        super(field, target, oversampledCandidates(numCands, oversample), filter);
+        this.numCands = numCands;
+        this.oversample = oversample;
+        this.target = target;
+    }
+
+    static int oversampledCandidates(int numCands, float oversample) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(numCands * (double) oversample));
+    }
+
+    @Override
+    public Query rewrite(IndexSearcher indexSearcher) throws IOException {
+        return new Rescorer(indexSearcher.getIndexReader()).rewrite(indexSearcher);
+    }
+
+    /**
+     * Collects the candidates of a single rewrite and rescores them with the raw vectors of its reader.
+     */
+    private class Rescorer extends ESKnnFloatVectorQuery {
+        private final IndexReader reader;
+
+        Rescorer(IndexReader reader) {
+            super(
+                RescoreKnnFloatVectorQuery.this.field,
+                RescoreKnnFloatVectorQuery.this.target,
+                RescoreKnnFloatVectorQuery.this.k,
+                RescoreKnnFloatVectorQuery.this.getFilter()
+            );
+            this.reader = reader;
+        }
+
+        @Override
+        protected TopDocs mergeLeafResults(TopDocs[] perLeafResults) {
+            // merge on the outer query so that it reports the vector operations to the profiler
+            TopDocs candidates = RescoreKnnFloatVectorQuery.super.mergeLeafResults(perLeafResults);
+            try {
+                return rescore(reader, candidates);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private TopDocs rescore(IndexReader reader, TopDocs candidates) throws IOException {
+        ScoreDoc[] scoreDocs = candidates.scoreDocs.clone();
+        // vector values can only move forward, visit the candidates in doc id order
+        Arrays.sort(scoreDocs, Comparator.comparingInt(scoreDoc -> scoreDoc.doc));
+        List<LeafReaderContext> leaves = reader.leaves();
+        LeafReaderContext leaf = null;
+        FloatVectorValues vectorValues = null;
+        FieldInfo fieldInfo = null;
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            if (leaf == null || scoreDoc.doc >= leaf.docBase + leaf.reader().maxDoc()) {
+                leaf = leaves.get(ReaderUtil.subIndex(scoreDoc.doc, leaves));
+                vectorValues = leaf.reader().getFloatVectorValues(field);
+                fieldInfo = leaf.reader().getFieldInfos().fieldInfo(field);
+            }
+            int doc = scoreDoc.doc - leaf.docBase;
+            if (vectorValues != null && vectorValues.advance(doc) == doc) {
+                scoreDoc.score = fieldInfo.getVectorSimilarityFunction().compare(target, vectorValues.vectorValue());
+            }
+        }
+        Arrays.sort(scoreDocs, (a, b) -> {
+            int cmp = Float.compare(b.score, a.score);
+            return cmp != 0 ? cmp : Integer.compare(a.doc, b.doc);
+        });
+        if (scoreDocs.length > numCands) {
+            scoreDocs = Arrays.copyOf(scoreDocs, numCands);
+        }
+        TotalHits totalHits = new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO);
+        return new TopDocs(totalHits, scoreDocs);
+    }
+
+    @Override
+    public String toString(String field) {
+        return super.toString(field) + "[numCands=" + numCands + ", oversample=" + oversample + "]";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (super.equals(o) == false) return false;
+        RescoreKnnFloatVectorQuery that = (RescoreKnnFloatVectorQuery) o;
+        return numCands == that.numCands && oversample == that.oversample;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), numCands, oversample);
+    }
+}
@@ -82,6 +82,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public static final String SNAPSHOT = "snapshot";
         public static final String SNAPSHOT_META = "snapshot_meta";
         public static final String FORCE_MERGE = "force_merge";
+        public static final String VECTOR_MERGE = "vector_merge";
         public static final String FETCH_SHARD_STARTED = "fetch_shard_started";
         public static final String FETCH_SHARD_STORE = "fetch_shard_store";
         public static final String SYSTEM_READ = "system_read";
@@ -142,6 +143,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         entry(Names.SNAPSHOT, ThreadPoolType.SCALING),
         entry(Names.SNAPSHOT_META, ThreadPoolType.SCALING),
         entry(Names.FORCE_MERGE, ThreadPoolType.FIXED),
+        entry(Names.VECTOR_MERGE, ThreadPoolType.FIXED),
         entry(Names.FETCH_SHARD_STARTED, ThreadPoolType.SCALING),
         entry(Names.FETCH_SHARD_STORE, ThreadPoolType.SCALING),
         entry(Names.SEARCH_THROTTLED, ThreadPoolType.FIXED),
@@ -275,6 +277,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 TaskTrackingConfig.DO_NOT_TRACK
             )
         );
+        builders.put(
+            Names.VECTOR_MERGE,
+            new FixedExecutorBuilder(settings, Names.VECTOR_MERGE, halfProcMaxAt5, -1, TaskTrackingConfig.DO_NOT_TRACK)
+        );
         builders.put(
             Names.CLUSTER_COORDINATION,
             new FixedExecutorBuilder(settings, Names.CLUSTER_COORDINATION, 1, -1, TaskTrackingConfig.DO_NOT_TRACK)
@@ -624,6 +624,7 @@ public class NodeStatsTests extends ESTestCase {
 
         MergeStats mergeStats = new MergeStats();
         mergeStats.add(++iota, ++iota, ++iota, ++iota, ++iota, ++iota, ++iota, ++iota, ++iota, 1.0 * ++iota);
+        mergeStats.addTotalVectorsTimeInMillis(++iota);
 
         indicesCommonStats.getMerge().add(mergeStats);
         indicesCommonStats.getRefresh().add(new RefreshStats(++iota, ++iota, ++iota, ++iota, ++iota));
@@ -0,0 +1,151 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.action.bulk;
+
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.support.WriteRequest.RefreshPolicy;
+import org.elasticsearch.client.internal.Requests;
+import org.elasticsearch.common.util.concurrent.EsExecutors;
+import org.elasticsearch.index.mapper.MapperService;
+import org.elasticsearch.index.mapper.MapperServiceTestCase;
+import org.elasticsearch.index.mapper.ParsedDocument;
+import org.elasticsearch.index.shard.ShardId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BulkItemPreParserTests extends MapperServiceTestCase {
+
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+
+    private BulkShardRequest bulkRequest(int numItems, boolean withDeletes) {
+        BulkItemRequest[] items = new BulkItemRequest[numItems];
+        for (int i = 0; i < numItems; i++) {
+            if (withDeletes && i % 3 == 2) {
+                items[i] = new BulkItemRequest(i, new DeleteRequest("index", "id-" + i));
+            } else {
+                items[i] = new BulkItemRequest(
+                    i,
+                    new IndexRequest("index").id("id-" + i).source(Requests.INDEX_CONTENT_TYPE, "field", "value-" + i)
+                );
+            }
+        }
+        return new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+    }
+
+    public void testNotStartedWithoutParallelism() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> {}));
+        assertThat(BulkItemPreParser.start(bulkRequest(10, false), mapperService, 1, EsExecutors.DIRECT_EXECUTOR_SERVICE), nullValue());
+        assertThat(BulkItemPreParser.start(bulkRequest(1, false), mapperService, 4, EsExecutors.DIRECT_EXECUTOR_SERVICE), nullValue());
+    }
+
+    public void testParsesAhead() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> {}));
+        BulkShardRequest request = bulkRequest(between(2, 50), true);
+        BulkItemPreParser preParser = BulkItemPreParser.start(request, mapperService, between(2, 8), EsExecutors.DIRECT_EXECUTOR_SERVICE);
+        assertThat(preParser, notNullValue());
+        for (int i = 0; i < request.items().length; i++) {
+            if (request.items()[i].request() instanceof IndexRequest) {
+                ParsedDocument doc = preParser.take(i);
+                assertThat(doc, notNullValue());
+                assertThat(doc.id(), equalTo("id-" + i));
+                // documents are only handed out once
+                assertThat(preParser.take(i), nullValue());
+            }
+        }
+        preParser.close();
+    }
+
+    public void testExecutingThreadParsesItemsTheHelpersDidNotGetTo() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> {}));
+        BulkShardRequest request = bulkRequest(between(2, 50), false);
+        // the helpers never run, for instance because the write pool is busy
+        List<Runnable> helpers = new ArrayList<>();
+        BulkItemPreParser preParser = BulkItemPreParser.start(request, mapperService, between(2, 8), helpers::add);
+        assertThat(preParser, notNullValue());
+        assertFalse(helpers.isEmpty());
+        int claimed = between(1, request.items().length);
+        for (int i = 0; i < claimed; i++) {
+            assertThat(preParser.take(i), nullValue());
+        }
+        // the helpers skip the items the executing thread already claimed
+        helpers.forEach(Runnable::run);
+        for (int i = 0; i < request.items().length; i++) {
+            ParsedDocument doc = preParser.take(i);
+            if (i < claimed) {
+                assertThat(doc, nullValue());
+            } else {
+                assertThat(doc.id(), equalTo("id-" + i));
+            }
+        }
+    }
+
+    public void testParsesBoundedBytesAhead() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> {}));
+        BulkShardRequest request = bulkRequest(between(2, 50), false);
+        // a budget of a single byte only ever leaves one document parsed ahead
+        BulkItemPreParser preParser = BulkItemPreParser.start(
+            request,
+            mapperService,
+            between(2, 8),
+            EsExecutors.DIRECT_EXECUTOR_SERVICE,
+            1
+        );
+        assertThat(preParser, notNullValue());
+        for (int i = 0; i < request.items().length; i++) {
+            IndexRequest indexRequest = (IndexRequest) request.items()[i].request();
+            assertThat(preParser.sourceBytesAhead(), equalTo((long) indexRequest.source().length()));
+            // taking the document starts a helper that parses the next one
+            ParsedDocument doc = preParser.take(i);
+            assertThat(doc, notNullValue());
+            assertThat(doc.id(), equalTo("id-" + i));
+        }
+        assertThat(preParser.sourceBytesAhead(), equalTo(0L));
+        preParser.close();
+    }
+
+    public void testDropsDocumentsParsedWithAnOldMapping() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> {}));
+        BulkShardRequest request = bulkRequest(between(2, 50), false);
+        BulkItemPreParser preParser = BulkItemPreParser.start(request, mapperService, between(2, 8), EsExecutors.DIRECT_EXECUTOR_SERVICE);
+        merge(mapperService, mapping(b -> b.startObject("field").field("type", "keyword").endObject()));
+        for (int i = 0; i < request.items().length; i++) {
+            assertThat(preParser.take(i), nullValue());
+        }
+    }
+
+    public void testConcurrentHelpers() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> {}));
+        BulkShardRequest request = bulkRequest(between(2, 500), true);
+        List<Thread> threads = new ArrayList<>();
+        BulkItemPreParser preParser = BulkItemPreParser.start(request, mapperService, between(2, 8), r -> {
+            Thread thread = new Thread(r);
+            threads.add(thread);
+            thread.start();
+        });
+        for (int i = 0; i < request.items().length; i++) {
+            if (request.items()[i].request() instanceof IndexRequest) {
+                // either a helper parsed the document or the executing thread got to it first
+                ParsedDocument doc = preParser.take(i);
+                if (doc != null) {
+                    assertThat(doc.id(), equalTo("id-" + i));
+                }
+            }
+        }
+        preParser.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -52,7 +52,11 @@ import org.elasticsearch.threadpool.ThreadPool;
 import org.elasticsearch.threadpool.ThreadPool.Names;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -65,6 +69,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -1213,6 +1218,55 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         verify(mapperService, times(2)).merge(any(), any(CompressedXContent.class), any());
     }
 
+    public void testDynamicMappingUpdatesOfBulkAreBatched() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        int numItems = between(2, 10);
+        BulkItemRequest[] items = new BulkItemRequest[numItems];
+        for (int i = 0; i < numItems; i++) {
+            items[i] = new BulkItemRequest(i, new IndexRequest("index").id("id-" + i).source(Requests.INDEX_CONTENT_TYPE, "field-" + i, i));
+        }
+        // conflicts with the first item's field, it is left out of the batch and fails on its own
+        items = Arrays.copyOf(items, numItems + 1);
+        items[numItems] = new BulkItemRequest(
+            numItems,
+            new IndexRequest("index").id("conflict").source(Requests.INDEX_CONTENT_TYPE, "field-0", Map.of("object", "value"))
+        );
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        List<Mapping> updates = new ArrayList<>();
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        MappingUpdatePerformer mappingUpdater = (update, shardId, listener) -> {
+            updates.add(update);
+            try {
+                shard.mapperService()
+                    .merge(MapperService.SINGLE_MAPPING_NAME, new CompressedXContent(update), MapperService.MergeReason.MAPPING_UPDATE);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            listener.onResponse(null);
+        };
+        while (context.hasMoreOperationsToExecute()) {
+            TransportShardBulkAction.executeBulkItemRequest(
+                context,
+                null,
+                threadPool::absoluteTimeInMillis,
+                mappingUpdater,
+                listener -> listener.onResponse(null),
+                ASSERTING_DONE_LISTENER
+            );
+        }
+
+        assertThat(updates, hasSize(1));
+        for (int i = 0; i < numItems; i++) {
+            assertThat(updates.get(0).toString(), containsString("field-" + i));
+            assertFalse(bulkShardRequest.items()[i].getPrimaryResponse().isFailed());
+        }
+        assertTrue(bulkShardRequest.items()[numItems].getPrimaryResponse().isFailed());
+        assertDocCount(shard, numItems);
+        closeShards(shard);
+    }
+
     private IndexShard mockShard() {
         IndexShard shard = mock(IndexShard.class);
         when(shard.shardId()).thenReturn(shardId);
@@ -0,0 +1,78 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+
+package org.elasticsearch.action.search;
+
+import org.elasticsearch.TransportVersion;
+import org.elasticsearch.TransportVersions;
+import org.elasticsearch.action.OriginalIndicesTests;
+import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.search.SearchModule;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.internal.AliasFilter;
+import org.elasticsearch.search.internal.ShardSearchRequest;
+import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.test.TransportVersionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class NodeQueryRequestTests extends ESTestCase {
+
+    public void testSerialization() throws Exception {
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, emptyList()).getNamedWriteables()
+        );
+        SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(randomBoolean());
+        searchRequest.source(new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.max("max").field("field")));
+        int numShards = randomIntBetween(1, 10);
+        List<ShardSearchRequest> shards = new ArrayList<>(numShards);
+        for (int i = 0; i < numShards; i++) {
+            shards.add(
+                new ShardSearchRequest(
+                    OriginalIndicesTests.randomOriginalIndices(),
+                    searchRequest,
+                    new ShardId("index", "uuid", i),
+                    i,
+                    numShards,
+                    AliasFilter.EMPTY,
+                    1.0f,
+                    randomNonNegativeLong(),
+                    null
+                )
+            );
+        }
+        NodeQueryRequest request = new NodeQueryRequest(shards, randomIntBetween(1, 256));
+
+        // node-level requests are only sent once every node in the cluster is on or after the version that introduced them
+        TransportVersion version = TransportVersionUtils.randomVersionBetween(
+            random(),
+            TransportVersions.SEARCH_QUERY_NODE_ACTION,
+            TransportVersion.current()
+        );
+        NodeQueryRequest deserialized = copyWriteable(request, namedWriteableRegistry, NodeQueryRequest::new, version);
+        assertThat(deserialized.getMaxConcurrentShardRequests(), equalTo(request.getMaxConcurrentShardRequests()));
+        assertThat(deserialized.getShardLevelRequests(), hasSize(numShards));
+        for (int i = 0; i < numShards; i++) {
+            ShardSearchRequest shard = request.getShardLevelRequests().get(i);
+            ShardSearchRequest deserializedShard = deserialized.getShardLevelRequests().get(i);
+            assertThat(deserializedShard.shardId(), equalTo(shard.shardId()));
+            assertThat(deserializedShard.shardRequestIndex(), equalTo(shard.shardRequestIndex()));
+            assertThat(deserializedShard.source(), equalTo(shard.source()));
+            assertArrayEquals(shard.indices(), deserializedShard.indices());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+
+package org.elasticsearch.action.search;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.TransportVersion;
+import org.elasticsearch.TransportVersions;
+import org.elasticsearch.common.UUIDs;
+import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
+import org.elasticsearch.common.lucene.search.TopDocsAndMaxScore;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.search.DocValueFormat;
+import org.elasticsearch.search.SearchModule;
+import org.elasticsearch.search.SearchShardTarget;
+import org.elasticsearch.search.aggregations.InternalAggregations;
+import org.elasticsearch.search.aggregations.InternalAggregationsTests;
+import org.elasticsearch.search.internal.ShardSearchContextId;
+import org.elasticsearch.search.query.QuerySearchResult;
+import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.test.TransportVersionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+public class NodeQueryResponseTests extends ESTestCase {
+
+    public void testSerialization() throws Exception {
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, emptyList()).getNamedWriteables()
+        );
+        int numShards = randomIntBetween(1, 10);
+        List<NodeQueryResponse.ResponseOrFailure> responses = new ArrayList<>(numShards);
+        for (int i = 0; i < numShards; i++) {
+            if (randomBoolean()) {
+                responses.add(new NodeQueryResponse.ResponseOrFailure(new ElasticsearchException("shard [" + i + "] failed")));
+            } else {
+                responses.add(new NodeQueryResponse.ResponseOrFailure(createQueryResult(i)));
+            }
+        }
+        NodeQueryResponse response = new NodeQueryResponse(responses);
+        try {
+            NodeQueryResponse deserialized = copyWriteable(
+                response,
+                namedWriteableRegistry,
+                NodeQueryResponse::new,
+                TransportVersionUtils.randomVersionBetween(random(), TransportVersions.SEARCH_QUERY_NODE_ACTION, TransportVersion.current())
+            );
+            try {
+                assertThat(deserialized.getResponses(), hasSize(numShards));
+                for (int i = 0; i < numShards; i++) {
+                    NodeQueryResponse.ResponseOrFailure original = response.getResponses().get(i);
+                    NodeQueryResponse.ResponseOrFailure copy = deserialized.getResponses().get(i);
+                    if (original.getException() != null) {
+                        assertThat(copy.getResponse(), nullValue());
+                        assertThat(copy.getException().getMessage(), containsString("shard [" + i + "] failed"));
+                        continue;
+                    }
+                    assertThat(copy.getException(), nullValue());
+                    QuerySearchResult result = original.getResponse();
+                    QuerySearchResult deserializedResult = copy.getResponse();
+                    assertThat(deserializedResult.getContextId(), equalTo(result.getContextId()));
+                    assertThat(deserializedResult.topDocs().topDocs.totalHits, equalTo(result.topDocs().topDocs.totalHits));
+                    assertThat(deserializedResult.hasAggs(), equalTo(result.hasAggs()));
+                    if (deserializedResult.hasAggs()) {
+                        // the aggregations of node-level responses are read lazily so the coordinator can release them
+                        assertTrue(deserializedResult.aggregations().isSerialized());
+                        InternalAggregations aggs = result.consumeAggs();
+                        assertThat(deserializedResult.consumeAggs().asList(), equalTo(aggs.asList()));
+                    }
+                }
+            } finally {
+                deserialized.decRef();
+            }
+        } finally {
+            response.decRef();
+        }
+    }
+
+    private static QuerySearchResult createQueryResult(int shard) throws Exception {
+        ShardId shardId = new ShardId("index", "uuid", shard);
+        QuerySearchResult result = new QuerySearchResult(
+            new ShardSearchContextId(UUIDs.base64UUID(), randomLong()),
+            new SearchShardTarget("node", shardId, null),
+            null
+        );
+        TopDocs topDocs = new TopDocs(new TotalHits(randomLongBetween(0, Long.MAX_VALUE), TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+        result.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), new DocValueFormat[0]);
+        result.size(0);
+        result.from(0);
+        if (randomBoolean()) {
+            result.aggregations(InternalAggregationsTests.createTestInstance());
+        }
+        return result;
+    }
+}
@@ -83,6 +83,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -803,7 +804,70 @@ public class SearchPhaseControllerTests extends ESTestCase {
         }
     }
 
-    public void testConsumerOnlyAggs() throws Exception {
+    public void testConsumerTreeReduce() throws Exception {
+        int expectedNumResults = randomIntBetween(1, 200);
+        int bufferSize = randomIntBetween(2, 10);
+        int maxConcurrentPartialReduces = randomIntBetween(2, 4);
+
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(new MaxAggregationBuilder("test")));
+        request.setBatchedReduceSize(bufferSize);
+        try (
+            SearchPhaseResults<SearchPhaseResult> consumer = searchPhaseController.newSearchPhaseResults(
+                threadPool.executor(ThreadPool.Names.SEARCH_COORDINATION),
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+                () -> false,
+                SearchProgressListener.NOOP,
+                request,
+                expectedNumResults,
+                maxConcurrentPartialReduces,
+                exc -> {}
+            )
+        ) {
+            int max = 0;
+            CountDownLatch latch = new CountDownLatch(expectedNumResults);
+            for (int i = 0; i < expectedNumResults; i++) {
+                int number = randomIntBetween(1, 1000);
+                max = Math.max(max, number);
+                QuerySearchResult result = new QuerySearchResult(
+                    new ShardSearchContextId("", i),
+                    new SearchShardTarget("node", new ShardId("a", "b", i), null),
+                    null
+                );
+                try {
+                    result.topDocs(
+                        new TopDocsAndMaxScore(
+                            new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(0, number) }),
+                            number
+                        ),
+                        new DocValueFormat[0]
+                    );
+                    InternalAggregations aggs = InternalAggregations.from(
+                        Collections.singletonList(new Max("test", (double) number, DocValueFormat.RAW, Collections.emptyMap()))
+                    );
+                    result.aggregations(aggs);
+                    result.setShardIndex(i);
+                    result.size(1);
+                    consumer.consumeResult(result, latch::countDown);
+                } finally {
+                    result.decRef();
+                }
+            }
+            // every shard result is only released once all the partial reduces that depend on it completed
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+            SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+            assertAggReduction(request);
+            Max internalMax = (Max) reduce.aggregations().asList().get(0);
+            assertEquals(max, internalMax.value(), 0.0D);
+            assertEquals(1, reduce.sortedTopDocs().scoreDocs().length);
+            assertEquals(max, reduce.maxScore(), 0.0f);
+            assertEquals(expectedNumResults, reduce.totalHits().value);
+            assertEquals(max, reduce.sortedTopDocs().scoreDocs()[0].score, 0.0f);
+        }
+    }
+
+        public void testConsumerOnlyAggs() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
         SearchRequest request = randomSearchRequest();
@@ -10,8 +10,11 @@ package org.elasticsearch.action.search;
 
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
+import org.elasticsearch.TransportVersion;
+import org.elasticsearch.TransportVersions;
 import org.elasticsearch.Version;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.OriginalIndices;
@@ -24,8 +27,10 @@ import org.elasticsearch.cluster.routing.GroupShardsIterator;
 import org.elasticsearch.cluster.routing.RecoverySource;
 import org.elasticsearch.cluster.routing.ShardRouting;
 import org.elasticsearch.cluster.routing.UnassignedInfo;
+import org.elasticsearch.cluster.version.CompatibilityVersions;
 import org.elasticsearch.common.breaker.CircuitBreaker;
 import org.elasticsearch.common.breaker.NoopCircuitBreaker;
+import org.elasticsearch.common.lucene.Lucene;
 import org.elasticsearch.common.lucene.search.TopDocsAndMaxScore;
 import org.elasticsearch.common.util.concurrent.EsExecutors;
 import org.elasticsearch.core.TimeValue;
@@ -37,6 +42,8 @@ import org.elasticsearch.lucene.grouping.TopFieldGroups;
 import org.elasticsearch.search.DocValueFormat;
 import org.elasticsearch.search.SearchPhaseResult;
 import org.elasticsearch.search.SearchShardTarget;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.InternalAggregations;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.collapse.CollapseBuilder;
 import org.elasticsearch.search.internal.AliasFilter;
@@ -46,15 +53,20 @@ import org.elasticsearch.search.query.QuerySearchResult;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.test.ESTestCase;
 import org.elasticsearch.test.InternalAggregationTestCase;
+import org.elasticsearch.test.TransportVersionUtils;
 import org.elasticsearch.test.VersionUtils;
 import org.elasticsearch.test.index.IndexVersionUtils;
 import org.elasticsearch.transport.Transport;
+import org.elasticsearch.transport.TransportException;
+import org.elasticsearch.transport.TransportResponseHandler;
+import org.elasticsearch.transport.TransportService;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -65,6 +77,10 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 
 public class SearchQueryThenFetchAsyncActionTests extends ESTestCase {
     public void testBottomFieldSort() throws Exception {
@@ -257,6 +273,241 @@ public class SearchQueryThenFetchAsyncActionTests extends ESTestCase {
     }
 
     @AwaitsFix(bugUrl = "https://github.com/elastic/elasticsearch/issues/101932")
+    public void testBatchQueryPhaseByNode() throws Exception {
+        DiscoveryNode node = DiscoveryNodeUtils.create("node1");
+        Map<String, Transport.Connection> lookup = Map.of("node1", new SearchAsyncActionTests.MockConnection(node));
+        int numShards = randomIntBetween(2, 10);
+        // fewer than the number of shards, the data node applies the limit to the shards of a batched request
+        int numConcurrent = randomIntBetween(1, numShards - 1);
+        AtomicInteger numShardRequests = new AtomicInteger();
+        List<NodeQueryRequest> nodeRequests = new CopyOnWriteArrayList<>();
+        SearchTransportService searchTransportService = new SearchTransportService(null, null, null) {
+            @Override
+            public void sendExecuteQuery(
+                Transport.Connection connection,
+                ShardSearchRequest request,
+                SearchTask task,
+                SearchActionListener<? super SearchPhaseResult> listener
+            ) {
+                numShardRequests.incrementAndGet();
+                ActionListener.respondAndRelease(listener, newQueryResult(request, connection.getNode().getId()));
+            }
+
+            @Override
+            public void sendExecuteQueryNode(
+                Transport.Connection connection,
+                NodeQueryRequest request,
+                SearchTask task,
+                List<SearchActionListener<? super SearchPhaseResult>> listeners
+            ) {
+                nodeRequests.add(request);
+                for (int i = 0; i < listeners.size(); i++) {
+                    ShardSearchRequest shardRequest = request.getShardLevelRequests().get(i);
+                    ActionListener.respondAndRelease(listeners.get(i), newQueryResult(shardRequest, connection.getNode().getId()));
+                }
+            }
+        };
+        GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter(
+            "idx",
+            new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            numShards,
+            false,
+            node,
+            null
+        );
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setMaxConcurrentShardRequests(numConcurrent);
+        searchRequest.source(new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.max("max").field("field")));
+        searchRequest.allowPartialSearchResults(false);
+
+        long successful = runBatchedQueryPhase(searchTransportService, lookup, shardsIter, searchRequest);
+        assertThat(successful, equalTo((long) numShards));
+        assertThat(numShardRequests.get(), equalTo(0));
+        assertThat(nodeRequests, hasSize(1));
+        assertThat(nodeRequests.get(0).getShardLevelRequests(), hasSize(numShards));
+        assertThat(nodeRequests.get(0).getMaxConcurrentShardRequests(), equalTo(numConcurrent));
+    }
+
+    public void testBatchedQueryPhaseNodeFailureRetriesShards() throws Exception {
+        DiscoveryNode primaryNode = DiscoveryNodeUtils.create("node1");
+        DiscoveryNode replicaNode = DiscoveryNodeUtils.create("node2");
+        Map<String, Transport.Connection> lookup = Map.of(
+            "node1",
+            new SearchAsyncActionTests.MockConnection(primaryNode),
+            "node2",
+            new SearchAsyncActionTests.MockConnection(replicaNode)
+        );
+        // at least one of the two nodes holds more than one shard and gets a node-level request
+        int numShards = randomIntBetween(3, 10);
+        Map<ShardId, String> failedShards = new ConcurrentHashMap<>();
+        Map<ShardId, String> retriedShards = new ConcurrentHashMap<>();
+        TransportService transportService = mock(TransportService.class);
+        doAnswer(invocation -> {
+            Transport.Connection connection = invocation.getArgument(0);
+            NodeQueryRequest request = invocation.getArgument(2);
+            for (ShardSearchRequest shardRequest : request.getShardLevelRequests()) {
+                assertNull(failedShards.put(shardRequest.shardId(), connection.getNode().getId()));
+            }
+            TransportResponseHandler<?> handler = invocation.getArgument(4);
+            handler.handleException(new TransportException("simulated node failure"));
+            return null;
+        }).when(transportService)
+            .sendChildRequest(any(Transport.Connection.class), eq(SearchTransportService.QUERY_NODE_ACTION_NAME), any(), any(), any());
+        SearchTransportService searchTransportService = new SearchTransportService(
+            transportService,
+            null,
+            (connection, listener) -> listener
+        ) {
+            @Override
+            public void sendExecuteQuery(
+                Transport.Connection connection,
+                ShardSearchRequest request,
+                SearchTask task,
+                SearchActionListener<? super SearchPhaseResult> listener
+            ) {
+                String nodeId = connection.getNode().getId();
+                String failedNode = failedShards.get(request.shardId());
+                if (failedNode != null) {
+                    assertNotEquals(failedNode, nodeId);
+                    retriedShards.put(request.shardId(), nodeId);
+                }
+                ActionListener.respondAndRelease(listener, newQueryResult(request, nodeId));
+            }
+        };
+        GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter(
+            "idx",
+            new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            numShards,
+            true,
+            primaryNode,
+            replicaNode
+        );
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setMaxConcurrentShardRequests(randomIntBetween(1, 4));
+        searchRequest.source(new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.max("max").field("field")));
+        searchRequest.allowPartialSearchResults(false);
+
+        long successful = runBatchedQueryPhase(searchTransportService, lookup, shardsIter, searchRequest);
+        assertThat(successful, equalTo((long) numShards));
+        assertFalse(failedShards.isEmpty());
+        assertThat(retriedShards.keySet(), equalTo(failedShards.keySet()));
+    }
+
+    public void testCanBatchQueryPhaseByNode() {
+        DiscoveryNode node = DiscoveryNodeUtils.create("node1");
+        GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter(
+            "idx",
+            new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            randomIntBetween(2, 10),
+            false,
+            node,
+            null
+        );
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max").field("field")));
+        ClusterState current = clusterStateWithTransportVersion(TransportVersion.current());
+        assertTrue(SearchQueryThenFetchAsyncAction.canBatchQueryPhaseByNode(true, searchRequest, shardsIter, current));
+        assertFalse(SearchQueryThenFetchAsyncAction.canBatchQueryPhaseByNode(false, searchRequest, shardsIter, current));
+
+        ClusterState mixed = clusterStateWithTransportVersion(
+            TransportVersionUtils.getPreviousVersion(TransportVersions.SEARCH_QUERY_NODE_ACTION)
+        );
+        assertFalse(SearchQueryThenFetchAsyncAction.canBatchQueryPhaseByNode(true, searchRequest, shardsIter, mixed));
+
+        SearchRequest noAggs = new SearchRequest();
+        noAggs.source(new SearchSourceBuilder());
+        assertFalse(SearchQueryThenFetchAsyncAction.canBatchQueryPhaseByNode(true, noAggs, shardsIter, current));
+
+        searchRequest.scroll(TimeValue.timeValueMillis(100));
+        assertFalse(SearchQueryThenFetchAsyncAction.canBatchQueryPhaseByNode(true, searchRequest, shardsIter, current));
+    }
+
+    private static ClusterState clusterStateWithTransportVersion(TransportVersion transportVersion) {
+        return ClusterState.builder(new ClusterName("test"))
+            .putCompatibilityVersions("node1", new CompatibilityVersions(transportVersion, Map.of()))
+            .build();
+    }
+
+    private static QuerySearchResult newQueryResult(ShardSearchRequest request, String nodeId) {
+        QuerySearchResult queryResult = new QuerySearchResult(
+            new ShardSearchContextId("N/A", request.shardId().id()),
+            new SearchShardTarget(nodeId, request.shardId(), null),
+            null
+        );
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), Lucene.EMPTY_SCORE_DOCS), Float.NaN),
+            new DocValueFormat[0]
+        );
+        queryResult.from(0);
+        queryResult.size(0);
+        queryResult.aggregations(InternalAggregations.EMPTY);
+        return queryResult;
+    }
+
+    /**
+     * Runs the query phase with batching by node enabled on a cluster that supports it and returns the number of successful shards.
+     */
+    private long runBatchedQueryPhase(
+        SearchTransportService searchTransportService,
+        Map<String, Transport.Connection> lookup,
+        GroupShardsIterator<SearchShardIterator> shardsIter,
+        SearchRequest searchRequest
+    ) throws Exception {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(
+            0,
+            System.nanoTime(),
+            System::nanoTime
+        );
+        CountDownLatch latch = new CountDownLatch(1);
+        SearchPhaseController controller = new SearchPhaseController((t, r) -> InternalAggregationTestCase.emptyReduceContextBuilder());
+        SearchTask task = new SearchTask(0, "n/a", "n/a", () -> "test", null, Collections.emptyMap());
+        try (
+            QueryPhaseResultConsumer resultConsumer = new QueryPhaseResultConsumer(
+                searchRequest,
+                EsExecutors.DIRECT_EXECUTOR_SERVICE,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+                controller,
+                task::isCancelled,
+                task.getProgressListener(),
+                shardsIter.size(),
+                exc -> {}
+            )
+        ) {
+            SearchQueryThenFetchAsyncAction action = new SearchQueryThenFetchAsyncAction(
+                logger,
+                null,
+                searchTransportService,
+                (clusterAlias, node) -> lookup.get(node),
+                Collections.singletonMap("_na_", AliasFilter.EMPTY),
+                Collections.emptyMap(),
+                EsExecutors.DIRECT_EXECUTOR_SERVICE,
+                resultConsumer,
+                searchRequest,
+                null,
+                shardsIter,
+                timeProvider,
+                clusterStateWithTransportVersion(TransportVersion.current()),
+                task,
+                SearchResponse.Clusters.EMPTY,
+                true
+            ) {
+                @Override
+                protected SearchPhase getNextPhase(SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                    return new SearchPhase("test") {
+                        @Override
+                        public void run() {
+                            latch.countDown();
+                        }
+                    };
+                }
+            };
+            assertTrue(action.batchesShardRequestsByNode());
+            action.start();
+            latch.await();
+            return action.results.getSuccessfulResults().count();
+        }
+    }
+
     public void testMinimumVersionSameAsNewVersion() throws Exception {
         var newVersion = VersionInformation.CURRENT;
         var oldVersion = new VersionInformation(
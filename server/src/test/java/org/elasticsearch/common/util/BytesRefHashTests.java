@@ -157,6 +157,7 @@ public class BytesRefHashTests extends ESTestCase {
             assertEquals(valueToId.size(), hash.size());
             for (var entry : valueToId.entrySet()) {
                 assertEquals(entry.getValue().longValue(), hash.find(entry.getKey(), entry.getKey().hashCode()));
+                assertEquals(entry.getValue().longValue(), hash.find(entry.getKey(), new BytesRef()));
             }
 
             for (long i = 0; i < hash.capacity(); ++i) {
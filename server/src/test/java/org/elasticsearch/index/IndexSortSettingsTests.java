@@ -201,6 +201,38 @@ public class IndexSortSettingsTests extends ESTestCase {
         assertThat(e.getMessage(), equalTo("unknown index sort field:[@timestamp] required by [index.mode=time_series]"));
     }
 
+    public void testLogsMode() {
+        IndexSettings indexSettings = indexSettings(Settings.builder().put(IndexSettings.MODE.getKey(), "logs").build());
+        Sort sort = buildIndexSort(
+            indexSettings,
+            new KeywordFieldMapper.KeywordFieldType("host.name"),
+            new DateFieldMapper.DateFieldType("@timestamp")
+        );
+        assertThat(sort.getSort(), arrayWithSize(2));
+        assertThat(sort.getSort()[0].getField(), equalTo("host.name"));
+        assertFalse(sort.getSort()[0].getReverse());
+        assertThat(sort.getSort()[1].getField(), equalTo("@timestamp"));
+        assertTrue(sort.getSort()[1].getReverse());
+    }
+
+    public void testLogsModeNoHost() {
+        IndexSettings indexSettings = indexSettings(Settings.builder().put(IndexSettings.MODE.getKey(), "logs").build());
+        Exception e = expectThrows(
+            IllegalArgumentException.class,
+            () -> buildIndexSort(indexSettings, new DateFieldMapper.DateFieldType("@timestamp"))
+        );
+        assertThat(e.getMessage(), equalTo("unknown index sort field:[host.name] required by [index.mode=logs]"));
+    }
+
+    public void testLogsModeCustomSort() {
+        IndexSettings indexSettings = indexSettings(
+            Settings.builder().put(IndexSettings.MODE.getKey(), "logs").put("index.sort.field", "service").build()
+        );
+        Sort sort = buildIndexSort(indexSettings, new KeywordFieldMapper.KeywordFieldType("service"));
+        assertThat(sort.getSort(), arrayWithSize(1));
+        assertThat(sort.getSort()[0].getField(), equalTo("service"));
+    }
+
     private Sort buildIndexSort(IndexSettings indexSettings, MappedFieldType... mfts) {
         Map<String, MappedFieldType> lookup = Maps.newMapWithExpectedSize(mfts.length);
         for (MappedFieldType mft : mfts) {
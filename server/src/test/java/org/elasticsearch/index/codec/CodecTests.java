@@ -12,18 +12,21 @@ import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.lucene90.Lucene90StoredFieldsFormat;
 import org.apache.lucene.codecs.lucene99.Lucene99Codec;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.util.LuceneTestCase.SuppressCodecs;
+import org.apache.lucene.util.BytesRef;
 import org.elasticsearch.TransportVersion;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.env.Environment;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.analysis.IndexAnalyzers;
+import org.elasticsearch.index.codec.zstd.ES813ZstdCodec;
 import org.elasticsearch.index.mapper.MapperRegistry;
 import org.elasticsearch.index.mapper.MapperService;
 import org.elasticsearch.index.similarity.SimilarityService;
@@ -57,6 +60,26 @@ public class CodecTests extends ESTestCase {
         assertStoredFieldsCompressionEquals(Lucene99Codec.Mode.BEST_COMPRESSION, codec);
     }
 
+    public void testZstd() throws Exception {
+        Codec codec = createCodecService().codec("zstd");
+        assertThat(codec, instanceOf(ES813ZstdCodec.class));
+        try (Directory dir = newDirectory()) {
+            IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(codec);
+            try (IndexWriter iw = new IndexWriter(dir, iwc)) {
+                Document doc = new Document();
+                doc.add(new StoredField("_source", new BytesRef("{\"foo\":\"bar\"}")));
+                iw.addDocument(doc);
+            }
+            try (DirectoryReader ir = DirectoryReader.open(dir)) {
+                SegmentReader sr = (SegmentReader) ir.leaves().get(0).reader();
+                // segments are read with the codec registered with SPI
+                assertEquals(ES813ZstdCodec.NAME, sr.getSegmentInfo().info.getCodec().getName());
+                assertEquals(new BytesRef("{\"foo\":\"bar\"}"), sr.storedFields().document(0).getBinaryValue("_source"));
+            }
+        }
+    }
+
     // write some docs with it, inspect .si to see this was the used compression
     private void assertStoredFieldsCompressionEquals(Lucene99Codec.Mode expected, Codec actual) throws Exception {
         Directory dir = newDirectory();
@@ -152,6 +152,45 @@ public class PerFieldMapperCodecTests extends ESTestCase {
         assertThat((perFieldMapperCodec.useTSDBDocValuesFormat("gauge")), is(false));
     }
 
+    public void testUseES87TSDBEncodingInLogsMode() throws IOException {
+        String mapping = """
+            {
+                "properties": {
+                    "@timestamp": {
+                        "type": "date"
+                    },
+                    "host": {
+                        "properties": {
+                            "name": {
+                                "type": "keyword"
+                            }
+                        }
+                    },
+                    "message": {
+                        "type": "text"
+                    },
+                    "payload": {
+                        "type": "binary",
+                        "doc_values": true
+                    }
+                }
+            }
+            """;
+        Settings settings = Settings.builder().put(IndexSettings.MODE.getKey(), "logs").build();
+        MapperService mapperService = MapperTestUtils.newMapperService(xContentRegistry(), createTempDir(), settings, "test");
+        mapperService.merge("type", new CompressedXContent(mapping), MapperService.MergeReason.MAPPING_UPDATE);
+        PerFieldMapperCodec perFieldMapperCodec = new PerFieldMapperCodec(
+            Lucene99Codec.Mode.BEST_SPEED,
+            mapperService,
+            BigArrays.NON_RECYCLING_INSTANCE
+        );
+        assertThat((perFieldMapperCodec.useTSDBDocValuesFormat("@timestamp")), is(true));
+        assertThat((perFieldMapperCodec.useTSDBDocValuesFormat("host.name")), is(true));
+        assertThat((perFieldMapperCodec.useTSDBDocValuesFormat("message")), is(false));
+        assertThat((perFieldMapperCodec.useTSDBDocValuesFormat("payload")), is(true));
+        assertThat(perFieldMapperCodec.useBloomFilter("_id"), is(true));
+    }
+
     private PerFieldMapperCodec createCodec(boolean timestampField, boolean timeSeries, boolean disableBloomFilter) throws IOException {
         Settings.Builder settings = Settings.builder();
         if (timeSeries) {
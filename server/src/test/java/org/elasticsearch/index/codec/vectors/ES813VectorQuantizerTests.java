@@ -0,0 +1,126 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.elasticsearch.test.ESTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class ES813VectorQuantizerTests extends ESTestCase {
+
+    private static float[][] randomVectors(int count, int dims) {
+        float[][] vectors = new float[count][dims];
+        for (float[] vector : vectors) {
+            for (int i = 0; i < dims; i++) {
+                vector[i] = (float) randomDoubleBetween(-1, 1, true);
+            }
+        }
+        return vectors;
+    }
+
+    private static ES813VectorQuantizer build(
+        ES813VectorQuantizer.Encoding encoding,
+        VectorSimilarityFunction similarity,
+        float[][] vectors
+    ) throws IOException {
+        return ES813VectorQuantizer.build(encoding, vectors[0].length, similarity, vectors.length, consumer -> {
+            for (float[] vector : vectors) {
+                consumer.accept(vector);
+            }
+        }, null);
+    }
+
+    private static float score(ES813VectorQuantizer quantizer, float[] a, float[] b) {
+        byte[] qa = new byte[quantizer.bytesPerVector()];
+        float[] ca = new float[quantizer.corrections()];
+        byte[] qb = new byte[quantizer.bytesPerVector()];
+        float[] cb = new float[quantizer.corrections()];
+        quantizer.quantize(a, qa, ca);
+        quantizer.quantize(b, qb, cb);
+        return quantizer.score(qa, ca, qb, cb);
+    }
+
+    public void testInt4EstimatesCosine() throws IOException {
+        int dims = between(32, 128);
+        float[][] vectors = randomVectors(between(10, 2000), dims);
+        ES813VectorQuantizer quantizer = build(ES813VectorQuantizer.Encoding.INT4, VectorSimilarityFunction.COSINE, vectors);
+        for (int i = 0; i < 100; i++) {
+            float[] a = randomFrom(vectors);
+            float[] b = randomFrom(vectors);
+            float exact = VectorSimilarityFunction.COSINE.compare(a, b);
+            assertThat((double) score(quantizer, a, b), closeTo(exact, 0.05));
+        }
+    }
+
+    public void testInt8EstimatesSimilarity() throws IOException {
+        int dims = between(32, 128);
+        float[][] vectors = randomVectors(between(10, 2000), dims);
+        VectorSimilarityFunction similarity = randomFrom(VectorSimilarityFunction.COSINE, VectorSimilarityFunction.DOT_PRODUCT);
+        if (similarity == VectorSimilarityFunction.DOT_PRODUCT) {
+            for (int i = 0; i < vectors.length; i++) {
+                vectors[i] = ES813VectorQuantizer.normalize(vectors[i]);
+            }
+        }
+        ES813VectorQuantizer quantizer = build(ES813VectorQuantizer.Encoding.INT8, similarity, vectors);
+        assertThat(quantizer.bytesPerVector(), equalTo(dims));
+        for (int i = 0; i < 100; i++) {
+            float[] a = randomFrom(vectors);
+            float[] b = randomFrom(vectors);
+            float exact = similarity.compare(a, b);
+            assertThat((double) score(quantizer, a, b), closeTo(exact, 0.05));
+        }
+    }
+
+    public void testBinaryScoresNearVectorsHigher() throws IOException {
+        int dims = between(64, 256);
+        float[][] vectors = randomVectors(between(100, 1000), dims);
+        VectorSimilarityFunction similarity = randomFrom(VectorSimilarityFunction.EUCLIDEAN, VectorSimilarityFunction.COSINE);
+        ES813VectorQuantizer quantizer = build(ES813VectorQuantizer.Encoding.BINARY, similarity, vectors);
+        float[] vector = randomFrom(vectors);
+        float[] near = new float[dims];
+        for (int i = 0; i < dims; i++) {
+            near[i] = vector[i] + (float) randomDoubleBetween(-0.05, 0.05, true);
+        }
+        float nearScore = score(quantizer, vector, near);
+        float[] far = new float[dims];
+        for (int i = 0; i < dims; i++) {
+            far[i] = -vector[i];
+        }
+        assertThat(nearScore, greaterThan(score(quantizer, vector, far)));
+        // a vector is rebuilt exactly from its corrections when compared to itself
+        float exact = similarity.compare(vector, vector);
+        assertThat((double) score(quantizer, vector, vector), closeTo(exact, 1e-3 * Math.max(1, exact)));
+    }
+
+    public void testReadParameters() throws IOException {
+        ES813VectorQuantizer.Encoding encoding = randomFrom(ES813VectorQuantizer.Encoding.values());
+        VectorSimilarityFunction similarity = randomFrom(VectorSimilarityFunction.values());
+        float[][] vectors = randomVectors(between(1, 100), between(1, 64));
+        ES813VectorQuantizer quantizer = build(encoding, similarity, vectors);
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        quantizer.writeParameters(out);
+        ES813VectorQuantizer read = ES813VectorQuantizer.read(
+            encoding,
+            quantizer.dims,
+            similarity,
+            new ByteArrayDataInput(out.toArrayCopy())
+        );
+        assertThat(read.encoding(), equalTo(encoding));
+        float[] a = randomFrom(vectors);
+        float[] b = randomFrom(vectors);
+        assertThat(score(read, a, b), equalTo(score(quantizer, a, b)));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.vectors;
+
+import org.apache.lucene.codecs.KnnFieldVectorsWriter;
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.Sorter;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.concurrent.EsExecutors;
+import org.elasticsearch.common.util.concurrent.ThreadContext;
+import org.elasticsearch.test.ESTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class VectorsMergeContextTests extends ESTestCase {
+
+    public void testValidation() {
+        expectThrows(IllegalArgumentException.class, () -> new VectorsMergeContext(0, null));
+        expectThrows(IllegalArgumentException.class, () -> new VectorsMergeContext(2, null));
+        expectThrows(IllegalArgumentException.class, () -> new VectorsMergeContext(1, EsExecutors.DIRECT_EXECUTOR_SERVICE));
+        VectorsMergeContext context = VectorsMergeContext.singleThreaded();
+        assertThat(context.numMergeWorkers(), equalTo(1));
+        assertNull(context.mergeExecutor());
+    }
+
+    public void testTracksMergeTime() throws IOException {
+        VectorsMergeContext context = VectorsMergeContext.singleThreaded();
+        KnnVectorsWriter writer = context.trackMerges(new KnnVectorsWriter() {
+            @Override
+            public KnnFieldVectorsWriter<?> addField(FieldInfo fieldInfo) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void flush(int maxDoc, Sorter.DocMap sortMap) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void mergeOneField(FieldInfo fieldInfo, MergeState mergeState) {
+                safeSleep(10);
+            }
+
+            @Override
+            public void finish() {}
+
+            @Override
+            public void close() {}
+
+            @Override
+            public long ramBytesUsed() {
+                return 0;
+            }
+        });
+        writer.mergeOneField(null, null);
+        writer.mergeOneField(null, null);
+        assertThat(context.totalTimeInMillis(), greaterThanOrEqualTo(20L));
+    }
+
+    public void testConcurrentMerge() throws Exception {
+        int workers = randomIntBetween(2, 4);
+        ExecutorService executor = EsExecutors.newFixed(
+            "vector_merge",
+            workers,
+            -1,
+            EsExecutors.daemonThreadFactory("vector_merge"),
+            new ThreadContext(Settings.EMPTY),
+            EsExecutors.TaskTrackingConfig.DO_NOT_TRACK
+        );
+        try {
+            VectorsMergeContext context = new VectorsMergeContext(workers, executor);
+            KnnVectorsFormat format = randomFrom(
+                new ES813Int4HnswVectorsFormat(16, 100, null, workers, executor),
+                new ES813BbqHnswVectorsFormat(16, 100, workers, executor)
+            );
+            IndexWriterConfig config = new IndexWriterConfig().setCodec(new Lucene99Codec() {
+                @Override
+                public KnnVectorsFormat getKnnVectorsFormatForField(String field) {
+                    return new KnnVectorsFormat(format.getName()) {
+                        @Override
+                        public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
+                            return context.trackMerges(format.fieldsWriter(state));
+                        }
+
+                        @Override
+                        public KnnVectorsReader fieldsReader(SegmentReadState state) throws IOException {
+                            return format.fieldsReader(state);
+                        }
+                    };
+                }
+            });
+            int numDocs = randomIntBetween(200, 500);
+            try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, config)) {
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    float[] vector = new float[] { randomFloat(), randomFloat() };
+                    doc.add(new KnnFloatVectorField("vector", vector, VectorSimilarityFunction.EUCLIDEAN));
+                    writer.addDocument(doc);
+                    if (rarely()) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+                writer.forceMerge(1);
+                try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                    assertThat(reader.leaves().size(), equalTo(1));
+                    KnnFloatVectorQuery query = new KnnFloatVectorQuery("vector", new float[] { 0.5f, 0.5f }, 10);
+                    TopDocs topDocs = new IndexSearcher(reader).search(query, 10);
+                    assertThat(topDocs.scoreDocs.length, equalTo(10));
+                }
+            }
+        } finally {
+            terminate(executor);
+        }
+    }
+}
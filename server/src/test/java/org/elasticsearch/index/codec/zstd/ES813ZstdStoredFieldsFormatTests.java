@@ -0,0 +1,29 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.codec.zstd;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.tests.index.BaseStoredFieldsFormatTestCase;
+import org.apache.lucene.tests.util.TestUtil;
+
+public class ES813ZstdStoredFieldsFormatTests extends BaseStoredFieldsFormatTestCase {
+
+    private final Codec codec = new ES813ZstdCodec(new Lucene99Codec(), TestUtil.nextInt(random(), Zstd.MIN_LEVEL, 9));
+
+    @Override
+    protected Codec getCodec() {
+        return codec;
+    }
+
+    public void testInvalidLevel() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new ZstdCompressionMode(Zstd.MAX_LEVEL + 1));
+        assertEquals("zstd level must be between [1] and [19] but was [20]", e.getMessage());
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.engine;
+
+import org.apache.lucene.tests.util.RamUsageTester;
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.MockBigArrays;
+import org.elasticsearch.common.util.MockPageCacheRecycler;
+import org.elasticsearch.core.Releasable;
+import org.elasticsearch.test.ESTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.elasticsearch.index.engine.LiveVersionMapTestUtils.randomIndexVersionValue;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class CompactVersionValueMapTests extends ESTestCase {
+
+    private static BigArrays bigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), ByteSizeValue.ofMb(100));
+    }
+
+    private static long breakerUsed(BigArrays bigArrays) {
+        return bigArrays.breakerService().getBreaker(CircuitBreaker.REQUEST).getUsed();
+    }
+
+    public void testAgainstHashMap() {
+        BigArrays bigArrays = bigArrays();
+        CompactVersionValueMap map = new CompactVersionValueMap(bigArrays, randomIntBetween(0, 100));
+        Map<BytesRef, VersionValue> expected = new HashMap<>();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.ramBytesUsed());
+        List<BytesRef> uids = new ArrayList<>();
+        int numUids = randomIntBetween(1, 500);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 20)));
+        }
+        int iters = randomIntBetween(100, 5000);
+        for (int i = 0; i < iters; i++) {
+            BytesRef uid = randomFrom(uids);
+            switch (between(0, 3)) {
+                case 0 -> {
+                    VersionValue value = randomIndexVersionValue();
+                    assertEquals(expected.put(uid, value), map.put(uid, value));
+                }
+                case 1 -> {
+                    long version = randomNonNegativeLong();
+                    VersionValue value = new DeleteVersionValue(version, randomNonNegativeLong(), randomNonNegativeLong(), i);
+                    assertEquals(expected.put(uid, value), map.put(uid, value));
+                }
+                case 2 -> assertEquals(expected.remove(uid), map.remove(uid));
+                case 3 -> assertEquals(expected.get(uid), map.get(uid));
+                default -> throw new AssertionError();
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.isEmpty(), map.isEmpty());
+        map.close();
+        assertEquals(0, breakerUsed(bigArrays));
+    }
+
+    public void testClear() {
+        BigArrays bigArrays = bigArrays();
+        try (CompactVersionValueMap map = new CompactVersionValueMap(bigArrays, randomIntBetween(0, 100))) {
+            int numUids = randomIntBetween(1, 500);
+            for (int i = 0; i < numUids; i++) {
+                map.put(new BytesRef(Integer.toString(i)), randomIndexVersionValue());
+            }
+            assertThat(breakerUsed(bigArrays), greaterThan(0L));
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertNull(map.get(new BytesRef("0")));
+            assertEquals(0, map.ramBytesUsed());
+            assertEquals(0, breakerUsed(bigArrays));
+
+            // the map is still usable after it has been cleared
+            VersionValue value = randomIndexVersionValue();
+            assertNull(map.put(new BytesRef("0"), value));
+            assertEquals(value, map.get(new BytesRef("0")));
+            assertEquals(1, map.size());
+        }
+        assertEquals(0, breakerUsed(bigArrays));
+    }
+
+    public void testClosed() {
+        BigArrays bigArrays = bigArrays();
+        CompactVersionValueMap map = new CompactVersionValueMap(bigArrays, 0);
+        BytesRef uid = new BytesRef("1");
+        map.put(uid, randomIndexVersionValue());
+        map.close();
+        assertEquals(0, breakerUsed(bigArrays));
+        assertNull(map.get(uid));
+        assertNull(map.remove(uid));
+        assertTrue(map.isEmpty());
+        assertTrue(map.entrySet().isEmpty());
+        expectThrows(IllegalStateException.class, () -> map.put(uid, randomIndexVersionValue()));
+        assertEquals(0, breakerUsed(bigArrays));
+    }
+
+    public void testConcurrentPutsOfDistinctUids() throws InterruptedException {
+        BigArrays bigArrays = bigArrays();
+        CompactVersionValueMap map = new CompactVersionValueMap(bigArrays, 0);
+        int numThreads = randomIntBetween(2, 8);
+        int uidsPerThread = randomIntBetween(100, 2000);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < uidsPerThread; i++) {
+                    BytesRef uid = new BytesRef(thread + "-" + i);
+                    IndexVersionValue value = new IndexVersionValue(null, i, i, thread);
+                    assertNull(map.put(uid, value));
+                    assertEquals(value, map.get(uid));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(map.size(), equalTo(numThreads * uidsPerThread));
+        for (int t = 0; t < numThreads; t++) {
+            for (int i = 0; i < uidsPerThread; i++) {
+                assertEquals(new IndexVersionValue(null, i, i, t), map.get(new BytesRef(t + "-" + i)));
+            }
+        }
+        map.close();
+        assertEquals(0, breakerUsed(bigArrays));
+    }
+
+    public void testRamBytesUsed() throws Exception {
+        LiveVersionMap compact = new LiveVersionMap(LiveVersionMapArchive.NOOP_ARCHIVE, BigArrays.NON_RECYCLING_INSTANCE);
+        LiveVersionMap objects = new LiveVersionMap(LiveVersionMapArchive.NOOP_ARCHIVE, null);
+        assertEquals(0, compact.ramBytesUsed());
+        for (int i = 0; i < 100000; ++i) {
+            // the version map requires uids whose bytes aren't shared
+            BytesRef uid = BytesRef.deepCopyOf(new BytesRef(TestUtil.randomSimpleString(random(), 10, 20)));
+            IndexVersionValue value = randomIndexVersionValue();
+            for (LiveVersionMap map : List.of(compact, objects)) {
+                try (Releasable r = map.acquireLock(uid)) {
+                    map.putIndexUnderLock(uid, value);
+                }
+            }
+        }
+        long actualRamBytesUsed = RamUsageTester.ramUsed(compact);
+        long estimatedRamBytesUsed = compact.ramBytesUsed();
+        // less than 50% off
+        assertEquals(actualRamBytesUsed, estimatedRamBytesUsed, actualRamBytesUsed / 2);
+        assertThat(compact.ramBytesUsed(), lessThan(objects.ramBytesUsed()));
+
+        compact.beforeRefresh();
+        assertThat(compact.getRefreshingBytes(), equalTo(estimatedRamBytesUsed));
+        compact.afterRefresh(true);
+        assertEquals(0, compact.ramBytesUsed());
+    }
+
+    public void testReleasedOnRefreshAndClear() throws Exception {
+        BigArrays bigArrays = bigArrays();
+        LiveVersionMap map = new LiveVersionMap(LiveVersionMapArchive.NOOP_ARCHIVE, bigArrays);
+        map.enforceSafeAccess();
+        int numDocs = randomIntBetween(1, 1000);
+        for (int i = 0; i < numDocs; i++) {
+            BytesRef uid = new BytesRef(Integer.toString(i));
+            try (Releasable r = map.acquireLock(uid)) {
+                map.putIndexUnderLock(uid, randomIndexVersionValue());
+            }
+        }
+        assertThat(breakerUsed(bigArrays), greaterThan(0L));
+        assertEquals(map.ramBytesUsed(), breakerUsed(bigArrays), map.ramBytesUsed() / 2);
+
+        map.beforeRefresh();
+        BytesRef uid = new BytesRef("during-refresh");
+        try (Releasable r = map.acquireLock(uid)) {
+            map.putIndexUnderLock(uid, randomIndexVersionValue());
+        }
+        map.afterRefresh(true);
+        try (Releasable r = map.acquireLock(new BytesRef("0"))) {
+            assertNull(map.getUnderLock(new BytesRef("0")));
+        }
+        try (Releasable r = map.acquireLock(uid)) {
+            assertNotNull(map.getUnderLock(uid));
+        }
+        assertThat(breakerUsed(bigArrays), greaterThan(0L));
+
+        map.clear();
+        assertEquals(0, breakerUsed(bigArrays));
+    }
+}
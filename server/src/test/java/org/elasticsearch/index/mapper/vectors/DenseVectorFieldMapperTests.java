@@ -1142,6 +1142,130 @@ public class DenseVectorFieldMapperTests extends MapperTestCase {
         assertEquals(expectedString, knnVectorsFormat.toString());
     }
 
+    public void testKnnInt4HNSWVectorsFormat() throws IOException {
+        final int m = randomIntBetween(1, DEFAULT_MAX_CONN + 10);
+        final int efConstruction = randomIntBetween(1, DEFAULT_BEAM_WIDTH + 10);
+        boolean setConfidenceInterval = randomBoolean();
+        float confidenceInterval = (float) randomDoubleBetween(0.90f, 1.0f, true);
+        MapperService mapperService = createMapperService(fieldMapping(b -> {
+            b.field("type", "dense_vector");
+            b.field("dims", 4);
+            b.field("index", true);
+            b.field("similarity", "dot_product");
+            b.startObject("index_options");
+            b.field("type", "int4_hnsw");
+            b.field("m", m);
+            b.field("ef_construction", efConstruction);
+            if (setConfidenceInterval) {
+                b.field("confidence_interval", confidenceInterval);
+            }
+            b.endObject();
+        }));
+        CodecService codecService = new CodecService(mapperService, BigArrays.NON_RECYCLING_INSTANCE);
+        Codec codec = codecService.codec("default");
+        assertThat(codec, instanceOf(PerFieldMapperCodec.class));
+        KnnVectorsFormat knnVectorsFormat = ((PerFieldMapperCodec) codec).getKnnVectorsFormatForField("field");
+        String expectedString = "ES813Int4HnswVectorsFormat(maxConn="
+            + m
+            + ", beamWidth="
+            + efConstruction
+            + ", flatVectorsFormat=ES813QuantizedFlatVectorsFormat(encoding=INT4, confidenceInterval="
+            + (setConfidenceInterval ? confidenceInterval : null)
+            + "))";
+        assertEquals(expectedString, knnVectorsFormat.toString());
+        DenseVectorFieldMapper.DenseVectorFieldType fieldType = (DenseVectorFieldMapper.DenseVectorFieldType) mapperService.fieldType(
+            "field"
+        );
+        assertEquals(1.5f, fieldType.getOversample(), 0f);
+    }
+
+    public void testKnnInt8FlatVectorsFormat() throws IOException {
+        boolean setConfidenceInterval = randomBoolean();
+        float confidenceInterval = (float) randomDoubleBetween(0.90f, 1.0f, true);
+        XContentBuilder mapping = fieldMapping(b -> {
+            b.field("type", "dense_vector");
+            b.field("dims", 4);
+            b.field("index", true);
+            b.field("similarity", "dot_product");
+            b.startObject("index_options");
+            b.field("type", "int8_flat");
+            if (setConfidenceInterval) {
+                b.field("confidence_interval", confidenceInterval);
+            }
+            b.endObject();
+        });
+        MapperService mapperService = createMapperService(mapping);
+        CodecService codecService = new CodecService(mapperService, BigArrays.NON_RECYCLING_INSTANCE);
+        Codec codec = codecService.codec("default");
+        assertThat(codec, instanceOf(PerFieldMapperCodec.class));
+        KnnVectorsFormat knnVectorsFormat = ((PerFieldMapperCodec) codec).getKnnVectorsFormatForField("field");
+        String expectedString = "ES813Int8QuantizedFlatVectorFormat(format=ES813QuantizedFlatVectorsFormat(encoding=INT8, "
+            + "confidenceInterval="
+            + (setConfidenceInterval ? confidenceInterval : null)
+            + "))";
+        assertEquals(expectedString, knnVectorsFormat.toString());
+
+        // indices created before the format keep writing Lucene's int8 quantized vectors
+        mapperService = createMapperService(IndexVersionUtils.getPreviousVersion(IndexVersions.INT8_FLAT_QUANTIZED_FORMAT), mapping);
+        codec = new CodecService(mapperService, BigArrays.NON_RECYCLING_INSTANCE).codec("default");
+        assertEquals("ES813Int8FlatVectorFormat", ((PerFieldMapperCodec) codec).getKnnVectorsFormatForField("field").getName());
+    }
+
+    public void testKnnBbqVectorsFormat() throws IOException {
+        boolean hnsw = randomBoolean();
+        MapperService mapperService = createMapperService(fieldMapping(b -> {
+            b.field("type", "dense_vector");
+            b.field("dims", 4);
+            b.field("index", true);
+            b.field("similarity", "l2_norm");
+            b.startObject("index_options");
+            b.field("type", hnsw ? "bbq_hnsw" : "bbq_flat");
+            b.endObject();
+        }));
+        CodecService codecService = new CodecService(mapperService, BigArrays.NON_RECYCLING_INSTANCE);
+        Codec codec = codecService.codec("default");
+        assertThat(codec, instanceOf(PerFieldMapperCodec.class));
+        KnnVectorsFormat knnVectorsFormat = ((PerFieldMapperCodec) codec).getKnnVectorsFormatForField("field");
+        String flatVectorsFormat = "ES813QuantizedFlatVectorsFormat(encoding=BINARY, confidenceInterval=null)";
+        String expectedString = hnsw
+            ? "ES813BbqHnswVectorsFormat(maxConn="
+                + DEFAULT_MAX_CONN
+                + ", beamWidth="
+                + DEFAULT_BEAM_WIDTH
+                + ", flatVectorsFormat="
+                + flatVectorsFormat
+                + ")"
+            : "ES813BbqFlatVectorFormat(format=" + flatVectorsFormat + ")";
+        assertEquals(expectedString, knnVectorsFormat.toString());
+        DenseVectorFieldMapper.DenseVectorFieldType fieldType = (DenseVectorFieldMapper.DenseVectorFieldType) mapperService.fieldType(
+            "field"
+        );
+        assertEquals(3f, fieldType.getOversample(), 0f);
+    }
+
+    public void testQuantizedIndexTypesRejectByteVectors() {
+        String type = randomFrom("int4_hnsw", "bbq_hnsw", "bbq_flat");
+        Exception e = expectThrows(
+            MapperParsingException.class,
+            () -> createDocumentMapper(
+                fieldMapping(
+                    b -> b.field("type", "dense_vector")
+                        .field("dims", 3)
+                        .field("element_type", "byte")
+                        .field("similarity", "l2_norm")
+                        .field("index", true)
+                        .startObject("index_options")
+                        .field("type", type)
+                        .endObject()
+                )
+            )
+        );
+        assertThat(
+            e.getMessage(),
+            containsString("Failed to parse mapping: [element_type] cannot be [byte] when using index type [" + type + "]")
+        );
+    }
+
     @Override
     protected IngestScriptSupport ingestScriptSupport() {
         throw new AssumptionViolatedException("not supported");
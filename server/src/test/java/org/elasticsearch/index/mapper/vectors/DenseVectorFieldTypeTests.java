@@ -25,6 +25,7 @@ import org.elasticsearch.index.mapper.FieldTypeTestCase;
 import org.elasticsearch.index.mapper.MappedFieldType;
 import org.elasticsearch.index.mapper.vectors.DenseVectorFieldMapper.DenseVectorFieldType;
 import org.elasticsearch.index.mapper.vectors.DenseVectorFieldMapper.VectorSimilarity;
+import org.elasticsearch.search.vectors.RescoreKnnFloatVectorQuery;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -32,6 +33,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 
 public class DenseVectorFieldTypeTests extends FieldTypeTestCase {
@@ -306,6 +308,28 @@ public class DenseVectorFieldTypeTests extends FieldTypeTestCase {
         }
     }
 
+    public void testCreateOversampledKnnQuery() {
+        DenseVectorFieldType field = new DenseVectorFieldType(
+            "f",
+            IndexVersion.current(),
+            DenseVectorFieldMapper.ElementType.FLOAT,
+            3,
+            true,
+            VectorSimilarity.DOT_PRODUCT,
+            Collections.emptyMap(),
+            3f
+        );
+        float[] queryVector = new float[] { 0.6f, 0.0f, 0.8f };
+        Query query = field.createKnnQuery(queryVector, 10, null, null, null);
+        assertThat(query, instanceOf(RescoreKnnFloatVectorQuery.class));
+        assertThat(((RescoreKnnFloatVectorQuery) query).getK(), equalTo(30));
+
+        // nested vectors are not rescored
+        BitSetProducer producer = context -> null;
+        query = field.createKnnQuery(queryVector, 10, null, null, producer);
+        assertThat(query, instanceOf(DiversifyingChildrenFloatKnnVectorQuery.class));
+    }
+
     public void testByteCreateKnnQuery() {
         DenseVectorFieldType unindexedField = new DenseVectorFieldType(
             "f",
@@ -31,6 +31,7 @@ import org.elasticsearch.common.Explicit;
 import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.IndexVersion;
 import org.elasticsearch.index.analysis.AnalyzerScope;
@@ -97,7 +98,9 @@ import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -170,6 +173,26 @@ public class SearchExecutionContextTests extends ESTestCase {
         assertThat(searchExecutionContext.getFullyQualifiedIndex().getUUID(), equalTo(indexUuid));
     }
 
+    public void testRoundedNow() {
+        SearchExecutionContext context = createSearchExecutionContext("uuid", null);
+        SearchExecutionContext notRounded = new SearchExecutionContext(context);
+        long now = notRounded.nowInMillis();
+        assertFalse(notRounded.isCacheable());
+        assertEquals(-1, notRounded.roundedNowInMillis());
+
+        TimeValue nowRounding = TimeValue.timeValueMinutes(randomIntBetween(1, 60));
+        context.roundNowTo(nowRounding);
+        long roundedNow = context.nowInMillis();
+        assertTrue(context.isCacheable());
+        assertEquals(roundedNow, context.roundedNowInMillis());
+        assertEquals(0, roundedNow % nowRounding.millis());
+        assertThat(roundedNow, greaterThanOrEqualTo(now));
+        assertThat(roundedNow - now, lessThan(nowRounding.millis()));
+
+        context.freezeContext();
+        expectThrows(IllegalArgumentException.class, context::nowInMillis);
+    }
+
     public void testIndexSortedOnField() {
         Settings settings = indexSettings(IndexVersion.current(), 1, 1).put("index.sort.field", "sort_field").build();
         IndexMetadata indexMetadata = new IndexMetadata.Builder("index").settings(settings).build();
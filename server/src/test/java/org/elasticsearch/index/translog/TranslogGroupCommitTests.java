@@ -0,0 +1,189 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.translog;
+
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.test.ESTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class TranslogGroupCommitTests extends ESTestCase {
+
+    public void testConcurrentSyncs() throws Exception {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit(TimeValue.timeValueMillis(randomIntBetween(0, 2)));
+        int threads = randomIntBetween(2, 8);
+        int syncsPerThread = randomIntBetween(1, 100);
+        AtomicInteger fsyncs = new AtomicInteger();
+        TranslogGroupCommit.Stats[] stats = new TranslogGroupCommit.Stats[threads];
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            stats[t] = new TranslogGroupCommit.Stats();
+            TranslogGroupCommit.Stats threadStats = stats[t];
+            Thread worker = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int i = 0; i < syncsPerThread; i++) {
+                        AtomicInteger ran = new AtomicInteger();
+                        groupCommit.sync(() -> {
+                            ran.incrementAndGet();
+                            fsyncs.incrementAndGet();
+                        }, threadStats);
+                        // the sync must have completed by the time we return
+                        assertThat(ran.get(), equalTo(1));
+                    }
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertThat(fsyncs.get(), equalTo(threads * syncsPerThread));
+        for (TranslogGroupCommit.Stats s : stats) {
+            assertThat(s.syncs(), equalTo((long) syncsPerThread));
+            assertThat(s.batchedSyncs(), greaterThanOrEqualTo(s.syncs()));
+        }
+    }
+
+    public void testBatchesSyncsQueuedDuringFsync() throws Exception {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit(TimeValue.ZERO);
+        CountDownLatch leaderFsyncing = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        TranslogGroupCommit.Stats leaderStats = new TranslogGroupCommit.Stats();
+        Thread leader = new Thread(() -> {
+            try {
+                groupCommit.sync(() -> {
+                    leaderFsyncing.countDown();
+                    try {
+                        releaseLeader.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }, leaderStats);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        leader.start();
+        leaderFsyncing.await();
+
+        int followers = randomIntBetween(2, 8);
+        TranslogGroupCommit.Stats followerStats = new TranslogGroupCommit.Stats();
+        CountDownLatch queued = new CountDownLatch(followers);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < followers; i++) {
+            Thread follower = new Thread(() -> {
+                try {
+                    queued.countDown();
+                    groupCommit.sync(() -> {}, followerStats);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads.add(follower);
+            follower.start();
+        }
+        queued.await();
+        assertBusy(() -> {
+            for (Thread follower : threads) {
+                assertThat(follower.getState(), equalTo(Thread.State.WAITING));
+            }
+        });
+        releaseLeader.countDown();
+        leader.join();
+        for (Thread follower : threads) {
+            follower.join();
+        }
+        assertThat(leaderStats.syncs(), equalTo(1L));
+        assertThat(leaderStats.batchedSyncs(), equalTo(1L));
+        // all the syncs that queued up while the leader was fsyncing ran as one batch
+        assertThat(followerStats.syncs(), equalTo((long) followers));
+        assertThat(followerStats.batchedSyncs(), equalTo((long) followers * followers));
+    }
+
+    public void testFsyncsOfABatchRunInParallel() throws Exception {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit(TimeValue.ZERO);
+        CountDownLatch leaderFsyncing = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        Thread leader = new Thread(() -> {
+            try {
+                groupCommit.sync(() -> {
+                    leaderFsyncing.countDown();
+                    try {
+                        releaseLeader.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }, new TranslogGroupCommit.Stats());
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        leader.start();
+        leaderFsyncing.await();
+
+        int followers = randomIntBetween(2, 8);
+        // every fsync of the batch waits for all the others, so this only completes if they run at the same time
+        CyclicBarrier allFsyncing = new CyclicBarrier(followers);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < followers; i++) {
+            Thread follower = new Thread(() -> {
+                try {
+                    groupCommit.sync(() -> {
+                        try {
+                            allFsyncing.await(10, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new AssertionError(e);
+                        }
+                    }, new TranslogGroupCommit.Stats());
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads.add(follower);
+            follower.start();
+        }
+        assertBusy(() -> {
+            for (Thread follower : threads) {
+                assertThat(follower.getState(), equalTo(Thread.State.WAITING));
+            }
+        });
+        releaseLeader.countDown();
+        leader.join();
+        for (Thread follower : threads) {
+            follower.join();
+        }
+        assertFalse(allFsyncing.isBroken());
+    }
+
+    public void testFailureIsRethrownToCaller() throws IOException {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit(TimeValue.ZERO);
+        TranslogGroupCommit.Stats stats = new TranslogGroupCommit.Stats();
+        IOException e = expectThrows(IOException.class, () -> groupCommit.sync(() -> { throw new IOException("boom"); }, stats));
+        assertThat(e.getMessage(), equalTo("boom"));
+        // the group commit is still usable
+        AtomicInteger ran = new AtomicInteger();
+        groupCommit.sync(ran::incrementAndGet, stats);
+        assertThat(ran.get(), equalTo(1));
+        assertThat(stats.syncs(), equalTo(2L));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index.translog;
+
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.test.ESTestCase;
+
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TranslogGroupCommitsTests extends ESTestCase {
+
+    public void testDisabledByDefault() {
+        TranslogGroupCommits groupCommits = new TranslogGroupCommits(Settings.EMPTY);
+        Path path = createTempDir();
+        assertThat(groupCommits.acquire(path), nullValue());
+        groupCommits.release(path);
+        assertThat(groupCommits.size(), equalTo(0));
+    }
+
+    public void testSharedPerDataPath() {
+        TranslogGroupCommits groupCommits = new TranslogGroupCommits(enabled());
+        Path path = createTempDir();
+        TranslogGroupCommit groupCommit = groupCommits.acquire(path);
+        assertThat(groupCommits.acquire(path.resolve(".")), sameInstance(groupCommit));
+        assertNotSame(groupCommit, groupCommits.acquire(createTempDir()));
+        assertThat(groupCommits.size(), equalTo(2));
+    }
+
+    public void testNotSharedAcrossNodes() {
+        Path path = createTempDir();
+        assertNotSame(new TranslogGroupCommits(enabled()).acquire(path), new TranslogGroupCommits(enabled()).acquire(path));
+    }
+
+    public void testDroppedOnceReleasedByEveryShard() {
+        TranslogGroupCommits groupCommits = new TranslogGroupCommits(enabled());
+        Path path = createTempDir();
+        int shards = randomIntBetween(1, 5);
+        TranslogGroupCommit groupCommit = groupCommits.acquire(path);
+        for (int i = 1; i < shards; i++) {
+            assertThat(groupCommits.acquire(path), sameInstance(groupCommit));
+        }
+        for (int i = 0; i < shards; i++) {
+            assertThat(groupCommits.size(), equalTo(1));
+            groupCommits.release(path);
+        }
+        assertThat(groupCommits.size(), equalTo(0));
+        assertNotSame(groupCommit, groupCommits.acquire(path));
+    }
+
+    private static Settings enabled() {
+        return Settings.builder().put(TranslogGroupCommits.WINDOW_SETTING.getKey(), "0ms").build();
+    }
+}
@@ -47,6 +47,7 @@ import org.elasticsearch.common.util.concurrent.ReleasableLock;
 import org.elasticsearch.common.xcontent.XContentHelper;
 import org.elasticsearch.core.Assertions;
 import org.elasticsearch.core.IOUtils;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.core.Tuple;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.IndexVersion;
@@ -564,6 +565,33 @@ public class TranslogTests extends ESTestCase {
         }
     }
 
+    public void testGroupCommitStats() throws Exception {
+        final TranslogConfig temp = getTranslogConfig(createTempDir());
+        final TranslogConfig config = new TranslogConfig(
+            temp.getShardId(),
+            temp.getTranslogPath(),
+            temp.getIndexSettings(),
+            temp.getBigArrays(),
+            new TranslogGroupCommit(TimeValue.ZERO)
+        );
+        final int syncs = randomIntBetween(1, 10);
+        try (Translog groupCommitTranslog = createTranslog(config)) {
+            for (int i = 0; i < syncs; i++) {
+                groupCommitTranslog.add(TranslogOperationsUtils.indexOp(Integer.toString(i), i, primaryTerm.get()));
+                groupCommitTranslog.sync();
+            }
+            final TranslogStats stats = groupCommitTranslog.stats();
+            assertThat(stats.estimatedNumberOfOperations(), equalTo(syncs));
+            assertThat(stats.getGroupCommitSyncs(), equalTo((long) syncs));
+            // nothing else is syncing so every batch holds a single sync
+            assertThat(stats.getGroupCommitAvgBatchSize(), equalTo(1.0));
+
+            final BytesStreamOutput out = new BytesStreamOutput();
+            stats.writeTo(out);
+            assertThat(new TranslogStats(out.bytes().streamInput()), equalTo(stats));
+        }
+    }
+
     public void testUncommittedOperations() throws Exception {
         final TranslogDeletionPolicy deletionPolicy = translog.getDeletionPolicy();
         final int operations = scaledRandomIntBetween(10, 100);
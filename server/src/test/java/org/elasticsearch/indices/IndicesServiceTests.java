@@ -34,10 +34,12 @@ import org.elasticsearch.gateway.LocalAllocateDangledIndices;
 import org.elasticsearch.gateway.MetaStateWriterUtils;
 import org.elasticsearch.health.node.selection.HealthNodeTaskExecutor;
 import org.elasticsearch.index.Index;
+import org.elasticsearch.index.IndexMode;
 import org.elasticsearch.index.IndexModule;
 import org.elasticsearch.index.IndexService;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.IndexVersion;
+import org.elasticsearch.index.codec.CodecService;
 import org.elasticsearch.index.engine.Engine;
 import org.elasticsearch.index.engine.EngineConfig;
 import org.elasticsearch.index.engine.EngineFactory;
@@ -609,6 +611,42 @@ public class IndicesServiceTests extends ESSingleNodeTestCase {
         assertThat(e, hasToString(new RegexMatcher(pattern)));
     }
 
+    public void testValidateZstdCodec() {
+        final IndicesService indicesService = getIndicesService();
+        final Settings zstd = Settings.builder().put(EngineConfig.INDEX_CODEC_SETTING.getKey(), CodecService.ZSTD_CODEC).build();
+        final String feature = CodecService.ZSTD_CODEC_FEATURE.id();
+
+        ClusterState allNodes = ClusterState.builder(ClusterName.DEFAULT)
+            .nodeFeatures(Map.of("node_a", Set.of(feature), "node_b", Set.of(feature)))
+            .build();
+        indicesService.validateIndexCodec(allNodes, zstd);
+
+        ClusterState someNodes = ClusterState.builder(ClusterName.DEFAULT)
+            .nodeFeatures(Map.of("node_a", Set.of(feature), "node_b", Set.of()))
+            .build();
+        indicesService.validateIndexCodec(someNodes, Settings.EMPTY);
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> indicesService.validateIndexCodec(someNodes, zstd));
+        assertThat(e.getMessage(), equalTo("[index.codec] can't be [zstd] until all nodes in the cluster support it"));
+    }
+
+    public void testValidateLogsIndexMode() {
+        final IndicesService indicesService = getIndicesService();
+        final Settings logs = Settings.builder().put(IndexSettings.MODE.getKey(), IndexMode.LOGS.getName()).build();
+        final String feature = IndexMode.LOGS_INDEX_MODE_FEATURE.id();
+
+        ClusterState allNodes = ClusterState.builder(ClusterName.DEFAULT)
+            .nodeFeatures(Map.of("node_a", Set.of(feature), "node_b", Set.of(feature)))
+            .build();
+        indicesService.validateIndexMode(allNodes, logs);
+
+        ClusterState someNodes = ClusterState.builder(ClusterName.DEFAULT)
+            .nodeFeatures(Map.of("node_a", Set.of(feature), "node_b", Set.of()))
+            .build();
+        indicesService.validateIndexMode(someNodes, Settings.EMPTY);
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> indicesService.validateIndexMode(someNodes, logs));
+        assertThat(e.getMessage(), equalTo("[index.mode] can't be [logs] until all nodes in the cluster support it"));
+    }
+
     public void testBuildAliasFilter() {
         var indicesService = getIndicesService();
         Metadata.Builder mdBuilder = Metadata.builder()
@@ -26,6 +26,8 @@ import org.elasticsearch.action.OriginalIndices;
 import org.elasticsearch.action.admin.cluster.settings.ClusterUpdateSettingsResponse;
 import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.ClosePointInTimeRequest;
+import org.elasticsearch.action.search.NodeQueryRequest;
+import org.elasticsearch.action.search.NodeQueryResponse;
 import org.elasticsearch.action.search.OpenPointInTimeRequest;
 import org.elasticsearch.action.search.SearchPhaseExecutionException;
 import org.elasticsearch.action.search.SearchRequest;
@@ -66,6 +68,7 @@ import org.elasticsearch.index.search.stats.SearchStats;
 import org.elasticsearch.index.shard.IndexShard;
 import org.elasticsearch.index.shard.SearchOperationListener;
 import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.index.shard.ShardNotFoundException;
 import org.elasticsearch.indices.IndicesService;
 import org.elasticsearch.indices.settings.InternalOrPrivateSettingsPlugin;
 import org.elasticsearch.plugins.Plugin;
@@ -78,10 +81,12 @@ import org.elasticsearch.script.ScriptType;
 import org.elasticsearch.search.SearchService.ResultsType;
 import org.elasticsearch.search.aggregations.AggregationBuilders;
 import org.elasticsearch.search.aggregations.AggregationReduceContext;
+import org.elasticsearch.search.aggregations.InternalAggregations;
 import org.elasticsearch.search.aggregations.MultiBucketConsumerService;
 import org.elasticsearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
 import org.elasticsearch.search.aggregations.bucket.global.GlobalAggregationBuilder;
 import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.elasticsearch.search.aggregations.metrics.Sum;
 import org.elasticsearch.search.aggregations.support.AggregationContext;
 import org.elasticsearch.search.aggregations.support.ValueType;
 import org.elasticsearch.search.builder.PointInTimeBuilder;
@@ -1721,6 +1726,70 @@ public class SearchServiceTests extends ESSingleNodeTestCase {
         future.get();
     }
 
+    public void testNodeQueryPhaseReducesAggs() throws Exception {
+        final int numShards = randomIntBetween(2, 4);
+        createIndex("index", Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, numShards).build());
+        final int numDocs = randomIntBetween(10, 50);
+        long expectedSum = 0;
+        for (int i = 0; i < numDocs; i++) {
+            prepareIndex("index").setId(Integer.toString(i)).setSource("value", i).get();
+            expectedSum += i;
+        }
+        indicesAdmin().prepareRefresh("index").get();
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final Index index = resolveIndex("index");
+
+        SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true)
+            .source(new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.sum("sum").field("value")));
+        List<ShardSearchRequest> shardRequests = new ArrayList<>();
+        // the last request targets a shard that does not exist
+        for (int i = 0; i <= numShards; i++) {
+            shardRequests.add(
+                new ShardSearchRequest(
+                    OriginalIndices.NONE,
+                    searchRequest,
+                    new ShardId(index, i),
+                    i,
+                    numShards + 1,
+                    AliasFilter.EMPTY,
+                    1.0f,
+                    -1,
+                    null,
+                    null,
+                    null
+                )
+            );
+        }
+        final double sum = expectedSum;
+        SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap());
+        PlainActionFuture<Void> future = new PlainActionFuture<>();
+        service.executeQueryPhase(
+            new NodeQueryRequest(shardRequests, randomIntBetween(1, numShards)),
+            task,
+            future.delegateFailure((l, r) -> {
+                List<NodeQueryResponse.ResponseOrFailure> responses = r.getResponses();
+                assertThat(responses.size(), equalTo(numShards + 1));
+                long totalHits = 0;
+                for (int i = 0; i < numShards; i++) {
+                    QuerySearchResult result = responses.get(i).getResponse();
+                    assertNotNull(result);
+                    totalHits += result.getTotalHits().value;
+                    InternalAggregations aggs = result.consumeAggs();
+                    if (i == 0) {
+                        Sum reduced = aggs.get("sum");
+                        assertThat(reduced.value(), equalTo(sum));
+                    } else {
+                        assertTrue(aggs.asList().isEmpty());
+                    }
+                }
+                assertThat(totalHits, equalTo((long) numDocs));
+                assertThat(responses.get(numShards).getException(), instanceOf(ShardNotFoundException.class));
+                l.onResponse(null);
+            })
+        );
+        future.get();
+    }
+
     public void testWaitOnRefreshFailsWithRefreshesDisabled() {
         createIndex("index", Settings.builder().put("index.refresh_interval", "-1").build());
         final SearchService service = getInstanceFromNode(SearchService.class);
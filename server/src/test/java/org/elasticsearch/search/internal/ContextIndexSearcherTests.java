@@ -48,6 +48,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHitCountCollectorManager;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
@@ -92,6 +93,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class ContextIndexSearcherTests extends ESTestCase {
@@ -410,6 +412,101 @@ public class ContextIndexSearcherTests extends ESTestCase {
         assertThat(sumDocs, equalTo(numDocs));
     }
 
+    public void testComputePartitionedSlices() throws IOException {
+        Directory dir = newDirectory();
+        RandomIndexWriter w = new RandomIndexWriter(random(), dir);
+        int numDocs = rarely() ? randomIntBetween(0, 1000) : randomIntBetween(1000, 25000);
+        Document doc = new Document();
+        for (int i = 0; i < numDocs; i++) {
+            w.addDocument(doc);
+        }
+        if (randomBoolean()) {
+            w.forceMerge(1);
+        }
+        DirectoryReader reader = w.getReader();
+        List<LeafReaderContext> contexts = reader.leaves();
+        int iter = randomIntBetween(16, 64);
+        for (int i = 0; i < iter; i++) {
+            int numThreads = randomIntBetween(1, 16);
+            List<List<ContextIndexSearcher.LeafPartition>> slices = ContextIndexSearcher.computePartitionedSlices(contexts, numThreads, 1);
+            assertThat(slices.size(), lessThanOrEqualTo(numThreads));
+            // every document of every leaf is searched by exactly one slice
+            for (LeafReaderContext context : contexts) {
+                FixedBitSet docs = new FixedBitSet(context.reader().maxDoc());
+                for (List<ContextIndexSearcher.LeafPartition> slice : slices) {
+                    for (ContextIndexSearcher.LeafPartition partition : slice) {
+                        if (partition.ctx() == context) {
+                            int maxDocId = Math.min(partition.maxDocId(), context.reader().maxDoc());
+                            assertThat(partition.minDocId(), lessThan(maxDocId));
+                            assertThat(docs.nextSetBit(partition.minDocId()), greaterThanOrEqualTo(maxDocId));
+                            docs.set(partition.minDocId(), maxDocId);
+                        }
+                    }
+                }
+                assertEquals(context.reader().maxDoc(), docs.cardinality());
+            }
+        }
+        int numThreads = randomIntBetween(-16, 0);
+        IllegalArgumentException ex = expectThrows(
+            IllegalArgumentException.class,
+            () -> ContextIndexSearcher.computePartitionedSlices(contexts, numThreads, 1)
+        );
+        assertThat(ex.getMessage(), equalTo("maxSliceNum must be >= 1 (got " + numThreads + ")"));
+        IOUtils.close(reader, w, dir);
+    }
+
+    /**
+     * Test that a single segment is searched by several slices, and that the hits of its partitions are only counted once
+     */
+    public void testIntraSegmentSlices() throws Exception {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(randomIntBetween(2, 5));
+        try (Directory directory = newDirectory()) {
+            int numDocs = randomIntBetween(500, 1000);
+            int numMatches = 0;
+            try (IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (int i = 0; i < numDocs; i++) {
+                    Document document = new Document();
+                    boolean matches = randomBoolean();
+                    numMatches += matches ? 1 : 0;
+                    document.add(new StringField("field", matches ? "value" : "other", Field.Store.NO));
+                    iw.addDocument(document);
+                    if (rarely()) {
+                        iw.flush();
+                    }
+                }
+                iw.forceMerge(1);
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                assertEquals(1, directoryReader.leaves().size());
+                int maxSlices = randomIntBetween(2, 5);
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    directoryReader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    randomBoolean(),
+                    executor,
+                    maxSlices,
+                    1
+                );
+                Integer totalHits = searcher.searchWithIntraSegmentSlices(new MatchAllDocsQuery(), new TotalHitCountCollectorManager());
+                assertEquals(numDocs, totalHits.intValue());
+                int numExpectedTasks = ContextIndexSearcher.computePartitionedSlices(directoryReader.leaves(), maxSlices, 1).size();
+                assertEquals(maxSlices, numExpectedTasks);
+                assertBusy(() -> assertEquals(numExpectedTasks, executor.getCompletedTaskCount()));
+
+                TopDocs topDocs = searcher.searchWithIntraSegmentSlices(
+                    new TermQuery(new Term("field", "value")),
+                    TopScoreDocCollector.createSharedManager(10, null, Integer.MAX_VALUE)
+                );
+                assertEquals(numMatches, topDocs.totalHits.value);
+                assertEquals(Math.min(10, numMatches), topDocs.scoreDocs.length);
+            }
+        } finally {
+            terminate(executor);
+        }
+    }
+
     public void testExitableTermsMinAndMax() throws IOException {
         Directory dir = newDirectory();
         IndexWriter w = new IndexWriter(dir, newIndexWriterConfig(null));
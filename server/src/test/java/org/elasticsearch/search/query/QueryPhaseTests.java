@@ -39,6 +39,7 @@ import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.FilterCollector;
 import org.apache.lucene.search.FilterLeafCollector;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.KnnFloatVectorQuery;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
@@ -84,12 +85,17 @@ import org.elasticsearch.search.sort.SortAndFormats;
 import org.elasticsearch.tasks.TaskCancelHelper;
 import org.elasticsearch.tasks.TaskCancelledException;
 import org.elasticsearch.tasks.TaskId;
+import org.elasticsearch.test.InternalAggregationTestCase;
 import org.elasticsearch.test.TestSearchContext;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.elasticsearch.search.query.QueryPhaseCollectorManager.hasInfMaxScore;
 import static org.hamcrest.Matchers.anyOf;
@@ -1084,6 +1090,130 @@ public class QueryPhaseTests extends IndexShardTestCase {
         }
     }
 
+    public void testExecuteBySegment() throws Exception {
+        IndexWriterConfig iwc = newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+        IndexWriter w = new IndexWriter(dir, iwc);
+        final int numSegments = randomIntBetween(2, 5);
+        for (int i = 0; i < numSegments; i++) {
+            indexSegment(w);
+        }
+        reader = DirectoryReader.open(dir);
+        final Query query = new TermQuery(new Term("foo", "bar"));
+        final Map<Object, SegmentQueryResult> cached = new HashMap<>();
+        final AtomicInteger hits = new AtomicInteger();
+        final AtomicInteger misses = new AtomicInteger();
+        final QueryPhase.SegmentResultCache cache = new QueryPhase.SegmentResultCache() {
+            @Override
+            public SegmentQueryResult get(LeafReaderContext leaf) {
+                final SegmentQueryResult result = cached.get(leaf.reader().getReaderCacheHelper().getKey());
+                (result == null ? misses : hits).incrementAndGet();
+                return result;
+            }
+
+            @Override
+            public void put(LeafReaderContext leaf, SegmentQueryResult result) {
+                assertFalse(result.timedOut());
+                assertNull(cached.put(leaf.reader().getReaderCacheHelper().getKey(), result));
+            }
+        };
+
+        // every segment misses the first time and is cached
+        final int numLeaves = reader.leaves().size();
+        try (TestSearchContext context = createSegmentContext(newContextSearcher(reader), query, false)) {
+            assertTrue(QueryPhase.canExecuteBySegment(context));
+            QueryPhase.executeBySegment(context, cache);
+            assertFalse(context.queryResult().searchTimedOut());
+            assertEquals(newContextSearcher(reader).count(query), context.queryResult().topDocs().topDocs.totalHits.value);
+            assertNotNull(context.queryResult().aggregations());
+        }
+        assertEquals(0, hits.get());
+        assertEquals(numLeaves, misses.get());
+        assertEquals(numLeaves, cached.size());
+
+        // every segment hits the second time
+        try (TestSearchContext context = createSegmentContext(newContextSearcher(reader), query, false)) {
+            QueryPhase.executeBySegment(context, cache);
+            assertEquals(newContextSearcher(reader).count(query), context.queryResult().topDocs().topDocs.totalHits.value);
+        }
+        assertEquals(numLeaves, hits.get());
+        assertEquals(numLeaves, misses.get());
+
+        // only the new segment misses after a refresh, its result is dropped if it times out
+        final int oldCount = newContextSearcher(reader).count(query);
+        indexSegment(w);
+        DirectoryReader newReader = DirectoryReader.openIfChanged((DirectoryReader) reader);
+        assertNotNull(newReader);
+        reader.close();
+        reader = newReader;
+        w.close();
+        final int newLeaves = reader.leaves().size() - numLeaves;
+        assertThat(newLeaves, greaterThan(0));
+        try (TestSearchContext context = createSegmentContext(newContextSearcher(reader), query, true)) {
+            QueryPhase.executeBySegment(context, cache);
+            assertTrue(context.queryResult().searchTimedOut());
+            assertEquals(oldCount, context.queryResult().topDocs().topDocs.totalHits.value);
+        }
+        assertEquals(numLeaves * 2, hits.get());
+        assertEquals(numLeaves + newLeaves, misses.get());
+        assertEquals(numLeaves, cached.size());
+
+        // so the next search computes it again
+        try (TestSearchContext context = createSegmentContext(newContextSearcher(reader), query, false)) {
+            QueryPhase.executeBySegment(context, cache);
+            assertFalse(context.queryResult().searchTimedOut());
+            assertEquals(newContextSearcher(reader).count(query), context.queryResult().topDocs().topDocs.totalHits.value);
+        }
+        assertEquals(numLeaves * 3, hits.get());
+        assertEquals(numLeaves + newLeaves * 2, misses.get());
+        assertEquals(numLeaves + newLeaves, cached.size());
+    }
+
+    public void testCanExecuteBySegment() throws Exception {
+        indexDocs();
+        try (TestSearchContext context = createSegmentContext(newContextSearcher(reader), new MatchAllDocsQuery(), false)) {
+            assertTrue(QueryPhase.canExecuteBySegment(context));
+            context.setSize(10);
+            assertFalse(QueryPhase.canExecuteBySegment(context));
+        }
+        // the matches of a knn query on a segment depend on the other segments
+        Query knn = new BooleanQuery.Builder().add(new KnnFloatVectorQuery("vector", new float[] { 1, 2 }, 10), Occur.MUST_NOT)
+            .add(new MatchAllDocsQuery(), Occur.FILTER)
+            .build();
+        try (TestSearchContext context = createSegmentContext(newContextSearcher(reader), knn, false)) {
+            assertFalse(QueryPhase.canExecuteBySegment(context));
+        }
+    }
+
+    private static void indexSegment(IndexWriter w) throws IOException {
+        final int numDocs = randomIntBetween(1, 50);
+        for (int i = 0; i < numDocs; ++i) {
+            Document doc = new Document();
+            if (randomBoolean()) {
+                doc.add(new StringField("foo", "bar", Store.NO));
+            }
+            w.addDocument(doc);
+        }
+        w.commit();
+    }
+
+    private TestSearchContext createSegmentContext(ContextIndexSearcher searcher, Query query, boolean timeout) {
+        final AtomicLong relativeTime = new AtomicLong();
+        TestSearchContext context = new TestSearchContext(null, indexShard, searcher) {
+            @Override
+            public long getRelativeTimeInMillis() {
+                // time passes with every check when the search should time out
+                return timeout ? relativeTime.incrementAndGet() : 0L;
+            }
+        };
+        context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        context.parsedQuery(new ParsedQuery(query));
+        context.setSize(0);
+        context.aggregations(
+            new SearchContextAggregations(AggregatorFactories.EMPTY, InternalAggregationTestCase::emptyReduceContextBuilder)
+        );
+        return context;
+    }
+
     private static final QueryCachingPolicy NEVER_CACHE_POLICY = new QueryCachingPolicy() {
         @Override
         public void onUse(Query query) {}
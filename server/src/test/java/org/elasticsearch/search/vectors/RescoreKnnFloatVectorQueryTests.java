@@ -0,0 +1,99 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.search.vectors;
+
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.common.lucene.LuceneTests;
+import org.elasticsearch.index.codec.vectors.ES813BbqFlatVectorFormat;
+import org.elasticsearch.test.ESTestCase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class RescoreKnnFloatVectorQueryTests extends ESTestCase {
+
+    private static float[] randomVector(int dims) {
+        float[] vector = new float[dims];
+        for (int i = 0; i < dims; i++) {
+            vector[i] = randomFloat();
+        }
+        return vector;
+    }
+
+    public void testRescoresWithRawVectors() throws Exception {
+        int dims = between(2, 32);
+        int numDocs = between(10, 200);
+        VectorSimilarityFunction similarity = randomFrom(VectorSimilarityFunction.EUCLIDEAN, VectorSimilarityFunction.COSINE);
+        List<float[]> vectors = new ArrayList<>();
+        try (Directory d = newDirectory()) {
+            // doc ids follow the order of the vectors as long as segments aren't merged
+            IndexWriterConfig config = new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE).setCodec(new Lucene99Codec() {
+                @Override
+                public KnnVectorsFormat getKnnVectorsFormatForField(String field) {
+                    return new ES813BbqFlatVectorFormat();
+                }
+            });
+            try (IndexWriter w = new IndexWriter(d, config)) {
+                for (int i = 0; i < numDocs; i++) {
+                    float[] vector = randomVector(dims);
+                    vectors.add(vector);
+                    Document document = new Document();
+                    document.add(new KnnFloatVectorField("vector", vector, similarity));
+                    w.addDocument(document);
+                    if (rarely()) {
+                        w.commit();
+                    }
+                }
+                w.commit();
+            }
+            try (IndexReader reader = DirectoryReader.open(d)) {
+                IndexSearcher searcher = LuceneTests.newSearcher(reader);
+                float[] target = randomVector(dims);
+                int numCands = between(1, 10);
+                // oversample enough to consider every document, the rescored hits are then the exact nearest ones
+                float oversample = (float) numDocs / numCands;
+                TopDocs docs = searcher.search(new RescoreKnnFloatVectorQuery("vector", target, numCands, oversample, null), numCands);
+
+                List<Float> expected = new ArrayList<>();
+                for (float[] vector : vectors) {
+                    expected.add(similarity.compare(target, vector));
+                }
+                expected.sort(Comparator.reverseOrder());
+                assertThat(docs.scoreDocs.length, equalTo(numCands));
+                for (int i = 0; i < numCands; i++) {
+                    ScoreDoc scoreDoc = docs.scoreDocs[i];
+                    assertEquals(expected.get(i), scoreDoc.score, 1e-6f);
+                    assertEquals(similarity.compare(target, vectors.get(scoreDoc.doc)), scoreDoc.score, 1e-6f);
+                }
+            }
+        }
+    }
+
+    public void testOversampledCandidates() {
+        assertThat(RescoreKnnFloatVectorQuery.oversampledCandidates(10, 1.5f), equalTo(15));
+        assertThat(RescoreKnnFloatVectorQuery.oversampledCandidates(7, 1.5f), equalTo(11));
+        assertThat(RescoreKnnFloatVectorQuery.oversampledCandidates(100, 3f), equalTo(300));
+    }
+}
@@ -336,6 +336,23 @@ public class ThreadPoolTests extends ESTestCase {
         }
     }
 
+    public void testVectorMergeThreadPoolSize() {
+        final int allocatedProcessors = randomIntBetween(1, EsExecutors.allocatedProcessors(Settings.EMPTY));
+        final ThreadPool threadPool = new TestThreadPool(
+            "test",
+            Settings.builder().put(EsExecutors.NODE_PROCESSORS_SETTING.getKey(), allocatedProcessors).build()
+        );
+        try {
+            final int expectedSize = ThreadPool.halfAllocatedProcessorsMaxFive(allocatedProcessors);
+            ThreadPool.Info info = threadPool.info(ThreadPool.Names.VECTOR_MERGE);
+            assertThat(info.getThreadPoolType(), equalTo(ThreadPool.ThreadPoolType.FIXED));
+            assertThat(info.getMin(), equalTo(expectedSize));
+            assertThat(info.getMax(), equalTo(expectedSize));
+        } finally {
+            assertTrue(terminate(threadPool));
+        }
+    }
+
     public void testSearchCoordinationThreadPoolSize() {
         final int expectedSize = randomIntBetween(1, EsExecutors.allocatedProcessors(Settings.EMPTY) / 2);
         final int allocatedProcessors = Math.min(
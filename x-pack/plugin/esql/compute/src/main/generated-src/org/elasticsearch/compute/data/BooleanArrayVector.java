@@ -21,7 +21,7 @@ final class BooleanArrayVector extends AbstractVector implements BooleanVector {
         // TODO: remove these extra bytes once `asBlock` returns a block with a separate reference to the vector.
         + RamUsageEstimator.shallowSizeOfInstance(BooleanVectorBlock.class);
 
-    private final boolean[] values;
+    final boolean[] values;
 
     BooleanArrayVector(boolean[] values, int positionCount, BlockFactory blockFactory) {
         super(positionCount, blockFactory);
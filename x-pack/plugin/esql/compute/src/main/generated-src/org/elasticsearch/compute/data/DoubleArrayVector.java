@@ -21,7 +21,7 @@ final class DoubleArrayVector extends AbstractVector implements DoubleVector {
         // TODO: remove these extra bytes once `asBlock` returns a block with a separate reference to the vector.
         + RamUsageEstimator.shallowSizeOfInstance(DoubleVectorBlock.class);
 
-    private final double[] values;
+    final double[] values;
 
     DoubleArrayVector(double[] values, int positionCount, BlockFactory blockFactory) {
         super(positionCount, blockFactory);
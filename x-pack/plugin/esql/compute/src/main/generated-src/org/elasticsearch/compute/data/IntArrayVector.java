@@ -21,7 +21,7 @@ final class IntArrayVector extends AbstractVector implements IntVector {
         // TODO: remove these extra bytes once `asBlock` returns a block with a separate reference to the vector.
         + RamUsageEstimator.shallowSizeOfInstance(IntVectorBlock.class);
 
-    private final int[] values;
+    final int[] values;
 
     IntArrayVector(int[] values, int positionCount, BlockFactory blockFactory) {
         super(positionCount, blockFactory);
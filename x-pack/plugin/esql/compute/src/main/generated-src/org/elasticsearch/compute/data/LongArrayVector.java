@@ -21,7 +21,7 @@ final class LongArrayVector extends AbstractVector implements LongVector {
         // TODO: remove these extra bytes once `asBlock` returns a block with a separate reference to the vector.
         + RamUsageEstimator.shallowSizeOfInstance(LongVectorBlock.class);
 
-    private final long[] values;
+    final long[] values;
 
     LongArrayVector(long[] values, int positionCount, BlockFactory blockFactory) {
         super(positionCount, blockFactory);
@@ -24,6 +24,7 @@ module org.elasticsearch.compute {
     exports org.elasticsearch.compute.lucene;
     exports org.elasticsearch.compute.operator;
     exports org.elasticsearch.compute.operator.exchange;
+    exports org.elasticsearch.compute.operator.join;
     exports org.elasticsearch.compute.aggregation.blockhash;
     exports org.elasticsearch.compute.aggregation.spatial;
     exports org.elasticsearch.compute.operator.topn;
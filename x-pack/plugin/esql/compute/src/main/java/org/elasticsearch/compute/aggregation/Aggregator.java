@@ -30,6 +30,10 @@ public class Aggregator implements Releasable {
         this.mode = mode;
     }
 
+    public AggregatorMode mode() {
+        return mode;
+    }
+
     /** The number of Blocks required for evaluation. */
     public int evaluateBlockCount() {
         return mode.isOutputPartial() ? aggregatorFunction.intermediateBlockCount() : 1;
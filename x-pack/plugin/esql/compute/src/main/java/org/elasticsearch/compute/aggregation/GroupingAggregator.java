@@ -29,11 +29,20 @@ public class GroupingAggregator implements Releasable {
         this.mode = mode;
     }
 
+    public AggregatorMode mode() {
+        return mode;
+    }
+
     /** The number of Blocks required for evaluation. */
     public int evaluateBlockCount() {
         return mode.isOutputPartial() ? aggregatorFunction.intermediateBlockCount() : 1;
     }
 
+    /** The number of Blocks required for {@link #evaluateIntermediate}. */
+    public int intermediateBlockCount() {
+        return aggregatorFunction.intermediateBlockCount();
+    }
+
     /**
      * Prepare to process a single page of results.
      */
@@ -75,6 +84,14 @@ public class GroupingAggregator implements Releasable {
         }
     }
 
+    /**
+     * Build the intermediate state for this aggregation, regardless of its mode.
+     * Used to move state out of memory when spilling.
+     */
+    public void evaluateIntermediate(Block[] blocks, int offset, IntVector selected) {
+        aggregatorFunction.evaluateIntermediate(blocks, offset, selected);
+    }
+
     @Override
     public void close() {
         aggregatorFunction.close();
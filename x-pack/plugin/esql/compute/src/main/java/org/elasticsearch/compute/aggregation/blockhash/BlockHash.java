@@ -17,6 +17,7 @@ import org.elasticsearch.compute.aggregation.SeenGroupIds;
 import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntBlock;
 import org.elasticsearch.compute.data.IntVector;
 import org.elasticsearch.compute.data.Page;
 import org.elasticsearch.compute.operator.DriverContext;
@@ -50,6 +51,22 @@ public abstract sealed class BlockHash implements Releasable, SeenGroupIds //
      */
     public abstract void add(Page page, GroupingAggregatorFunction.AddInput addInput);
 
+    /**
+     * Find the ids of the "group by" columns in the page <strong>without</strong>
+     * adding them to the hash. Positions whose keys were never added or are
+     * {@code null} get a {@code null} id. Multivalued keys get the id of each of
+     * their values that was added.
+     * <p>
+     *     The result is built with the provided {@link BlockFactory} rather than
+     *     the one the hash was built with so a hash built in one driver can be
+     *     probed by another. This doesn't modify the hash so, once nothing adds
+     *     to it anymore, many drivers may probe it at the same time.
+     * </p>
+     */
+    public IntBlock lookup(Page page, BlockFactory blockFactory) {
+        throw new UnsupportedOperationException("[" + getClass().getSimpleName() + "] doesn't support lookup");
+    }
+
     /**
      * Returns a {@link Block} that contains all the keys that are inserted by {@link #add}.
      */
@@ -10,6 +10,7 @@ package org.elasticsearch.compute.aggregation.blockhash;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.BitArray;
 import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
+import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.BooleanBlock;
 import org.elasticsearch.compute.data.BooleanVector;
 import org.elasticsearch.compute.data.IntBlock;
@@ -72,6 +73,26 @@ final class BooleanBlockHash extends BlockHash {
         return new MultivalueDedupeBoolean(block).hash(blockFactory, everSeen);
     }
 
+    @Override
+    public IntBlock lookup(Page page, BlockFactory blockFactory) {
+        BooleanBlock block = page.getBlock(channel);
+        int positions = block.getPositionCount();
+        try (LookupBuilder builder = new LookupBuilder(blockFactory, positions)) {
+            for (int p = 0; p < positions; p++) {
+                int start = block.getFirstValueIndex(p);
+                int end = start + block.getValueCount(p);
+                for (int i = start; i < end; i++) {
+                    int group = block.getBoolean(i) ? TRUE_ORD : FALSE_ORD;
+                    if (everSeen[group]) {
+                        builder.appendGroup(group);
+                    }
+                }
+                builder.endPosition();
+            }
+            return builder.build();
+        }
+    }
+
     @Override
     public BooleanBlock[] getKeys() {
         try (BooleanBlock.Builder builder = blockFactory.newBooleanBlockBuilder(everSeen.length)) {
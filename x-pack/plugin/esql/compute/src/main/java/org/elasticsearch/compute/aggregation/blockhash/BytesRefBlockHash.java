@@ -18,6 +18,7 @@ import org.elasticsearch.common.util.BytesRefHash;
 import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
 import org.elasticsearch.compute.aggregation.SeenGroupIds;
 import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.BytesRefBlock;
 import org.elasticsearch.compute.data.BytesRefVector;
 import org.elasticsearch.compute.data.IntBlock;
@@ -92,6 +93,25 @@ final class BytesRefBlockHash extends BlockHash {
         return result.ords();
     }
 
+    @Override
+    public IntBlock lookup(Page page, BlockFactory blockFactory) {
+        BytesRefBlock block = page.getBlock(channel);
+        int positions = block.getPositionCount();
+        BytesRef scratch = new BytesRef();
+        BytesRef spare = new BytesRef();
+        try (LookupBuilder builder = new LookupBuilder(blockFactory, positions)) {
+            for (int p = 0; p < positions; p++) {
+                int start = block.getFirstValueIndex(p);
+                int end = start + block.getValueCount(p);
+                for (int i = start; i < end; i++) {
+                    builder.appendOrd(bytesRefHash.find(block.getBytesRef(i, scratch), spare));
+                }
+                builder.endPosition();
+            }
+            return builder.build();
+        }
+    }
+
     @Override
     public BytesRefBlock[] getKeys() {
         /*
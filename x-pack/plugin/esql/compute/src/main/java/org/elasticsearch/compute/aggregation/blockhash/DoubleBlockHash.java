@@ -13,6 +13,7 @@ import org.elasticsearch.common.util.LongHash;
 import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
 import org.elasticsearch.compute.aggregation.SeenGroupIds;
 import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.DoubleBlock;
 import org.elasticsearch.compute.data.DoubleVector;
 import org.elasticsearch.compute.data.IntBlock;
@@ -85,6 +86,23 @@ final class DoubleBlockHash extends BlockHash {
         return result.ords();
     }
 
+    @Override
+    public IntBlock lookup(Page page, BlockFactory blockFactory) {
+        DoubleBlock block = page.getBlock(channel);
+        int positions = block.getPositionCount();
+        try (LookupBuilder builder = new LookupBuilder(blockFactory, positions)) {
+            for (int p = 0; p < positions; p++) {
+                int start = block.getFirstValueIndex(p);
+                int end = start + block.getValueCount(p);
+                for (int i = start; i < end; i++) {
+                    builder.appendOrd(longHash.find(Double.doubleToLongBits(block.getDouble(i))));
+                }
+                builder.endPosition();
+            }
+            return builder.build();
+        }
+    }
+
     @Override
     public DoubleBlock[] getKeys() {
         if (seenNull) {
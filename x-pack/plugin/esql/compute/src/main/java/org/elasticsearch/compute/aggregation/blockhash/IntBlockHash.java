@@ -13,6 +13,7 @@ import org.elasticsearch.common.util.LongHash;
 import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
 import org.elasticsearch.compute.aggregation.SeenGroupIds;
 import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.IntBlock;
 import org.elasticsearch.compute.data.IntVector;
 import org.elasticsearch.compute.data.Page;
@@ -82,6 +83,23 @@ final class IntBlockHash extends BlockHash {
         return result.ords();
     }
 
+    @Override
+    public IntBlock lookup(Page page, BlockFactory blockFactory) {
+        IntBlock block = page.getBlock(channel);
+        int positions = block.getPositionCount();
+        try (LookupBuilder builder = new LookupBuilder(blockFactory, positions)) {
+            for (int p = 0; p < positions; p++) {
+                int start = block.getFirstValueIndex(p);
+                int end = start + block.getValueCount(p);
+                for (int i = start; i < end; i++) {
+                    builder.appendOrd(longHash.find(block.getInt(i)));
+                }
+                builder.endPosition();
+            }
+            return builder.build();
+        }
+    }
+
     @Override
     public IntBlock[] getKeys() {
         if (seenNull) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.aggregation.blockhash;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.core.Releasable;
+
+/**
+ * Builds the result of {@link BlockHash#lookup}. Call {@link #appendOrd} with
+ * the result of {@code find}, or {@link #appendGroup} with the group id, for
+ * every value at a position and then {@link #endPosition}. Positions without any matching value are {@code null}
+ * and matching values are deduplicated.
+ */
+final class LookupBuilder implements Releasable {
+    private final IntBlock.Builder builder;
+    private int[] groups = new int[2];
+    private int count;
+
+    LookupBuilder(BlockFactory blockFactory, int positions) {
+        this.builder = blockFactory.newIntBlockBuilder(positions);
+    }
+
+    /**
+     * Append the result of a {@code find} call. Negative ords are misses.
+     */
+    void appendOrd(long ord) {
+        if (ord >= 0) {
+            appendGroup(Math.toIntExact(BlockHash.hashOrdToGroupNullReserved(ord)));
+        }
+    }
+
+    /**
+     * Append a group id that matched.
+     */
+    void appendGroup(int group) {
+        for (int i = 0; i < count; i++) {
+            if (groups[i] == group) {
+                return;
+            }
+        }
+        groups = ArrayUtil.grow(groups, count + 1);
+        groups[count++] = group;
+    }
+
+    void endPosition() {
+        switch (count) {
+            case 0 -> builder.appendNull();
+            case 1 -> builder.appendInt(groups[0]);
+            default -> {
+                builder.beginPositionEntry();
+                for (int i = 0; i < count; i++) {
+                    builder.appendInt(groups[i]);
+                }
+                builder.endPositionEntry();
+            }
+        }
+        count = 0;
+    }
+
+    IntBlock build() {
+        return builder.build();
+    }
+
+    @Override
+    public void close() {
+        builder.close();
+    }
+}
@@ -11,7 +11,9 @@ import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.BitArray;
 import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
 import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.BooleanBlock;
+import org.elasticsearch.compute.data.IntBlock;
 import org.elasticsearch.compute.data.IntVector;
 import org.elasticsearch.compute.data.Page;
 import org.elasticsearch.compute.operator.DriverContext;
@@ -42,6 +44,18 @@ final class NullBlockHash extends BlockHash {
         }
     }
 
+    @Override
+    public IntBlock lookup(Page page, BlockFactory blockFactory) {
+        // null never matches
+        int positions = page.getBlock(channel).getPositionCount();
+        try (LookupBuilder builder = new LookupBuilder(blockFactory, positions)) {
+            for (int p = 0; p < positions; p++) {
+                builder.endPosition();
+            }
+            return builder.build();
+        }
+    }
+
     @Override
     public Block[] getKeys() {
         return new Block[] { blockFactory.newConstantNullBlock(seenNull ? 1 : 0) };
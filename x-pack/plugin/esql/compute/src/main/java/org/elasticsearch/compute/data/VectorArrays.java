@@ -0,0 +1,41 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.data;
+
+/**
+ * Read only access to the arrays backing dense primitive {@link Vector}s so bulk
+ * kernels can process them without a megamorphic call per position. Each method
+ * returns {@code null} if the vector isn't backed by a plain java array, in which
+ * case callers are expected to fall back to the per-position accessors. The
+ * returned arrays may be longer than {@link Vector#getPositionCount()} and must
+ * never be modified.
+ */
+public final class VectorArrays {
+    private VectorArrays() {}
+
+    /**
+     * The array backing an {@link IntVector} or {@code null} if it isn't backed by an array.
+     */
+    public static int[] ints(IntVector vector) {
+        return vector instanceof IntArrayVector array ? array.values : null;
+    }
+
+    /**
+     * The array backing a {@link LongVector} or {@code null} if it isn't backed by an array.
+     */
+    public static long[] longs(LongVector vector) {
+        return vector instanceof LongArrayVector array ? array.values : null;
+    }
+
+    /**
+     * The array backing a {@link DoubleVector} or {@code null} if it isn't backed by an array.
+     */
+    public static double[] doubles(DoubleVector vector) {
+        return vector instanceof DoubleArrayVector array ? array.values : null;
+    }
+}
@@ -49,6 +49,10 @@ public abstract class LuceneOperator extends SourceOperator {
      * Count of the number of slices processed.
      */
     private int processedSlices;
+    /**
+     * Count of the number of slices stolen from other operators.
+     */
+    private int stolenSlices;
     final int maxPageSize;
     private final LuceneSliceQueue sliceQueue;
 
@@ -56,7 +60,9 @@ public abstract class LuceneOperator extends SourceOperator {
     private final Set<String> processedShards = new HashSet<>();
 
     private LuceneSlice currentSlice;
+    private boolean currentSliceStolen;
     private int sliceIndex;
+    private LuceneSliceQueue.InFlightLeaf currentLeaf;
 
     private LuceneScorer currentScorer;
 
@@ -74,16 +80,25 @@ public abstract class LuceneOperator extends SourceOperator {
     }
 
     @Override
-    public void close() {}
+    public void close() {
+        finishCurrentLeaf();
+    }
 
     LuceneScorer getCurrentOrLoadNextScorer() {
         while (currentScorer == null || currentScorer.isDone()) {
+            finishCurrentLeaf();
             if (currentSlice == null || sliceIndex >= currentSlice.numLeaves()) {
                 sliceIndex = 0;
                 currentSlice = sliceQueue.nextSlice();
+                currentSliceStolen = false;
                 if (currentSlice == null) {
-                    doneCollecting = true;
-                    return null;
+                    currentSlice = sliceQueue.stealSlice();
+                    if (currentSlice == null) {
+                        doneCollecting = true;
+                        return null;
+                    }
+                    currentSliceStolen = true;
+                    stolenSlices++;
                 }
                 if (currentSlice.numLeaves() == 0) {
                     continue;
@@ -94,7 +109,12 @@ public abstract class LuceneOperator extends SourceOperator {
             final PartialLeafReaderContext partialLeaf = currentSlice.getLeaf(sliceIndex++);
             logger.trace("Starting {}", partialLeaf);
             final LeafReaderContext leaf = partialLeaf.leafReaderContext();
-            if (currentScorer == null || currentScorer.leafReaderContext() != leaf) {
+            /*
+             * Slices from the queue visit each leaf in doc order so we can keep
+             * advancing the same scorer. A stolen range may come before the
+             * current scorer's position so it always gets a fresh scorer.
+             */
+            if (currentScorer == null || currentScorer.leafReaderContext() != leaf || currentSliceStolen) {
                 final Weight weight = currentSlice.weight().get();
                 processedQueries.add(weight.getQuery());
                 currentScorer = new LuceneScorer(currentSlice.shardContext(), weight, leaf);
@@ -102,6 +122,8 @@ public abstract class LuceneOperator extends SourceOperator {
             assert currentScorer.maxPosition <= partialLeaf.maxDoc() : currentScorer.maxPosition + ">" + partialLeaf.maxDoc();
             currentScorer.maxPosition = partialLeaf.maxDoc();
             currentScorer.position = Math.max(currentScorer.position, partialLeaf.minDoc());
+            currentLeaf = sliceQueue.startLeaf(currentSlice, partialLeaf, currentScorer.position);
+            currentScorer.inFlightLeaf = currentLeaf;
         }
         if (Thread.currentThread() != currentScorer.executingThread) {
             currentScorer.reinitialize();
@@ -109,6 +131,13 @@ public abstract class LuceneOperator extends SourceOperator {
         return currentScorer;
     }
 
+    private void finishCurrentLeaf() {
+        if (currentLeaf != null) {
+            sliceQueue.finishLeaf(currentLeaf);
+            currentLeaf = null;
+        }
+    }
+
     /**
      * Wraps a {@link BulkScorer} with shard information
      */
@@ -120,6 +149,7 @@ public abstract class LuceneOperator extends SourceOperator {
         private BulkScorer bulkScorer;
         private int position;
         private int maxPosition;
+        private LuceneSliceQueue.InFlightLeaf inFlightLeaf;
         private Thread executingThread;
 
         LuceneScorer(ShardContext shardContext, Weight weight, LeafReaderContext leafReaderContext) {
@@ -140,10 +170,15 @@ public abstract class LuceneOperator extends SourceOperator {
 
         void scoreNextRange(LeafCollector collector, Bits acceptDocs, int numDocs) throws IOException {
             assert isDone() == false : "scorer is exhausted";
-            // avoid overflow and limit the range
-            numDocs = Math.min(maxPosition - position, numDocs);
-            assert numDocs > 0 : "scorer was exhausted";
-            position = bulkScorer.score(collector, acceptDocs, position, Math.min(maxPosition, position + numDocs));
+            // claim the range so idle operators don't steal it while we score it
+            int end = inFlightLeaf.claim(position, numDocs);
+            if (end < (long) position + numDocs) {
+                // we reached the end of the leaf, which may have moved if another operator stole the tail of it
+                maxPosition = end;
+            }
+            if (end > position) {
+                position = bulkScorer.score(collector, acceptDocs, position, end);
+            }
         }
 
         LeafReaderContext leafReaderContext() {
@@ -196,6 +231,7 @@ public abstract class LuceneOperator extends SourceOperator {
         );
 
         private final int processedSlices;
+        private final int stolenSlices;
         private final Set<String> processedQueries;
         private final Set<String> processedShards;
         private final int totalSlices;
@@ -207,6 +243,7 @@ public abstract class LuceneOperator extends SourceOperator {
 
         private Status(LuceneOperator operator) {
             processedSlices = operator.processedSlices;
+            stolenSlices = operator.stolenSlices;
             processedQueries = operator.processedQueries.stream().map(Query::toString).collect(Collectors.toCollection(TreeSet::new));
             processedShards = new TreeSet<>(operator.processedShards);
             sliceIndex = operator.sliceIndex;
@@ -231,6 +268,7 @@ public abstract class LuceneOperator extends SourceOperator {
 
         Status(
             int processedSlices,
+            int stolenSlices,
             Set<String> processedQueries,
             Set<String> processedShards,
             int sliceIndex,
@@ -241,6 +279,7 @@ public abstract class LuceneOperator extends SourceOperator {
             int current
         ) {
             this.processedSlices = processedSlices;
+            this.stolenSlices = stolenSlices;
             this.processedQueries = processedQueries;
             this.processedShards = processedShards;
             this.sliceIndex = sliceIndex;
@@ -253,6 +292,11 @@ public abstract class LuceneOperator extends SourceOperator {
 
         Status(StreamInput in) throws IOException {
             processedSlices = in.readVInt();
+            if (in.getTransportVersion().onOrAfter(TransportVersions.ESQL_STATUS_INCLUDE_STOLEN_SLICES)) {
+                stolenSlices = in.readVInt();
+            } else {
+                stolenSlices = 0;
+            }
             if (in.getTransportVersion().onOrAfter(TransportVersions.ESQL_STATUS_INCLUDE_LUCENE_QUERIES)) {
                 processedQueries = in.readCollectionAsSet(StreamInput::readString);
                 processedShards = in.readCollectionAsSet(StreamInput::readString);
@@ -271,6 +315,9 @@ public abstract class LuceneOperator extends SourceOperator {
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             out.writeVInt(processedSlices);
+            if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_STATUS_INCLUDE_STOLEN_SLICES)) {
+                out.writeVInt(stolenSlices);
+            }
             if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_STATUS_INCLUDE_LUCENE_QUERIES)) {
                 out.writeCollection(processedQueries, StreamOutput::writeString);
                 out.writeCollection(processedShards, StreamOutput::writeString);
@@ -292,6 +339,13 @@ public abstract class LuceneOperator extends SourceOperator {
             return processedSlices;
         }
 
+        /**
+         * The number of slices this operator stole from other operators after running out of its own.
+         */
+        public int stolenSlices() {
+            return stolenSlices;
+        }
+
         public Set<String> processedQueries() {
             return processedQueries;
         }
@@ -328,6 +382,7 @@ public abstract class LuceneOperator extends SourceOperator {
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject();
             builder.field("processed_slices", processedSlices);
+            builder.field("stolen_slices", stolenSlices);
             builder.field("processed_queries", processedQueries);
             builder.field("processed_shards", processedShards);
             builder.field("slice_index", sliceIndex);
@@ -345,6 +400,7 @@ public abstract class LuceneOperator extends SourceOperator {
             if (o == null || getClass() != o.getClass()) return false;
             Status status = (Status) o;
             return processedSlices == status.processedSlices
+                && stolenSlices == status.stolenSlices
                 && processedQueries.equals(status.processedQueries)
                 && processedShards.equals(status.processedShards)
                 && sliceIndex == status.sliceIndex
@@ -357,7 +413,7 @@ public abstract class LuceneOperator extends SourceOperator {
 
         @Override
         public int hashCode() {
-            return Objects.hash(processedSlices, sliceIndex, totalSlices, pagesEmitted, sliceMin, sliceMax, current);
+            return Objects.hash(processedSlices, stolenSlices, sliceIndex, totalSlices, pagesEmitted, sliceMin, sliceMax, current);
         }
 
         @Override
@@ -18,19 +18,32 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Shared Lucene slices between Lucene operators.
+ * <p>
+ * Static partitioning can't know how expensive each slice will be, so drivers
+ * that drain the queue early steal work from the others: every leaf that an
+ * operator is working on is tracked as an {@link InFlightLeaf} and an idle
+ * operator may take the back half of whichever has the most docs remaining.
+ * </p>
  */
 public final class LuceneSliceQueue {
     private static final int MAX_DOCS_PER_SLICE = 250_000; // copied from IndexSearcher
     private static final int MAX_SEGMENTS_PER_SLICE = 5; // copied from IndexSearcher
+    /**
+     * The minimum number of docs to steal. Smaller ranges aren't worth a new {@link org.apache.lucene.search.BulkScorer}.
+     */
+    static final int MIN_DOCS_TO_STEAL = 4096;
 
     private final int totalSlices;
     private final Queue<LuceneSlice> slices;
+    private final Set<InFlightLeaf> inFlight = ConcurrentHashMap.newKeySet();
 
     private LuceneSliceQueue(List<LuceneSlice> slices) {
         this.totalSlices = slices.size();
@@ -42,6 +55,53 @@ public final class LuceneSliceQueue {
         return slices.poll();
     }
 
+    /**
+     * Steal the unclaimed back half of the in-flight leaf with the most docs
+     * remaining. Returns {@code null} if no leaf has enough docs left to be
+     * worth splitting. Only call this once {@link #nextSlice()} is empty.
+     */
+    @Nullable
+    LuceneSlice stealSlice() {
+        return stealSlice(MIN_DOCS_TO_STEAL);
+    }
+
+    @Nullable
+    LuceneSlice stealSlice(int minDocs) {
+        InFlightLeaf victim = null;
+        int victimRemaining = 0;
+        for (InFlightLeaf leaf : inFlight) {
+            int remaining = leaf.remaining();
+            if (remaining > victimRemaining) {
+                victim = leaf;
+                victimRemaining = remaining;
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+        PartialLeafReaderContext stolen = victim.split(minDocs);
+        if (stolen == null) {
+            return null;
+        }
+        return new LuceneSlice(victim.slice.shardContext(), List.of(stolen), victim.slice.weight());
+    }
+
+    /**
+     * Start working on a leaf, making the part of it after {@code position} available to steal.
+     */
+    InFlightLeaf startLeaf(LuceneSlice slice, PartialLeafReaderContext leaf, int position) {
+        InFlightLeaf inFlightLeaf = new InFlightLeaf(slice, leaf, position);
+        inFlight.add(inFlightLeaf);
+        return inFlightLeaf;
+    }
+
+    /**
+     * Stop working on a leaf.
+     */
+    void finishLeaf(InFlightLeaf leaf) {
+        inFlight.remove(leaf);
+    }
+
     public int totalSlices() {
         return totalSlices;
     }
@@ -127,4 +187,61 @@ public final class LuceneSliceQueue {
         IndexSearcher.LeafSlice[] gs = IndexSearcher.slices(leafContexts, MAX_DOCS_PER_SLICE, MAX_SEGMENTS_PER_SLICE);
         return Arrays.stream(gs).map(g -> Arrays.stream(g.leaves).map(PartialLeafReaderContext::new).toList()).toList();
     }
+
+    /**
+     * The doc range of a leaf that an operator is working on. The owning
+     * operator {@link #claim claims} docs one range at a time and idle operators
+     * {@link #split} off whatever hasn't been claimed yet.
+     */
+    static final class InFlightLeaf {
+        private final LuceneSlice slice;
+        private final PartialLeafReaderContext leaf;
+        /**
+         * Docs before this have been claimed by the owning operator.
+         */
+        private int claimed;
+        /**
+         * Docs from this on have been stolen.
+         */
+        private int maxDoc;
+
+        private InFlightLeaf(LuceneSlice slice, PartialLeafReaderContext leaf, int position) {
+            this.slice = slice;
+            this.leaf = leaf;
+            this.maxDoc = leaf.maxDoc();
+            this.claimed = Math.min(Math.max(position, leaf.minDoc()), maxDoc);
+        }
+
+        /**
+         * Claim up to {@code numDocs} docs starting at {@code from}, returning the
+         * exclusive end of the claimed range. If that's less than
+         * {@code from + numDocs} then it's the end of the leaf.
+         */
+        synchronized int claim(int from, int numDocs) {
+            int end = (int) Math.min(maxDoc, (long) from + numDocs);
+            claimed = Math.max(claimed, end);
+            return end;
+        }
+
+        synchronized int remaining() {
+            return maxDoc - claimed;
+        }
+
+        /**
+         * Split the unclaimed docs in half, keeping the front half and returning
+         * the back half. Returns {@code null} if there are fewer than
+         * {@code minDocs} docs in each half.
+         */
+        @Nullable
+        synchronized PartialLeafReaderContext split(int minDocs) {
+            int remaining = maxDoc - claimed;
+            if (remaining < 2 * minDocs) {
+                return null;
+            }
+            int mid = claimed + remaining / 2;
+            PartialLeafReaderContext stolen = new PartialLeafReaderContext(leaf.leafReaderContext(), mid, maxDoc);
+            maxDoc = mid;
+            return stolen;
+        }
+    }
 }
@@ -168,6 +168,7 @@ public class LuceneSourceOperator extends LuceneOperator {
 
     @Override
     public void close() {
+        super.close();
         docsBuilder.close();
     }
 
@@ -0,0 +1,382 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.lucene;
+
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.breaker.CircuitBreakingException;
+import org.elasticsearch.common.cache.Cache;
+import org.elasticsearch.common.cache.CacheBuilder;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.core.AbstractRefCounted;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.core.Releasable;
+import org.elasticsearch.index.mapper.BlockLoader;
+import org.elasticsearch.indices.breaker.NoneCircuitBreakerService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A node level cache of the {@link Block}s that {@link ValuesSourceReaderOperator}
+ * decodes from doc values. Queries that run over and over against the same
+ * segments, like dashboards, copy values out of here instead of decoding them
+ * again.
+ * <p>
+ *     Blocks are cached in chunks of {@code chunkSize} docs keyed on the segment's
+ *     core cache key, the field, and the chunk. Filling the cache decodes a whole
+ *     chunk so only dense pages use it. A sparse page would pay to decode docs
+ *     it never looks at.
+ * </p>
+ * <p>
+ *     Cached blocks outlive the requests that load them so, like the field data
+ *     cache, they are allocated from a {@link #cacheBlockFactory BlockFactory} with
+ *     a breaker of its own rather than the request breaker. The cache is bounded by
+ *     the sum of {@link Block#ramBytesUsed()} and drops a segment's blocks when the
+ *     segment closes. Readers that hide fields, like field level security, share the
+ *     core cache key with the segment so they never use the cache.
+ * </p>
+ */
+public final class ValuesSourceReaderCache implements Releasable {
+    /**
+     * The default number of docs in each cached block.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /**
+     * The name of the breaker that tracks the cached blocks.
+     */
+    public static final String BREAKER_NAME = "esql_values_source_reader_cache";
+
+    private final BlockFactory blockFactory;
+    private final long maxBytes;
+    private final int chunkSize;
+    private final Cache<Key, Entry> cache;
+    private final Set<Object> closeListeners = ConcurrentHashMap.newKeySet();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ValuesSourceReaderCache(BlockFactory blockFactory, long maxBytes) {
+        this(blockFactory, maxBytes, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ValuesSourceReaderCache(BlockFactory blockFactory, long maxBytes, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive but was [" + chunkSize + "]");
+        }
+        this.blockFactory = blockFactory;
+        this.maxBytes = maxBytes;
+        this.chunkSize = chunkSize;
+        this.cache = CacheBuilder.<Key, Entry>builder()
+            .setMaximumWeight(Math.max(maxBytes, 1))
+            .weigher((key, entry) -> entry.block.ramBytesUsed())
+            .removalListener(notification -> notification.getValue().decRef())
+            .build();
+    }
+
+    /**
+     * Build the {@link BlockFactory} for a cache of {@code maxBytes}. Its breaker allows
+     * twice the cache's size: a full cache plus the chunks that are being loaded into it
+     * before the cache evicts older ones.
+     */
+    public static BlockFactory cacheBlockFactory(long maxBytes, ByteSizeValue maxPrimitiveArraySize) {
+        CircuitBreaker breaker = new CacheBreaker(maxBytes > Long.MAX_VALUE / 2 ? Long.MAX_VALUE : 2 * maxBytes);
+        BigArrays bigArrays = new BigArrays(null, new NoneCircuitBreakerService() {
+            @Override
+            public CircuitBreaker getBreaker(String name) {
+                return breaker;
+            }
+        }, BREAKER_NAME).withCircuitBreaking();
+        return new BlockFactory(breaker, bigArrays, maxPrimitiveArraySize);
+    }
+
+    /**
+     * Is there any room in the cache? A cache without any room is never used.
+     */
+    public boolean enabled() {
+        return maxBytes > 0;
+    }
+
+    /**
+     * Load the values of {@code field} for the non-decreasing {@code docs} into a
+     * {@link Block} allocated by {@code target}, filling the cache as needed.
+     * @return the loaded block or {@code null} if the values can't come from the cache
+     */
+    @Nullable
+    Block read(BlockFactory target, LeafReaderContext ctx, String field, ElementType type, BlockLoader loader, IntVector docs)
+        throws IOException {
+        if (enabled() == false || type == ElementType.DOC || type == ElementType.UNKNOWN) {
+            return null;
+        }
+        IndexReader.CacheHelper cacheHelper = ctx.reader().getCoreCacheHelper();
+        if (cacheHelper == null || hidesFields(ctx.reader())) {
+            return null;
+        }
+        Object core = cacheHelper.getKey();
+        if (closeListeners.add(core)) {
+            cacheHelper.addClosedListener(this::invalidate);
+        }
+        int count = docs.getPositionCount();
+        try (Block.Builder builder = type.newBlockBuilder(count, target)) {
+            Block.MvOrdering mvOrdering = null;
+            int p = 0;
+            while (p < count) {
+                int chunk = docs.getInt(p) / chunkSize;
+                int chunkStart = chunk * chunkSize;
+                Entry entry = acquire(new Key(core, field, type, loader.getClass(), chunk), ctx, loader);
+                if (entry == null) {
+                    return null;
+                }
+                try {
+                    Block.MvOrdering chunkOrdering = entry.block.mvOrdering();
+                    mvOrdering = mvOrdering == null || mvOrdering == chunkOrdering ? chunkOrdering : Block.MvOrdering.UNORDERED;
+                    // copy runs of consecutive docs in this chunk
+                    while (p < count && docs.getInt(p) / chunkSize == chunk) {
+                        int runStart = docs.getInt(p) - chunkStart;
+                        int runEnd = runStart + 1;
+                        p++;
+                        while (p < count && docs.getInt(p) - chunkStart == runEnd && runEnd < chunkSize) {
+                            runEnd++;
+                            p++;
+                        }
+                        builder.copyFrom(entry.block, runStart, runEnd);
+                    }
+                } finally {
+                    entry.decRef();
+                }
+            }
+            if (mvOrdering != null) {
+                builder.mvOrdering(mvOrdering);
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Fetch an entry from the cache, loading it if it isn't there, and take a reference to it.
+     * @return the entry or {@code null} if it couldn't be loaded or was evicted before we referenced it
+     */
+    @Nullable
+    private Entry acquire(Key key, LeafReaderContext ctx, BlockLoader loader) throws IOException {
+        lookups.increment();
+        Entry entry;
+        try {
+            entry = cache.computeIfAbsent(key, k -> load(ctx, loader, k.chunk));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CircuitBreakingException) {
+                // Not enough memory to cache the chunk. Read it the normal way.
+                return null;
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return entry.tryIncRef() ? entry : null;
+    }
+
+    private Entry load(LeafReaderContext ctx, BlockLoader loader, int chunk) throws IOException {
+        misses.increment();
+        int start = chunk * chunkSize;
+        int length = Math.min(chunkSize, ctx.reader().maxDoc() - start);
+        BlockLoader.Docs docs = new BlockLoader.Docs() {
+            @Override
+            public int count() {
+                return length;
+            }
+
+            @Override
+            public int get(int i) {
+                return start + i;
+            }
+        };
+        // Always use a fresh reader because doc values can't go backwards
+        BlockLoader.ColumnAtATimeReader reader = loader.columnAtATimeReader(ctx);
+        if (reader == null) {
+            throw new IllegalStateException("[" + loader + "] doesn't support column at a time loading");
+        }
+        var loaderBlockFactory = new ValuesSourceReaderOperator.ComputeBlockLoaderFactory(blockFactory, length);
+        return new Entry((Block) reader.read(loaderBlockFactory, docs));
+    }
+
+    /**
+     * Does this reader hide any of the segment's fields? Wrappers that don't
+     * return the segment's own {@link org.apache.lucene.index.FieldInfos}.
+     */
+    private static boolean hidesFields(LeafReader reader) {
+        return reader.getFieldInfos() != FilterLeafReader.unwrap(reader).getFieldInfos();
+    }
+
+    /**
+     * Drop all cached blocks for a segment.
+     */
+    private void invalidate(Object core) {
+        List<Key> keys = new ArrayList<>();
+        cache.forEach((key, entry) -> {
+            if (key.core == core) {
+                keys.add(key);
+            }
+        });
+        for (Key key : keys) {
+            cache.invalidate(key);
+        }
+        closeListeners.remove(core);
+    }
+
+    /**
+     * The number of chunks that were looked up in the cache.
+     */
+    public long lookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * The number of chunks that weren't in the cache and had to be decoded.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of chunks in the cache.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Memory used by the cached blocks.
+     */
+    public long ramBytesUsed() {
+        return cache.weight();
+    }
+
+    /**
+     * The breaker that tracks the cached blocks.
+     */
+    public CircuitBreaker breaker() {
+        return blockFactory.breaker();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    private record Key(Object core, String field, ElementType type, Class<?> loader, int chunk) {}
+
+    /**
+     * Tracks the memory of the cached blocks and of the chunks being loaded.
+     * Tripping it just means the chunk is read without the cache.
+     */
+    private static final class CacheBreaker implements CircuitBreaker {
+        private final long limit;
+        private final AtomicLong used = new AtomicLong();
+        private final AtomicLong trippedCount = new AtomicLong();
+
+        CacheBreaker(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void circuitBreak(String fieldName, long bytesNeeded) {
+            trippedCount.incrementAndGet();
+            throw new CircuitBreakingException(
+                "[" + BREAKER_NAME + "] loading [" + fieldName + "] would use [" + bytesNeeded + "] above the limit of [" + limit + "]",
+                bytesNeeded,
+                limit,
+                Durability.TRANSIENT
+            );
+        }
+
+        @Override
+        public void addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
+            long newUsed = used.addAndGet(bytes);
+            if (bytes > 0 && newUsed > limit) {
+                used.addAndGet(-bytes);
+                circuitBreak(label, newUsed);
+            }
+        }
+
+        @Override
+        public void addWithoutBreaking(long bytes) {
+            used.addAndGet(bytes);
+        }
+
+        @Override
+        public long getUsed() {
+            return used.get();
+        }
+
+        @Override
+        public long getLimit() {
+            return limit;
+        }
+
+        @Override
+        public double getOverhead() {
+            return 1.0;
+        }
+
+        @Override
+        public long getTrippedCount() {
+            return trippedCount.get();
+        }
+
+        @Override
+        public String getName() {
+            return BREAKER_NAME;
+        }
+
+        @Override
+        public Durability getDurability() {
+            return Durability.TRANSIENT;
+        }
+
+        @Override
+        public void setLimitAndOverhead(long limit, double overhead) {
+            throw new UnsupportedOperationException("the limit follows the cache size");
+        }
+    }
+
+    /**
+     * A cached {@link Block}. {@link Block}'s reference counting isn't thread safe
+     * so the entry counts the references for it and closes it once the cache and
+     * every reader are done with it.
+     */
+    private static final class Entry extends AbstractRefCounted {
+        private final Block block;
+
+        Entry(Block block) {
+            this.block = block;
+        }
+
+        @Override
+        protected void closeInternal() {
+            block.close();
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.elasticsearch.compute.operator.AbstractPageMappingOperator;
 import org.elasticsearch.compute.operator.DriverContext;
 import org.elasticsearch.compute.operator.Operator;
 import org.elasticsearch.core.Assertions;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
 import org.elasticsearch.core.Releasables;
 import org.elasticsearch.index.fieldvisitor.StoredFieldLoader;
@@ -69,11 +70,22 @@ public class ValuesSourceReaderOperator extends AbstractPageMappingOperator {
      * @param fields fields to load
      * @param shardContexts per-shard loading information
      * @param docChannel the channel containing the shard, leaf/segment and doc id
+     * @param cache node level cache of decoded doc values or {@code null} to always decode them
      */
-    public record Factory(List<FieldInfo> fields, List<ShardContext> shardContexts, int docChannel) implements OperatorFactory {
+    public record Factory(
+        List<FieldInfo> fields,
+        List<ShardContext> shardContexts,
+        int docChannel,
+        @Nullable ValuesSourceReaderCache cache
+    ) implements OperatorFactory {
+
+        public Factory(List<FieldInfo> fields, List<ShardContext> shardContexts, int docChannel) {
+            this(fields, shardContexts, docChannel, null);
+        }
+
         @Override
         public Operator get(DriverContext driverContext) {
-            return new ValuesSourceReaderOperator(driverContext.blockFactory(), fields, shardContexts, docChannel);
+            return new ValuesSourceReaderOperator(driverContext.blockFactory(), fields, shardContexts, docChannel, cache);
         }
 
         @Override
@@ -111,6 +123,8 @@ public class ValuesSourceReaderOperator extends AbstractPageMappingOperator {
     private final List<ShardContext> shardContexts;
     private final int docChannel;
     private final BlockFactory blockFactory;
+    @Nullable
+    private final ValuesSourceReaderCache cache;
 
     private final Map<String, Integer> readersBuilt = new TreeMap<>();
 
@@ -123,10 +137,27 @@ public class ValuesSourceReaderOperator extends AbstractPageMappingOperator {
      * @param docChannel the channel containing the shard, leaf/segment and doc id
      */
     public ValuesSourceReaderOperator(BlockFactory blockFactory, List<FieldInfo> fields, List<ShardContext> shardContexts, int docChannel) {
+        this(blockFactory, fields, shardContexts, docChannel, null);
+    }
+
+    /**
+     * Creates a new extractor
+     * @param fields fields to load
+     * @param docChannel the channel containing the shard, leaf/segment and doc id
+     * @param cache node level cache of decoded doc values or {@code null} to always decode them
+     */
+    public ValuesSourceReaderOperator(
+        BlockFactory blockFactory,
+        List<FieldInfo> fields,
+        List<ShardContext> shardContexts,
+        int docChannel,
+        @Nullable ValuesSourceReaderCache cache
+    ) {
         this.fields = fields.stream().map(f -> new FieldWork(f)).toArray(FieldWork[]::new);
         this.shardContexts = shardContexts;
         this.docChannel = docChannel;
         this.blockFactory = blockFactory;
+        this.cache = cache != null && cache.enabled() ? cache : null;
     }
 
     @Override
@@ -221,12 +252,20 @@ public class ValuesSourceReaderOperator extends AbstractPageMappingOperator {
         List<RowStrideReaderWork> rowStrideReaders = new ArrayList<>(fields.length);
         ComputeBlockLoaderFactory loaderBlockFactory = new ComputeBlockLoaderFactory(blockFactory, docs.getPositionCount());
         LeafReaderContext ctx = ctx(shard, segment);
+        boolean useCache = cache != null && dense(docs);
         try {
             for (int f = 0; f < fields.length; f++) {
                 FieldWork field = fields[f];
                 BlockLoader.ColumnAtATimeReader columnAtATime = field.columnAtATime(ctx);
                 if (columnAtATime != null) {
-                    blocks[f] = (Block) columnAtATime.read(loaderBlockFactory, loaderDocs);
+                    Block cached = null;
+                    if (useCache) {
+                        cached = cache.read(blockFactory, ctx, field.info.name, field.info.type, field.loader, docs);
+                        if (cached != null) {
+                            readersBuilt.merge(field.info.name + ":cached", 1, (prev, one) -> prev + one);
+                        }
+                    }
+                    blocks[f] = cached != null ? cached : (Block) columnAtATime.read(loaderBlockFactory, loaderDocs);
                 } else {
                     rowStrideReaders.add(
                         new RowStrideReaderWork(
@@ -372,8 +411,14 @@ public class ValuesSourceReaderOperator extends AbstractPageMappingOperator {
      * when reading stored fields for the documents contained in {@code docIds}?
      */
     private boolean useSequentialStoredFieldsReader(IntVector docIds) {
-        return docIds.getPositionCount() >= SEQUENTIAL_BOUNDARY
-            && docIds.getInt(docIds.getPositionCount() - 1) - docIds.getInt(0) == docIds.getPositionCount() - 1;
+        return docIds.getPositionCount() >= SEQUENTIAL_BOUNDARY && dense(docIds);
+    }
+
+    /**
+     * Do the non-decreasing {@code docIds} span as many docs as there are positions?
+     */
+    private static boolean dense(IntVector docIds) {
+        return docIds.getInt(docIds.getPositionCount() - 1) - docIds.getInt(0) == docIds.getPositionCount() - 1;
     }
 
     private void trackStoredFields(StoredFieldsSpec spec, boolean sequential) {
@@ -544,12 +589,12 @@ public class ValuesSourceReaderOperator extends AbstractPageMappingOperator {
         }
     }
 
-    private static class ComputeBlockLoaderFactory implements BlockLoader.BlockFactory {
+    static class ComputeBlockLoaderFactory implements BlockLoader.BlockFactory {
         private final BlockFactory factory;
         private final int pageSize;
         private Block nullBlock;
 
-        private ComputeBlockLoaderFactory(BlockFactory factory, int pageSize) {
+        ComputeBlockLoaderFactory(BlockFactory factory, int pageSize) {
             this.factory = factory;
             this.pageSize = pageSize;
         }
@@ -12,11 +12,13 @@ import org.elasticsearch.compute.aggregation.Aggregator.Factory;
 import org.elasticsearch.compute.aggregation.AggregatorMode;
 import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasables;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
@@ -27,20 +29,27 @@ import static java.util.stream.Collectors.joining;
  * aggregations.
  *
  * The operator is blocking in the sense that it only produces output once all possible input has
- * been added, that is, when the {@link #finish} method has been called.
+ * been added, that is, when the {@link #finish} method has been called. Until then it can
+ * {@link #flush} its intermediate state early or report a {@link #snapshot} of its final output.
  */
-public class AggregationOperator implements Operator {
+public class AggregationOperator implements PartialOutputOperator {
 
     private boolean finished;
     private Page output;
-    private final List<Aggregator> aggregators;
+    private List<Aggregator> aggregators;
+    /**
+     * Builds fresh aggregators after a {@link #flush}. {@code null} if this operator can't flush.
+     */
+    @Nullable
+    private final Supplier<List<Aggregator>> aggregatorsSupplier;
+    private boolean receivedInputSinceFlush;
     private final DriverContext driverContext;
 
     public record AggregationOperatorFactory(List<Factory> aggregators, AggregatorMode mode) implements OperatorFactory {
 
         @Override
         public Operator get(DriverContext driverContext) {
-            return new AggregationOperator(aggregators.stream().map(x -> x.apply(driverContext)).toList(), driverContext);
+            return new AggregationOperator(() -> aggregators.stream().map(x -> x.apply(driverContext)).toList(), driverContext);
         }
 
         @Override
@@ -59,9 +68,25 @@ public class AggregationOperator implements Operator {
     }
 
     public AggregationOperator(List<Aggregator> aggregators, DriverContext driverContext) {
+        this(aggregators, null, driverContext);
+    }
+
+    /**
+     * Build an operator that can replace its aggregators with fresh ones when it {@link #flush}es.
+     */
+    public AggregationOperator(Supplier<List<Aggregator>> aggregators, DriverContext driverContext) {
+        this(aggregators.get(), aggregators, driverContext);
+    }
+
+    private AggregationOperator(
+        List<Aggregator> aggregators,
+        @Nullable Supplier<List<Aggregator>> aggregatorsSupplier,
+        DriverContext driverContext
+    ) {
         Objects.requireNonNull(aggregators);
         checkNonEmpty(aggregators);
         this.aggregators = aggregators;
+        this.aggregatorsSupplier = aggregatorsSupplier;
         this.driverContext = driverContext;
     }
 
@@ -74,6 +99,7 @@ public class AggregationOperator implements Operator {
     public void addInput(Page page) {
         checkState(needsInput(), "Operator is already finishing");
         requireNonNull(page, "page is null");
+        receivedInputSinceFlush = true;
         try {
             for (Aggregator aggregator : aggregators) {
                 aggregator.processPage(page);
@@ -96,6 +122,38 @@ public class AggregationOperator implements Operator {
             return;
         }
         finished = true;
+        output = evaluate();
+    }
+
+    /**
+     * If our output is intermediate state then emit it now and start over with
+     * fresh aggregators. The next aggregation merges it with whatever we emit later.
+     */
+    @Override
+    public void flush() {
+        if (finished || output != null || receivedInputSinceFlush == false || aggregatorsSupplier == null || outputIsPartial() == false) {
+            return;
+        }
+        output = evaluate();
+        List<Aggregator> flushed = aggregators;
+        aggregators = aggregatorsSupplier.get();
+        Releasables.close(flushed);
+        receivedInputSinceFlush = false;
+    }
+
+    @Override
+    public Page snapshot() {
+        if (finished || aggregators.stream().anyMatch(a -> a.mode().isOutputPartial())) {
+            return null;
+        }
+        return evaluate();
+    }
+
+    private boolean outputIsPartial() {
+        return aggregators.stream().allMatch(a -> a.mode().isOutputPartial());
+    }
+
+    private Page evaluate() {
         Block[] blocks = null;
         boolean success = false;
         try {
@@ -108,8 +166,9 @@ public class AggregationOperator implements Operator {
                 aggregator.evaluate(blocks, offset, driverContext);
                 offset += aggBlockCounts[i];
             }
-            output = new Page(blocks);
+            Page page = new Page(blocks);
             success = true;
+            return page;
         } finally {
             if (success == false && blocks != null) {
                 Releasables.closeExpectNoException(blocks);
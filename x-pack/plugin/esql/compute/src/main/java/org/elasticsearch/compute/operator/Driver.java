@@ -55,6 +55,13 @@ public class Driver implements Releasable, Describable {
     private final List<DriverStatus.OperatorStatus> statusOfCompletedOperators = new ArrayList<>();
     private final Releasable releasable;
     private final long statusNanos;
+    /**
+     * Minimum time between reporting partial results. {@code 0} to never report them.
+     * See {@link PartialOutputOperator}.
+     */
+    private final long partialResultsNanos;
+    private long nextPartialResults;
+    private boolean movedPageSincePartialResults;
 
     private final AtomicReference<String> cancelReason = new AtomicReference<>();
     private final AtomicReference<SubscribableListener<Void>> blocked = new AtomicReference<>();
@@ -88,6 +95,31 @@ public class Driver implements Releasable, Describable {
         SinkOperator sink,
         TimeValue statusInterval,
         Releasable releasable
+    ) {
+        this(sessionId, driverContext, description, source, intermediateOperators, sink, statusInterval, TimeValue.ZERO, releasable);
+    }
+
+    /**
+     * Creates a new driver with a chain of operators.
+     * @param sessionId session Id
+     * @param driverContext the driver context
+     * @param source source operator
+     * @param intermediateOperators  the chain of operators to execute
+     * @param sink sink operator
+     * @param statusInterval minimum status reporting interval
+     * @param partialResultsInterval minimum interval between reporting partial results or {@code 0} to never report them
+     * @param releasable a {@link Releasable} to invoked once the chain of operators has run to completion
+     */
+    public Driver(
+        String sessionId,
+        DriverContext driverContext,
+        Supplier<String> description,
+        SourceOperator source,
+        List<Operator> intermediateOperators,
+        SinkOperator sink,
+        TimeValue statusInterval,
+        TimeValue partialResultsInterval,
+        Releasable releasable
     ) {
         this.sessionId = sessionId;
         this.driverContext = driverContext;
@@ -97,6 +129,8 @@ public class Driver implements Releasable, Describable {
         this.activeOperators.addAll(intermediateOperators);
         this.activeOperators.add(sink);
         this.statusNanos = statusInterval.nanos();
+        this.partialResultsNanos = partialResultsInterval.nanos();
+        this.nextPartialResults = System.nanoTime() + partialResultsNanos;
         this.releasable = releasable;
         this.status = new AtomicReference<>(
             new DriverStatus(sessionId, System.currentTimeMillis(), DriverStatus.Status.QUEUED, List.of(), List.of())
@@ -138,6 +172,7 @@ public class Driver implements Releasable, Describable {
         while (isFinished() == false) {
             SubscribableListener<Void> fut = runSingleLoopIteration();
             if (fut.isDone() == false) {
+                maybeReportPartialResults(System.nanoTime());
                 status.set(updateStatus(DriverStatus.Status.ASYNC));
                 return fut;
             }
@@ -149,6 +184,7 @@ public class Driver implements Releasable, Describable {
                 status.set(updateStatus(DriverStatus.Status.RUNNING));
                 nextStatus = now + statusNanos;
             }
+            maybeReportPartialResults(now);
             iter++;
             if (now - startTime > maxTimeNanos) {
                 break;
@@ -213,6 +249,7 @@ public class Driver implements Releasable, Describable {
                     // Non-empty result from the previous operation, move it to the next operation
                     nextOp.addInput(page);
                     movedPage = true;
+                    movedPageSincePartialResults = true;
                 }
             }
 
@@ -255,6 +292,63 @@ public class Driver implements Releasable, Describable {
         return Operator.NOT_BLOCKED;
     }
 
+    /**
+     * Every {@link #partialResultsNanos}, if any page moved in the meantime, ask the
+     * {@link PartialOutputOperator}s to flush their intermediate state and offer the
+     * sink a snapshot of the output computed so far.
+     */
+    private void maybeReportPartialResults(long now) {
+        if (partialResultsNanos <= 0 || movedPageSincePartialResults == false || now < nextPartialResults || isFinished()) {
+            return;
+        }
+        nextPartialResults = now + partialResultsNanos;
+        movedPageSincePartialResults = false;
+        for (Operator op : activeOperators) {
+            if (op instanceof PartialOutputOperator partial) {
+                partial.flush();
+            }
+        }
+        if (activeOperators.get(activeOperators.size() - 1) instanceof SinkOperator sink && sink.wantsPartialOutput()) {
+            Page page = snapshot();
+            if (page == null) {
+                return;
+            }
+            if (page.getPositionCount() == 0) {
+                page.releaseBlocks();
+            } else {
+                sink.addPartialOutput(page);
+            }
+        }
+    }
+
+    /**
+     * Snapshot the last {@link PartialOutputOperator} and push the result through the
+     * operators after it. That only works if those operators process each page on its
+     * own, so give up if there's anything else between the snapshot and the sink.
+     */
+    private Page snapshot() {
+        int sink = activeOperators.size() - 1;
+        for (int i = sink - 1; i >= 0; i--) {
+            Operator op = activeOperators.get(i);
+            if (op instanceof PartialOutputOperator partial) {
+                Page page = partial.snapshot();
+                for (int next = i + 1; next < sink && page != null; next++) {
+                    Operator nextOp = activeOperators.get(next);
+                    if (nextOp instanceof AbstractPageMappingOperator mapping) {
+                        page = mapping.process(page);
+                    } else {
+                        page = ((LimitOperator) nextOp).limitPartialOutput(page);
+                    }
+                }
+                return page;
+            }
+            if (op instanceof AbstractPageMappingOperator == false && op instanceof LimitOperator == false) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     public void cancel(String reason) {
         if (cancelReason.compareAndSet(null, reason)) {
             synchronized (this) {
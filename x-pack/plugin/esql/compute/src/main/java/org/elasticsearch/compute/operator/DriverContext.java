@@ -55,13 +55,20 @@ public class DriverContext {
 
     private final BlockFactory blockFactory;
 
+    private final boolean vectorizedEval;
+
     private final AsyncActions asyncActions = new AsyncActions();
 
     public DriverContext(BigArrays bigArrays, BlockFactory blockFactory) {
+        this(bigArrays, blockFactory, true);
+    }
+
+    public DriverContext(BigArrays bigArrays, BlockFactory blockFactory, boolean vectorizedEval) {
         Objects.requireNonNull(bigArrays);
         Objects.requireNonNull(blockFactory);
         this.bigArrays = bigArrays;
         this.blockFactory = blockFactory;
+        this.vectorizedEval = vectorizedEval;
     }
 
     public BigArrays bigArrays() {
@@ -79,6 +86,14 @@ public class DriverContext {
         return blockFactory;
     }
 
+    /**
+     * Should arithmetic and comparisons over dense numeric vectors be evaluated in bulk
+     * with {@link VectorizedBinaryEvaluator}?
+     */
+    public boolean vectorizedEval() {
+        return vectorizedEval;
+    }
+
     /** A snapshot of the driver context. */
     public record Snapshot(Set<Releasable> releasables) implements Releasable {
         @Override
@@ -0,0 +1,94 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+/**
+ * Bulk kernels for binary arithmetic and comparisons over dense primitive arrays.
+ * On JDK 21+ with the {@code jdk.incubator.vector} module present these are
+ * implemented with the Panama Vector API, otherwise with plain loops. Either way
+ * they operate on the first {@code length} positions and produce exactly the values
+ * the per-position evaluators would produce.
+ * <p>
+ * The integer arithmetic methods are "exact": they return {@code false} if any
+ * position overflows, in which case the contents of {@code result} are undefined
+ * and callers must fall back to the per-position path so the overflowing positions
+ * are reported as warnings and become {@code null}.
+ * </p>
+ */
+public interface EvalKernels {
+    /**
+     * The best implementation for the current runtime.
+     */
+    static EvalKernels instance() {
+        return EvalKernelsProvider.INSTANCE;
+    }
+
+    enum ArithmeticOp {
+        ADD,
+        SUB,
+        MUL;
+
+        /**
+         * Can the operands be swapped without changing the result?
+         */
+        public boolean commutative() {
+            return this != SUB;
+        }
+    }
+
+    enum ComparisonOp {
+        EQ,
+        NEQ,
+        GT,
+        GTE,
+        LT,
+        LTE;
+
+        /**
+         * The operation to use if the operands are swapped.
+         */
+        public ComparisonOp flip() {
+            return switch (this) {
+                case EQ, NEQ -> this;
+                case GT -> LT;
+                case GTE -> LTE;
+                case LT -> GT;
+                case LTE -> GTE;
+            };
+        }
+    }
+
+    /**
+     * The name of the implementation, used in {@code toString}.
+     */
+    String name();
+
+    boolean applyExact(ArithmeticOp op, int[] lhs, int[] rhs, int[] result, int length);
+
+    boolean applyExact(ArithmeticOp op, int[] lhs, int rhs, int[] result, int length);
+
+    boolean applyExact(ArithmeticOp op, long[] lhs, long[] rhs, long[] result, int length);
+
+    boolean applyExact(ArithmeticOp op, long[] lhs, long rhs, long[] result, int length);
+
+    void apply(ArithmeticOp op, double[] lhs, double[] rhs, double[] result, int length);
+
+    void apply(ArithmeticOp op, double[] lhs, double rhs, double[] result, int length);
+
+    void compare(ComparisonOp op, int[] lhs, int[] rhs, boolean[] result, int length);
+
+    void compare(ComparisonOp op, int[] lhs, int rhs, boolean[] result, int length);
+
+    void compare(ComparisonOp op, long[] lhs, long[] rhs, boolean[] result, int length);
+
+    void compare(ComparisonOp op, long[] lhs, long rhs, boolean[] result, int length);
+
+    void compare(ComparisonOp op, double[] lhs, double[] rhs, boolean[] result, int length);
+
+    void compare(ComparisonOp op, double[] lhs, double rhs, boolean[] result, int length);
+}
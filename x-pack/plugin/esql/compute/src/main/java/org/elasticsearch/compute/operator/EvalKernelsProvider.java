@@ -0,0 +1,19 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+/**
+ * Picks the {@link EvalKernels} implementation. This version is used on JDKs
+ * without a usable Vector API. The version in {@code src/main21} replaces it
+ * in the multi-release jar.
+ */
+final class EvalKernelsProvider {
+    static final EvalKernels INSTANCE = new ScalarEvalKernels();
+
+    private EvalKernelsProvider() {}
+}
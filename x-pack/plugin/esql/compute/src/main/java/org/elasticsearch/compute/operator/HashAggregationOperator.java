@@ -8,6 +8,7 @@
 package org.elasticsearch.compute.operator;
 
 import org.elasticsearch.compute.Describable;
+import org.elasticsearch.compute.aggregation.AggregatorMode;
 import org.elasticsearch.compute.aggregation.GroupingAggregator;
 import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
 import org.elasticsearch.compute.aggregation.blockhash.BlockHash;
@@ -16,28 +17,50 @@ import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.data.IntBlock;
 import org.elasticsearch.compute.data.IntVector;
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.core.Releasable;
 import org.elasticsearch.core.Releasables;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 
-public class HashAggregationOperator implements Operator {
+public class HashAggregationOperator implements PartialOutputOperator {
+    /**
+     * How many times we'll split a spilled partition that doesn't fit in memory.
+     * Partitions that are still too big at this depth are mostly a handful of
+     * keys that no hash can split so we reduce them in memory and hope.
+     */
+    static final int MAX_SPILL_LEVEL = 4;
 
     public record GroupSpec(int channel, ElementType elementType) {}
 
-    public record HashAggregationOperatorFactory(List<GroupSpec> groups, List<GroupingAggregator.Factory> aggregators, int maxPageSize)
-        implements
-            OperatorFactory {
+    public record HashAggregationOperatorFactory(
+        List<GroupSpec> groups,
+        List<GroupingAggregator.Factory> aggregators,
+        int maxPageSize,
+        @Nullable SpillConfig spillConfig
+    ) implements OperatorFactory {
+        public HashAggregationOperatorFactory(List<GroupSpec> groups, List<GroupingAggregator.Factory> aggregators, int maxPageSize) {
+            this(groups, aggregators, maxPageSize, null);
+        }
+
         @Override
         public Operator get(DriverContext driverContext) {
+            int[] keyChannels = groups.stream().mapToInt(GroupSpec::channel).toArray();
             return new HashAggregationOperator(
                 aggregators,
                 () -> BlockHash.build(groups, driverContext, maxPageSize, false),
+                keyChannels,
+                spillConfig,
                 driverContext
             );
         }
@@ -53,28 +76,80 @@ public class HashAggregationOperator implements Operator {
     }
 
     private boolean finished;
-    private Page output;
+    private final Deque<Page> output = new ArrayDeque<>();
 
-    private final BlockHash blockHash;
+    private final Supplier<BlockHash> blockHashSupplier;
+    private final List<GroupingAggregator.Factory> aggregatorFactories;
+    private BlockHash blockHash;
 
     private final List<GroupingAggregator> aggregators;
 
     private final DriverContext driverContext;
 
+    /**
+     * How to spill when under memory pressure. {@code null} if this operator can't spill.
+     */
+    @Nullable
+    private final SpillConfig spillConfig;
+    private final int[] keyChannels;
+    /**
+     * Per partition spill files we're currently writing. {@code null} until the
+     * first time we spill and again once they're queued for reduction.
+     */
+    private SpillFile[] spillFiles;
+    /**
+     * How many times the rows we're currently aggregating have been split. The
+     * input is at level {@code 0}, the partitions we spill it into are at level
+     * {@code 1}, and so on.
+     */
+    private int spillLevel;
+    /**
+     * Spilled partitions waiting to be reduced. Partitions we split again are
+     * pushed on top so we finish them before moving on.
+     */
+    private final Deque<SpilledPartition> spilledPartitions = new ArrayDeque<>();
+    private int repartitions;
+    /**
+     * Rough estimate of the memory held by the hash and aggregators, measured as
+     * the growth of the breaker while adding pages. Other drivers allocate from
+     * the same breaker so this is noisy, but it's good enough to avoid spilling
+     * tiny states over and over again while some other query is holding memory.
+     */
+    private long stateBytesEstimate;
+
+    public HashAggregationOperator(
+        List<GroupingAggregator.Factory> aggregators,
+        Supplier<BlockHash> blockHash,
+        DriverContext driverContext
+    ) {
+        this(aggregators, blockHash, new int[0], null, driverContext);
+    }
+
+    /**
+     * Build the operator.
+     * @param keyChannels the channels of the group keys in the input pages
+     * @param spillConfig how to spill when under memory pressure or {@code null} to never spill
+     */
     @SuppressWarnings("this-escape")
     public HashAggregationOperator(
         List<GroupingAggregator.Factory> aggregators,
         Supplier<BlockHash> blockHash,
+        int[] keyChannels,
+        @Nullable SpillConfig spillConfig,
         DriverContext driverContext
     ) {
+        this.blockHashSupplier = blockHash;
+        this.aggregatorFactories = aggregators;
         this.aggregators = new ArrayList<>(aggregators.size());
         this.driverContext = driverContext;
+        this.keyChannels = keyChannels;
         boolean success = false;
         try {
             this.blockHash = blockHash.get();
             for (GroupingAggregator.Factory a : aggregators) {
                 this.aggregators.add(a.apply(driverContext));
             }
+            this.spillConfig = canSpill(this.aggregators, keyChannels) ? spillConfig : null;
             success = true;
         } finally {
             if (success == false) {
@@ -83,6 +158,38 @@ public class HashAggregationOperator implements Operator {
         }
     }
 
+    /**
+     * Can we spill? If the output is partial we can always emit our state early
+     * and let the next aggregation merge it. Otherwise we can spill if the input
+     * is partial and the intermediate state we write to the spill files can be
+     * read back as input. That's the case for the pages the planner sends to final
+     * aggregations: the keys come first followed by the intermediate state of each
+     * aggregator. Aggregations without aggregators have no state to speak of.
+     */
+    private static boolean canSpill(List<GroupingAggregator> aggregators, int[] keyChannels) {
+        if (aggregators.isEmpty() || keyChannels.length == 0) {
+            return false;
+        }
+        AggregatorMode mode = aggregators.get(0).mode();
+        for (GroupingAggregator aggregator : aggregators) {
+            if (aggregator.mode() != mode) {
+                return false;
+            }
+        }
+        if (mode.isOutputPartial()) {
+            return true;
+        }
+        if (mode.isInputPartial() == false) {
+            return false;
+        }
+        for (int i = 0; i < keyChannels.length; i++) {
+            if (keyChannels[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean needsInput() {
         return finished == false;
@@ -93,42 +200,202 @@ public class HashAggregationOperator implements Operator {
         try {
             checkState(needsInput(), "Operator is already finishing");
             requireNonNull(page, "page is null");
-
-            GroupingAggregatorFunction.AddInput[] prepared = new GroupingAggregatorFunction.AddInput[aggregators.size()];
-            for (int i = 0; i < prepared.length; i++) {
-                prepared[i] = aggregators.get(i).prepareProcessPage(blockHash, page);
+            if (spillConfig == null) {
+                aggregate(page);
+            } else {
+                aggregateTrackingMemory(page);
             }
+        } finally {
+            page.releaseBlocks();
+        }
+        if (spillConfig != null && shouldSpill()) {
+            spill();
+        }
+    }
 
-            blockHash.add(wrapPage(page), new GroupingAggregatorFunction.AddInput() {
-                @Override
-                public void add(int positionOffset, IntBlock groupIds) {
-                    IntVector groupIdsVector = groupIds.asVector();
-                    if (groupIdsVector != null) {
-                        add(positionOffset, groupIdsVector);
-                    } else {
-                        for (GroupingAggregatorFunction.AddInput p : prepared) {
-                            p.add(positionOffset, groupIds);
-                        }
-                    }
-                }
+    private void aggregateTrackingMemory(Page page) {
+        long before = driverContext.breaker().getUsed();
+        aggregate(page);
+        stateBytesEstimate += Math.max(0, driverContext.breaker().getUsed() - before);
+    }
+
+    private boolean shouldSpill() {
+        return stateBytesEstimate >= spillConfig.minSpillBytes() && spillConfig.underMemoryPressure(driverContext.breaker());
+    }
+
+    private void aggregate(Page page) {
+        GroupingAggregatorFunction.AddInput[] prepared = new GroupingAggregatorFunction.AddInput[aggregators.size()];
+        for (int i = 0; i < prepared.length; i++) {
+            prepared[i] = aggregators.get(i).prepareProcessPage(blockHash, page);
+        }
 
-                @Override
-                public void add(int positionOffset, IntVector groupIds) {
+        blockHash.add(wrapPage(page), new GroupingAggregatorFunction.AddInput() {
+            @Override
+            public void add(int positionOffset, IntBlock groupIds) {
+                IntVector groupIdsVector = groupIds.asVector();
+                if (groupIdsVector != null) {
+                    add(positionOffset, groupIdsVector);
+                } else {
                     for (GroupingAggregatorFunction.AddInput p : prepared) {
                         p.add(positionOffset, groupIds);
                     }
                 }
-            });
+            }
+
+            @Override
+            public void add(int positionOffset, IntVector groupIds) {
+                for (GroupingAggregatorFunction.AddInput p : prepared) {
+                    p.add(positionOffset, groupIds);
+                }
+            }
+        });
+    }
+
+    /**
+     * Move the state out of memory. If our output is partial we just emit it
+     * early. Otherwise we write the intermediate state to per partition spill
+     * files and reduce each partition on its own in {@link #getOutput}.
+     */
+    private void spill() {
+        if (hasGroups() == false) {
+            return;
+        }
+        if (aggregators.get(0).mode().isOutputPartial()) {
+            output.add(evaluate(false));
+            resetState();
+            return;
+        }
+        if (spillFiles == null) {
+            spillFiles = new SpillFile[spillConfig.partitions()];
+        }
+        // salt the hash with the level so rows that shared a partition last time spread out this time
+        HashPartitioner partitioner = new HashPartitioner(spillFiles.length, keyChannels, spillLevel * 0x9E3779B9);
+        Page[] partitioned = partitioner.split(evaluate(true));
+        try {
+            for (int p = 0; p < partitioned.length; p++) {
+                if (partitioned[p] == null) {
+                    continue;
+                }
+                if (spillFiles[p] == null) {
+                    spillFiles[p] = new SpillFile(spillConfig.directory(), "esql-hash-agg-");
+                }
+                spillFiles[p].writePage(partitioned[p]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to spill aggregation state", e);
         } finally {
-            page.releaseBlocks();
+            for (Page p : partitioned) {
+                if (p != null) {
+                    p.releaseBlocks();
+                }
+            }
+        }
+        resetState();
+    }
+
+    private boolean hasGroups() {
+        try (IntVector selected = blockHash.nonEmpty()) {
+            return selected.getPositionCount() > 0;
+        }
+    }
+
+    /**
+     * Replace the hash and aggregators with empty ones.
+     */
+    private void resetState() {
+        Releasables.close(blockHash, () -> Releasables.close(aggregators));
+        blockHash = null;
+        aggregators.clear();
+        blockHash = blockHashSupplier.get();
+        for (GroupingAggregator.Factory a : aggregatorFactories) {
+            aggregators.add(a.apply(driverContext));
+        }
+        stateBytesEstimate = 0;
+    }
+
+    /**
+     * Move the spill files we've been writing to the queue of partitions to reduce.
+     */
+    private void queueSpillFiles() {
+        for (int p = 0; p < spillFiles.length; p++) {
+            if (spillFiles[p] != null) {
+                spilledPartitions.push(new SpilledPartition(spillFiles[p], spillLevel + 1));
+                spillFiles[p] = null;
+            }
         }
+        spillFiles = null;
     }
 
     @Override
     public Page getOutput() {
-        Page p = output;
-        output = null;
-        return p;
+        if (output.isEmpty() && finished && spilledPartitions.isEmpty() == false) {
+            reduceSpilledPartition();
+        }
+        return output.poll();
+    }
+
+    /**
+     * Read the next spilled partition back into empty state and emit its results.
+     * Every key lands in exactly one partition so each partition's groups are final.
+     * If the partition doesn't fit in memory either we split it into smaller
+     * partitions with a differently salted hash and reduce those instead.
+     */
+    private void reduceSpilledPartition() {
+        SpilledPartition partition = spilledPartitions.pop();
+        try (partition) {
+            resetState();
+            spillLevel = partition.level;
+            boolean canSplit = spillConfig.partitions() > 1 && spillLevel < MAX_SPILL_LEVEL;
+            Page page;
+            while ((page = partition.file.readPage(driverContext.blockFactory())) != null) {
+                try {
+                    aggregateTrackingMemory(page);
+                } finally {
+                    page.releaseBlocks();
+                }
+                if (canSplit && shouldSpill()) {
+                    spill();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read spilled aggregation state", e);
+        }
+        if (spillFiles != null) {
+            // spill whatever is left so every group is in exactly one of the new partitions
+            spill();
+            queueSpillFiles();
+            repartitions++;
+        } else if (hasGroups()) {
+            output.add(evaluate(false));
+        }
+    }
+
+    /**
+     * If our output is intermediate state then emit it now, just like {@link #spill}
+     * does, so the next aggregation can merge it with whatever we emit later.
+     */
+    @Override
+    public void flush() {
+        if (finished || aggregators.isEmpty() || aggregators.get(0).mode().isOutputPartial() == false) {
+            return;
+        }
+        if (hasGroups()) {
+            output.add(evaluate(false));
+            resetState();
+        }
+    }
+
+    @Override
+    public Page snapshot() {
+        if (finished || spillFiles != null || aggregators.isEmpty()) {
+            return null;
+        }
+        for (GroupingAggregator aggregator : aggregators) {
+            if (aggregator.mode().isOutputPartial()) {
+                return null;
+            }
+        }
+        return evaluate(false);
     }
 
     @Override
@@ -137,23 +404,44 @@ public class HashAggregationOperator implements Operator {
             return;
         }
         finished = true;
+        if (spillFiles == null) {
+            output.add(evaluate(false));
+        } else {
+            // spill whatever is left so every group is in exactly one partition
+            spill();
+            queueSpillFiles();
+        }
+    }
+
+    /**
+     * Build a page from the current state.
+     * @param intermediate should the aggregators emit their intermediate state rather than their output
+     */
+    private Page evaluate(boolean intermediate) {
         Block[] blocks = null;
         IntVector selected = null;
         boolean success = false;
         try {
             selected = blockHash.nonEmpty();
             Block[] keys = blockHash.getKeys();
-            int[] aggBlockCounts = aggregators.stream().mapToInt(GroupingAggregator::evaluateBlockCount).toArray();
+            int[] aggBlockCounts = aggregators.stream()
+                .mapToInt(intermediate ? GroupingAggregator::intermediateBlockCount : GroupingAggregator::evaluateBlockCount)
+                .toArray();
             blocks = new Block[keys.length + Arrays.stream(aggBlockCounts).sum()];
             System.arraycopy(keys, 0, blocks, 0, keys.length);
             int offset = keys.length;
             for (int i = 0; i < aggregators.size(); i++) {
                 var aggregator = aggregators.get(i);
-                aggregator.evaluate(blocks, offset, selected, driverContext);
+                if (intermediate) {
+                    aggregator.evaluateIntermediate(blocks, offset, selected);
+                } else {
+                    aggregator.evaluate(blocks, offset, selected, driverContext);
+                }
                 offset += aggBlockCounts[i];
             }
-            output = new Page(blocks);
+            Page page = new Page(blocks);
             success = true;
+            return page;
         } finally {
             // selected should always be closed
             if (selected != null) {
@@ -167,15 +455,35 @@ public class HashAggregationOperator implements Operator {
 
     @Override
     public boolean isFinished() {
-        return finished && output == null;
+        return finished && output.isEmpty() && spilledPartitions.isEmpty();
     }
 
     @Override
     public void close() {
-        if (output != null) {
-            output.releaseBlocks();
+        for (Page p : output) {
+            p.releaseBlocks();
+        }
+        output.clear();
+        Releasables.close(
+            blockHash,
+            () -> Releasables.close(aggregators),
+            spillFiles == null ? null : Releasables.wrap(spillFiles),
+            Releasables.wrap(spilledPartitions)
+        );
+    }
+
+    /**
+     * The number of times a spilled partition didn't fit in memory and was split again.
+     */
+    int repartitions() {
+        return repartitions;
+    }
+
+    private record SpilledPartition(SpillFile file, int level) implements Releasable {
+        @Override
+        public void close() {
+            file.close();
         }
-        Releasables.close(blockHash, () -> Releasables.close(aggregators));
     }
 
     protected static void checkState(boolean condition, String msg) {
@@ -194,6 +502,9 @@ public class HashAggregationOperator implements Operator {
         sb.append(this.getClass().getSimpleName()).append("[");
         sb.append("blockHash=").append(blockHash).append(", ");
         sb.append("aggregators=").append(aggregators);
+        if (spillFiles != null || spilledPartitions.isEmpty() == false) {
+            sb.append(", spilled");
+        }
         sb.append("]");
         return sb.toString();
     }
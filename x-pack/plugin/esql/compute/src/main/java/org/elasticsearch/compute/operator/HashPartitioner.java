@@ -0,0 +1,227 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.breaker.CircuitBreakingException;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BooleanBlock;
+import org.elasticsearch.compute.data.BytesRefBlock;
+import org.elasticsearch.compute.data.DoubleBlock;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Releasables;
+
+import java.util.Arrays;
+
+/**
+ * Splits {@link Page}s into {@code partitions} pages by the hash of their key
+ * columns so all rows with the same key land in the same partition.
+ */
+public final class HashPartitioner {
+    private final int partitions;
+    private final int[] keyChannels;
+    private final int seed;
+
+    public HashPartitioner(int partitions, int[] keyChannels) {
+        this(partitions, keyChannels, 0);
+    }
+
+    /**
+     * Build a partitioner that mixes {@code seed} into the hash. Rows that one
+     * partitioner sends to the same partition are spread across all partitions
+     * by a partitioner with a different seed.
+     */
+    public HashPartitioner(int partitions, int[] keyChannels, int seed) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be at least one; got=" + partitions);
+        }
+        if (partitions > 1 && keyChannels.length == 0) {
+            throw new IllegalArgumentException("key channels are required to hash partition");
+        }
+        this.partitions = partitions;
+        this.keyChannels = keyChannels;
+        this.seed = seed;
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+
+    /**
+     * Split a page into one page per partition. Entries for partitions that
+     * receive no rows are {@code null}. The incoming page is released unless
+     * it's returned as is because all of its rows belong to the same partition.
+     * The scratch arrays used to route the rows are charged to the breaker of
+     * the page's {@link BlockFactory} while splitting.
+     */
+    public Page[] split(Page page) {
+        if (partitions == 1) {
+            return new Page[] { page };
+        }
+        int positionCount = page.getPositionCount();
+        CircuitBreaker breaker = page.getBlock(keyChannels[0]).blockFactory().breaker();
+        long scratchBytes = scratchBytes(positionCount, partitions);
+        try {
+            breaker.addEstimateBytesAndMaybeBreak(scratchBytes, "hash partition");
+        } catch (CircuitBreakingException e) {
+            page.releaseBlocks();
+            throw e;
+        }
+        try {
+            return split(page, positionCount);
+        } finally {
+            breaker.addWithoutBreaking(-scratchBytes);
+        }
+    }
+
+    /**
+     * The bytes used by the per position hashes and the per partition positions.
+     */
+    static long scratchBytes(int positionCount, int partitions) {
+        long rows = 2L * Integer.BYTES * positionCount;
+        long perPartition = (long) (Integer.BYTES + RamUsageEstimator.NUM_BYTES_OBJECT_REF) * partitions;
+        // hashes, counts, the positions and one positions array per partition
+        long headers = (partitions + 3L) * RamUsageEstimator.NUM_BYTES_ARRAY_HEADER;
+        return rows + perPartition + headers;
+    }
+
+    private Page[] split(Page page, int positionCount) {
+        Page[] result = new Page[partitions];
+        int[] hashes = new int[positionCount];
+        for (int channel : keyChannels) {
+            hash(page.getBlock(channel), hashes);
+        }
+        int[] counts = new int[partitions];
+        for (int p = 0; p < positionCount; p++) {
+            hashes[p] = partition(hashes[p] ^ seed, partitions);
+            counts[hashes[p]]++;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == positionCount) {
+                result[i] = page;
+                return result;
+            }
+        }
+        int[][] positions = new int[partitions][];
+        for (int i = 0; i < counts.length; i++) {
+            positions[i] = new int[counts[i]];
+        }
+        Arrays.fill(counts, 0);
+        for (int p = 0; p < positionCount; p++) {
+            int partition = hashes[p];
+            positions[partition][counts[partition]++] = p;
+        }
+        boolean success = false;
+        try {
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i].length == 0) {
+                    continue;
+                }
+                Block[] blocks = new Block[page.getBlockCount()];
+                try {
+                    for (int b = 0; b < blocks.length; b++) {
+                        blocks[b] = page.getBlock(b).filter(positions[i]);
+                    }
+                } catch (Exception e) {
+                    Releasables.closeExpectNoException(blocks);
+                    throw e;
+                }
+                result[i] = new Page(positions[i].length, blocks);
+            }
+            success = true;
+        } finally {
+            page.releaseBlocks();
+            if (success == false) {
+                for (Page p : result) {
+                    if (p != null) {
+                        p.releaseBlocks();
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    static int partition(int hash, int partitions) {
+        // murmur3's finalizer so keys that only differ in the low bits still spread out
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, partitions);
+    }
+
+    /**
+     * Mix the hash of every value at each position into {@code hashes}.
+     */
+    static void hash(Block block, int[] hashes) {
+        switch (block.elementType()) {
+            case NULL -> {
+                // all nulls hash the same
+            }
+            case BOOLEAN -> {
+                BooleanBlock b = (BooleanBlock) block;
+                for (int p = 0; p < hashes.length; p++) {
+                    int start = b.getFirstValueIndex(p);
+                    int end = start + b.getValueCount(p);
+                    for (int i = start; i < end; i++) {
+                        hashes[p] = 31 * hashes[p] + Boolean.hashCode(b.getBoolean(i));
+                    }
+                }
+            }
+            case INT -> {
+                IntBlock b = (IntBlock) block;
+                for (int p = 0; p < hashes.length; p++) {
+                    int start = b.getFirstValueIndex(p);
+                    int end = start + b.getValueCount(p);
+                    for (int i = start; i < end; i++) {
+                        hashes[p] = 31 * hashes[p] + Integer.hashCode(b.getInt(i));
+                    }
+                }
+            }
+            case LONG -> {
+                LongBlock b = (LongBlock) block;
+                for (int p = 0; p < hashes.length; p++) {
+                    int start = b.getFirstValueIndex(p);
+                    int end = start + b.getValueCount(p);
+                    for (int i = start; i < end; i++) {
+                        hashes[p] = 31 * hashes[p] + Long.hashCode(b.getLong(i));
+                    }
+                }
+            }
+            case DOUBLE -> {
+                DoubleBlock b = (DoubleBlock) block;
+                for (int p = 0; p < hashes.length; p++) {
+                    int start = b.getFirstValueIndex(p);
+                    int end = start + b.getValueCount(p);
+                    for (int i = start; i < end; i++) {
+                        hashes[p] = 31 * hashes[p] + Double.hashCode(b.getDouble(i));
+                    }
+                }
+            }
+            case BYTES_REF -> {
+                BytesRefBlock b = (BytesRefBlock) block;
+                BytesRef scratch = new BytesRef();
+                for (int p = 0; p < hashes.length; p++) {
+                    int start = b.getFirstValueIndex(p);
+                    int end = start + b.getValueCount(p);
+                    for (int i = start; i < end; i++) {
+                        hashes[p] = 31 * hashes[p] + b.getBytesRef(i, scratch).hashCode();
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("can't partition on [" + block.elementType() + "]");
+        }
+    }
+}
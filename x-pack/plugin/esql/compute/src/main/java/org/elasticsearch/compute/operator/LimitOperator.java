@@ -88,26 +88,9 @@ public class LimitOperator implements Operator {
             result = lastInput;
             limitRemaining -= lastInput.getPositionCount();
         } else {
-            int[] filter = new int[limitRemaining];
-            for (int i = 0; i < limitRemaining; i++) {
-                filter[i] = i;
-            }
-            Block[] blocks = new Block[lastInput.getBlockCount()];
-            boolean success = false;
-            try {
-                for (int b = 0; b < blocks.length; b++) {
-                    blocks[b] = lastInput.getBlock(b).filter(filter);
-                }
-                success = true;
-            } finally {
-                if (success == false) {
-                    Releasables.closeExpectNoException(lastInput::releaseBlocks, Releasables.wrap(blocks));
-                } else {
-                    lastInput.releaseBlocks();
-                }
-                lastInput = null;
-            }
-            result = new Page(blocks);
+            Page input = lastInput;
+            lastInput = null;
+            result = truncate(input, limitRemaining);
             limitRemaining = 0;
         }
         if (limitRemaining == 0) {
@@ -119,6 +102,42 @@ public class LimitOperator implements Operator {
         return result;
     }
 
+    /**
+     * Cut a page of partial results from the operators before this one down to the
+     * positions this operator would still emit. Doesn't use up any of the limit.
+     */
+    Page limitPartialOutput(Page page) {
+        if (page.getPositionCount() <= limitRemaining) {
+            return page;
+        }
+        return truncate(page, limitRemaining);
+    }
+
+    /**
+     * Keep the first {@code positions} positions of a page, releasing the page.
+     */
+    private static Page truncate(Page page, int positions) {
+        int[] filter = new int[positions];
+        for (int i = 0; i < positions; i++) {
+            filter[i] = i;
+        }
+        Block[] blocks = new Block[page.getBlockCount()];
+        boolean success = false;
+        try {
+            for (int b = 0; b < blocks.length; b++) {
+                blocks[b] = page.getBlock(b).filter(filter);
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                Releasables.closeExpectNoException(page::releaseBlocks, Releasables.wrap(blocks));
+            } else {
+                page.releaseBlocks();
+            }
+        }
+        return new Page(blocks);
+    }
+
     @Override
     public Status status() {
         return new Status(limit, limitRemaining, pagesProcessed);
@@ -8,6 +8,7 @@
 package org.elasticsearch.compute.operator;
 
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Nullable;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -21,15 +22,24 @@ public class OutputOperator extends SinkOperator {
 
     private final List<String> columns;
     private final Consumer<Page> pageConsumer;
+    @Nullable
+    private final Consumer<Page> partialPageConsumer;
     private final Function<Page, Page> mapper;
 
-    public record OutputOperatorFactory(List<String> columns, Function<Page, Page> mapper, Consumer<Page> pageConsumer)
-        implements
-            SinkOperatorFactory {
+    public record OutputOperatorFactory(
+        List<String> columns,
+        Function<Page, Page> mapper,
+        Consumer<Page> pageConsumer,
+        @Nullable Consumer<Page> partialPageConsumer
+    ) implements SinkOperatorFactory {
+
+        public OutputOperatorFactory(List<String> columns, Function<Page, Page> mapper, Consumer<Page> pageConsumer) {
+            this(columns, mapper, pageConsumer, null);
+        }
 
         @Override
         public SinkOperator get(DriverContext driverContext) {
-            return new OutputOperator(columns, mapper, pageConsumer);
+            return new OutputOperator(columns, mapper, pageConsumer, partialPageConsumer);
         }
 
         @Override
@@ -39,9 +49,23 @@ public class OutputOperator extends SinkOperator {
     }
 
     public OutputOperator(List<String> columns, Function<Page, Page> mapper, Consumer<Page> pageConsumer) {
+        this(columns, mapper, pageConsumer, null);
+    }
+
+    /**
+     * Build the operator.
+     * @param partialPageConsumer receives the partial results of the driver or {@code null} if nobody wants them
+     */
+    public OutputOperator(
+        List<String> columns,
+        Function<Page, Page> mapper,
+        Consumer<Page> pageConsumer,
+        @Nullable Consumer<Page> partialPageConsumer
+    ) {
         this.columns = columns;
         this.mapper = mapper;
         this.pageConsumer = pageConsumer;
+        this.partialPageConsumer = partialPageConsumer;
     }
 
     boolean finished = false;
@@ -66,6 +90,17 @@ public class OutputOperator extends SinkOperator {
         pageConsumer.accept(mapper.apply(page));
     }
 
+    @Override
+    public boolean wantsPartialOutput() {
+        return partialPageConsumer != null;
+    }
+
+    @Override
+    public void addPartialOutput(Page page) {
+        page.allowPassingToDifferentDriver();
+        partialPageConsumer.accept(mapper.apply(page));
+    }
+
     @Override
     public void close() {
 
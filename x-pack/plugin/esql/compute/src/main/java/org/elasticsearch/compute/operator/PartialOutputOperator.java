@@ -0,0 +1,36 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Nullable;
+
+/**
+ * An {@link Operator} that holds on to everything it receives until it is finished,
+ * like an aggregation or a top-n, but that can report what it has seen so far.
+ * Drivers with a partial results interval call these methods periodically so that
+ * long running queries can show early answers.
+ */
+public interface PartialOutputOperator extends Operator {
+    /**
+     * Make the state accumulated so far available from {@link #getOutput()} and start
+     * over. Only operators whose output is merged by another operator, like the data
+     * node half of an aggregation, may do this. Everyone else must ignore the call.
+     */
+    void flush();
+
+    /**
+     * Build the output this operator would produce if it were finished right now
+     * without changing its state. The caller owns the returned page.
+     * @return the output so far or {@code null} if this operator can't produce it,
+     *         for example because its output is intermediate state that some other
+     *         operator has to merge or because it spilled its state to disk
+     */
+    @Nullable
+    Page snapshot();
+}
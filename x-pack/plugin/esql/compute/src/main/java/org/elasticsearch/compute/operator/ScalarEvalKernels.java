@@ -0,0 +1,430 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+/**
+ * {@link EvalKernels} implemented with plain loops over arrays. Used when the
+ * Panama Vector API isn't available and for the tails of arrays that don't fill
+ * a whole SIMD register.
+ */
+class ScalarEvalKernels implements EvalKernels {
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, int[] lhs, int[] rhs, int[] result, int length) {
+        return applyExact(op, lhs, rhs, result, 0, length);
+    }
+
+    static boolean applyExact(ArithmeticOp op, int[] lhs, int[] rhs, int[] result, int from, int to) {
+        try {
+            switch (op) {
+                case ADD -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.addExact(lhs[i], rhs[i]);
+                    }
+                }
+                case SUB -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.subtractExact(lhs[i], rhs[i]);
+                    }
+                }
+                case MUL -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.multiplyExact(lhs[i], rhs[i]);
+                    }
+                }
+            }
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, int[] lhs, int rhs, int[] result, int length) {
+        return applyExact(op, lhs, rhs, result, 0, length);
+    }
+
+    static boolean applyExact(ArithmeticOp op, int[] lhs, int rhs, int[] result, int from, int to) {
+        try {
+            switch (op) {
+                case ADD -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.addExact(lhs[i], rhs);
+                    }
+                }
+                case SUB -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.subtractExact(lhs[i], rhs);
+                    }
+                }
+                case MUL -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.multiplyExact(lhs[i], rhs);
+                    }
+                }
+            }
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, long[] lhs, long[] rhs, long[] result, int length) {
+        return applyExact(op, lhs, rhs, result, 0, length);
+    }
+
+    static boolean applyExact(ArithmeticOp op, long[] lhs, long[] rhs, long[] result, int from, int to) {
+        try {
+            switch (op) {
+                case ADD -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.addExact(lhs[i], rhs[i]);
+                    }
+                }
+                case SUB -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.subtractExact(lhs[i], rhs[i]);
+                    }
+                }
+                case MUL -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.multiplyExact(lhs[i], rhs[i]);
+                    }
+                }
+            }
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, long[] lhs, long rhs, long[] result, int length) {
+        return applyExact(op, lhs, rhs, result, 0, length);
+    }
+
+    static boolean applyExact(ArithmeticOp op, long[] lhs, long rhs, long[] result, int from, int to) {
+        try {
+            switch (op) {
+                case ADD -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.addExact(lhs[i], rhs);
+                    }
+                }
+                case SUB -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.subtractExact(lhs[i], rhs);
+                    }
+                }
+                case MUL -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = Math.multiplyExact(lhs[i], rhs);
+                    }
+                }
+            }
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void apply(ArithmeticOp op, double[] lhs, double[] rhs, double[] result, int length) {
+        apply(op, lhs, rhs, result, 0, length);
+    }
+
+    static void apply(ArithmeticOp op, double[] lhs, double[] rhs, double[] result, int from, int to) {
+        switch (op) {
+            case ADD -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] + rhs[i];
+                }
+            }
+            case SUB -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] - rhs[i];
+                }
+            }
+            case MUL -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] * rhs[i];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void apply(ArithmeticOp op, double[] lhs, double rhs, double[] result, int length) {
+        apply(op, lhs, rhs, result, 0, length);
+    }
+
+    static void apply(ArithmeticOp op, double[] lhs, double rhs, double[] result, int from, int to) {
+        switch (op) {
+            case ADD -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] + rhs;
+                }
+            }
+            case SUB -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] - rhs;
+                }
+            }
+            case MUL -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] * rhs;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void compare(ComparisonOp op, int[] lhs, int[] rhs, boolean[] result, int length) {
+        compare(op, lhs, rhs, result, 0, length);
+    }
+
+    static void compare(ComparisonOp op, int[] lhs, int[] rhs, boolean[] result, int from, int to) {
+        switch (op) {
+            case EQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] == rhs[i];
+                }
+            }
+            case NEQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] != rhs[i];
+                }
+            }
+            case GT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] > rhs[i];
+                }
+            }
+            case GTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] >= rhs[i];
+                }
+            }
+            case LT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] < rhs[i];
+                }
+            }
+            case LTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] <= rhs[i];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void compare(ComparisonOp op, int[] lhs, int rhs, boolean[] result, int length) {
+        compare(op, lhs, rhs, result, 0, length);
+    }
+
+    static void compare(ComparisonOp op, int[] lhs, int rhs, boolean[] result, int from, int to) {
+        switch (op) {
+            case EQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] == rhs;
+                }
+            }
+            case NEQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] != rhs;
+                }
+            }
+            case GT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] > rhs;
+                }
+            }
+            case GTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] >= rhs;
+                }
+            }
+            case LT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] < rhs;
+                }
+            }
+            case LTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] <= rhs;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void compare(ComparisonOp op, long[] lhs, long[] rhs, boolean[] result, int length) {
+        compare(op, lhs, rhs, result, 0, length);
+    }
+
+    static void compare(ComparisonOp op, long[] lhs, long[] rhs, boolean[] result, int from, int to) {
+        switch (op) {
+            case EQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] == rhs[i];
+                }
+            }
+            case NEQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] != rhs[i];
+                }
+            }
+            case GT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] > rhs[i];
+                }
+            }
+            case GTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] >= rhs[i];
+                }
+            }
+            case LT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] < rhs[i];
+                }
+            }
+            case LTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] <= rhs[i];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void compare(ComparisonOp op, long[] lhs, long rhs, boolean[] result, int length) {
+        compare(op, lhs, rhs, result, 0, length);
+    }
+
+    static void compare(ComparisonOp op, long[] lhs, long rhs, boolean[] result, int from, int to) {
+        switch (op) {
+            case EQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] == rhs;
+                }
+            }
+            case NEQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] != rhs;
+                }
+            }
+            case GT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] > rhs;
+                }
+            }
+            case GTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] >= rhs;
+                }
+            }
+            case LT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] < rhs;
+                }
+            }
+            case LTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] <= rhs;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void compare(ComparisonOp op, double[] lhs, double[] rhs, boolean[] result, int length) {
+        compare(op, lhs, rhs, result, 0, length);
+    }
+
+    static void compare(ComparisonOp op, double[] lhs, double[] rhs, boolean[] result, int from, int to) {
+        switch (op) {
+            case EQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] == rhs[i];
+                }
+            }
+            case NEQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] != rhs[i];
+                }
+            }
+            case GT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] > rhs[i];
+                }
+            }
+            case GTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] >= rhs[i];
+                }
+            }
+            case LT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] < rhs[i];
+                }
+            }
+            case LTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] <= rhs[i];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void compare(ComparisonOp op, double[] lhs, double rhs, boolean[] result, int length) {
+        compare(op, lhs, rhs, result, 0, length);
+    }
+
+    static void compare(ComparisonOp op, double[] lhs, double rhs, boolean[] result, int from, int to) {
+        switch (op) {
+            case EQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] == rhs;
+                }
+            }
+            case NEQ -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] != rhs;
+                }
+            }
+            case GT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] > rhs;
+                }
+            }
+            case GTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] >= rhs;
+                }
+            }
+            case LT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] < rhs;
+                }
+            }
+            case LTE -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = lhs[i] <= rhs;
+                }
+            }
+        }
+    }
+}
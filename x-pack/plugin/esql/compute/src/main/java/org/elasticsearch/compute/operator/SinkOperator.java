@@ -32,6 +32,22 @@ public abstract class SinkOperator implements Operator {
         doAddInput(page);
     }
 
+    /**
+     * Does this sink want the partial results that {@link PartialOutputOperator}s report
+     * while the driver runs?
+     */
+    public boolean wantsPartialOutput() {
+        return false;
+    }
+
+    /**
+     * Accept a page of partial results. Each page replaces the previous one rather than
+     * adding to it. Only called if {@link #wantsPartialOutput()} and the sink owns the page.
+     */
+    public void addPartialOutput(Page page) {
+        page.releaseBlocks();
+    }
+
     /**
      * A factory for creating sink operators.
      */
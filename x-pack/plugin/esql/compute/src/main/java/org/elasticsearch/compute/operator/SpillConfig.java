@@ -0,0 +1,49 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.unit.ByteSizeValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configures operators that can move their state out of the heap when memory is
+ * tight rather than tripping the circuit breaker.
+ *
+ * @param directory node local directory where spill files are written
+ * @param memoryThreshold fraction of the circuit breaker's limit above which operators spill
+ * @param minSpillBytes operators won't spill if their state is smaller than this. Spilling
+ *                      tiny chunks of state only makes lots of tiny files.
+ * @param partitions the number of hash partitions grouping operators spill into
+ */
+public record SpillConfig(Path directory, double memoryThreshold, long minSpillBytes, int partitions) {
+    public static final long DEFAULT_MIN_SPILL_BYTES = ByteSizeValue.ofMb(1).getBytes();
+    public static final int DEFAULT_PARTITIONS = 16;
+
+    public SpillConfig {
+        if (memoryThreshold <= 0 || memoryThreshold > 1) {
+            throw new IllegalArgumentException("memory threshold must be in (0, 1]; got=" + memoryThreshold);
+        }
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be at least one; got=" + partitions);
+        }
+    }
+
+    public SpillConfig(Path directory, double memoryThreshold) {
+        this(directory, memoryThreshold, DEFAULT_MIN_SPILL_BYTES, DEFAULT_PARTITIONS);
+    }
+
+    /**
+     * Is the breaker close enough to its limit that operators should spill?
+     */
+    public boolean underMemoryPressure(CircuitBreaker breaker) {
+        long limit = breaker.getLimit();
+        return limit > 0 && breaker.getUsed() > limit * memoryThreshold;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.common.io.stream.InputStreamStreamInput;
+import org.elasticsearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
+import org.elasticsearch.common.io.stream.OutputStreamStreamOutput;
+import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BlockStreamInput;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.IOUtils;
+import org.elasticsearch.core.Releasable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A temporary file that operators write state to when they {@link SpillConfig spill}.
+ * It is written once, front to back, and then read once, front to back. It's deleted
+ * when closed.
+ */
+public final class SpillFile implements Releasable {
+    private static final NamedWriteableRegistry REGISTRY = new NamedWriteableRegistry(Block.getNamedWriteables());
+
+    private final Path path;
+    private StreamOutput output;
+    private StreamInput input;
+    private int pagesWritten;
+    private int pagesRead;
+
+    public SpillFile(Path directory, String prefix) {
+        try {
+            this.path = Files.createTempFile(directory, prefix, ".spill");
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to create spill file in [" + directory + "]", e);
+        }
+    }
+
+    /**
+     * The stream to write to. Must not be called after {@link #input}.
+     */
+    public StreamOutput output() throws IOException {
+        if (input != null) {
+            throw new IllegalStateException("spill file is already being read");
+        }
+        if (output == null) {
+            output = new OutputStreamStreamOutput(new BufferedOutputStream(Files.newOutputStream(path)));
+        }
+        return output;
+    }
+
+    /**
+     * The stream to read from. Finishes writing the first time it's called.
+     */
+    public StreamInput input() throws IOException {
+        if (input == null) {
+            if (output != null) {
+                output.close();
+                output = null;
+            }
+            StreamInput in = new InputStreamStreamInput(new BufferedInputStream(Files.newInputStream(path)));
+            input = new NamedWriteableAwareStreamInput(in, REGISTRY);
+        }
+        return input;
+    }
+
+    /**
+     * Write a page. This doesn't release the page.
+     */
+    public void writePage(Page page) throws IOException {
+        page.writeTo(output());
+        pagesWritten++;
+    }
+
+    /**
+     * Read the next page written by {@link #writePage} or {@code null} if there aren't any more.
+     */
+    public Page readPage(BlockFactory blockFactory) throws IOException {
+        if (pagesRead == pagesWritten) {
+            return null;
+        }
+        pagesRead++;
+        return new Page(new BlockStreamInput(input(), blockFactory));
+    }
+
+    /**
+     * The number of pages written by {@link #writePage}.
+     */
+    public int pagesWritten() {
+        return pagesWritten;
+    }
+
+    @Override
+    public void close() {
+        try {
+            IOUtils.close(output, input, () -> Files.deleteIfExists(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to delete spill file [" + path + "]", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpillFile[" + path + "]";
+    }
+}
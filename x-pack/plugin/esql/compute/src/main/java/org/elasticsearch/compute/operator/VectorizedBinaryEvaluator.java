@@ -0,0 +1,368 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.DoubleBlock;
+import org.elasticsearch.compute.data.DoubleVector;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.LongVector;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.data.VectorArrays;
+import org.elasticsearch.compute.operator.EvalKernels.ArithmeticOp;
+import org.elasticsearch.compute.operator.EvalKernels.ComparisonOp;
+import org.elasticsearch.core.Releasables;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Evaluates a binary arithmetic operation or comparison over {@code int}, {@code long}
+ * or {@code double} inputs in bulk with {@link EvalKernels} when both sides are dense,
+ * null free, single valued, array backed or constant vectors. Everything else, including
+ * integer overflow, is delegated to the per-position evaluator which handles nulls,
+ * multivalued fields and warnings.
+ */
+public final class VectorizedBinaryEvaluator implements EvalOperator.ExpressionEvaluator {
+    /**
+     * Build a factory for an arithmetic operation, returning the {@code scalar} evaluator
+     * unchanged if the type isn't supported. The evaluator also falls back to the
+     * {@code scalar} one for drivers with {@link DriverContext#vectorizedEval()} disabled.
+     * @param scalar builds the per-position evaluator from evaluators for the left and right hand side
+     */
+    public static EvalOperator.ExpressionEvaluator.Factory arithmetic(
+        ArithmeticOp op,
+        ElementType type,
+        EvalOperator.ExpressionEvaluator.Factory lhs,
+        EvalOperator.ExpressionEvaluator.Factory rhs,
+        BinaryOperator<EvalOperator.ExpressionEvaluator.Factory> scalar
+    ) {
+        if (supported(type) == false) {
+            return scalar.apply(lhs, rhs);
+        }
+        return new Factory(op, null, type, lhs, rhs, scalar);
+    }
+
+    /**
+     * Build a factory for a comparison, returning the {@code scalar} evaluator
+     * unchanged if the type isn't supported. The evaluator also falls back to the
+     * {@code scalar} one for drivers with {@link DriverContext#vectorizedEval()} disabled.
+     * @param scalar builds the per-position evaluator from evaluators for the left and right hand side
+     */
+    public static EvalOperator.ExpressionEvaluator.Factory comparison(
+        ComparisonOp op,
+        ElementType type,
+        EvalOperator.ExpressionEvaluator.Factory lhs,
+        EvalOperator.ExpressionEvaluator.Factory rhs,
+        BinaryOperator<EvalOperator.ExpressionEvaluator.Factory> scalar
+    ) {
+        if (supported(type) == false) {
+            return scalar.apply(lhs, rhs);
+        }
+        return new Factory(null, op, type, lhs, rhs, scalar);
+    }
+
+    private static boolean supported(ElementType type) {
+        return type == ElementType.INT || type == ElementType.LONG || type == ElementType.DOUBLE;
+    }
+
+    private record Factory(
+        ArithmeticOp arithmetic,
+        ComparisonOp comparison,
+        ElementType type,
+        EvalOperator.ExpressionEvaluator.Factory lhs,
+        EvalOperator.ExpressionEvaluator.Factory rhs,
+        BinaryOperator<EvalOperator.ExpressionEvaluator.Factory> scalar
+    ) implements EvalOperator.ExpressionEvaluator.Factory {
+        @Override
+        public EvalOperator.ExpressionEvaluator get(DriverContext context) {
+            if (context.vectorizedEval() == false) {
+                return scalar.apply(lhs, rhs).get(context);
+            }
+            EvalOperator.ExpressionEvaluator lhsEval = null;
+            EvalOperator.ExpressionEvaluator rhsEval = null;
+            EvalOperator.ExpressionEvaluator scalarEval = null;
+            boolean success = false;
+            try {
+                lhsEval = lhs.get(context);
+                rhsEval = rhs.get(context);
+                scalarEval = scalar.apply(LOAD_LHS, LOAD_RHS).get(context);
+                VectorizedBinaryEvaluator result = new VectorizedBinaryEvaluator(
+                    context.blockFactory(),
+                    EvalKernels.instance(),
+                    arithmetic,
+                    comparison,
+                    type,
+                    lhsEval,
+                    rhsEval,
+                    scalarEval,
+                    toString()
+                );
+                success = true;
+                return result;
+            } finally {
+                if (success == false) {
+                    Releasables.closeExpectNoException(lhsEval, rhsEval, scalarEval);
+                }
+            }
+        }
+
+        /**
+         * Describes this the same way as the per-position evaluator so vectorization
+         * doesn't show up in plans or profiles.
+         */
+        @Override
+        public String toString() {
+            return scalar.apply(lhs, rhs).toString();
+        }
+    }
+
+    /**
+     * Loads a block from a fixed channel. The scalar evaluator is built on top of
+     * two of these so it can be fed the already evaluated left and right hand side.
+     */
+    private record LoadFromPage(int channel) implements EvalOperator.ExpressionEvaluator {
+        @Override
+        public Block eval(Page page) {
+            Block block = page.getBlock(channel);
+            block.incRef();
+            return block;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static final EvalOperator.ExpressionEvaluator.Factory LOAD_LHS = context -> new LoadFromPage(0);
+    private static final EvalOperator.ExpressionEvaluator.Factory LOAD_RHS = context -> new LoadFromPage(1);
+
+    private final BlockFactory blockFactory;
+    private final EvalKernels kernels;
+    private final ArithmeticOp arithmetic;
+    private final ComparisonOp comparison;
+    private final ElementType type;
+    private final EvalOperator.ExpressionEvaluator lhs;
+    private final EvalOperator.ExpressionEvaluator rhs;
+    private final EvalOperator.ExpressionEvaluator scalar;
+    private final String description;
+
+    private VectorizedBinaryEvaluator(
+        BlockFactory blockFactory,
+        EvalKernels kernels,
+        ArithmeticOp arithmetic,
+        ComparisonOp comparison,
+        ElementType type,
+        EvalOperator.ExpressionEvaluator lhs,
+        EvalOperator.ExpressionEvaluator rhs,
+        EvalOperator.ExpressionEvaluator scalar,
+        String description
+    ) {
+        this.blockFactory = blockFactory;
+        this.kernels = kernels;
+        this.arithmetic = arithmetic;
+        this.comparison = comparison;
+        this.type = type;
+        this.lhs = lhs;
+        this.rhs = rhs;
+        this.scalar = scalar;
+        this.description = description;
+    }
+
+    @Override
+    public Block eval(Page page) {
+        int positionCount = page.getPositionCount();
+        try (Block lhsBlock = lhs.eval(page); Block rhsBlock = rhs.eval(page)) {
+            Block result = switch (type) {
+                case INT -> evalInts(positionCount, ((IntBlock) lhsBlock).asVector(), ((IntBlock) rhsBlock).asVector());
+                case LONG -> evalLongs(positionCount, ((LongBlock) lhsBlock).asVector(), ((LongBlock) rhsBlock).asVector());
+                case DOUBLE -> evalDoubles(positionCount, ((DoubleBlock) lhsBlock).asVector(), ((DoubleBlock) rhsBlock).asVector());
+                default -> throw new IllegalStateException("unsupported type [" + type + "]");
+            };
+            if (result != null) {
+                return result;
+            }
+            return scalar.eval(new Page(positionCount, lhsBlock, rhsBlock));
+        }
+    }
+
+    /**
+     * Evaluate dense {@code int} inputs, returning {@code null} if they have to be
+     * handled by the per-position evaluator.
+     */
+    private Block evalInts(int positionCount, IntVector lhsVector, IntVector rhsVector) {
+        if (lhsVector == null || rhsVector == null) {
+            return null;
+        }
+        int[] l = VectorArrays.ints(lhsVector);
+        int[] r = VectorArrays.ints(rhsVector);
+        if (l == null && r != null && lhsVector.isConstant() && commutative()) {
+            // Swap so the constant is on the right
+            return evalInts(positionCount, r, lhsVector.getInt(0), true);
+        }
+        if (l != null && r == null && rhsVector.isConstant()) {
+            return evalInts(positionCount, l, rhsVector.getInt(0), false);
+        }
+        if (l == null || r == null) {
+            return null;
+        }
+        if (arithmetic != null) {
+            long preAdjustedBytes = blockFactory.preAdjustBreakerForInt(positionCount);
+            int[] result = new int[positionCount];
+            if (kernels.applyExact(arithmetic, l, r, result, positionCount) == false) {
+                releasePreAdjusted(preAdjustedBytes);
+                return null;
+            }
+            return blockFactory.newIntArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+        }
+        long preAdjustedBytes = blockFactory.preAdjustBreakerForBoolean(positionCount);
+        boolean[] result = new boolean[positionCount];
+        kernels.compare(comparison, l, r, result, positionCount);
+        return blockFactory.newBooleanArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+    }
+
+    private Block evalInts(int positionCount, int[] l, int r, boolean swapped) {
+        if (arithmetic != null) {
+            long preAdjustedBytes = blockFactory.preAdjustBreakerForInt(positionCount);
+            int[] result = new int[positionCount];
+            if (kernels.applyExact(arithmetic, l, r, result, positionCount) == false) {
+                releasePreAdjusted(preAdjustedBytes);
+                return null;
+            }
+            return blockFactory.newIntArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+        }
+        long preAdjustedBytes = blockFactory.preAdjustBreakerForBoolean(positionCount);
+        boolean[] result = new boolean[positionCount];
+        kernels.compare(swapped ? comparison.flip() : comparison, l, r, result, positionCount);
+        return blockFactory.newBooleanArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+    }
+
+    /**
+     * Evaluate dense {@code long} inputs, returning {@code null} if they have to be
+     * handled by the per-position evaluator.
+     */
+    private Block evalLongs(int positionCount, LongVector lhsVector, LongVector rhsVector) {
+        if (lhsVector == null || rhsVector == null) {
+            return null;
+        }
+        long[] l = VectorArrays.longs(lhsVector);
+        long[] r = VectorArrays.longs(rhsVector);
+        if (l == null && r != null && lhsVector.isConstant() && commutative()) {
+            // Swap so the constant is on the right
+            return evalLongs(positionCount, r, lhsVector.getLong(0), true);
+        }
+        if (l != null && r == null && rhsVector.isConstant()) {
+            return evalLongs(positionCount, l, rhsVector.getLong(0), false);
+        }
+        if (l == null || r == null) {
+            return null;
+        }
+        if (arithmetic != null) {
+            long preAdjustedBytes = blockFactory.preAdjustBreakerForLong(positionCount);
+            long[] result = new long[positionCount];
+            if (kernels.applyExact(arithmetic, l, r, result, positionCount) == false) {
+                releasePreAdjusted(preAdjustedBytes);
+                return null;
+            }
+            return blockFactory.newLongArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+        }
+        long preAdjustedBytes = blockFactory.preAdjustBreakerForBoolean(positionCount);
+        boolean[] result = new boolean[positionCount];
+        kernels.compare(comparison, l, r, result, positionCount);
+        return blockFactory.newBooleanArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+    }
+
+    private Block evalLongs(int positionCount, long[] l, long r, boolean swapped) {
+        if (arithmetic != null) {
+            long preAdjustedBytes = blockFactory.preAdjustBreakerForLong(positionCount);
+            long[] result = new long[positionCount];
+            if (kernels.applyExact(arithmetic, l, r, result, positionCount) == false) {
+                releasePreAdjusted(preAdjustedBytes);
+                return null;
+            }
+            return blockFactory.newLongArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+        }
+        long preAdjustedBytes = blockFactory.preAdjustBreakerForBoolean(positionCount);
+        boolean[] result = new boolean[positionCount];
+        kernels.compare(swapped ? comparison.flip() : comparison, l, r, result, positionCount);
+        return blockFactory.newBooleanArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+    }
+
+    /**
+     * Evaluate dense {@code double} inputs, returning {@code null} if they have to be
+     * handled by the per-position evaluator.
+     */
+    private Block evalDoubles(int positionCount, DoubleVector lhsVector, DoubleVector rhsVector) {
+        if (lhsVector == null || rhsVector == null) {
+            return null;
+        }
+        double[] l = VectorArrays.doubles(lhsVector);
+        double[] r = VectorArrays.doubles(rhsVector);
+        if (l == null && r != null && lhsVector.isConstant() && commutative()) {
+            // Swap so the constant is on the right
+            return evalDoubles(positionCount, r, lhsVector.getDouble(0), true);
+        }
+        if (l != null && r == null && rhsVector.isConstant()) {
+            return evalDoubles(positionCount, l, rhsVector.getDouble(0), false);
+        }
+        if (l == null || r == null) {
+            return null;
+        }
+        if (arithmetic != null) {
+            long preAdjustedBytes = blockFactory.preAdjustBreakerForDouble(positionCount);
+            double[] result = new double[positionCount];
+            kernels.apply(arithmetic, l, r, result, positionCount);
+            return blockFactory.newDoubleArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+        }
+        long preAdjustedBytes = blockFactory.preAdjustBreakerForBoolean(positionCount);
+        boolean[] result = new boolean[positionCount];
+        kernels.compare(comparison, l, r, result, positionCount);
+        return blockFactory.newBooleanArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+    }
+
+    private Block evalDoubles(int positionCount, double[] l, double r, boolean swapped) {
+        if (arithmetic != null) {
+            long preAdjustedBytes = blockFactory.preAdjustBreakerForDouble(positionCount);
+            double[] result = new double[positionCount];
+            kernels.apply(arithmetic, l, r, result, positionCount);
+            return blockFactory.newDoubleArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+        }
+        long preAdjustedBytes = blockFactory.preAdjustBreakerForBoolean(positionCount);
+        boolean[] result = new boolean[positionCount];
+        kernels.compare(swapped ? comparison.flip() : comparison, l, r, result, positionCount);
+        return blockFactory.newBooleanArrayVector(result, positionCount, preAdjustedBytes).asBlock();
+    }
+
+    /**
+     * Give back the bytes reserved for a result array that isn't used because the page
+     * has to be handled by the per-position evaluator.
+     */
+    private void releasePreAdjusted(long preAdjustedBytes) {
+        blockFactory.breaker().addWithoutBreaking(-preAdjustedBytes);
+    }
+
+    /**
+     * Can we swap a constant left hand side to the right? Comparisons always can by
+     * {@link ComparisonOp#flip flipping} the operator.
+     */
+    private boolean commutative() {
+        return arithmetic == null || arithmetic.commutative();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    @Override
+    public void close() {
+        Releasables.closeExpectNoException(lhs, rhs, scalar);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.exchange;
+
+import org.elasticsearch.action.support.SubscribableListener;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.HashPartitioner;
+import org.elasticsearch.compute.operator.Operator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exchanges pages between drivers on the same node, routing each row to one of
+ * {@code partitions} buffers based on the hash of its key columns. All rows with
+ * the same key end up in the same partition, so a grouping aggregation running
+ * on each partition can finalize a disjoint slice of the groups.
+ * <p>
+ * Each call to {@link #createExchangeSource()} binds to the next partition, so
+ * exactly {@code partitions} sources must be created. With a single partition
+ * and no key channels this is just a local gather.
+ * </p>
+ * <p>
+ * Like {@link ExchangeSinkHandler}, all sinks must be created before any of them
+ * finish. The planner does this by building all drivers before starting them.
+ * </p>
+ */
+public final class HashPartitionExchanger {
+    private final HashPartitioner partitioner;
+    private final ExchangeBuffer[] buffers;
+    private final AtomicInteger outstandingSinks = new AtomicInteger();
+    private final AtomicInteger nextSource = new AtomicInteger();
+
+    public HashPartitionExchanger(int partitions, int[] keyChannels, int maxBufferSize) {
+        this.partitioner = new HashPartitioner(partitions, keyChannels);
+        this.buffers = new ExchangeBuffer[partitions];
+        for (int i = 0; i < partitions; i++) {
+            buffers[i] = new ExchangeBuffer(maxBufferSize);
+        }
+    }
+
+    /**
+     * The number of partitions.
+     */
+    public int partitions() {
+        return buffers.length;
+    }
+
+    /**
+     * Create a new sink that routes rows to the partitions.
+     */
+    public ExchangeSink createExchangeSink() {
+        return new PartitioningSink();
+    }
+
+    /**
+     * Create a source that reads the next unclaimed partition.
+     */
+    public ExchangeSource createExchangeSource() {
+        int partition = nextSource.getAndIncrement();
+        if (partition >= buffers.length) {
+            throw new IllegalStateException("all [" + buffers.length + "] partitions already have a source");
+        }
+        return new PartitionSource(buffers[partition]);
+    }
+
+    private class PartitioningSink implements ExchangeSink {
+        private boolean finished;
+
+        PartitioningSink() {
+            outstandingSinks.incrementAndGet();
+        }
+
+        @Override
+        public void addPage(Page page) {
+            Page[] partitioned = partitioner.split(page);
+            for (int i = 0; i < partitioned.length; i++) {
+                if (partitioned[i] != null) {
+                    partitioned[i].allowPassingToDifferentDriver();
+                    buffers[i].addPage(partitioned[i]);
+                }
+            }
+        }
+
+        @Override
+        public void finish() {
+            if (finished == false) {
+                finished = true;
+                if (outstandingSinks.decrementAndGet() == 0) {
+                    for (ExchangeBuffer buffer : buffers) {
+                        buffer.finish(false);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            if (finished) {
+                return true;
+            }
+            for (ExchangeBuffer buffer : buffers) {
+                if (buffer.isFinished() == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public SubscribableListener<Void> waitForWriting() {
+            for (ExchangeBuffer buffer : buffers) {
+                SubscribableListener<Void> blocked = buffer.waitForWriting();
+                if (blocked.isDone() == false) {
+                    return blocked;
+                }
+            }
+            return Operator.NOT_BLOCKED;
+        }
+    }
+
+    private static class PartitionSource implements ExchangeSource {
+        private final ExchangeBuffer buffer;
+
+        PartitionSource(ExchangeBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public Page pollPage() {
+            return buffer.pollPage();
+        }
+
+        @Override
+        public void finish() {
+            buffer.finish(true);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return buffer.isFinished();
+        }
+
+        @Override
+        public int bufferSize() {
+            return buffer.size();
+        }
+
+        @Override
+        public SubscribableListener<Void> waitForReading() {
+            return buffer.waitForReading();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.join;
+
+import org.elasticsearch.action.support.SubscribableListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands the {@link JoinHashTable} built by a {@link HashJoinBuildOperator} to
+ * the {@link HashJoinOperator}s that probe it. The table is released when the
+ * last of these operators closes.
+ * <p>
+ * Like {@link org.elasticsearch.compute.operator.exchange.HashPartitionExchanger},
+ * all of the operators must be created before any of them finish. The planner
+ * does this by building all drivers before starting them.
+ * </p>
+ * <p>
+ * To join inputs too large to hash on one driver, partition both sides with a
+ * {@link org.elasticsearch.compute.operator.exchange.HashPartitionExchanger}
+ * on the join key and give each partition its own bridge.
+ * </p>
+ */
+public final class HashJoinBridge {
+    private final SubscribableListener<Void> built = new SubscribableListener<>();
+    private final AtomicInteger users = new AtomicInteger();
+    private volatile JoinHashTable table;
+    private volatile RuntimeException failure;
+
+    void register() {
+        users.incrementAndGet();
+    }
+
+    void release() {
+        if (users.decrementAndGet() == 0 && table != null) {
+            table.close();
+        }
+    }
+
+    void publish(JoinHashTable table) {
+        this.table = table;
+        built.onResponse(null);
+    }
+
+    void fail(RuntimeException e) {
+        failure = e;
+        built.onFailure(e);
+    }
+
+    /**
+     * Resolved once the table is built.
+     */
+    SubscribableListener<Void> waitForBuild() {
+        return built;
+    }
+
+    /**
+     * The table. Only valid after {@link #waitForBuild()} resolves. Throws the
+     * failure of the build side if it failed.
+     */
+    JoinHashTable table() {
+        JoinHashTable t = table;
+        if (t == null) {
+            RuntimeException e = failure;
+            if (e != null) {
+                throw e;
+            }
+            throw new IllegalStateException("join hash table isn't built");
+        }
+        return t;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.join;
+
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.IntArray;
+import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
+import org.elasticsearch.compute.aggregation.blockhash.BlockHash;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.HashAggregationOperator;
+import org.elasticsearch.compute.operator.SinkOperator;
+import org.elasticsearch.core.Releasables;
+import org.elasticsearch.tasks.TaskCancelledException;
+
+import java.util.List;
+
+/**
+ * Collects the build side of a hash join into a {@link JoinHashTable} and
+ * publishes it to the {@link HashJoinBridge} when it finishes.
+ */
+public final class HashJoinBuildOperator extends SinkOperator {
+    /**
+     * Factory for the build side. Only one build operator may be created per bridge.
+     * @param keyChannel the channel of the join key
+     * @param elementTypes the types of all build side columns
+     */
+    public record Factory(HashJoinBridge bridge, int keyChannel, List<ElementType> elementTypes) implements SinkOperatorFactory {
+        @Override
+        public SinkOperator get(DriverContext driverContext) {
+            return new HashJoinBuildOperator(driverContext, bridge, keyChannel, elementTypes);
+        }
+
+        @Override
+        public String describe() {
+            return "HashJoinBuildOperator[keyChannel=" + keyChannel + "]";
+        }
+    }
+
+    private final BigArrays bigArrays;
+    private final HashJoinBridge bridge;
+    private final int keyChannel;
+
+    private BlockHash hash;
+    private Block.Builder[] builders;
+    private IntArray firstEntry;
+    private IntArray entryRow;
+    private IntArray nextEntry;
+    private int entries;
+    private int rows;
+    private boolean finished;
+
+    public HashJoinBuildOperator(DriverContext driverContext, HashJoinBridge bridge, int keyChannel, List<ElementType> elementTypes) {
+        this.bigArrays = driverContext.bigArrays();
+        this.bridge = bridge;
+        this.keyChannel = keyChannel;
+        bridge.register();
+        boolean success = false;
+        try {
+            this.hash = BlockHash.build(
+                List.of(new HashAggregationOperator.GroupSpec(0, elementTypes.get(keyChannel))),
+                driverContext,
+                Integer.MAX_VALUE,
+                false
+            );
+            this.builders = new Block.Builder[elementTypes.size()];
+            for (int b = 0; b < builders.length; b++) {
+                builders[b] = elementTypes.get(b).newBlockBuilder(0, driverContext.blockFactory());
+            }
+            this.firstEntry = bigArrays.newIntArray(1, false);
+            this.firstEntry.set(0, -1);
+            this.entryRow = bigArrays.newIntArray(1, false);
+            this.nextEntry = bigArrays.newIntArray(1, false);
+            success = true;
+        } finally {
+            if (success == false) {
+                close();
+            }
+        }
+    }
+
+    @Override
+    public boolean needsInput() {
+        return finished == false;
+    }
+
+    @Override
+    protected void doAddInput(Page page) {
+        try {
+            int rowOffset = rows;
+            hash.add(new Page(page.getBlock(keyChannel)), new GroupingAggregatorFunction.AddInput() {
+                @Override
+                public void add(int positionOffset, IntBlock groupIds) {
+                    reserve(groupIds);
+                    for (int p = 0; p < groupIds.getPositionCount(); p++) {
+                        int start = groupIds.getFirstValueIndex(p);
+                        int end = start + groupIds.getValueCount(p);
+                        for (int i = start; i < end; i++) {
+                            addEntry(groupIds.getInt(i), rowOffset + positionOffset + p);
+                        }
+                    }
+                }
+
+                @Override
+                public void add(int positionOffset, IntVector groupIds) {
+                    reserve(groupIds);
+                    for (int p = 0; p < groupIds.getPositionCount(); p++) {
+                        addEntry(groupIds.getInt(p), rowOffset + positionOffset + p);
+                    }
+                }
+            });
+            for (int b = 0; b < builders.length; b++) {
+                builders[b].copyFrom(page.getBlock(b), 0, page.getPositionCount());
+            }
+            rows += page.getPositionCount();
+        } finally {
+            page.releaseBlocks();
+        }
+    }
+
+    /**
+     * Make room for every entry a page of group ids adds so the chains grow once per page.
+     */
+    private void reserve(IntBlock groupIds) {
+        int maxGroup = 0;
+        for (int p = 0; p < groupIds.getPositionCount(); p++) {
+            int start = groupIds.getFirstValueIndex(p);
+            int end = start + groupIds.getValueCount(p);
+            for (int i = start; i < end; i++) {
+                maxGroup = Math.max(maxGroup, groupIds.getInt(i));
+            }
+        }
+        reserve(maxGroup, groupIds.getTotalValueCount());
+    }
+
+    private void reserve(IntVector groupIds) {
+        int maxGroup = 0;
+        for (int p = 0; p < groupIds.getPositionCount(); p++) {
+            maxGroup = Math.max(maxGroup, groupIds.getInt(p));
+        }
+        reserve(maxGroup, groupIds.getPositionCount());
+    }
+
+    private void reserve(int maxGroup, int newEntries) {
+        if (maxGroup >= firstEntry.size()) {
+            long oldSize = firstEntry.size();
+            firstEntry = bigArrays.grow(firstEntry, maxGroup + 1);
+            firstEntry.fill(oldSize, firstEntry.size(), -1);
+        }
+        entryRow = bigArrays.grow(entryRow, entries + newEntries);
+        nextEntry = bigArrays.grow(nextEntry, entries + newEntries);
+    }
+
+    private void addEntry(int group, int row) {
+        if (group == 0) {
+            // 0 is reserved for null and null never matches
+            return;
+        }
+        entryRow.set(entries, row);
+        nextEntry.set(entries, firstEntry.get(group));
+        firstEntry.set(group, entries);
+        entries++;
+    }
+
+    @Override
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        Block[] blocks = new Block[builders.length];
+        try {
+            for (int b = 0; b < blocks.length; b++) {
+                blocks[b] = builders[b].build();
+                // the table is read by other drivers
+                blocks[b].allowPassingToDifferentDriver();
+            }
+        } finally {
+            if (blocks.length > 0 && blocks[blocks.length - 1] == null) {
+                Releasables.closeExpectNoException(blocks);
+            }
+        }
+        JoinHashTable table = new JoinHashTable(hash, blocks, firstEntry, firstEntry.size(), entryRow, nextEntry);
+        // the table owns these now
+        hash = null;
+        firstEntry = null;
+        entryRow = null;
+        nextEntry = null;
+        bridge.publish(table);
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void close() {
+        if (finished == false) {
+            /*
+             * Whatever stopped this driver is reported by the driver itself. Fail the
+             * probe side as cancelled so that the real cause is the one that surfaces.
+             */
+            bridge.fail(new TaskCancelledException("build side of the join closed before it finished"));
+        }
+        Releasables.closeExpectNoException(
+            hash,
+            firstEntry,
+            entryRow,
+            nextEntry,
+            builders == null ? null : Releasables.wrap(builders),
+            bridge::release
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "HashJoinBuildOperator[keyChannel=" + keyChannel + ", rows=" + rows + "]";
+    }
+}
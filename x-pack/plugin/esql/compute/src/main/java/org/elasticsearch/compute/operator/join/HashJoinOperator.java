@@ -0,0 +1,240 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.join;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.elasticsearch.action.support.SubscribableListener;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.Operator;
+import org.elasticsearch.core.Releasables;
+
+import java.util.Arrays;
+
+/**
+ * Probes a {@link JoinHashTable} with each incoming page and emits the probe
+ * side columns followed by the build side columns of every matching row.
+ * Blocks until the build side is ready. A single probe page can match many
+ * build rows so output is emitted in pages of at most {@code maxPageSize}
+ * positions.
+ */
+public final class HashJoinOperator implements Operator {
+    /**
+     * How rows without a match on the build side are handled.
+     */
+    public enum JoinType {
+        /**
+         * Drop probe rows without a match.
+         */
+        INNER,
+        /**
+         * Keep probe rows without a match, filling the build side columns with {@code null}.
+         */
+        LEFT;
+    }
+
+    /**
+     * Factory for the probe side.
+     * @param keyChannel the channel of the join key on the probe side
+     */
+    public record Factory(HashJoinBridge bridge, int keyChannel, JoinType joinType, int maxPageSize) implements OperatorFactory {
+        @Override
+        public Operator get(DriverContext driverContext) {
+            return new HashJoinOperator(driverContext.blockFactory(), bridge, keyChannel, joinType, maxPageSize);
+        }
+
+        @Override
+        public String describe() {
+            return "HashJoinOperator[keyChannel=" + keyChannel + ", type=" + joinType + "]";
+        }
+    }
+
+    private final BlockFactory blockFactory;
+    private final HashJoinBridge bridge;
+    private final int keyChannel;
+    private final JoinType joinType;
+    private final int maxPageSize;
+
+    /**
+     * The page we're probing with or {@code null} if we need another one.
+     */
+    private Page probe;
+    /**
+     * Group ids of each key in {@link #probe}.
+     */
+    private IntBlock groups;
+    /**
+     * The position in {@link #probe} we're emitting.
+     */
+    private int position;
+    /**
+     * Index of the next group id to follow for {@link #position}, relative to its first value.
+     */
+    private int groupIndex;
+    /**
+     * The next entry to emit or {@code -1} if we need to follow the next group id.
+     */
+    private int entry = -1;
+    /**
+     * Did {@link #position} match anything?
+     */
+    private boolean matched;
+
+    private int[] probePositions = new int[0];
+    private int[] buildRows = new int[0];
+
+    private boolean finished;
+    private boolean closed;
+    private int pagesProcessed;
+
+    public HashJoinOperator(BlockFactory blockFactory, HashJoinBridge bridge, int keyChannel, JoinType joinType, int maxPageSize) {
+        this.blockFactory = blockFactory;
+        this.bridge = bridge;
+        this.keyChannel = keyChannel;
+        this.joinType = joinType;
+        this.maxPageSize = maxPageSize;
+        bridge.register();
+    }
+
+    @Override
+    public SubscribableListener<Void> isBlocked() {
+        SubscribableListener<Void> built = bridge.waitForBuild();
+        return built.isDone() ? NOT_BLOCKED : built;
+    }
+
+    @Override
+    public boolean needsInput() {
+        return finished == false && probe == null && bridge.waitForBuild().isDone();
+    }
+
+    @Override
+    public void addInput(Page page) {
+        assert probe == null : "already probing";
+        boolean success = false;
+        try {
+            groups = bridge.table().lookup(page.getBlock(keyChannel), blockFactory);
+            success = true;
+        } finally {
+            if (success == false) {
+                page.releaseBlocks();
+            }
+        }
+        probe = page;
+        position = 0;
+        groupIndex = 0;
+        entry = -1;
+        matched = false;
+        pagesProcessed++;
+    }
+
+    @Override
+    public Page getOutput() {
+        if (probe == null) {
+            return null;
+        }
+        JoinHashTable table = bridge.table();
+        int count = 0;
+        while (count < maxPageSize && position < probe.getPositionCount()) {
+            if (entry >= 0) {
+                count = emit(count, position, table.row(entry));
+                matched = true;
+                entry = table.nextEntry(entry);
+                continue;
+            }
+            if (groupIndex < groups.getValueCount(position)) {
+                entry = table.firstEntry(groups.getInt(groups.getFirstValueIndex(position) + groupIndex));
+                groupIndex++;
+                continue;
+            }
+            if (joinType == JoinType.LEFT && matched == false) {
+                count = emit(count, position, -1);
+            }
+            position++;
+            groupIndex = 0;
+            matched = false;
+        }
+        Page result = count == 0 ? null : buildPage(table, count);
+        if (position == probe.getPositionCount()) {
+            Releasables.closeExpectNoException(probe::releaseBlocks, groups);
+            probe = null;
+            groups = null;
+        }
+        return result;
+    }
+
+    private int emit(int count, int probePosition, int buildRow) {
+        probePositions = ArrayUtil.grow(probePositions, count + 1);
+        buildRows = ArrayUtil.grow(buildRows, count + 1);
+        probePositions[count] = probePosition;
+        buildRows[count] = buildRow;
+        return count + 1;
+    }
+
+    private Page buildPage(JoinHashTable table, int count) {
+        int[] probeSelected = Arrays.copyOf(probePositions, count);
+        int[] buildSelected = Arrays.copyOf(buildRows, count);
+        boolean allMatched = Arrays.stream(buildSelected).allMatch(r -> r >= 0);
+        Block[] blocks = new Block[probe.getBlockCount() + table.blockCount()];
+        boolean success = false;
+        try {
+            for (int b = 0; b < probe.getBlockCount(); b++) {
+                blocks[b] = probe.getBlock(b).filter(probeSelected);
+            }
+            for (int b = 0; b < table.blockCount(); b++) {
+                Block build = table.block(b);
+                blocks[probe.getBlockCount() + b] = allMatched ? build.filter(buildSelected) : copyWithNulls(build, buildSelected);
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                Releasables.closeExpectNoException(blocks);
+            }
+        }
+        return new Page(blocks);
+    }
+
+    private Block copyWithNulls(Block build, int[] rows) {
+        try (Block.Builder builder = build.elementType().newBlockBuilder(rows.length, blockFactory)) {
+            for (int row : rows) {
+                if (row < 0) {
+                    builder.appendNull();
+                } else {
+                    builder.copyFrom(build, row, row + 1);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    @Override
+    public void finish() {
+        finished = true;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished && probe == null;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Releasables.closeExpectNoException(probe == null ? null : probe::releaseBlocks, groups, bridge::release);
+    }
+
+    @Override
+    public String toString() {
+        return "HashJoinOperator[keyChannel=" + keyChannel + ", type=" + joinType + ", pagesProcessed=" + pagesProcessed + "]";
+    }
+}
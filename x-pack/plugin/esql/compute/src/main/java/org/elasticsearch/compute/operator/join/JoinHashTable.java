@@ -0,0 +1,95 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.join;
+
+import org.elasticsearch.common.util.IntArray;
+import org.elasticsearch.compute.aggregation.blockhash.BlockHash;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Releasable;
+import org.elasticsearch.core.Releasables;
+
+/**
+ * The build side of a hash join. Holds every row of the build input, a
+ * {@link BlockHash} of the join key, and chains of "entries" linking each
+ * key's group id to all of the rows with that key. Rows with a multivalued
+ * key have an entry for each value. Rows with a {@code null} key have none
+ * because {@code null} never matches.
+ * <p>
+ * Built by a single {@link HashJoinBuildOperator} and then read by any number
+ * of {@link HashJoinOperator}s. Nothing modifies it after it's built so they
+ * can all probe it at the same time.
+ * </p>
+ */
+public final class JoinHashTable implements Releasable {
+    private final BlockHash hash;
+    private final Block[] blocks;
+    private final IntArray firstEntry;
+    private final long groupCount;
+    private final IntArray entryRow;
+    private final IntArray nextEntry;
+
+    JoinHashTable(BlockHash hash, Block[] blocks, IntArray firstEntry, long groupCount, IntArray entryRow, IntArray nextEntry) {
+        this.hash = hash;
+        this.blocks = blocks;
+        this.firstEntry = firstEntry;
+        this.groupCount = groupCount;
+        this.entryRow = entryRow;
+        this.nextEntry = nextEntry;
+    }
+
+    /**
+     * Find the group ids for a block of probe side keys. Keys that aren't in
+     * the table get {@code null}.
+     */
+    IntBlock lookup(Block keys, BlockFactory blockFactory) {
+        return hash.lookup(new Page(keys), blockFactory);
+    }
+
+    /**
+     * The first entry for a group or {@code -1} if there are no rows with that key.
+     */
+    int firstEntry(int group) {
+        return group < groupCount ? firstEntry.get(group) : -1;
+    }
+
+    /**
+     * The entry after {@code entry} with the same key or {@code -1} if it's the last one.
+     */
+    int nextEntry(int entry) {
+        return nextEntry.get(entry);
+    }
+
+    /**
+     * The build side row for an entry.
+     */
+    int row(int entry) {
+        return entryRow.get(entry);
+    }
+
+    /**
+     * The build side column at {@code channel}.
+     */
+    Block block(int channel) {
+        return blocks[channel];
+    }
+
+    /**
+     * The number of columns on the build side.
+     */
+    int blockCount() {
+        return blocks.length;
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(hash, firstEntry, entryRow, nextEntry, Releasables.wrap(blocks));
+    }
+}
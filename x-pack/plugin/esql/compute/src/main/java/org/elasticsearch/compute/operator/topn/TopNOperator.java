@@ -13,16 +13,23 @@ import org.apache.lucene.util.PriorityQueue;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.elasticsearch.common.breaker.CircuitBreaker;
 import org.elasticsearch.common.collect.Iterators;
+import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.data.Page;
 import org.elasticsearch.compute.operator.BreakingBytesRefBuilder;
 import org.elasticsearch.compute.operator.DriverContext;
-import org.elasticsearch.compute.operator.Operator;
+import org.elasticsearch.compute.operator.PartialOutputOperator;
+import org.elasticsearch.compute.operator.SpillConfig;
+import org.elasticsearch.compute.operator.SpillFile;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
 import org.elasticsearch.core.Releasables;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,7 +47,7 @@ import java.util.List;
  * This Operator will not be able to sort binary values (encoded as BytesRef) because the bytes used as separator and "null"s can appear
  * as valid bytes inside a binary value.
  */
-public class TopNOperator implements Operator, Accountable {
+public class TopNOperator implements PartialOutputOperator, Accountable {
     private static final byte SMALL_NULL = 0x01; // "null" representation for "nulls first"
     private static final byte BIG_NULL = 0x02; // "null" representation for "nulls last"
 
@@ -225,7 +232,8 @@ public class TopNOperator implements Operator, Accountable {
         List<ElementType> elementTypes,
         List<TopNEncoder> encoders,
         List<SortOrder> sortOrders,
-        int maxPageSize
+        int maxPageSize,
+        @Nullable SpillConfig spillConfig
     ) implements OperatorFactory {
         public TopNOperatorFactory {
             for (ElementType e : elementTypes) {
@@ -235,6 +243,16 @@ public class TopNOperator implements Operator, Accountable {
             }
         }
 
+        public TopNOperatorFactory(
+            int topCount,
+            List<ElementType> elementTypes,
+            List<TopNEncoder> encoders,
+            List<SortOrder> sortOrders,
+            int maxPageSize
+        ) {
+            this(topCount, elementTypes, encoders, sortOrders, maxPageSize, null);
+        }
+
         @Override
         public TopNOperator get(DriverContext driverContext) {
             return new TopNOperator(
@@ -244,7 +262,8 @@ public class TopNOperator implements Operator, Accountable {
                 elementTypes,
                 encoders,
                 sortOrders,
-                maxPageSize
+                maxPageSize,
+                spillConfig
             );
         }
 
@@ -264,10 +283,22 @@ public class TopNOperator implements Operator, Accountable {
 
     private final BlockFactory blockFactory;
     private final CircuitBreaker breaker;
+    private final int topCount;
     private final Queue inputQueue;
 
     private final int maxPageSize;
 
+    /**
+     * How to spill when under memory pressure. {@code null} if this operator can't spill.
+     */
+    @Nullable
+    private final SpillConfig spillConfig;
+    /**
+     * Sorted runs of rows we've spilled. When we finish we merge these rather
+     * than read from {@link #inputQueue}.
+     */
+    private final List<SpilledRun> runs = new ArrayList<>();
+
     private final List<ElementType> elementTypes;
     private final List<TopNEncoder> encoders;
     private final List<SortOrder> sortOrders;
@@ -286,14 +317,29 @@ public class TopNOperator implements Operator, Accountable {
         List<TopNEncoder> encoders,
         List<SortOrder> sortOrders,
         int maxPageSize
+    ) {
+        this(blockFactory, breaker, topCount, elementTypes, encoders, sortOrders, maxPageSize, null);
+    }
+
+    public TopNOperator(
+        BlockFactory blockFactory,
+        CircuitBreaker breaker,
+        int topCount,
+        List<ElementType> elementTypes,
+        List<TopNEncoder> encoders,
+        List<SortOrder> sortOrders,
+        int maxPageSize,
+        @Nullable SpillConfig spillConfig
     ) {
         this.blockFactory = blockFactory;
         this.breaker = breaker;
+        this.topCount = topCount;
         this.maxPageSize = maxPageSize;
         this.elementTypes = elementTypes;
         this.encoders = encoders;
         this.sortOrders = sortOrders;
         this.inputQueue = new Queue(topCount);
+        this.spillConfig = spillConfig;
     }
 
     static int compareRows(Row r1, Row r2) {
@@ -370,6 +416,78 @@ public class TopNOperator implements Operator, Accountable {
         } finally {
             Releasables.close(() -> page.releaseBlocks());
         }
+        if (spillConfig != null
+            && inputQueue.size() > 0
+            && inputQueue.ramBytesUsed() >= spillConfig.minSpillBytes()
+            && spillConfig.underMemoryPressure(breaker)) {
+            spill();
+        }
+    }
+
+    /**
+     * Write the rows in the queue to disk as a sorted run and empty the queue.
+     * Each run holds at most {@code topCount} rows so the merge in {@link #finish}
+     * never has to read more than that from any one of them.
+     */
+    private void spill() {
+        List<Row> rows = popAll();
+        SpillFile file = new SpillFile(spillConfig.directory(), "esql-topn-");
+        boolean success = false;
+        try {
+            StreamOutput out = file.output();
+            for (Row row : rows) {
+                writeRow(out, row);
+            }
+            runs.add(new SpilledRun(file, rows.size()));
+            success = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to spill top n rows", e);
+        } finally {
+            Releasables.closeExpectNoException(Releasables.wrap(rows));
+            if (success == false) {
+                file.close();
+            }
+        }
+    }
+
+    /**
+     * Remove all rows from the queue, best row first.
+     */
+    private List<Row> popAll() {
+        List<Row> list = new ArrayList<>(inputQueue.size());
+        while (inputQueue.size() > 0) {
+            list.add(inputQueue.pop());
+        }
+        Collections.reverse(list);
+        return list;
+    }
+
+    private void writeRow(StreamOutput out, Row row) throws IOException {
+        BytesRef keys = row.keys.bytesRefView();
+        out.writeVInt(keys.length);
+        out.writeBytes(keys.bytes, keys.offset, keys.length);
+        for (int endOffset : row.bytesOrder.endOffsets) {
+            out.writeVInt(endOffset);
+        }
+        BytesRef values = row.values.bytesRefView();
+        out.writeVInt(values.length);
+        out.writeBytes(values.bytes, values.offset, values.length);
+    }
+
+    private void readRow(StreamInput in, Row row) throws IOException {
+        row.keys.clear();
+        int keysLength = in.readVInt();
+        row.keys.grow(keysLength);
+        in.readBytes(row.keys.bytes(), 0, keysLength);
+        row.keys.setLength(keysLength);
+        for (int i = 0; i < row.bytesOrder.endOffsets.length; i++) {
+            row.bytesOrder.endOffsets[i] = in.readVInt();
+        }
+        row.values.clear();
+        int valuesLength = in.readVInt();
+        row.values.grow(valuesLength);
+        in.readBytes(row.values.bytes(), 0, valuesLength);
+        row.values.setLength(valuesLength);
     }
 
     @Override
@@ -385,96 +503,168 @@ public class TopNOperator implements Operator, Accountable {
             spare.close();
             spare = null;
         }
+        if (runs.isEmpty() == false) {
+            if (inputQueue.size() > 0) {
+                spill();
+            }
+            return new SpilledRunMerger();
+        }
         if (inputQueue.size() == 0) {
             return Collections.emptyIterator();
         }
         List<Row> list = new ArrayList<>(inputQueue.size());
-        List<Page> result = new ArrayList<>();
-        ResultBuilder[] builders = null;
         boolean success = false;
         try {
-            while (inputQueue.size() > 0) {
-                list.add(inputQueue.pop());
+            list.addAll(popAll());
+            Iterator<Page> result = buildPages(list, maxPageSize, true).iterator();
+            success = true;
+            return result;
+        } finally {
+            if (success == false) {
+                Releasables.closeExpectNoException(Releasables.wrap(list));
             }
-            Collections.reverse(list);
+        }
+    }
 
+    /**
+     * Decode sorted rows into pages.
+     * @param closeRows close each row once it is decoded, replacing it with {@code null} in the list
+     */
+    private List<Page> buildPages(List<Row> list, int pageSize, boolean closeRows) {
+        List<Page> result = new ArrayList<>();
+        ResultBuilder[] builders = null;
+        boolean success = false;
+        try {
             int p = 0;
             int size = 0;
             for (int i = 0; i < list.size(); i++) {
                 if (builders == null) {
-                    size = Math.min(maxPageSize, list.size() - i);
-                    builders = new ResultBuilder[elementTypes.size()];
-                    for (int b = 0; b < builders.length; b++) {
-                        builders[b] = ResultBuilder.resultBuilderFor(
-                            blockFactory,
-                            elementTypes.get(b),
-                            encoders.get(b).toUnsortable(),
-                            channelInKey(sortOrders, b),
-                            size
-                        );
-                    }
+                    size = Math.min(pageSize, list.size() - i);
+                    builders = resultBuilders(size);
                     p = 0;
                 }
 
                 Row row = list.get(i);
-                BytesRef keys = row.keys.bytesRefView();
-                for (SortOrder so : sortOrders) {
-                    if (keys.bytes[keys.offset] == so.nul()) {
-                        keys.offset++;
-                        keys.length--;
-                        continue;
-                    }
-                    keys.offset++;
-                    keys.length--;
-                    builders[so.channel].decodeKey(keys);
-                }
-                if (keys.length != 0) {
-                    throw new IllegalArgumentException("didn't read all keys");
-                }
+                decodeRow(row, builders);
 
-                BytesRef values = row.values.bytesRefView();
-                for (ResultBuilder builder : builders) {
-                    builder.decodeValue(values);
-                }
-                if (values.length != 0) {
-                    throw new IllegalArgumentException("didn't read all values");
+                if (closeRows) {
+                    list.set(i, null);
+                    row.close();
                 }
 
-                list.set(i, null);
-                row.close();
-
                 p++;
                 if (p == size) {
-                    Block[] blocks = new Block[builders.length];
-                    try {
-                        for (int b = 0; b < blocks.length; b++) {
-                            blocks[b] = builders[b].build();
-                        }
-                    } finally {
-                        if (blocks[blocks.length - 1] == null) {
-                            Releasables.closeExpectNoException(blocks);
-                        }
-                    }
-                    result.add(new Page(blocks));
-                    Releasables.closeExpectNoException(builders);
+                    result.add(buildPage(builders));
                     builders = null;
                 }
             }
             assert builders == null;
             success = true;
-            return result.iterator();
+            return result;
         } finally {
             if (success == false) {
-                List<Releasable> close = new ArrayList<>(list);
+                List<Releasable> close = new ArrayList<>();
                 for (Page p : result) {
                     close.add(p::releaseBlocks);
                 }
-                Collections.addAll(close, builders);
+                if (builders != null) {
+                    Collections.addAll(close, builders);
+                }
                 Releasables.closeExpectNoException(Releasables.wrap(close));
             }
         }
     }
 
+    private ResultBuilder[] resultBuilders(int size) {
+        ResultBuilder[] builders = new ResultBuilder[elementTypes.size()];
+        boolean success = false;
+        try {
+            for (int b = 0; b < builders.length; b++) {
+                builders[b] = ResultBuilder.resultBuilderFor(
+                    blockFactory,
+                    elementTypes.get(b),
+                    encoders.get(b).toUnsortable(),
+                    channelInKey(sortOrders, b),
+                    size
+                );
+            }
+            success = true;
+            return builders;
+        } finally {
+            if (success == false) {
+                Releasables.closeExpectNoException(builders);
+            }
+        }
+    }
+
+    private void decodeRow(Row row, ResultBuilder[] builders) {
+        // decode from copies of the views so the row stays intact if we don't close it
+        BytesRef keysView = row.keys.bytesRefView();
+        BytesRef keys = new BytesRef(keysView.bytes, keysView.offset, keysView.length);
+        for (SortOrder so : sortOrders) {
+            if (keys.bytes[keys.offset] == so.nul()) {
+                keys.offset++;
+                keys.length--;
+                continue;
+            }
+            keys.offset++;
+            keys.length--;
+            builders[so.channel].decodeKey(keys);
+        }
+        if (keys.length != 0) {
+            throw new IllegalArgumentException("didn't read all keys");
+        }
+
+        BytesRef valuesView = row.values.bytesRefView();
+        BytesRef values = new BytesRef(valuesView.bytes, valuesView.offset, valuesView.length);
+        for (ResultBuilder builder : builders) {
+            builder.decodeValue(values);
+        }
+        if (values.length != 0) {
+            throw new IllegalArgumentException("didn't read all values");
+        }
+    }
+
+    /**
+     * Build a page from the builders and close them.
+     */
+    private static Page buildPage(ResultBuilder[] builders) {
+        Block[] blocks = new Block[builders.length];
+        try {
+            for (int b = 0; b < blocks.length; b++) {
+                blocks[b] = builders[b].build();
+            }
+        } finally {
+            if (blocks[blocks.length - 1] == null) {
+                Releasables.closeExpectNoException(blocks);
+            }
+        }
+        Releasables.closeExpectNoException(builders);
+        return new Page(blocks);
+    }
+
+    /**
+     * A top-n only knows it can emit its rows early if the operator it feeds is
+     * another top-n with the same sort. We don't track that so we never flush.
+     */
+    @Override
+    public void flush() {}
+
+    @Override
+    public Page snapshot() {
+        // once we've spilled the best rows may be on disk and the queue alone isn't the answer so far
+        if (output != null || runs.isEmpty() == false || inputQueue.size() == 0) {
+            return null;
+        }
+        List<Row> rows = new ArrayList<>(inputQueue.size());
+        for (Row row : inputQueue) {
+            rows.add(row);
+        }
+        // the same order as popping everything and reversing it in toPages
+        rows.sort((r1, r2) -> compareRows(r2, r1));
+        return buildPages(rows, rows.size(), false).get(0);
+    }
+
     private static boolean channelInKey(List<SortOrder> sortOrders, int channel) {
         for (SortOrder so : sortOrders) {
             if (so.channel == channel) {
@@ -507,7 +697,10 @@ public class TopNOperator implements Operator, Accountable {
         Releasables.closeExpectNoException(
             spare,
             inputQueue == null ? null : Releasables.wrap(inputQueue),
-            output == null ? null : Releasables.wrap(() -> Iterators.map(output, p -> p::releaseBlocks))
+            Releasables.wrap(runs),
+            output == null ? null
+                : output instanceof Releasable r ? r
+                : Releasables.wrap(() -> Iterators.map(output, p -> p::releaseBlocks))
         );
     }
 
@@ -551,6 +744,129 @@ public class TopNOperator implements Operator, Accountable {
         return breaker;
     }
 
+    /**
+     * The number of sorted runs spilled to disk.
+     */
+    int spilledRuns() {
+        return runs.size();
+    }
+
+    private record SpilledRun(SpillFile file, int rows) implements Releasable {
+        @Override
+        public void close() {
+            file.close();
+        }
+    }
+
+    /**
+     * Merges the spilled runs, emitting the best {@code topCount} rows across all
+     * of them. Only holds one row per run in memory.
+     */
+    private class SpilledRunMerger implements Iterator<Page>, Releasable {
+        private final List<RunCursor> cursors = new ArrayList<>(runs.size());
+        private final java.util.PriorityQueue<RunCursor> heads = new java.util.PriorityQueue<>(
+            (lhs, rhs) -> compareRows(rhs.row, lhs.row)
+        );
+        private final int total;
+        private int emitted;
+
+        SpilledRunMerger() {
+            int rows = 0;
+            boolean success = false;
+            try {
+                for (SpilledRun run : runs) {
+                    RunCursor cursor = new RunCursor(run);
+                    cursors.add(cursor);
+                    if (cursor.advance()) {
+                        heads.add(cursor);
+                    }
+                    rows += run.rows;
+                }
+                success = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to read spilled top n rows", e);
+            } finally {
+                // the cursors own the runs now
+                runs.subList(0, cursors.size()).clear();
+                if (success == false) {
+                    close();
+                }
+            }
+            total = Math.min(topCount, rows);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return emitted < total;
+        }
+
+        @Override
+        public Page next() {
+            int size = Math.min(maxPageSize, total - emitted);
+            ResultBuilder[] builders = resultBuilders(size);
+            try {
+                for (int i = 0; i < size; i++) {
+                    RunCursor cursor = heads.poll();
+                    decodeRow(cursor.row, builders);
+                    if (cursor.advance()) {
+                        heads.add(cursor);
+                    }
+                }
+            } catch (IOException e) {
+                Releasables.closeExpectNoException(builders);
+                throw new UncheckedIOException("failed to read spilled top n rows", e);
+            } catch (RuntimeException e) {
+                Releasables.closeExpectNoException(builders);
+                throw e;
+            }
+            emitted += size;
+            return buildPage(builders);
+        }
+
+        @Override
+        public void close() {
+            Releasables.closeExpectNoException(Releasables.wrap(cursors));
+        }
+    }
+
+    private class RunCursor implements Releasable {
+        private final SpilledRun run;
+        private final StreamInput in;
+        private final Row row;
+        private int read;
+
+        RunCursor(SpilledRun run) throws IOException {
+            this.run = run;
+            boolean success = false;
+            try {
+                this.in = run.file.input();
+                this.row = new Row(breaker, sortOrders, spareKeysPreAllocSize, spareValuesPreAllocSize);
+                success = true;
+            } finally {
+                if (success == false) {
+                    run.close();
+                }
+            }
+        }
+
+        /**
+         * Read the next row from the run, returning {@code false} if there aren't any more.
+         */
+        boolean advance() throws IOException {
+            if (read == run.rows) {
+                return false;
+            }
+            readRow(in, row);
+            read++;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            Releasables.closeExpectNoException(row, run);
+        }
+    }
+
     private static class Queue extends PriorityQueue<Row> implements Accountable {
         private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(Queue.class);
         private final int maxSize;
@@ -0,0 +1,41 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.logging.LogManager;
+import org.elasticsearch.logging.Logger;
+
+import java.util.Optional;
+
+/**
+ * Picks the {@link EvalKernels} implementation, preferring {@link PanamaEvalKernels}
+ * if the {@code jdk.incubator.vector} module was added to the boot layer with
+ * {@code --add-modules jdk.incubator.vector}.
+ */
+final class EvalKernelsProvider {
+    private static final Logger logger = LogManager.getLogger(EvalKernelsProvider.class);
+
+    static final EvalKernels INSTANCE = lookup();
+
+    private EvalKernelsProvider() {}
+
+    private static EvalKernels lookup() {
+        Optional<Module> vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (vectorModule.isEmpty()) {
+            logger.debug("jdk.incubator.vector isn't available, using scalar eval kernels");
+            return new ScalarEvalKernels();
+        }
+        EvalKernelsProvider.class.getModule().addReads(vectorModule.get());
+        if (PanamaEvalKernels.supported() == false) {
+            logger.debug("preferred vector size is too small for SIMD, using scalar eval kernels");
+            return new ScalarEvalKernels();
+        }
+        logger.debug("using Panama eval kernels");
+        return new PanamaEvalKernels();
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link EvalKernels} implemented with the Panama Vector API. Processes as many
+ * lanes as fit in the preferred species and finishes the tail with the scalar loops.
+ * <p>
+ * Integer addition and subtraction detect overflow without branching per lane by
+ * accumulating the sign bit of the classic "operands have the same sign but the
+ * result doesn't" check and testing it once at the end. Integer multiplication
+ * has no cheap lane-wise overflow check so it stays on the scalar path.
+ * </p>
+ */
+class PanamaEvalKernels extends ScalarEvalKernels {
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Is SIMD worth it on this CPU? If the preferred species is narrower than
+     * 128 bits the JVM will emulate most of the operations.
+     */
+    static boolean supported() {
+        return INT_SPECIES.vectorBitSize() >= 128;
+    }
+
+    @Override
+    public String name() {
+        return "panama[" + INT_SPECIES.vectorBitSize() + "]";
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, int[] lhs, int[] rhs, int[] result, int length) {
+        if (op == ArithmeticOp.MUL) {
+            return super.applyExact(op, lhs, rhs, result, length);
+        }
+        int bound = INT_SPECIES.loopBound(length);
+        int i = 0;
+        IntVector overflow = IntVector.zero(INT_SPECIES);
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector l = IntVector.fromArray(INT_SPECIES, lhs, i);
+            IntVector r = IntVector.fromArray(INT_SPECIES, rhs, i);
+            IntVector res;
+            if (op == ArithmeticOp.ADD) {
+                res = l.add(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, res).and(r.lanewise(VectorOperators.XOR, res)));
+            } else {
+                res = l.sub(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, r).and(l.lanewise(VectorOperators.XOR, res)));
+            }
+            res.intoArray(result, i);
+        }
+        if (overflow.compare(VectorOperators.LT, 0).anyTrue()) {
+            return false;
+        }
+        return applyExact(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, int[] lhs, int rhs, int[] result, int length) {
+        if (op == ArithmeticOp.MUL) {
+            return super.applyExact(op, lhs, rhs, result, length);
+        }
+        int bound = INT_SPECIES.loopBound(length);
+        int i = 0;
+        IntVector r = IntVector.broadcast(INT_SPECIES, rhs);
+        IntVector overflow = IntVector.zero(INT_SPECIES);
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector l = IntVector.fromArray(INT_SPECIES, lhs, i);
+            IntVector res;
+            if (op == ArithmeticOp.ADD) {
+                res = l.add(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, res).and(r.lanewise(VectorOperators.XOR, res)));
+            } else {
+                res = l.sub(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, r).and(l.lanewise(VectorOperators.XOR, res)));
+            }
+            res.intoArray(result, i);
+        }
+        if (overflow.compare(VectorOperators.LT, 0).anyTrue()) {
+            return false;
+        }
+        return applyExact(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, long[] lhs, long[] rhs, long[] result, int length) {
+        if (op == ArithmeticOp.MUL) {
+            return super.applyExact(op, lhs, rhs, result, length);
+        }
+        int bound = LONG_SPECIES.loopBound(length);
+        int i = 0;
+        LongVector overflow = LongVector.zero(LONG_SPECIES);
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            LongVector l = LongVector.fromArray(LONG_SPECIES, lhs, i);
+            LongVector r = LongVector.fromArray(LONG_SPECIES, rhs, i);
+            LongVector res;
+            if (op == ArithmeticOp.ADD) {
+                res = l.add(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, res).and(r.lanewise(VectorOperators.XOR, res)));
+            } else {
+                res = l.sub(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, r).and(l.lanewise(VectorOperators.XOR, res)));
+            }
+            res.intoArray(result, i);
+        }
+        if (overflow.compare(VectorOperators.LT, 0L).anyTrue()) {
+            return false;
+        }
+        return applyExact(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public boolean applyExact(ArithmeticOp op, long[] lhs, long rhs, long[] result, int length) {
+        if (op == ArithmeticOp.MUL) {
+            return super.applyExact(op, lhs, rhs, result, length);
+        }
+        int bound = LONG_SPECIES.loopBound(length);
+        int i = 0;
+        LongVector r = LongVector.broadcast(LONG_SPECIES, rhs);
+        LongVector overflow = LongVector.zero(LONG_SPECIES);
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            LongVector l = LongVector.fromArray(LONG_SPECIES, lhs, i);
+            LongVector res;
+            if (op == ArithmeticOp.ADD) {
+                res = l.add(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, res).and(r.lanewise(VectorOperators.XOR, res)));
+            } else {
+                res = l.sub(r);
+                overflow = overflow.or(l.lanewise(VectorOperators.XOR, r).and(l.lanewise(VectorOperators.XOR, res)));
+            }
+            res.intoArray(result, i);
+        }
+        if (overflow.compare(VectorOperators.LT, 0L).anyTrue()) {
+            return false;
+        }
+        return applyExact(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void apply(ArithmeticOp op, double[] lhs, double[] rhs, double[] result, int length) {
+        int bound = DOUBLE_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            DoubleVector l = DoubleVector.fromArray(DOUBLE_SPECIES, lhs, i);
+            DoubleVector r = DoubleVector.fromArray(DOUBLE_SPECIES, rhs, i);
+            l.lanewise(operator(op), r).intoArray(result, i);
+        }
+        apply(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void apply(ArithmeticOp op, double[] lhs, double rhs, double[] result, int length) {
+        int bound = DOUBLE_SPECIES.loopBound(length);
+        int i = 0;
+        DoubleVector r = DoubleVector.broadcast(DOUBLE_SPECIES, rhs);
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            DoubleVector l = DoubleVector.fromArray(DOUBLE_SPECIES, lhs, i);
+            l.lanewise(operator(op), r).intoArray(result, i);
+        }
+        apply(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void compare(ComparisonOp op, int[] lhs, int[] rhs, boolean[] result, int length) {
+        VectorOperators.Comparison comparison = operator(op);
+        int bound = INT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector l = IntVector.fromArray(INT_SPECIES, lhs, i);
+            IntVector r = IntVector.fromArray(INT_SPECIES, rhs, i);
+            l.compare(comparison, r).intoArray(result, i);
+        }
+        compare(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void compare(ComparisonOp op, int[] lhs, int rhs, boolean[] result, int length) {
+        VectorOperators.Comparison comparison = operator(op);
+        int bound = INT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += INT_SPECIES.length()) {
+            IntVector l = IntVector.fromArray(INT_SPECIES, lhs, i);
+            l.compare(comparison, rhs).intoArray(result, i);
+        }
+        compare(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void compare(ComparisonOp op, long[] lhs, long[] rhs, boolean[] result, int length) {
+        VectorOperators.Comparison comparison = operator(op);
+        int bound = LONG_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            LongVector l = LongVector.fromArray(LONG_SPECIES, lhs, i);
+            LongVector r = LongVector.fromArray(LONG_SPECIES, rhs, i);
+            l.compare(comparison, r).intoArray(result, i);
+        }
+        compare(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void compare(ComparisonOp op, long[] lhs, long rhs, boolean[] result, int length) {
+        VectorOperators.Comparison comparison = operator(op);
+        int bound = LONG_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            LongVector l = LongVector.fromArray(LONG_SPECIES, lhs, i);
+            l.compare(comparison, rhs).intoArray(result, i);
+        }
+        compare(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void compare(ComparisonOp op, double[] lhs, double[] rhs, boolean[] result, int length) {
+        VectorOperators.Comparison comparison = operator(op);
+        int bound = DOUBLE_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            DoubleVector l = DoubleVector.fromArray(DOUBLE_SPECIES, lhs, i);
+            DoubleVector r = DoubleVector.fromArray(DOUBLE_SPECIES, rhs, i);
+            l.compare(comparison, r).intoArray(result, i);
+        }
+        compare(op, lhs, rhs, result, i, length);
+    }
+
+    @Override
+    public void compare(ComparisonOp op, double[] lhs, double rhs, boolean[] result, int length) {
+        VectorOperators.Comparison comparison = operator(op);
+        int bound = DOUBLE_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            DoubleVector l = DoubleVector.fromArray(DOUBLE_SPECIES, lhs, i);
+            l.compare(comparison, rhs).intoArray(result, i);
+        }
+        compare(op, lhs, rhs, result, i, length);
+    }
+
+    private static VectorOperators.Binary operator(ArithmeticOp op) {
+        return switch (op) {
+            case ADD -> VectorOperators.ADD;
+            case SUB -> VectorOperators.SUB;
+            case MUL -> VectorOperators.MUL;
+        };
+    }
+
+    private static VectorOperators.Comparison operator(ComparisonOp op) {
+        return switch (op) {
+            case EQ -> VectorOperators.EQ;
+            case NEQ -> VectorOperators.NE;
+            case GT -> VectorOperators.GT;
+            case GTE -> VectorOperators.GE;
+            case LT -> VectorOperators.LT;
+            case LTE -> VectorOperators.LE;
+        };
+    }
+}
@@ -21,6 +21,7 @@ import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BooleanBlock;
 import org.elasticsearch.compute.data.BytesRefBlock;
 import org.elasticsearch.compute.data.DoubleBlock;
+import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.data.IntBlock;
 import org.elasticsearch.compute.data.IntVector;
 import org.elasticsearch.compute.data.LongBlock;
@@ -618,6 +619,110 @@ public class BlockHashTests extends ESTestCase {
         }, blockFactory.newConstantNullBlock(values.length));
     }
 
+    public void testLongHashLookup() {
+        assumeFalse("packed hash doesn't support lookup", forcePackedHash);
+        DriverContext driverContext = new DriverContext(bigArrays, blockFactory);
+        try (
+            BlockHash hash = BlockHash.build(
+                List.of(new HashAggregationOperator.GroupSpec(0, ElementType.LONG)),
+                driverContext,
+                1000,
+                false
+            );
+            LongBlock added = blockFactory.newLongArrayVector(new long[] { 1, 2, 3, 2 }, 4).asBlock();
+            LongBlock.Builder probe = blockFactory.newLongBlockBuilder(5)
+        ) {
+            hash.add(new Page(added), new GroupingAggregatorFunction.AddInput() {
+                @Override
+                public void add(int positionOffset, IntBlock groupIds) {}
+
+                @Override
+                public void add(int positionOffset, IntVector groupIds) {}
+            });
+            probe.appendLong(2);
+            probe.appendLong(5);
+            probe.appendNull();
+            probe.beginPositionEntry().appendLong(1).appendLong(4).appendLong(3).endPositionEntry();
+            probe.beginPositionEntry().appendLong(1).appendLong(1).endPositionEntry();
+            try (LongBlock probeBlock = probe.build(); IntBlock groups = hash.lookup(new Page(probeBlock), blockFactory)) {
+                assertThat(groups.getPositionCount(), equalTo(5));
+                assertThat(groups.getInt(groups.getFirstValueIndex(0)), equalTo(2));
+                assertTrue(groups.isNull(1));
+                assertTrue(groups.isNull(2));
+                assertThat(groups.getValueCount(3), equalTo(2));
+                assertThat(groups.getInt(groups.getFirstValueIndex(3)), equalTo(1));
+                assertThat(groups.getInt(groups.getFirstValueIndex(3) + 1), equalTo(3));
+                assertThat(groups.getValueCount(4), equalTo(1));
+                assertThat(groups.getInt(groups.getFirstValueIndex(4)), equalTo(1));
+            }
+            // lookup doesn't add anything
+            assertThat(hash.toString(), equalTo("LongBlockHash{channel=0, entries=3, seenNull=false}"));
+        }
+    }
+
+    public void testBooleanHashLookup() {
+        assumeFalse("packed hash doesn't support lookup", forcePackedHash);
+        DriverContext driverContext = new DriverContext(bigArrays, blockFactory);
+        try (
+            BlockHash hash = BlockHash.build(
+                List.of(new HashAggregationOperator.GroupSpec(0, ElementType.BOOLEAN)),
+                driverContext,
+                1000,
+                false
+            );
+            BooleanBlock added = blockFactory.newConstantBooleanBlockWith(true, 2);
+            BooleanBlock.Builder probe = blockFactory.newBooleanBlockBuilder(4)
+        ) {
+            hash.add(new Page(added), new GroupingAggregatorFunction.AddInput() {
+                @Override
+                public void add(int positionOffset, IntBlock groupIds) {}
+
+                @Override
+                public void add(int positionOffset, IntVector groupIds) {}
+            });
+            probe.appendBoolean(true);
+            probe.appendBoolean(false);
+            probe.appendNull();
+            probe.beginPositionEntry().appendBoolean(false).appendBoolean(true).endPositionEntry();
+            try (BooleanBlock probeBlock = probe.build(); IntBlock groups = hash.lookup(new Page(probeBlock), blockFactory)) {
+                assertThat(groups.getPositionCount(), equalTo(4));
+                assertThat(groups.getInt(groups.getFirstValueIndex(0)), equalTo(2));
+                assertTrue(groups.isNull(1));
+                assertTrue(groups.isNull(2));
+                assertThat(groups.getValueCount(3), equalTo(1));
+                assertThat(groups.getInt(groups.getFirstValueIndex(3)), equalTo(2));
+            }
+        }
+    }
+
+    public void testNullHashLookup() {
+        assumeFalse("packed hash doesn't support lookup", forcePackedHash);
+        DriverContext driverContext = new DriverContext(bigArrays, blockFactory);
+        try (
+            BlockHash hash = BlockHash.build(
+                List.of(new HashAggregationOperator.GroupSpec(0, ElementType.NULL)),
+                driverContext,
+                1000,
+                false
+            );
+            Block added = blockFactory.newConstantNullBlock(3);
+            Block probe = blockFactory.newConstantNullBlock(2)
+        ) {
+            hash.add(new Page(added), new GroupingAggregatorFunction.AddInput() {
+                @Override
+                public void add(int positionOffset, IntBlock groupIds) {}
+
+                @Override
+                public void add(int positionOffset, IntVector groupIds) {}
+            });
+            try (IntBlock groups = hash.lookup(new Page(probe), blockFactory)) {
+                // null never matches, even null
+                assertThat(groups.getPositionCount(), equalTo(2));
+                assertTrue(groups.areAllValuesNull());
+            }
+        }
+    }
+
     public void testLongLongHash() {
         long[] values1 = new long[] { 0, 1, 0, 1, 0, 1 };
         long[] values2 = new long[] { 0, 0, 0, 1, 1, 1 };
@@ -20,13 +20,14 @@ import static org.hamcrest.Matchers.equalTo;
 
 public class LuceneSourceOperatorStatusTests extends AbstractWireSerializingTestCase<LuceneSourceOperator.Status> {
     public static LuceneSourceOperator.Status simple() {
-        return new LuceneSourceOperator.Status(2, Set.of("*:*"), new TreeSet<>(List.of("a:0", "a:1")), 0, 1, 5, 123, 99990, 8000);
+        return new LuceneSourceOperator.Status(2, 1, Set.of("*:*"), new TreeSet<>(List.of("a:0", "a:1")), 0, 1, 5, 123, 99990, 8000);
     }
 
     public static String simpleToJson() {
         return """
             {
               "processed_slices" : 2,
+              "stolen_slices" : 1,
               "processed_queries" : [
                 "*:*"
               ],
@@ -55,6 +56,7 @@ public class LuceneSourceOperatorStatusTests extends AbstractWireSerializingTest
     @Override
     public LuceneSourceOperator.Status createTestInstance() {
         return new LuceneSourceOperator.Status(
+            randomNonNegativeInt(),
             randomNonNegativeInt(),
             randomProcessedQueries(),
             randomProcessedShards(),
@@ -88,6 +90,7 @@ public class LuceneSourceOperatorStatusTests extends AbstractWireSerializingTest
     @Override
     protected LuceneSourceOperator.Status mutateInstance(LuceneSourceOperator.Status instance) {
         int processedSlices = instance.processedSlices();
+        int stolenSlices = instance.stolenSlices();
         Set<String> processedQueries = instance.processedQueries();
         Set<String> processedShards = instance.processedShards();
         int sliceIndex = instance.sliceIndex();
@@ -96,7 +99,7 @@ public class LuceneSourceOperatorStatusTests extends AbstractWireSerializingTest
         int sliceMin = instance.sliceMin();
         int sliceMax = instance.sliceMax();
         int current = instance.current();
-        switch (between(0, 8)) {
+        switch (between(0, 9)) {
             case 0 -> processedSlices = randomValueOtherThan(processedSlices, ESTestCase::randomNonNegativeInt);
             case 1 -> processedQueries = randomValueOtherThan(processedQueries, LuceneSourceOperatorStatusTests::randomProcessedQueries);
             case 2 -> processedShards = randomValueOtherThan(processedShards, LuceneSourceOperatorStatusTests::randomProcessedShards);
@@ -106,11 +109,13 @@ public class LuceneSourceOperatorStatusTests extends AbstractWireSerializingTest
             case 6 -> sliceMin = randomValueOtherThan(sliceMin, ESTestCase::randomNonNegativeInt);
             case 7 -> sliceMax = randomValueOtherThan(sliceMax, ESTestCase::randomNonNegativeInt);
             case 8 -> current = randomValueOtherThan(current, ESTestCase::randomNonNegativeInt);
+            case 9 -> stolenSlices = randomValueOtherThan(stolenSlices, ESTestCase::randomNonNegativeInt);
             default -> throw new UnsupportedOperationException();
         }
         ;
         return new LuceneSourceOperator.Status(
             processedSlices,
+            stolenSlices,
             processedQueries,
             processedShards,
             sliceIndex,
@@ -17,6 +17,8 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.elasticsearch.common.breaker.CircuitBreakingException;
+import org.elasticsearch.compute.data.DocBlock;
+import org.elasticsearch.compute.data.DocVector;
 import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.data.LongBlock;
 import org.elasticsearch.compute.data.Page;
@@ -38,8 +40,10 @@ import org.junit.After;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import static org.hamcrest.Matchers.both;
@@ -175,6 +179,66 @@ public class LuceneSourceOperatorTests extends AnyOperatorTestCase {
         assertThat(results, hasSize(both(greaterThanOrEqualTo(minPages)).and(lessThanOrEqualTo(maxPages))));
     }
 
+    public void testStealFromInFlightLeaf() throws IOException {
+        int numDocs = between(4 * LuceneSliceQueue.MIN_DOCS_TO_STEAL, 6 * LuceneSliceQueue.MIN_DOCS_TO_STEAL);
+        try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+            for (int d = 0; d < numDocs; d++) {
+                writer.addDocument(List.of(new SortedNumericDocValuesField("s", d)));
+            }
+            writer.forceMerge(1);
+            reader = writer.getReader();
+        }
+        ShardContext ctx = new MockShardContext(reader, 0);
+        LuceneSourceOperator.Factory factory = new LuceneSourceOperator.Factory(
+            List.of(ctx),
+            c -> new MatchAllDocsQuery(),
+            DataPartitioning.SHARD,
+            1,
+            100,
+            LuceneOperator.NO_LIMIT
+        );
+        DriverContext driverContext = driverContext();
+        List<LuceneOperator> operators = List.of(
+            (LuceneOperator) factory.get(driverContext),
+            (LuceneOperator) factory.get(driverContext)
+        );
+        Set<Integer> docs = new HashSet<>();
+        int collected = 0;
+        try {
+            // The first operator takes the only slice and the second steals the back half of it
+            collected += collectDocs(operators.get(0).getOutput(), docs);
+            collected += collectDocs(operators.get(1).getOutput(), docs);
+            assertThat(((LuceneOperator.Status) operators.get(0).status()).stolenSlices(), equalTo(0));
+            assertThat(((LuceneOperator.Status) operators.get(1).status()).stolenSlices(), equalTo(1));
+            while (operators.stream().anyMatch(o -> o.isFinished() == false)) {
+                for (LuceneOperator operator : operators) {
+                    if (operator.isFinished() == false) {
+                        collected += collectDocs(operator.getOutput(), docs);
+                    }
+                }
+            }
+        } finally {
+            IOUtils.close(operators);
+        }
+        assertThat(collected, equalTo(numDocs));
+        assertThat(docs, hasSize(numDocs));
+    }
+
+    private static int collectDocs(Page page, Set<Integer> docs) {
+        if (page == null) {
+            return 0;
+        }
+        try {
+            DocVector vector = ((DocBlock) page.getBlock(0)).asVector();
+            for (int p = 0; p < page.getPositionCount(); p++) {
+                docs.add(vector.docs().getInt(p));
+            }
+            return page.getPositionCount();
+        } finally {
+            page.releaseBlocks();
+        }
+    }
+
     /**
      * Creates a mock search context with the given index reader.
      * The returned mock search context can be used to test with {@link LuceneOperator}.
@@ -0,0 +1,291 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.lucene;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.DocBlock;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.ComputeTestCase;
+import org.elasticsearch.compute.operator.Driver;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.OperatorTestCase;
+import org.elasticsearch.compute.operator.PageConsumerOperator;
+import org.elasticsearch.index.mapper.BlockLoader;
+import org.elasticsearch.index.mapper.NumberFieldMapper;
+import org.elasticsearch.index.mapper.SourceLoader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ValuesSourceReaderCacheTests extends ComputeTestCase {
+    private static final BlockLoader LOADER = new NumberFieldMapper.NumberFieldType("v", NumberFieldMapper.NumberType.LONG).blockLoader(
+        null
+    );
+
+    /**
+     * Index {@code numDocs} docs where every third doc doesn't have a value.
+     */
+    private static DirectoryReader index(Directory directory, int numDocs) throws IOException {
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMaxBufferedDocs(between(10, numDocs + 10)))) {
+            for (int d = 0; d < numDocs; d++) {
+                Document doc = new Document();
+                if (d % 3 != 0) {
+                    doc.add(new NumericDocValuesField("v", d));
+                }
+                writer.addDocument(doc);
+            }
+            writer.commit();
+        }
+        return DirectoryReader.open(directory);
+    }
+
+    public void testRead() throws IOException {
+        BlockFactory blockFactory = blockFactory();
+        int numDocs = between(1, 10_000);
+        try (
+            Directory directory = newDirectory();
+            DirectoryReader reader = index(directory, numDocs);
+            ValuesSourceReaderCache cache = new ValuesSourceReaderCache(blockFactory(), Long.MAX_VALUE, between(1, 1000))
+        ) {
+            int[] firsts = new int[reader.leaves().size()];
+            int[] counts = new int[reader.leaves().size()];
+            for (int l = 0; l < firsts.length; l++) {
+                int maxDoc = reader.leaves().get(l).reader().maxDoc();
+                firsts[l] = between(0, maxDoc - 1);
+                counts[l] = between(1, maxDoc - firsts[l]);
+            }
+            long misses = 0;
+            for (int round = 0; round < 2; round++) {
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    int first = firsts[ctx.ord];
+                    int count = counts[ctx.ord];
+                    try (IntVector.Builder docsBuilder = blockFactory.newIntVectorBuilder(count)) {
+                        for (int d = first; d < first + count; d++) {
+                            docsBuilder.appendInt(d);
+                            if (randomBoolean() && randomBoolean()) {
+                                // the same doc twice
+                                docsBuilder.appendInt(d);
+                            }
+                        }
+                        try (
+                            IntVector docs = docsBuilder.build();
+                            LongBlock block = (LongBlock) cache.read(blockFactory, ctx, "v", ElementType.LONG, LOADER, docs)
+                        ) {
+                            assertThat(block.getPositionCount(), equalTo(docs.getPositionCount()));
+                            for (int p = 0; p < docs.getPositionCount(); p++) {
+                                int doc = ctx.docBase + docs.getInt(p);
+                                if (doc % 3 == 0) {
+                                    assertTrue(block.isNull(p));
+                                } else {
+                                    assertThat(block.getLong(block.getFirstValueIndex(p)), equalTo((long) doc));
+                                }
+                            }
+                        }
+                    }
+                }
+                if (round == 0) {
+                    misses = cache.misses();
+                    assertThat(misses, greaterThan(0L));
+                } else {
+                    // The second round reads the chunks that were cached in the first
+                    assertThat(cache.misses(), equalTo(misses));
+                }
+            }
+            assertThat(cache.lookups(), greaterThan(cache.misses()));
+        }
+    }
+
+    public void testBounded() throws IOException {
+        try (Directory directory = newDirectory(); DirectoryReader reader = index(directory, between(1000, 10_000))) {
+            long maxBytes = between(1, 10_000);
+            try (ValuesSourceReaderCache cache = new ValuesSourceReaderCache(blockFactory(), maxBytes, between(1, 100))) {
+                readAll(cache, reader);
+                assertThat(cache.ramBytesUsed(), lessThanOrEqualTo(maxBytes));
+            }
+        }
+    }
+
+    public void testOwnBreaker() throws IOException {
+        BlockFactory requestBlockFactory = blockFactory();
+        long maxBytes = between(10_000, 1_000_000);
+        ValuesSourceReaderCache cache = new ValuesSourceReaderCache(
+            ValuesSourceReaderCache.cacheBlockFactory(maxBytes, ByteSizeValue.ofKb(512)),
+            maxBytes,
+            between(1, 1000)
+        );
+        try (Directory directory = newDirectory(); DirectoryReader reader = index(directory, between(1000, 10_000))) {
+            try (cache) {
+                readAll(cache, reader, requestBlockFactory);
+                assertThat(cache.count(), greaterThan(0));
+                // the cached blocks are only tracked by the cache's breaker
+                assertThat(requestBlockFactory.breaker().getUsed(), equalTo(0L));
+                assertThat(cache.breaker().getUsed(), greaterThan(0L));
+                assertThat(cache.breaker().getLimit(), equalTo(2 * maxBytes));
+            }
+            assertThat(cache.breaker().getUsed(), equalTo(0L));
+        }
+    }
+
+    public void testDisabled() throws IOException {
+        try (
+            Directory directory = newDirectory();
+            DirectoryReader reader = index(directory, between(1, 1000));
+            ValuesSourceReaderCache cache = new ValuesSourceReaderCache(blockFactory(), 0)
+        ) {
+            assertFalse(cache.enabled());
+            try (IntVector docs = blockFactory().newConstantIntVector(0, 1)) {
+                assertThat(cache.read(blockFactory(), reader.leaves().get(0), "v", ElementType.LONG, LOADER, docs), nullValue());
+            }
+            assertThat(cache.lookups(), equalTo(0L));
+        }
+    }
+
+    public void testInvalidatedWhenSegmentCloses() throws IOException {
+        try (
+            Directory directory = newDirectory();
+            ValuesSourceReaderCache cache = new ValuesSourceReaderCache(blockFactory(), Long.MAX_VALUE)
+        ) {
+            try (DirectoryReader reader = index(directory, between(1, 10_000))) {
+                readAll(cache, reader);
+                assertThat(cache.count(), greaterThan(0));
+            }
+            assertThat(cache.count(), equalTo(0));
+            assertThat(cache.ramBytesUsed(), equalTo(0L));
+        }
+    }
+
+    public void testReaderHidingFieldsSkipsCache() throws IOException {
+        try (
+            Directory directory = newDirectory();
+            DirectoryReader reader = index(directory, between(1, 1000));
+            ValuesSourceReaderCache cache = new ValuesSourceReaderCache(blockFactory(), Long.MAX_VALUE)
+        ) {
+            LeafReader hiding = new FilterLeafReader(reader.leaves().get(0).reader()) {
+                @Override
+                public FieldInfos getFieldInfos() {
+                    return new FieldInfos(new FieldInfo[0]);
+                }
+
+                @Override
+                public CacheHelper getCoreCacheHelper() {
+                    return in.getCoreCacheHelper();
+                }
+
+                @Override
+                public CacheHelper getReaderCacheHelper() {
+                    return null;
+                }
+            };
+            try (IntVector docs = blockFactory().newConstantIntVector(0, 1)) {
+                assertThat(cache.read(blockFactory(), hiding.getContext(), "v", ElementType.LONG, LOADER, docs), nullValue());
+            }
+            assertThat(cache.count(), equalTo(0));
+        }
+    }
+
+    public void testOperator() throws IOException {
+        int numDocs = between(1, 10_000);
+        try (
+            Directory directory = newDirectory();
+            DirectoryReader reader = index(directory, numDocs);
+            ValuesSourceReaderCache cache = new ValuesSourceReaderCache(blockFactory(), Long.MAX_VALUE, between(1, 1000))
+        ) {
+            ValuesSourceReaderOperator.Status first = runOperator(reader, cache, numDocs);
+            long misses = cache.misses();
+            assertThat(misses, greaterThan(0L));
+            ValuesSourceReaderOperator.Status second = runOperator(reader, cache, numDocs);
+            assertThat(cache.misses(), equalTo(misses));
+            assertThat(first.readersBuilt(), hasKey("v:cached"));
+            assertThat(second.readersBuilt().get("v:cached"), equalTo(second.pagesProcessed()));
+        }
+    }
+
+    private void readAll(ValuesSourceReaderCache cache, IndexReader reader) throws IOException {
+        readAll(cache, reader, blockFactory());
+    }
+
+    private void readAll(ValuesSourceReaderCache cache, IndexReader reader, BlockFactory blockFactory) throws IOException {
+        for (LeafReaderContext ctx : reader.leaves()) {
+            int maxDoc = ctx.reader().maxDoc();
+            int[] range = new int[maxDoc];
+            for (int d = 0; d < maxDoc; d++) {
+                range[d] = d;
+            }
+            try (IntVector docs = blockFactory.newIntArrayVector(range, maxDoc)) {
+                var block = cache.read(blockFactory, ctx, "v", ElementType.LONG, LOADER, docs);
+                if (block != null) {
+                    block.close();
+                }
+            }
+        }
+    }
+
+    private ValuesSourceReaderOperator.Status runOperator(IndexReader reader, ValuesSourceReaderCache cache, int numDocs) {
+        DriverContext driverContext = new DriverContext(nonBreakingBigArrays(), blockFactory());
+        var source = new LuceneSourceOperator.Factory(
+            List.of(new LuceneSourceOperatorTests.MockShardContext(reader, 0)),
+            ctx -> new MatchAllDocsQuery(),
+            DataPartitioning.SHARD,
+            1,
+            between(1, 10_000),
+            LuceneOperator.NO_LIMIT
+        ).get(driverContext);
+        var load = new ValuesSourceReaderOperator.Factory(
+            List.of(new ValuesSourceReaderOperator.FieldInfo("v", ElementType.LONG, shard -> LOADER)),
+            List.of(new ValuesSourceReaderOperator.ShardContext(reader, () -> SourceLoader.FROM_STORED_SOURCE)),
+            0,
+            cache
+        ).get(driverContext);
+        List<Page> results = new ArrayList<>();
+        try (Driver driver = new Driver(driverContext, source, List.of(load), new PageConsumerOperator(results::add), () -> {})) {
+            OperatorTestCase.runDriver(driver);
+        }
+        int seen = 0;
+        for (Page page : results) {
+            IntVector docs = page.<DocBlock>getBlock(0).asVector().docs();
+            IntVector segments = page.<DocBlock>getBlock(0).asVector().segments();
+            LongBlock values = page.getBlock(1);
+            for (int p = 0; p < page.getPositionCount(); p++) {
+                int doc = reader.leaves().get(segments.getInt(p)).docBase + docs.getInt(p);
+                if (doc % 3 == 0) {
+                    assertTrue(values.isNull(p));
+                } else {
+                    assertThat(values.getLong(values.getFirstValueIndex(p)), equalTo((long) doc));
+                }
+            }
+            seen += page.getPositionCount();
+            page.releaseBlocks();
+        }
+        assertThat(seen, equalTo(numDocs));
+        return (ValuesSourceReaderOperator.Status) load.status();
+    }
+}
@@ -16,7 +16,9 @@ import org.elasticsearch.compute.aggregation.SumLongAggregatorFunctionSupplier;
 import org.elasticsearch.compute.aggregation.SumLongAggregatorFunctionTests;
 import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BlockTestUtils;
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.data.TestBlockFactory;
 
 import java.util.List;
 import java.util.stream.IntStream;
@@ -79,4 +81,47 @@ public class AggregationOperatorTests extends ForkingOperatorTestCase {
         sum.assertSimpleOutput(input.stream().map(p -> p.<Block>getBlock(0)).toList(), sums);
         max.assertSimpleOutput(input.stream().map(p -> p.<Block>getBlock(0)).toList(), maxs);
     }
+
+    public void testPartialResults() {
+        DriverContext driverContext = driverContext();
+        List<Page> input = CannedSourceOperator.collectPages(simpleInput(driverContext.blockFactory(), between(1_000, 10_000)));
+        List<Page> origInput = BlockTestUtils.deepCopyOf(input, TestBlockFactory.getNonBreakingInstance());
+        try (
+            AggregationOperator initial = (AggregationOperator) simpleWithMode(AggregatorMode.INITIAL).get(driverContext);
+            AggregationOperator last = (AggregationOperator) simpleWithMode(AggregatorMode.FINAL).get(driverContext)
+        ) {
+            for (Page page : input) {
+                initial.addInput(page);
+                assertNull("intermediate output can't be snapshotted", initial.snapshot());
+                initial.flush();
+                last.addInput(initial.getOutput());
+
+                last.flush();
+                assertNull("final output is never flushed", last.getOutput());
+            }
+            // nothing came in since the last flush so there's nothing to flush
+            initial.flush();
+            assertNull(initial.getOutput());
+
+            // the snapshot of the final aggregation covers everything it has seen so far
+            Page snapshot = last.snapshot();
+            try {
+                assertSimpleOutput(origInput, List.of(snapshot));
+            } finally {
+                snapshot.releaseBlocks();
+            }
+
+            // the flushed aggregators start over, so what's left merges into the same result
+            initial.finish();
+            last.addInput(initial.getOutput());
+            last.finish();
+            Page result = last.getOutput();
+            try {
+                assertSimpleOutput(origInput, List.of(result));
+            } finally {
+                result.releaseBlocks();
+            }
+        }
+        assertDriverContext(driverContext);
+    }
 }
@@ -17,9 +17,12 @@ import org.elasticsearch.common.util.PageCacheRecycler;
 import org.elasticsearch.common.util.concurrent.EsExecutors;
 import org.elasticsearch.common.util.concurrent.ThreadContext;
 import org.elasticsearch.common.util.set.Sets;
+import org.elasticsearch.compute.aggregation.AggregatorMode;
+import org.elasticsearch.compute.aggregation.SumLongAggregatorFunctionSupplier;
 import org.elasticsearch.compute.data.BasicBlockTests;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.LongBlock;
 import org.elasticsearch.compute.data.Page;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.test.ESTestCase;
@@ -28,6 +31,7 @@ import org.elasticsearch.threadpool.TestThreadPool;
 import org.elasticsearch.threadpool.ThreadPool;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,8 +39,14 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
 
 public class DriverTests extends ESTestCase {
 
@@ -106,6 +116,61 @@ public class DriverTests extends ESTestCase {
         }
     }
 
+    public void testPartialResults() {
+        DriverContext driverContext = driverContext();
+        BlockFactory blockFactory = driverContext.blockFactory();
+        List<Page> input = new ArrayList<>();
+        long total = 0;
+        int pages = between(2, 100);
+        for (int p = 0; p < pages; p++) {
+            long[] values = LongStream.range(0, between(1, 100)).map(i -> randomLongBetween(0, 1000)).toArray();
+            total += LongStream.of(values).sum();
+            input.add(new Page(blockFactory.newLongArrayVector(values, values.length).asBlock()));
+        }
+        List<Page> results = Collections.synchronizedList(new ArrayList<>());
+        List<Long> snapshots = Collections.synchronizedList(new ArrayList<>());
+        Driver driver = new Driver(
+            "test",
+            driverContext,
+            () -> "test",
+            new CannedSourceOperator(input.iterator()),
+            List.of(
+                new AggregationOperator.AggregationOperatorFactory(
+                    List.of(new SumLongAggregatorFunctionSupplier(List.of(0)).aggregatorFactory(AggregatorMode.INITIAL)),
+                    AggregatorMode.INITIAL
+                ).get(driverContext),
+                new AggregationOperator.AggregationOperatorFactory(
+                    List.of(new SumLongAggregatorFunctionSupplier(List.of(0, 1)).aggregatorFactory(AggregatorMode.FINAL)),
+                    AggregatorMode.FINAL
+                ).get(driverContext),
+                new LimitOperator(between(1, 10))
+            ),
+            new OutputOperator(List.of("sum"), Function.identity(), results::add, page -> {
+                LongBlock sum = page.getBlock(0);
+                snapshots.add(sum.isNull(0) ? 0 : sum.getLong(0));
+                page.releaseBlocks();
+            }),
+            Driver.DEFAULT_STATUS_INTERVAL,
+            TimeValue.timeValueNanos(1),
+            () -> {}
+        );
+        OperatorTestCase.runDriver(driver);
+
+        assertThat(results.size(), equalTo(1));
+        LongBlock sum = results.get(0).getBlock(0);
+        assertThat(sum.getLong(0), equalTo(total));
+        results.get(0).releaseBlocks();
+        // the intermediate state is flushed whenever a snapshot is taken and the final sum only grows
+        assertThat(snapshots, not(empty()));
+        long previous = 0;
+        for (long snapshot : snapshots) {
+            assertThat(snapshot, greaterThanOrEqualTo(previous));
+            assertThat(snapshot, lessThanOrEqualTo(total));
+            previous = snapshot;
+        }
+        assertThat(driverContext.breaker().getUsed(), equalTo(0L));
+    }
+
     private static void assertRunningWithRegularUser(ThreadPool threadPool) {
         String user = threadPool.getThreadContext().getHeader("user");
         assertThat(user, equalTo("user1"));
@@ -7,6 +7,7 @@
 
 package org.elasticsearch.compute.operator;
 
+import org.elasticsearch.common.collect.Iterators;
 import org.elasticsearch.compute.aggregation.AggregatorMode;
 import org.elasticsearch.compute.aggregation.MaxLongAggregatorFunction;
 import org.elasticsearch.compute.aggregation.MaxLongAggregatorFunctionSupplier;
@@ -16,16 +17,23 @@ import org.elasticsearch.compute.aggregation.SumLongAggregatorFunctionSupplier;
 import org.elasticsearch.compute.aggregation.SumLongGroupingAggregatorFunctionTests;
 import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BlockTestUtils;
 import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.data.LongBlock;
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.data.TestBlockFactory;
+import org.elasticsearch.core.Releasables;
 import org.elasticsearch.core.Tuple;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.LongStream;
 
 import static java.util.stream.IntStream.range;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 
 public class HashAggregationOperatorTests extends ForkingOperatorTestCase {
@@ -40,6 +48,10 @@ public class HashAggregationOperatorTests extends ForkingOperatorTestCase {
 
     @Override
     protected Operator.OperatorFactory simpleWithMode(AggregatorMode mode) {
+        return withMode(mode, null);
+    }
+
+    private Operator.OperatorFactory withMode(AggregatorMode mode, SpillConfig spillConfig) {
         List<Integer> sumChannels, maxChannels;
         if (mode.isInputPartial()) {
             int sumChannelCount = SumLongAggregatorFunction.intermediateStateDesc().size();
@@ -56,7 +68,8 @@ public class HashAggregationOperatorTests extends ForkingOperatorTestCase {
                 new SumLongAggregatorFunctionSupplier(sumChannels).groupingAggregatorFactory(mode),
                 new MaxLongAggregatorFunctionSupplier(maxChannels).groupingAggregatorFactory(mode)
             ),
-            randomPageSize()
+            randomPageSize(),
+            spillConfig
         );
     }
 
@@ -90,4 +103,123 @@ public class HashAggregationOperatorTests extends ForkingOperatorTestCase {
             max.assertSimpleGroup(input, maxs, i, group);
         }
     }
+
+    public void testSpill() {
+        DriverContext driverContext = driverContext();
+        List<Page> input = CannedSourceOperator.collectPages(simpleInput(driverContext.blockFactory(), between(1_000, 10_000)));
+        List<Page> origInput = BlockTestUtils.deepCopyOf(input, TestBlockFactory.getNonBreakingInstance());
+        // spill as soon as the operators have any state at all
+        SpillConfig spillConfig = new SpillConfig(createTempDir(), Double.MIN_VALUE, 0, between(1, 8));
+        List<Page> results = drive(
+            List.of(
+                withMode(AggregatorMode.INITIAL, null).get(driverContext),
+                withMode(AggregatorMode.INTERMEDIATE, spillConfig).get(driverContext),
+                withMode(AggregatorMode.FINAL, spillConfig).get(driverContext)
+            ),
+            input.iterator(),
+            driverContext
+        );
+        try {
+            SumLongGroupingAggregatorFunctionTests sum = new SumLongGroupingAggregatorFunctionTests();
+            MaxLongGroupingAggregatorFunctionTests max = new MaxLongGroupingAggregatorFunctionTests();
+            Set<Long> seen = new HashSet<>();
+            for (Page page : results) {
+                assertThat(page.getBlockCount(), equalTo(3));
+                LongBlock groups = page.getBlock(0);
+                for (int i = 0; i < page.getPositionCount(); i++) {
+                    long group = groups.getLong(i);
+                    assertTrue("group [" + group + "] emitted twice", seen.add(group));
+                    sum.assertSimpleGroup(origInput, page.getBlock(1), i, group);
+                    max.assertSimpleGroup(origInput, page.getBlock(2), i, group);
+                }
+            }
+            assertThat(seen, equalTo(Set.of(0L, 1L, 2L, 3L, 4L)));
+        } finally {
+            Releasables.closeExpectNoException(Releasables.wrap(() -> Iterators.map(results.iterator(), p -> p::releaseBlocks)));
+        }
+        assertDriverContext(driverContext);
+    }
+
+    public void testRepartitionSpilledPartition() {
+        DriverContext driverContext = driverContext();
+        int groups = between(50, 500);
+        List<Page> input = CannedSourceOperator.collectPages(
+            new TupleBlockSourceOperator(
+                driverContext.blockFactory(),
+                LongStream.range(0, between(1_000, 10_000)).mapToObj(l -> Tuple.tuple(l % groups, randomLongBetween(-1000, 1000)))
+            )
+        );
+        List<Page> origInput = BlockTestUtils.deepCopyOf(input, TestBlockFactory.getNonBreakingInstance());
+        /*
+         * Every spilled partition is bigger than the threshold so we split it
+         * again when reading it back, all the way down to the deepest level.
+         */
+        SpillConfig spillConfig = new SpillConfig(createTempDir(), Double.MIN_VALUE, 0, between(2, 4));
+        HashAggregationOperator last = (HashAggregationOperator) withMode(AggregatorMode.FINAL, spillConfig).get(driverContext);
+        List<Page> results = drive(
+            List.of(withMode(AggregatorMode.INITIAL, null).get(driverContext), last),
+            input.iterator(),
+            driverContext
+        );
+        try {
+            assertThat(last.repartitions(), greaterThan(0));
+            SumLongGroupingAggregatorFunctionTests sum = new SumLongGroupingAggregatorFunctionTests();
+            MaxLongGroupingAggregatorFunctionTests max = new MaxLongGroupingAggregatorFunctionTests();
+            Set<Long> seen = new HashSet<>();
+            for (Page page : results) {
+                LongBlock keys = page.getBlock(0);
+                for (int i = 0; i < page.getPositionCount(); i++) {
+                    long group = keys.getLong(i);
+                    assertTrue("group [" + group + "] emitted twice", seen.add(group));
+                    sum.assertSimpleGroup(origInput, page.getBlock(1), i, group);
+                    max.assertSimpleGroup(origInput, page.getBlock(2), i, group);
+                }
+            }
+            assertThat(seen, hasSize(groups));
+        } finally {
+            Releasables.closeExpectNoException(Releasables.wrap(() -> Iterators.map(results.iterator(), p -> p::releaseBlocks)));
+        }
+        assertDriverContext(driverContext);
+    }
+
+    public void testPartialResults() {
+        DriverContext driverContext = driverContext();
+        List<Page> input = CannedSourceOperator.collectPages(simpleInput(driverContext.blockFactory(), between(1_000, 10_000)));
+        List<Page> origInput = BlockTestUtils.deepCopyOf(input, TestBlockFactory.getNonBreakingInstance());
+        List<Page> results = new ArrayList<>();
+        try (
+            Operator initial = withMode(AggregatorMode.INITIAL, null).get(driverContext);
+            Operator last = withMode(AggregatorMode.FINAL, null).get(driverContext)
+        ) {
+            PartialOutputOperator partialInitial = (PartialOutputOperator) initial;
+            PartialOutputOperator partialFinal = (PartialOutputOperator) last;
+            for (Page page : input) {
+                initial.addInput(page);
+                assertNull("intermediate output can't be snapshotted", partialInitial.snapshot());
+                partialInitial.flush();
+                last.addInput(initial.getOutput());
+
+                partialFinal.flush();
+                assertNull("final output is never flushed", last.getOutput());
+            }
+            // the snapshot of the final aggregation covers everything it has seen so far
+            Page snapshot = partialFinal.snapshot();
+            try {
+                assertSimpleOutput(origInput, List.of(snapshot));
+            } finally {
+                snapshot.releaseBlocks();
+            }
+
+            initial.finish();
+            Page rest = initial.getOutput();
+            assertThat(rest.getPositionCount(), equalTo(0));
+            rest.releaseBlocks();
+            last.finish();
+            results.add(last.getOutput());
+            assertSimpleOutput(origInput, results);
+        } finally {
+            Releasables.closeExpectNoException(Releasables.wrap(() -> Iterators.map(results.iterator(), p -> p::releaseBlocks)));
+        }
+        assertDriverContext(driverContext);
+    }
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BooleanBlock;
+import org.elasticsearch.compute.data.DoubleBlock;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.EvalKernels.ArithmeticOp;
+import org.elasticsearch.compute.operator.EvalKernels.ComparisonOp;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class VectorizedBinaryEvaluatorTests extends ComputeTestCase {
+    private static final List<EvalKernels> KERNELS = List.of(new ScalarEvalKernels(), EvalKernels.instance());
+
+    public void testIntArithmetic() {
+        int length = between(0, 1000);
+        int[] lhs = new int[length];
+        int[] rhs = new int[length];
+        for (int i = 0; i < length; i++) {
+            lhs[i] = between(-10_000, 10_000);
+            rhs[i] = between(-10_000, 10_000);
+        }
+        int constant = between(-10_000, 10_000);
+        for (EvalKernels kernels : KERNELS) {
+            for (ArithmeticOp op : ArithmeticOp.values()) {
+                int[] result = new int[length];
+                assertTrue(kernels.applyExact(op, lhs, rhs, result, length));
+                for (int i = 0; i < length; i++) {
+                    assertThat(kernels.name() + " " + op, result[i], equalTo(apply(op, lhs[i], rhs[i])));
+                }
+                assertTrue(kernels.applyExact(op, lhs, constant, result, length));
+                for (int i = 0; i < length; i++) {
+                    assertThat(kernels.name() + " " + op, result[i], equalTo(apply(op, lhs[i], constant)));
+                }
+            }
+        }
+    }
+
+    public void testIntOverflow() {
+        int length = between(1, 1000);
+        int[] lhs = new int[length];
+        int[] rhs = new int[length];
+        lhs[between(0, length - 1)] = Integer.MAX_VALUE;
+        for (EvalKernels kernels : KERNELS) {
+            assertFalse(kernels.name(), kernels.applyExact(ArithmeticOp.ADD, lhs, 1, new int[length], length));
+            assertFalse(kernels.name(), kernels.applyExact(ArithmeticOp.SUB, rhs, Integer.MIN_VALUE, new int[length], length));
+            assertFalse(kernels.name(), kernels.applyExact(ArithmeticOp.MUL, lhs, 2, new int[length], length));
+        }
+    }
+
+    public void testLongArithmetic() {
+        int length = between(0, 1000);
+        long[] lhs = new long[length];
+        long[] rhs = new long[length];
+        for (int i = 0; i < length; i++) {
+            lhs[i] = randomIntBetween(-10_000, 10_000);
+            rhs[i] = randomIntBetween(-10_000, 10_000);
+        }
+        long constant = randomIntBetween(-10_000, 10_000);
+        for (EvalKernels kernels : KERNELS) {
+            for (ArithmeticOp op : ArithmeticOp.values()) {
+                long[] result = new long[length];
+                assertTrue(kernels.applyExact(op, lhs, rhs, result, length));
+                for (int i = 0; i < length; i++) {
+                    assertThat(kernels.name() + " " + op, result[i], equalTo(apply(op, lhs[i], rhs[i])));
+                }
+                assertTrue(kernels.applyExact(op, lhs, constant, result, length));
+                for (int i = 0; i < length; i++) {
+                    assertThat(kernels.name() + " " + op, result[i], equalTo(apply(op, lhs[i], constant)));
+                }
+            }
+        }
+    }
+
+    public void testLongOverflow() {
+        int length = between(1, 1000);
+        long[] lhs = new long[length];
+        long[] rhs = new long[length];
+        int overflow = between(0, length - 1);
+        lhs[overflow] = Long.MIN_VALUE;
+        rhs[overflow] = 1;
+        for (EvalKernels kernels : KERNELS) {
+            assertFalse(kernels.name(), kernels.applyExact(ArithmeticOp.SUB, lhs, rhs, new long[length], length));
+            assertFalse(kernels.name(), kernels.applyExact(ArithmeticOp.SUB, lhs, 1L, new long[length], length));
+            assertFalse(kernels.name(), kernels.applyExact(ArithmeticOp.ADD, lhs, -1L, new long[length], length));
+            assertFalse(kernels.name(), kernels.applyExact(ArithmeticOp.MUL, lhs, 2L, new long[length], length));
+        }
+    }
+
+    public void testDoubleArithmetic() {
+        int length = between(0, 1000);
+        double[] lhs = new double[length];
+        double[] rhs = new double[length];
+        for (int i = 0; i < length; i++) {
+            lhs[i] = randomDouble();
+            rhs[i] = randomBoolean() ? Double.NaN : randomDouble();
+        }
+        double constant = randomDouble();
+        for (EvalKernels kernels : KERNELS) {
+            for (ArithmeticOp op : ArithmeticOp.values()) {
+                double[] result = new double[length];
+                kernels.apply(op, lhs, rhs, result, length);
+                for (int i = 0; i < length; i++) {
+                    assertThat(kernels.name() + " " + op, result[i], equalTo(apply(op, lhs[i], rhs[i])));
+                }
+                kernels.apply(op, lhs, constant, result, length);
+                for (int i = 0; i < length; i++) {
+                    assertThat(kernels.name() + " " + op, result[i], equalTo(apply(op, lhs[i], constant)));
+                }
+            }
+        }
+    }
+
+    public void testComparisons() {
+        int length = between(0, 1000);
+        int[] ints = new int[length];
+        long[] longs = new long[length];
+        double[] doubles = new double[length];
+        for (int i = 0; i < length; i++) {
+            ints[i] = between(-10, 10);
+            longs[i] = between(-10, 10);
+            doubles[i] = rarely() ? Double.NaN : between(-10, 10);
+        }
+        int constant = between(-10, 10);
+        for (EvalKernels kernels : KERNELS) {
+            for (ComparisonOp op : ComparisonOp.values()) {
+                String message = kernels.name() + " " + op;
+                boolean[] result = new boolean[length];
+                kernels.compare(op, ints, constant, result, length);
+                for (int i = 0; i < length; i++) {
+                    assertThat(message, result[i], equalTo(compare(op, ints[i], constant)));
+                }
+                kernels.compare(op, longs, longs, result, length);
+                for (int i = 0; i < length; i++) {
+                    assertThat(message, result[i], equalTo(compare(op, longs[i], longs[i])));
+                }
+                kernels.compare(op, longs, constant, result, length);
+                for (int i = 0; i < length; i++) {
+                    assertThat(message, result[i], equalTo(compare(op, longs[i], constant)));
+                }
+                kernels.compare(op, doubles, doubles, result, length);
+                for (int i = 0; i < length; i++) {
+                    assertThat(message, result[i], equalTo(compare(op, doubles[i], doubles[i])));
+                }
+                kernels.compare(op, doubles, constant, result, length);
+                for (int i = 0; i < length; i++) {
+                    assertThat(message, result[i], equalTo(compare(op, doubles[i], constant)));
+                }
+            }
+        }
+    }
+
+    public void testDenseLongs() {
+        BlockFactory blockFactory = blockFactory();
+        DriverContext context = new DriverContext(blockFactory.bigArrays(), blockFactory);
+        int positions = between(2, 1000);
+        try (LongBlock.Builder lhs = blockFactory.newLongBlockBuilder(positions)) {
+            for (int p = 0; p < positions; p++) {
+                lhs.appendLong(p);
+            }
+            Page page = new Page(lhs.build(), blockFactory.newConstantLongBlockWith(10, positions));
+            try (
+                EvalOperator.ExpressionEvaluator eval = VectorizedBinaryEvaluator.arithmetic(
+                    ArithmeticOp.SUB,
+                    ElementType.LONG,
+                    c -> new LoadFromPage(0),
+                    c -> new LoadFromPage(1),
+                    (l, r) -> c -> new MustNotEvaluate()
+                ).get(context);
+                LongBlock result = (LongBlock) eval.eval(page)
+            ) {
+                for (int p = 0; p < positions; p++) {
+                    assertThat(result.getLong(p), equalTo(p - 10L));
+                }
+            } finally {
+                page.releaseBlocks();
+            }
+        }
+    }
+
+    public void testDenseComparison() {
+        BlockFactory blockFactory = blockFactory();
+        DriverContext context = new DriverContext(blockFactory.bigArrays(), blockFactory);
+        int positions = between(2, 1000);
+        try (DoubleBlock.Builder lhs = blockFactory.newDoubleBlockBuilder(positions)) {
+            for (int p = 0; p < positions; p++) {
+                lhs.appendDouble(p);
+            }
+            Page page = new Page(lhs.build(), blockFactory.newConstantDoubleBlockWith(100, positions));
+            try (
+                EvalOperator.ExpressionEvaluator eval = VectorizedBinaryEvaluator.comparison(
+                    ComparisonOp.LT,
+                    ElementType.DOUBLE,
+                    c -> new LoadFromPage(1),
+                    c -> new LoadFromPage(0),
+                    (l, r) -> c -> new MustNotEvaluate()
+                ).get(context);
+                BooleanBlock result = (BooleanBlock) eval.eval(page)
+            ) {
+                for (int p = 0; p < positions; p++) {
+                    assertThat(result.getBoolean(p), equalTo(100 < p));
+                }
+            } finally {
+                page.releaseBlocks();
+            }
+        }
+    }
+
+    public void testFallsBackForNulls() {
+        BlockFactory blockFactory = blockFactory();
+        DriverContext context = new DriverContext(blockFactory.bigArrays(), blockFactory);
+        int positions = between(1, 1000);
+        int nullPosition = between(0, positions - 1);
+        try (
+            IntBlock.Builder lhs = blockFactory.newIntBlockBuilder(positions);
+            IntBlock.Builder rhs = blockFactory.newIntBlockBuilder(positions)
+        ) {
+            for (int p = 0; p < positions; p++) {
+                if (p == nullPosition) {
+                    lhs.appendNull();
+                } else {
+                    lhs.appendInt(p);
+                }
+                rhs.appendInt(1);
+            }
+            Page page = new Page(lhs.build(), rhs.build());
+            try (
+                EvalOperator.ExpressionEvaluator eval = VectorizedBinaryEvaluator.arithmetic(
+                    ArithmeticOp.ADD,
+                    ElementType.INT,
+                    c -> new LoadFromPage(0),
+                    c -> new LoadFromPage(1),
+                    (l, r) -> c -> new AddInts(c, l.get(c), r.get(c))
+                ).get(context);
+                IntBlock result = (IntBlock) eval.eval(page)
+            ) {
+                for (int p = 0; p < positions; p++) {
+                    if (p == nullPosition) {
+                        assertTrue(result.isNull(p));
+                    } else {
+                        assertThat(result.getInt(result.getFirstValueIndex(p)), equalTo(p + 1));
+                    }
+                }
+            } finally {
+                page.releaseBlocks();
+            }
+        }
+    }
+
+    public void testFallsBackForOverflow() {
+        BlockFactory blockFactory = blockFactory();
+        DriverContext context = new DriverContext(blockFactory.bigArrays(), blockFactory);
+        int positions = between(1, 1000);
+        try (IntBlock.Builder lhs = blockFactory.newIntBlockBuilder(positions)) {
+            for (int p = 0; p < positions; p++) {
+                lhs.appendInt(Integer.MAX_VALUE - p);
+            }
+            Page page = new Page(lhs.build(), blockFactory.newConstantIntBlockWith(1, positions));
+            try (
+                EvalOperator.ExpressionEvaluator eval = VectorizedBinaryEvaluator.arithmetic(
+                    ArithmeticOp.ADD,
+                    ElementType.INT,
+                    c -> new LoadFromPage(0),
+                    c -> new LoadFromPage(1),
+                    (l, r) -> c -> new AddInts(c, l.get(c), r.get(c))
+                ).get(context);
+                IntBlock result = (IntBlock) eval.eval(page)
+            ) {
+                assertTrue(result.isNull(0));
+                for (int p = 1; p < positions; p++) {
+                    assertThat(result.getInt(result.getFirstValueIndex(p)), equalTo(Integer.MAX_VALUE - p + 1));
+                }
+            } finally {
+                page.releaseBlocks();
+            }
+        }
+    }
+
+    public void testResultIsAccounted() {
+        BlockFactory blockFactory = blockFactory();
+        DriverContext context = new DriverContext(blockFactory.bigArrays(), blockFactory);
+        int positions = between(1, 1000);
+        try (LongBlock.Builder lhs = blockFactory.newLongBlockBuilder(positions)) {
+            for (int p = 0; p < positions; p++) {
+                lhs.appendLong(p);
+            }
+            Page page = new Page(lhs.build(), blockFactory.newConstantLongBlockWith(2, positions));
+            long usedBefore = blockFactory.breaker().getUsed();
+            try (
+                EvalOperator.ExpressionEvaluator eval = VectorizedBinaryEvaluator.arithmetic(
+                    ArithmeticOp.MUL,
+                    ElementType.LONG,
+                    c -> new LoadFromPage(0),
+                    c -> new LoadFromPage(1),
+                    (l, r) -> c -> new MustNotEvaluate()
+                ).get(context);
+                LongBlock result = (LongBlock) eval.eval(page)
+            ) {
+                assertThat(blockFactory.breaker().getUsed() - usedBefore, equalTo(result.ramBytesUsed()));
+            } finally {
+                page.releaseBlocks();
+            }
+        }
+    }
+
+    public void testDisabled() {
+        BlockFactory blockFactory = blockFactory();
+        DriverContext context = new DriverContext(blockFactory.bigArrays(), blockFactory, false);
+        int positions = between(1, 1000);
+        try (IntBlock.Builder lhs = blockFactory.newIntBlockBuilder(positions)) {
+            for (int p = 0; p < positions; p++) {
+                lhs.appendInt(p);
+            }
+            Page page = new Page(lhs.build(), blockFactory.newConstantIntBlockWith(1, positions));
+            try (
+                EvalOperator.ExpressionEvaluator eval = VectorizedBinaryEvaluator.arithmetic(
+                    ArithmeticOp.ADD,
+                    ElementType.INT,
+                    c -> new LoadFromPage(0),
+                    c -> new LoadFromPage(1),
+                    (l, r) -> c -> new AddInts(c, l.get(c), r.get(c))
+                ).get(context);
+                IntBlock result = (IntBlock) eval.eval(page)
+            ) {
+                assertThat(eval, instanceOf(AddInts.class));
+                for (int p = 0; p < positions; p++) {
+                    assertThat(result.getInt(result.getFirstValueIndex(p)), equalTo(p + 1));
+                }
+            } finally {
+                page.releaseBlocks();
+            }
+        }
+    }
+
+    /**
+     * Per-position addition that turns nulls and overflow into {@code null}.
+     */
+    private record AddInts(DriverContext context, EvalOperator.ExpressionEvaluator lhs, EvalOperator.ExpressionEvaluator rhs)
+        implements
+            EvalOperator.ExpressionEvaluator {
+        @Override
+        public Block eval(Page page) {
+            try (
+                IntBlock l = (IntBlock) lhs.eval(page);
+                IntBlock r = (IntBlock) rhs.eval(page);
+                IntBlock.Builder result = context.blockFactory().newIntBlockBuilder(page.getPositionCount())
+            ) {
+                for (int p = 0; p < page.getPositionCount(); p++) {
+                    if (l.isNull(p) || r.isNull(p)) {
+                        result.appendNull();
+                        continue;
+                    }
+                    try {
+                        result.appendInt(Math.addExact(l.getInt(l.getFirstValueIndex(p)), r.getInt(r.getFirstValueIndex(p))));
+                    } catch (ArithmeticException e) {
+                        result.appendNull();
+                    }
+                }
+                return result.build();
+            }
+        }
+
+        @Override
+        public void close() {
+            lhs.close();
+            rhs.close();
+        }
+    }
+
+    /**
+     * The scalar path for tests that should only ever hit the dense path.
+     */
+    private static class MustNotEvaluate implements EvalOperator.ExpressionEvaluator {
+        @Override
+        public Block eval(Page page) {
+            throw new AssertionError("dense input shouldn't use the scalar path");
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private record LoadFromPage(int channel) implements EvalOperator.ExpressionEvaluator {
+        @Override
+        public Block eval(Page page) {
+            Block block = page.getBlock(channel);
+            block.incRef();
+            return block;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static int apply(ArithmeticOp op, int lhs, int rhs) {
+        return switch (op) {
+            case ADD -> lhs + rhs;
+            case SUB -> lhs - rhs;
+            case MUL -> lhs * rhs;
+        };
+    }
+
+    private static long apply(ArithmeticOp op, long lhs, long rhs) {
+        return switch (op) {
+            case ADD -> lhs + rhs;
+            case SUB -> lhs - rhs;
+            case MUL -> lhs * rhs;
+        };
+    }
+
+    private static double apply(ArithmeticOp op, double lhs, double rhs) {
+        return switch (op) {
+            case ADD -> lhs + rhs;
+            case SUB -> lhs - rhs;
+            case MUL -> lhs * rhs;
+        };
+    }
+
+    private static boolean compare(ComparisonOp op, long lhs, long rhs) {
+        return switch (op) {
+            case EQ -> lhs == rhs;
+            case NEQ -> lhs != rhs;
+            case GT -> lhs > rhs;
+            case GTE -> lhs >= rhs;
+            case LT -> lhs < rhs;
+            case LTE -> lhs <= rhs;
+        };
+    }
+
+    private static boolean compare(ComparisonOp op, double lhs, double rhs) {
+        return switch (op) {
+            case EQ -> lhs == rhs;
+            case NEQ -> lhs != rhs;
+            case GT -> lhs > rhs;
+            case GTE -> lhs >= rhs;
+            case LT -> lhs < rhs;
+            case LTE -> lhs <= rhs;
+        };
+    }
+}
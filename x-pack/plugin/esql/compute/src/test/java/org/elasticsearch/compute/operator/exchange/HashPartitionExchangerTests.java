@@ -0,0 +1,201 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.exchange;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.breaker.CircuitBreakingException;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BytesRefBlock;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.ComputeTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class HashPartitionExchangerTests extends ComputeTestCase {
+    public void testKeysLandInOnePartition() {
+        BlockFactory blockFactory = blockFactory();
+        int partitions = between(2, 8);
+        HashPartitionExchanger exchanger = new HashPartitionExchanger(partitions, new int[] { 0, 1 }, 1000);
+        List<ExchangeSource> sources = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            sources.add(exchanger.createExchangeSource());
+        }
+        expectThrows(IllegalStateException.class, exchanger::createExchangeSource);
+
+        ExchangeSink sink = exchanger.createExchangeSink();
+        Map<String, Long> expectedSums = new HashMap<>();
+        int pages = between(1, 20);
+        for (int p = 0; p < pages; p++) {
+            int positions = between(1, 500);
+            try (
+                LongBlock.Builder longs = blockFactory.newLongBlockBuilder(positions);
+                BytesRefBlock.Builder strings = blockFactory.newBytesRefBlockBuilder(positions);
+                LongBlock.Builder values = blockFactory.newLongBlockBuilder(positions)
+            ) {
+                for (int i = 0; i < positions; i++) {
+                    long l = between(0, 50);
+                    String s = randomFrom("a", "b", "c");
+                    long v = randomLong() % 1000;
+                    longs.appendLong(l);
+                    strings.appendBytesRef(new BytesRef(s));
+                    values.appendLong(v);
+                    expectedSums.merge(l + s, v, Long::sum);
+                }
+                sink.addPage(new Page(longs.build(), strings.build(), values.build()));
+            }
+        }
+        sink.finish();
+        assertTrue(sink.isFinished());
+
+        Map<String, Long> actualSums = new HashMap<>();
+        Set<String> seenInOtherPartitions = new HashSet<>();
+        BytesRef scratch = new BytesRef();
+        for (ExchangeSource source : sources) {
+            Set<String> keys = new HashSet<>();
+            Page page;
+            while ((page = source.pollPage()) != null) {
+                try {
+                    LongBlock longs = page.getBlock(0);
+                    BytesRefBlock strings = page.getBlock(1);
+                    LongBlock values = page.getBlock(2);
+                    for (int i = 0; i < page.getPositionCount(); i++) {
+                        String key = longs.getLong(i) + strings.getBytesRef(i, scratch).utf8ToString();
+                        keys.add(key);
+                        actualSums.merge(key, values.getLong(i), Long::sum);
+                    }
+                } finally {
+                    page.releaseBlocks();
+                }
+            }
+            assertTrue(source.isFinished());
+            for (String key : keys) {
+                assertFalse("key [" + key + "] in more than one partition", seenInOtherPartitions.contains(key));
+            }
+            seenInOtherPartitions.addAll(keys);
+        }
+        assertThat(actualSums, equalTo(expectedSums));
+    }
+
+    public void testGather() {
+        BlockFactory blockFactory = blockFactory();
+        HashPartitionExchanger exchanger = new HashPartitionExchanger(1, new int[0], 1000);
+        int sinkCount = between(1, 5);
+        List<ExchangeSink> sinks = new ArrayList<>();
+        for (int i = 0; i < sinkCount; i++) {
+            sinks.add(exchanger.createExchangeSink());
+        }
+        ExchangeSource source = exchanger.createExchangeSource();
+        long expected = 0;
+        for (ExchangeSink sink : sinks) {
+            long v = randomLong();
+            expected += v;
+            sink.addPage(new Page(blockFactory.newConstantLongBlockWith(v, 1)));
+        }
+        for (int i = 0; i < sinkCount - 1; i++) {
+            sinks.get(i).finish();
+        }
+        assertFalse(source.isFinished());
+        sinks.get(sinkCount - 1).finish();
+
+        long actual = 0;
+        Page page;
+        while ((page = source.pollPage()) != null) {
+            try {
+                actual += ((LongBlock) page.getBlock(0)).getLong(0);
+            } finally {
+                page.releaseBlocks();
+            }
+        }
+        assertThat(actual, equalTo(expected));
+        assertTrue(source.isFinished());
+    }
+
+    public void testSourceFinishedEarlyDiscardsPages() {
+        BlockFactory blockFactory = blockFactory();
+        HashPartitionExchanger exchanger = new HashPartitionExchanger(1, new int[0], 1000);
+        ExchangeSink sink = exchanger.createExchangeSink();
+        ExchangeSource source = exchanger.createExchangeSource();
+        sink.addPage(new Page(blockFactory.newConstantLongBlockWith(1, 10)));
+        source.finish();
+        assertTrue(source.isFinished());
+        assertTrue(sink.isFinished());
+        // pages added after the source finished are released right away
+        sink.addPage(new Page(blockFactory.newConstantLongBlockWith(1, 10)));
+        assertThat(source.pollPage(), nullValue());
+        sink.finish();
+    }
+
+    public void testBlocksWhenAPartitionIsFull() {
+        BlockFactory blockFactory = blockFactory();
+        HashPartitionExchanger exchanger = new HashPartitionExchanger(2, new int[] { 0 }, 1);
+        ExchangeSink sink = exchanger.createExchangeSink();
+        ExchangeSource first = exchanger.createExchangeSource();
+        ExchangeSource second = exchanger.createExchangeSource();
+        assertTrue(sink.waitForWriting().isDone());
+        // all rows have the same key so they go to a single partition
+        sink.addPage(new Page(blockFactory.newConstantLongBlockWith(randomLong(), between(1, 100))));
+        assertFalse(sink.waitForWriting().isDone());
+        Page page = first.pollPage();
+        if (page == null) {
+            page = second.pollPage();
+        }
+        page.releaseBlocks();
+        assertTrue(sink.waitForWriting().isDone());
+        sink.finish();
+        assertTrue(first.isFinished());
+        assertTrue(second.isFinished());
+    }
+
+    public void testCrankyBreaker() {
+        BlockFactory blockFactory = crankyBlockFactory();
+        int partitions = between(2, 8);
+        HashPartitionExchanger exchanger = new HashPartitionExchanger(partitions, new int[] { 0 }, 1000);
+        List<ExchangeSource> sources = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            sources.add(exchanger.createExchangeSource());
+        }
+        ExchangeSink sink = exchanger.createExchangeSink();
+        int pages = between(1, 20);
+        for (int p = 0; p < pages; p++) {
+            int positions = between(1, 500);
+            Page page;
+            try {
+                try (LongBlock.Builder longs = blockFactory.newLongBlockBuilder(positions)) {
+                    for (int i = 0; i < positions; i++) {
+                        longs.appendLong(between(0, 50));
+                    }
+                    page = new Page(longs.build());
+                }
+            } catch (CircuitBreakingException e) {
+                continue;
+            }
+            try {
+                sink.addPage(page);
+            } catch (CircuitBreakingException e) {
+                // the sink releases the page when it can't split it
+            }
+        }
+        sink.finish();
+        for (ExchangeSource source : sources) {
+            Page page;
+            while ((page = source.pollPage()) != null) {
+                page.releaseBlocks();
+            }
+            assertTrue(source.isFinished());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.join;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BytesRefBlock;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.ComputeTestCase;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.Operator;
+import org.elasticsearch.compute.operator.SinkOperator;
+import org.elasticsearch.tasks.TaskCancelledException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class HashJoinOperatorTests extends ComputeTestCase {
+    public void testInnerJoin() {
+        testJoin(HashJoinOperator.JoinType.INNER);
+    }
+
+    public void testLeftJoin() {
+        testJoin(HashJoinOperator.JoinType.LEFT);
+    }
+
+    private void testJoin(HashJoinOperator.JoinType joinType) {
+        DriverContext driverContext = driverContext();
+        BlockFactory blockFactory = driverContext.blockFactory();
+        HashJoinBridge bridge = new HashJoinBridge();
+        int maxPageSize = between(1, 100);
+        List<String> expected = new ArrayList<>();
+        List<String> actual = new ArrayList<>();
+
+        long nextId = 0;
+        List<Long> buildKeys = new ArrayList<>();
+        List<String> buildValues = new ArrayList<>();
+        try (
+            SinkOperator build = new HashJoinBuildOperator.Factory(bridge, 0, List.of(ElementType.LONG, ElementType.BYTES_REF)).get(
+                driverContext
+            );
+            Operator probe = new HashJoinOperator.Factory(bridge, 1, joinType, maxPageSize).get(driverContext)
+        ) {
+            assertFalse(probe.isBlocked().isDone());
+            assertFalse(probe.needsInput());
+
+            int buildPages = between(0, 5);
+            for (int p = 0; p < buildPages; p++) {
+                int positions = between(1, 100);
+                try (
+                    LongBlock.Builder keys = blockFactory.newLongBlockBuilder(positions);
+                    BytesRefBlock.Builder values = blockFactory.newBytesRefBlockBuilder(positions)
+                ) {
+                    for (int i = 0; i < positions; i++) {
+                        Long key = randomBoolean() ? null : (long) between(0, 50);
+                        String value = randomAlphaOfLength(5);
+                        if (key == null) {
+                            keys.appendNull();
+                        } else {
+                            keys.appendLong(key);
+                        }
+                        values.appendBytesRef(new BytesRef(value));
+                        buildKeys.add(key);
+                        buildValues.add(value);
+                    }
+                    build.addInput(new Page(keys.build(), values.build()));
+                }
+            }
+            build.finish();
+            assertTrue(probe.isBlocked().isDone());
+
+            int probePages = between(1, 5);
+            for (int p = 0; p < probePages; p++) {
+                int positions = between(1, 100);
+                try (
+                    LongBlock.Builder ids = blockFactory.newLongBlockBuilder(positions);
+                    LongBlock.Builder keys = blockFactory.newLongBlockBuilder(positions)
+                ) {
+                    for (int i = 0; i < positions; i++) {
+                        long id = nextId++;
+                        ids.appendLong(id);
+                        Long key = randomBoolean() ? null : (long) between(0, 100);
+                        if (key == null) {
+                            keys.appendNull();
+                        } else {
+                            keys.appendLong(key);
+                        }
+                        boolean matched = false;
+                        for (int b = 0; b < buildKeys.size(); b++) {
+                            if (key != null && key.equals(buildKeys.get(b))) {
+                                expected.add(id + ":" + key + ":" + buildKeys.get(b) + ":" + buildValues.get(b));
+                                matched = true;
+                            }
+                        }
+                        if (matched == false && joinType == HashJoinOperator.JoinType.LEFT) {
+                            expected.add(id + ":" + key + ":null:null");
+                        }
+                    }
+                    assertTrue(probe.needsInput());
+                    probe.addInput(new Page(ids.build(), keys.build()));
+                }
+                Page out;
+                while ((out = probe.getOutput()) != null) {
+                    readInto(actual, out, maxPageSize);
+                }
+                assertTrue(probe.needsInput());
+            }
+            probe.finish();
+            assertTrue(probe.isFinished());
+        }
+        assertThat(actual, containsInAnyOrder(expected.toArray()));
+    }
+
+    public void testEmptyBuildSide() {
+        DriverContext driverContext = driverContext();
+        HashJoinBridge bridge = new HashJoinBridge();
+        try (
+            SinkOperator build = new HashJoinBuildOperator.Factory(bridge, 0, List.of(ElementType.LONG)).get(driverContext);
+            Operator probe = new HashJoinOperator.Factory(bridge, 0, HashJoinOperator.JoinType.INNER, 100).get(driverContext)
+        ) {
+            build.finish();
+            probe.addInput(new Page(driverContext.blockFactory().newConstantLongBlockWith(1, 10)));
+            assertThat(probe.getOutput(), equalTo(null));
+            probe.finish();
+            assertTrue(probe.isFinished());
+        }
+    }
+
+    public void testBuildClosedBeforeFinishing() {
+        DriverContext driverContext = driverContext();
+        HashJoinBridge bridge = new HashJoinBridge();
+        Operator probe = new HashJoinOperator.Factory(bridge, 0, HashJoinOperator.JoinType.INNER, 100).get(driverContext);
+        try (SinkOperator build = new HashJoinBuildOperator.Factory(bridge, 0, List.of(ElementType.LONG)).get(driverContext)) {
+            build.addInput(new Page(driverContext.blockFactory().newConstantLongBlockWith(1, 10)));
+        }
+        // the build driver reports the real failure, the probe fails as cancelled so that one wins
+        assertTrue(probe.isBlocked().isDone());
+        Page page = new Page(driverContext.blockFactory().newConstantLongBlockWith(1, 10));
+        Exception e = expectThrows(TaskCancelledException.class, () -> probe.addInput(page));
+        assertThat(e.getMessage(), equalTo("build side of the join closed before it finished"));
+        probe.close();
+    }
+
+    private static void readInto(List<String> actual, Page page, int maxPageSize) {
+        try {
+            assertThat(page.getPositionCount(), lessThanOrEqualTo(maxPageSize));
+            assertThat(page.getBlockCount(), equalTo(4));
+            LongBlock ids = page.getBlock(0);
+            LongBlock keys = page.getBlock(1);
+            LongBlock buildKeys = page.getBlock(2);
+            BytesRefBlock buildValues = page.getBlock(3);
+            BytesRef scratch = new BytesRef();
+            for (int i = 0; i < page.getPositionCount(); i++) {
+                actual.add(
+                    ids.getLong(i)
+                        + ":"
+                        + (keys.isNull(i) ? "null" : keys.getLong(i))
+                        + ":"
+                        + (buildKeys.isNull(i) ? "null" : buildKeys.getLong(i))
+                        + ":"
+                        + (buildValues.isNull(i) ? "null" : buildValues.getBytesRef(i, scratch).utf8ToString())
+                );
+            }
+        } finally {
+            page.releaseBlocks();
+        }
+    }
+
+    private DriverContext driverContext() {
+        BlockFactory blockFactory = blockFactory();
+        return new DriverContext(blockFactory.bigArrays(), blockFactory);
+    }
+}
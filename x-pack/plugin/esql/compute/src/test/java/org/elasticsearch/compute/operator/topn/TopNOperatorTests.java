@@ -32,6 +32,7 @@ import org.elasticsearch.compute.operator.OperatorTestCase;
 import org.elasticsearch.compute.operator.PageConsumerOperator;
 import org.elasticsearch.compute.operator.SequenceLongBlockSourceOperator;
 import org.elasticsearch.compute.operator.SourceOperator;
+import org.elasticsearch.compute.operator.SpillConfig;
 import org.elasticsearch.compute.operator.TupleBlockSourceOperator;
 import org.elasticsearch.core.Tuple;
 import org.elasticsearch.indices.CrankyCircuitBreakerService;
@@ -273,6 +274,65 @@ public class TopNOperatorTests extends OperatorTestCase {
         assertThat(topNLong(values, 100, false, true), equalTo(Arrays.asList(null, null, 100L, 20L, 10L, 5L, 4L, 4L, 2L, 1L)));
     }
 
+    public void testSnapshot() {
+        DriverContext driverContext = driverContext();
+        int limit = between(1, 20);
+        boolean asc = randomBoolean();
+        Comparator<Long> comparator = asc ? naturalOrder() : reverseOrder();
+        List<Long> seen = new ArrayList<>();
+        try (
+            TopNOperator op = new TopNOperator(
+                driverContext.blockFactory(),
+                driverContext.breaker(),
+                limit,
+                List.of(LONG),
+                List.of(DEFAULT_UNSORTABLE),
+                List.of(new TopNOperator.SortOrder(0, asc, false)),
+                pageSize
+            )
+        ) {
+            assertNull("nothing to snapshot yet", op.snapshot());
+            int pages = between(1, 10);
+            for (int p = 0; p < pages; p++) {
+                long[] values = LongStream.range(0, between(1, 100)).map(i -> randomLong()).toArray();
+                Arrays.stream(values).forEach(seen::add);
+                op.addInput(new Page(driverContext.blockFactory().newLongArrayVector(values, values.length).asBlock()));
+
+                List<Long> expected = seen.stream().sorted(comparator).limit(limit).toList();
+                Page snapshot = op.snapshot();
+                try {
+                    assertThat(readLongs(snapshot), equalTo(expected));
+                } finally {
+                    snapshot.releaseBlocks();
+                }
+            }
+
+            // taking snapshots doesn't change the result
+            op.finish();
+            List<Long> results = new ArrayList<>();
+            Page page;
+            while ((page = op.getOutput()) != null) {
+                try {
+                    results.addAll(readLongs(page));
+                } finally {
+                    page.releaseBlocks();
+                }
+            }
+            assertThat(results, equalTo(seen.stream().sorted(comparator).limit(limit).toList()));
+            assertNull("finished operators don't snapshot", op.snapshot());
+        }
+        assertThat(driverContext.breaker().getUsed(), equalTo(0L));
+    }
+
+    private static List<Long> readLongs(Page page) {
+        LongBlock block = page.getBlock(0);
+        List<Long> values = new ArrayList<>(block.getPositionCount());
+        for (int i = 0; i < block.getPositionCount(); i++) {
+            values.add(block.getLong(i));
+        }
+        return values;
+    }
+
     private List<Long> topNLong(
         DriverContext driverContext,
         List<Long> inputValues,
@@ -1431,6 +1491,77 @@ public class TopNOperatorTests extends OperatorTestCase {
         }
     }
 
+    public void testSpill() {
+        int maxPageSize = between(1, 100);
+        int topCount = between(1, 1000);
+        int docCount = between(1, 5000);
+        boolean asc = randomBoolean();
+        List<Long> values = LongStream.range(0, docCount).mapToObj(i -> randomLongBetween(-1000, 1000)).toList();
+        // spill as soon as the operator has any rows at all
+        SpillConfig spillConfig = new SpillConfig(createTempDir(), Double.MIN_VALUE, 0, 1);
+        CircuitBreaker breaker = new MockBigArrays.LimitedBreaker(CircuitBreaker.REQUEST, ByteSizeValue.ofGb(1));
+        List<List<Object>> actual = new ArrayList<>();
+        DriverContext driverContext = driverContext();
+        TopNOperator op = new TopNOperator(
+            driverContext.blockFactory(),
+            breaker,
+            topCount,
+            List.of(LONG),
+            List.of(DEFAULT_UNSORTABLE),
+            List.of(new TopNOperator.SortOrder(0, asc, randomBoolean())),
+            maxPageSize,
+            spillConfig
+        );
+        try (
+            Driver driver = new Driver(
+                driverContext,
+                new SequenceLongBlockSourceOperator(driverContext.blockFactory(), values, between(1, 100)),
+                List.of(op),
+                new PageConsumerOperator(p -> {
+                    assertThat(p.getPositionCount(), lessThanOrEqualTo(maxPageSize));
+                    readInto(actual, p);
+                }),
+                () -> {}
+            )
+        ) {
+            runDriver(driver);
+            assertThat(op.spilledRuns(), greaterThan(0));
+        }
+
+        List<Long> expected = values.stream().sorted(asc ? naturalOrder() : reverseOrder()).limit(topCount).toList();
+        assertMap(actual, matchesList().item(expected));
+        assertThat(breaker.getUsed(), equalTo(0L));
+    }
+
+    public void testCloseWithoutCompletingAfterSpill() {
+        CircuitBreaker breaker = new MockBigArrays.LimitedBreaker(CircuitBreaker.REQUEST, ByteSizeValue.ofGb(1));
+        try (
+            TopNOperator op = new TopNOperator(
+                driverContext().blockFactory(),
+                breaker,
+                2,
+                List.of(INT),
+                List.of(DEFAULT_UNSORTABLE),
+                List.of(new TopNOperator.SortOrder(0, randomBoolean(), randomBoolean())),
+                randomPageSize(),
+                new SpillConfig(createTempDir(), Double.MIN_VALUE, 0, 1)
+            )
+        ) {
+            op.addInput(new Page(blockFactory().newIntArrayVector(new int[] { 1, 2, 3 }, 3).asBlock()));
+            op.addInput(new Page(blockFactory().newIntArrayVector(new int[] { 4, 5 }, 2).asBlock()));
+            assertThat(op.spilledRuns(), equalTo(2));
+            // the best rows are on disk so there isn't a snapshot
+            assertNull(op.snapshot());
+            if (randomBoolean()) {
+                op.finish();
+                Page page = op.getOutput();
+                assertThat(page.getPositionCount(), both(greaterThan(0)).and(lessThanOrEqualTo(2)));
+                page.releaseBlocks();
+            }
+        }
+        assertThat(breaker.getUsed(), equalTo(0L));
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static void readAsRows(List<List<List<Object>>> values, Page page) {
         if (page.getBlockCount() == 0) {
@@ -34,8 +34,12 @@ import static org.elasticsearch.core.TimeValue.timeValueSeconds;
 import static org.elasticsearch.test.hamcrest.OptionalMatchers.isEmpty;
 import static org.elasticsearch.test.hamcrest.OptionalMatchers.isPresent;
 import static org.elasticsearch.xpack.esql.EsqlTestUtils.getValuesList;
+import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 
 /**
@@ -112,6 +116,48 @@ public class AsyncEsqlQueryActionIT extends AbstractPausableIntegTestCase {
         }
     }
 
+    public void testPartialResults() throws Exception {
+        QueryPragmas pragmas = new QueryPragmas(
+            Settings.builder().put(queryPragmas().getSettings()).put(QueryPragmas.PARTIAL_RESULTS_INTERVAL.getKey(), "1nanos").build()
+        );
+        try (var initialResponse = sendAsyncQuery(pragmas)) {
+            assertThat(initialResponse.isRunning(), is(true));
+            String id = initialResponse.asyncExecutionId().get();
+
+            // let the data node get through a couple of pages so it flushes its partial sum to the coordinator
+            scriptPermits.release(2 * pageSize());
+            var getResultsRequest = new GetAsyncResultRequest(id);
+            getResultsRequest.setWaitForCompletionTimeout(timeValueMillis(1));
+            getResultsRequest.setKeepAlive(randomKeepAlive());
+            assertBusy(() -> {
+                try (var response = client().execute(EsqlAsyncGetResultAction.INSTANCE, getResultsRequest).get()) {
+                    assertThat(response.isRunning(), is(true));
+                    assertThat(response.isPartial(), is(true));
+                    List<List<Object>> values = getValuesList(response);
+                    assertThat(values, hasSize(1));
+                    assertThat((long) values.get(0).get(0), both(greaterThan(0L)).and(lessThan((long) numberOfDocs())));
+                }
+            });
+            // every fetch copies the partial results into a new response that has to give its memory back
+            int fetches = between(1, 10);
+            for (int i = 0; i < fetches; i++) {
+                try (var response = client().execute(EsqlAsyncGetResultAction.INSTANCE, getResultsRequest).get()) {
+                    assertThat(response.isRunning(), is(true));
+                }
+            }
+
+            scriptPermits.release(numberOfDocs());
+            getResultsRequest.setWaitForCompletionTimeout(timeValueSeconds(60));
+            try (var finalResponse = client().execute(EsqlAsyncGetResultAction.INSTANCE, getResultsRequest).get()) {
+                assertThat(finalResponse.isRunning(), is(false));
+                assertThat(getValuesList(finalResponse), equalTo(List.of(List.of((long) numberOfDocs()))));
+            }
+        } finally {
+            scriptPermits.drainPermits();
+        }
+        ensureBlocksReleased();
+    }
+
     public void testAsyncCancellation() throws Exception {
         try (var initialResponse = sendAsyncQuery()) {
             assertThat(initialResponse.asyncExecutionId(), isPresent());
@@ -213,11 +259,14 @@ public class AsyncEsqlQueryActionIT extends AbstractPausableIntegTestCase {
     }
 
     private EsqlQueryResponse sendAsyncQuery() {
+        return sendAsyncQuery(queryPragmas());
+    }
+
+    private EsqlQueryResponse sendAsyncQuery(QueryPragmas pragmas) {
         scriptPermits.drainPermits();
         assert scriptPermits.availablePermits() == 0;
 
         scriptPermits.release(between(1, 5));
-        var pragmas = queryPragmas();
         return EsqlQueryRequestBuilder.newAsyncEsqlQueryRequestBuilder(client())
             .query("from test | stats sum(pause_me)")
             .pragmas(pragmas)
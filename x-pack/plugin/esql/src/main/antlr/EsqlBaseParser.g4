@@ -40,6 +40,7 @@ processingCommand
     | grokCommand
     | enrichCommand
     | mvExpandCommand
+    | lookupCommand
     ;
 
 whereCommand
@@ -248,6 +249,10 @@ enrichWithClause
     : (newName=qualifiedNamePattern ASSIGN)? enrichField=qualifiedNamePattern
     ;
 
+lookupCommand
+    : LOOKUP tableName=ENRICH_POLICY_NAME ON matchField=qualifiedNamePattern
+    ;
+
 setting
     : OPENING_BRACKET name=SETTING COLON value=SETTING CLOSING_BRACKET
     ;
@@ -26,6 +26,8 @@ import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
 import org.elasticsearch.core.Releasables;
 import org.elasticsearch.xcontent.ToXContent;
+import org.elasticsearch.xcontent.ToXContentObject;
+import org.elasticsearch.xcontent.XContentBuilder;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -49,6 +51,8 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
     private final boolean isRunning;
     // True if this response is as a result of an async query request
     private final boolean isAsync;
+    // Only set on the partial results of a running async query
+    private final Progress progress;
 
     public EsqlQueryResponse(
         List<ColumnInfo> columns,
@@ -58,6 +62,19 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
         @Nullable String asyncExecutionId,
         boolean isRunning,
         boolean isAsync
+    ) {
+        this(columns, pages, profile, columnar, asyncExecutionId, isRunning, isAsync, null);
+    }
+
+    public EsqlQueryResponse(
+        List<ColumnInfo> columns,
+        List<Page> pages,
+        @Nullable Profile profile,
+        boolean columnar,
+        @Nullable String asyncExecutionId,
+        boolean isRunning,
+        boolean isAsync,
+        @Nullable Progress progress
     ) {
         this.columns = columns;
         this.pages = pages;
@@ -66,6 +83,7 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
         this.asyncExecutionId = asyncExecutionId;
         this.isRunning = isRunning;
         this.isAsync = isAsync;
+        this.progress = progress;
     }
 
     public EsqlQueryResponse(List<ColumnInfo> columns, List<Page> pages, @Nullable Profile profile, boolean columnar, boolean isAsync) {
@@ -84,18 +102,22 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
         boolean isRunning = false;
         boolean isAsync = false;
         Profile profile = null;
+        Progress progress = null;
         if (in.getTransportVersion().onOrAfter(TransportVersions.ESQL_ASYNC_QUERY)) {
             asyncExecutionId = in.readOptionalString();
             isRunning = in.readBoolean();
             isAsync = in.readBoolean();
         }
+        if (in.getTransportVersion().onOrAfter(TransportVersions.ESQL_ASYNC_PROGRESS)) {
+            progress = in.readOptionalWriteable(Progress::new);
+        }
         List<ColumnInfo> columns = in.readCollectionAsList(ColumnInfo::new);
         List<Page> pages = in.readCollectionAsList(Page::new);
         if (in.getTransportVersion().onOrAfter(TransportVersions.ESQL_PROFILE)) {
             profile = in.readOptionalWriteable(Profile::new);
         }
         boolean columnar = in.readBoolean();
-        return new EsqlQueryResponse(columns, pages, profile, columnar, asyncExecutionId, isRunning, isAsync);
+        return new EsqlQueryResponse(columns, pages, profile, columnar, asyncExecutionId, isRunning, isAsync, progress);
     }
 
     @Override
@@ -105,6 +127,9 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
             out.writeBoolean(isRunning);
             out.writeBoolean(isAsync);
         }
+        if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_ASYNC_PROGRESS)) {
+            out.writeOptionalWriteable(progress);
+        }
         out.writeCollection(columns);
         out.writeCollection(pages);
         if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_PROFILE)) {
@@ -117,7 +142,7 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
         return columns;
     }
 
-    List<Page> pages() {
+    public List<Page> pages() {
         return pages;
     }
 
@@ -146,6 +171,19 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
         return isRunning;
     }
 
+    /**
+     * Are these the results of an async query that is still running? If so
+     * {@link #values()} holds the rows that the query had produced so far.
+     */
+    public boolean isPartial() {
+        return progress != null;
+    }
+
+    @Nullable
+    public Progress progress() {
+        return progress;
+    }
+
     private Iterator<? extends ToXContent> asyncPropertiesOrEmpty() {
         if (isAsync) {
             return ChunkedToXContentHelper.singleChunk((builder, params) -> {
@@ -153,6 +191,10 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
                     builder.field("id", asyncExecutionId);
                 }
                 builder.field("is_running", isRunning);
+                if (progress != null) {
+                    builder.field("is_partial", true);
+                    builder.field("progress", progress);
+                }
                 return builder;
             });
         } else {
@@ -214,6 +256,7 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
         return Objects.equals(columns, that.columns)
             && Objects.equals(asyncExecutionId, that.asyncExecutionId)
             && Objects.equals(isRunning, that.isRunning)
+            && Objects.equals(progress, that.progress)
             && columnar == that.columnar
             && Iterators.equals(values(), that.values(), (row1, row2) -> Iterators.equals(row1, row2, Objects::equals))
             && Objects.equals(profile, that.profile);
@@ -224,6 +267,7 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
         return Objects.hash(
             asyncExecutionId,
             isRunning,
+            progress,
             columns,
             Iterators.hashCode(values(), row -> Iterators.hashCode(row, Objects::hashCode)),
             columnar
@@ -310,4 +354,29 @@ public class EsqlQueryResponse extends ActionResponse implements ChunkedToXConte
             return drivers;
         }
     }
+
+    /**
+     * How far along a running async query is.
+     * @param totalShards the number of shards the query runs against in the local cluster
+     * @param completedShards the number of those shards that have finished
+     */
+    public record Progress(int totalShards, int completedShards) implements Writeable, ToXContentObject {
+        public Progress(StreamInput in) throws IOException {
+            this(in.readVInt(), in.readVInt());
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(totalShards);
+            out.writeVInt(completedShards);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("total_shards", totalShards);
+            builder.field("completed_shards", completedShards);
+            return builder.endObject();
+        }
+    }
 }
@@ -7,15 +7,51 @@
 
 package org.elasticsearch.xpack.esql.action;
 
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BlockUtils;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Releasables;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.tasks.TaskId;
 import org.elasticsearch.xpack.core.async.AsyncExecutionId;
 import org.elasticsearch.xpack.core.async.StoredAsyncTask;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * The task of an async ES|QL query. While the query runs it tracks the pages
+ * the coordinator has produced and how many shards have finished so that
+ * fetching the results of a running query returns the rows produced so far.
+ * Queries that don't produce any pages until they finish, like {@code STATS},
+ * periodically send a snapshot of their results instead.
+ * <p>
+ *     The pages belong to the final response so {@link #getCurrentResult()} copies
+ *     them. {@link #stopCollecting()} must be called before that response is built,
+ *     after which partial results don't contain any rows.
+ * </p>
+ */
 public class EsqlQueryTask extends StoredAsyncTask<EsqlQueryResponse> {
+    private final BlockFactory blockFactory;
+    private final AtomicInteger totalShards = new AtomicInteger();
+    private final AtomicInteger completedShards = new AtomicInteger();
+    private volatile List<ColumnInfo> columns = List.of();
+    private volatile boolean columnar;
+    /**
+     * Pages produced by the coordinator. Guarded by {@code this}.
+     */
+    private final List<Page> collectedPages = new ArrayList<>();
+    /**
+     * The latest snapshot of the results, owned by this task. Guarded by {@code this}.
+     */
+    private Page snapshot;
+    /**
+     * Set when the query is done with its pages. Guarded by {@code this}.
+     */
+    private boolean stoppedCollecting;
 
     public EsqlQueryTask(
         long id,
@@ -26,13 +62,108 @@ public class EsqlQueryTask extends StoredAsyncTask<EsqlQueryResponse> {
         Map<String, String> headers,
         Map<String, String> originHeaders,
         AsyncExecutionId asyncExecutionId,
-        TimeValue keepAlive
+        TimeValue keepAlive,
+        BlockFactory blockFactory
     ) {
         super(id, type, action, description, parentTaskId, headers, originHeaders, asyncExecutionId, keepAlive);
+        this.blockFactory = blockFactory;
+    }
+
+    /**
+     * Set the columns of the result once the query is planned.
+     */
+    public void setColumns(List<ColumnInfo> columns, boolean columnar) {
+        this.columnar = columnar;
+        this.columns = columns;
+    }
+
+    /**
+     * Track a page of results produced by the coordinator.
+     */
+    public synchronized void onPage(Page page) {
+        if (stoppedCollecting == false) {
+            collectedPages.add(page);
+        }
+    }
+
+    /**
+     * Replace the snapshot of the results computed so far. This task takes ownership of the page.
+     */
+    public synchronized void onSnapshot(Page page) {
+        if (stoppedCollecting) {
+            page.releaseBlocks();
+            return;
+        }
+        Page previous = snapshot;
+        snapshot = page;
+        if (previous != null) {
+            previous.releaseBlocks();
+        }
+    }
+
+    /**
+     * Stop tracking pages because the query is about to hand them to its final response or release them.
+     */
+    public synchronized void stopCollecting() {
+        stoppedCollecting = true;
+        collectedPages.clear();
+        if (snapshot != null) {
+            Page previous = snapshot;
+            snapshot = null;
+            previous.releaseBlocks();
+        }
+    }
+
+    /**
+     * Add shards that the query will run against.
+     */
+    public void addShards(int count) {
+        totalShards.addAndGet(count);
+    }
+
+    /**
+     * Record that the query finished running on some shards.
+     */
+    public void onShardsCompleted(int count) {
+        completedShards.addAndGet(count);
     }
 
     @Override
     public EsqlQueryResponse getCurrentResult() {
-        return new EsqlQueryResponse(List.of(), List.of(), null, false, getExecutionId().getEncoded(), true, true);
+        EsqlQueryResponse.Progress progress = new EsqlQueryResponse.Progress(totalShards.get(), completedShards.get());
+        return new EsqlQueryResponse(columns, copyPages(), null, columnar, getExecutionId().getEncoded(), true, true, progress);
+    }
+
+    private synchronized List<Page> copyPages() {
+        List<Page> pages = collectedPages.isEmpty() && snapshot != null ? List.of(snapshot) : collectedPages;
+        List<Page> copies = new ArrayList<>(pages.size());
+        boolean success = false;
+        try {
+            for (Page page : pages) {
+                copies.add(copy(page));
+            }
+            success = true;
+            return copies;
+        } finally {
+            if (success == false) {
+                copies.forEach(p -> Releasables.closeExpectNoException(p::releaseBlocks));
+            }
+        }
+    }
+
+    private Page copy(Page page) {
+        Block[] blocks = new Block[page.getBlockCount()];
+        boolean success = false;
+        try {
+            for (int b = 0; b < blocks.length; b++) {
+                blocks[b] = BlockUtils.deepCopyOf(page.getBlock(b), blockFactory);
+            }
+            success = true;
+            return new Page(page.getPositionCount(), blocks);
+        } finally {
+            if (success == false) {
+                Releasables.closeExpectNoException(blocks);
+            }
+        }
     }
 }
@@ -19,6 +19,8 @@ import org.elasticsearch.rest.RestResponse;
 import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.rest.action.RestRefCountedChunkedToXContentListener;
 import org.elasticsearch.xcontent.MediaType;
+import org.elasticsearch.xpack.esql.formatter.ArrowFormat;
+import org.elasticsearch.xpack.esql.formatter.ArrowResponse;
 import org.elasticsearch.xpack.esql.formatter.TextFormat;
 import org.elasticsearch.xpack.esql.plugin.EsqlMediaTypeParser;
 
@@ -129,7 +131,9 @@ public final class EsqlResponseListener extends RestRefCountedChunkedToXContentL
         final Releasable releasable = releasableFromResponse(esqlResponse);
         try {
             RestResponse restResponse;
-            if (mediaType instanceof TextFormat format) {
+            if (mediaType == ArrowFormat.ARROW) {
+                restResponse = RestResponse.chunked(RestStatus.OK, new ArrowResponse(esqlResponse), releasable);
+            } else if (mediaType instanceof TextFormat format) {
                 restResponse = RestResponse.chunked(
                     RestStatus.OK,
                     ChunkedRestResponseBody.fromTextChunks(format.contentType(restRequest), format.format(restRequest, esqlResponse)),
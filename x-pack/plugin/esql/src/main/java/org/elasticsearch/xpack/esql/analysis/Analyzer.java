@@ -19,6 +19,7 @@ import org.elasticsearch.xpack.esql.plan.logical.Enrich;
 import org.elasticsearch.xpack.esql.plan.logical.EsqlUnresolvedRelation;
 import org.elasticsearch.xpack.esql.plan.logical.Eval;
 import org.elasticsearch.xpack.esql.plan.logical.Keep;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.logical.MvExpand;
 import org.elasticsearch.xpack.esql.plan.logical.Rename;
 import org.elasticsearch.xpack.esql.plan.logical.local.EsqlProject;
@@ -43,6 +44,7 @@ import org.elasticsearch.xpack.ql.expression.UnresolvedStar;
 import org.elasticsearch.xpack.ql.expression.function.UnresolvedFunction;
 import org.elasticsearch.xpack.ql.expression.predicate.operator.comparison.BinaryComparison;
 import org.elasticsearch.xpack.ql.index.EsIndex;
+import org.elasticsearch.xpack.ql.index.IndexResolution;
 import org.elasticsearch.xpack.ql.plan.TableIdentifier;
 import org.elasticsearch.xpack.ql.plan.logical.Aggregate;
 import org.elasticsearch.xpack.ql.plan.logical.EsRelation;
@@ -96,6 +98,7 @@ public class Analyzer extends ParameterizedRuleExecutor<LogicalPlan, AnalyzerCon
             "Resolution",
             new ResolveTable(),
             new ResolveEnrich(),
+            new ResolveLookup(),
             new ResolveRefs(),
             new ResolveFunctions(),
             new RemoveDuplicateProjections()
@@ -288,6 +291,42 @@ public class Analyzer extends ParameterizedRuleExecutor<LogicalPlan, AnalyzerCon
         }
     }
 
+    private static class ResolveLookup extends ParameterizedAnalyzerRule<Lookup, AnalyzerContext> {
+
+        @Override
+        protected LogicalPlan rule(Lookup plan, AnalyzerContext context) {
+            if (plan.index() != null || plan.tableName().resolved() == false) {
+                return plan;
+            }
+            String tableName = (String) plan.tableName().fold();
+            IndexResolution resolution = context.lookupResolution().get(tableName);
+            if (resolution == null || resolution.isValid() == false) {
+                String error = resolution == null ? "Unknown index [" + tableName + "]" : resolution.toString();
+                var tableNameExp = new UnresolvedAttribute(plan.tableName().source(), tableName, null, error);
+                return new Lookup(plan.source(), plan.child(), tableNameExp, plan.matchField(), null, null, null);
+            }
+            EsIndex index = resolution.get();
+            String keyName = plan.matchField().name();
+            var unresolvedKey = new UnresolvedAttribute(
+                plan.matchField().source(),
+                keyName,
+                null,
+                "Unknown column [" + keyName + "] in lookup index [" + tableName + "]"
+            );
+            NamedExpression lookupKey = unresolvedKey;
+            List<Attribute> lookupFields = new ArrayList<>();
+            for (Attribute attribute : mappingAsAttributes(plan.source(), index.mapping())) {
+                if (attribute.name().equals(keyName)) {
+                    lookupKey = handleSpecialFields(unresolvedKey, attribute);
+                } else if (attribute instanceof FieldAttribute fa && fa.field() instanceof InvalidMappedField == false) {
+                    // fields with unsupported or conflicting types can't be added to the rows so they're left out
+                    lookupFields.add(attribute);
+                }
+            }
+            return new Lookup(plan.source(), plan.child(), plan.tableName(), plan.matchField(), index, lookupKey, lookupFields);
+        }
+    }
+
     private static class ResolveRefs extends BaseAnalyzerRule {
 
         @Override
@@ -323,6 +362,10 @@ public class Analyzer extends ParameterizedRuleExecutor<LogicalPlan, AnalyzerCon
                 return resolveMvExpand(p, childrenOutput);
             }
 
+            if (plan instanceof Lookup p) {
+                return resolveLookup(p, childrenOutput);
+            }
+
             return plan.transformExpressionsUp(UnresolvedAttribute.class, ua -> maybeResolveAttribute(ua, childrenOutput));
         }
 
@@ -579,6 +622,44 @@ public class Analyzer extends ParameterizedRuleExecutor<LogicalPlan, AnalyzerCon
             }
             return enrich;
         }
+
+        private LogicalPlan resolveLookup(Lookup lookup, List<Attribute> childrenOutput) {
+            if (lookup.matchField().toAttribute() instanceof UnresolvedAttribute ua) {
+                Attribute resolved = maybeResolveAttribute(ua, childrenOutput);
+                if (resolved.equals(ua)) {
+                    return lookup;
+                }
+                NamedExpression lookupKey = lookup.lookupKey();
+                if (resolved.resolved() && lookupKey != null && lookupKey.resolved() && canJoin(resolved, lookupKey) == false) {
+                    resolved = ua.withUnresolvedMessage(
+                        "Cannot match field ["
+                            + ua.name()
+                            + "] of type ["
+                            + resolved.dataType().typeName()
+                            + "] with field of type ["
+                            + lookupKey.dataType().typeName()
+                            + "] in lookup index ["
+                            + lookup.tableName().fold()
+                            + "]"
+                    );
+                }
+                return new Lookup(
+                    lookup.source(),
+                    lookup.child(),
+                    lookup.tableName(),
+                    resolved,
+                    lookup.index(),
+                    lookupKey,
+                    lookup.lookupFields()
+                );
+            }
+            return lookup;
+        }
+
+        private static boolean canJoin(Attribute matchField, NamedExpression lookupKey) {
+            return matchField.dataType() == lookupKey.dataType()
+                || DataTypes.isString(matchField.dataType()) && DataTypes.isString(lookupKey.dataType());
+        }
     }
 
     private static List<Attribute> resolveAgainstList(UnresolvedAttribute u, Collection<Attribute> attrList) {
@@ -11,9 +11,24 @@ import org.elasticsearch.xpack.esql.session.EsqlConfiguration;
 import org.elasticsearch.xpack.ql.expression.function.FunctionRegistry;
 import org.elasticsearch.xpack.ql.index.IndexResolution;
 
+import java.util.Map;
+
+/**
+ * @param lookupResolution the resolution of the indices of each LOOKUP command by the name they have in the query
+ */
 public record AnalyzerContext(
     EsqlConfiguration configuration,
     FunctionRegistry functionRegistry,
     IndexResolution indexResolution,
-    EnrichResolution enrichResolution
-) {}
+    EnrichResolution enrichResolution,
+    Map<String, IndexResolution> lookupResolution
+) {
+    public AnalyzerContext(
+        EsqlConfiguration configuration,
+        FunctionRegistry functionRegistry,
+        IndexResolution indexResolution,
+        EnrichResolution enrichResolution
+    ) {
+        this(configuration, functionRegistry, indexResolution, enrichResolution, Map.of());
+    }
+}
@@ -9,6 +9,7 @@ package org.elasticsearch.xpack.esql.analysis;
 
 import org.elasticsearch.xpack.esql.plan.logical.Enrich;
 import org.elasticsearch.xpack.esql.plan.logical.EsqlUnresolvedRelation;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.ql.analyzer.TableInfo;
 import org.elasticsearch.xpack.ql.plan.logical.LogicalPlan;
 
@@ -20,14 +21,16 @@ import static java.util.Collections.emptyList;
 public class PreAnalyzer {
 
     public static class PreAnalysis {
-        public static final PreAnalysis EMPTY = new PreAnalysis(emptyList(), emptyList());
+        public static final PreAnalysis EMPTY = new PreAnalysis(emptyList(), emptyList(), emptyList());
 
         public final List<TableInfo> indices;
         public final List<Enrich> enriches;
+        public final List<Lookup> lookups;
 
-        public PreAnalysis(List<TableInfo> indices, List<Enrich> enriches) {
+        public PreAnalysis(List<TableInfo> indices, List<Enrich> enriches, List<Lookup> lookups) {
             this.indices = indices;
             this.enriches = enriches;
+            this.lookups = lookups;
         }
     }
 
@@ -42,13 +45,15 @@ public class PreAnalyzer {
     protected PreAnalysis doPreAnalyze(LogicalPlan plan) {
         List<TableInfo> indices = new ArrayList<>();
         List<Enrich> unresolvedEnriches = new ArrayList<>();
+        List<Lookup> unresolvedLookups = new ArrayList<>();
 
         plan.forEachUp(EsqlUnresolvedRelation.class, p -> indices.add(new TableInfo(p.table(), p.frozen())));
         plan.forEachUp(Enrich.class, unresolvedEnriches::add);
+        plan.forEachUp(Lookup.class, unresolvedLookups::add);
 
         // mark plan as preAnalyzed (if it were marked, there would be no analysis)
         plan.forEachUp(LogicalPlan::setPreAnalyzed);
 
-        return new PreAnalysis(indices, unresolvedEnriches);
+        return new PreAnalysis(indices, unresolvedEnriches, unresolvedLookups);
     }
 }
@@ -13,6 +13,7 @@ import org.elasticsearch.xpack.esql.expression.function.UnsupportedAttribute;
 import org.elasticsearch.xpack.esql.expression.predicate.operator.arithmetic.Neg;
 import org.elasticsearch.xpack.esql.plan.logical.Enrich;
 import org.elasticsearch.xpack.esql.plan.logical.Eval;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.logical.RegexExtract;
 import org.elasticsearch.xpack.esql.plan.logical.Row;
 import org.elasticsearch.xpack.esql.stats.FeatureMetric;
@@ -141,6 +142,7 @@ public class Verifier {
             checkBinaryComparison(p, failures);
         });
         checkRemoteEnrich(plan, failures);
+        checkLookup(plan, failures);
 
         // gather metrics
         if (failures.isEmpty()) {
@@ -397,6 +399,7 @@ public class Verifier {
         boolean[] agg = { false };
         boolean[] limit = { false };
         boolean[] enrichCoord = { false };
+        boolean[] lookup = { false };
 
         plan.forEachUp(UnaryPlan.class, u -> {
             if (u instanceof Limit) {
@@ -406,6 +409,8 @@ public class Verifier {
                 agg[0] = true;
             } else if (u instanceof Enrich enrich && enrich.mode() == Enrich.Mode.COORDINATOR) {
                 enrichCoord[0] = true;
+            } else if (u instanceof Lookup) {
+                lookup[0] = true;
             }
             if (u instanceof Enrich enrich && enrich.mode() == Enrich.Mode.REMOTE) {
                 if (limit[0]) {
@@ -419,7 +424,24 @@ public class Verifier {
                         fail(enrich, "enrich with [ccq.mode:remote] can't be executed after another enrich with [ccq.mode:coordinator]")
                     );
                 }
+                if (lookup[0]) {
+                    failures.add(fail(enrich, "enrich with [ccq.mode:remote] can't be executed after LOOKUP"));
+                }
+            }
+        });
+    }
+
+    /**
+     * The table of a LOOKUP is built on the coordinating node from a separate pass over the data nodes
+     * and the compute service runs only one of those per query.
+     */
+    private static void checkLookup(LogicalPlan plan, Set<Failure> failures) {
+        boolean[] seen = { false };
+        plan.forEachUp(Lookup.class, lookup -> {
+            if (seen[0]) {
+                failures.add(fail(lookup, "only one LOOKUP is supported per query"));
             }
+            seen[0] = true;
         });
     }
 }
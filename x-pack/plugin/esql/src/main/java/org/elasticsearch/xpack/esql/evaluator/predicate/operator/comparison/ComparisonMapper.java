@@ -8,7 +8,10 @@
 package org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison;
 
 import org.elasticsearch.common.TriFunction;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.operator.EvalKernels;
 import org.elasticsearch.compute.operator.EvalOperator.ExpressionEvaluator;
+import org.elasticsearch.compute.operator.VectorizedBinaryEvaluator;
 import org.elasticsearch.xpack.esql.EsqlIllegalArgumentException;
 import org.elasticsearch.xpack.esql.evaluator.mapper.ExpressionMapper;
 import org.elasticsearch.xpack.esql.expression.function.scalar.math.Cast;
@@ -25,6 +28,7 @@ import static org.elasticsearch.xpack.esql.evaluator.EvalMapper.toEvaluator;
 
 public abstract class ComparisonMapper<T extends BinaryComparison> extends ExpressionMapper<T> {
     public static final ExpressionMapper<?> EQUALS = new ComparisonMapper<Equals>(
+        EvalKernels.ComparisonOp.EQ,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.EqualsIntsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.EqualsLongsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.EqualsDoublesEvaluator.Factory::new,
@@ -35,6 +39,7 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     };
 
     public static final ExpressionMapper<?> NOT_EQUALS = new ComparisonMapper<NotEquals>(
+        EvalKernels.ComparisonOp.NEQ,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.NotEqualsIntsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.NotEqualsLongsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.NotEqualsDoublesEvaluator.Factory::new,
@@ -45,6 +50,7 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     };
 
     public static final ExpressionMapper<?> GREATER_THAN = new ComparisonMapper<GreaterThan>(
+        EvalKernels.ComparisonOp.GT,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThanIntsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThanLongsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThanDoublesEvaluator.Factory::new,
@@ -53,6 +59,7 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     };
 
     public static final ExpressionMapper<?> GREATER_THAN_OR_EQUAL = new ComparisonMapper<GreaterThanOrEqual>(
+        EvalKernels.ComparisonOp.GTE,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThanOrEqualIntsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThanOrEqualLongsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.GreaterThanOrEqualDoublesEvaluator.Factory::new,
@@ -61,6 +68,7 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     };
 
     public static final ExpressionMapper<?> LESS_THAN = new ComparisonMapper<LessThan>(
+        EvalKernels.ComparisonOp.LT,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.LessThanIntsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.LessThanLongsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.LessThanDoublesEvaluator.Factory::new,
@@ -69,6 +77,7 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     };
 
     public static final ExpressionMapper<?> LESS_THAN_OR_EQUAL = new ComparisonMapper<LessThanOrEqual>(
+        EvalKernels.ComparisonOp.LTE,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.LessThanOrEqualIntsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.LessThanOrEqualLongsEvaluator.Factory::new,
         org.elasticsearch.xpack.esql.evaluator.predicate.operator.comparison.LessThanOrEqualDoublesEvaluator.Factory::new,
@@ -76,6 +85,10 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     ) {
     };
 
+    /**
+     * The bulk kernel used to evaluate dense numeric vectors.
+     */
+    private final EvalKernels.ComparisonOp vectorized;
     private final TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> ints;
     private final TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> longs;
     private final TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> doubles;
@@ -89,6 +102,7 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     }
 
     private ComparisonMapper(
+        EvalKernels.ComparisonOp vectorized,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> ints,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> longs,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> doubles,
@@ -96,6 +110,7 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> bools,
         EvaluatorFunctionWithType<DataType> geometries
     ) {
+        this.vectorized = vectorized;
         this.ints = ints;
         this.longs = longs;
         this.doubles = doubles;
@@ -105,12 +120,14 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     }
 
     private ComparisonMapper(
+        EvalKernels.ComparisonOp vectorized,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> ints,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> longs,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> doubles,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> keywords,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> bools
     ) {
+        this.vectorized = vectorized;
         this.ints = ints;
         this.longs = longs;
         this.doubles = doubles;
@@ -120,11 +137,13 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
     }
 
     ComparisonMapper(
+        EvalKernels.ComparisonOp vectorized,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> ints,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> longs,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> doubles,
         TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> keywords
     ) {
+        this.vectorized = vectorized;
         this.ints = ints;
         this.longs = longs;
         this.doubles = doubles;
@@ -139,17 +158,17 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
         if (leftType.isNumeric()) {
             DataType type = EsqlDataTypeRegistry.INSTANCE.commonType(leftType, bc.right().dataType());
             if (type == DataTypes.INTEGER) {
-                return castToEvaluator(bc, layout, DataTypes.INTEGER, ints);
+                return castToVectorizedEvaluator(bc, layout, DataTypes.INTEGER, ElementType.INT, ints);
             }
             if (type == DataTypes.LONG) {
-                return castToEvaluator(bc, layout, DataTypes.LONG, longs);
+                return castToVectorizedEvaluator(bc, layout, DataTypes.LONG, ElementType.LONG, longs);
             }
             if (type == DataTypes.DOUBLE) {
-                return castToEvaluator(bc, layout, DataTypes.DOUBLE, doubles);
+                return castToVectorizedEvaluator(bc, layout, DataTypes.DOUBLE, ElementType.DOUBLE, doubles);
             }
             if (type == DataTypes.UNSIGNED_LONG) {
                 // using the long comparators will work on UL as well
-                return castToEvaluator(bc, layout, DataTypes.UNSIGNED_LONG, longs);
+                return castToVectorizedEvaluator(bc, layout, DataTypes.UNSIGNED_LONG, ElementType.LONG, longs);
             }
         }
         var leftEval = toEvaluator(bc.left(), layout);
@@ -169,6 +188,25 @@ public abstract class ComparisonMapper<T extends BinaryComparison> extends Expre
         throw new EsqlIllegalArgumentException("resolved type for [" + bc + "] but didn't implement mapping");
     }
 
+    /**
+     * Like {@link #castToEvaluator} but compares dense, null free, single valued
+     * inputs in bulk.
+     */
+    private ExpressionEvaluator.Factory castToVectorizedEvaluator(
+        BinaryComparison bc,
+        Layout layout,
+        DataType required,
+        ElementType type,
+        TriFunction<Source, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory, ExpressionEvaluator.Factory> scalar
+    ) {
+        return castToEvaluator(
+            bc,
+            layout,
+            required,
+            (source, lhs, rhs) -> VectorizedBinaryEvaluator.comparison(vectorized, type, lhs, rhs, (l, r) -> scalar.apply(source, l, r))
+        );
+    }
+
     public static ExpressionEvaluator.Factory castToEvaluator(
         BinaryOperator<?, ?, ?, ?> op,
         Layout layout,
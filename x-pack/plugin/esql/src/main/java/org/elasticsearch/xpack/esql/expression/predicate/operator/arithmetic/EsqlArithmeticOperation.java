@@ -8,7 +8,10 @@
 package org.elasticsearch.xpack.esql.expression.predicate.operator.arithmetic;
 
 import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.operator.EvalKernels;
 import org.elasticsearch.compute.operator.EvalOperator.ExpressionEvaluator;
+import org.elasticsearch.compute.operator.VectorizedBinaryEvaluator;
 import org.elasticsearch.xpack.esql.EsqlIllegalArgumentException;
 import org.elasticsearch.xpack.esql.evaluator.mapper.EvaluatorMapper;
 import org.elasticsearch.xpack.esql.expression.function.scalar.math.Cast;
@@ -37,16 +40,21 @@ abstract class EsqlArithmeticOperation extends ArithmeticOperation implements Ev
      * The rest of the methods should not be triggered hence the UOE.
      */
     enum OperationSymbol implements BinaryArithmeticOperation {
-        ADD("+"),
-        SUB("-"),
-        MUL("*"),
-        DIV("/"),
-        MOD("%");
+        ADD("+", EvalKernels.ArithmeticOp.ADD),
+        SUB("-", EvalKernels.ArithmeticOp.SUB),
+        MUL("*", EvalKernels.ArithmeticOp.MUL),
+        DIV("/", null),
+        MOD("%", null);
 
         private final String symbol;
+        /**
+         * The bulk kernel that can evaluate dense vectors or {@code null} if there isn't one.
+         */
+        private final EvalKernels.ArithmeticOp vectorized;
 
-        OperationSymbol(String symbol) {
+        OperationSymbol(String symbol, EvalKernels.ArithmeticOp vectorized) {
             this.symbol = symbol;
+            this.vectorized = vectorized;
         }
 
         @Override
@@ -153,17 +161,25 @@ abstract class EsqlArithmeticOperation extends ArithmeticOperation implements Ev
             var rhs = Cast.cast(source(), right().dataType(), commonType, toEvaluator.apply(right()));
 
             ArithmeticEvaluator eval;
+            ElementType vectorizedType = null;
             if (commonType == INTEGER) {
                 eval = ints;
+                vectorizedType = ElementType.INT;
             } else if (commonType == LONG) {
                 eval = longs;
+                vectorizedType = ElementType.LONG;
             } else if (commonType == UNSIGNED_LONG) {
                 eval = ulongs;
             } else if (commonType == DOUBLE) {
                 eval = doubles;
+                vectorizedType = ElementType.DOUBLE;
             } else {
                 throw new EsqlIllegalArgumentException("Unsupported type " + commonType);
             }
+            EvalKernels.ArithmeticOp vectorized = ((OperationSymbol) function()).vectorized;
+            if (vectorized != null && vectorizedType != null) {
+                return VectorizedBinaryEvaluator.arithmetic(vectorized, vectorizedType, lhs, rhs, (l, r) -> eval.apply(source(), l, r));
+            }
             return eval.apply(source(), lhs, rhs);
         }
         throw new EsqlIllegalArgumentException("Unsupported type " + leftType);
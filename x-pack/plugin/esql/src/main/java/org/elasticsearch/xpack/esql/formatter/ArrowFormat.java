@@ -0,0 +1,33 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.formatter;
+
+import org.elasticsearch.xcontent.MediaType;
+
+import java.util.Set;
+
+/**
+ * The <a href="https://arrow.apache.org/docs/format/Columnar.html#ipc-streaming-format">Arrow IPC streaming format</a>.
+ * Each {@link org.elasticsearch.compute.data.Page} of the response becomes a record batch.
+ */
+public enum ArrowFormat implements MediaType {
+    ARROW;
+
+    private static final String FORMAT_ARROW = "arrow";
+    public static final String CONTENT_TYPE_ARROW = "application/vnd.apache.arrow.stream";
+
+    @Override
+    public String queryParameter() {
+        return FORMAT_ARROW;
+    }
+
+    @Override
+    public Set<HeaderValue> headerValues() {
+        return Set.of(new HeaderValue(CONTENT_TYPE_ARROW));
+    }
+}
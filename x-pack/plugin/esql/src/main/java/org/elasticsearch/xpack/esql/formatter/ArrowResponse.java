@@ -0,0 +1,501 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.formatter;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.ReleasableBytesReference;
+import org.elasticsearch.common.io.stream.RecyclerBytesStreamOutput;
+import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.common.recycler.Recycler;
+import org.elasticsearch.common.xcontent.XContentHelper;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BooleanBlock;
+import org.elasticsearch.compute.data.BytesRefBlock;
+import org.elasticsearch.compute.data.DoubleBlock;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.CheckedConsumer;
+import org.elasticsearch.core.Releasables;
+import org.elasticsearch.rest.ChunkedRestResponseBody;
+import org.elasticsearch.search.DocValueFormat;
+import org.elasticsearch.xpack.esql.EsqlIllegalArgumentException;
+import org.elasticsearch.xpack.esql.action.ColumnInfo;
+import org.elasticsearch.xpack.esql.action.EsqlQueryResponse;
+import org.elasticsearch.xpack.versionfield.Version;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Writes an {@link EsqlQueryResponse} in the {@link ArrowFormat Arrow IPC streaming format}:
+ * a schema message followed by a record batch for each {@link Page}. Columns are copied
+ * straight out of each {@link Block} into Arrow buffers without building rows or boxing
+ * values. Arrow has no equivalent of multivalued fields so those are rejected up front.
+ */
+public final class ArrowResponse implements ChunkedRestResponseBody {
+    private static final int CONTINUATION = 0xFFFFFFFF;
+    private static final int METADATA_VERSION_V5 = 4;
+    private static final int HEADER_SCHEMA = 1;
+    private static final int HEADER_RECORD_BATCH = 3;
+
+    private static final int TYPE_NULL = 1;
+    private static final int TYPE_INT = 2;
+    private static final int TYPE_FLOATING_POINT = 3;
+    private static final int TYPE_BINARY = 4;
+    private static final int TYPE_UTF8 = 5;
+    private static final int TYPE_BOOL = 6;
+    private static final int TYPE_TIMESTAMP = 10;
+
+    private static final int PRECISION_DOUBLE = 2;
+    private static final int TIME_UNIT_MILLISECOND = 1;
+
+    private static final byte[] PADDING = new byte[Long.BYTES];
+
+    private final List<ColumnInfo> columns;
+    private final List<BlockConverter> converters;
+    private final List<Page> pages;
+    private boolean schemaWritten;
+    private int nextPage;
+    private boolean done;
+
+    public ArrowResponse(EsqlQueryResponse response) {
+        this.columns = response.columns();
+        this.pages = response.pages();
+        this.converters = new ArrayList<>(columns.size());
+        for (ColumnInfo column : columns) {
+            converters.add(converter(column.type()));
+        }
+        for (Page page : pages) {
+            for (int c = 0; c < columns.size(); c++) {
+                checkSingleValued(columns.get(c), page.getBlock(c));
+            }
+        }
+    }
+
+    private static void checkSingleValued(ColumnInfo column, Block block) {
+        if (block.mayHaveMultivaluedFields() == false) {
+            return;
+        }
+        for (int p = 0; p < block.getPositionCount(); p++) {
+            if (block.getValueCount(p) > 1) {
+                throw new IllegalArgumentException(
+                    "column ["
+                        + column.name()
+                        + "] is multivalued which isn't supported by the [arrow] format, use MV_EXPAND or an MV_ function to remove "
+                        + "the extra values"
+                );
+            }
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public ReleasableBytesReference encodeChunk(int sizeHint, Recycler<BytesRef> recycler) throws IOException {
+        RecyclerBytesStreamOutput output = new RecyclerBytesStreamOutput(recycler);
+        boolean success = false;
+        try {
+            if (schemaWritten == false) {
+                writeSchema(output);
+                schemaWritten = true;
+            }
+            while (nextPage < pages.size() && output.size() < sizeHint) {
+                writeRecordBatch(output, pages.get(nextPage++));
+            }
+            if (nextPage == pages.size()) {
+                // end of stream marker
+                writeIntLE(output, CONTINUATION);
+                writeIntLE(output, 0);
+                done = true;
+            }
+            ReleasableBytesReference result = new ReleasableBytesReference(output.bytes(), output);
+            success = true;
+            return result;
+        } finally {
+            if (success == false) {
+                Releasables.closeExpectNoException(output);
+            }
+        }
+    }
+
+    @Override
+    public String getResponseContentTypeString() {
+        return ArrowFormat.CONTENT_TYPE_ARROW;
+    }
+
+    private void writeSchema(StreamOutput out) throws IOException {
+        List<FlatBuffers.Table> fields = new ArrayList<>(columns.size());
+        for (int c = 0; c < columns.size(); c++) {
+            BlockConverter converter = converters.get(c);
+            fields.add(
+                new FlatBuffers.Table().addOffset(0, new FlatBuffers.Str(columns.get(c).name()))
+                    .addBoolean(1, true)
+                    .addByte(2, converter.typeId)
+                    .addOffset(3, converter.type())
+                    .addOffset(5, new FlatBuffers.TableVector(List.of()))
+            );
+        }
+        FlatBuffers.Table schema = new FlatBuffers.Table().addShort(0, 0 /* little endian */)
+            .addOffset(1, new FlatBuffers.TableVector(fields));
+        writeMessage(out, HEADER_SCHEMA, schema, 0);
+    }
+
+    private void writeRecordBatch(StreamOutput out, Page page) throws IOException {
+        long[] nodes = new long[2 * columns.size()];
+        List<ArrowBuffer> buffers = new ArrayList<>();
+        for (int c = 0; c < columns.size(); c++) {
+            Block block = page.getBlock(c);
+            nodes[2 * c] = block.getPositionCount();
+            nodes[2 * c + 1] = nullCount(block);
+            converters.get(c).convert(block, buffers);
+        }
+        long[] bufferLocations = new long[2 * buffers.size()];
+        long bodyLength = 0;
+        for (int b = 0; b < buffers.size(); b++) {
+            bufferLocations[2 * b] = bodyLength;
+            bufferLocations[2 * b + 1] = buffers.get(b).length;
+            bodyLength += paddedLength(buffers.get(b).length);
+        }
+        FlatBuffers.Table recordBatch = new FlatBuffers.Table().addLong(0, page.getPositionCount())
+            .addOffset(1, new FlatBuffers.LongStructVector(2, nodes))
+            .addOffset(2, new FlatBuffers.LongStructVector(2, bufferLocations));
+        writeMessage(out, HEADER_RECORD_BATCH, recordBatch, bodyLength);
+        for (ArrowBuffer buffer : buffers) {
+            buffer.writer.accept(out);
+            out.writeBytes(PADDING, 0, (int) (paddedLength(buffer.length) - buffer.length));
+        }
+    }
+
+    /**
+     * Write an encapsulated message. Its body must follow.
+     */
+    private static void writeMessage(StreamOutput out, int headerType, FlatBuffers.Table header, long bodyLength) throws IOException {
+        FlatBuffers.Table message = new FlatBuffers.Table().addShort(0, METADATA_VERSION_V5)
+            .addByte(1, headerType)
+            .addOffset(2, header)
+            .addLong(3, bodyLength);
+        byte[] metadata = FlatBuffers.encode(message);
+        int paddedLength = (int) paddedLength(metadata.length);
+        writeIntLE(out, CONTINUATION);
+        writeIntLE(out, paddedLength);
+        out.writeBytes(metadata);
+        out.writeBytes(PADDING, 0, paddedLength - metadata.length);
+    }
+
+    private static long paddedLength(long length) {
+        return (length + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    private static int nullCount(Block block) {
+        if (block.mayHaveNulls() == false) {
+            return 0;
+        }
+        if (block.areAllValuesNull()) {
+            return block.getPositionCount();
+        }
+        int count = 0;
+        for (int p = 0; p < block.getPositionCount(); p++) {
+            if (block.isNull(p)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void writeIntLE(StreamOutput out, int value) throws IOException {
+        out.writeInt(Integer.reverseBytes(value));
+    }
+
+    private static void writeLongLE(StreamOutput out, long value) throws IOException {
+        out.writeLong(Long.reverseBytes(value));
+    }
+
+    /**
+     * Writes {@code count} bits, least significant bit first, as Arrow does for validity and boolean buffers.
+     */
+    private static void writeBitmap(StreamOutput out, int count, IntPredicate bit) throws IOException {
+        for (int start = 0; start < count; start += Byte.SIZE) {
+            int b = 0;
+            int end = Math.min(count, start + Byte.SIZE);
+            for (int i = start; i < end; i++) {
+                if (bit.test(i)) {
+                    b |= 1 << (i - start);
+                }
+            }
+            out.writeByte((byte) b);
+        }
+    }
+
+    /**
+     * One buffer in the body of a record batch.
+     */
+    private record ArrowBuffer(long length, CheckedConsumer<StreamOutput, IOException> writer) {}
+
+    private static final ArrowBuffer EMPTY_BUFFER = new ArrowBuffer(0, out -> {});
+
+    private static ArrowBuffer validity(Block block) {
+        if (nullCount(block) == 0) {
+            return EMPTY_BUFFER;
+        }
+        int positions = block.getPositionCount();
+        return new ArrowBuffer((positions + Byte.SIZE - 1) / Byte.SIZE, out -> writeBitmap(out, positions, p -> block.isNull(p) == false));
+    }
+
+    private static BlockConverter converter(String esqlType) {
+        return switch (esqlType) {
+            case "null", "unsupported" -> new NullConverter();
+            case "integer" -> new IntConverter();
+            case "long" -> new LongConverter(TYPE_INT, l -> l, () -> intType(Long.SIZE, true));
+            case "unsigned_long" -> new LongConverter(TYPE_INT, l -> l ^ Long.MIN_VALUE, () -> intType(Long.SIZE, false));
+            case "date" -> new LongConverter(
+                TYPE_TIMESTAMP,
+                l -> l,
+                () -> new FlatBuffers.Table().addShort(0, TIME_UNIT_MILLISECOND).addOffset(1, new FlatBuffers.Str("UTC"))
+            );
+            case "double" -> new DoubleConverter();
+            case "boolean" -> new BooleanConverter();
+            case "keyword", "text" -> new BytesRefConverter(TYPE_UTF8, null);
+            case "geo_point", "geo_shape", "cartesian_point", "cartesian_shape" -> new BytesRefConverter(TYPE_BINARY, null);
+            case "ip" -> new BytesRefConverter(TYPE_UTF8, v -> new BytesRef(DocValueFormat.IP.format(v)));
+            case "version" -> new BytesRefConverter(TYPE_UTF8, v -> new BytesRef(new Version(v).toString()));
+            case "_source" -> new BytesRefConverter(TYPE_UTF8, ArrowResponse::sourceToJson);
+            default -> throw EsqlIllegalArgumentException.illegalDataType(esqlType);
+        };
+    }
+
+    private static FlatBuffers.Table intType(int bitWidth, boolean signed) {
+        return new FlatBuffers.Table().addInt(0, bitWidth).addBoolean(1, signed);
+    }
+
+    private static BytesRef sourceToJson(BytesRef source) {
+        BytesArray bytes = new BytesArray(source);
+        try {
+            String json = XContentHelper.convertToJson(bytes, false, XContentHelper.xContentType(bytes));
+            return new BytesRef(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts {@link Block}s of one ES|QL type into Arrow arrays.
+     */
+    private abstract static class BlockConverter {
+        /**
+         * The tag of the Arrow type in the {@code Type} union.
+         */
+        private final int typeId;
+
+        BlockConverter(int typeId) {
+            this.typeId = typeId;
+        }
+
+        /**
+         * The Arrow type.
+         */
+        abstract FlatBuffers.Table type();
+
+        /**
+         * Add the buffers of the Arrow array for {@code block}.
+         */
+        abstract void convert(Block block, List<ArrowBuffer> buffers);
+    }
+
+    private static class NullConverter extends BlockConverter {
+        NullConverter() {
+            super(TYPE_NULL);
+        }
+
+        @Override
+        FlatBuffers.Table type() {
+            return new FlatBuffers.Table();
+        }
+
+        @Override
+        void convert(Block block, List<ArrowBuffer> buffers) {
+            // null arrays don't have any buffers
+        }
+    }
+
+    private static class IntConverter extends BlockConverter {
+        IntConverter() {
+            super(TYPE_INT);
+        }
+
+        @Override
+        FlatBuffers.Table type() {
+            return intType(Integer.SIZE, true);
+        }
+
+        @Override
+        void convert(Block block, List<ArrowBuffer> buffers) {
+            IntBlock ints = (IntBlock) block;
+            int positions = block.getPositionCount();
+            buffers.add(validity(block));
+            buffers.add(new ArrowBuffer((long) positions * Integer.BYTES, out -> {
+                for (int p = 0; p < positions; p++) {
+                    writeIntLE(out, ints.isNull(p) ? 0 : ints.getInt(ints.getFirstValueIndex(p)));
+                }
+            }));
+        }
+    }
+
+    private static class LongConverter extends BlockConverter {
+        private final LongUnaryOperator transform;
+        private final Supplier<FlatBuffers.Table> type;
+
+        LongConverter(int typeId, LongUnaryOperator transform, Supplier<FlatBuffers.Table> type) {
+            super(typeId);
+            this.transform = transform;
+            this.type = type;
+        }
+
+        @Override
+        FlatBuffers.Table type() {
+            return type.get();
+        }
+
+        @Override
+        void convert(Block block, List<ArrowBuffer> buffers) {
+            LongBlock longs = (LongBlock) block;
+            int positions = block.getPositionCount();
+            buffers.add(validity(block));
+            buffers.add(new ArrowBuffer((long) positions * Long.BYTES, out -> {
+                for (int p = 0; p < positions; p++) {
+                    writeLongLE(out, longs.isNull(p) ? 0 : transform.applyAsLong(longs.getLong(longs.getFirstValueIndex(p))));
+                }
+            }));
+        }
+    }
+
+    private static class DoubleConverter extends BlockConverter {
+        DoubleConverter() {
+            super(TYPE_FLOATING_POINT);
+        }
+
+        @Override
+        FlatBuffers.Table type() {
+            return new FlatBuffers.Table().addShort(0, PRECISION_DOUBLE);
+        }
+
+        @Override
+        void convert(Block block, List<ArrowBuffer> buffers) {
+            DoubleBlock doubles = (DoubleBlock) block;
+            int positions = block.getPositionCount();
+            buffers.add(validity(block));
+            buffers.add(new ArrowBuffer((long) positions * Double.BYTES, out -> {
+                for (int p = 0; p < positions; p++) {
+                    double value = doubles.isNull(p) ? 0 : doubles.getDouble(doubles.getFirstValueIndex(p));
+                    writeLongLE(out, Double.doubleToRawLongBits(value));
+                }
+            }));
+        }
+    }
+
+    private static class BooleanConverter extends BlockConverter {
+        BooleanConverter() {
+            super(TYPE_BOOL);
+        }
+
+        @Override
+        FlatBuffers.Table type() {
+            return new FlatBuffers.Table();
+        }
+
+        @Override
+        void convert(Block block, List<ArrowBuffer> buffers) {
+            BooleanBlock booleans = (BooleanBlock) block;
+            int positions = block.getPositionCount();
+            buffers.add(validity(block));
+            IntPredicate values = p -> booleans.isNull(p) == false && booleans.getBoolean(booleans.getFirstValueIndex(p));
+            buffers.add(new ArrowBuffer((positions + Byte.SIZE - 1) / Byte.SIZE, out -> writeBitmap(out, positions, values)));
+        }
+    }
+
+    /**
+     * Converts {@link BytesRefBlock}s into variable width Arrow arrays, either copying
+     * the bytes as is or running them through a {@code transform} first.
+     */
+    private static class BytesRefConverter extends BlockConverter {
+        private final Function<BytesRef, BytesRef> transform;
+
+        BytesRefConverter(int typeId, Function<BytesRef, BytesRef> transform) {
+            super(typeId);
+            this.transform = transform;
+        }
+
+        @Override
+        FlatBuffers.Table type() {
+            return new FlatBuffers.Table();
+        }
+
+        @Override
+        void convert(Block block, List<ArrowBuffer> buffers) {
+            BytesRefBlock bytesRefs = (BytesRefBlock) block;
+            int positions = block.getPositionCount();
+            IntFunction<BytesRef> values;
+            if (transform == null) {
+                BytesRef scratch = new BytesRef();
+                values = p -> bytesRefs.isNull(p) ? null : bytesRefs.getBytesRef(bytesRefs.getFirstValueIndex(p), scratch);
+            } else {
+                // transform each value once rather than once per buffer
+                BytesRef[] transformed = new BytesRef[positions];
+                BytesRef scratch = new BytesRef();
+                for (int p = 0; p < positions; p++) {
+                    if (bytesRefs.isNull(p) == false) {
+                        transformed[p] = transform.apply(bytesRefs.getBytesRef(bytesRefs.getFirstValueIndex(p), scratch));
+                    }
+                }
+                values = p -> transformed[p];
+            }
+            long dataLength = 0;
+            for (int p = 0; p < positions; p++) {
+                BytesRef value = values.apply(p);
+                if (value != null) {
+                    dataLength += value.length;
+                }
+            }
+            if (dataLength > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("column is too large for the [arrow] format");
+            }
+            buffers.add(validity(block));
+            buffers.add(new ArrowBuffer((long) (positions + 1) * Integer.BYTES, out -> {
+                int offset = 0;
+                writeIntLE(out, offset);
+                for (int p = 0; p < positions; p++) {
+                    BytesRef value = values.apply(p);
+                    if (value != null) {
+                        offset += value.length;
+                    }
+                    writeIntLE(out, offset);
+                }
+            }));
+            buffers.add(new ArrowBuffer(dataLength, out -> {
+                for (int p = 0; p < positions; p++) {
+                    BytesRef value = values.apply(p);
+                    if (value != null) {
+                        out.writeBytes(value.bytes, value.offset, value.length);
+                    }
+                }
+            }));
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.formatter;
+
+import org.apache.lucene.util.ArrayUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Just enough of a <a href="https://flatbuffers.dev/">FlatBuffers</a> encoder to
+ * write the metadata of Arrow IPC messages. The reference builder lays objects out
+ * back to front. This one writes each table first and then the objects it points
+ * to, which is simpler and just as valid, but can't share objects between tables.
+ */
+final class FlatBuffers {
+    private FlatBuffers() {}
+
+    /**
+     * An object that a table field can point to.
+     */
+    interface Node {}
+
+    /**
+     * A field of a {@link Table}. Scalars have a {@code size} and a {@code value}
+     * and are written inline. Other objects are written after the table and
+     * referenced by offset.
+     */
+    private record Field(int id, int size, long value, Node child) {}
+
+    /**
+     * A table. Fields are identified by their index in the schema.
+     */
+    static final class Table implements Node {
+        private final List<Field> fields = new ArrayList<>();
+
+        Table addByte(int id, int value) {
+            fields.add(new Field(id, Byte.BYTES, value, null));
+            return this;
+        }
+
+        Table addBoolean(int id, boolean value) {
+            return addByte(id, value ? 1 : 0);
+        }
+
+        Table addShort(int id, int value) {
+            fields.add(new Field(id, Short.BYTES, value, null));
+            return this;
+        }
+
+        Table addInt(int id, int value) {
+            fields.add(new Field(id, Integer.BYTES, value, null));
+            return this;
+        }
+
+        Table addLong(int id, long value) {
+            fields.add(new Field(id, Long.BYTES, value, null));
+            return this;
+        }
+
+        Table addOffset(int id, Node child) {
+            fields.add(new Field(id, Integer.BYTES, 0, child));
+            return this;
+        }
+    }
+
+    /**
+     * A string.
+     */
+    record Str(String value) implements Node {}
+
+    /**
+     * A vector of tables.
+     */
+    record TableVector(List<Table> tables) implements Node {}
+
+    /**
+     * A vector of structs made entirely of {@code long}s.
+     */
+    record LongStructVector(int longsPerStruct, long[] values) implements Node {}
+
+    /**
+     * Encode a buffer with {@code root} as its root table.
+     */
+    static byte[] encode(Table root) {
+        Writer writer = new Writer();
+        writer.skip(Integer.BYTES);
+        writer.putIntAt(0, writer.write(root));
+        return writer.toByteArray();
+    }
+
+    private static class Writer {
+        private byte[] bytes = new byte[128];
+        private int position;
+
+        /**
+         * Write a node, returning the position that offsets to it should point to.
+         */
+        int write(Node node) {
+            if (node instanceof Table table) {
+                return writeTable(table);
+            }
+            if (node instanceof Str str) {
+                return writeString(str);
+            }
+            if (node instanceof TableVector vector) {
+                return writeTableVector(vector);
+            }
+            if (node instanceof LongStructVector vector) {
+                return writeLongStructVector(vector);
+            }
+            throw new IllegalArgumentException("unsupported node [" + node + "]");
+        }
+
+        private int writeTable(Table table) {
+            int slots = table.fields.stream().mapToInt(f -> f.id + 1).max().orElse(0);
+            int vtableSize = Short.BYTES * (2 + slots);
+            align(Short.BYTES);
+            int vtable = position;
+            skip(vtableSize);
+            align(Integer.BYTES);
+            int start = position;
+            skip(Integer.BYTES);
+            // Larger fields first to waste less space on alignment
+            List<Field> fields = table.fields.stream().sorted(Comparator.comparingInt(Field::size).reversed()).toList();
+            int[] fieldPositions = new int[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                align(field.size);
+                fieldPositions[i] = position;
+                // grow the buffer before writing the field
+                skip(field.size);
+                switch (field.size) {
+                    case Byte.BYTES -> putByteAt(fieldPositions[i], (int) field.value);
+                    case Short.BYTES -> putShortAt(fieldPositions[i], (int) field.value);
+                    case Integer.BYTES -> putIntAt(fieldPositions[i], (int) field.value);
+                    case Long.BYTES -> putLongAt(fieldPositions[i], field.value);
+                    default -> throw new IllegalArgumentException("unsupported field size [" + field.size + "]");
+                }
+                putShortAt(vtable + Short.BYTES * (2 + field.id), fieldPositions[i] - start);
+            }
+            putShortAt(vtable, vtableSize);
+            putShortAt(vtable + Short.BYTES, position - start);
+            // The vtable is found by subtracting this from the start of the table
+            putIntAt(start, start - vtable);
+            for (int i = 0; i < fields.size(); i++) {
+                Node child = fields.get(i).child;
+                if (child != null) {
+                    putIntAt(fieldPositions[i], write(child) - fieldPositions[i]);
+                }
+            }
+            return start;
+        }
+
+        private int writeString(Str str) {
+            byte[] utf8 = str.value.getBytes(StandardCharsets.UTF_8);
+            align(Integer.BYTES);
+            int start = position;
+            skip(Integer.BYTES + utf8.length + 1);
+            putIntAt(start, utf8.length);
+            System.arraycopy(utf8, 0, bytes, start + Integer.BYTES, utf8.length);
+            // the terminating 0 is already there
+            return start;
+        }
+
+        private int writeTableVector(TableVector vector) {
+            align(Integer.BYTES);
+            int start = position;
+            skip(Integer.BYTES * (1 + vector.tables.size()));
+            putIntAt(start, vector.tables.size());
+            for (int i = 0; i < vector.tables.size(); i++) {
+                int slot = start + Integer.BYTES * (1 + i);
+                putIntAt(slot, write(vector.tables.get(i)) - slot);
+            }
+            return start;
+        }
+
+        private int writeLongStructVector(LongStructVector vector) {
+            // The length comes right before the structs and the structs must be aligned
+            while ((position + Integer.BYTES) % Long.BYTES != 0) {
+                skip(1);
+            }
+            int start = position;
+            skip(Integer.BYTES + Long.BYTES * vector.values.length);
+            putIntAt(start, vector.values.length / vector.longsPerStruct);
+            for (int i = 0; i < vector.values.length; i++) {
+                putLongAt(start + Integer.BYTES + Long.BYTES * i, vector.values[i]);
+            }
+            return start;
+        }
+
+        private void align(int alignment) {
+            while (position % alignment != 0) {
+                skip(1);
+            }
+        }
+
+        /**
+         * Move past {@code length} zeroed bytes.
+         */
+        void skip(int length) {
+            bytes = ArrayUtil.grow(bytes, position + length);
+            position += length;
+        }
+
+        private void putByteAt(int at, int value) {
+            bytes[at] = (byte) value;
+        }
+
+        private void putShortAt(int at, int value) {
+            bytes[at] = (byte) value;
+            bytes[at + 1] = (byte) (value >>> 8);
+        }
+
+        void putIntAt(int at, int value) {
+            for (int i = 0; i < Integer.BYTES; i++) {
+                bytes[at + i] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        private void putLongAt(int at, long value) {
+            for (int i = 0; i < Long.BYTES; i++) {
+                bytes[at + i] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, position);
+        }
+    }
+}
@@ -142,6 +142,7 @@ import org.elasticsearch.xpack.esql.plan.physical.FieldExtractExec;
 import org.elasticsearch.xpack.esql.plan.physical.FilterExec;
 import org.elasticsearch.xpack.esql.plan.physical.FragmentExec;
 import org.elasticsearch.xpack.esql.plan.physical.GrokExec;
+import org.elasticsearch.xpack.esql.plan.physical.HashJoinExec;
 import org.elasticsearch.xpack.esql.plan.physical.LimitExec;
 import org.elasticsearch.xpack.esql.plan.physical.MvExpandExec;
 import org.elasticsearch.xpack.esql.plan.physical.OrderExec;
@@ -262,6 +263,7 @@ public final class PlanNamedTypes {
             of(PhysicalPlan.class, FilterExec.class, PlanNamedTypes::writeFilterExec, PlanNamedTypes::readFilterExec),
             of(PhysicalPlan.class, FragmentExec.class, PlanNamedTypes::writeFragmentExec, PlanNamedTypes::readFragmentExec),
             of(PhysicalPlan.class, GrokExec.class, PlanNamedTypes::writeGrokExec, PlanNamedTypes::readGrokExec),
+            of(PhysicalPlan.class, HashJoinExec.class, PlanNamedTypes::writeHashJoinExec, PlanNamedTypes::readHashJoinExec),
             of(PhysicalPlan.class, LimitExec.class, PlanNamedTypes::writeLimitExec, PlanNamedTypes::readLimitExec),
             of(PhysicalPlan.class, MvExpandExec.class, PlanNamedTypes::writeMvExpandExec, PlanNamedTypes::readMvExpandExec),
             of(PhysicalPlan.class, OrderExec.class, PlanNamedTypes::writeOrderExec, PlanNamedTypes::readOrderExec),
@@ -627,6 +629,26 @@ public final class PlanNamedTypes {
         writeAttributes(out, grokExec.extractedFields());
     }
 
+    static HashJoinExec readHashJoinExec(PlanStreamInput in) throws IOException {
+        return new HashJoinExec(
+            in.readSource(),
+            in.readPhysicalPlanNode(),
+            readFragmentExec(in),
+            in.readNamedExpression(),
+            in.readAttribute(),
+            readAttributes(in)
+        );
+    }
+
+    static void writeHashJoinExec(PlanStreamOutput out, HashJoinExec join) throws IOException {
+        out.writeNoSource();
+        out.writePhysicalPlanNode(join.child());
+        writeFragmentExec(out, join.lookup());
+        out.writeNamedExpression(join.matchField());
+        out.writeAttribute(join.lookupKey());
+        writeAttributes(out, join.lookupFields());
+    }
+
     static LimitExec readLimitExec(PlanStreamInput in) throws IOException {
         return new LimitExec(in.readSource(), in.readPhysicalPlanNode(), in.readNamed(Expression.class));
     }
@@ -22,11 +22,13 @@ import org.elasticsearch.xpack.esql.plan.physical.EsQueryExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsSourceExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec.Stat;
+import org.elasticsearch.xpack.esql.plan.physical.EvalExec;
 import org.elasticsearch.xpack.esql.plan.physical.ExchangeExec;
 import org.elasticsearch.xpack.esql.plan.physical.FieldExtractExec;
 import org.elasticsearch.xpack.esql.plan.physical.FilterExec;
 import org.elasticsearch.xpack.esql.plan.physical.LimitExec;
 import org.elasticsearch.xpack.esql.plan.physical.PhysicalPlan;
+import org.elasticsearch.xpack.esql.plan.physical.RegexExtractExec;
 import org.elasticsearch.xpack.esql.plan.physical.TopNExec;
 import org.elasticsearch.xpack.esql.plan.physical.UnaryExec;
 import org.elasticsearch.xpack.esql.planner.AbstractPhysicalOperationProviders;
@@ -102,8 +104,9 @@ public class LocalPhysicalPlanOptimizer extends ParameterizedRuleExecutor<Physic
     }
 
     protected List<Batch<PhysicalPlan>> rules(boolean optimizeForEsSource) {
-        List<Rule<?, PhysicalPlan>> esSourceRules = new ArrayList<>(4);
+        List<Rule<?, PhysicalPlan>> esSourceRules = new ArrayList<>(6);
         esSourceRules.add(new ReplaceAttributeSourceWithDocId());
+        esSourceRules.add(new PushTopNPastEval());
 
         if (optimizeForEsSource) {
             esSourceRules.add(new PushTopNToSource());
@@ -301,6 +304,40 @@ public class LocalPhysicalPlanOptimizer extends ParameterizedRuleExecutor<Physic
         }
     }
 
+    /**
+     * Moves a {@link TopNExec} below the {@link EvalExec}s and {@link RegexExtractExec}s feeding it
+     * when it doesn't sort on anything they produce. They work row by row so running them after the
+     * TopN gives the same results, but only for the rows that survive it. That also lets
+     * {@link InsertFieldExtraction} delay loading their inputs until after the TopN and lets
+     * {@link PushTopNToSource} push the sort into Lucene.
+     * <p>
+     * E.g.:
+     * <pre>{@code
+     * TopNExec[[Order[emp_no]]]
+     * \_EvalExec[[concat(first_name, "-") AS x]]
+     *   \_EsQueryExec
+     * }</pre>
+     * becomes
+     * <pre>{@code
+     * EvalExec[[concat(first_name, "-") AS x]]
+     * \_TopNExec[[Order[emp_no]]]
+     *   \_EsQueryExec
+     * }</pre>
+     */
+    private static class PushTopNPastEval extends OptimizerRule<TopNExec> {
+        @Override
+        protected PhysicalPlan rule(TopNExec topNExec) {
+            PhysicalPlan child = topNExec.child();
+            if (child instanceof EvalExec || child instanceof RegexExtractExec) {
+                UnaryExec unary = (UnaryExec) child;
+                if (unary.child().outputSet().containsAll(topNExec.references())) {
+                    return unary.replaceChild(topNExec.replaceChild(unary.child()));
+                }
+            }
+            return topNExec;
+        }
+    }
+
     private static class PushTopNToSource extends PhysicalOptimizerRules.ParameterizedOptimizerRule<
         TopNExec,
         LocalPhysicalOptimizerContext> {
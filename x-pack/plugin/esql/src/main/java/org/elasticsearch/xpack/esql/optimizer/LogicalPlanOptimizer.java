@@ -21,6 +21,7 @@ import org.elasticsearch.xpack.esql.expression.function.scalar.math.AutoBucket;
 import org.elasticsearch.xpack.esql.expression.predicate.operator.comparison.In;
 import org.elasticsearch.xpack.esql.plan.logical.Enrich;
 import org.elasticsearch.xpack.esql.plan.logical.Eval;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.logical.MvExpand;
 import org.elasticsearch.xpack.esql.plan.logical.RegexExtract;
 import org.elasticsearch.xpack.esql.plan.logical.TopN;
@@ -519,6 +520,11 @@ public class LogicalPlanOptimizer extends ParameterizedRuleExecutor<LogicalPlan,
                 if (unary instanceof Eval || unary instanceof Project || unary instanceof RegexExtract || unary instanceof Enrich) {
                     return unary.replaceChild(limit.replaceChild(unary.child()));
                 }
+                // lookup emits at least one row per input row so the limit can't move past it but a copy of it can
+                // go below it, ie "| lookup idx on x | limit 10" needs at most 10 rows from before the lookup
+                else if (unary instanceof Lookup lookup && isLimitedTo(lookup.child(), (int) limit.limit().fold()) == false) {
+                    return limit.replaceChild(lookup.replaceChild(limit.replaceChild(lookup.child())));
+                }
                 // check if there's a 'visible' descendant limit lower than the current one
                 // and if so, align the current limit since it adds no value
                 // this applies for cases such as | limit 1 | sort field | limit 10
@@ -536,6 +542,15 @@ public class LogicalPlanOptimizer extends ParameterizedRuleExecutor<LogicalPlan,
             return limit;
         }
 
+        /**
+         * Checks if a 'visible' descendant limit already caps the plan to {@code limit} rows, like the
+         * copy of a limit that was pushed below a lookup and then further down.
+         */
+        private static boolean isLimitedTo(LogicalPlan plan, int limit) {
+            Limit descendantLimit = plan instanceof UnaryPlan unary ? descendantLimit(unary) : null;
+            return descendantLimit != null && (int) descendantLimit.limit().fold() <= limit;
+        }
+
         /**
          * Checks the existence of another 'visible' Limit, that exists behind an operation that doesn't produce output more data than
          * its input (that is not a relation/source nor aggregation).
@@ -546,8 +561,8 @@ public class LogicalPlanOptimizer extends ParameterizedRuleExecutor<LogicalPlan,
             while (plan instanceof Aggregate == false) {
                 if (plan instanceof Limit limit) {
                     return limit;
-                } else if (plan instanceof MvExpand) {
-                    // the limit that applies to mv_expand shouldn't be changed
+                } else if (plan instanceof MvExpand || plan instanceof Lookup) {
+                    // the limit that applies to mv_expand (or lookup) shouldn't be changed
                     // ie "| limit 1 | mv_expand x | limit 20" where we want that last "limit" to apply on expand results
                     return null;
                 }
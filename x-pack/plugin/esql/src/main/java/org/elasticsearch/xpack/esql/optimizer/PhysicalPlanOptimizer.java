@@ -12,6 +12,7 @@ import org.elasticsearch.xpack.esql.plan.physical.AggregateExec;
 import org.elasticsearch.xpack.esql.plan.physical.EnrichExec;
 import org.elasticsearch.xpack.esql.plan.physical.ExchangeExec;
 import org.elasticsearch.xpack.esql.plan.physical.FragmentExec;
+import org.elasticsearch.xpack.esql.plan.physical.HashJoinExec;
 import org.elasticsearch.xpack.esql.plan.physical.MvExpandExec;
 import org.elasticsearch.xpack.esql.plan.physical.PhysicalPlan;
 import org.elasticsearch.xpack.esql.plan.physical.ProjectExec;
@@ -125,6 +126,10 @@ public class PhysicalPlanOptimizer extends ParameterizedRuleExecutor<PhysicalPla
                             attributes.remove(enrichField instanceof Alias a ? a.child() : enrichField);
                         }
                     }
+                    if (p instanceof HashJoinExec join) {
+                        attributes.remove(join.lookupKey());
+                        attributes.removeAll(join.lookupFields());
+                    }
                 }
                 if (p instanceof ExchangeExec exec) {
                     keepCollecting.set(FALSE);
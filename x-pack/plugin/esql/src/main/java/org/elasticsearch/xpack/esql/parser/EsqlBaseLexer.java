@@ -18,25 +18,25 @@ public class EsqlBaseLexer extends Lexer {
     new PredictionContextCache();
   public static final int
     DISSECT=1, DROP=2, ENRICH=3, EVAL=4, EXPLAIN=5, FROM=6, GROK=7, INLINESTATS=8, 
-    KEEP=9, LIMIT=10, MV_EXPAND=11, RENAME=12, ROW=13, SHOW=14, SORT=15, STATS=16, 
-    WHERE=17, UNKNOWN_CMD=18, LINE_COMMENT=19, MULTILINE_COMMENT=20, WS=21, 
-    EXPLAIN_WS=22, EXPLAIN_LINE_COMMENT=23, EXPLAIN_MULTILINE_COMMENT=24, 
-    PIPE=25, STRING=26, INTEGER_LITERAL=27, DECIMAL_LITERAL=28, BY=29, AND=30, 
-    ASC=31, ASSIGN=32, COMMA=33, DESC=34, DOT=35, FALSE=36, FIRST=37, LAST=38, 
-    LP=39, IN=40, IS=41, LIKE=42, NOT=43, NULL=44, NULLS=45, OR=46, PARAM=47, 
-    RLIKE=48, RP=49, TRUE=50, EQ=51, CIEQ=52, NEQ=53, LT=54, LTE=55, GT=56, 
-    GTE=57, PLUS=58, MINUS=59, ASTERISK=60, SLASH=61, PERCENT=62, OPENING_BRACKET=63, 
-    CLOSING_BRACKET=64, UNQUOTED_IDENTIFIER=65, QUOTED_IDENTIFIER=66, EXPR_LINE_COMMENT=67, 
-    EXPR_MULTILINE_COMMENT=68, EXPR_WS=69, METADATA=70, FROM_UNQUOTED_IDENTIFIER=71, 
-    FROM_LINE_COMMENT=72, FROM_MULTILINE_COMMENT=73, FROM_WS=74, UNQUOTED_ID_PATTERN=75, 
-    PROJECT_LINE_COMMENT=76, PROJECT_MULTILINE_COMMENT=77, PROJECT_WS=78, 
-    AS=79, RENAME_LINE_COMMENT=80, RENAME_MULTILINE_COMMENT=81, RENAME_WS=82, 
-    ON=83, WITH=84, ENRICH_POLICY_NAME=85, ENRICH_LINE_COMMENT=86, ENRICH_MULTILINE_COMMENT=87, 
-    ENRICH_WS=88, ENRICH_FIELD_LINE_COMMENT=89, ENRICH_FIELD_MULTILINE_COMMENT=90, 
-    ENRICH_FIELD_WS=91, MVEXPAND_LINE_COMMENT=92, MVEXPAND_MULTILINE_COMMENT=93, 
-    MVEXPAND_WS=94, INFO=95, FUNCTIONS=96, SHOW_LINE_COMMENT=97, SHOW_MULTILINE_COMMENT=98, 
-    SHOW_WS=99, COLON=100, SETTING=101, SETTING_LINE_COMMENT=102, SETTTING_MULTILINE_COMMENT=103, 
-    SETTING_WS=104;
+    KEEP=9, LIMIT=10, LOOKUP=11, MV_EXPAND=12, RENAME=13, ROW=14, SHOW=15, 
+    SORT=16, STATS=17, WHERE=18, UNKNOWN_CMD=19, LINE_COMMENT=20, MULTILINE_COMMENT=21, 
+    WS=22, EXPLAIN_WS=23, EXPLAIN_LINE_COMMENT=24, EXPLAIN_MULTILINE_COMMENT=25, 
+    PIPE=26, STRING=27, INTEGER_LITERAL=28, DECIMAL_LITERAL=29, BY=30, AND=31, 
+    ASC=32, ASSIGN=33, COMMA=34, DESC=35, DOT=36, FALSE=37, FIRST=38, LAST=39, 
+    LP=40, IN=41, IS=42, LIKE=43, NOT=44, NULL=45, NULLS=46, OR=47, PARAM=48, 
+    RLIKE=49, RP=50, TRUE=51, EQ=52, CIEQ=53, NEQ=54, LT=55, LTE=56, GT=57, 
+    GTE=58, PLUS=59, MINUS=60, ASTERISK=61, SLASH=62, PERCENT=63, OPENING_BRACKET=64, 
+    CLOSING_BRACKET=65, UNQUOTED_IDENTIFIER=66, QUOTED_IDENTIFIER=67, EXPR_LINE_COMMENT=68, 
+    EXPR_MULTILINE_COMMENT=69, EXPR_WS=70, METADATA=71, FROM_UNQUOTED_IDENTIFIER=72, 
+    FROM_LINE_COMMENT=73, FROM_MULTILINE_COMMENT=74, FROM_WS=75, UNQUOTED_ID_PATTERN=76, 
+    PROJECT_LINE_COMMENT=77, PROJECT_MULTILINE_COMMENT=78, PROJECT_WS=79, 
+    AS=80, RENAME_LINE_COMMENT=81, RENAME_MULTILINE_COMMENT=82, RENAME_WS=83, 
+    ON=84, WITH=85, ENRICH_POLICY_NAME=86, ENRICH_LINE_COMMENT=87, ENRICH_MULTILINE_COMMENT=88, 
+    ENRICH_WS=89, ENRICH_FIELD_LINE_COMMENT=90, ENRICH_FIELD_MULTILINE_COMMENT=91, 
+    ENRICH_FIELD_WS=92, MVEXPAND_LINE_COMMENT=93, MVEXPAND_MULTILINE_COMMENT=94, 
+    MVEXPAND_WS=95, INFO=96, FUNCTIONS=97, SHOW_LINE_COMMENT=98, SHOW_MULTILINE_COMMENT=99, 
+    SHOW_WS=100, COLON=101, SETTING=102, SETTING_LINE_COMMENT=103, SETTTING_MULTILINE_COMMENT=104, 
+    SETTING_WS=105;
   public static final int
     EXPLAIN_MODE=1, EXPRESSION_MODE=2, FROM_MODE=3, PROJECT_MODE=4, RENAME_MODE=5, 
     ENRICH_MODE=6, ENRICH_FIELD_MODE=7, MVEXPAND_MODE=8, SHOW_MODE=9, SETTING_MODE=10;
@@ -53,36 +53,36 @@ public class EsqlBaseLexer extends Lexer {
   private static String[] makeRuleNames() {
     return new String[] {
       "DISSECT", "DROP", "ENRICH", "EVAL", "EXPLAIN", "FROM", "GROK", "INLINESTATS", 
-      "KEEP", "LIMIT", "MV_EXPAND", "RENAME", "ROW", "SHOW", "SORT", "STATS", 
-      "WHERE", "UNKNOWN_CMD", "LINE_COMMENT", "MULTILINE_COMMENT", "WS", "EXPLAIN_OPENING_BRACKET", 
-      "EXPLAIN_PIPE", "EXPLAIN_WS", "EXPLAIN_LINE_COMMENT", "EXPLAIN_MULTILINE_COMMENT", 
-      "PIPE", "DIGIT", "LETTER", "ESCAPE_SEQUENCE", "UNESCAPED_CHARS", "EXPONENT", 
-      "ASPERAND", "BACKQUOTE", "BACKQUOTE_BLOCK", "UNDERSCORE", "UNQUOTED_ID_BODY", 
-      "STRING", "INTEGER_LITERAL", "DECIMAL_LITERAL", "BY", "AND", "ASC", "ASSIGN", 
-      "COMMA", "DESC", "DOT", "FALSE", "FIRST", "LAST", "LP", "IN", "IS", "LIKE", 
-      "NOT", "NULL", "NULLS", "OR", "PARAM", "RLIKE", "RP", "TRUE", "EQ", "CIEQ", 
-      "NEQ", "LT", "LTE", "GT", "GTE", "PLUS", "MINUS", "ASTERISK", "SLASH", 
-      "PERCENT", "OPENING_BRACKET", "CLOSING_BRACKET", "UNQUOTED_IDENTIFIER", 
-      "QUOTED_IDENTIFIER", "EXPR_LINE_COMMENT", "EXPR_MULTILINE_COMMENT", "EXPR_WS", 
-      "FROM_PIPE", "FROM_OPENING_BRACKET", "FROM_CLOSING_BRACKET", "FROM_COMMA", 
-      "FROM_ASSIGN", "METADATA", "FROM_UNQUOTED_IDENTIFIER_PART", "FROM_UNQUOTED_IDENTIFIER", 
-      "FROM_QUOTED_IDENTIFIER", "FROM_LINE_COMMENT", "FROM_MULTILINE_COMMENT", 
-      "FROM_WS", "PROJECT_PIPE", "PROJECT_DOT", "PROJECT_COMMA", "UNQUOTED_ID_BODY_WITH_PATTERN", 
-      "UNQUOTED_ID_PATTERN", "PROJECT_UNQUOTED_IDENTIFIER", "PROJECT_QUOTED_IDENTIFIER", 
-      "PROJECT_LINE_COMMENT", "PROJECT_MULTILINE_COMMENT", "PROJECT_WS", "RENAME_PIPE", 
-      "RENAME_ASSIGN", "RENAME_COMMA", "RENAME_DOT", "AS", "RENAME_QUOTED_IDENTIFIER", 
-      "RENAME_UNQUOTED_IDENTIFIER", "RENAME_LINE_COMMENT", "RENAME_MULTILINE_COMMENT", 
-      "RENAME_WS", "ENRICH_PIPE", "ENRICH_OPENING_BRACKET", "ON", "WITH", "ENRICH_POLICY_NAME_BODY", 
-      "ENRICH_POLICY_NAME", "ENRICH_QUOTED_IDENTIFIER", "ENRICH_MODE_UNQUOTED_VALUE", 
-      "ENRICH_LINE_COMMENT", "ENRICH_MULTILINE_COMMENT", "ENRICH_WS", "ENRICH_FIELD_PIPE", 
-      "ENRICH_FIELD_ASSIGN", "ENRICH_FIELD_COMMA", "ENRICH_FIELD_DOT", "ENRICH_FIELD_WITH", 
-      "ENRICH_FIELD_UNQUOTED_IDENTIFIER", "ENRICH_FIELD_QUOTED_IDENTIFIER", 
-      "ENRICH_FIELD_LINE_COMMENT", "ENRICH_FIELD_MULTILINE_COMMENT", "ENRICH_FIELD_WS", 
-      "MVEXPAND_PIPE", "MVEXPAND_DOT", "MVEXPAND_QUOTED_IDENTIFIER", "MVEXPAND_UNQUOTED_IDENTIFIER", 
-      "MVEXPAND_LINE_COMMENT", "MVEXPAND_MULTILINE_COMMENT", "MVEXPAND_WS", 
-      "SHOW_PIPE", "INFO", "FUNCTIONS", "SHOW_LINE_COMMENT", "SHOW_MULTILINE_COMMENT", 
-      "SHOW_WS", "SETTING_CLOSING_BRACKET", "COLON", "SETTING", "SETTING_LINE_COMMENT", 
-      "SETTTING_MULTILINE_COMMENT", "SETTING_WS"
+      "KEEP", "LIMIT", "LOOKUP", "MV_EXPAND", "RENAME", "ROW", "SHOW", "SORT", 
+      "STATS", "WHERE", "UNKNOWN_CMD", "LINE_COMMENT", "MULTILINE_COMMENT", 
+      "WS", "EXPLAIN_OPENING_BRACKET", "EXPLAIN_PIPE", "EXPLAIN_WS", "EXPLAIN_LINE_COMMENT", 
+      "EXPLAIN_MULTILINE_COMMENT", "PIPE", "DIGIT", "LETTER", "ESCAPE_SEQUENCE", 
+      "UNESCAPED_CHARS", "EXPONENT", "ASPERAND", "BACKQUOTE", "BACKQUOTE_BLOCK", 
+      "UNDERSCORE", "UNQUOTED_ID_BODY", "STRING", "INTEGER_LITERAL", "DECIMAL_LITERAL", 
+      "BY", "AND", "ASC", "ASSIGN", "COMMA", "DESC", "DOT", "FALSE", "FIRST", 
+      "LAST", "LP", "IN", "IS", "LIKE", "NOT", "NULL", "NULLS", "OR", "PARAM", 
+      "RLIKE", "RP", "TRUE", "EQ", "CIEQ", "NEQ", "LT", "LTE", "GT", "GTE", 
+      "PLUS", "MINUS", "ASTERISK", "SLASH", "PERCENT", "OPENING_BRACKET", "CLOSING_BRACKET", 
+      "UNQUOTED_IDENTIFIER", "QUOTED_IDENTIFIER", "EXPR_LINE_COMMENT", "EXPR_MULTILINE_COMMENT", 
+      "EXPR_WS", "FROM_PIPE", "FROM_OPENING_BRACKET", "FROM_CLOSING_BRACKET", 
+      "FROM_COMMA", "FROM_ASSIGN", "METADATA", "FROM_UNQUOTED_IDENTIFIER_PART", 
+      "FROM_UNQUOTED_IDENTIFIER", "FROM_QUOTED_IDENTIFIER", "FROM_LINE_COMMENT", 
+      "FROM_MULTILINE_COMMENT", "FROM_WS", "PROJECT_PIPE", "PROJECT_DOT", "PROJECT_COMMA", 
+      "UNQUOTED_ID_BODY_WITH_PATTERN", "UNQUOTED_ID_PATTERN", "PROJECT_UNQUOTED_IDENTIFIER", 
+      "PROJECT_QUOTED_IDENTIFIER", "PROJECT_LINE_COMMENT", "PROJECT_MULTILINE_COMMENT", 
+      "PROJECT_WS", "RENAME_PIPE", "RENAME_ASSIGN", "RENAME_COMMA", "RENAME_DOT", 
+      "AS", "RENAME_QUOTED_IDENTIFIER", "RENAME_UNQUOTED_IDENTIFIER", "RENAME_LINE_COMMENT", 
+      "RENAME_MULTILINE_COMMENT", "RENAME_WS", "ENRICH_PIPE", "ENRICH_OPENING_BRACKET", 
+      "ON", "WITH", "ENRICH_POLICY_NAME_BODY", "ENRICH_POLICY_NAME", "ENRICH_QUOTED_IDENTIFIER", 
+      "ENRICH_MODE_UNQUOTED_VALUE", "ENRICH_LINE_COMMENT", "ENRICH_MULTILINE_COMMENT", 
+      "ENRICH_WS", "ENRICH_FIELD_PIPE", "ENRICH_FIELD_ASSIGN", "ENRICH_FIELD_COMMA", 
+      "ENRICH_FIELD_DOT", "ENRICH_FIELD_WITH", "ENRICH_FIELD_UNQUOTED_IDENTIFIER", 
+      "ENRICH_FIELD_QUOTED_IDENTIFIER", "ENRICH_FIELD_LINE_COMMENT", "ENRICH_FIELD_MULTILINE_COMMENT", 
+      "ENRICH_FIELD_WS", "MVEXPAND_PIPE", "MVEXPAND_DOT", "MVEXPAND_QUOTED_IDENTIFIER", 
+      "MVEXPAND_UNQUOTED_IDENTIFIER", "MVEXPAND_LINE_COMMENT", "MVEXPAND_MULTILINE_COMMENT", 
+      "MVEXPAND_WS", "SHOW_PIPE", "INFO", "FUNCTIONS", "SHOW_LINE_COMMENT", 
+      "SHOW_MULTILINE_COMMENT", "SHOW_WS", "SETTING_CLOSING_BRACKET", "COLON", 
+      "SETTING", "SETTING_LINE_COMMENT", "SETTTING_MULTILINE_COMMENT", "SETTING_WS"
     };
   }
   public static final String[] ruleNames = makeRuleNames();
@@ -90,25 +90,25 @@ public class EsqlBaseLexer extends Lexer {
   private static String[] makeLiteralNames() {
     return new String[] {
       null, "'dissect'", "'drop'", "'enrich'", "'eval'", "'explain'", "'from'", 
-      "'grok'", "'inlinestats'", "'keep'", "'limit'", "'mv_expand'", "'rename'", 
-      "'row'", "'show'", "'sort'", "'stats'", "'where'", null, null, null, 
-      null, null, null, null, "'|'", null, null, null, "'by'", "'and'", "'asc'", 
-      "'='", "','", "'desc'", "'.'", "'false'", "'first'", "'last'", "'('", 
-      "'in'", "'is'", "'like'", "'not'", "'null'", "'nulls'", "'or'", "'?'", 
-      "'rlike'", "')'", "'true'", "'=='", "'=~'", "'!='", "'<'", "'<='", "'>'", 
-      "'>='", "'+'", "'-'", "'*'", "'/'", "'%'", null, "']'", null, null, null, 
-      null, null, "'metadata'", null, null, null, null, null, null, null, null, 
-      "'as'", null, null, null, "'on'", "'with'", null, null, null, null, null, 
-      null, null, null, null, null, "'info'", "'functions'", null, null, null, 
-      "':'"
+      "'grok'", "'inlinestats'", "'keep'", "'limit'", "'lookup'", "'mv_expand'", 
+      "'rename'", "'row'", "'show'", "'sort'", "'stats'", "'where'", null, 
+      null, null, null, null, null, null, "'|'", null, null, null, "'by'", 
+      "'and'", "'asc'", "'='", "','", "'desc'", "'.'", "'false'", "'first'", 
+      "'last'", "'('", "'in'", "'is'", "'like'", "'not'", "'null'", "'nulls'", 
+      "'or'", "'?'", "'rlike'", "')'", "'true'", "'=='", "'=~'", "'!='", "'<'", 
+      "'<='", "'>'", "'>='", "'+'", "'-'", "'*'", "'/'", "'%'", null, "']'", 
+      null, null, null, null, null, "'metadata'", null, null, null, null, null, 
+      null, null, null, "'as'", null, null, null, "'on'", "'with'", null, null, 
+      null, null, null, null, null, null, null, null, "'info'", "'functions'", 
+      null, null, null, "':'"
     };
   }
   private static final String[] _LITERAL_NAMES = makeLiteralNames();
   private static String[] makeSymbolicNames() {
     return new String[] {
       null, "DISSECT", "DROP", "ENRICH", "EVAL", "EXPLAIN", "FROM", "GROK", 
-      "INLINESTATS", "KEEP", "LIMIT", "MV_EXPAND", "RENAME", "ROW", "SHOW", 
-      "SORT", "STATS", "WHERE", "UNKNOWN_CMD", "LINE_COMMENT", "MULTILINE_COMMENT", 
+      "INLINESTATS", "KEEP", "LIMIT", "LOOKUP", "MV_EXPAND", "RENAME", "ROW", 
+      "SHOW", "SORT", "STATS", "WHERE", "UNKNOWN_CMD", "LINE_COMMENT", "MULTILINE_COMMENT", 
       "WS", "EXPLAIN_WS", "EXPLAIN_LINE_COMMENT", "EXPLAIN_MULTILINE_COMMENT", 
       "PIPE", "STRING", "INTEGER_LITERAL", "DECIMAL_LITERAL", "BY", "AND", 
       "ASC", "ASSIGN", "COMMA", "DESC", "DOT", "FALSE", "FIRST", "LAST", "LP", 
@@ -187,7 +187,7 @@ public class EsqlBaseLexer extends Lexer {
   public ATN getATN() { return _ATN; }
 
   public static final String _serializedATN =
-    "\u0004\u0000h\u047d\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff"+
+    "\u0004\u0000i\u0488\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff"+
     "\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff"+
     "\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff"+
     "\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002\u0007\u0002"+
@@ -227,688 +227,694 @@ public class EsqlBaseLexer extends Lexer {
     "\u008d\u0007\u008d\u0002\u008e\u0007\u008e\u0002\u008f\u0007\u008f\u0002"+
     "\u0090\u0007\u0090\u0002\u0091\u0007\u0091\u0002\u0092\u0007\u0092\u0002"+
     "\u0093\u0007\u0093\u0002\u0094\u0007\u0094\u0002\u0095\u0007\u0095\u0002"+
-    "\u0096\u0007\u0096\u0002\u0097\u0007\u0097\u0002\u0098\u0007\u0098\u0001"+
+    "\u0096\u0007\u0096\u0002\u0097\u0007\u0097\u0002\u0098\u0007\u0098\u0002"+
+    "\u0099\u0007\u0099\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
     "\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
-    "\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001"+
-    "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001"+
-    "\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
-    "\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
-    "\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001"+
+    "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+    "\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+    "\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001"+
+    "\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001"+
     "\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001"+
-    "\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
-    "\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-    "\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+    "\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+    "\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001"+
+    "\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001"+
+    "\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
     "\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-    "\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b"+
-    "\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001"+
-    "\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
+    "\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t"+
+    "\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001"+
     "\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b"+
     "\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
-    "\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
-    "\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e"+
-    "\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
-    "\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
-    "\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010"+
-    "\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0004\u0011"+
-    "\u01ce\b\u0011\u000b\u0011\f\u0011\u01cf\u0001\u0011\u0001\u0011\u0001"+
-    "\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0005\u0012\u01d8\b\u0012\n"+
-    "\u0012\f\u0012\u01db\t\u0012\u0001\u0012\u0003\u0012\u01de\b\u0012\u0001"+
-    "\u0012\u0003\u0012\u01e1\b\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001"+
-    "\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0005\u0013\u01ea\b\u0013\n"+
-    "\u0013\f\u0013\u01ed\t\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
-    "\u0013\u0001\u0013\u0001\u0014\u0004\u0014\u01f5\b\u0014\u000b\u0014\f"+
-    "\u0014\u01f6\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015"+
-    "\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
-    "\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018"+
+    "\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001"+
+    "\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001"+
+    "\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e"+
+    "\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f"+
+    "\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010"+
+    "\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010"+
+    "\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
+    "\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0004\u0012\u01d9\b\u0012"+
+    "\u000b\u0012\f\u0012\u01da\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013"+
+    "\u0001\u0013\u0001\u0013\u0005\u0013\u01e3\b\u0013\n\u0013\f\u0013\u01e6"+
+    "\t\u0013\u0001\u0013\u0003\u0013\u01e9\b\u0013\u0001\u0013\u0003\u0013"+
+    "\u01ec\b\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014"+
+    "\u0001\u0014\u0001\u0014\u0005\u0014\u01f5\b\u0014\n\u0014\f\u0014\u01f8"+
+    "\t\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
+    "\u0015\u0004\u0015\u0200\b\u0015\u000b\u0015\f\u0015\u0201\u0001\u0015"+
+    "\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+    "\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018"+
     "\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u0019"+
     "\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001b"+
-    "\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d"+
-    "\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0003\u001f\u0220\b\u001f"+
-    "\u0001\u001f\u0004\u001f\u0223\b\u001f\u000b\u001f\f\u001f\u0224\u0001"+
-    " \u0001 \u0001!\u0001!\u0001\"\u0001\"\u0001\"\u0003\"\u022e\b\"\u0001"+
-    "#\u0001#\u0001$\u0001$\u0001$\u0003$\u0235\b$\u0001%\u0001%\u0001%\u0005"+
-    "%\u023a\b%\n%\f%\u023d\t%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0005"+
-    "%\u0245\b%\n%\f%\u0248\t%\u0001%\u0001%\u0001%\u0001%\u0001%\u0003%\u024f"+
-    "\b%\u0001%\u0003%\u0252\b%\u0003%\u0254\b%\u0001&\u0004&\u0257\b&\u000b"+
-    "&\f&\u0258\u0001\'\u0004\'\u025c\b\'\u000b\'\f\'\u025d\u0001\'\u0001\'"+
-    "\u0005\'\u0262\b\'\n\'\f\'\u0265\t\'\u0001\'\u0001\'\u0004\'\u0269\b\'"+
-    "\u000b\'\f\'\u026a\u0001\'\u0004\'\u026e\b\'\u000b\'\f\'\u026f\u0001\'"+
-    "\u0001\'\u0005\'\u0274\b\'\n\'\f\'\u0277\t\'\u0003\'\u0279\b\'\u0001\'"+
-    "\u0001\'\u0001\'\u0001\'\u0004\'\u027f\b\'\u000b\'\f\'\u0280\u0001\'\u0001"+
-    "\'\u0003\'\u0285\b\'\u0001(\u0001(\u0001(\u0001)\u0001)\u0001)\u0001)"+
-    "\u0001*\u0001*\u0001*\u0001*\u0001+\u0001+\u0001,\u0001,\u0001-\u0001"+
-    "-\u0001-\u0001-\u0001-\u0001.\u0001.\u0001/\u0001/\u0001/\u0001/\u0001"+
-    "/\u0001/\u00010\u00010\u00010\u00010\u00010\u00010\u00011\u00011\u0001"+
-    "1\u00011\u00011\u00012\u00012\u00013\u00013\u00013\u00014\u00014\u0001"+
-    "4\u00015\u00015\u00015\u00015\u00015\u00016\u00016\u00016\u00016\u0001"+
-    "7\u00017\u00017\u00017\u00017\u00018\u00018\u00018\u00018\u00018\u0001"+
-    "8\u00019\u00019\u00019\u0001:\u0001:\u0001;\u0001;\u0001;\u0001;\u0001"+
-    ";\u0001;\u0001<\u0001<\u0001=\u0001=\u0001=\u0001=\u0001=\u0001>\u0001"+
-    ">\u0001>\u0001?\u0001?\u0001?\u0001@\u0001@\u0001@\u0001A\u0001A\u0001"+
-    "B\u0001B\u0001B\u0001C\u0001C\u0001D\u0001D\u0001D\u0001E\u0001E\u0001"+
-    "F\u0001F\u0001G\u0001G\u0001H\u0001H\u0001I\u0001I\u0001J\u0001J\u0001"+
-    "J\u0001J\u0001J\u0001K\u0001K\u0001K\u0001K\u0001K\u0001L\u0001L\u0005"+
-    "L\u0305\bL\nL\fL\u0308\tL\u0001L\u0001L\u0003L\u030c\bL\u0001L\u0004L"+
-    "\u030f\bL\u000bL\fL\u0310\u0003L\u0313\bL\u0001M\u0001M\u0004M\u0317\b"+
-    "M\u000bM\fM\u0318\u0001M\u0001M\u0001N\u0001N\u0001N\u0001N\u0001O\u0001"+
-    "O\u0001O\u0001O\u0001P\u0001P\u0001P\u0001P\u0001Q\u0001Q\u0001Q\u0001"+
-    "Q\u0001Q\u0001R\u0001R\u0001R\u0001R\u0001S\u0001S\u0001S\u0001S\u0001"+
-    "T\u0001T\u0001T\u0001T\u0001U\u0001U\u0001U\u0001U\u0001V\u0001V\u0001"+
-    "V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001W\u0001W\u0001W\u0003"+
-    "W\u034a\bW\u0001X\u0004X\u034d\bX\u000bX\fX\u034e\u0001Y\u0001Y\u0001"+
-    "Y\u0001Y\u0001Z\u0001Z\u0001Z\u0001Z\u0001[\u0001[\u0001[\u0001[\u0001"+
-    "\\\u0001\\\u0001\\\u0001\\\u0001]\u0001]\u0001]\u0001]\u0001]\u0001^\u0001"+
-    "^\u0001^\u0001^\u0001_\u0001_\u0001_\u0001_\u0001`\u0001`\u0001`\u0001"+
-    "`\u0003`\u0372\b`\u0001a\u0001a\u0003a\u0376\ba\u0001a\u0005a\u0379\b"+
-    "a\na\fa\u037c\ta\u0001a\u0001a\u0003a\u0380\ba\u0001a\u0004a\u0383\ba"+
-    "\u000ba\fa\u0384\u0003a\u0387\ba\u0001b\u0001b\u0001b\u0001b\u0001c\u0001"+
-    "c\u0001c\u0001c\u0001d\u0001d\u0001d\u0001d\u0001e\u0001e\u0001e\u0001"+
-    "e\u0001f\u0001f\u0001f\u0001f\u0001g\u0001g\u0001g\u0001g\u0001g\u0001"+
-    "h\u0001h\u0001h\u0001h\u0001i\u0001i\u0001i\u0001i\u0001j\u0001j\u0001"+
-    "j\u0001j\u0001k\u0001k\u0001k\u0001l\u0001l\u0001l\u0001l\u0001m\u0001"+
-    "m\u0001m\u0001m\u0001n\u0001n\u0001n\u0001n\u0001o\u0001o\u0001o\u0001"+
-    "o\u0001p\u0001p\u0001p\u0001p\u0001q\u0001q\u0001q\u0001q\u0001q\u0001"+
-    "r\u0001r\u0001r\u0001r\u0001r\u0001s\u0001s\u0001s\u0001s\u0001s\u0001"+
-    "t\u0001t\u0001t\u0001t\u0001t\u0001t\u0001t\u0001u\u0001u\u0001v\u0001"+
-    "v\u0003v\u03df\bv\u0001v\u0005v\u03e2\bv\nv\fv\u03e5\tv\u0001w\u0001w"+
-    "\u0001w\u0001w\u0001x\u0001x\u0001x\u0001x\u0001y\u0001y\u0001y\u0001"+
-    "y\u0001z\u0001z\u0001z\u0001z\u0001{\u0001{\u0001{\u0001{\u0001|\u0001"+
-    "|\u0001|\u0001|\u0001|\u0001|\u0001}\u0001}\u0001}\u0001}\u0001~\u0001"+
-    "~\u0001~\u0001~\u0001\u007f\u0001\u007f\u0001\u007f\u0001\u007f\u0001"+
-    "\u0080\u0001\u0080\u0001\u0080\u0001\u0080\u0001\u0081\u0001\u0081\u0001"+
-    "\u0081\u0001\u0081\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001"+
-    "\u0083\u0001\u0083\u0001\u0083\u0001\u0083\u0001\u0084\u0001\u0084\u0001"+
-    "\u0084\u0001\u0084\u0001\u0085\u0001\u0085\u0001\u0085\u0001\u0085\u0001"+
-    "\u0086\u0001\u0086\u0001\u0086\u0001\u0086\u0001\u0086\u0001\u0087\u0001"+
-    "\u0087\u0001\u0087\u0001\u0087\u0001\u0088\u0001\u0088\u0001\u0088\u0001"+
-    "\u0088\u0001\u0089\u0001\u0089\u0001\u0089\u0001\u0089\u0001\u008a\u0001"+
-    "\u008a\u0001\u008a\u0001\u008a\u0001\u008b\u0001\u008b\u0001\u008b\u0001"+
-    "\u008b\u0001\u008c\u0001\u008c\u0001\u008c\u0001\u008c\u0001\u008d\u0001"+
-    "\u008d\u0001\u008d\u0001\u008d\u0001\u008d\u0001\u008e\u0001\u008e\u0001"+
-    "\u008e\u0001\u008e\u0001\u008e\u0001\u008f\u0001\u008f\u0001\u008f\u0001"+
-    "\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001"+
-    "\u008f\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0091\u0001"+
-    "\u0091\u0001\u0091\u0001\u0091\u0001\u0092\u0001\u0092\u0001\u0092\u0001"+
-    "\u0092\u0001\u0093\u0001\u0093\u0001\u0093\u0001\u0093\u0001\u0093\u0001"+
-    "\u0094\u0001\u0094\u0001\u0095\u0001\u0095\u0001\u0095\u0001\u0095\u0001"+
-    "\u0095\u0004\u0095\u046e\b\u0095\u000b\u0095\f\u0095\u046f\u0001\u0096"+
-    "\u0001\u0096\u0001\u0096\u0001\u0096\u0001\u0097\u0001\u0097\u0001\u0097"+
-    "\u0001\u0097\u0001\u0098\u0001\u0098\u0001\u0098\u0001\u0098\u0002\u01eb"+
-    "\u0246\u0000\u0099\u000b\u0001\r\u0002\u000f\u0003\u0011\u0004\u0013\u0005"+
-    "\u0015\u0006\u0017\u0007\u0019\b\u001b\t\u001d\n\u001f\u000b!\f#\r%\u000e"+
-    "\'\u000f)\u0010+\u0011-\u0012/\u00131\u00143\u00155\u00007\u00009\u0016"+
-    ";\u0017=\u0018?\u0019A\u0000C\u0000E\u0000G\u0000I\u0000K\u0000M\u0000"+
-    "O\u0000Q\u0000S\u0000U\u001aW\u001bY\u001c[\u001d]\u001e_\u001fa c!e\""+
-    "g#i$k%m&o\'q(s)u*w+y,{-}.\u007f/\u00810\u00831\u00852\u00873\u00894\u008b"+
-    "5\u008d6\u008f7\u00918\u00939\u0095:\u0097;\u0099<\u009b=\u009d>\u009f"+
-    "?\u00a1@\u00a3A\u00a5B\u00a7C\u00a9D\u00abE\u00ad\u0000\u00af\u0000\u00b1"+
-    "\u0000\u00b3\u0000\u00b5\u0000\u00b7F\u00b9\u0000\u00bbG\u00bd\u0000\u00bf"+
-    "H\u00c1I\u00c3J\u00c5\u0000\u00c7\u0000\u00c9\u0000\u00cb\u0000\u00cd"+
-    "K\u00cf\u0000\u00d1\u0000\u00d3L\u00d5M\u00d7N\u00d9\u0000\u00db\u0000"+
-    "\u00dd\u0000\u00df\u0000\u00e1O\u00e3\u0000\u00e5\u0000\u00e7P\u00e9Q"+
-    "\u00ebR\u00ed\u0000\u00ef\u0000\u00f1S\u00f3T\u00f5\u0000\u00f7U\u00f9"+
-    "\u0000\u00fb\u0000\u00fdV\u00ffW\u0101X\u0103\u0000\u0105\u0000\u0107"+
-    "\u0000\u0109\u0000\u010b\u0000\u010d\u0000\u010f\u0000\u0111Y\u0113Z\u0115"+
-    "[\u0117\u0000\u0119\u0000\u011b\u0000\u011d\u0000\u011f\\\u0121]\u0123"+
-    "^\u0125\u0000\u0127_\u0129`\u012ba\u012db\u012fc\u0131\u0000\u0133d\u0135"+
-    "e\u0137f\u0139g\u013bh\u000b\u0000\u0001\u0002\u0003\u0004\u0005\u0006"+
-    "\u0007\b\t\n\r\u0006\u0000\t\n\r\r  //[[]]\u0002\u0000\n\n\r\r\u0003\u0000"+
-    "\t\n\r\r  \u0001\u000009\u0002\u0000AZaz\u0005\u0000\"\"\\\\nnrrtt\u0004"+
-    "\u0000\n\n\r\r\"\"\\\\\u0002\u0000EEee\u0002\u0000++--\u0001\u0000``\n"+
-    "\u0000\t\n\r\r  ,,//==[[]]``||\u0002\u0000**//\u000b\u0000\t\n\r\r  \""+
-    "#,,//::<<>?\\\\||\u0498\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r\u0001"+
-    "\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001"+
-    "\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015\u0001"+
-    "\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000\u0000\u0019\u0001"+
-    "\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d\u0001"+
-    "\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001\u0000"+
-    "\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000\u0000"+
-    "\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000\u0000"+
-    "+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/\u0001"+
-    "\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003\u0001\u0000\u0000"+
-    "\u0000\u00015\u0001\u0000\u0000\u0000\u00017\u0001\u0000\u0000\u0000\u0001"+
-    "9\u0001\u0000\u0000\u0000\u0001;\u0001\u0000\u0000\u0000\u0001=\u0001"+
-    "\u0000\u0000\u0000\u0002?\u0001\u0000\u0000\u0000\u0002U\u0001\u0000\u0000"+
-    "\u0000\u0002W\u0001\u0000\u0000\u0000\u0002Y\u0001\u0000\u0000\u0000\u0002"+
-    "[\u0001\u0000\u0000\u0000\u0002]\u0001\u0000\u0000\u0000\u0002_\u0001"+
-    "\u0000\u0000\u0000\u0002a\u0001\u0000\u0000\u0000\u0002c\u0001\u0000\u0000"+
-    "\u0000\u0002e\u0001\u0000\u0000\u0000\u0002g\u0001\u0000\u0000\u0000\u0002"+
-    "i\u0001\u0000\u0000\u0000\u0002k\u0001\u0000\u0000\u0000\u0002m\u0001"+
-    "\u0000\u0000\u0000\u0002o\u0001\u0000\u0000\u0000\u0002q\u0001\u0000\u0000"+
-    "\u0000\u0002s\u0001\u0000\u0000\u0000\u0002u\u0001\u0000\u0000\u0000\u0002"+
-    "w\u0001\u0000\u0000\u0000\u0002y\u0001\u0000\u0000\u0000\u0002{\u0001"+
-    "\u0000\u0000\u0000\u0002}\u0001\u0000\u0000\u0000\u0002\u007f\u0001\u0000"+
-    "\u0000\u0000\u0002\u0081\u0001\u0000\u0000\u0000\u0002\u0083\u0001\u0000"+
-    "\u0000\u0000\u0002\u0085\u0001\u0000\u0000\u0000\u0002\u0087\u0001\u0000"+
-    "\u0000\u0000\u0002\u0089\u0001\u0000\u0000\u0000\u0002\u008b\u0001\u0000"+
-    "\u0000\u0000\u0002\u008d\u0001\u0000\u0000\u0000\u0002\u008f\u0001\u0000"+
-    "\u0000\u0000\u0002\u0091\u0001\u0000\u0000\u0000\u0002\u0093\u0001\u0000"+
-    "\u0000\u0000\u0002\u0095\u0001\u0000\u0000\u0000\u0002\u0097\u0001\u0000"+
-    "\u0000\u0000\u0002\u0099\u0001\u0000\u0000\u0000\u0002\u009b\u0001\u0000"+
-    "\u0000\u0000\u0002\u009d\u0001\u0000\u0000\u0000\u0002\u009f\u0001\u0000"+
-    "\u0000\u0000\u0002\u00a1\u0001\u0000\u0000\u0000\u0002\u00a3\u0001\u0000"+
-    "\u0000\u0000\u0002\u00a5\u0001\u0000\u0000\u0000\u0002\u00a7\u0001\u0000"+
-    "\u0000\u0000\u0002\u00a9\u0001\u0000\u0000\u0000\u0002\u00ab\u0001\u0000"+
-    "\u0000\u0000\u0003\u00ad\u0001\u0000\u0000\u0000\u0003\u00af\u0001\u0000"+
-    "\u0000\u0000\u0003\u00b1\u0001\u0000\u0000\u0000\u0003\u00b3\u0001\u0000"+
-    "\u0000\u0000\u0003\u00b5\u0001\u0000\u0000\u0000\u0003\u00b7\u0001\u0000"+
-    "\u0000\u0000\u0003\u00bb\u0001\u0000\u0000\u0000\u0003\u00bd\u0001\u0000"+
-    "\u0000\u0000\u0003\u00bf\u0001\u0000\u0000\u0000\u0003\u00c1\u0001\u0000"+
-    "\u0000\u0000\u0003\u00c3\u0001\u0000\u0000\u0000\u0004\u00c5\u0001\u0000"+
-    "\u0000\u0000\u0004\u00c7\u0001\u0000\u0000\u0000\u0004\u00c9\u0001\u0000"+
-    "\u0000\u0000\u0004\u00cd\u0001\u0000\u0000\u0000\u0004\u00cf\u0001\u0000"+
-    "\u0000\u0000\u0004\u00d1\u0001\u0000\u0000\u0000\u0004\u00d3\u0001\u0000"+
-    "\u0000\u0000\u0004\u00d5\u0001\u0000\u0000\u0000\u0004\u00d7\u0001\u0000"+
-    "\u0000\u0000\u0005\u00d9\u0001\u0000\u0000\u0000\u0005\u00db\u0001\u0000"+
-    "\u0000\u0000\u0005\u00dd\u0001\u0000\u0000\u0000\u0005\u00df\u0001\u0000"+
-    "\u0000\u0000\u0005\u00e1\u0001\u0000\u0000\u0000\u0005\u00e3\u0001\u0000"+
-    "\u0000\u0000\u0005\u00e5\u0001\u0000\u0000\u0000\u0005\u00e7\u0001\u0000"+
-    "\u0000\u0000\u0005\u00e9\u0001\u0000\u0000\u0000\u0005\u00eb\u0001\u0000"+
-    "\u0000\u0000\u0006\u00ed\u0001\u0000\u0000\u0000\u0006\u00ef\u0001\u0000"+
-    "\u0000\u0000\u0006\u00f1\u0001\u0000\u0000\u0000\u0006\u00f3\u0001\u0000"+
-    "\u0000\u0000\u0006\u00f7\u0001\u0000\u0000\u0000\u0006\u00f9\u0001\u0000"+
-    "\u0000\u0000\u0006\u00fb\u0001\u0000\u0000\u0000\u0006\u00fd\u0001\u0000"+
-    "\u0000\u0000\u0006\u00ff\u0001\u0000\u0000\u0000\u0006\u0101\u0001\u0000"+
-    "\u0000\u0000\u0007\u0103\u0001\u0000\u0000\u0000\u0007\u0105\u0001\u0000"+
-    "\u0000\u0000\u0007\u0107\u0001\u0000\u0000\u0000\u0007\u0109\u0001\u0000"+
-    "\u0000\u0000\u0007\u010b\u0001\u0000\u0000\u0000\u0007\u010d\u0001\u0000"+
-    "\u0000\u0000\u0007\u010f\u0001\u0000\u0000\u0000\u0007\u0111\u0001\u0000"+
-    "\u0000\u0000\u0007\u0113\u0001\u0000\u0000\u0000\u0007\u0115\u0001\u0000"+
-    "\u0000\u0000\b\u0117\u0001\u0000\u0000\u0000\b\u0119\u0001\u0000\u0000"+
-    "\u0000\b\u011b\u0001\u0000\u0000\u0000\b\u011d\u0001\u0000\u0000\u0000"+
-    "\b\u011f\u0001\u0000\u0000\u0000\b\u0121\u0001\u0000\u0000\u0000\b\u0123"+
-    "\u0001\u0000\u0000\u0000\t\u0125\u0001\u0000\u0000\u0000\t\u0127\u0001"+
-    "\u0000\u0000\u0000\t\u0129\u0001\u0000\u0000\u0000\t\u012b\u0001\u0000"+
-    "\u0000\u0000\t\u012d\u0001\u0000\u0000\u0000\t\u012f\u0001\u0000\u0000"+
-    "\u0000\n\u0131\u0001\u0000\u0000\u0000\n\u0133\u0001\u0000\u0000\u0000"+
-    "\n\u0135\u0001\u0000\u0000\u0000\n\u0137\u0001\u0000\u0000\u0000\n\u0139"+
-    "\u0001\u0000\u0000\u0000\n\u013b\u0001\u0000\u0000\u0000\u000b\u013d\u0001"+
-    "\u0000\u0000\u0000\r\u0147\u0001\u0000\u0000\u0000\u000f\u014e\u0001\u0000"+
-    "\u0000\u0000\u0011\u0157\u0001\u0000\u0000\u0000\u0013\u015e\u0001\u0000"+
-    "\u0000\u0000\u0015\u0168\u0001\u0000\u0000\u0000\u0017\u016f\u0001\u0000"+
-    "\u0000\u0000\u0019\u0176\u0001\u0000\u0000\u0000\u001b\u0184\u0001\u0000"+
-    "\u0000\u0000\u001d\u018b\u0001\u0000\u0000\u0000\u001f\u0193\u0001\u0000"+
-    "\u0000\u0000!\u019f\u0001\u0000\u0000\u0000#\u01a8\u0001\u0000\u0000\u0000"+
-    "%\u01ae\u0001\u0000\u0000\u0000\'\u01b5\u0001\u0000\u0000\u0000)\u01bc"+
-    "\u0001\u0000\u0000\u0000+\u01c4\u0001\u0000\u0000\u0000-\u01cd\u0001\u0000"+
-    "\u0000\u0000/\u01d3\u0001\u0000\u0000\u00001\u01e4\u0001\u0000\u0000\u0000"+
-    "3\u01f4\u0001\u0000\u0000\u00005\u01fa\u0001\u0000\u0000\u00007\u01ff"+
-    "\u0001\u0000\u0000\u00009\u0204\u0001\u0000\u0000\u0000;\u0208\u0001\u0000"+
-    "\u0000\u0000=\u020c\u0001\u0000\u0000\u0000?\u0210\u0001\u0000\u0000\u0000"+
-    "A\u0214\u0001\u0000\u0000\u0000C\u0216\u0001\u0000\u0000\u0000E\u0218"+
-    "\u0001\u0000\u0000\u0000G\u021b\u0001\u0000\u0000\u0000I\u021d\u0001\u0000"+
-    "\u0000\u0000K\u0226\u0001\u0000\u0000\u0000M\u0228\u0001\u0000\u0000\u0000"+
-    "O\u022d\u0001\u0000\u0000\u0000Q\u022f\u0001\u0000\u0000\u0000S\u0234"+
-    "\u0001\u0000\u0000\u0000U\u0253\u0001\u0000\u0000\u0000W\u0256\u0001\u0000"+
-    "\u0000\u0000Y\u0284\u0001\u0000\u0000\u0000[\u0286\u0001\u0000\u0000\u0000"+
-    "]\u0289\u0001\u0000\u0000\u0000_\u028d\u0001\u0000\u0000\u0000a\u0291"+
-    "\u0001\u0000\u0000\u0000c\u0293\u0001\u0000\u0000\u0000e\u0295\u0001\u0000"+
-    "\u0000\u0000g\u029a\u0001\u0000\u0000\u0000i\u029c\u0001\u0000\u0000\u0000"+
-    "k\u02a2\u0001\u0000\u0000\u0000m\u02a8\u0001\u0000\u0000\u0000o\u02ad"+
-    "\u0001\u0000\u0000\u0000q\u02af\u0001\u0000\u0000\u0000s\u02b2\u0001\u0000"+
-    "\u0000\u0000u\u02b5\u0001\u0000\u0000\u0000w\u02ba\u0001\u0000\u0000\u0000"+
-    "y\u02be\u0001\u0000\u0000\u0000{\u02c3\u0001\u0000\u0000\u0000}\u02c9"+
-    "\u0001\u0000\u0000\u0000\u007f\u02cc\u0001\u0000\u0000\u0000\u0081\u02ce"+
-    "\u0001\u0000\u0000\u0000\u0083\u02d4\u0001\u0000\u0000\u0000\u0085\u02d6"+
-    "\u0001\u0000\u0000\u0000\u0087\u02db\u0001\u0000\u0000\u0000\u0089\u02de"+
-    "\u0001\u0000\u0000\u0000\u008b\u02e1\u0001\u0000\u0000\u0000\u008d\u02e4"+
-    "\u0001\u0000\u0000\u0000\u008f\u02e6\u0001\u0000\u0000\u0000\u0091\u02e9"+
-    "\u0001\u0000\u0000\u0000\u0093\u02eb\u0001\u0000\u0000\u0000\u0095\u02ee"+
-    "\u0001\u0000\u0000\u0000\u0097\u02f0\u0001\u0000\u0000\u0000\u0099\u02f2"+
-    "\u0001\u0000\u0000\u0000\u009b\u02f4\u0001\u0000\u0000\u0000\u009d\u02f6"+
-    "\u0001\u0000\u0000\u0000\u009f\u02f8\u0001\u0000\u0000\u0000\u00a1\u02fd"+
-    "\u0001\u0000\u0000\u0000\u00a3\u0312\u0001\u0000\u0000\u0000\u00a5\u0314"+
-    "\u0001\u0000\u0000\u0000\u00a7\u031c\u0001\u0000\u0000\u0000\u00a9\u0320"+
-    "\u0001\u0000\u0000\u0000\u00ab\u0324\u0001\u0000\u0000\u0000\u00ad\u0328"+
-    "\u0001\u0000\u0000\u0000\u00af\u032d\u0001\u0000\u0000\u0000\u00b1\u0331"+
-    "\u0001\u0000\u0000\u0000\u00b3\u0335\u0001\u0000\u0000\u0000\u00b5\u0339"+
-    "\u0001\u0000\u0000\u0000\u00b7\u033d\u0001\u0000\u0000\u0000\u00b9\u0349"+
-    "\u0001\u0000\u0000\u0000\u00bb\u034c\u0001\u0000\u0000\u0000\u00bd\u0350"+
-    "\u0001\u0000\u0000\u0000\u00bf\u0354\u0001\u0000\u0000\u0000\u00c1\u0358"+
-    "\u0001\u0000\u0000\u0000\u00c3\u035c\u0001\u0000\u0000\u0000\u00c5\u0360"+
-    "\u0001\u0000\u0000\u0000\u00c7\u0365\u0001\u0000\u0000\u0000\u00c9\u0369"+
-    "\u0001\u0000\u0000\u0000\u00cb\u0371\u0001\u0000\u0000\u0000\u00cd\u0386"+
-    "\u0001\u0000\u0000\u0000\u00cf\u0388\u0001\u0000\u0000\u0000\u00d1\u038c"+
-    "\u0001\u0000\u0000\u0000\u00d3\u0390\u0001\u0000\u0000\u0000\u00d5\u0394"+
-    "\u0001\u0000\u0000\u0000\u00d7\u0398\u0001\u0000\u0000\u0000\u00d9\u039c"+
-    "\u0001\u0000\u0000\u0000\u00db\u03a1\u0001\u0000\u0000\u0000\u00dd\u03a5"+
-    "\u0001\u0000\u0000\u0000\u00df\u03a9\u0001\u0000\u0000\u0000\u00e1\u03ad"+
-    "\u0001\u0000\u0000\u0000\u00e3\u03b0\u0001\u0000\u0000\u0000\u00e5\u03b4"+
-    "\u0001\u0000\u0000\u0000\u00e7\u03b8\u0001\u0000\u0000\u0000\u00e9\u03bc"+
-    "\u0001\u0000\u0000\u0000\u00eb\u03c0\u0001\u0000\u0000\u0000\u00ed\u03c4"+
-    "\u0001\u0000\u0000\u0000\u00ef\u03c9\u0001\u0000\u0000\u0000\u00f1\u03ce"+
-    "\u0001\u0000\u0000\u0000\u00f3\u03d3\u0001\u0000\u0000\u0000\u00f5\u03da"+
-    "\u0001\u0000\u0000\u0000\u00f7\u03de\u0001\u0000\u0000\u0000\u00f9\u03e6"+
-    "\u0001\u0000\u0000\u0000\u00fb\u03ea\u0001\u0000\u0000\u0000\u00fd\u03ee"+
-    "\u0001\u0000\u0000\u0000\u00ff\u03f2\u0001\u0000\u0000\u0000\u0101\u03f6"+
-    "\u0001\u0000\u0000\u0000\u0103\u03fa\u0001\u0000\u0000\u0000\u0105\u0400"+
-    "\u0001\u0000\u0000\u0000\u0107\u0404\u0001\u0000\u0000\u0000\u0109\u0408"+
-    "\u0001\u0000\u0000\u0000\u010b\u040c\u0001\u0000\u0000\u0000\u010d\u0410"+
-    "\u0001\u0000\u0000\u0000\u010f\u0414\u0001\u0000\u0000\u0000\u0111\u0418"+
-    "\u0001\u0000\u0000\u0000\u0113\u041c\u0001\u0000\u0000\u0000\u0115\u0420"+
-    "\u0001\u0000\u0000\u0000\u0117\u0424\u0001\u0000\u0000\u0000\u0119\u0429"+
-    "\u0001\u0000\u0000\u0000\u011b\u042d\u0001\u0000\u0000\u0000\u011d\u0431"+
-    "\u0001\u0000\u0000\u0000\u011f\u0435\u0001\u0000\u0000\u0000\u0121\u0439"+
-    "\u0001\u0000\u0000\u0000\u0123\u043d\u0001\u0000\u0000\u0000\u0125\u0441"+
-    "\u0001\u0000\u0000\u0000\u0127\u0446\u0001\u0000\u0000\u0000\u0129\u044b"+
-    "\u0001\u0000\u0000\u0000\u012b\u0455\u0001\u0000\u0000\u0000\u012d\u0459"+
-    "\u0001\u0000\u0000\u0000\u012f\u045d\u0001\u0000\u0000\u0000\u0131\u0461"+
-    "\u0001\u0000\u0000\u0000\u0133\u0466\u0001\u0000\u0000\u0000\u0135\u046d"+
-    "\u0001\u0000\u0000\u0000\u0137\u0471\u0001\u0000\u0000\u0000\u0139\u0475"+
-    "\u0001\u0000\u0000\u0000\u013b\u0479\u0001\u0000\u0000\u0000\u013d\u013e"+
-    "\u0005d\u0000\u0000\u013e\u013f\u0005i\u0000\u0000\u013f\u0140\u0005s"+
-    "\u0000\u0000\u0140\u0141\u0005s\u0000\u0000\u0141\u0142\u0005e\u0000\u0000"+
-    "\u0142\u0143\u0005c\u0000\u0000\u0143\u0144\u0005t\u0000\u0000\u0144\u0145"+
-    "\u0001\u0000\u0000\u0000\u0145\u0146\u0006\u0000\u0000\u0000\u0146\f\u0001"+
-    "\u0000\u0000\u0000\u0147\u0148\u0005d\u0000\u0000\u0148\u0149\u0005r\u0000"+
-    "\u0000\u0149\u014a\u0005o\u0000\u0000\u014a\u014b\u0005p\u0000\u0000\u014b"+
-    "\u014c\u0001\u0000\u0000\u0000\u014c\u014d\u0006\u0001\u0001\u0000\u014d"+
-    "\u000e\u0001\u0000\u0000\u0000\u014e\u014f\u0005e\u0000\u0000\u014f\u0150"+
-    "\u0005n\u0000\u0000\u0150\u0151\u0005r\u0000\u0000\u0151\u0152\u0005i"+
-    "\u0000\u0000\u0152\u0153\u0005c\u0000\u0000\u0153\u0154\u0005h\u0000\u0000"+
-    "\u0154\u0155\u0001\u0000\u0000\u0000\u0155\u0156\u0006\u0002\u0002\u0000"+
-    "\u0156\u0010\u0001\u0000\u0000\u0000\u0157\u0158\u0005e\u0000\u0000\u0158"+
-    "\u0159\u0005v\u0000\u0000\u0159\u015a\u0005a\u0000\u0000\u015a\u015b\u0005"+
-    "l\u0000\u0000\u015b\u015c\u0001\u0000\u0000\u0000\u015c\u015d\u0006\u0003"+
-    "\u0000\u0000\u015d\u0012\u0001\u0000\u0000\u0000\u015e\u015f\u0005e\u0000"+
-    "\u0000\u015f\u0160\u0005x\u0000\u0000\u0160\u0161\u0005p\u0000\u0000\u0161"+
-    "\u0162\u0005l\u0000\u0000\u0162\u0163\u0005a\u0000\u0000\u0163\u0164\u0005"+
-    "i\u0000\u0000\u0164\u0165\u0005n\u0000\u0000\u0165\u0166\u0001\u0000\u0000"+
-    "\u0000\u0166\u0167\u0006\u0004\u0003\u0000\u0167\u0014\u0001\u0000\u0000"+
-    "\u0000\u0168\u0169\u0005f\u0000\u0000\u0169\u016a\u0005r\u0000\u0000\u016a"+
-    "\u016b\u0005o\u0000\u0000\u016b\u016c\u0005m\u0000\u0000\u016c\u016d\u0001"+
-    "\u0000\u0000\u0000\u016d\u016e\u0006\u0005\u0004\u0000\u016e\u0016\u0001"+
-    "\u0000\u0000\u0000\u016f\u0170\u0005g\u0000\u0000\u0170\u0171\u0005r\u0000"+
-    "\u0000\u0171\u0172\u0005o\u0000\u0000\u0172\u0173\u0005k\u0000\u0000\u0173"+
-    "\u0174\u0001\u0000\u0000\u0000\u0174\u0175\u0006\u0006\u0000\u0000\u0175"+
-    "\u0018\u0001\u0000\u0000\u0000\u0176\u0177\u0005i\u0000\u0000\u0177\u0178"+
-    "\u0005n\u0000\u0000\u0178\u0179\u0005l\u0000\u0000\u0179\u017a\u0005i"+
-    "\u0000\u0000\u017a\u017b\u0005n\u0000\u0000\u017b\u017c\u0005e\u0000\u0000"+
-    "\u017c\u017d\u0005s\u0000\u0000\u017d\u017e\u0005t\u0000\u0000\u017e\u017f"+
-    "\u0005a\u0000\u0000\u017f\u0180\u0005t\u0000\u0000\u0180\u0181\u0005s"+
-    "\u0000\u0000\u0181\u0182\u0001\u0000\u0000\u0000\u0182\u0183\u0006\u0007"+
-    "\u0000\u0000\u0183\u001a\u0001\u0000\u0000\u0000\u0184\u0185\u0005k\u0000"+
-    "\u0000\u0185\u0186\u0005e\u0000\u0000\u0186\u0187\u0005e\u0000\u0000\u0187"+
-    "\u0188\u0005p\u0000\u0000\u0188\u0189\u0001\u0000\u0000\u0000\u0189\u018a"+
-    "\u0006\b\u0001\u0000\u018a\u001c\u0001\u0000\u0000\u0000\u018b\u018c\u0005"+
-    "l\u0000\u0000\u018c\u018d\u0005i\u0000\u0000\u018d\u018e\u0005m\u0000"+
-    "\u0000\u018e\u018f\u0005i\u0000\u0000\u018f\u0190\u0005t\u0000\u0000\u0190"+
-    "\u0191\u0001\u0000\u0000\u0000\u0191\u0192\u0006\t\u0000\u0000\u0192\u001e"+
-    "\u0001\u0000\u0000\u0000\u0193\u0194\u0005m\u0000\u0000\u0194\u0195\u0005"+
-    "v\u0000\u0000\u0195\u0196\u0005_\u0000\u0000\u0196\u0197\u0005e\u0000"+
-    "\u0000\u0197\u0198\u0005x\u0000\u0000\u0198\u0199\u0005p\u0000\u0000\u0199"+
-    "\u019a\u0005a\u0000\u0000\u019a\u019b\u0005n\u0000\u0000\u019b\u019c\u0005"+
-    "d\u0000\u0000\u019c\u019d\u0001\u0000\u0000\u0000\u019d\u019e\u0006\n"+
-    "\u0005\u0000\u019e \u0001\u0000\u0000\u0000\u019f\u01a0\u0005r\u0000\u0000"+
-    "\u01a0\u01a1\u0005e\u0000\u0000\u01a1\u01a2\u0005n\u0000\u0000\u01a2\u01a3"+
-    "\u0005a\u0000\u0000\u01a3\u01a4\u0005m\u0000\u0000\u01a4\u01a5\u0005e"+
-    "\u0000\u0000\u01a5\u01a6\u0001\u0000\u0000\u0000\u01a6\u01a7\u0006\u000b"+
-    "\u0006\u0000\u01a7\"\u0001\u0000\u0000\u0000\u01a8\u01a9\u0005r\u0000"+
-    "\u0000\u01a9\u01aa\u0005o\u0000\u0000\u01aa\u01ab\u0005w\u0000\u0000\u01ab"+
-    "\u01ac\u0001\u0000\u0000\u0000\u01ac\u01ad\u0006\f\u0000\u0000\u01ad$"+
-    "\u0001\u0000\u0000\u0000\u01ae\u01af\u0005s\u0000\u0000\u01af\u01b0\u0005"+
-    "h\u0000\u0000\u01b0\u01b1\u0005o\u0000\u0000\u01b1\u01b2\u0005w\u0000"+
-    "\u0000\u01b2\u01b3\u0001\u0000\u0000\u0000\u01b3\u01b4\u0006\r\u0007\u0000"+
-    "\u01b4&\u0001\u0000\u0000\u0000\u01b5\u01b6\u0005s\u0000\u0000\u01b6\u01b7"+
-    "\u0005o\u0000\u0000\u01b7\u01b8\u0005r\u0000\u0000\u01b8\u01b9\u0005t"+
-    "\u0000\u0000\u01b9\u01ba\u0001\u0000\u0000\u0000\u01ba\u01bb\u0006\u000e"+
-    "\u0000\u0000\u01bb(\u0001\u0000\u0000\u0000\u01bc\u01bd\u0005s\u0000\u0000"+
-    "\u01bd\u01be\u0005t\u0000\u0000\u01be\u01bf\u0005a\u0000\u0000\u01bf\u01c0"+
-    "\u0005t\u0000\u0000\u01c0\u01c1\u0005s\u0000\u0000\u01c1\u01c2\u0001\u0000"+
-    "\u0000\u0000\u01c2\u01c3\u0006\u000f\u0000\u0000\u01c3*\u0001\u0000\u0000"+
-    "\u0000\u01c4\u01c5\u0005w\u0000\u0000\u01c5\u01c6\u0005h\u0000\u0000\u01c6"+
-    "\u01c7\u0005e\u0000\u0000\u01c7\u01c8\u0005r\u0000\u0000\u01c8\u01c9\u0005"+
-    "e\u0000\u0000\u01c9\u01ca\u0001\u0000\u0000\u0000\u01ca\u01cb\u0006\u0010"+
-    "\u0000\u0000\u01cb,\u0001\u0000\u0000\u0000\u01cc\u01ce\b\u0000\u0000"+
-    "\u0000\u01cd\u01cc\u0001\u0000\u0000\u0000\u01ce\u01cf\u0001\u0000\u0000"+
-    "\u0000\u01cf\u01cd\u0001\u0000\u0000\u0000\u01cf\u01d0\u0001\u0000\u0000"+
-    "\u0000\u01d0\u01d1\u0001\u0000\u0000\u0000\u01d1\u01d2\u0006\u0011\u0000"+
-    "\u0000\u01d2.\u0001\u0000\u0000\u0000\u01d3\u01d4\u0005/\u0000\u0000\u01d4"+
-    "\u01d5\u0005/\u0000\u0000\u01d5\u01d9\u0001\u0000\u0000\u0000\u01d6\u01d8"+
-    "\b\u0001\u0000\u0000\u01d7\u01d6\u0001\u0000\u0000\u0000\u01d8\u01db\u0001"+
-    "\u0000\u0000\u0000\u01d9\u01d7\u0001\u0000\u0000\u0000\u01d9\u01da\u0001"+
-    "\u0000\u0000\u0000\u01da\u01dd\u0001\u0000\u0000\u0000\u01db\u01d9\u0001"+
-    "\u0000\u0000\u0000\u01dc\u01de\u0005\r\u0000\u0000\u01dd\u01dc\u0001\u0000"+
-    "\u0000\u0000\u01dd\u01de\u0001\u0000\u0000\u0000\u01de\u01e0\u0001\u0000"+
-    "\u0000\u0000\u01df\u01e1\u0005\n\u0000\u0000\u01e0\u01df\u0001\u0000\u0000"+
-    "\u0000\u01e0\u01e1\u0001\u0000\u0000\u0000\u01e1\u01e2\u0001\u0000\u0000"+
-    "\u0000\u01e2\u01e3\u0006\u0012\b\u0000\u01e30\u0001\u0000\u0000\u0000"+
-    "\u01e4\u01e5\u0005/\u0000\u0000\u01e5\u01e6\u0005*\u0000\u0000\u01e6\u01eb"+
-    "\u0001\u0000\u0000\u0000\u01e7\u01ea\u00031\u0013\u0000\u01e8\u01ea\t"+
-    "\u0000\u0000\u0000\u01e9\u01e7\u0001\u0000\u0000\u0000\u01e9\u01e8\u0001"+
-    "\u0000\u0000\u0000\u01ea\u01ed\u0001\u0000\u0000\u0000\u01eb\u01ec\u0001"+
-    "\u0000\u0000\u0000\u01eb\u01e9\u0001\u0000\u0000\u0000\u01ec\u01ee\u0001"+
-    "\u0000\u0000\u0000\u01ed\u01eb\u0001\u0000\u0000\u0000\u01ee\u01ef\u0005"+
-    "*\u0000\u0000\u01ef\u01f0\u0005/\u0000\u0000\u01f0\u01f1\u0001\u0000\u0000"+
-    "\u0000\u01f1\u01f2\u0006\u0013\b\u0000\u01f22\u0001\u0000\u0000\u0000"+
-    "\u01f3\u01f5\u0007\u0002\u0000\u0000\u01f4\u01f3\u0001\u0000\u0000\u0000"+
-    "\u01f5\u01f6\u0001\u0000\u0000\u0000\u01f6\u01f4\u0001\u0000\u0000\u0000"+
-    "\u01f6\u01f7\u0001\u0000\u0000\u0000\u01f7\u01f8\u0001\u0000\u0000\u0000"+
-    "\u01f8\u01f9\u0006\u0014\b\u0000\u01f94\u0001\u0000\u0000\u0000\u01fa"+
-    "\u01fb\u0003\u009fJ\u0000\u01fb\u01fc\u0001\u0000\u0000\u0000\u01fc\u01fd"+
-    "\u0006\u0015\t\u0000\u01fd\u01fe\u0006\u0015\n\u0000\u01fe6\u0001\u0000"+
-    "\u0000\u0000\u01ff\u0200\u0003?\u001a\u0000\u0200\u0201\u0001\u0000\u0000"+
-    "\u0000\u0201\u0202\u0006\u0016\u000b\u0000\u0202\u0203\u0006\u0016\f\u0000"+
-    "\u02038\u0001\u0000\u0000\u0000\u0204\u0205\u00033\u0014\u0000\u0205\u0206"+
-    "\u0001\u0000\u0000\u0000\u0206\u0207\u0006\u0017\b\u0000\u0207:\u0001"+
-    "\u0000\u0000\u0000\u0208\u0209\u0003/\u0012\u0000\u0209\u020a\u0001\u0000"+
-    "\u0000\u0000\u020a\u020b\u0006\u0018\b\u0000\u020b<\u0001\u0000\u0000"+
-    "\u0000\u020c\u020d\u00031\u0013\u0000\u020d\u020e\u0001\u0000\u0000\u0000"+
-    "\u020e\u020f\u0006\u0019\b\u0000\u020f>\u0001\u0000\u0000\u0000\u0210"+
-    "\u0211\u0005|\u0000\u0000\u0211\u0212\u0001\u0000\u0000\u0000\u0212\u0213"+
-    "\u0006\u001a\f\u0000\u0213@\u0001\u0000\u0000\u0000\u0214\u0215\u0007"+
-    "\u0003\u0000\u0000\u0215B\u0001\u0000\u0000\u0000\u0216\u0217\u0007\u0004"+
-    "\u0000\u0000\u0217D\u0001\u0000\u0000\u0000\u0218\u0219\u0005\\\u0000"+
-    "\u0000\u0219\u021a\u0007\u0005\u0000\u0000\u021aF\u0001\u0000\u0000\u0000"+
-    "\u021b\u021c\b\u0006\u0000\u0000\u021cH\u0001\u0000\u0000\u0000\u021d"+
-    "\u021f\u0007\u0007\u0000\u0000\u021e\u0220\u0007\b\u0000\u0000\u021f\u021e"+
-    "\u0001\u0000\u0000\u0000\u021f\u0220\u0001\u0000\u0000\u0000\u0220\u0222"+
-    "\u0001\u0000\u0000\u0000\u0221\u0223\u0003A\u001b\u0000\u0222\u0221\u0001"+
-    "\u0000\u0000\u0000\u0223\u0224\u0001\u0000\u0000\u0000\u0224\u0222\u0001"+
-    "\u0000\u0000\u0000\u0224\u0225\u0001\u0000\u0000\u0000\u0225J\u0001\u0000"+
-    "\u0000\u0000\u0226\u0227\u0005@\u0000\u0000\u0227L\u0001\u0000\u0000\u0000"+
-    "\u0228\u0229\u0005`\u0000\u0000\u0229N\u0001\u0000\u0000\u0000\u022a\u022e"+
-    "\b\t\u0000\u0000\u022b\u022c\u0005`\u0000\u0000\u022c\u022e\u0005`\u0000"+
-    "\u0000\u022d\u022a\u0001\u0000\u0000\u0000\u022d\u022b\u0001\u0000\u0000"+
-    "\u0000\u022eP\u0001\u0000\u0000\u0000\u022f\u0230\u0005_\u0000\u0000\u0230"+
-    "R\u0001\u0000\u0000\u0000\u0231\u0235\u0003C\u001c\u0000\u0232\u0235\u0003"+
-    "A\u001b\u0000\u0233\u0235\u0003Q#\u0000\u0234\u0231\u0001\u0000\u0000"+
-    "\u0000\u0234\u0232\u0001\u0000\u0000\u0000\u0234\u0233\u0001\u0000\u0000"+
-    "\u0000\u0235T\u0001\u0000\u0000\u0000\u0236\u023b\u0005\"\u0000\u0000"+
-    "\u0237\u023a\u0003E\u001d\u0000\u0238\u023a\u0003G\u001e\u0000\u0239\u0237"+
-    "\u0001\u0000\u0000\u0000\u0239\u0238\u0001\u0000\u0000\u0000\u023a\u023d"+
-    "\u0001\u0000\u0000\u0000\u023b\u0239\u0001\u0000\u0000\u0000\u023b\u023c"+
-    "\u0001\u0000\u0000\u0000\u023c\u023e\u0001\u0000\u0000\u0000\u023d\u023b"+
-    "\u0001\u0000\u0000\u0000\u023e\u0254\u0005\"\u0000\u0000\u023f\u0240\u0005"+
-    "\"\u0000\u0000\u0240\u0241\u0005\"\u0000\u0000\u0241\u0242\u0005\"\u0000"+
-    "\u0000\u0242\u0246\u0001\u0000\u0000\u0000\u0243\u0245\b\u0001\u0000\u0000"+
-    "\u0244\u0243\u0001\u0000\u0000\u0000\u0245\u0248\u0001\u0000\u0000\u0000"+
-    "\u0246\u0247\u0001\u0000\u0000\u0000\u0246\u0244\u0001\u0000\u0000\u0000"+
-    "\u0247\u0249\u0001\u0000\u0000\u0000\u0248\u0246\u0001\u0000\u0000\u0000"+
-    "\u0249\u024a\u0005\"\u0000\u0000\u024a\u024b\u0005\"\u0000\u0000\u024b"+
-    "\u024c\u0005\"\u0000\u0000\u024c\u024e\u0001\u0000\u0000\u0000\u024d\u024f"+
-    "\u0005\"\u0000\u0000\u024e\u024d\u0001\u0000\u0000\u0000\u024e\u024f\u0001"+
-    "\u0000\u0000\u0000\u024f\u0251\u0001\u0000\u0000\u0000\u0250\u0252\u0005"+
-    "\"\u0000\u0000\u0251\u0250\u0001\u0000\u0000\u0000\u0251\u0252\u0001\u0000"+
-    "\u0000\u0000\u0252\u0254\u0001\u0000\u0000\u0000\u0253\u0236\u0001\u0000"+
-    "\u0000\u0000\u0253\u023f\u0001\u0000\u0000\u0000\u0254V\u0001\u0000\u0000"+
-    "\u0000\u0255\u0257\u0003A\u001b\u0000\u0256\u0255\u0001\u0000\u0000\u0000"+
-    "\u0257\u0258\u0001\u0000\u0000\u0000\u0258\u0256\u0001\u0000\u0000\u0000"+
-    "\u0258\u0259\u0001\u0000\u0000\u0000\u0259X\u0001\u0000\u0000\u0000\u025a"+
-    "\u025c\u0003A\u001b\u0000\u025b\u025a\u0001\u0000\u0000\u0000\u025c\u025d"+
-    "\u0001\u0000\u0000\u0000\u025d\u025b\u0001\u0000\u0000\u0000\u025d\u025e"+
-    "\u0001\u0000\u0000\u0000\u025e\u025f\u0001\u0000\u0000\u0000\u025f\u0263"+
-    "\u0003g.\u0000\u0260\u0262\u0003A\u001b\u0000\u0261\u0260\u0001\u0000"+
-    "\u0000\u0000\u0262\u0265\u0001\u0000\u0000\u0000\u0263\u0261\u0001\u0000"+
-    "\u0000\u0000\u0263\u0264\u0001\u0000\u0000\u0000\u0264\u0285\u0001\u0000"+
-    "\u0000\u0000\u0265\u0263\u0001\u0000\u0000\u0000\u0266\u0268\u0003g.\u0000"+
-    "\u0267\u0269\u0003A\u001b\u0000\u0268\u0267\u0001\u0000\u0000\u0000\u0269"+
-    "\u026a\u0001\u0000\u0000\u0000\u026a\u0268\u0001\u0000\u0000\u0000\u026a"+
-    "\u026b\u0001\u0000\u0000\u0000\u026b\u0285\u0001\u0000\u0000\u0000\u026c"+
-    "\u026e\u0003A\u001b\u0000\u026d\u026c\u0001\u0000\u0000\u0000\u026e\u026f"+
-    "\u0001\u0000\u0000\u0000\u026f\u026d\u0001\u0000\u0000\u0000\u026f\u0270"+
-    "\u0001\u0000\u0000\u0000\u0270\u0278\u0001\u0000\u0000\u0000\u0271\u0275"+
-    "\u0003g.\u0000\u0272\u0274\u0003A\u001b\u0000\u0273\u0272\u0001\u0000"+
-    "\u0000\u0000\u0274\u0277\u0001\u0000\u0000\u0000\u0275\u0273\u0001\u0000"+
-    "\u0000\u0000\u0275\u0276\u0001\u0000\u0000\u0000\u0276\u0279\u0001\u0000"+
-    "\u0000\u0000\u0277\u0275\u0001\u0000\u0000\u0000\u0278\u0271\u0001\u0000"+
-    "\u0000\u0000\u0278\u0279\u0001\u0000\u0000\u0000\u0279\u027a\u0001\u0000"+
-    "\u0000\u0000\u027a\u027b\u0003I\u001f\u0000\u027b\u0285\u0001\u0000\u0000"+
-    "\u0000\u027c\u027e\u0003g.\u0000\u027d\u027f\u0003A\u001b\u0000\u027e"+
-    "\u027d\u0001\u0000\u0000\u0000\u027f\u0280\u0001\u0000\u0000\u0000\u0280"+
-    "\u027e\u0001\u0000\u0000\u0000\u0280\u0281\u0001\u0000\u0000\u0000\u0281"+
-    "\u0282\u0001\u0000\u0000\u0000\u0282\u0283\u0003I\u001f\u0000\u0283\u0285"+
-    "\u0001\u0000\u0000\u0000\u0284\u025b\u0001\u0000\u0000\u0000\u0284\u0266"+
-    "\u0001\u0000\u0000\u0000\u0284\u026d\u0001\u0000\u0000\u0000\u0284\u027c"+
-    "\u0001\u0000\u0000\u0000\u0285Z\u0001\u0000\u0000\u0000\u0286\u0287\u0005"+
-    "b\u0000\u0000\u0287\u0288\u0005y\u0000\u0000\u0288\\\u0001\u0000\u0000"+
-    "\u0000\u0289\u028a\u0005a\u0000\u0000\u028a\u028b\u0005n\u0000\u0000\u028b"+
-    "\u028c\u0005d\u0000\u0000\u028c^\u0001\u0000\u0000\u0000\u028d\u028e\u0005"+
-    "a\u0000\u0000\u028e\u028f\u0005s\u0000\u0000\u028f\u0290\u0005c\u0000"+
-    "\u0000\u0290`\u0001\u0000\u0000\u0000\u0291\u0292\u0005=\u0000\u0000\u0292"+
-    "b\u0001\u0000\u0000\u0000\u0293\u0294\u0005,\u0000\u0000\u0294d\u0001"+
-    "\u0000\u0000\u0000\u0295\u0296\u0005d\u0000\u0000\u0296\u0297\u0005e\u0000"+
-    "\u0000\u0297\u0298\u0005s\u0000\u0000\u0298\u0299\u0005c\u0000\u0000\u0299"+
-    "f\u0001\u0000\u0000\u0000\u029a\u029b\u0005.\u0000\u0000\u029bh\u0001"+
-    "\u0000\u0000\u0000\u029c\u029d\u0005f\u0000\u0000\u029d\u029e\u0005a\u0000"+
-    "\u0000\u029e\u029f\u0005l\u0000\u0000\u029f\u02a0\u0005s\u0000\u0000\u02a0"+
-    "\u02a1\u0005e\u0000\u0000\u02a1j\u0001\u0000\u0000\u0000\u02a2\u02a3\u0005"+
-    "f\u0000\u0000\u02a3\u02a4\u0005i\u0000\u0000\u02a4\u02a5\u0005r\u0000"+
-    "\u0000\u02a5\u02a6\u0005s\u0000\u0000\u02a6\u02a7\u0005t\u0000\u0000\u02a7"+
-    "l\u0001\u0000\u0000\u0000\u02a8\u02a9\u0005l\u0000\u0000\u02a9\u02aa\u0005"+
-    "a\u0000\u0000\u02aa\u02ab\u0005s\u0000\u0000\u02ab\u02ac\u0005t\u0000"+
-    "\u0000\u02acn\u0001\u0000\u0000\u0000\u02ad\u02ae\u0005(\u0000\u0000\u02ae"+
-    "p\u0001\u0000\u0000\u0000\u02af\u02b0\u0005i\u0000\u0000\u02b0\u02b1\u0005"+
-    "n\u0000\u0000\u02b1r\u0001\u0000\u0000\u0000\u02b2\u02b3\u0005i\u0000"+
-    "\u0000\u02b3\u02b4\u0005s\u0000\u0000\u02b4t\u0001\u0000\u0000\u0000\u02b5"+
-    "\u02b6\u0005l\u0000\u0000\u02b6\u02b7\u0005i\u0000\u0000\u02b7\u02b8\u0005"+
-    "k\u0000\u0000\u02b8\u02b9\u0005e\u0000\u0000\u02b9v\u0001\u0000\u0000"+
-    "\u0000\u02ba\u02bb\u0005n\u0000\u0000\u02bb\u02bc\u0005o\u0000\u0000\u02bc"+
-    "\u02bd\u0005t\u0000\u0000\u02bdx\u0001\u0000\u0000\u0000\u02be\u02bf\u0005"+
-    "n\u0000\u0000\u02bf\u02c0\u0005u\u0000\u0000\u02c0\u02c1\u0005l\u0000"+
-    "\u0000\u02c1\u02c2\u0005l\u0000\u0000\u02c2z\u0001\u0000\u0000\u0000\u02c3"+
-    "\u02c4\u0005n\u0000\u0000\u02c4\u02c5\u0005u\u0000\u0000\u02c5\u02c6\u0005"+
-    "l\u0000\u0000\u02c6\u02c7\u0005l\u0000\u0000\u02c7\u02c8\u0005s\u0000"+
-    "\u0000\u02c8|\u0001\u0000\u0000\u0000\u02c9\u02ca\u0005o\u0000\u0000\u02ca"+
-    "\u02cb\u0005r\u0000\u0000\u02cb~\u0001\u0000\u0000\u0000\u02cc\u02cd\u0005"+
-    "?\u0000\u0000\u02cd\u0080\u0001\u0000\u0000\u0000\u02ce\u02cf\u0005r\u0000"+
-    "\u0000\u02cf\u02d0\u0005l\u0000\u0000\u02d0\u02d1\u0005i\u0000\u0000\u02d1"+
-    "\u02d2\u0005k\u0000\u0000\u02d2\u02d3\u0005e\u0000\u0000\u02d3\u0082\u0001"+
-    "\u0000\u0000\u0000\u02d4\u02d5\u0005)\u0000\u0000\u02d5\u0084\u0001\u0000"+
-    "\u0000\u0000\u02d6\u02d7\u0005t\u0000\u0000\u02d7\u02d8\u0005r\u0000\u0000"+
-    "\u02d8\u02d9\u0005u\u0000\u0000\u02d9\u02da\u0005e\u0000\u0000\u02da\u0086"+
-    "\u0001\u0000\u0000\u0000\u02db\u02dc\u0005=\u0000\u0000\u02dc\u02dd\u0005"+
-    "=\u0000\u0000\u02dd\u0088\u0001\u0000\u0000\u0000\u02de\u02df\u0005=\u0000"+
-    "\u0000\u02df\u02e0\u0005~\u0000\u0000\u02e0\u008a\u0001\u0000\u0000\u0000"+
-    "\u02e1\u02e2\u0005!\u0000\u0000\u02e2\u02e3\u0005=\u0000\u0000\u02e3\u008c"+
-    "\u0001\u0000\u0000\u0000\u02e4\u02e5\u0005<\u0000\u0000\u02e5\u008e\u0001"+
-    "\u0000\u0000\u0000\u02e6\u02e7\u0005<\u0000\u0000\u02e7\u02e8\u0005=\u0000"+
-    "\u0000\u02e8\u0090\u0001\u0000\u0000\u0000\u02e9\u02ea\u0005>\u0000\u0000"+
-    "\u02ea\u0092\u0001\u0000\u0000\u0000\u02eb\u02ec\u0005>\u0000\u0000\u02ec"+
-    "\u02ed\u0005=\u0000\u0000\u02ed\u0094\u0001\u0000\u0000\u0000\u02ee\u02ef"+
-    "\u0005+\u0000\u0000\u02ef\u0096\u0001\u0000\u0000\u0000\u02f0\u02f1\u0005"+
-    "-\u0000\u0000\u02f1\u0098\u0001\u0000\u0000\u0000\u02f2\u02f3\u0005*\u0000"+
-    "\u0000\u02f3\u009a\u0001\u0000\u0000\u0000\u02f4\u02f5\u0005/\u0000\u0000"+
-    "\u02f5\u009c\u0001\u0000\u0000\u0000\u02f6\u02f7\u0005%\u0000\u0000\u02f7"+
-    "\u009e\u0001\u0000\u0000\u0000\u02f8\u02f9\u0005[\u0000\u0000\u02f9\u02fa"+
-    "\u0001\u0000\u0000\u0000\u02fa\u02fb\u0006J\u0000\u0000\u02fb\u02fc\u0006"+
-    "J\u0000\u0000\u02fc\u00a0\u0001\u0000\u0000\u0000\u02fd\u02fe\u0005]\u0000"+
-    "\u0000\u02fe\u02ff\u0001\u0000\u0000\u0000\u02ff\u0300\u0006K\f\u0000"+
-    "\u0300\u0301\u0006K\f\u0000\u0301\u00a2\u0001\u0000\u0000\u0000\u0302"+
-    "\u0306\u0003C\u001c\u0000\u0303\u0305\u0003S$\u0000\u0304\u0303\u0001"+
-    "\u0000\u0000\u0000\u0305\u0308\u0001\u0000\u0000\u0000\u0306\u0304\u0001"+
-    "\u0000\u0000\u0000\u0306\u0307\u0001\u0000\u0000\u0000\u0307\u0313\u0001"+
-    "\u0000\u0000\u0000\u0308\u0306\u0001\u0000\u0000\u0000\u0309\u030c\u0003"+
-    "Q#\u0000\u030a\u030c\u0003K \u0000\u030b\u0309\u0001\u0000\u0000\u0000"+
-    "\u030b\u030a\u0001\u0000\u0000\u0000\u030c\u030e\u0001\u0000\u0000\u0000"+
-    "\u030d\u030f\u0003S$\u0000\u030e\u030d\u0001\u0000\u0000\u0000\u030f\u0310"+
-    "\u0001\u0000\u0000\u0000\u0310\u030e\u0001\u0000\u0000\u0000\u0310\u0311"+
-    "\u0001\u0000\u0000\u0000\u0311\u0313\u0001\u0000\u0000\u0000\u0312\u0302"+
-    "\u0001\u0000\u0000\u0000\u0312\u030b\u0001\u0000\u0000\u0000\u0313\u00a4"+
-    "\u0001\u0000\u0000\u0000\u0314\u0316\u0003M!\u0000\u0315\u0317\u0003O"+
-    "\"\u0000\u0316\u0315\u0001\u0000\u0000\u0000\u0317\u0318\u0001\u0000\u0000"+
-    "\u0000\u0318\u0316\u0001\u0000\u0000\u0000\u0318\u0319\u0001\u0000\u0000"+
-    "\u0000\u0319\u031a\u0001\u0000\u0000\u0000\u031a\u031b\u0003M!\u0000\u031b"+
-    "\u00a6\u0001\u0000\u0000\u0000\u031c\u031d\u0003/\u0012\u0000\u031d\u031e"+
-    "\u0001\u0000\u0000\u0000\u031e\u031f\u0006N\b\u0000\u031f\u00a8\u0001"+
-    "\u0000\u0000\u0000\u0320\u0321\u00031\u0013\u0000\u0321\u0322\u0001\u0000"+
-    "\u0000\u0000\u0322\u0323\u0006O\b\u0000\u0323\u00aa\u0001\u0000\u0000"+
-    "\u0000\u0324\u0325\u00033\u0014\u0000\u0325\u0326\u0001\u0000\u0000\u0000"+
-    "\u0326\u0327\u0006P\b\u0000\u0327\u00ac\u0001\u0000\u0000\u0000\u0328"+
-    "\u0329\u0003?\u001a\u0000\u0329\u032a\u0001\u0000\u0000\u0000\u032a\u032b"+
-    "\u0006Q\u000b\u0000\u032b\u032c\u0006Q\f\u0000\u032c\u00ae\u0001\u0000"+
-    "\u0000\u0000\u032d\u032e\u0003\u009fJ\u0000\u032e\u032f\u0001\u0000\u0000"+
-    "\u0000\u032f\u0330\u0006R\t\u0000\u0330\u00b0\u0001\u0000\u0000\u0000"+
-    "\u0331\u0332\u0003\u00a1K\u0000\u0332\u0333\u0001\u0000\u0000\u0000\u0333"+
-    "\u0334\u0006S\r\u0000\u0334\u00b2\u0001\u0000\u0000\u0000\u0335\u0336"+
-    "\u0003c,\u0000\u0336\u0337\u0001\u0000\u0000\u0000\u0337\u0338\u0006T"+
-    "\u000e\u0000\u0338\u00b4\u0001\u0000\u0000\u0000\u0339\u033a\u0003a+\u0000"+
-    "\u033a\u033b\u0001\u0000\u0000\u0000\u033b\u033c\u0006U\u000f\u0000\u033c"+
-    "\u00b6\u0001\u0000\u0000\u0000\u033d\u033e\u0005m\u0000\u0000\u033e\u033f"+
-    "\u0005e\u0000\u0000\u033f\u0340\u0005t\u0000\u0000\u0340\u0341\u0005a"+
-    "\u0000\u0000\u0341\u0342\u0005d\u0000\u0000\u0342\u0343\u0005a\u0000\u0000"+
-    "\u0343\u0344\u0005t\u0000\u0000\u0344\u0345\u0005a\u0000\u0000\u0345\u00b8"+
-    "\u0001\u0000\u0000\u0000\u0346\u034a\b\n\u0000\u0000\u0347\u0348\u0005"+
-    "/\u0000\u0000\u0348\u034a\b\u000b\u0000\u0000\u0349\u0346\u0001\u0000"+
-    "\u0000\u0000\u0349\u0347\u0001\u0000\u0000\u0000\u034a\u00ba\u0001\u0000"+
-    "\u0000\u0000\u034b\u034d\u0003\u00b9W\u0000\u034c\u034b\u0001\u0000\u0000"+
-    "\u0000\u034d\u034e\u0001\u0000\u0000\u0000\u034e\u034c\u0001\u0000\u0000"+
-    "\u0000\u034e\u034f\u0001\u0000\u0000\u0000\u034f\u00bc\u0001\u0000\u0000"+
-    "\u0000\u0350\u0351\u0003\u00a5M\u0000\u0351\u0352\u0001\u0000\u0000\u0000"+
-    "\u0352\u0353\u0006Y\u0010\u0000\u0353\u00be\u0001\u0000\u0000\u0000\u0354"+
-    "\u0355\u0003/\u0012\u0000\u0355\u0356\u0001\u0000\u0000\u0000\u0356\u0357"+
-    "\u0006Z\b\u0000\u0357\u00c0\u0001\u0000\u0000\u0000\u0358\u0359\u0003"+
-    "1\u0013\u0000\u0359\u035a\u0001\u0000\u0000\u0000\u035a\u035b\u0006[\b"+
-    "\u0000\u035b\u00c2\u0001\u0000\u0000\u0000\u035c\u035d\u00033\u0014\u0000"+
-    "\u035d\u035e\u0001\u0000\u0000\u0000\u035e\u035f\u0006\\\b\u0000\u035f"+
-    "\u00c4\u0001\u0000\u0000\u0000\u0360\u0361\u0003?\u001a\u0000\u0361\u0362"+
-    "\u0001\u0000\u0000\u0000\u0362\u0363\u0006]\u000b\u0000\u0363\u0364\u0006"+
-    "]\f\u0000\u0364\u00c6\u0001\u0000\u0000\u0000\u0365\u0366\u0003g.\u0000"+
-    "\u0366\u0367\u0001\u0000\u0000\u0000\u0367\u0368\u0006^\u0011\u0000\u0368"+
-    "\u00c8\u0001\u0000\u0000\u0000\u0369\u036a\u0003c,\u0000\u036a\u036b\u0001"+
-    "\u0000\u0000\u0000\u036b\u036c\u0006_\u000e\u0000\u036c\u00ca\u0001\u0000"+
-    "\u0000\u0000\u036d\u0372\u0003C\u001c\u0000\u036e\u0372\u0003A\u001b\u0000"+
-    "\u036f\u0372\u0003Q#\u0000\u0370\u0372\u0003\u0099G\u0000\u0371\u036d"+
-    "\u0001\u0000\u0000\u0000\u0371\u036e\u0001\u0000\u0000\u0000\u0371\u036f"+
-    "\u0001\u0000\u0000\u0000\u0371\u0370\u0001\u0000\u0000\u0000\u0372\u00cc"+
-    "\u0001\u0000\u0000\u0000\u0373\u0376\u0003C\u001c\u0000\u0374\u0376\u0003"+
-    "\u0099G\u0000\u0375\u0373\u0001\u0000\u0000\u0000\u0375\u0374\u0001\u0000"+
-    "\u0000\u0000\u0376\u037a\u0001\u0000\u0000\u0000\u0377\u0379\u0003\u00cb"+
-    "`\u0000\u0378\u0377\u0001\u0000\u0000\u0000\u0379\u037c\u0001\u0000\u0000"+
-    "\u0000\u037a\u0378\u0001\u0000\u0000\u0000\u037a\u037b\u0001\u0000\u0000"+
-    "\u0000\u037b\u0387\u0001\u0000\u0000\u0000\u037c\u037a\u0001\u0000\u0000"+
-    "\u0000\u037d\u0380\u0003Q#\u0000\u037e\u0380\u0003K \u0000\u037f\u037d"+
-    "\u0001\u0000\u0000\u0000\u037f\u037e\u0001\u0000\u0000\u0000\u0380\u0382"+
-    "\u0001\u0000\u0000\u0000\u0381\u0383\u0003\u00cb`\u0000\u0382\u0381\u0001"+
-    "\u0000\u0000\u0000\u0383\u0384\u0001\u0000\u0000\u0000\u0384\u0382\u0001"+
-    "\u0000\u0000\u0000\u0384\u0385\u0001\u0000\u0000\u0000\u0385\u0387\u0001"+
-    "\u0000\u0000\u0000\u0386\u0375\u0001\u0000\u0000\u0000\u0386\u037f\u0001"+
-    "\u0000\u0000\u0000\u0387\u00ce\u0001\u0000\u0000\u0000\u0388\u0389\u0003"+
-    "\u00cda\u0000\u0389\u038a\u0001\u0000\u0000\u0000\u038a\u038b\u0006b\u0012"+
-    "\u0000\u038b\u00d0\u0001\u0000\u0000\u0000\u038c\u038d\u0003\u00a5M\u0000"+
-    "\u038d\u038e\u0001\u0000\u0000\u0000\u038e\u038f\u0006c\u0010\u0000\u038f"+
-    "\u00d2\u0001\u0000\u0000\u0000\u0390\u0391\u0003/\u0012\u0000\u0391\u0392"+
-    "\u0001\u0000\u0000\u0000\u0392\u0393\u0006d\b\u0000\u0393\u00d4\u0001"+
-    "\u0000\u0000\u0000\u0394\u0395\u00031\u0013\u0000\u0395\u0396\u0001\u0000"+
-    "\u0000\u0000\u0396\u0397\u0006e\b\u0000\u0397\u00d6\u0001\u0000\u0000"+
-    "\u0000\u0398\u0399\u00033\u0014\u0000\u0399\u039a\u0001\u0000\u0000\u0000"+
-    "\u039a\u039b\u0006f\b\u0000\u039b\u00d8\u0001\u0000\u0000\u0000\u039c"+
-    "\u039d\u0003?\u001a\u0000\u039d\u039e\u0001\u0000\u0000\u0000\u039e\u039f"+
-    "\u0006g\u000b\u0000\u039f\u03a0\u0006g\f\u0000\u03a0\u00da\u0001\u0000"+
-    "\u0000\u0000\u03a1\u03a2\u0003a+\u0000\u03a2\u03a3\u0001\u0000\u0000\u0000"+
-    "\u03a3\u03a4\u0006h\u000f\u0000\u03a4\u00dc\u0001\u0000\u0000\u0000\u03a5"+
-    "\u03a6\u0003c,\u0000\u03a6\u03a7\u0001\u0000\u0000\u0000\u03a7\u03a8\u0006"+
-    "i\u000e\u0000\u03a8\u00de\u0001\u0000\u0000\u0000\u03a9\u03aa\u0003g."+
-    "\u0000\u03aa\u03ab\u0001\u0000\u0000\u0000\u03ab\u03ac\u0006j\u0011\u0000"+
-    "\u03ac\u00e0\u0001\u0000\u0000\u0000\u03ad\u03ae\u0005a\u0000\u0000\u03ae"+
-    "\u03af\u0005s\u0000\u0000\u03af\u00e2\u0001\u0000\u0000\u0000\u03b0\u03b1"+
-    "\u0003\u00a5M\u0000\u03b1\u03b2\u0001\u0000\u0000\u0000\u03b2\u03b3\u0006"+
-    "l\u0010\u0000\u03b3\u00e4\u0001\u0000\u0000\u0000\u03b4\u03b5\u0003\u00cd"+
-    "a\u0000\u03b5\u03b6\u0001\u0000\u0000\u0000\u03b6\u03b7\u0006m\u0012\u0000"+
-    "\u03b7\u00e6\u0001\u0000\u0000\u0000\u03b8\u03b9\u0003/\u0012\u0000\u03b9"+
-    "\u03ba\u0001\u0000\u0000\u0000\u03ba\u03bb\u0006n\b\u0000\u03bb\u00e8"+
-    "\u0001\u0000\u0000\u0000\u03bc\u03bd\u00031\u0013\u0000\u03bd\u03be\u0001"+
-    "\u0000\u0000\u0000\u03be\u03bf\u0006o\b\u0000\u03bf\u00ea\u0001\u0000"+
-    "\u0000\u0000\u03c0\u03c1\u00033\u0014\u0000\u03c1\u03c2\u0001\u0000\u0000"+
-    "\u0000\u03c2\u03c3\u0006p\b\u0000\u03c3\u00ec\u0001\u0000\u0000\u0000"+
-    "\u03c4\u03c5\u0003?\u001a\u0000\u03c5\u03c6\u0001\u0000\u0000\u0000\u03c6"+
-    "\u03c7\u0006q\u000b\u0000\u03c7\u03c8\u0006q\f\u0000\u03c8\u00ee\u0001"+
-    "\u0000\u0000\u0000\u03c9\u03ca\u0003\u009fJ\u0000\u03ca\u03cb\u0001\u0000"+
-    "\u0000\u0000\u03cb\u03cc\u0006r\t\u0000\u03cc\u03cd\u0006r\u0013\u0000"+
-    "\u03cd\u00f0\u0001\u0000\u0000\u0000\u03ce\u03cf\u0005o\u0000\u0000\u03cf"+
-    "\u03d0\u0005n\u0000\u0000\u03d0\u03d1\u0001\u0000\u0000\u0000\u03d1\u03d2"+
-    "\u0006s\u0014\u0000\u03d2\u00f2\u0001\u0000\u0000\u0000\u03d3\u03d4\u0005"+
-    "w\u0000\u0000\u03d4\u03d5\u0005i\u0000\u0000\u03d5\u03d6\u0005t\u0000"+
-    "\u0000\u03d6\u03d7\u0005h\u0000\u0000\u03d7\u03d8\u0001\u0000\u0000\u0000"+
-    "\u03d8\u03d9\u0006t\u0014\u0000\u03d9\u00f4\u0001\u0000\u0000\u0000\u03da"+
-    "\u03db\b\f\u0000\u0000\u03db\u00f6\u0001\u0000\u0000\u0000\u03dc\u03df"+
-    "\u0003C\u001c\u0000\u03dd\u03df\u0003A\u001b\u0000\u03de\u03dc\u0001\u0000"+
-    "\u0000\u0000\u03de\u03dd\u0001\u0000\u0000\u0000\u03df\u03e3\u0001\u0000"+
-    "\u0000\u0000\u03e0\u03e2\u0003\u00f5u\u0000\u03e1\u03e0\u0001\u0000\u0000"+
-    "\u0000\u03e2\u03e5\u0001\u0000\u0000\u0000\u03e3\u03e1\u0001\u0000\u0000"+
-    "\u0000\u03e3\u03e4\u0001\u0000\u0000\u0000\u03e4\u00f8\u0001\u0000\u0000"+
-    "\u0000\u03e5\u03e3\u0001\u0000\u0000\u0000\u03e6\u03e7\u0003\u00a5M\u0000"+
-    "\u03e7\u03e8\u0001\u0000\u0000\u0000\u03e8\u03e9\u0006w\u0010\u0000\u03e9"+
-    "\u00fa\u0001\u0000\u0000\u0000\u03ea\u03eb\u0003\u00f7v\u0000\u03eb\u03ec"+
-    "\u0001\u0000\u0000\u0000\u03ec\u03ed\u0006x\u0015\u0000\u03ed\u00fc\u0001"+
-    "\u0000\u0000\u0000\u03ee\u03ef\u0003/\u0012\u0000\u03ef\u03f0\u0001\u0000"+
-    "\u0000\u0000\u03f0\u03f1\u0006y\b\u0000\u03f1\u00fe\u0001\u0000\u0000"+
-    "\u0000\u03f2\u03f3\u00031\u0013\u0000\u03f3\u03f4\u0001\u0000\u0000\u0000"+
-    "\u03f4\u03f5\u0006z\b\u0000\u03f5\u0100\u0001\u0000\u0000\u0000\u03f6"+
-    "\u03f7\u00033\u0014\u0000\u03f7\u03f8\u0001\u0000\u0000\u0000\u03f8\u03f9"+
-    "\u0006{\b\u0000\u03f9\u0102\u0001\u0000\u0000\u0000\u03fa\u03fb\u0003"+
-    "?\u001a\u0000\u03fb\u03fc\u0001\u0000\u0000\u0000\u03fc\u03fd\u0006|\u000b"+
-    "\u0000\u03fd\u03fe\u0006|\f\u0000\u03fe\u03ff\u0006|\f\u0000\u03ff\u0104"+
-    "\u0001\u0000\u0000\u0000\u0400\u0401\u0003a+\u0000\u0401\u0402\u0001\u0000"+
-    "\u0000\u0000\u0402\u0403\u0006}\u000f\u0000\u0403\u0106\u0001\u0000\u0000"+
-    "\u0000\u0404\u0405\u0003c,\u0000\u0405\u0406\u0001\u0000\u0000\u0000\u0406"+
-    "\u0407\u0006~\u000e\u0000\u0407\u0108\u0001\u0000\u0000\u0000\u0408\u0409"+
-    "\u0003g.\u0000\u0409\u040a\u0001\u0000\u0000\u0000\u040a\u040b\u0006\u007f"+
-    "\u0011\u0000\u040b\u010a\u0001\u0000\u0000\u0000\u040c\u040d\u0003\u00f3"+
-    "t\u0000\u040d\u040e\u0001\u0000\u0000\u0000\u040e\u040f\u0006\u0080\u0016"+
-    "\u0000\u040f\u010c\u0001\u0000\u0000\u0000\u0410\u0411\u0003\u00cda\u0000"+
-    "\u0411\u0412\u0001\u0000\u0000\u0000\u0412\u0413\u0006\u0081\u0012\u0000"+
-    "\u0413\u010e\u0001\u0000\u0000\u0000\u0414\u0415\u0003\u00a5M\u0000\u0415"+
-    "\u0416\u0001\u0000\u0000\u0000\u0416\u0417\u0006\u0082\u0010\u0000\u0417"+
-    "\u0110\u0001\u0000\u0000\u0000\u0418\u0419\u0003/\u0012\u0000\u0419\u041a"+
-    "\u0001\u0000\u0000\u0000\u041a\u041b\u0006\u0083\b\u0000\u041b\u0112\u0001"+
-    "\u0000\u0000\u0000\u041c\u041d\u00031\u0013\u0000\u041d\u041e\u0001\u0000"+
-    "\u0000\u0000\u041e\u041f\u0006\u0084\b\u0000\u041f\u0114\u0001\u0000\u0000"+
-    "\u0000\u0420\u0421\u00033\u0014\u0000\u0421\u0422\u0001\u0000\u0000\u0000"+
-    "\u0422\u0423\u0006\u0085\b\u0000\u0423\u0116\u0001\u0000\u0000\u0000\u0424"+
-    "\u0425\u0003?\u001a\u0000\u0425\u0426\u0001\u0000\u0000\u0000\u0426\u0427"+
-    "\u0006\u0086\u000b\u0000\u0427\u0428\u0006\u0086\f\u0000\u0428\u0118\u0001"+
-    "\u0000\u0000\u0000\u0429\u042a\u0003g.\u0000\u042a\u042b\u0001\u0000\u0000"+
-    "\u0000\u042b\u042c\u0006\u0087\u0011\u0000\u042c\u011a\u0001\u0000\u0000"+
-    "\u0000\u042d\u042e\u0003\u00a5M\u0000\u042e\u042f\u0001\u0000\u0000\u0000"+
-    "\u042f\u0430\u0006\u0088\u0010\u0000\u0430\u011c\u0001\u0000\u0000\u0000"+
-    "\u0431\u0432\u0003\u00a3L\u0000\u0432\u0433\u0001\u0000\u0000\u0000\u0433"+
-    "\u0434\u0006\u0089\u0017\u0000\u0434\u011e\u0001\u0000\u0000\u0000\u0435"+
-    "\u0436\u0003/\u0012\u0000\u0436\u0437\u0001\u0000\u0000\u0000\u0437\u0438"+
-    "\u0006\u008a\b\u0000\u0438\u0120\u0001\u0000\u0000\u0000\u0439\u043a\u0003"+
-    "1\u0013\u0000\u043a\u043b\u0001\u0000\u0000\u0000\u043b\u043c\u0006\u008b"+
-    "\b\u0000\u043c\u0122\u0001\u0000\u0000\u0000\u043d\u043e\u00033\u0014"+
-    "\u0000\u043e\u043f\u0001\u0000\u0000\u0000\u043f\u0440\u0006\u008c\b\u0000"+
-    "\u0440\u0124\u0001\u0000\u0000\u0000\u0441\u0442\u0003?\u001a\u0000\u0442"+
-    "\u0443\u0001\u0000\u0000\u0000\u0443\u0444\u0006\u008d\u000b\u0000\u0444"+
-    "\u0445\u0006\u008d\f\u0000\u0445\u0126\u0001\u0000\u0000\u0000\u0446\u0447"+
-    "\u0005i\u0000\u0000\u0447\u0448\u0005n\u0000\u0000\u0448\u0449\u0005f"+
-    "\u0000\u0000\u0449\u044a\u0005o\u0000\u0000\u044a\u0128\u0001\u0000\u0000"+
-    "\u0000\u044b\u044c\u0005f\u0000\u0000\u044c\u044d\u0005u\u0000\u0000\u044d"+
-    "\u044e\u0005n\u0000\u0000\u044e\u044f\u0005c\u0000\u0000\u044f\u0450\u0005"+
-    "t\u0000\u0000\u0450\u0451\u0005i\u0000\u0000\u0451\u0452\u0005o\u0000"+
-    "\u0000\u0452\u0453\u0005n\u0000\u0000\u0453\u0454\u0005s\u0000\u0000\u0454"+
-    "\u012a\u0001\u0000\u0000\u0000\u0455\u0456\u0003/\u0012\u0000\u0456\u0457"+
-    "\u0001\u0000\u0000\u0000\u0457\u0458\u0006\u0090\b\u0000\u0458\u012c\u0001"+
-    "\u0000\u0000\u0000\u0459\u045a\u00031\u0013\u0000\u045a\u045b\u0001\u0000"+
-    "\u0000\u0000\u045b\u045c\u0006\u0091\b\u0000\u045c\u012e\u0001\u0000\u0000"+
-    "\u0000\u045d\u045e\u00033\u0014\u0000\u045e\u045f\u0001\u0000\u0000\u0000"+
-    "\u045f\u0460\u0006\u0092\b\u0000\u0460\u0130\u0001\u0000\u0000\u0000\u0461"+
-    "\u0462\u0003\u00a1K\u0000\u0462\u0463\u0001\u0000\u0000\u0000\u0463\u0464"+
-    "\u0006\u0093\r\u0000\u0464\u0465\u0006\u0093\f\u0000\u0465\u0132\u0001"+
-    "\u0000\u0000\u0000\u0466\u0467\u0005:\u0000\u0000\u0467\u0134\u0001\u0000"+
-    "\u0000\u0000\u0468\u046e\u0003K \u0000\u0469\u046e\u0003A\u001b\u0000"+
-    "\u046a\u046e\u0003g.\u0000\u046b\u046e\u0003C\u001c\u0000\u046c\u046e"+
-    "\u0003Q#\u0000\u046d\u0468\u0001\u0000\u0000\u0000\u046d\u0469\u0001\u0000"+
-    "\u0000\u0000\u046d\u046a\u0001\u0000\u0000\u0000\u046d\u046b\u0001\u0000"+
-    "\u0000\u0000\u046d\u046c\u0001\u0000\u0000\u0000\u046e\u046f\u0001\u0000"+
-    "\u0000\u0000\u046f\u046d\u0001\u0000\u0000\u0000\u046f\u0470\u0001\u0000"+
-    "\u0000\u0000\u0470\u0136\u0001\u0000\u0000\u0000\u0471\u0472\u0003/\u0012"+
-    "\u0000\u0472\u0473\u0001\u0000\u0000\u0000\u0473\u0474\u0006\u0096\b\u0000"+
-    "\u0474\u0138\u0001\u0000\u0000\u0000\u0475\u0476\u00031\u0013\u0000\u0476"+
-    "\u0477\u0001\u0000\u0000\u0000\u0477\u0478\u0006\u0097\b\u0000\u0478\u013a"+
-    "\u0001\u0000\u0000\u0000\u0479\u047a\u00033\u0014\u0000\u047a\u047b\u0001"+
-    "\u0000\u0000\u0000\u047b\u047c\u0006\u0098\b\u0000\u047c\u013c\u0001\u0000"+
-    "\u0000\u00006\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0007\b\t\n\u01cf"+
-    "\u01d9\u01dd\u01e0\u01e9\u01eb\u01f6\u021f\u0224\u022d\u0234\u0239\u023b"+
-    "\u0246\u024e\u0251\u0253\u0258\u025d\u0263\u026a\u026f\u0275\u0278\u0280"+
-    "\u0284\u0306\u030b\u0310\u0312\u0318\u0349\u034e\u0371\u0375\u037a\u037f"+
-    "\u0384\u0386\u03de\u03e3\u046d\u046f\u0018\u0005\u0002\u0000\u0005\u0004"+
-    "\u0000\u0005\u0006\u0000\u0005\u0001\u0000\u0005\u0003\u0000\u0005\b\u0000"+
-    "\u0005\u0005\u0000\u0005\t\u0000\u0000\u0001\u0000\u0007?\u0000\u0005"+
-    "\u0000\u0000\u0007\u0019\u0000\u0004\u0000\u0000\u0007@\u0000\u0007!\u0000"+
-    "\u0007 \u0000\u0007B\u0000\u0007#\u0000\u0007K\u0000\u0005\n\u0000\u0005"+
-    "\u0007\u0000\u0007U\u0000\u0007T\u0000\u0007A\u0000";
+    "\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001d"+
+    "\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f"+
+    "\u0001 \u0001 \u0003 \u022b\b \u0001 \u0004 \u022e\b \u000b \f \u022f"+
+    "\u0001!\u0001!\u0001\"\u0001\"\u0001#\u0001#\u0001#\u0003#\u0239\b#\u0001"+
+    "$\u0001$\u0001%\u0001%\u0001%\u0003%\u0240\b%\u0001&\u0001&\u0001&\u0005"+
+    "&\u0245\b&\n&\f&\u0248\t&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0005"+
+    "&\u0250\b&\n&\f&\u0253\t&\u0001&\u0001&\u0001&\u0001&\u0001&\u0003&\u025a"+
+    "\b&\u0001&\u0003&\u025d\b&\u0003&\u025f\b&\u0001\'\u0004\'\u0262\b\'\u000b"+
+    "\'\f\'\u0263\u0001(\u0004(\u0267\b(\u000b(\f(\u0268\u0001(\u0001(\u0005"+
+    "(\u026d\b(\n(\f(\u0270\t(\u0001(\u0001(\u0004(\u0274\b(\u000b(\f(\u0275"+
+    "\u0001(\u0004(\u0279\b(\u000b(\f(\u027a\u0001(\u0001(\u0005(\u027f\b("+
+    "\n(\f(\u0282\t(\u0003(\u0284\b(\u0001(\u0001(\u0001(\u0001(\u0004(\u028a"+
+    "\b(\u000b(\f(\u028b\u0001(\u0001(\u0003(\u0290\b(\u0001)\u0001)\u0001"+
+    ")\u0001*\u0001*\u0001*\u0001*\u0001+\u0001+\u0001+\u0001+\u0001,\u0001"+
+    ",\u0001-\u0001-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001"+
+    "0\u00010\u00010\u00010\u00010\u00010\u00011\u00011\u00011\u00011\u0001"+
+    "1\u00011\u00012\u00012\u00012\u00012\u00012\u00013\u00013\u00014\u0001"+
+    "4\u00014\u00015\u00015\u00015\u00016\u00016\u00016\u00016\u00016\u0001"+
+    "7\u00017\u00017\u00017\u00018\u00018\u00018\u00018\u00018\u00019\u0001"+
+    "9\u00019\u00019\u00019\u00019\u0001:\u0001:\u0001:\u0001;\u0001;\u0001"+
+    "<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001=\u0001=\u0001>\u0001>\u0001"+
+    ">\u0001>\u0001>\u0001?\u0001?\u0001?\u0001@\u0001@\u0001@\u0001A\u0001"+
+    "A\u0001A\u0001B\u0001B\u0001C\u0001C\u0001C\u0001D\u0001D\u0001E\u0001"+
+    "E\u0001E\u0001F\u0001F\u0001G\u0001G\u0001H\u0001H\u0001I\u0001I\u0001"+
+    "J\u0001J\u0001K\u0001K\u0001K\u0001K\u0001K\u0001L\u0001L\u0001L\u0001"+
+    "L\u0001L\u0001M\u0001M\u0005M\u0310\bM\nM\fM\u0313\tM\u0001M\u0001M\u0003"+
+    "M\u0317\bM\u0001M\u0004M\u031a\bM\u000bM\fM\u031b\u0003M\u031e\bM\u0001"+
+    "N\u0001N\u0004N\u0322\bN\u000bN\fN\u0323\u0001N\u0001N\u0001O\u0001O\u0001"+
+    "O\u0001O\u0001P\u0001P\u0001P\u0001P\u0001Q\u0001Q\u0001Q\u0001Q\u0001"+
+    "R\u0001R\u0001R\u0001R\u0001R\u0001S\u0001S\u0001S\u0001S\u0001T\u0001"+
+    "T\u0001T\u0001T\u0001U\u0001U\u0001U\u0001U\u0001V\u0001V\u0001V\u0001"+
+    "V\u0001W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001"+
+    "X\u0001X\u0001X\u0003X\u0355\bX\u0001Y\u0004Y\u0358\bY\u000bY\fY\u0359"+
+    "\u0001Z\u0001Z\u0001Z\u0001Z\u0001[\u0001[\u0001[\u0001[\u0001\\\u0001"+
+    "\\\u0001\\\u0001\\\u0001]\u0001]\u0001]\u0001]\u0001^\u0001^\u0001^\u0001"+
+    "^\u0001^\u0001_\u0001_\u0001_\u0001_\u0001`\u0001`\u0001`\u0001`\u0001"+
+    "a\u0001a\u0001a\u0001a\u0003a\u037d\ba\u0001b\u0001b\u0003b\u0381\bb\u0001"+
+    "b\u0005b\u0384\bb\nb\fb\u0387\tb\u0001b\u0001b\u0003b\u038b\bb\u0001b"+
+    "\u0004b\u038e\bb\u000bb\fb\u038f\u0003b\u0392\bb\u0001c\u0001c\u0001c"+
+    "\u0001c\u0001d\u0001d\u0001d\u0001d\u0001e\u0001e\u0001e\u0001e\u0001"+
+    "f\u0001f\u0001f\u0001f\u0001g\u0001g\u0001g\u0001g\u0001h\u0001h\u0001"+
+    "h\u0001h\u0001h\u0001i\u0001i\u0001i\u0001i\u0001j\u0001j\u0001j\u0001"+
+    "j\u0001k\u0001k\u0001k\u0001k\u0001l\u0001l\u0001l\u0001m\u0001m\u0001"+
+    "m\u0001m\u0001n\u0001n\u0001n\u0001n\u0001o\u0001o\u0001o\u0001o\u0001"+
+    "p\u0001p\u0001p\u0001p\u0001q\u0001q\u0001q\u0001q\u0001r\u0001r\u0001"+
+    "r\u0001r\u0001r\u0001s\u0001s\u0001s\u0001s\u0001s\u0001t\u0001t\u0001"+
+    "t\u0001t\u0001t\u0001u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001"+
+    "v\u0001v\u0001w\u0001w\u0003w\u03ea\bw\u0001w\u0005w\u03ed\bw\nw\fw\u03f0"+
+    "\tw\u0001x\u0001x\u0001x\u0001x\u0001y\u0001y\u0001y\u0001y\u0001z\u0001"+
+    "z\u0001z\u0001z\u0001{\u0001{\u0001{\u0001{\u0001|\u0001|\u0001|\u0001"+
+    "|\u0001}\u0001}\u0001}\u0001}\u0001}\u0001}\u0001~\u0001~\u0001~\u0001"+
+    "~\u0001\u007f\u0001\u007f\u0001\u007f\u0001\u007f\u0001\u0080\u0001\u0080"+
+    "\u0001\u0080\u0001\u0080\u0001\u0081\u0001\u0081\u0001\u0081\u0001\u0081"+
+    "\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0083\u0001\u0083"+
+    "\u0001\u0083\u0001\u0083\u0001\u0084\u0001\u0084\u0001\u0084\u0001\u0084"+
+    "\u0001\u0085\u0001\u0085\u0001\u0085\u0001\u0085\u0001\u0086\u0001\u0086"+
+    "\u0001\u0086\u0001\u0086\u0001\u0087\u0001\u0087\u0001\u0087\u0001\u0087"+
+    "\u0001\u0087\u0001\u0088\u0001\u0088\u0001\u0088\u0001\u0088\u0001\u0089"+
+    "\u0001\u0089\u0001\u0089\u0001\u0089\u0001\u008a\u0001\u008a\u0001\u008a"+
+    "\u0001\u008a\u0001\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001\u008c"+
+    "\u0001\u008c\u0001\u008c\u0001\u008c\u0001\u008d\u0001\u008d\u0001\u008d"+
+    "\u0001\u008d\u0001\u008e\u0001\u008e\u0001\u008e\u0001\u008e\u0001\u008e"+
+    "\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u0090"+
+    "\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0090"+
+    "\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0091\u0001\u0091\u0001\u0091"+
+    "\u0001\u0091\u0001\u0092\u0001\u0092\u0001\u0092\u0001\u0092\u0001\u0093"+
+    "\u0001\u0093\u0001\u0093\u0001\u0093\u0001\u0094\u0001\u0094\u0001\u0094"+
+    "\u0001\u0094\u0001\u0094\u0001\u0095\u0001\u0095\u0001\u0096\u0001\u0096"+
+    "\u0001\u0096\u0001\u0096\u0001\u0096\u0004\u0096\u0479\b\u0096\u000b\u0096"+
+    "\f\u0096\u047a\u0001\u0097\u0001\u0097\u0001\u0097\u0001\u0097\u0001\u0098"+
+    "\u0001\u0098\u0001\u0098\u0001\u0098\u0001\u0099\u0001\u0099\u0001\u0099"+
+    "\u0001\u0099\u0002\u01f6\u0251\u0000\u009a\u000b\u0001\r\u0002\u000f\u0003"+
+    "\u0011\u0004\u0013\u0005\u0015\u0006\u0017\u0007\u0019\b\u001b\t\u001d"+
+    "\n\u001f\u000b!\f#\r%\u000e\'\u000f)\u0010+\u0011-\u0012/\u00131\u0014"+
+    "3\u00155\u00167\u00009\u0000;\u0017=\u0018?\u0019A\u001aC\u0000E\u0000"+
+    "G\u0000I\u0000K\u0000M\u0000O\u0000Q\u0000S\u0000U\u0000W\u001bY\u001c"+
+    "[\u001d]\u001e_\u001fa c!e\"g#i$k%m&o\'q(s)u*w+y,{-}.\u007f/\u00810\u0083"+
+    "1\u00852\u00873\u00894\u008b5\u008d6\u008f7\u00918\u00939\u0095:\u0097"+
+    ";\u0099<\u009b=\u009d>\u009f?\u00a1@\u00a3A\u00a5B\u00a7C\u00a9D\u00ab"+
+    "E\u00adF\u00af\u0000\u00b1\u0000\u00b3\u0000\u00b5\u0000\u00b7\u0000\u00b9"+
+    "G\u00bb\u0000\u00bdH\u00bf\u0000\u00c1I\u00c3J\u00c5K\u00c7\u0000\u00c9"+
+    "\u0000\u00cb\u0000\u00cd\u0000\u00cfL\u00d1\u0000\u00d3\u0000\u00d5M\u00d7"+
+    "N\u00d9O\u00db\u0000\u00dd\u0000\u00df\u0000\u00e1\u0000\u00e3P\u00e5"+
+    "\u0000\u00e7\u0000\u00e9Q\u00ebR\u00edS\u00ef\u0000\u00f1\u0000\u00f3"+
+    "T\u00f5U\u00f7\u0000\u00f9V\u00fb\u0000\u00fd\u0000\u00ffW\u0101X\u0103"+
+    "Y\u0105\u0000\u0107\u0000\u0109\u0000\u010b\u0000\u010d\u0000\u010f\u0000"+
+    "\u0111\u0000\u0113Z\u0115[\u0117\\\u0119\u0000\u011b\u0000\u011d\u0000"+
+    "\u011f\u0000\u0121]\u0123^\u0125_\u0127\u0000\u0129`\u012ba\u012db\u012f"+
+    "c\u0131d\u0133\u0000\u0135e\u0137f\u0139g\u013bh\u013di\u000b\u0000\u0001"+
+    "\u0002\u0003\u0004\u0005\u0006\u0007\b\t\n\r\u0006\u0000\t\n\r\r  //["+
+    "[]]\u0002\u0000\n\n\r\r\u0003\u0000\t\n\r\r  \u0001\u000009\u0002\u0000"+
+    "AZaz\u0005\u0000\"\"\\\\nnrrtt\u0004\u0000\n\n\r\r\"\"\\\\\u0002\u0000"+
+    "EEee\u0002\u0000++--\u0001\u0000``\n\u0000\t\n\r\r  ,,//==[[]]``||\u0002"+
+    "\u0000**//\u000b\u0000\t\n\r\r  \"#,,//::<<>?\\\\||\u04a3\u0000\u000b"+
+    "\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001"+
+    "\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001"+
+    "\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001"+
+    "\u0000\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001"+
+    "\u0000\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001"+
+    "\u0000\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000"+
+    "\u0000\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000"+
+    "\u0000)\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-"+
+    "\u0001\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000"+
+    "\u0000\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000"+
+    "\u00017\u0001\u0000\u0000\u0000\u00019\u0001\u0000\u0000\u0000\u0001;"+
+    "\u0001\u0000\u0000\u0000\u0001=\u0001\u0000\u0000\u0000\u0001?\u0001\u0000"+
+    "\u0000\u0000\u0002A\u0001\u0000\u0000\u0000\u0002W\u0001\u0000\u0000\u0000"+
+    "\u0002Y\u0001\u0000\u0000\u0000\u0002[\u0001\u0000\u0000\u0000\u0002]"+
+    "\u0001\u0000\u0000\u0000\u0002_\u0001\u0000\u0000\u0000\u0002a\u0001\u0000"+
+    "\u0000\u0000\u0002c\u0001\u0000\u0000\u0000\u0002e\u0001\u0000\u0000\u0000"+
+    "\u0002g\u0001\u0000\u0000\u0000\u0002i\u0001\u0000\u0000\u0000\u0002k"+
+    "\u0001\u0000\u0000\u0000\u0002m\u0001\u0000\u0000\u0000\u0002o\u0001\u0000"+
+    "\u0000\u0000\u0002q\u0001\u0000\u0000\u0000\u0002s\u0001\u0000\u0000\u0000"+
+    "\u0002u\u0001\u0000\u0000\u0000\u0002w\u0001\u0000\u0000\u0000\u0002y"+
+    "\u0001\u0000\u0000\u0000\u0002{\u0001\u0000\u0000\u0000\u0002}\u0001\u0000"+
+    "\u0000\u0000\u0002\u007f\u0001\u0000\u0000\u0000\u0002\u0081\u0001\u0000"+
+    "\u0000\u0000\u0002\u0083\u0001\u0000\u0000\u0000\u0002\u0085\u0001\u0000"+
+    "\u0000\u0000\u0002\u0087\u0001\u0000\u0000\u0000\u0002\u0089\u0001\u0000"+
+    "\u0000\u0000\u0002\u008b\u0001\u0000\u0000\u0000\u0002\u008d\u0001\u0000"+
+    "\u0000\u0000\u0002\u008f\u0001\u0000\u0000\u0000\u0002\u0091\u0001\u0000"+
+    "\u0000\u0000\u0002\u0093\u0001\u0000\u0000\u0000\u0002\u0095\u0001\u0000"+
+    "\u0000\u0000\u0002\u0097\u0001\u0000\u0000\u0000\u0002\u0099\u0001\u0000"+
+    "\u0000\u0000\u0002\u009b\u0001\u0000\u0000\u0000\u0002\u009d\u0001\u0000"+
+    "\u0000\u0000\u0002\u009f\u0001\u0000\u0000\u0000\u0002\u00a1\u0001\u0000"+
+    "\u0000\u0000\u0002\u00a3\u0001\u0000\u0000\u0000\u0002\u00a5\u0001\u0000"+
+    "\u0000\u0000\u0002\u00a7\u0001\u0000\u0000\u0000\u0002\u00a9\u0001\u0000"+
+    "\u0000\u0000\u0002\u00ab\u0001\u0000\u0000\u0000\u0002\u00ad\u0001\u0000"+
+    "\u0000\u0000\u0003\u00af\u0001\u0000\u0000\u0000\u0003\u00b1\u0001\u0000"+
+    "\u0000\u0000\u0003\u00b3\u0001\u0000\u0000\u0000\u0003\u00b5\u0001\u0000"+
+    "\u0000\u0000\u0003\u00b7\u0001\u0000\u0000\u0000\u0003\u00b9\u0001\u0000"+
+    "\u0000\u0000\u0003\u00bd\u0001\u0000\u0000\u0000\u0003\u00bf\u0001\u0000"+
+    "\u0000\u0000\u0003\u00c1\u0001\u0000\u0000\u0000\u0003\u00c3\u0001\u0000"+
+    "\u0000\u0000\u0003\u00c5\u0001\u0000\u0000\u0000\u0004\u00c7\u0001\u0000"+
+    "\u0000\u0000\u0004\u00c9\u0001\u0000\u0000\u0000\u0004\u00cb\u0001\u0000"+
+    "\u0000\u0000\u0004\u00cf\u0001\u0000\u0000\u0000\u0004\u00d1\u0001\u0000"+
+    "\u0000\u0000\u0004\u00d3\u0001\u0000\u0000\u0000\u0004\u00d5\u0001\u0000"+
+    "\u0000\u0000\u0004\u00d7\u0001\u0000\u0000\u0000\u0004\u00d9\u0001\u0000"+
+    "\u0000\u0000\u0005\u00db\u0001\u0000\u0000\u0000\u0005\u00dd\u0001\u0000"+
+    "\u0000\u0000\u0005\u00df\u0001\u0000\u0000\u0000\u0005\u00e1\u0001\u0000"+
+    "\u0000\u0000\u0005\u00e3\u0001\u0000\u0000\u0000\u0005\u00e5\u0001\u0000"+
+    "\u0000\u0000\u0005\u00e7\u0001\u0000\u0000\u0000\u0005\u00e9\u0001\u0000"+
+    "\u0000\u0000\u0005\u00eb\u0001\u0000\u0000\u0000\u0005\u00ed\u0001\u0000"+
+    "\u0000\u0000\u0006\u00ef\u0001\u0000\u0000\u0000\u0006\u00f1\u0001\u0000"+
+    "\u0000\u0000\u0006\u00f3\u0001\u0000\u0000\u0000\u0006\u00f5\u0001\u0000"+
+    "\u0000\u0000\u0006\u00f9\u0001\u0000\u0000\u0000\u0006\u00fb\u0001\u0000"+
+    "\u0000\u0000\u0006\u00fd\u0001\u0000\u0000\u0000\u0006\u00ff\u0001\u0000"+
+    "\u0000\u0000\u0006\u0101\u0001\u0000\u0000\u0000\u0006\u0103\u0001\u0000"+
+    "\u0000\u0000\u0007\u0105\u0001\u0000\u0000\u0000\u0007\u0107\u0001\u0000"+
+    "\u0000\u0000\u0007\u0109\u0001\u0000\u0000\u0000\u0007\u010b\u0001\u0000"+
+    "\u0000\u0000\u0007\u010d\u0001\u0000\u0000\u0000\u0007\u010f\u0001\u0000"+
+    "\u0000\u0000\u0007\u0111\u0001\u0000\u0000\u0000\u0007\u0113\u0001\u0000"+
+    "\u0000\u0000\u0007\u0115\u0001\u0000\u0000\u0000\u0007\u0117\u0001\u0000"+
+    "\u0000\u0000\b\u0119\u0001\u0000\u0000\u0000\b\u011b\u0001\u0000\u0000"+
+    "\u0000\b\u011d\u0001\u0000\u0000\u0000\b\u011f\u0001\u0000\u0000\u0000"+
+    "\b\u0121\u0001\u0000\u0000\u0000\b\u0123\u0001\u0000\u0000\u0000\b\u0125"+
+    "\u0001\u0000\u0000\u0000\t\u0127\u0001\u0000\u0000\u0000\t\u0129\u0001"+
+    "\u0000\u0000\u0000\t\u012b\u0001\u0000\u0000\u0000\t\u012d\u0001\u0000"+
+    "\u0000\u0000\t\u012f\u0001\u0000\u0000\u0000\t\u0131\u0001\u0000\u0000"+
+    "\u0000\n\u0133\u0001\u0000\u0000\u0000\n\u0135\u0001\u0000\u0000\u0000"+
+    "\n\u0137\u0001\u0000\u0000\u0000\n\u0139\u0001\u0000\u0000\u0000\n\u013b"+
+    "\u0001\u0000\u0000\u0000\n\u013d\u0001\u0000\u0000\u0000\u000b\u013f\u0001"+
+    "\u0000\u0000\u0000\r\u0149\u0001\u0000\u0000\u0000\u000f\u0150\u0001\u0000"+
+    "\u0000\u0000\u0011\u0159\u0001\u0000\u0000\u0000\u0013\u0160\u0001\u0000"+
+    "\u0000\u0000\u0015\u016a\u0001\u0000\u0000\u0000\u0017\u0171\u0001\u0000"+
+    "\u0000\u0000\u0019\u0178\u0001\u0000\u0000\u0000\u001b\u0186\u0001\u0000"+
+    "\u0000\u0000\u001d\u018d\u0001\u0000\u0000\u0000\u001f\u0195\u0001\u0000"+
+    "\u0000\u0000!\u019e\u0001\u0000\u0000\u0000#\u01aa\u0001\u0000\u0000\u0000"+
+    "%\u01b3\u0001\u0000\u0000\u0000\'\u01b9\u0001\u0000\u0000\u0000)\u01c0"+
+    "\u0001\u0000\u0000\u0000+\u01c7\u0001\u0000\u0000\u0000-\u01cf\u0001\u0000"+
+    "\u0000\u0000/\u01d8\u0001\u0000\u0000\u00001\u01de\u0001\u0000\u0000\u0000"+
+    "3\u01ef\u0001\u0000\u0000\u00005\u01ff\u0001\u0000\u0000\u00007\u0205"+
+    "\u0001\u0000\u0000\u00009\u020a\u0001\u0000\u0000\u0000;\u020f\u0001\u0000"+
+    "\u0000\u0000=\u0213\u0001\u0000\u0000\u0000?\u0217\u0001\u0000\u0000\u0000"+
+    "A\u021b\u0001\u0000\u0000\u0000C\u021f\u0001\u0000\u0000\u0000E\u0221"+
+    "\u0001\u0000\u0000\u0000G\u0223\u0001\u0000\u0000\u0000I\u0226\u0001\u0000"+
+    "\u0000\u0000K\u0228\u0001\u0000\u0000\u0000M\u0231\u0001\u0000\u0000\u0000"+
+    "O\u0233\u0001\u0000\u0000\u0000Q\u0238\u0001\u0000\u0000\u0000S\u023a"+
+    "\u0001\u0000\u0000\u0000U\u023f\u0001\u0000\u0000\u0000W\u025e\u0001\u0000"+
+    "\u0000\u0000Y\u0261\u0001\u0000\u0000\u0000[\u028f\u0001\u0000\u0000\u0000"+
+    "]\u0291\u0001\u0000\u0000\u0000_\u0294\u0001\u0000\u0000\u0000a\u0298"+
+    "\u0001\u0000\u0000\u0000c\u029c\u0001\u0000\u0000\u0000e\u029e\u0001\u0000"+
+    "\u0000\u0000g\u02a0\u0001\u0000\u0000\u0000i\u02a5\u0001\u0000\u0000\u0000"+
+    "k\u02a7\u0001\u0000\u0000\u0000m\u02ad\u0001\u0000\u0000\u0000o\u02b3"+
+    "\u0001\u0000\u0000\u0000q\u02b8\u0001\u0000\u0000\u0000s\u02ba\u0001\u0000"+
+    "\u0000\u0000u\u02bd\u0001\u0000\u0000\u0000w\u02c0\u0001\u0000\u0000\u0000"+
+    "y\u02c5\u0001\u0000\u0000\u0000{\u02c9\u0001\u0000\u0000\u0000}\u02ce"+
+    "\u0001\u0000\u0000\u0000\u007f\u02d4\u0001\u0000\u0000\u0000\u0081\u02d7"+
+    "\u0001\u0000\u0000\u0000\u0083\u02d9\u0001\u0000\u0000\u0000\u0085\u02df"+
+    "\u0001\u0000\u0000\u0000\u0087\u02e1\u0001\u0000\u0000\u0000\u0089\u02e6"+
+    "\u0001\u0000\u0000\u0000\u008b\u02e9\u0001\u0000\u0000\u0000\u008d\u02ec"+
+    "\u0001\u0000\u0000\u0000\u008f\u02ef\u0001\u0000\u0000\u0000\u0091\u02f1"+
+    "\u0001\u0000\u0000\u0000\u0093\u02f4\u0001\u0000\u0000\u0000\u0095\u02f6"+
+    "\u0001\u0000\u0000\u0000\u0097\u02f9\u0001\u0000\u0000\u0000\u0099\u02fb"+
+    "\u0001\u0000\u0000\u0000\u009b\u02fd\u0001\u0000\u0000\u0000\u009d\u02ff"+
+    "\u0001\u0000\u0000\u0000\u009f\u0301\u0001\u0000\u0000\u0000\u00a1\u0303"+
+    "\u0001\u0000\u0000\u0000\u00a3\u0308\u0001\u0000\u0000\u0000\u00a5\u031d"+
+    "\u0001\u0000\u0000\u0000\u00a7\u031f\u0001\u0000\u0000\u0000\u00a9\u0327"+
+    "\u0001\u0000\u0000\u0000\u00ab\u032b\u0001\u0000\u0000\u0000\u00ad\u032f"+
+    "\u0001\u0000\u0000\u0000\u00af\u0333\u0001\u0000\u0000\u0000\u00b1\u0338"+
+    "\u0001\u0000\u0000\u0000\u00b3\u033c\u0001\u0000\u0000\u0000\u00b5\u0340"+
+    "\u0001\u0000\u0000\u0000\u00b7\u0344\u0001\u0000\u0000\u0000\u00b9\u0348"+
+    "\u0001\u0000\u0000\u0000\u00bb\u0354\u0001\u0000\u0000\u0000\u00bd\u0357"+
+    "\u0001\u0000\u0000\u0000\u00bf\u035b\u0001\u0000\u0000\u0000\u00c1\u035f"+
+    "\u0001\u0000\u0000\u0000\u00c3\u0363\u0001\u0000\u0000\u0000\u00c5\u0367"+
+    "\u0001\u0000\u0000\u0000\u00c7\u036b\u0001\u0000\u0000\u0000\u00c9\u0370"+
+    "\u0001\u0000\u0000\u0000\u00cb\u0374\u0001\u0000\u0000\u0000\u00cd\u037c"+
+    "\u0001\u0000\u0000\u0000\u00cf\u0391\u0001\u0000\u0000\u0000\u00d1\u0393"+
+    "\u0001\u0000\u0000\u0000\u00d3\u0397\u0001\u0000\u0000\u0000\u00d5\u039b"+
+    "\u0001\u0000\u0000\u0000\u00d7\u039f\u0001\u0000\u0000\u0000\u00d9\u03a3"+
+    "\u0001\u0000\u0000\u0000\u00db\u03a7\u0001\u0000\u0000\u0000\u00dd\u03ac"+
+    "\u0001\u0000\u0000\u0000\u00df\u03b0\u0001\u0000\u0000\u0000\u00e1\u03b4"+
+    "\u0001\u0000\u0000\u0000\u00e3\u03b8\u0001\u0000\u0000\u0000\u00e5\u03bb"+
+    "\u0001\u0000\u0000\u0000\u00e7\u03bf\u0001\u0000\u0000\u0000\u00e9\u03c3"+
+    "\u0001\u0000\u0000\u0000\u00eb\u03c7\u0001\u0000\u0000\u0000\u00ed\u03cb"+
+    "\u0001\u0000\u0000\u0000\u00ef\u03cf\u0001\u0000\u0000\u0000\u00f1\u03d4"+
+    "\u0001\u0000\u0000\u0000\u00f3\u03d9\u0001\u0000\u0000\u0000\u00f5\u03de"+
+    "\u0001\u0000\u0000\u0000\u00f7\u03e5\u0001\u0000\u0000\u0000\u00f9\u03e9"+
+    "\u0001\u0000\u0000\u0000\u00fb\u03f1\u0001\u0000\u0000\u0000\u00fd\u03f5"+
+    "\u0001\u0000\u0000\u0000\u00ff\u03f9\u0001\u0000\u0000\u0000\u0101\u03fd"+
+    "\u0001\u0000\u0000\u0000\u0103\u0401\u0001\u0000\u0000\u0000\u0105\u0405"+
+    "\u0001\u0000\u0000\u0000\u0107\u040b\u0001\u0000\u0000\u0000\u0109\u040f"+
+    "\u0001\u0000\u0000\u0000\u010b\u0413\u0001\u0000\u0000\u0000\u010d\u0417"+
+    "\u0001\u0000\u0000\u0000\u010f\u041b\u0001\u0000\u0000\u0000\u0111\u041f"+
+    "\u0001\u0000\u0000\u0000\u0113\u0423\u0001\u0000\u0000\u0000\u0115\u0427"+
+    "\u0001\u0000\u0000\u0000\u0117\u042b\u0001\u0000\u0000\u0000\u0119\u042f"+
+    "\u0001\u0000\u0000\u0000\u011b\u0434\u0001\u0000\u0000\u0000\u011d\u0438"+
+    "\u0001\u0000\u0000\u0000\u011f\u043c\u0001\u0000\u0000\u0000\u0121\u0440"+
+    "\u0001\u0000\u0000\u0000\u0123\u0444\u0001\u0000\u0000\u0000\u0125\u0448"+
+    "\u0001\u0000\u0000\u0000\u0127\u044c\u0001\u0000\u0000\u0000\u0129\u0451"+
+    "\u0001\u0000\u0000\u0000\u012b\u0456\u0001\u0000\u0000\u0000\u012d\u0460"+
+    "\u0001\u0000\u0000\u0000\u012f\u0464\u0001\u0000\u0000\u0000\u0131\u0468"+
+    "\u0001\u0000\u0000\u0000\u0133\u046c\u0001\u0000\u0000\u0000\u0135\u0471"+
+    "\u0001\u0000\u0000\u0000\u0137\u0478\u0001\u0000\u0000\u0000\u0139\u047c"+
+    "\u0001\u0000\u0000\u0000\u013b\u0480\u0001\u0000\u0000\u0000\u013d\u0484"+
+    "\u0001\u0000\u0000\u0000\u013f\u0140\u0005d\u0000\u0000\u0140\u0141\u0005"+
+    "i\u0000\u0000\u0141\u0142\u0005s\u0000\u0000\u0142\u0143\u0005s\u0000"+
+    "\u0000\u0143\u0144\u0005e\u0000\u0000\u0144\u0145\u0005c\u0000\u0000\u0145"+
+    "\u0146\u0005t\u0000\u0000\u0146\u0147\u0001\u0000\u0000\u0000\u0147\u0148"+
+    "\u0006\u0000\u0000\u0000\u0148\f\u0001\u0000\u0000\u0000\u0149\u014a\u0005"+
+    "d\u0000\u0000\u014a\u014b\u0005r\u0000\u0000\u014b\u014c\u0005o\u0000"+
+    "\u0000\u014c\u014d\u0005p\u0000\u0000\u014d\u014e\u0001\u0000\u0000\u0000"+
+    "\u014e\u014f\u0006\u0001\u0001\u0000\u014f\u000e\u0001\u0000\u0000\u0000"+
+    "\u0150\u0151\u0005e\u0000\u0000\u0151\u0152\u0005n\u0000\u0000\u0152\u0153"+
+    "\u0005r\u0000\u0000\u0153\u0154\u0005i\u0000\u0000\u0154\u0155\u0005c"+
+    "\u0000\u0000\u0155\u0156\u0005h\u0000\u0000\u0156\u0157\u0001\u0000\u0000"+
+    "\u0000\u0157\u0158\u0006\u0002\u0002\u0000\u0158\u0010\u0001\u0000\u0000"+
+    "\u0000\u0159\u015a\u0005e\u0000\u0000\u015a\u015b\u0005v\u0000\u0000\u015b"+
+    "\u015c\u0005a\u0000\u0000\u015c\u015d\u0005l\u0000\u0000\u015d\u015e\u0001"+
+    "\u0000\u0000\u0000\u015e\u015f\u0006\u0003\u0000\u0000\u015f\u0012\u0001"+
+    "\u0000\u0000\u0000\u0160\u0161\u0005e\u0000\u0000\u0161\u0162\u0005x\u0000"+
+    "\u0000\u0162\u0163\u0005p\u0000\u0000\u0163\u0164\u0005l\u0000\u0000\u0164"+
+    "\u0165\u0005a\u0000\u0000\u0165\u0166\u0005i\u0000\u0000\u0166\u0167\u0005"+
+    "n\u0000\u0000\u0167\u0168\u0001\u0000\u0000\u0000\u0168\u0169\u0006\u0004"+
+    "\u0003\u0000\u0169\u0014\u0001\u0000\u0000\u0000\u016a\u016b\u0005f\u0000"+
+    "\u0000\u016b\u016c\u0005r\u0000\u0000\u016c\u016d\u0005o\u0000\u0000\u016d"+
+    "\u016e\u0005m\u0000\u0000\u016e\u016f\u0001\u0000\u0000\u0000\u016f\u0170"+
+    "\u0006\u0005\u0004\u0000\u0170\u0016\u0001\u0000\u0000\u0000\u0171\u0172"+
+    "\u0005g\u0000\u0000\u0172\u0173\u0005r\u0000\u0000\u0173\u0174\u0005o"+
+    "\u0000\u0000\u0174\u0175\u0005k\u0000\u0000\u0175\u0176\u0001\u0000\u0000"+
+    "\u0000\u0176\u0177\u0006\u0006\u0000\u0000\u0177\u0018\u0001\u0000\u0000"+
+    "\u0000\u0178\u0179\u0005i\u0000\u0000\u0179\u017a\u0005n\u0000\u0000\u017a"+
+    "\u017b\u0005l\u0000\u0000\u017b\u017c\u0005i\u0000\u0000\u017c\u017d\u0005"+
+    "n\u0000\u0000\u017d\u017e\u0005e\u0000\u0000\u017e\u017f\u0005s\u0000"+
+    "\u0000\u017f\u0180\u0005t\u0000\u0000\u0180\u0181\u0005a\u0000\u0000\u0181"+
+    "\u0182\u0005t\u0000\u0000\u0182\u0183\u0005s\u0000\u0000\u0183\u0184\u0001"+
+    "\u0000\u0000\u0000\u0184\u0185\u0006\u0007\u0000\u0000\u0185\u001a\u0001"+
+    "\u0000\u0000\u0000\u0186\u0187\u0005k\u0000\u0000\u0187\u0188\u0005e\u0000"+
+    "\u0000\u0188\u0189\u0005e\u0000\u0000\u0189\u018a\u0005p\u0000\u0000\u018a"+
+    "\u018b\u0001\u0000\u0000\u0000\u018b\u018c\u0006\b\u0001\u0000\u018c\u001c"+
+    "\u0001\u0000\u0000\u0000\u018d\u018e\u0005l\u0000\u0000\u018e\u018f\u0005"+
+    "i\u0000\u0000\u018f\u0190\u0005m\u0000\u0000\u0190\u0191\u0005i\u0000"+
+    "\u0000\u0191\u0192\u0005t\u0000\u0000\u0192\u0193\u0001\u0000\u0000\u0000"+
+    "\u0193\u0194\u0006\t\u0000\u0000\u0194\u001e\u0001\u0000\u0000\u0000\u0195"+
+    "\u0196\u0005l\u0000\u0000\u0196\u0197\u0005o\u0000\u0000\u0197\u0198\u0005"+
+    "o\u0000\u0000\u0198\u0199\u0005k\u0000\u0000\u0199\u019a\u0005u\u0000"+
+    "\u0000\u019a\u019b\u0005p\u0000\u0000\u019b\u019c\u0001\u0000\u0000\u0000"+
+    "\u019c\u019d\u0006\n\u0002\u0000\u019d \u0001\u0000\u0000\u0000\u019e"+
+    "\u019f\u0005m\u0000\u0000\u019f\u01a0\u0005v\u0000\u0000\u01a0\u01a1\u0005"+
+    "_\u0000\u0000\u01a1\u01a2\u0005e\u0000\u0000\u01a2\u01a3\u0005x\u0000"+
+    "\u0000\u01a3\u01a4\u0005p\u0000\u0000\u01a4\u01a5\u0005a\u0000\u0000\u01a5"+
+    "\u01a6\u0005n\u0000\u0000\u01a6\u01a7\u0005d\u0000\u0000\u01a7\u01a8\u0001"+
+    "\u0000\u0000\u0000\u01a8\u01a9\u0006\u000b\u0005\u0000\u01a9\"\u0001\u0000"+
+    "\u0000\u0000\u01aa\u01ab\u0005r\u0000\u0000\u01ab\u01ac\u0005e\u0000\u0000"+
+    "\u01ac\u01ad\u0005n\u0000\u0000\u01ad\u01ae\u0005a\u0000\u0000\u01ae\u01af"+
+    "\u0005m\u0000\u0000\u01af\u01b0\u0005e\u0000\u0000\u01b0\u01b1\u0001\u0000"+
+    "\u0000\u0000\u01b1\u01b2\u0006\f\u0006\u0000\u01b2$\u0001\u0000\u0000"+
+    "\u0000\u01b3\u01b4\u0005r\u0000\u0000\u01b4\u01b5\u0005o\u0000\u0000\u01b5"+
+    "\u01b6\u0005w\u0000\u0000\u01b6\u01b7\u0001\u0000\u0000\u0000\u01b7\u01b8"+
+    "\u0006\r\u0000\u0000\u01b8&\u0001\u0000\u0000\u0000\u01b9\u01ba\u0005"+
+    "s\u0000\u0000\u01ba\u01bb\u0005h\u0000\u0000\u01bb\u01bc\u0005o\u0000"+
+    "\u0000\u01bc\u01bd\u0005w\u0000\u0000\u01bd\u01be\u0001\u0000\u0000\u0000"+
+    "\u01be\u01bf\u0006\u000e\u0007\u0000\u01bf(\u0001\u0000\u0000\u0000\u01c0"+
+    "\u01c1\u0005s\u0000\u0000\u01c1\u01c2\u0005o\u0000\u0000\u01c2\u01c3\u0005"+
+    "r\u0000\u0000\u01c3\u01c4\u0005t\u0000\u0000\u01c4\u01c5\u0001\u0000\u0000"+
+    "\u0000\u01c5\u01c6\u0006\u000f\u0000\u0000\u01c6*\u0001\u0000\u0000\u0000"+
+    "\u01c7\u01c8\u0005s\u0000\u0000\u01c8\u01c9\u0005t\u0000\u0000\u01c9\u01ca"+
+    "\u0005a\u0000\u0000\u01ca\u01cb\u0005t\u0000\u0000\u01cb\u01cc\u0005s"+
+    "\u0000\u0000\u01cc\u01cd\u0001\u0000\u0000\u0000\u01cd\u01ce\u0006\u0010"+
+    "\u0000\u0000\u01ce,\u0001\u0000\u0000\u0000\u01cf\u01d0\u0005w\u0000\u0000"+
+    "\u01d0\u01d1\u0005h\u0000\u0000\u01d1\u01d2\u0005e\u0000\u0000\u01d2\u01d3"+
+    "\u0005r\u0000\u0000\u01d3\u01d4\u0005e\u0000\u0000\u01d4\u01d5\u0001\u0000"+
+    "\u0000\u0000\u01d5\u01d6\u0006\u0011\u0000\u0000\u01d6.\u0001\u0000\u0000"+
+    "\u0000\u01d7\u01d9\b\u0000\u0000\u0000\u01d8\u01d7\u0001\u0000\u0000\u0000"+
+    "\u01d9\u01da\u0001\u0000\u0000\u0000\u01da\u01d8\u0001\u0000\u0000\u0000"+
+    "\u01da\u01db\u0001\u0000\u0000\u0000\u01db\u01dc\u0001\u0000\u0000\u0000"+
+    "\u01dc\u01dd\u0006\u0012\u0000\u0000\u01dd0\u0001\u0000\u0000\u0000\u01de"+
+    "\u01df\u0005/\u0000\u0000\u01df\u01e0\u0005/\u0000\u0000\u01e0\u01e4\u0001"+
+    "\u0000\u0000\u0000\u01e1\u01e3\b\u0001\u0000\u0000\u01e2\u01e1\u0001\u0000"+
+    "\u0000\u0000\u01e3\u01e6\u0001\u0000\u0000\u0000\u01e4\u01e2\u0001\u0000"+
+    "\u0000\u0000\u01e4\u01e5\u0001\u0000\u0000\u0000\u01e5\u01e8\u0001\u0000"+
+    "\u0000\u0000\u01e6\u01e4\u0001\u0000\u0000\u0000\u01e7\u01e9\u0005\r\u0000"+
+    "\u0000\u01e8\u01e7\u0001\u0000\u0000\u0000\u01e8\u01e9\u0001\u0000\u0000"+
+    "\u0000\u01e9\u01eb\u0001\u0000\u0000\u0000\u01ea\u01ec\u0005\n\u0000\u0000"+
+    "\u01eb\u01ea\u0001\u0000\u0000\u0000\u01eb\u01ec\u0001\u0000\u0000\u0000"+
+    "\u01ec\u01ed\u0001\u0000\u0000\u0000\u01ed\u01ee\u0006\u0013\b\u0000\u01ee"+
+    "2\u0001\u0000\u0000\u0000\u01ef\u01f0\u0005/\u0000\u0000\u01f0\u01f1\u0005"+
+    "*\u0000\u0000\u01f1\u01f6\u0001\u0000\u0000\u0000\u01f2\u01f5\u00033\u0014"+
+    "\u0000\u01f3\u01f5\t\u0000\u0000\u0000\u01f4\u01f2\u0001\u0000\u0000\u0000"+
+    "\u01f4\u01f3\u0001\u0000\u0000\u0000\u01f5\u01f8\u0001\u0000\u0000\u0000"+
+    "\u01f6\u01f7\u0001\u0000\u0000\u0000\u01f6\u01f4\u0001\u0000\u0000\u0000"+
+    "\u01f7\u01f9\u0001\u0000\u0000\u0000\u01f8\u01f6\u0001\u0000\u0000\u0000"+
+    "\u01f9\u01fa\u0005*\u0000\u0000\u01fa\u01fb\u0005/\u0000\u0000\u01fb\u01fc"+
+    "\u0001\u0000\u0000\u0000\u01fc\u01fd\u0006\u0014\b\u0000\u01fd4\u0001"+
+    "\u0000\u0000\u0000\u01fe\u0200\u0007\u0002\u0000\u0000\u01ff\u01fe\u0001"+
+    "\u0000\u0000\u0000\u0200\u0201\u0001\u0000\u0000\u0000\u0201\u01ff\u0001"+
+    "\u0000\u0000\u0000\u0201\u0202\u0001\u0000\u0000\u0000\u0202\u0203\u0001"+
+    "\u0000\u0000\u0000\u0203\u0204\u0006\u0015\b\u0000\u02046\u0001\u0000"+
+    "\u0000\u0000\u0205\u0206\u0003\u00a1K\u0000\u0206\u0207\u0001\u0000\u0000"+
+    "\u0000\u0207\u0208\u0006\u0016\t\u0000\u0208\u0209\u0006\u0016\n\u0000"+
+    "\u02098\u0001\u0000\u0000\u0000\u020a\u020b\u0003A\u001b\u0000\u020b\u020c"+
+    "\u0001\u0000\u0000\u0000\u020c\u020d\u0006\u0017\u000b\u0000\u020d\u020e"+
+    "\u0006\u0017\f\u0000\u020e:\u0001\u0000\u0000\u0000\u020f\u0210\u0003"+
+    "5\u0015\u0000\u0210\u0211\u0001\u0000\u0000\u0000\u0211\u0212\u0006\u0018"+
+    "\b\u0000\u0212<\u0001\u0000\u0000\u0000\u0213\u0214\u00031\u0013\u0000"+
+    "\u0214\u0215\u0001\u0000\u0000\u0000\u0215\u0216\u0006\u0019\b\u0000\u0216"+
+    ">\u0001\u0000\u0000\u0000\u0217\u0218\u00033\u0014\u0000\u0218\u0219\u0001"+
+    "\u0000\u0000\u0000\u0219\u021a\u0006\u001a\b\u0000\u021a@\u0001\u0000"+
+    "\u0000\u0000\u021b\u021c\u0005|\u0000\u0000\u021c\u021d\u0001\u0000\u0000"+
+    "\u0000\u021d\u021e\u0006\u001b\f\u0000\u021eB\u0001\u0000\u0000\u0000"+
+    "\u021f\u0220\u0007\u0003\u0000\u0000\u0220D\u0001\u0000\u0000\u0000\u0221"+
+    "\u0222\u0007\u0004\u0000\u0000\u0222F\u0001\u0000\u0000\u0000\u0223\u0224"+
+    "\u0005\\\u0000\u0000\u0224\u0225\u0007\u0005\u0000\u0000\u0225H\u0001"+
+    "\u0000\u0000\u0000\u0226\u0227\b\u0006\u0000\u0000\u0227J\u0001\u0000"+
+    "\u0000\u0000\u0228\u022a\u0007\u0007\u0000\u0000\u0229\u022b\u0007\b\u0000"+
+    "\u0000\u022a\u0229\u0001\u0000\u0000\u0000\u022a\u022b\u0001\u0000\u0000"+
+    "\u0000\u022b\u022d\u0001\u0000\u0000\u0000\u022c\u022e\u0003C\u001c\u0000"+
+    "\u022d\u022c\u0001\u0000\u0000\u0000\u022e\u022f\u0001\u0000\u0000\u0000"+
+    "\u022f\u022d\u0001\u0000\u0000\u0000\u022f\u0230\u0001\u0000\u0000\u0000"+
+    "\u0230L\u0001\u0000\u0000\u0000\u0231\u0232\u0005@\u0000\u0000\u0232N"+
+    "\u0001\u0000\u0000\u0000\u0233\u0234\u0005`\u0000\u0000\u0234P\u0001\u0000"+
+    "\u0000\u0000\u0235\u0239\b\t\u0000\u0000\u0236\u0237\u0005`\u0000\u0000"+
+    "\u0237\u0239\u0005`\u0000\u0000\u0238\u0235\u0001\u0000\u0000\u0000\u0238"+
+    "\u0236\u0001\u0000\u0000\u0000\u0239R\u0001\u0000\u0000\u0000\u023a\u023b"+
+    "\u0005_\u0000\u0000\u023bT\u0001\u0000\u0000\u0000\u023c\u0240\u0003E"+
+    "\u001d\u0000\u023d\u0240\u0003C\u001c\u0000\u023e\u0240\u0003S$\u0000"+
+    "\u023f\u023c\u0001\u0000\u0000\u0000\u023f\u023d\u0001\u0000\u0000\u0000"+
+    "\u023f\u023e\u0001\u0000\u0000\u0000\u0240V\u0001\u0000\u0000\u0000\u0241"+
+    "\u0246\u0005\"\u0000\u0000\u0242\u0245\u0003G\u001e\u0000\u0243\u0245"+
+    "\u0003I\u001f\u0000\u0244\u0242\u0001\u0000\u0000\u0000\u0244\u0243\u0001"+
+    "\u0000\u0000\u0000\u0245\u0248\u0001\u0000\u0000\u0000\u0246\u0244\u0001"+
+    "\u0000\u0000\u0000\u0246\u0247\u0001\u0000\u0000\u0000\u0247\u0249\u0001"+
+    "\u0000\u0000\u0000\u0248\u0246\u0001\u0000\u0000\u0000\u0249\u025f\u0005"+
+    "\"\u0000\u0000\u024a\u024b\u0005\"\u0000\u0000\u024b\u024c\u0005\"\u0000"+
+    "\u0000\u024c\u024d\u0005\"\u0000\u0000\u024d\u0251\u0001\u0000\u0000\u0000"+
+    "\u024e\u0250\b\u0001\u0000\u0000\u024f\u024e\u0001\u0000\u0000\u0000\u0250"+
+    "\u0253\u0001\u0000\u0000\u0000\u0251\u0252\u0001\u0000\u0000\u0000\u0251"+
+    "\u024f\u0001\u0000\u0000\u0000\u0252\u0254\u0001\u0000\u0000\u0000\u0253"+
+    "\u0251\u0001\u0000\u0000\u0000\u0254\u0255\u0005\"\u0000\u0000\u0255\u0256"+
+    "\u0005\"\u0000\u0000\u0256\u0257\u0005\"\u0000\u0000\u0257\u0259\u0001"+
+    "\u0000\u0000\u0000\u0258\u025a\u0005\"\u0000\u0000\u0259\u0258\u0001\u0000"+
+    "\u0000\u0000\u0259\u025a\u0001\u0000\u0000\u0000\u025a\u025c\u0001\u0000"+
+    "\u0000\u0000\u025b\u025d\u0005\"\u0000\u0000\u025c\u025b\u0001\u0000\u0000"+
+    "\u0000\u025c\u025d\u0001\u0000\u0000\u0000\u025d\u025f\u0001\u0000\u0000"+
+    "\u0000\u025e\u0241\u0001\u0000\u0000\u0000\u025e\u024a\u0001\u0000\u0000"+
+    "\u0000\u025fX\u0001\u0000\u0000\u0000\u0260\u0262\u0003C\u001c\u0000\u0261"+
+    "\u0260\u0001\u0000\u0000\u0000\u0262\u0263\u0001\u0000\u0000\u0000\u0263"+
+    "\u0261\u0001\u0000\u0000\u0000\u0263\u0264\u0001\u0000\u0000\u0000\u0264"+
+    "Z\u0001\u0000\u0000\u0000\u0265\u0267\u0003C\u001c\u0000\u0266\u0265\u0001"+
+    "\u0000\u0000\u0000\u0267\u0268\u0001\u0000\u0000\u0000\u0268\u0266\u0001"+
+    "\u0000\u0000\u0000\u0268\u0269\u0001\u0000\u0000\u0000\u0269\u026a\u0001"+
+    "\u0000\u0000\u0000\u026a\u026e\u0003i/\u0000\u026b\u026d\u0003C\u001c"+
+    "\u0000\u026c\u026b\u0001\u0000\u0000\u0000\u026d\u0270\u0001\u0000\u0000"+
+    "\u0000\u026e\u026c\u0001\u0000\u0000\u0000\u026e\u026f\u0001\u0000\u0000"+
+    "\u0000\u026f\u0290\u0001\u0000\u0000\u0000\u0270\u026e\u0001\u0000\u0000"+
+    "\u0000\u0271\u0273\u0003i/\u0000\u0272\u0274\u0003C\u001c\u0000\u0273"+
+    "\u0272\u0001\u0000\u0000\u0000\u0274\u0275\u0001\u0000\u0000\u0000\u0275"+
+    "\u0273\u0001\u0000\u0000\u0000\u0275\u0276\u0001\u0000\u0000\u0000\u0276"+
+    "\u0290\u0001\u0000\u0000\u0000\u0277\u0279\u0003C\u001c\u0000\u0278\u0277"+
+    "\u0001\u0000\u0000\u0000\u0279\u027a\u0001\u0000\u0000\u0000\u027a\u0278"+
+    "\u0001\u0000\u0000\u0000\u027a\u027b\u0001\u0000\u0000\u0000\u027b\u0283"+
+    "\u0001\u0000\u0000\u0000\u027c\u0280\u0003i/\u0000\u027d\u027f\u0003C"+
+    "\u001c\u0000\u027e\u027d\u0001\u0000\u0000\u0000\u027f\u0282\u0001\u0000"+
+    "\u0000\u0000\u0280\u027e\u0001\u0000\u0000\u0000\u0280\u0281\u0001\u0000"+
+    "\u0000\u0000\u0281\u0284\u0001\u0000\u0000\u0000\u0282\u0280\u0001\u0000"+
+    "\u0000\u0000\u0283\u027c\u0001\u0000\u0000\u0000\u0283\u0284\u0001\u0000"+
+    "\u0000\u0000\u0284\u0285\u0001\u0000\u0000\u0000\u0285\u0286\u0003K \u0000"+
+    "\u0286\u0290\u0001\u0000\u0000\u0000\u0287\u0289\u0003i/\u0000\u0288\u028a"+
+    "\u0003C\u001c\u0000\u0289\u0288\u0001\u0000\u0000\u0000\u028a\u028b\u0001"+
+    "\u0000\u0000\u0000\u028b\u0289\u0001\u0000\u0000\u0000\u028b\u028c\u0001"+
+    "\u0000\u0000\u0000\u028c\u028d\u0001\u0000\u0000\u0000\u028d\u028e\u0003"+
+    "K \u0000\u028e\u0290\u0001\u0000\u0000\u0000\u028f\u0266\u0001\u0000\u0000"+
+    "\u0000\u028f\u0271\u0001\u0000\u0000\u0000\u028f\u0278\u0001\u0000\u0000"+
+    "\u0000\u028f\u0287\u0001\u0000\u0000\u0000\u0290\\\u0001\u0000\u0000\u0000"+
+    "\u0291\u0292\u0005b\u0000\u0000\u0292\u0293\u0005y\u0000\u0000\u0293^"+
+    "\u0001\u0000\u0000\u0000\u0294\u0295\u0005a\u0000\u0000\u0295\u0296\u0005"+
+    "n\u0000\u0000\u0296\u0297\u0005d\u0000\u0000\u0297`\u0001\u0000\u0000"+
+    "\u0000\u0298\u0299\u0005a\u0000\u0000\u0299\u029a\u0005s\u0000\u0000\u029a"+
+    "\u029b\u0005c\u0000\u0000\u029bb\u0001\u0000\u0000\u0000\u029c\u029d\u0005"+
+    "=\u0000\u0000\u029dd\u0001\u0000\u0000\u0000\u029e\u029f\u0005,\u0000"+
+    "\u0000\u029ff\u0001\u0000\u0000\u0000\u02a0\u02a1\u0005d\u0000\u0000\u02a1"+
+    "\u02a2\u0005e\u0000\u0000\u02a2\u02a3\u0005s\u0000\u0000\u02a3\u02a4\u0005"+
+    "c\u0000\u0000\u02a4h\u0001\u0000\u0000\u0000\u02a5\u02a6\u0005.\u0000"+
+    "\u0000\u02a6j\u0001\u0000\u0000\u0000\u02a7\u02a8\u0005f\u0000\u0000\u02a8"+
+    "\u02a9\u0005a\u0000\u0000\u02a9\u02aa\u0005l\u0000\u0000\u02aa\u02ab\u0005"+
+    "s\u0000\u0000\u02ab\u02ac\u0005e\u0000\u0000\u02acl\u0001\u0000\u0000"+
+    "\u0000\u02ad\u02ae\u0005f\u0000\u0000\u02ae\u02af\u0005i\u0000\u0000\u02af"+
+    "\u02b0\u0005r\u0000\u0000\u02b0\u02b1\u0005s\u0000\u0000\u02b1\u02b2\u0005"+
+    "t\u0000\u0000\u02b2n\u0001\u0000\u0000\u0000\u02b3\u02b4\u0005l\u0000"+
+    "\u0000\u02b4\u02b5\u0005a\u0000\u0000\u02b5\u02b6\u0005s\u0000\u0000\u02b6"+
+    "\u02b7\u0005t\u0000\u0000\u02b7p\u0001\u0000\u0000\u0000\u02b8\u02b9\u0005"+
+    "(\u0000\u0000\u02b9r\u0001\u0000\u0000\u0000\u02ba\u02bb\u0005i\u0000"+
+    "\u0000\u02bb\u02bc\u0005n\u0000\u0000\u02bct\u0001\u0000\u0000\u0000\u02bd"+
+    "\u02be\u0005i\u0000\u0000\u02be\u02bf\u0005s\u0000\u0000\u02bfv\u0001"+
+    "\u0000\u0000\u0000\u02c0\u02c1\u0005l\u0000\u0000\u02c1\u02c2\u0005i\u0000"+
+    "\u0000\u02c2\u02c3\u0005k\u0000\u0000\u02c3\u02c4\u0005e\u0000\u0000\u02c4"+
+    "x\u0001\u0000\u0000\u0000\u02c5\u02c6\u0005n\u0000\u0000\u02c6\u02c7\u0005"+
+    "o\u0000\u0000\u02c7\u02c8\u0005t\u0000\u0000\u02c8z\u0001\u0000\u0000"+
+    "\u0000\u02c9\u02ca\u0005n\u0000\u0000\u02ca\u02cb\u0005u\u0000\u0000\u02cb"+
+    "\u02cc\u0005l\u0000\u0000\u02cc\u02cd\u0005l\u0000\u0000\u02cd|\u0001"+
+    "\u0000\u0000\u0000\u02ce\u02cf\u0005n\u0000\u0000\u02cf\u02d0\u0005u\u0000"+
+    "\u0000\u02d0\u02d1\u0005l\u0000\u0000\u02d1\u02d2\u0005l\u0000\u0000\u02d2"+
+    "\u02d3\u0005s\u0000\u0000\u02d3~\u0001\u0000\u0000\u0000\u02d4\u02d5\u0005"+
+    "o\u0000\u0000\u02d5\u02d6\u0005r\u0000\u0000\u02d6\u0080\u0001\u0000\u0000"+
+    "\u0000\u02d7\u02d8\u0005?\u0000\u0000\u02d8\u0082\u0001\u0000\u0000\u0000"+
+    "\u02d9\u02da\u0005r\u0000\u0000\u02da\u02db\u0005l\u0000\u0000\u02db\u02dc"+
+    "\u0005i\u0000\u0000\u02dc\u02dd\u0005k\u0000\u0000\u02dd\u02de\u0005e"+
+    "\u0000\u0000\u02de\u0084\u0001\u0000\u0000\u0000\u02df\u02e0\u0005)\u0000"+
+    "\u0000\u02e0\u0086\u0001\u0000\u0000\u0000\u02e1\u02e2\u0005t\u0000\u0000"+
+    "\u02e2\u02e3\u0005r\u0000\u0000\u02e3\u02e4\u0005u\u0000\u0000\u02e4\u02e5"+
+    "\u0005e\u0000\u0000\u02e5\u0088\u0001\u0000\u0000\u0000\u02e6\u02e7\u0005"+
+    "=\u0000\u0000\u02e7\u02e8\u0005=\u0000\u0000\u02e8\u008a\u0001\u0000\u0000"+
+    "\u0000\u02e9\u02ea\u0005=\u0000\u0000\u02ea\u02eb\u0005~\u0000\u0000\u02eb"+
+    "\u008c\u0001\u0000\u0000\u0000\u02ec\u02ed\u0005!\u0000\u0000\u02ed\u02ee"+
+    "\u0005=\u0000\u0000\u02ee\u008e\u0001\u0000\u0000\u0000\u02ef\u02f0\u0005"+
+    "<\u0000\u0000\u02f0\u0090\u0001\u0000\u0000\u0000\u02f1\u02f2\u0005<\u0000"+
+    "\u0000\u02f2\u02f3\u0005=\u0000\u0000\u02f3\u0092\u0001\u0000\u0000\u0000"+
+    "\u02f4\u02f5\u0005>\u0000\u0000\u02f5\u0094\u0001\u0000\u0000\u0000\u02f6"+
+    "\u02f7\u0005>\u0000\u0000\u02f7\u02f8\u0005=\u0000\u0000\u02f8\u0096\u0001"+
+    "\u0000\u0000\u0000\u02f9\u02fa\u0005+\u0000\u0000\u02fa\u0098\u0001\u0000"+
+    "\u0000\u0000\u02fb\u02fc\u0005-\u0000\u0000\u02fc\u009a\u0001\u0000\u0000"+
+    "\u0000\u02fd\u02fe\u0005*\u0000\u0000\u02fe\u009c\u0001\u0000\u0000\u0000"+
+    "\u02ff\u0300\u0005/\u0000\u0000\u0300\u009e\u0001\u0000\u0000\u0000\u0301"+
+    "\u0302\u0005%\u0000\u0000\u0302\u00a0\u0001\u0000\u0000\u0000\u0303\u0304"+
+    "\u0005[\u0000\u0000\u0304\u0305\u0001\u0000\u0000\u0000\u0305\u0306\u0006"+
+    "K\u0000\u0000\u0306\u0307\u0006K\u0000\u0000\u0307\u00a2\u0001\u0000\u0000"+
+    "\u0000\u0308\u0309\u0005]\u0000\u0000\u0309\u030a\u0001\u0000\u0000\u0000"+
+    "\u030a\u030b\u0006L\f\u0000\u030b\u030c\u0006L\f\u0000\u030c\u00a4\u0001"+
+    "\u0000\u0000\u0000\u030d\u0311\u0003E\u001d\u0000\u030e\u0310\u0003U%"+
+    "\u0000\u030f\u030e\u0001\u0000\u0000\u0000\u0310\u0313\u0001\u0000\u0000"+
+    "\u0000\u0311\u030f\u0001\u0000\u0000\u0000\u0311\u0312\u0001\u0000\u0000"+
+    "\u0000\u0312\u031e\u0001\u0000\u0000\u0000\u0313\u0311\u0001\u0000\u0000"+
+    "\u0000\u0314\u0317\u0003S$\u0000\u0315\u0317\u0003M!\u0000\u0316\u0314"+
+    "\u0001\u0000\u0000\u0000\u0316\u0315\u0001\u0000\u0000\u0000\u0317\u0319"+
+    "\u0001\u0000\u0000\u0000\u0318\u031a\u0003U%\u0000\u0319\u0318\u0001\u0000"+
+    "\u0000\u0000\u031a\u031b\u0001\u0000\u0000\u0000\u031b\u0319\u0001\u0000"+
+    "\u0000\u0000\u031b\u031c\u0001\u0000\u0000\u0000\u031c\u031e\u0001\u0000"+
+    "\u0000\u0000\u031d\u030d\u0001\u0000\u0000\u0000\u031d\u0316\u0001\u0000"+
+    "\u0000\u0000\u031e\u00a6\u0001\u0000\u0000\u0000\u031f\u0321\u0003O\""+
+    "\u0000\u0320\u0322\u0003Q#\u0000\u0321\u0320\u0001\u0000\u0000\u0000\u0322"+
+    "\u0323\u0001\u0000\u0000\u0000\u0323\u0321\u0001\u0000\u0000\u0000\u0323"+
+    "\u0324\u0001\u0000\u0000\u0000\u0324\u0325\u0001\u0000\u0000\u0000\u0325"+
+    "\u0326\u0003O\"\u0000\u0326\u00a8\u0001\u0000\u0000\u0000\u0327\u0328"+
+    "\u00031\u0013\u0000\u0328\u0329\u0001\u0000\u0000\u0000\u0329\u032a\u0006"+
+    "O\b\u0000\u032a\u00aa\u0001\u0000\u0000\u0000\u032b\u032c\u00033\u0014"+
+    "\u0000\u032c\u032d\u0001\u0000\u0000\u0000\u032d\u032e\u0006P\b\u0000"+
+    "\u032e\u00ac\u0001\u0000\u0000\u0000\u032f\u0330\u00035\u0015\u0000\u0330"+
+    "\u0331\u0001\u0000\u0000\u0000\u0331\u0332\u0006Q\b\u0000\u0332\u00ae"+
+    "\u0001\u0000\u0000\u0000\u0333\u0334\u0003A\u001b\u0000\u0334\u0335\u0001"+
+    "\u0000\u0000\u0000\u0335\u0336\u0006R\u000b\u0000\u0336\u0337\u0006R\f"+
+    "\u0000\u0337\u00b0\u0001\u0000\u0000\u0000\u0338\u0339\u0003\u00a1K\u0000"+
+    "\u0339\u033a\u0001\u0000\u0000\u0000\u033a\u033b\u0006S\t\u0000\u033b"+
+    "\u00b2\u0001\u0000\u0000\u0000\u033c\u033d\u0003\u00a3L\u0000\u033d\u033e"+
+    "\u0001\u0000\u0000\u0000\u033e\u033f\u0006T\r\u0000\u033f\u00b4\u0001"+
+    "\u0000\u0000\u0000\u0340\u0341\u0003e-\u0000\u0341\u0342\u0001\u0000\u0000"+
+    "\u0000\u0342\u0343\u0006U\u000e\u0000\u0343\u00b6\u0001\u0000\u0000\u0000"+
+    "\u0344\u0345\u0003c,\u0000\u0345\u0346\u0001\u0000\u0000\u0000\u0346\u0347"+
+    "\u0006V\u000f\u0000\u0347\u00b8\u0001\u0000\u0000\u0000\u0348\u0349\u0005"+
+    "m\u0000\u0000\u0349\u034a\u0005e\u0000\u0000\u034a\u034b\u0005t\u0000"+
+    "\u0000\u034b\u034c\u0005a\u0000\u0000\u034c\u034d\u0005d\u0000\u0000\u034d"+
+    "\u034e\u0005a\u0000\u0000\u034e\u034f\u0005t\u0000\u0000\u034f\u0350\u0005"+
+    "a\u0000\u0000\u0350\u00ba\u0001\u0000\u0000\u0000\u0351\u0355\b\n\u0000"+
+    "\u0000\u0352\u0353\u0005/\u0000\u0000\u0353\u0355\b\u000b\u0000\u0000"+
+    "\u0354\u0351\u0001\u0000\u0000\u0000\u0354\u0352\u0001\u0000\u0000\u0000"+
+    "\u0355\u00bc\u0001\u0000\u0000\u0000\u0356\u0358\u0003\u00bbX\u0000\u0357"+
+    "\u0356\u0001\u0000\u0000\u0000\u0358\u0359\u0001\u0000\u0000\u0000\u0359"+
+    "\u0357\u0001\u0000\u0000\u0000\u0359\u035a\u0001\u0000\u0000\u0000\u035a"+
+    "\u00be\u0001\u0000\u0000\u0000\u035b\u035c\u0003\u00a7N\u0000\u035c\u035d"+
+    "\u0001\u0000\u0000\u0000\u035d\u035e\u0006Z\u0010\u0000\u035e\u00c0\u0001"+
+    "\u0000\u0000\u0000\u035f\u0360\u00031\u0013\u0000\u0360\u0361\u0001\u0000"+
+    "\u0000\u0000\u0361\u0362\u0006[\b\u0000\u0362\u00c2\u0001\u0000\u0000"+
+    "\u0000\u0363\u0364\u00033\u0014\u0000\u0364\u0365\u0001\u0000\u0000\u0000"+
+    "\u0365\u0366\u0006\\\b\u0000\u0366\u00c4\u0001\u0000\u0000\u0000\u0367"+
+    "\u0368\u00035\u0015\u0000\u0368\u0369\u0001\u0000\u0000\u0000\u0369\u036a"+
+    "\u0006]\b\u0000\u036a\u00c6\u0001\u0000\u0000\u0000\u036b\u036c\u0003"+
+    "A\u001b\u0000\u036c\u036d\u0001\u0000\u0000\u0000\u036d\u036e\u0006^\u000b"+
+    "\u0000\u036e\u036f\u0006^\f\u0000\u036f\u00c8\u0001\u0000\u0000\u0000"+
+    "\u0370\u0371\u0003i/\u0000\u0371\u0372\u0001\u0000\u0000\u0000\u0372\u0373"+
+    "\u0006_\u0011\u0000\u0373\u00ca\u0001\u0000\u0000\u0000\u0374\u0375\u0003"+
+    "e-\u0000\u0375\u0376\u0001\u0000\u0000\u0000\u0376\u0377\u0006`\u000e"+
+    "\u0000\u0377\u00cc\u0001\u0000\u0000\u0000\u0378\u037d\u0003E\u001d\u0000"+
+    "\u0379\u037d\u0003C\u001c\u0000\u037a\u037d\u0003S$\u0000\u037b\u037d"+
+    "\u0003\u009bH\u0000\u037c\u0378\u0001\u0000\u0000\u0000\u037c\u0379\u0001"+
+    "\u0000\u0000\u0000\u037c\u037a\u0001\u0000\u0000\u0000\u037c\u037b\u0001"+
+    "\u0000\u0000\u0000\u037d\u00ce\u0001\u0000\u0000\u0000\u037e\u0381\u0003"+
+    "E\u001d\u0000\u037f\u0381\u0003\u009bH\u0000\u0380\u037e\u0001\u0000\u0000"+
+    "\u0000\u0380\u037f\u0001\u0000\u0000\u0000\u0381\u0385\u0001\u0000\u0000"+
+    "\u0000\u0382\u0384\u0003\u00cda\u0000\u0383\u0382\u0001\u0000\u0000\u0000"+
+    "\u0384\u0387\u0001\u0000\u0000\u0000\u0385\u0383\u0001\u0000\u0000\u0000"+
+    "\u0385\u0386\u0001\u0000\u0000\u0000\u0386\u0392\u0001\u0000\u0000\u0000"+
+    "\u0387\u0385\u0001\u0000\u0000\u0000\u0388\u038b\u0003S$\u0000\u0389\u038b"+
+    "\u0003M!\u0000\u038a\u0388\u0001\u0000\u0000\u0000\u038a\u0389\u0001\u0000"+
+    "\u0000\u0000\u038b\u038d\u0001\u0000\u0000\u0000\u038c\u038e\u0003\u00cd"+
+    "a\u0000\u038d\u038c\u0001\u0000\u0000\u0000\u038e\u038f\u0001\u0000\u0000"+
+    "\u0000\u038f\u038d\u0001\u0000\u0000\u0000\u038f\u0390\u0001\u0000\u0000"+
+    "\u0000\u0390\u0392\u0001\u0000\u0000\u0000\u0391\u0380\u0001\u0000\u0000"+
+    "\u0000\u0391\u038a\u0001\u0000\u0000\u0000\u0392\u00d0\u0001\u0000\u0000"+
+    "\u0000\u0393\u0394\u0003\u00cfb\u0000\u0394\u0395\u0001\u0000\u0000\u0000"+
+    "\u0395\u0396\u0006c\u0012\u0000\u0396\u00d2\u0001\u0000\u0000\u0000\u0397"+
+    "\u0398\u0003\u00a7N\u0000\u0398\u0399\u0001\u0000\u0000\u0000\u0399\u039a"+
+    "\u0006d\u0010\u0000\u039a\u00d4\u0001\u0000\u0000\u0000\u039b\u039c\u0003"+
+    "1\u0013\u0000\u039c\u039d\u0001\u0000\u0000\u0000\u039d\u039e\u0006e\b"+
+    "\u0000\u039e\u00d6\u0001\u0000\u0000\u0000\u039f\u03a0\u00033\u0014\u0000"+
+    "\u03a0\u03a1\u0001\u0000\u0000\u0000\u03a1\u03a2\u0006f\b\u0000\u03a2"+
+    "\u00d8\u0001\u0000\u0000\u0000\u03a3\u03a4\u00035\u0015\u0000\u03a4\u03a5"+
+    "\u0001\u0000\u0000\u0000\u03a5\u03a6\u0006g\b\u0000\u03a6\u00da\u0001"+
+    "\u0000\u0000\u0000\u03a7\u03a8\u0003A\u001b\u0000\u03a8\u03a9\u0001\u0000"+
+    "\u0000\u0000\u03a9\u03aa\u0006h\u000b\u0000\u03aa\u03ab\u0006h\f\u0000"+
+    "\u03ab\u00dc\u0001\u0000\u0000\u0000\u03ac\u03ad\u0003c,\u0000\u03ad\u03ae"+
+    "\u0001\u0000\u0000\u0000\u03ae\u03af\u0006i\u000f\u0000\u03af\u00de\u0001"+
+    "\u0000\u0000\u0000\u03b0\u03b1\u0003e-\u0000\u03b1\u03b2\u0001\u0000\u0000"+
+    "\u0000\u03b2\u03b3\u0006j\u000e\u0000\u03b3\u00e0\u0001\u0000\u0000\u0000"+
+    "\u03b4\u03b5\u0003i/\u0000\u03b5\u03b6\u0001\u0000\u0000\u0000\u03b6\u03b7"+
+    "\u0006k\u0011\u0000\u03b7\u00e2\u0001\u0000\u0000\u0000\u03b8\u03b9\u0005"+
+    "a\u0000\u0000\u03b9\u03ba\u0005s\u0000\u0000\u03ba\u00e4\u0001\u0000\u0000"+
+    "\u0000\u03bb\u03bc\u0003\u00a7N\u0000\u03bc\u03bd\u0001\u0000\u0000\u0000"+
+    "\u03bd\u03be\u0006m\u0010\u0000\u03be\u00e6\u0001\u0000\u0000\u0000\u03bf"+
+    "\u03c0\u0003\u00cfb\u0000\u03c0\u03c1\u0001\u0000\u0000\u0000\u03c1\u03c2"+
+    "\u0006n\u0012\u0000\u03c2\u00e8\u0001\u0000\u0000\u0000\u03c3\u03c4\u0003"+
+    "1\u0013\u0000\u03c4\u03c5\u0001\u0000\u0000\u0000\u03c5\u03c6\u0006o\b"+
+    "\u0000\u03c6\u00ea\u0001\u0000\u0000\u0000\u03c7\u03c8\u00033\u0014\u0000"+
+    "\u03c8\u03c9\u0001\u0000\u0000\u0000\u03c9\u03ca\u0006p\b\u0000\u03ca"+
+    "\u00ec\u0001\u0000\u0000\u0000\u03cb\u03cc\u00035\u0015\u0000\u03cc\u03cd"+
+    "\u0001\u0000\u0000\u0000\u03cd\u03ce\u0006q\b\u0000\u03ce\u00ee\u0001"+
+    "\u0000\u0000\u0000\u03cf\u03d0\u0003A\u001b\u0000\u03d0\u03d1\u0001\u0000"+
+    "\u0000\u0000\u03d1\u03d2\u0006r\u000b\u0000\u03d2\u03d3\u0006r\f\u0000"+
+    "\u03d3\u00f0\u0001\u0000\u0000\u0000\u03d4\u03d5\u0003\u00a1K\u0000\u03d5"+
+    "\u03d6\u0001\u0000\u0000\u0000\u03d6\u03d7\u0006s\t\u0000\u03d7\u03d8"+
+    "\u0006s\u0013\u0000\u03d8\u00f2\u0001\u0000\u0000\u0000\u03d9\u03da\u0005"+
+    "o\u0000\u0000\u03da\u03db\u0005n\u0000\u0000\u03db\u03dc\u0001\u0000\u0000"+
+    "\u0000\u03dc\u03dd\u0006t\u0014\u0000\u03dd\u00f4\u0001\u0000\u0000\u0000"+
+    "\u03de\u03df\u0005w\u0000\u0000\u03df\u03e0\u0005i\u0000\u0000\u03e0\u03e1"+
+    "\u0005t\u0000\u0000\u03e1\u03e2\u0005h\u0000\u0000\u03e2\u03e3\u0001\u0000"+
+    "\u0000\u0000\u03e3\u03e4\u0006u\u0014\u0000\u03e4\u00f6\u0001\u0000\u0000"+
+    "\u0000\u03e5\u03e6\b\f\u0000\u0000\u03e6\u00f8\u0001\u0000\u0000\u0000"+
+    "\u03e7\u03ea\u0003E\u001d\u0000\u03e8\u03ea\u0003C\u001c\u0000\u03e9\u03e7"+
+    "\u0001\u0000\u0000\u0000\u03e9\u03e8\u0001\u0000\u0000\u0000\u03ea\u03ee"+
+    "\u0001\u0000\u0000\u0000\u03eb\u03ed\u0003\u00f7v\u0000\u03ec\u03eb\u0001"+
+    "\u0000\u0000\u0000\u03ed\u03f0\u0001\u0000\u0000\u0000\u03ee\u03ec\u0001"+
+    "\u0000\u0000\u0000\u03ee\u03ef\u0001\u0000\u0000\u0000\u03ef\u00fa\u0001"+
+    "\u0000\u0000\u0000\u03f0\u03ee\u0001\u0000\u0000\u0000\u03f1\u03f2\u0003"+
+    "\u00a7N\u0000\u03f2\u03f3\u0001\u0000\u0000\u0000\u03f3\u03f4\u0006x\u0010"+
+    "\u0000\u03f4\u00fc\u0001\u0000\u0000\u0000\u03f5\u03f6\u0003\u00f9w\u0000"+
+    "\u03f6\u03f7\u0001\u0000\u0000\u0000\u03f7\u03f8\u0006y\u0015\u0000\u03f8"+
+    "\u00fe\u0001\u0000\u0000\u0000\u03f9\u03fa\u00031\u0013\u0000\u03fa\u03fb"+
+    "\u0001\u0000\u0000\u0000\u03fb\u03fc\u0006z\b\u0000\u03fc\u0100\u0001"+
+    "\u0000\u0000\u0000\u03fd\u03fe\u00033\u0014\u0000\u03fe\u03ff\u0001\u0000"+
+    "\u0000\u0000\u03ff\u0400\u0006{\b\u0000\u0400\u0102\u0001\u0000\u0000"+
+    "\u0000\u0401\u0402\u00035\u0015\u0000\u0402\u0403\u0001\u0000\u0000\u0000"+
+    "\u0403\u0404\u0006|\b\u0000\u0404\u0104\u0001\u0000\u0000\u0000\u0405"+
+    "\u0406\u0003A\u001b\u0000\u0406\u0407\u0001\u0000\u0000\u0000\u0407\u0408"+
+    "\u0006}\u000b\u0000\u0408\u0409\u0006}\f\u0000\u0409\u040a\u0006}\f\u0000"+
+    "\u040a\u0106\u0001\u0000\u0000\u0000\u040b\u040c\u0003c,\u0000\u040c\u040d"+
+    "\u0001\u0000\u0000\u0000\u040d\u040e\u0006~\u000f\u0000\u040e\u0108\u0001"+
+    "\u0000\u0000\u0000\u040f\u0410\u0003e-\u0000\u0410\u0411\u0001\u0000\u0000"+
+    "\u0000\u0411\u0412\u0006\u007f\u000e\u0000\u0412\u010a\u0001\u0000\u0000"+
+    "\u0000\u0413\u0414\u0003i/\u0000\u0414\u0415\u0001\u0000\u0000\u0000\u0415"+
+    "\u0416\u0006\u0080\u0011\u0000\u0416\u010c\u0001\u0000\u0000\u0000\u0417"+
+    "\u0418\u0003\u00f5u\u0000\u0418\u0419\u0001\u0000\u0000\u0000\u0419\u041a"+
+    "\u0006\u0081\u0016\u0000\u041a\u010e\u0001\u0000\u0000\u0000\u041b\u041c"+
+    "\u0003\u00cfb\u0000\u041c\u041d\u0001\u0000\u0000\u0000\u041d\u041e\u0006"+
+    "\u0082\u0012\u0000\u041e\u0110\u0001\u0000\u0000\u0000\u041f\u0420\u0003"+
+    "\u00a7N\u0000\u0420\u0421\u0001\u0000\u0000\u0000\u0421\u0422\u0006\u0083"+
+    "\u0010\u0000\u0422\u0112\u0001\u0000\u0000\u0000\u0423\u0424\u00031\u0013"+
+    "\u0000\u0424\u0425\u0001\u0000\u0000\u0000\u0425\u0426\u0006\u0084\b\u0000"+
+    "\u0426\u0114\u0001\u0000\u0000\u0000\u0427\u0428\u00033\u0014\u0000\u0428"+
+    "\u0429\u0001\u0000\u0000\u0000\u0429\u042a\u0006\u0085\b\u0000\u042a\u0116"+
+    "\u0001\u0000\u0000\u0000\u042b\u042c\u00035\u0015\u0000\u042c\u042d\u0001"+
+    "\u0000\u0000\u0000\u042d\u042e\u0006\u0086\b\u0000\u042e\u0118\u0001\u0000"+
+    "\u0000\u0000\u042f\u0430\u0003A\u001b\u0000\u0430\u0431\u0001\u0000\u0000"+
+    "\u0000\u0431\u0432\u0006\u0087\u000b\u0000\u0432\u0433\u0006\u0087\f\u0000"+
+    "\u0433\u011a\u0001\u0000\u0000\u0000\u0434\u0435\u0003i/\u0000\u0435\u0436"+
+    "\u0001\u0000\u0000\u0000\u0436\u0437\u0006\u0088\u0011\u0000\u0437\u011c"+
+    "\u0001\u0000\u0000\u0000\u0438\u0439\u0003\u00a7N\u0000\u0439\u043a\u0001"+
+    "\u0000\u0000\u0000\u043a\u043b\u0006\u0089\u0010\u0000\u043b\u011e\u0001"+
+    "\u0000\u0000\u0000\u043c\u043d\u0003\u00a5M\u0000\u043d\u043e\u0001\u0000"+
+    "\u0000\u0000\u043e\u043f\u0006\u008a\u0017\u0000\u043f\u0120\u0001\u0000"+
+    "\u0000\u0000\u0440\u0441\u00031\u0013\u0000\u0441\u0442\u0001\u0000\u0000"+
+    "\u0000\u0442\u0443\u0006\u008b\b\u0000\u0443\u0122\u0001\u0000\u0000\u0000"+
+    "\u0444\u0445\u00033\u0014\u0000\u0445\u0446\u0001\u0000\u0000\u0000\u0446"+
+    "\u0447\u0006\u008c\b\u0000\u0447\u0124\u0001\u0000\u0000\u0000\u0448\u0449"+
+    "\u00035\u0015\u0000\u0449\u044a\u0001\u0000\u0000\u0000\u044a\u044b\u0006"+
+    "\u008d\b\u0000\u044b\u0126\u0001\u0000\u0000\u0000\u044c\u044d\u0003A"+
+    "\u001b\u0000\u044d\u044e\u0001\u0000\u0000\u0000\u044e\u044f\u0006\u008e"+
+    "\u000b\u0000\u044f\u0450\u0006\u008e\f\u0000\u0450\u0128\u0001\u0000\u0000"+
+    "\u0000\u0451\u0452\u0005i\u0000\u0000\u0452\u0453\u0005n\u0000\u0000\u0453"+
+    "\u0454\u0005f\u0000\u0000\u0454\u0455\u0005o\u0000\u0000\u0455\u012a\u0001"+
+    "\u0000\u0000\u0000\u0456\u0457\u0005f\u0000\u0000\u0457\u0458\u0005u\u0000"+
+    "\u0000\u0458\u0459\u0005n\u0000\u0000\u0459\u045a\u0005c\u0000\u0000\u045a"+
+    "\u045b\u0005t\u0000\u0000\u045b\u045c\u0005i\u0000\u0000\u045c\u045d\u0005"+
+    "o\u0000\u0000\u045d\u045e\u0005n\u0000\u0000\u045e\u045f\u0005s\u0000"+
+    "\u0000\u045f\u012c\u0001\u0000\u0000\u0000\u0460\u0461\u00031\u0013\u0000"+
+    "\u0461\u0462\u0001\u0000\u0000\u0000\u0462\u0463\u0006\u0091\b\u0000\u0463"+
+    "\u012e\u0001\u0000\u0000\u0000\u0464\u0465\u00033\u0014\u0000\u0465\u0466"+
+    "\u0001\u0000\u0000\u0000\u0466\u0467\u0006\u0092\b\u0000\u0467\u0130\u0001"+
+    "\u0000\u0000\u0000\u0468\u0469\u00035\u0015\u0000\u0469\u046a\u0001\u0000"+
+    "\u0000\u0000\u046a\u046b\u0006\u0093\b\u0000\u046b\u0132\u0001\u0000\u0000"+
+    "\u0000\u046c\u046d\u0003\u00a3L\u0000\u046d\u046e\u0001\u0000\u0000\u0000"+
+    "\u046e\u046f\u0006\u0094\r\u0000\u046f\u0470\u0006\u0094\f\u0000\u0470"+
+    "\u0134\u0001\u0000\u0000\u0000\u0471\u0472\u0005:\u0000\u0000\u0472\u0136"+
+    "\u0001\u0000\u0000\u0000\u0473\u0479\u0003M!\u0000\u0474\u0479\u0003C"+
+    "\u001c\u0000\u0475\u0479\u0003i/\u0000\u0476\u0479\u0003E\u001d\u0000"+
+    "\u0477\u0479\u0003S$\u0000\u0478\u0473\u0001\u0000\u0000\u0000\u0478\u0474"+
+    "\u0001\u0000\u0000\u0000\u0478\u0475\u0001\u0000\u0000\u0000\u0478\u0476"+
+    "\u0001\u0000\u0000\u0000\u0478\u0477\u0001\u0000\u0000\u0000\u0479\u047a"+
+    "\u0001\u0000\u0000\u0000\u047a\u0478\u0001\u0000\u0000\u0000\u047a\u047b"+
+    "\u0001\u0000\u0000\u0000\u047b\u0138\u0001\u0000\u0000\u0000\u047c\u047d"+
+    "\u00031\u0013\u0000\u047d\u047e\u0001\u0000\u0000\u0000\u047e\u047f\u0006"+
+    "\u0097\b\u0000\u047f\u013a\u0001\u0000\u0000\u0000\u0480\u0481\u00033"+
+    "\u0014\u0000\u0481\u0482\u0001\u0000\u0000\u0000\u0482\u0483\u0006\u0098"+
+    "\b\u0000\u0483\u013c\u0001\u0000\u0000\u0000\u0484\u0485\u00035\u0015"+
+    "\u0000\u0485\u0486\u0001\u0000\u0000\u0000\u0486\u0487\u0006\u0099\b\u0000"+
+    "\u0487\u013e\u0001\u0000\u0000\u00006\u0000\u0001\u0002\u0003\u0004\u0005"+
+    "\u0006\u0007\b\t\n\u01da\u01e4\u01e8\u01eb\u01f4\u01f6\u0201\u022a\u022f"+
+    "\u0238\u023f\u0244\u0246\u0251\u0259\u025c\u025e\u0263\u0268\u026e\u0275"+
+    "\u027a\u0280\u0283\u028b\u028f\u0311\u0316\u031b\u031d\u0323\u0354\u0359"+
+    "\u037c\u0380\u0385\u038a\u038f\u0391\u03e9\u03ee\u0478\u047a\u0018\u0005"+
+    "\u0002\u0000\u0005\u0004\u0000\u0005\u0006\u0000\u0005\u0001\u0000\u0005"+
+    "\u0003\u0000\u0005\b\u0000\u0005\u0005\u0000\u0005\t\u0000\u0000\u0001"+
+    "\u0000\u0007@\u0000\u0005\u0000\u0000\u0007\u001a\u0000\u0004\u0000\u0000"+
+    "\u0007A\u0000\u0007\"\u0000\u0007!\u0000\u0007C\u0000\u0007$\u0000\u0007"+
+    "L\u0000\u0005\n\u0000\u0005\u0007\u0000\u0007V\u0000\u0007U\u0000\u0007"+
+    "B\u0000";
   public static final ATN _ATN =
     new ATNDeserializer().deserialize(_serializedATN.toCharArray());
   static {
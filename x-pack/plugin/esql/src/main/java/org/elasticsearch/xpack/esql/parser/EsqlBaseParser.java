@@ -18,25 +18,25 @@ public class EsqlBaseParser extends Parser {
     new PredictionContextCache();
   public static final int
     DISSECT=1, DROP=2, ENRICH=3, EVAL=4, EXPLAIN=5, FROM=6, GROK=7, INLINESTATS=8, 
-    KEEP=9, LIMIT=10, MV_EXPAND=11, RENAME=12, ROW=13, SHOW=14, SORT=15, STATS=16, 
-    WHERE=17, UNKNOWN_CMD=18, LINE_COMMENT=19, MULTILINE_COMMENT=20, WS=21, 
-    EXPLAIN_WS=22, EXPLAIN_LINE_COMMENT=23, EXPLAIN_MULTILINE_COMMENT=24, 
-    PIPE=25, STRING=26, INTEGER_LITERAL=27, DECIMAL_LITERAL=28, BY=29, AND=30, 
-    ASC=31, ASSIGN=32, COMMA=33, DESC=34, DOT=35, FALSE=36, FIRST=37, LAST=38, 
-    LP=39, IN=40, IS=41, LIKE=42, NOT=43, NULL=44, NULLS=45, OR=46, PARAM=47, 
-    RLIKE=48, RP=49, TRUE=50, EQ=51, CIEQ=52, NEQ=53, LT=54, LTE=55, GT=56, 
-    GTE=57, PLUS=58, MINUS=59, ASTERISK=60, SLASH=61, PERCENT=62, OPENING_BRACKET=63, 
-    CLOSING_BRACKET=64, UNQUOTED_IDENTIFIER=65, QUOTED_IDENTIFIER=66, EXPR_LINE_COMMENT=67, 
-    EXPR_MULTILINE_COMMENT=68, EXPR_WS=69, METADATA=70, FROM_UNQUOTED_IDENTIFIER=71, 
-    FROM_LINE_COMMENT=72, FROM_MULTILINE_COMMENT=73, FROM_WS=74, UNQUOTED_ID_PATTERN=75, 
-    PROJECT_LINE_COMMENT=76, PROJECT_MULTILINE_COMMENT=77, PROJECT_WS=78, 
-    AS=79, RENAME_LINE_COMMENT=80, RENAME_MULTILINE_COMMENT=81, RENAME_WS=82, 
-    ON=83, WITH=84, ENRICH_POLICY_NAME=85, ENRICH_LINE_COMMENT=86, ENRICH_MULTILINE_COMMENT=87, 
-    ENRICH_WS=88, ENRICH_FIELD_LINE_COMMENT=89, ENRICH_FIELD_MULTILINE_COMMENT=90, 
-    ENRICH_FIELD_WS=91, MVEXPAND_LINE_COMMENT=92, MVEXPAND_MULTILINE_COMMENT=93, 
-    MVEXPAND_WS=94, INFO=95, FUNCTIONS=96, SHOW_LINE_COMMENT=97, SHOW_MULTILINE_COMMENT=98, 
-    SHOW_WS=99, COLON=100, SETTING=101, SETTING_LINE_COMMENT=102, SETTTING_MULTILINE_COMMENT=103, 
-    SETTING_WS=104;
+    KEEP=9, LIMIT=10, LOOKUP=11, MV_EXPAND=12, RENAME=13, ROW=14, SHOW=15, 
+    SORT=16, STATS=17, WHERE=18, UNKNOWN_CMD=19, LINE_COMMENT=20, MULTILINE_COMMENT=21, 
+    WS=22, EXPLAIN_WS=23, EXPLAIN_LINE_COMMENT=24, EXPLAIN_MULTILINE_COMMENT=25, 
+    PIPE=26, STRING=27, INTEGER_LITERAL=28, DECIMAL_LITERAL=29, BY=30, AND=31, 
+    ASC=32, ASSIGN=33, COMMA=34, DESC=35, DOT=36, FALSE=37, FIRST=38, LAST=39, 
+    LP=40, IN=41, IS=42, LIKE=43, NOT=44, NULL=45, NULLS=46, OR=47, PARAM=48, 
+    RLIKE=49, RP=50, TRUE=51, EQ=52, CIEQ=53, NEQ=54, LT=55, LTE=56, GT=57, 
+    GTE=58, PLUS=59, MINUS=60, ASTERISK=61, SLASH=62, PERCENT=63, OPENING_BRACKET=64, 
+    CLOSING_BRACKET=65, UNQUOTED_IDENTIFIER=66, QUOTED_IDENTIFIER=67, EXPR_LINE_COMMENT=68, 
+    EXPR_MULTILINE_COMMENT=69, EXPR_WS=70, METADATA=71, FROM_UNQUOTED_IDENTIFIER=72, 
+    FROM_LINE_COMMENT=73, FROM_MULTILINE_COMMENT=74, FROM_WS=75, UNQUOTED_ID_PATTERN=76, 
+    PROJECT_LINE_COMMENT=77, PROJECT_MULTILINE_COMMENT=78, PROJECT_WS=79, 
+    AS=80, RENAME_LINE_COMMENT=81, RENAME_MULTILINE_COMMENT=82, RENAME_WS=83, 
+    ON=84, WITH=85, ENRICH_POLICY_NAME=86, ENRICH_LINE_COMMENT=87, ENRICH_MULTILINE_COMMENT=88, 
+    ENRICH_WS=89, ENRICH_FIELD_LINE_COMMENT=90, ENRICH_FIELD_MULTILINE_COMMENT=91, 
+    ENRICH_FIELD_WS=92, MVEXPAND_LINE_COMMENT=93, MVEXPAND_MULTILINE_COMMENT=94, 
+    MVEXPAND_WS=95, INFO=96, FUNCTIONS=97, SHOW_LINE_COMMENT=98, SHOW_MULTILINE_COMMENT=99, 
+    SHOW_WS=100, COLON=101, SETTING=102, SETTING_LINE_COMMENT=103, SETTTING_MULTILINE_COMMENT=104, 
+    SETTING_WS=105;
   public static final int
     RULE_singleStatement = 0, RULE_query = 1, RULE_sourceCommand = 2, RULE_processingCommand = 3, 
     RULE_whereCommand = 4, RULE_booleanExpression = 5, RULE_regexBooleanExpression = 6, 
@@ -53,7 +53,7 @@ public class EsqlBaseParser extends Parser {
     RULE_numericValue = 38, RULE_decimalValue = 39, RULE_integerValue = 40, 
     RULE_string = 41, RULE_comparisonOperator = 42, RULE_explainCommand = 43, 
     RULE_subqueryExpression = 44, RULE_showCommand = 45, RULE_enrichCommand = 46, 
-    RULE_enrichWithClause = 47, RULE_setting = 48;
+    RULE_enrichWithClause = 47, RULE_lookupCommand = 48, RULE_setting = 49;
   private static String[] makeRuleNames() {
     return new String[] {
       "singleStatement", "query", "sourceCommand", "processingCommand", "whereCommand", 
@@ -66,7 +66,7 @@ public class EsqlBaseParser extends Parser {
       "grokCommand", "mvExpandCommand", "commandOptions", "commandOption", 
       "booleanValue", "numericValue", "decimalValue", "integerValue", "string", 
       "comparisonOperator", "explainCommand", "subqueryExpression", "showCommand", 
-      "enrichCommand", "enrichWithClause", "setting"
+      "enrichCommand", "enrichWithClause", "lookupCommand", "setting"
     };
   }
   public static final String[] ruleNames = makeRuleNames();
@@ -74,25 +74,25 @@ public class EsqlBaseParser extends Parser {
   private static String[] makeLiteralNames() {
     return new String[] {
       null, "'dissect'", "'drop'", "'enrich'", "'eval'", "'explain'", "'from'", 
-      "'grok'", "'inlinestats'", "'keep'", "'limit'", "'mv_expand'", "'rename'", 
-      "'row'", "'show'", "'sort'", "'stats'", "'where'", null, null, null, 
-      null, null, null, null, "'|'", null, null, null, "'by'", "'and'", "'asc'", 
-      "'='", "','", "'desc'", "'.'", "'false'", "'first'", "'last'", "'('", 
-      "'in'", "'is'", "'like'", "'not'", "'null'", "'nulls'", "'or'", "'?'", 
-      "'rlike'", "')'", "'true'", "'=='", "'=~'", "'!='", "'<'", "'<='", "'>'", 
-      "'>='", "'+'", "'-'", "'*'", "'/'", "'%'", null, "']'", null, null, null, 
-      null, null, "'metadata'", null, null, null, null, null, null, null, null, 
-      "'as'", null, null, null, "'on'", "'with'", null, null, null, null, null, 
-      null, null, null, null, null, "'info'", "'functions'", null, null, null, 
-      "':'"
+      "'grok'", "'inlinestats'", "'keep'", "'limit'", "'lookup'", "'mv_expand'", 
+      "'rename'", "'row'", "'show'", "'sort'", "'stats'", "'where'", null, 
+      null, null, null, null, null, null, "'|'", null, null, null, "'by'", 
+      "'and'", "'asc'", "'='", "','", "'desc'", "'.'", "'false'", "'first'", 
+      "'last'", "'('", "'in'", "'is'", "'like'", "'not'", "'null'", "'nulls'", 
+      "'or'", "'?'", "'rlike'", "')'", "'true'", "'=='", "'=~'", "'!='", "'<'", 
+      "'<='", "'>'", "'>='", "'+'", "'-'", "'*'", "'/'", "'%'", null, "']'", 
+      null, null, null, null, null, "'metadata'", null, null, null, null, null, 
+      null, null, null, "'as'", null, null, null, "'on'", "'with'", null, null, 
+      null, null, null, null, null, null, null, null, "'info'", "'functions'", 
+      null, null, null, "':'"
     };
   }
   private static final String[] _LITERAL_NAMES = makeLiteralNames();
   private static String[] makeSymbolicNames() {
     return new String[] {
       null, "DISSECT", "DROP", "ENRICH", "EVAL", "EXPLAIN", "FROM", "GROK", 
-      "INLINESTATS", "KEEP", "LIMIT", "MV_EXPAND", "RENAME", "ROW", "SHOW", 
-      "SORT", "STATS", "WHERE", "UNKNOWN_CMD", "LINE_COMMENT", "MULTILINE_COMMENT", 
+      "INLINESTATS", "KEEP", "LIMIT", "LOOKUP", "MV_EXPAND", "RENAME", "ROW", 
+      "SHOW", "SORT", "STATS", "WHERE", "UNKNOWN_CMD", "LINE_COMMENT", "MULTILINE_COMMENT", 
       "WS", "EXPLAIN_WS", "EXPLAIN_LINE_COMMENT", "EXPLAIN_MULTILINE_COMMENT", 
       "PIPE", "STRING", "INTEGER_LITERAL", "DECIMAL_LITERAL", "BY", "AND", 
       "ASC", "ASSIGN", "COMMA", "DESC", "DOT", "FALSE", "FIRST", "LAST", "LP", 
@@ -195,9 +195,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(98);
+      setState(100);
       query(0);
-      setState(99);
+      setState(101);
       match(EOF);
       }
     }
@@ -293,11 +293,11 @@ public class EsqlBaseParser extends Parser {
       _ctx = _localctx;
       _prevctx = _localctx;
 
-      setState(102);
+      setState(104);
       sourceCommand();
       }
       _ctx.stop = _input.LT(-1);
-      setState(109);
+      setState(111);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,0,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -308,16 +308,16 @@ public class EsqlBaseParser extends Parser {
           {
           _localctx = new CompositeQueryContext(new QueryContext(_parentctx, _parentState));
           pushNewRecursionContext(_localctx, _startState, RULE_query);
-          setState(104);
+          setState(106);
           if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-          setState(105);
+          setState(107);
           match(PIPE);
-          setState(106);
+          setState(108);
           processingCommand();
           }
           } 
         }
-        setState(111);
+        setState(113);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,0,_ctx);
       }
@@ -372,34 +372,34 @@ public class EsqlBaseParser extends Parser {
     SourceCommandContext _localctx = new SourceCommandContext(_ctx, getState());
     enterRule(_localctx, 4, RULE_sourceCommand);
     try {
-      setState(116);
+      setState(118);
       _errHandler.sync(this);
       switch (_input.LA(1)) {
       case EXPLAIN:
         enterOuterAlt(_localctx, 1);
         {
-        setState(112);
+        setState(114);
         explainCommand();
         }
         break;
       case FROM:
         enterOuterAlt(_localctx, 2);
         {
-        setState(113);
+        setState(115);
         fromCommand();
         }
         break;
       case ROW:
         enterOuterAlt(_localctx, 3);
         {
-        setState(114);
+        setState(116);
         rowCommand();
         }
         break;
       case SHOW:
         enterOuterAlt(_localctx, 4);
         {
-        setState(115);
+        setState(117);
         showCommand();
         }
         break;
@@ -459,6 +459,9 @@ public class EsqlBaseParser extends Parser {
     public MvExpandCommandContext mvExpandCommand() {
       return getRuleContext(MvExpandCommandContext.class,0);
     }
+    public LookupCommandContext lookupCommand() {
+      return getRuleContext(LookupCommandContext.class,0);
+    }
     @SuppressWarnings("this-escape")
     public ProcessingCommandContext(ParserRuleContext parent, int invokingState) {
       super(parent, invokingState);
@@ -483,100 +486,107 @@ public class EsqlBaseParser extends Parser {
     ProcessingCommandContext _localctx = new ProcessingCommandContext(_ctx, getState());
     enterRule(_localctx, 6, RULE_processingCommand);
     try {
-      setState(131);
+      setState(134);
       _errHandler.sync(this);
       switch (_input.LA(1)) {
       case EVAL:
         enterOuterAlt(_localctx, 1);
         {
-        setState(118);
+        setState(120);
         evalCommand();
         }
         break;
       case INLINESTATS:
         enterOuterAlt(_localctx, 2);
         {
-        setState(119);
+        setState(121);
         inlinestatsCommand();
         }
         break;
       case LIMIT:
         enterOuterAlt(_localctx, 3);
         {
-        setState(120);
+        setState(122);
         limitCommand();
         }
         break;
       case KEEP:
         enterOuterAlt(_localctx, 4);
         {
-        setState(121);
+        setState(123);
         keepCommand();
         }
         break;
       case SORT:
         enterOuterAlt(_localctx, 5);
         {
-        setState(122);
+        setState(124);
         sortCommand();
         }
         break;
       case STATS:
         enterOuterAlt(_localctx, 6);
         {
-        setState(123);
+        setState(125);
         statsCommand();
         }
         break;
       case WHERE:
         enterOuterAlt(_localctx, 7);
         {
-        setState(124);
+        setState(126);
         whereCommand();
         }
         break;
       case DROP:
         enterOuterAlt(_localctx, 8);
         {
-        setState(125);
+        setState(127);
         dropCommand();
         }
         break;
       case RENAME:
         enterOuterAlt(_localctx, 9);
         {
-        setState(126);
+        setState(128);
         renameCommand();
         }
         break;
       case DISSECT:
         enterOuterAlt(_localctx, 10);
         {
-        setState(127);
+        setState(129);
         dissectCommand();
         }
         break;
       case GROK:
         enterOuterAlt(_localctx, 11);
         {
-        setState(128);
+        setState(130);
         grokCommand();
         }
         break;
       case ENRICH:
         enterOuterAlt(_localctx, 12);
         {
-        setState(129);
+        setState(131);
         enrichCommand();
         }
         break;
       case MV_EXPAND:
         enterOuterAlt(_localctx, 13);
         {
-        setState(130);
+        setState(132);
         mvExpandCommand();
         }
         break;
+      case LOOKUP:
+        enterOuterAlt(_localctx, 14);
+        {
+        setState(133);
+        lookupCommand();
+        }
+        break;
       default:
         throw new NoViableAltException(this);
       }
@@ -624,9 +634,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(133);
+      setState(136);
       match(WHERE);
-      setState(134);
+      setState(137);
       booleanExpression(0);
       }
     }
@@ -821,7 +831,7 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(164);
+      setState(167);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
       case 1:
@@ -830,9 +840,9 @@ public class EsqlBaseParser extends Parser {
         _ctx = _localctx;
         _prevctx = _localctx;
 
-        setState(137);
+        setState(140);
         match(NOT);
-        setState(138);
+        setState(141);
         booleanExpression(7);
         }
         break;
@@ -841,7 +851,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new BooleanDefaultContext(_localctx);
         _ctx = _localctx;
         _prevctx = _localctx;
-        setState(139);
+        setState(142);
         valueExpression();
         }
         break;
@@ -850,7 +860,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new RegexExpressionContext(_localctx);
         _ctx = _localctx;
         _prevctx = _localctx;
-        setState(140);
+        setState(143);
         regexBooleanExpression();
         }
         break;
@@ -859,41 +869,41 @@ public class EsqlBaseParser extends Parser {
         _localctx = new LogicalInContext(_localctx);
         _ctx = _localctx;
         _prevctx = _localctx;
-        setState(141);
+        setState(144);
         valueExpression();
-        setState(143);
+        setState(146);
         _errHandler.sync(this);
         _la = _input.LA(1);
         if (_la==NOT) {
           {
-          setState(142);
+          setState(145);
           match(NOT);
           }
         }
 
-        setState(145);
+        setState(148);
         match(IN);
-        setState(146);
+        setState(149);
         match(LP);
-        setState(147);
+        setState(150);
         valueExpression();
-        setState(152);
+        setState(155);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la==COMMA) {
           {
           {
-          setState(148);
+          setState(151);
           match(COMMA);
-          setState(149);
+          setState(152);
           valueExpression();
           }
           }
-          setState(154);
+          setState(157);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(155);
+        setState(158);
         match(RP);
         }
         break;
@@ -902,27 +912,27 @@ public class EsqlBaseParser extends Parser {
         _localctx = new IsNullContext(_localctx);
         _ctx = _localctx;
         _prevctx = _localctx;
-        setState(157);
+        setState(160);
         valueExpression();
-        setState(158);
+        setState(161);
         match(IS);
-        setState(160);
+        setState(163);
         _errHandler.sync(this);
         _la = _input.LA(1);
         if (_la==NOT) {
           {
-          setState(159);
+          setState(162);
           match(NOT);
           }
         }
 
-        setState(162);
+        setState(165);
         match(NULL);
         }
         break;
       }
       _ctx.stop = _input.LT(-1);
-      setState(174);
+      setState(177);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,8,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -930,7 +940,7 @@ public class EsqlBaseParser extends Parser {
           if ( _parseListeners!=null ) triggerExitRuleEvent();
           _prevctx = _localctx;
           {
-          setState(172);
+          setState(175);
           _errHandler.sync(this);
           switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
           case 1:
@@ -938,11 +948,11 @@ public class EsqlBaseParser extends Parser {
             _localctx = new LogicalBinaryContext(new BooleanExpressionContext(_parentctx, _parentState));
             ((LogicalBinaryContext)_localctx).left = _prevctx;
             pushNewRecursionContext(_localctx, _startState, RULE_booleanExpression);
-            setState(166);
+            setState(169);
             if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-            setState(167);
+            setState(170);
             ((LogicalBinaryContext)_localctx).operator = match(AND);
-            setState(168);
+            setState(171);
             ((LogicalBinaryContext)_localctx).right = booleanExpression(5);
             }
             break;
@@ -951,18 +961,18 @@ public class EsqlBaseParser extends Parser {
             _localctx = new LogicalBinaryContext(new BooleanExpressionContext(_parentctx, _parentState));
             ((LogicalBinaryContext)_localctx).left = _prevctx;
             pushNewRecursionContext(_localctx, _startState, RULE_booleanExpression);
-            setState(169);
+            setState(172);
             if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-            setState(170);
+            setState(173);
             ((LogicalBinaryContext)_localctx).operator = match(OR);
-            setState(171);
+            setState(174);
             ((LogicalBinaryContext)_localctx).right = booleanExpression(4);
             }
             break;
           }
           } 
         }
-        setState(176);
+        setState(179);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,8,_ctx);
       }
@@ -1017,48 +1027,48 @@ public class EsqlBaseParser extends Parser {
     enterRule(_localctx, 12, RULE_regexBooleanExpression);
     int _la;
     try {
-      setState(191);
+      setState(194);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
       case 1:
         enterOuterAlt(_localctx, 1);
         {
-        setState(177);
+        setState(180);
         valueExpression();
-        setState(179);
+        setState(182);
         _errHandler.sync(this);
         _la = _input.LA(1);
         if (_la==NOT) {
           {
-          setState(178);
+          setState(181);
           match(NOT);
           }
         }
 
-        setState(181);
+        setState(184);
         ((RegexBooleanExpressionContext)_localctx).kind = match(LIKE);
-        setState(182);
+        setState(185);
         ((RegexBooleanExpressionContext)_localctx).pattern = string();
         }
         break;
       case 2:
         enterOuterAlt(_localctx, 2);
         {
-        setState(184);
+        setState(187);
         valueExpression();
-        setState(186);
+        setState(189);
         _errHandler.sync(this);
         _la = _input.LA(1);
         if (_la==NOT) {
           {
-          setState(185);
+          setState(188);
           match(NOT);
           }
         }
 
-        setState(188);
+        setState(191);
         ((RegexBooleanExpressionContext)_localctx).kind = match(RLIKE);
-        setState(189);
+        setState(192);
         ((RegexBooleanExpressionContext)_localctx).pattern = string();
         }
         break;
@@ -1144,14 +1154,14 @@ public class EsqlBaseParser extends Parser {
     ValueExpressionContext _localctx = new ValueExpressionContext(_ctx, getState());
     enterRule(_localctx, 14, RULE_valueExpression);
     try {
-      setState(198);
+      setState(201);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
       case 1:
         _localctx = new ValueExpressionDefaultContext(_localctx);
         enterOuterAlt(_localctx, 1);
         {
-        setState(193);
+        setState(196);
         operatorExpression(0);
         }
         break;
@@ -1159,11 +1169,11 @@ public class EsqlBaseParser extends Parser {
         _localctx = new ComparisonContext(_localctx);
         enterOuterAlt(_localctx, 2);
         {
-        setState(194);
+        setState(197);
         ((ComparisonContext)_localctx).left = operatorExpression(0);
-        setState(195);
+        setState(198);
         comparisonOperator();
-        setState(196);
+        setState(199);
         ((ComparisonContext)_localctx).right = operatorExpression(0);
         }
         break;
@@ -1288,7 +1298,7 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(204);
+      setState(207);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
       case 1:
@@ -1297,7 +1307,7 @@ public class EsqlBaseParser extends Parser {
         _ctx = _localctx;
         _prevctx = _localctx;
 
-        setState(201);
+        setState(204);
         primaryExpression();
         }
         break;
@@ -1306,7 +1316,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new ArithmeticUnaryContext(_localctx);
         _ctx = _localctx;
         _prevctx = _localctx;
-        setState(202);
+        setState(205);
         ((ArithmeticUnaryContext)_localctx).operator = _input.LT(1);
         _la = _input.LA(1);
         if ( !(_la==PLUS || _la==MINUS) ) {
@@ -1317,13 +1327,13 @@ public class EsqlBaseParser extends Parser {
           _errHandler.reportMatch(this);
           consume();
         }
-        setState(203);
+        setState(206);
         operatorExpression(3);
         }
         break;
       }
       _ctx.stop = _input.LT(-1);
-      setState(214);
+      setState(217);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,15,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1331,7 +1341,7 @@ public class EsqlBaseParser extends Parser {
           if ( _parseListeners!=null ) triggerExitRuleEvent();
           _prevctx = _localctx;
           {
-          setState(212);
+          setState(215);
           _errHandler.sync(this);
           switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
           case 1:
@@ -1339,12 +1349,12 @@ public class EsqlBaseParser extends Parser {
             _localctx = new ArithmeticBinaryContext(new OperatorExpressionContext(_parentctx, _parentState));
             ((ArithmeticBinaryContext)_localctx).left = _prevctx;
             pushNewRecursionContext(_localctx, _startState, RULE_operatorExpression);
-            setState(206);
+            setState(209);
             if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-            setState(207);
+            setState(210);
             ((ArithmeticBinaryContext)_localctx).operator = _input.LT(1);
             _la = _input.LA(1);
-            if ( !(((_la) & ~0x3f) == 0 && ((1L << _la) & 8070450532247928832L) != 0) ) {
+            if ( !(((_la) & ~0x3f) == 0 && ((1L << _la) & -2305843009213693952L) != 0) ) {
               ((ArithmeticBinaryContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
             }
             else {
@@ -1352,7 +1362,7 @@ public class EsqlBaseParser extends Parser {
               _errHandler.reportMatch(this);
               consume();
             }
-            setState(208);
+            setState(211);
             ((ArithmeticBinaryContext)_localctx).right = operatorExpression(3);
             }
             break;
@@ -1361,9 +1371,9 @@ public class EsqlBaseParser extends Parser {
             _localctx = new ArithmeticBinaryContext(new OperatorExpressionContext(_parentctx, _parentState));
             ((ArithmeticBinaryContext)_localctx).left = _prevctx;
             pushNewRecursionContext(_localctx, _startState, RULE_operatorExpression);
-            setState(209);
+            setState(212);
             if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-            setState(210);
+            setState(213);
             ((ArithmeticBinaryContext)_localctx).operator = _input.LT(1);
             _la = _input.LA(1);
             if ( !(_la==PLUS || _la==MINUS) ) {
@@ -1374,14 +1384,14 @@ public class EsqlBaseParser extends Parser {
               _errHandler.reportMatch(this);
               consume();
             }
-            setState(211);
+            setState(214);
             ((ArithmeticBinaryContext)_localctx).right = operatorExpression(2);
             }
             break;
           }
           } 
         }
-        setState(216);
+        setState(219);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,15,_ctx);
       }
@@ -1503,14 +1513,14 @@ public class EsqlBaseParser extends Parser {
     PrimaryExpressionContext _localctx = new PrimaryExpressionContext(_ctx, getState());
     enterRule(_localctx, 18, RULE_primaryExpression);
     try {
-      setState(224);
+      setState(227);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
       case 1:
         _localctx = new ConstantDefaultContext(_localctx);
         enterOuterAlt(_localctx, 1);
         {
-        setState(217);
+        setState(220);
         constant();
         }
         break;
@@ -1518,7 +1528,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new DereferenceContext(_localctx);
         enterOuterAlt(_localctx, 2);
         {
-        setState(218);
+        setState(221);
         qualifiedName();
         }
         break;
@@ -1526,7 +1536,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new FunctionContext(_localctx);
         enterOuterAlt(_localctx, 3);
         {
-        setState(219);
+        setState(222);
         functionExpression();
         }
         break;
@@ -1534,11 +1544,11 @@ public class EsqlBaseParser extends Parser {
         _localctx = new ParenthesizedExpressionContext(_localctx);
         enterOuterAlt(_localctx, 4);
         {
-        setState(220);
+        setState(223);
         match(LP);
-        setState(221);
+        setState(224);
         booleanExpression(0);
-        setState(222);
+        setState(225);
         match(RP);
         }
         break;
@@ -1600,16 +1610,16 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(226);
+      setState(229);
       identifier();
-      setState(227);
+      setState(230);
       match(LP);
-      setState(237);
+      setState(240);
       _errHandler.sync(this);
       switch (_input.LA(1)) {
       case ASTERISK:
         {
-        setState(228);
+        setState(231);
         match(ASTERISK);
         }
         break;
@@ -1629,21 +1639,21 @@ public class EsqlBaseParser extends Parser {
       case QUOTED_IDENTIFIER:
         {
         {
-        setState(229);
+        setState(232);
         booleanExpression(0);
-        setState(234);
+        setState(237);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la==COMMA) {
           {
           {
-          setState(230);
+          setState(233);
           match(COMMA);
-          setState(231);
+          setState(234);
           booleanExpression(0);
           }
           }
-          setState(236);
+          setState(239);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
@@ -1655,7 +1665,7 @@ public class EsqlBaseParser extends Parser {
       default:
         break;
       }
-      setState(239);
+      setState(242);
       match(RP);
       }
     }
@@ -1702,9 +1712,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(241);
+      setState(244);
       match(ROW);
-      setState(242);
+      setState(245);
       fields();
       }
     }
@@ -1758,23 +1768,23 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(244);
+      setState(247);
       field();
-      setState(249);
+      setState(252);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,19,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(245);
+          setState(248);
           match(COMMA);
-          setState(246);
+          setState(249);
           field();
           }
           } 
         }
-        setState(251);
+        setState(254);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,19,_ctx);
       }
@@ -1824,24 +1834,24 @@ public class EsqlBaseParser extends Parser {
     FieldContext _localctx = new FieldContext(_ctx, getState());
     enterRule(_localctx, 26, RULE_field);
     try {
-      setState(257);
+      setState(260);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
       case 1:
         enterOuterAlt(_localctx, 1);
         {
-        setState(252);
+        setState(255);
         booleanExpression(0);
         }
         break;
       case 2:
         enterOuterAlt(_localctx, 2);
         {
-        setState(253);
+        setState(256);
         qualifiedName();
-        setState(254);
+        setState(257);
         match(ASSIGN);
-        setState(255);
+        setState(258);
         booleanExpression(0);
         }
         break;
@@ -1901,34 +1911,34 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(259);
+      setState(262);
       match(FROM);
-      setState(260);
+      setState(263);
       fromIdentifier();
-      setState(265);
+      setState(268);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,21,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(261);
+          setState(264);
           match(COMMA);
-          setState(262);
+          setState(265);
           fromIdentifier();
           }
           } 
         }
-        setState(267);
+        setState(270);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,21,_ctx);
       }
-      setState(269);
+      setState(272);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
       case 1:
         {
-        setState(268);
+        setState(271);
         metadata();
         }
         break;
@@ -1988,29 +1998,29 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(271);
+      setState(274);
       match(OPENING_BRACKET);
-      setState(272);
+      setState(275);
       match(METADATA);
-      setState(273);
+      setState(276);
       fromIdentifier();
-      setState(278);
+      setState(281);
       _errHandler.sync(this);
       _la = _input.LA(1);
       while (_la==COMMA) {
         {
         {
-        setState(274);
+        setState(277);
         match(COMMA);
-        setState(275);
+        setState(278);
         fromIdentifier();
         }
         }
-        setState(280);
+        setState(283);
         _errHandler.sync(this);
         _la = _input.LA(1);
       }
-      setState(281);
+      setState(284);
       match(CLOSING_BRACKET);
       }
     }
@@ -2057,9 +2067,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(283);
+      setState(286);
       match(EVAL);
-      setState(284);
+      setState(287);
       fields();
       }
     }
@@ -2112,26 +2122,26 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(286);
+      setState(289);
       match(STATS);
-      setState(288);
+      setState(291);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
       case 1:
         {
-        setState(287);
+        setState(290);
         ((StatsCommandContext)_localctx).stats = fields();
         }
         break;
       }
-      setState(292);
+      setState(295);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
       case 1:
         {
-        setState(290);
+        setState(293);
         match(BY);
-        setState(291);
+        setState(294);
         ((StatsCommandContext)_localctx).grouping = fields();
         }
         break;
@@ -2187,18 +2197,18 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(294);
+      setState(297);
       match(INLINESTATS);
-      setState(295);
-      ((InlinestatsCommandContext)_localctx).stats = fields();
       setState(298);
+      ((InlinestatsCommandContext)_localctx).stats = fields();
+      setState(301);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
       case 1:
         {
-        setState(296);
+        setState(299);
         match(BY);
-        setState(297);
+        setState(300);
         ((InlinestatsCommandContext)_localctx).grouping = fields();
         }
         break;
@@ -2247,7 +2257,7 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(300);
+      setState(303);
       _la = _input.LA(1);
       if ( !(_la==QUOTED_IDENTIFIER || _la==FROM_UNQUOTED_IDENTIFIER) ) {
       _errHandler.recoverInline(this);
@@ -2309,23 +2319,23 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(302);
+      setState(305);
       identifier();
-      setState(307);
+      setState(310);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,27,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(303);
+          setState(306);
           match(DOT);
-          setState(304);
+          setState(307);
           identifier();
           }
           } 
         }
-        setState(309);
+        setState(312);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,27,_ctx);
       }
@@ -2381,23 +2391,23 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(310);
+      setState(313);
       identifierPattern();
-      setState(315);
+      setState(318);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,28,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(311);
+          setState(314);
           match(DOT);
-          setState(312);
+          setState(315);
           identifierPattern();
           }
           } 
         }
-        setState(317);
+        setState(320);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,28,_ctx);
       }
@@ -2445,7 +2455,7 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(318);
+      setState(321);
       _la = _input.LA(1);
       if ( !(_la==UNQUOTED_IDENTIFIER || _la==QUOTED_IDENTIFIER) ) {
       _errHandler.recoverInline(this);
@@ -2499,7 +2509,7 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(320);
+      setState(323);
       _la = _input.LA(1);
       if ( !(_la==QUOTED_IDENTIFIER || _la==UNQUOTED_ID_PATTERN) ) {
       _errHandler.recoverInline(this);
@@ -2776,14 +2786,14 @@ public class EsqlBaseParser extends Parser {
     enterRule(_localctx, 48, RULE_constant);
     int _la;
     try {
-      setState(364);
+      setState(367);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
       case 1:
         _localctx = new NullLiteralContext(_localctx);
         enterOuterAlt(_localctx, 1);
         {
-        setState(322);
+        setState(325);
         match(NULL);
         }
         break;
@@ -2791,9 +2801,9 @@ public class EsqlBaseParser extends Parser {
         _localctx = new QualifiedIntegerLiteralContext(_localctx);
         enterOuterAlt(_localctx, 2);
         {
-        setState(323);
+        setState(326);
         integerValue();
-        setState(324);
+        setState(327);
         match(UNQUOTED_IDENTIFIER);
         }
         break;
@@ -2801,7 +2811,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new DecimalLiteralContext(_localctx);
         enterOuterAlt(_localctx, 3);
         {
-        setState(326);
+        setState(329);
         decimalValue();
         }
         break;
@@ -2809,7 +2819,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new IntegerLiteralContext(_localctx);
         enterOuterAlt(_localctx, 4);
         {
-        setState(327);
+        setState(330);
         integerValue();
         }
         break;
@@ -2817,7 +2827,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new BooleanLiteralContext(_localctx);
         enterOuterAlt(_localctx, 5);
         {
-        setState(328);
+        setState(331);
         booleanValue();
         }
         break;
@@ -2825,7 +2835,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new InputParamContext(_localctx);
         enterOuterAlt(_localctx, 6);
         {
-        setState(329);
+        setState(332);
         match(PARAM);
         }
         break;
@@ -2833,7 +2843,7 @@ public class EsqlBaseParser extends Parser {
         _localctx = new StringLiteralContext(_localctx);
         enterOuterAlt(_localctx, 7);
         {
-        setState(330);
+        setState(333);
         string();
         }
         break;
@@ -2841,27 +2851,27 @@ public class EsqlBaseParser extends Parser {
         _localctx = new NumericArrayLiteralContext(_localctx);
         enterOuterAlt(_localctx, 8);
         {
-        setState(331);
+        setState(334);
         match(OPENING_BRACKET);
-        setState(332);
+        setState(335);
         numericValue();
-        setState(337);
+        setState(340);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la==COMMA) {
           {
           {
-          setState(333);
+          setState(336);
           match(COMMA);
-          setState(334);
+          setState(337);
           numericValue();
           }
           }
-          setState(339);
+          setState(342);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(340);
+        setState(343);
         match(CLOSING_BRACKET);
         }
         break;
@@ -2869,27 +2879,27 @@ public class EsqlBaseParser extends Parser {
         _localctx = new BooleanArrayLiteralContext(_localctx);
         enterOuterAlt(_localctx, 9);
         {
-        setState(342);
+        setState(345);
         match(OPENING_BRACKET);
-        setState(343);
+        setState(346);
         booleanValue();
-        setState(348);
+        setState(351);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la==COMMA) {
           {
           {
-          setState(344);
+          setState(347);
           match(COMMA);
-          setState(345);
+          setState(348);
           booleanValue();
           }
           }
-          setState(350);
+          setState(353);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(351);
+        setState(354);
         match(CLOSING_BRACKET);
         }
         break;
@@ -2897,27 +2907,27 @@ public class EsqlBaseParser extends Parser {
         _localctx = new StringArrayLiteralContext(_localctx);
         enterOuterAlt(_localctx, 10);
         {
-        setState(353);
+        setState(356);
         match(OPENING_BRACKET);
-        setState(354);
+        setState(357);
         string();
-        setState(359);
+        setState(362);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la==COMMA) {
           {
           {
-          setState(355);
+          setState(358);
           match(COMMA);
-          setState(356);
+          setState(359);
           string();
           }
           }
-          setState(361);
+          setState(364);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(362);
+        setState(365);
         match(CLOSING_BRACKET);
         }
         break;
@@ -2964,9 +2974,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(366);
+      setState(369);
       match(LIMIT);
-      setState(367);
+      setState(370);
       match(INTEGER_LITERAL);
       }
     }
@@ -3021,25 +3031,25 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(369);
+      setState(372);
       match(SORT);
-      setState(370);
+      setState(373);
       orderExpression();
-      setState(375);
+      setState(378);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,33,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(371);
+          setState(374);
           match(COMMA);
-          setState(372);
+          setState(375);
           orderExpression();
           }
           } 
         }
-        setState(377);
+        setState(380);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,33,_ctx);
       }
@@ -3095,14 +3105,14 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(378);
+      setState(381);
       booleanExpression(0);
-      setState(380);
+      setState(383);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
       case 1:
         {
-        setState(379);
+        setState(382);
         ((OrderExpressionContext)_localctx).ordering = _input.LT(1);
         _la = _input.LA(1);
         if ( !(_la==ASC || _la==DESC) ) {
@@ -3116,14 +3126,14 @@ public class EsqlBaseParser extends Parser {
         }
         break;
       }
-      setState(384);
+      setState(387);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
       case 1:
         {
-        setState(382);
+        setState(385);
         match(NULLS);
-        setState(383);
+        setState(386);
         ((OrderExpressionContext)_localctx).nullOrdering = _input.LT(1);
         _la = _input.LA(1);
         if ( !(_la==FIRST || _la==LAST) ) {
@@ -3190,25 +3200,25 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(386);
+      setState(389);
       match(KEEP);
-      setState(387);
+      setState(390);
       qualifiedNamePattern();
-      setState(392);
+      setState(395);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,36,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(388);
+          setState(391);
           match(COMMA);
-          setState(389);
+          setState(392);
           qualifiedNamePattern();
           }
           } 
         }
-        setState(394);
+        setState(397);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,36,_ctx);
       }
@@ -3265,25 +3275,25 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(395);
+      setState(398);
       match(DROP);
-      setState(396);
+      setState(399);
       qualifiedNamePattern();
-      setState(401);
+      setState(404);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,37,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(397);
+          setState(400);
           match(COMMA);
-          setState(398);
+          setState(401);
           qualifiedNamePattern();
           }
           } 
         }
-        setState(403);
+        setState(406);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,37,_ctx);
       }
@@ -3340,25 +3350,25 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(404);
+      setState(407);
       match(RENAME);
-      setState(405);
+      setState(408);
       renameClause();
-      setState(410);
+      setState(413);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,38,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(406);
+          setState(409);
           match(COMMA);
-          setState(407);
+          setState(410);
           renameClause();
           }
           } 
         }
-        setState(412);
+        setState(415);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,38,_ctx);
       }
@@ -3412,11 +3422,11 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(413);
+      setState(416);
       ((RenameClauseContext)_localctx).oldName = qualifiedNamePattern();
-      setState(414);
+      setState(417);
       match(AS);
-      setState(415);
+      setState(418);
       ((RenameClauseContext)_localctx).newName = qualifiedNamePattern();
       }
     }
@@ -3469,18 +3479,18 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(417);
+      setState(420);
       match(DISSECT);
-      setState(418);
+      setState(421);
       primaryExpression();
-      setState(419);
+      setState(422);
       string();
-      setState(421);
+      setState(424);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
       case 1:
         {
-        setState(420);
+        setState(423);
         commandOptions();
         }
         break;
@@ -3533,11 +3543,11 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(423);
+      setState(426);
       match(GROK);
-      setState(424);
+      setState(427);
       primaryExpression();
-      setState(425);
+      setState(428);
       string();
       }
     }
@@ -3584,9 +3594,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(427);
+      setState(430);
       match(MV_EXPAND);
-      setState(428);
+      setState(431);
       qualifiedName();
       }
     }
@@ -3640,23 +3650,23 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(430);
+      setState(433);
       commandOption();
-      setState(435);
+      setState(438);
       _errHandler.sync(this);
       _alt = getInterpreter().adaptivePredict(_input,40,_ctx);
       while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
         if ( _alt==1 ) {
           {
           {
-          setState(431);
+          setState(434);
           match(COMMA);
-          setState(432);
+          setState(435);
           commandOption();
           }
           } 
         }
-        setState(437);
+        setState(440);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,40,_ctx);
       }
@@ -3708,11 +3718,11 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(438);
+      setState(441);
       identifier();
-      setState(439);
+      setState(442);
       match(ASSIGN);
-      setState(440);
+      setState(443);
       constant();
       }
     }
@@ -3758,7 +3768,7 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(442);
+      setState(445);
       _la = _input.LA(1);
       if ( !(_la==FALSE || _la==TRUE) ) {
       _errHandler.recoverInline(this);
@@ -3813,20 +3823,20 @@ public class EsqlBaseParser extends Parser {
     NumericValueContext _localctx = new NumericValueContext(_ctx, getState());
     enterRule(_localctx, 76, RULE_numericValue);
     try {
-      setState(446);
+      setState(449);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
       case 1:
         enterOuterAlt(_localctx, 1);
         {
-        setState(444);
+        setState(447);
         decimalValue();
         }
         break;
       case 2:
         enterOuterAlt(_localctx, 2);
         {
-        setState(445);
+        setState(448);
         integerValue();
         }
         break;
@@ -3875,12 +3885,12 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(449);
+      setState(452);
       _errHandler.sync(this);
       _la = _input.LA(1);
       if (_la==PLUS || _la==MINUS) {
         {
-        setState(448);
+        setState(451);
         _la = _input.LA(1);
         if ( !(_la==PLUS || _la==MINUS) ) {
         _errHandler.recoverInline(this);
@@ -3893,7 +3903,7 @@ public class EsqlBaseParser extends Parser {
         }
       }
 
-      setState(451);
+      setState(454);
       match(DECIMAL_LITERAL);
       }
     }
@@ -3940,12 +3950,12 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(454);
+      setState(457);
       _errHandler.sync(this);
       _la = _input.LA(1);
       if (_la==PLUS || _la==MINUS) {
         {
-        setState(453);
+        setState(456);
         _la = _input.LA(1);
         if ( !(_la==PLUS || _la==MINUS) ) {
         _errHandler.recoverInline(this);
@@ -3958,7 +3968,7 @@ public class EsqlBaseParser extends Parser {
         }
       }
 
-      setState(456);
+      setState(459);
       match(INTEGER_LITERAL);
       }
     }
@@ -4002,7 +4012,7 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(458);
+      setState(461);
       match(STRING);
       }
     }
@@ -4053,9 +4063,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(460);
+      setState(463);
       _la = _input.LA(1);
-      if ( !(((_la) & ~0x3f) == 0 && ((1L << _la) & 285978576338026496L) != 0) ) {
+      if ( !(((_la) & ~0x3f) == 0 && ((1L << _la) & 571957152676052992L) != 0) ) {
       _errHandler.recoverInline(this);
       }
       else {
@@ -4108,9 +4118,9 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(462);
+      setState(465);
       match(EXPLAIN);
-      setState(463);
+      setState(466);
       subqueryExpression();
       }
     }
@@ -4158,11 +4168,11 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(465);
+      setState(468);
       match(OPENING_BRACKET);
-      setState(466);
+      setState(469);
       query(0);
-      setState(467);
+      setState(470);
       match(CLOSING_BRACKET);
       }
     }
@@ -4236,16 +4246,16 @@ public class EsqlBaseParser extends Parser {
     ShowCommandContext _localctx = new ShowCommandContext(_ctx, getState());
     enterRule(_localctx, 90, RULE_showCommand);
     try {
-      setState(473);
+      setState(476);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
       case 1:
         _localctx = new ShowInfoContext(_localctx);
         enterOuterAlt(_localctx, 1);
         {
-        setState(469);
+        setState(472);
         match(SHOW);
-        setState(470);
+        setState(473);
         match(INFO);
         }
         break;
@@ -4253,9 +4263,9 @@ public class EsqlBaseParser extends Parser {
         _localctx = new ShowFunctionsContext(_localctx);
         enterOuterAlt(_localctx, 2);
         {
-        setState(471);
+        setState(474);
         match(SHOW);
-        setState(472);
+        setState(475);
         match(FUNCTIONS);
         }
         break;
@@ -4327,60 +4337,60 @@ public class EsqlBaseParser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-      setState(475);
+      setState(478);
       match(ENRICH);
-      setState(479);
+      setState(482);
       _errHandler.sync(this);
       _la = _input.LA(1);
       while (_la==OPENING_BRACKET) {
         {
         {
-        setState(476);
+        setState(479);
         setting();
         }
         }
-        setState(481);
+        setState(484);
         _errHandler.sync(this);
         _la = _input.LA(1);
       }
-      setState(482);
-      ((EnrichCommandContext)_localctx).policyName = match(ENRICH_POLICY_NAME);
       setState(485);
+      ((EnrichCommandContext)_localctx).policyName = match(ENRICH_POLICY_NAME);
+      setState(488);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
       case 1:
         {
-        setState(483);
+        setState(486);
         match(ON);
-        setState(484);
+        setState(487);
         ((EnrichCommandContext)_localctx).matchField = qualifiedNamePattern();
         }
         break;
       }
-      setState(496);
+      setState(499);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
       case 1:
         {
-        setState(487);
+        setState(490);
         match(WITH);
-        setState(488);
+        setState(491);
         enrichWithClause();
-        setState(493);
+        setState(496);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input,47,_ctx);
         while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
           if ( _alt==1 ) {
             {
             {
-            setState(489);
+            setState(492);
             match(COMMA);
-            setState(490);
+            setState(493);
             enrichWithClause();
             }
             } 
           }
-          setState(495);
+          setState(498);
           _errHandler.sync(this);
           _alt = getInterpreter().adaptivePredict(_input,47,_ctx);
         }
@@ -4437,19 +4447,19 @@ public class EsqlBaseParser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(501);
+      setState(504);
       _errHandler.sync(this);
       switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
       case 1:
         {
-        setState(498);
+        setState(501);
         ((EnrichWithClauseContext)_localctx).newName = qualifiedNamePattern();
-        setState(499);
+        setState(502);
         match(ASSIGN);
         }
         break;
       }
-      setState(503);
+      setState(506);
       ((EnrichWithClauseContext)_localctx).enrichField = qualifiedNamePattern();
       }
     }
@@ -4464,6 +4474,63 @@ public class EsqlBaseParser extends Parser {
     return _localctx;
   }
 
+  @SuppressWarnings("CheckReturnValue")
+  public static class LookupCommandContext extends ParserRuleContext {
+    public Token tableName;
+    public QualifiedNamePatternContext matchField;
+    public TerminalNode LOOKUP() { return getToken(EsqlBaseParser.LOOKUP, 0); }
+    public TerminalNode ON() { return getToken(EsqlBaseParser.ON, 0); }
+    public TerminalNode ENRICH_POLICY_NAME() { return getToken(EsqlBaseParser.ENRICH_POLICY_NAME, 0); }
+    public QualifiedNamePatternContext qualifiedNamePattern() {
+      return getRuleContext(QualifiedNamePatternContext.class,0);
+    }
+    @SuppressWarnings("this-escape")
+    public LookupCommandContext(ParserRuleContext parent, int invokingState) {
+      super(parent, invokingState);
+    }
+    @Override public int getRuleIndex() { return RULE_lookupCommand; }
+    @Override
+    public void enterRule(ParseTreeListener listener) {
+      if ( listener instanceof EsqlBaseParserListener ) ((EsqlBaseParserListener)listener).enterLookupCommand(this);
+    }
+    @Override
+    public void exitRule(ParseTreeListener listener) {
+      if ( listener instanceof EsqlBaseParserListener ) ((EsqlBaseParserListener)listener).exitLookupCommand(this);
+    }
+    @Override
+    public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+      if ( visitor instanceof EsqlBaseParserVisitor ) return ((EsqlBaseParserVisitor<? extends T>)visitor).visitLookupCommand(this);
+      else return visitor.visitChildren(this);
+    }
+  }
+
+  public final LookupCommandContext lookupCommand() throws RecognitionException {
+    LookupCommandContext _localctx = new LookupCommandContext(_ctx, getState());
+    enterRule(_localctx, 96, RULE_lookupCommand);
+    try {
+      enterOuterAlt(_localctx, 1);
+      {
+      setState(508);
+      match(LOOKUP);
+      setState(509);
+      ((LookupCommandContext)_localctx).tableName = match(ENRICH_POLICY_NAME);
+      setState(510);
+      match(ON);
+      setState(511);
+      ((LookupCommandContext)_localctx).matchField = qualifiedNamePattern();
+      }
+    }
+    catch (RecognitionException re) {
+      _localctx.exception = re;
+      _errHandler.reportError(this, re);
+      _errHandler.recover(this, re);
+    }
+    finally {
+      exitRule();
+    }
+    return _localctx;
+  }
+
   @SuppressWarnings("CheckReturnValue")
   public static class SettingContext extends ParserRuleContext {
     public Token name;
@@ -4497,19 +4564,19 @@ public class EsqlBaseParser extends Parser {
 
   public final SettingContext setting() throws RecognitionException {
     SettingContext _localctx = new SettingContext(_ctx, getState());
-    enterRule(_localctx, 96, RULE_setting);
+    enterRule(_localctx, 98, RULE_setting);
     try {
       enterOuterAlt(_localctx, 1);
       {
-      setState(505);
+      setState(513);
       match(OPENING_BRACKET);
-      setState(506);
+      setState(514);
       ((SettingContext)_localctx).name = match(SETTING);
-      setState(507);
+      setState(515);
       match(COLON);
-      setState(508);
+      setState(516);
       ((SettingContext)_localctx).value = match(SETTING);
-      setState(509);
+      setState(517);
       match(CLOSING_BRACKET);
       }
     }
@@ -4562,7 +4629,7 @@ public class EsqlBaseParser extends Parser {
   }
 
   public static final String _serializedATN =
-    "\u0004\u0001h\u0200\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+    "\u0004\u0001i\u0208\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
     "\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
     "\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
     "\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -4575,321 +4642,325 @@ public class EsqlBaseParser extends Parser {
     "\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
     "#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002"+
     "(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007+\u0002,\u0007,\u0002"+
-    "-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u00070\u0001\u0000\u0001\u0000"+
-    "\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
-    "\u0001\u0001\u0005\u0001l\b\u0001\n\u0001\f\u0001o\t\u0001\u0001\u0002"+
-    "\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002u\b\u0002\u0001\u0003"+
-    "\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
-    "\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
-    "\u0003\u0003\u0084\b\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0005"+
-    "\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-    "\u0003\u0005\u0090\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-    "\u0001\u0005\u0005\u0005\u0097\b\u0005\n\u0005\f\u0005\u009a\t\u0005\u0001"+
-    "\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u0005\u00a1"+
-    "\b\u0005\u0001\u0005\u0001\u0005\u0003\u0005\u00a5\b\u0005\u0001\u0005"+
-    "\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0005\u0005"+
-    "\u00ad\b\u0005\n\u0005\f\u0005\u00b0\t\u0005\u0001\u0006\u0001\u0006\u0003"+
-    "\u0006\u00b4\b\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-    "\u0006\u0003\u0006\u00bb\b\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003"+
-    "\u0006\u00c0\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-    "\u0007\u0003\u0007\u00c7\b\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0003"+
-    "\b\u00cd\b\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00d5"+
-    "\b\b\n\b\f\b\u00d8\t\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t"+
-    "\u0001\t\u0003\t\u00e1\b\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
-    "\n\u0005\n\u00e9\b\n\n\n\f\n\u00ec\t\n\u0003\n\u00ee\b\n\u0001\n\u0001"+
-    "\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0005\f"+
-    "\u00f8\b\f\n\f\f\f\u00fb\t\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003"+
-    "\r\u0102\b\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0005\u000e"+
-    "\u0108\b\u000e\n\u000e\f\u000e\u010b\t\u000e\u0001\u000e\u0003\u000e\u010e"+
-    "\b\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0005"+
-    "\u000f\u0115\b\u000f\n\u000f\f\u000f\u0118\t\u000f\u0001\u000f\u0001\u000f"+
-    "\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0003\u0011"+
-    "\u0121\b\u0011\u0001\u0011\u0001\u0011\u0003\u0011\u0125\b\u0011\u0001"+
-    "\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u012b\b\u0012\u0001"+
-    "\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0005\u0014\u0132"+
-    "\b\u0014\n\u0014\f\u0014\u0135\t\u0014\u0001\u0015\u0001\u0015\u0001\u0015"+
-    "\u0005\u0015\u013a\b\u0015\n\u0015\f\u0015\u013d\t\u0015\u0001\u0016\u0001"+
-    "\u0016\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
+    "-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u00070\u00021\u00071\u0001"+
+    "\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+    "\u0001\u0001\u0001\u0001\u0001\u0005\u0001n\b\u0001\n\u0001\f\u0001q\t"+
+    "\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002w\b"+
+    "\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+    "\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+    "\u0003\u0001\u0003\u0001\u0003\u0003\u0003\u0087\b\u0003\u0001\u0004\u0001"+
+    "\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+    "\u0005\u0001\u0005\u0001\u0005\u0003\u0005\u0093\b\u0005\u0001\u0005\u0001"+
+    "\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0005\u0005\u009a\b\u0005\n"+
+    "\u0005\f\u0005\u009d\t\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+    "\u0005\u0001\u0005\u0003\u0005\u00a4\b\u0005\u0001\u0005\u0001\u0005\u0003"+
+    "\u0005\u00a8\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+    "\u0005\u0001\u0005\u0005\u0005\u00b0\b\u0005\n\u0005\f\u0005\u00b3\t\u0005"+
+    "\u0001\u0006\u0001\u0006\u0003\u0006\u00b7\b\u0006\u0001\u0006\u0001\u0006"+
+    "\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u00be\b\u0006\u0001\u0006"+
+    "\u0001\u0006\u0001\u0006\u0003\u0006\u00c3\b\u0006\u0001\u0007\u0001\u0007"+
+    "\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00ca\b\u0007\u0001\b"+
+    "\u0001\b\u0001\b\u0001\b\u0003\b\u00d0\b\b\u0001\b\u0001\b\u0001\b\u0001"+
+    "\b\u0001\b\u0001\b\u0005\b\u00d8\b\b\n\b\f\b\u00db\t\b\u0001\t\u0001\t"+
+    "\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0003\t\u00e4\b\t\u0001\n\u0001"+
+    "\n\u0001\n\u0001\n\u0001\n\u0001\n\u0005\n\u00ec\b\n\n\n\f\n\u00ef\t\n"+
+    "\u0003\n\u00f1\b\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b"+
+    "\u0001\f\u0001\f\u0001\f\u0005\f\u00fb\b\f\n\f\f\f\u00fe\t\f\u0001\r\u0001"+
+    "\r\u0001\r\u0001\r\u0001\r\u0003\r\u0105\b\r\u0001\u000e\u0001\u000e\u0001"+
+    "\u000e\u0001\u000e\u0005\u000e\u010b\b\u000e\n\u000e\f\u000e\u010e\t\u000e"+
+    "\u0001\u000e\u0003\u000e\u0111\b\u000e\u0001\u000f\u0001\u000f\u0001\u000f"+
+    "\u0001\u000f\u0001\u000f\u0005\u000f\u0118\b\u000f\n\u000f\f\u000f\u011b"+
+    "\t\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
+    "\u0011\u0001\u0011\u0003\u0011\u0124\b\u0011\u0001\u0011\u0001\u0011\u0003"+
+    "\u0011\u0128\b\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003"+
+    "\u0012\u012e\b\u0012\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001"+
+    "\u0014\u0005\u0014\u0135\b\u0014\n\u0014\f\u0014\u0138\t\u0014\u0001\u0015"+
+    "\u0001\u0015\u0001\u0015\u0005\u0015\u013d\b\u0015\n\u0015\f\u0015\u0140"+
+    "\t\u0015\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0018\u0001"+
     "\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
-    "\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0005\u0018\u0150\b\u0018\n"+
-    "\u0018\f\u0018\u0153\t\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
-    "\u0018\u0001\u0018\u0001\u0018\u0005\u0018\u015b\b\u0018\n\u0018\f\u0018"+
-    "\u015e\t\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018"+
-    "\u0001\u0018\u0005\u0018\u0166\b\u0018\n\u0018\f\u0018\u0169\t\u0018\u0001"+
-    "\u0018\u0001\u0018\u0003\u0018\u016d\b\u0018\u0001\u0019\u0001\u0019\u0001"+
-    "\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005\u001a\u0176"+
-    "\b\u001a\n\u001a\f\u001a\u0179\t\u001a\u0001\u001b\u0001\u001b\u0003\u001b"+
-    "\u017d\b\u001b\u0001\u001b\u0001\u001b\u0003\u001b\u0181\b\u001b\u0001"+
-    "\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0005\u001c\u0187\b\u001c\n"+
-    "\u001c\f\u001c\u018a\t\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
-    "\u001d\u0005\u001d\u0190\b\u001d\n\u001d\f\u001d\u0193\t\u001d\u0001\u001e"+
-    "\u0001\u001e\u0001\u001e\u0001\u001e\u0005\u001e\u0199\b\u001e\n\u001e"+
-    "\f\u001e\u019c\t\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f"+
-    "\u0001 \u0001 \u0001 \u0001 \u0003 \u01a6\b \u0001!\u0001!\u0001!\u0001"+
-    "!\u0001\"\u0001\"\u0001\"\u0001#\u0001#\u0001#\u0005#\u01b2\b#\n#\f#\u01b5"+
-    "\t#\u0001$\u0001$\u0001$\u0001$\u0001%\u0001%\u0001&\u0001&\u0003&\u01bf"+
-    "\b&\u0001\'\u0003\'\u01c2\b\'\u0001\'\u0001\'\u0001(\u0003(\u01c7\b(\u0001"+
-    "(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001+\u0001+\u0001+\u0001,\u0001"+
-    ",\u0001,\u0001,\u0001-\u0001-\u0001-\u0001-\u0003-\u01da\b-\u0001.\u0001"+
-    ".\u0005.\u01de\b.\n.\f.\u01e1\t.\u0001.\u0001.\u0001.\u0003.\u01e6\b."+
-    "\u0001.\u0001.\u0001.\u0001.\u0005.\u01ec\b.\n.\f.\u01ef\t.\u0003.\u01f1"+
-    "\b.\u0001/\u0001/\u0001/\u0003/\u01f6\b/\u0001/\u0001/\u00010\u00010\u0001"+
-    "0\u00010\u00010\u00010\u00010\u0000\u0003\u0002\n\u00101\u0000\u0002\u0004"+
-    "\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \""+
-    "$&(*,.02468:<>@BDFHJLNPRTVXZ\\^`\u0000\t\u0001\u0000:;\u0001\u0000<>\u0002"+
-    "\u0000BBGG\u0001\u0000AB\u0002\u0000BBKK\u0002\u0000\u001f\u001f\"\"\u0001"+
-    "\u0000%&\u0002\u0000$$22\u0001\u000039\u021b\u0000b\u0001\u0000\u0000"+
-    "\u0000\u0002e\u0001\u0000\u0000\u0000\u0004t\u0001\u0000\u0000\u0000\u0006"+
-    "\u0083\u0001\u0000\u0000\u0000\b\u0085\u0001\u0000\u0000\u0000\n\u00a4"+
-    "\u0001\u0000\u0000\u0000\f\u00bf\u0001\u0000\u0000\u0000\u000e\u00c6\u0001"+
-    "\u0000\u0000\u0000\u0010\u00cc\u0001\u0000\u0000\u0000\u0012\u00e0\u0001"+
-    "\u0000\u0000\u0000\u0014\u00e2\u0001\u0000\u0000\u0000\u0016\u00f1\u0001"+
-    "\u0000\u0000\u0000\u0018\u00f4\u0001\u0000\u0000\u0000\u001a\u0101\u0001"+
-    "\u0000\u0000\u0000\u001c\u0103\u0001\u0000\u0000\u0000\u001e\u010f\u0001"+
-    "\u0000\u0000\u0000 \u011b\u0001\u0000\u0000\u0000\"\u011e\u0001\u0000"+
-    "\u0000\u0000$\u0126\u0001\u0000\u0000\u0000&\u012c\u0001\u0000\u0000\u0000"+
-    "(\u012e\u0001\u0000\u0000\u0000*\u0136\u0001\u0000\u0000\u0000,\u013e"+
-    "\u0001\u0000\u0000\u0000.\u0140\u0001\u0000\u0000\u00000\u016c\u0001\u0000"+
-    "\u0000\u00002\u016e\u0001\u0000\u0000\u00004\u0171\u0001\u0000\u0000\u0000"+
-    "6\u017a\u0001\u0000\u0000\u00008\u0182\u0001\u0000\u0000\u0000:\u018b"+
-    "\u0001\u0000\u0000\u0000<\u0194\u0001\u0000\u0000\u0000>\u019d\u0001\u0000"+
-    "\u0000\u0000@\u01a1\u0001\u0000\u0000\u0000B\u01a7\u0001\u0000\u0000\u0000"+
-    "D\u01ab\u0001\u0000\u0000\u0000F\u01ae\u0001\u0000\u0000\u0000H\u01b6"+
-    "\u0001\u0000\u0000\u0000J\u01ba\u0001\u0000\u0000\u0000L\u01be\u0001\u0000"+
-    "\u0000\u0000N\u01c1\u0001\u0000\u0000\u0000P\u01c6\u0001\u0000\u0000\u0000"+
-    "R\u01ca\u0001\u0000\u0000\u0000T\u01cc\u0001\u0000\u0000\u0000V\u01ce"+
-    "\u0001\u0000\u0000\u0000X\u01d1\u0001\u0000\u0000\u0000Z\u01d9\u0001\u0000"+
-    "\u0000\u0000\\\u01db\u0001\u0000\u0000\u0000^\u01f5\u0001\u0000\u0000"+
-    "\u0000`\u01f9\u0001\u0000\u0000\u0000bc\u0003\u0002\u0001\u0000cd\u0005"+
-    "\u0000\u0000\u0001d\u0001\u0001\u0000\u0000\u0000ef\u0006\u0001\uffff"+
-    "\uffff\u0000fg\u0003\u0004\u0002\u0000gm\u0001\u0000\u0000\u0000hi\n\u0001"+
-    "\u0000\u0000ij\u0005\u0019\u0000\u0000jl\u0003\u0006\u0003\u0000kh\u0001"+
-    "\u0000\u0000\u0000lo\u0001\u0000\u0000\u0000mk\u0001\u0000\u0000\u0000"+
-    "mn\u0001\u0000\u0000\u0000n\u0003\u0001\u0000\u0000\u0000om\u0001\u0000"+
-    "\u0000\u0000pu\u0003V+\u0000qu\u0003\u001c\u000e\u0000ru\u0003\u0016\u000b"+
-    "\u0000su\u0003Z-\u0000tp\u0001\u0000\u0000\u0000tq\u0001\u0000\u0000\u0000"+
-    "tr\u0001\u0000\u0000\u0000ts\u0001\u0000\u0000\u0000u\u0005\u0001\u0000"+
-    "\u0000\u0000v\u0084\u0003 \u0010\u0000w\u0084\u0003$\u0012\u0000x\u0084"+
-    "\u00032\u0019\u0000y\u0084\u00038\u001c\u0000z\u0084\u00034\u001a\u0000"+
-    "{\u0084\u0003\"\u0011\u0000|\u0084\u0003\b\u0004\u0000}\u0084\u0003:\u001d"+
-    "\u0000~\u0084\u0003<\u001e\u0000\u007f\u0084\u0003@ \u0000\u0080\u0084"+
-    "\u0003B!\u0000\u0081\u0084\u0003\\.\u0000\u0082\u0084\u0003D\"\u0000\u0083"+
-    "v\u0001\u0000\u0000\u0000\u0083w\u0001\u0000\u0000\u0000\u0083x\u0001"+
-    "\u0000\u0000\u0000\u0083y\u0001\u0000\u0000\u0000\u0083z\u0001\u0000\u0000"+
-    "\u0000\u0083{\u0001\u0000\u0000\u0000\u0083|\u0001\u0000\u0000\u0000\u0083"+
-    "}\u0001\u0000\u0000\u0000\u0083~\u0001\u0000\u0000\u0000\u0083\u007f\u0001"+
-    "\u0000\u0000\u0000\u0083\u0080\u0001\u0000\u0000\u0000\u0083\u0081\u0001"+
-    "\u0000\u0000\u0000\u0083\u0082\u0001\u0000\u0000\u0000\u0084\u0007\u0001"+
-    "\u0000\u0000\u0000\u0085\u0086\u0005\u0011\u0000\u0000\u0086\u0087\u0003"+
-    "\n\u0005\u0000\u0087\t\u0001\u0000\u0000\u0000\u0088\u0089\u0006\u0005"+
-    "\uffff\uffff\u0000\u0089\u008a\u0005+\u0000\u0000\u008a\u00a5\u0003\n"+
-    "\u0005\u0007\u008b\u00a5\u0003\u000e\u0007\u0000\u008c\u00a5\u0003\f\u0006"+
-    "\u0000\u008d\u008f\u0003\u000e\u0007\u0000\u008e\u0090\u0005+\u0000\u0000"+
-    "\u008f\u008e\u0001\u0000\u0000\u0000\u008f\u0090\u0001\u0000\u0000\u0000"+
-    "\u0090\u0091\u0001\u0000\u0000\u0000\u0091\u0092\u0005(\u0000\u0000\u0092"+
-    "\u0093\u0005\'\u0000\u0000\u0093\u0098\u0003\u000e\u0007\u0000\u0094\u0095"+
-    "\u0005!\u0000\u0000\u0095\u0097\u0003\u000e\u0007\u0000\u0096\u0094\u0001"+
-    "\u0000\u0000\u0000\u0097\u009a\u0001\u0000\u0000\u0000\u0098\u0096\u0001"+
-    "\u0000\u0000\u0000\u0098\u0099\u0001\u0000\u0000\u0000\u0099\u009b\u0001"+
-    "\u0000\u0000\u0000\u009a\u0098\u0001\u0000\u0000\u0000\u009b\u009c\u0005"+
-    "1\u0000\u0000\u009c\u00a5\u0001\u0000\u0000\u0000\u009d\u009e\u0003\u000e"+
-    "\u0007\u0000\u009e\u00a0\u0005)\u0000\u0000\u009f\u00a1\u0005+\u0000\u0000"+
-    "\u00a0\u009f\u0001\u0000\u0000\u0000\u00a0\u00a1\u0001\u0000\u0000\u0000"+
-    "\u00a1\u00a2\u0001\u0000\u0000\u0000\u00a2\u00a3\u0005,\u0000\u0000\u00a3"+
-    "\u00a5\u0001\u0000\u0000\u0000\u00a4\u0088\u0001\u0000\u0000\u0000\u00a4"+
-    "\u008b\u0001\u0000\u0000\u0000\u00a4\u008c\u0001\u0000\u0000\u0000\u00a4"+
-    "\u008d\u0001\u0000\u0000\u0000\u00a4\u009d\u0001\u0000\u0000\u0000\u00a5"+
-    "\u00ae\u0001\u0000\u0000\u0000\u00a6\u00a7\n\u0004\u0000\u0000\u00a7\u00a8"+
-    "\u0005\u001e\u0000\u0000\u00a8\u00ad\u0003\n\u0005\u0005\u00a9\u00aa\n"+
-    "\u0003\u0000\u0000\u00aa\u00ab\u0005.\u0000\u0000\u00ab\u00ad\u0003\n"+
-    "\u0005\u0004\u00ac\u00a6\u0001\u0000\u0000\u0000\u00ac\u00a9\u0001\u0000"+
-    "\u0000\u0000\u00ad\u00b0\u0001\u0000\u0000\u0000\u00ae\u00ac\u0001\u0000"+
-    "\u0000\u0000\u00ae\u00af\u0001\u0000\u0000\u0000\u00af\u000b\u0001\u0000"+
-    "\u0000\u0000\u00b0\u00ae\u0001\u0000\u0000\u0000\u00b1\u00b3\u0003\u000e"+
-    "\u0007\u0000\u00b2\u00b4\u0005+\u0000\u0000\u00b3\u00b2\u0001\u0000\u0000"+
-    "\u0000\u00b3\u00b4\u0001\u0000\u0000\u0000\u00b4\u00b5\u0001\u0000\u0000"+
-    "\u0000\u00b5\u00b6\u0005*\u0000\u0000\u00b6\u00b7\u0003R)\u0000\u00b7"+
-    "\u00c0\u0001\u0000\u0000\u0000\u00b8\u00ba\u0003\u000e\u0007\u0000\u00b9"+
-    "\u00bb\u0005+\u0000\u0000\u00ba\u00b9\u0001\u0000\u0000\u0000\u00ba\u00bb"+
-    "\u0001\u0000\u0000\u0000\u00bb\u00bc\u0001\u0000\u0000\u0000\u00bc\u00bd"+
-    "\u00050\u0000\u0000\u00bd\u00be\u0003R)\u0000\u00be\u00c0\u0001\u0000"+
-    "\u0000\u0000\u00bf\u00b1\u0001\u0000\u0000\u0000\u00bf\u00b8\u0001\u0000"+
-    "\u0000\u0000\u00c0\r\u0001\u0000\u0000\u0000\u00c1\u00c7\u0003\u0010\b"+
-    "\u0000\u00c2\u00c3\u0003\u0010\b\u0000\u00c3\u00c4\u0003T*\u0000\u00c4"+
-    "\u00c5\u0003\u0010\b\u0000\u00c5\u00c7\u0001\u0000\u0000\u0000\u00c6\u00c1"+
-    "\u0001\u0000\u0000\u0000\u00c6\u00c2\u0001\u0000\u0000\u0000\u00c7\u000f"+
-    "\u0001\u0000\u0000\u0000\u00c8\u00c9\u0006\b\uffff\uffff\u0000\u00c9\u00cd"+
-    "\u0003\u0012\t\u0000\u00ca\u00cb\u0007\u0000\u0000\u0000\u00cb\u00cd\u0003"+
-    "\u0010\b\u0003\u00cc\u00c8\u0001\u0000\u0000\u0000\u00cc\u00ca\u0001\u0000"+
-    "\u0000\u0000\u00cd\u00d6\u0001\u0000\u0000\u0000\u00ce\u00cf\n\u0002\u0000"+
-    "\u0000\u00cf\u00d0\u0007\u0001\u0000\u0000\u00d0\u00d5\u0003\u0010\b\u0003"+
-    "\u00d1\u00d2\n\u0001\u0000\u0000\u00d2\u00d3\u0007\u0000\u0000\u0000\u00d3"+
-    "\u00d5\u0003\u0010\b\u0002\u00d4\u00ce\u0001\u0000\u0000\u0000\u00d4\u00d1"+
-    "\u0001\u0000\u0000\u0000\u00d5\u00d8\u0001\u0000\u0000\u0000\u00d6\u00d4"+
-    "\u0001\u0000\u0000\u0000\u00d6\u00d7\u0001\u0000\u0000\u0000\u00d7\u0011"+
-    "\u0001\u0000\u0000\u0000\u00d8\u00d6\u0001\u0000\u0000\u0000\u00d9\u00e1"+
-    "\u00030\u0018\u0000\u00da\u00e1\u0003(\u0014\u0000\u00db\u00e1\u0003\u0014"+
-    "\n\u0000\u00dc\u00dd\u0005\'\u0000\u0000\u00dd\u00de\u0003\n\u0005\u0000"+
-    "\u00de\u00df\u00051\u0000\u0000\u00df\u00e1\u0001\u0000\u0000\u0000\u00e0"+
-    "\u00d9\u0001\u0000\u0000\u0000\u00e0\u00da\u0001\u0000\u0000\u0000\u00e0"+
-    "\u00db\u0001\u0000\u0000\u0000\u00e0\u00dc\u0001\u0000\u0000\u0000\u00e1"+
-    "\u0013\u0001\u0000\u0000\u0000\u00e2\u00e3\u0003,\u0016\u0000\u00e3\u00ed"+
-    "\u0005\'\u0000\u0000\u00e4\u00ee\u0005<\u0000\u0000\u00e5\u00ea\u0003"+
-    "\n\u0005\u0000\u00e6\u00e7\u0005!\u0000\u0000\u00e7\u00e9\u0003\n\u0005"+
-    "\u0000\u00e8\u00e6\u0001\u0000\u0000\u0000\u00e9\u00ec\u0001\u0000\u0000"+
-    "\u0000\u00ea\u00e8\u0001\u0000\u0000\u0000\u00ea\u00eb\u0001\u0000\u0000"+
-    "\u0000\u00eb\u00ee\u0001\u0000\u0000\u0000\u00ec\u00ea\u0001\u0000\u0000"+
-    "\u0000\u00ed\u00e4\u0001\u0000\u0000\u0000\u00ed\u00e5\u0001\u0000\u0000"+
-    "\u0000\u00ed\u00ee\u0001\u0000\u0000\u0000\u00ee\u00ef\u0001\u0000\u0000"+
-    "\u0000\u00ef\u00f0\u00051\u0000\u0000\u00f0\u0015\u0001\u0000\u0000\u0000"+
-    "\u00f1\u00f2\u0005\r\u0000\u0000\u00f2\u00f3\u0003\u0018\f\u0000\u00f3"+
-    "\u0017\u0001\u0000\u0000\u0000\u00f4\u00f9\u0003\u001a\r\u0000\u00f5\u00f6"+
-    "\u0005!\u0000\u0000\u00f6\u00f8\u0003\u001a\r\u0000\u00f7\u00f5\u0001"+
-    "\u0000\u0000\u0000\u00f8\u00fb\u0001\u0000\u0000\u0000\u00f9\u00f7\u0001"+
-    "\u0000\u0000\u0000\u00f9\u00fa\u0001\u0000\u0000\u0000\u00fa\u0019\u0001"+
-    "\u0000\u0000\u0000\u00fb\u00f9\u0001\u0000\u0000\u0000\u00fc\u0102\u0003"+
-    "\n\u0005\u0000\u00fd\u00fe\u0003(\u0014\u0000\u00fe\u00ff\u0005 \u0000"+
-    "\u0000\u00ff\u0100\u0003\n\u0005\u0000\u0100\u0102\u0001\u0000\u0000\u0000"+
-    "\u0101\u00fc\u0001\u0000\u0000\u0000\u0101\u00fd\u0001\u0000\u0000\u0000"+
-    "\u0102\u001b\u0001\u0000\u0000\u0000\u0103\u0104\u0005\u0006\u0000\u0000"+
-    "\u0104\u0109\u0003&\u0013\u0000\u0105\u0106\u0005!\u0000\u0000\u0106\u0108"+
-    "\u0003&\u0013\u0000\u0107\u0105\u0001\u0000\u0000\u0000\u0108\u010b\u0001"+
-    "\u0000\u0000\u0000\u0109\u0107\u0001\u0000\u0000\u0000\u0109\u010a\u0001"+
-    "\u0000\u0000\u0000\u010a\u010d\u0001\u0000\u0000\u0000\u010b\u0109\u0001"+
-    "\u0000\u0000\u0000\u010c\u010e\u0003\u001e\u000f\u0000\u010d\u010c\u0001"+
-    "\u0000\u0000\u0000\u010d\u010e\u0001\u0000\u0000\u0000\u010e\u001d\u0001"+
-    "\u0000\u0000\u0000\u010f\u0110\u0005?\u0000\u0000\u0110\u0111\u0005F\u0000"+
-    "\u0000\u0111\u0116\u0003&\u0013\u0000\u0112\u0113\u0005!\u0000\u0000\u0113"+
-    "\u0115\u0003&\u0013\u0000\u0114\u0112\u0001\u0000\u0000\u0000\u0115\u0118"+
-    "\u0001\u0000\u0000\u0000\u0116\u0114\u0001\u0000\u0000\u0000\u0116\u0117"+
-    "\u0001\u0000\u0000\u0000\u0117\u0119\u0001\u0000\u0000\u0000\u0118\u0116"+
-    "\u0001\u0000\u0000\u0000\u0119\u011a\u0005@\u0000\u0000\u011a\u001f\u0001"+
-    "\u0000\u0000\u0000\u011b\u011c\u0005\u0004\u0000\u0000\u011c\u011d\u0003"+
-    "\u0018\f\u0000\u011d!\u0001\u0000\u0000\u0000\u011e\u0120\u0005\u0010"+
-    "\u0000\u0000\u011f\u0121\u0003\u0018\f\u0000\u0120\u011f\u0001\u0000\u0000"+
-    "\u0000\u0120\u0121\u0001\u0000\u0000\u0000\u0121\u0124\u0001\u0000\u0000"+
-    "\u0000\u0122\u0123\u0005\u001d\u0000\u0000\u0123\u0125\u0003\u0018\f\u0000"+
-    "\u0124\u0122\u0001\u0000\u0000\u0000\u0124\u0125\u0001\u0000\u0000\u0000"+
-    "\u0125#\u0001\u0000\u0000\u0000\u0126\u0127\u0005\b\u0000\u0000\u0127"+
-    "\u012a\u0003\u0018\f\u0000\u0128\u0129\u0005\u001d\u0000\u0000\u0129\u012b"+
-    "\u0003\u0018\f\u0000\u012a\u0128\u0001\u0000\u0000\u0000\u012a\u012b\u0001"+
-    "\u0000\u0000\u0000\u012b%\u0001\u0000\u0000\u0000\u012c\u012d\u0007\u0002"+
-    "\u0000\u0000\u012d\'\u0001\u0000\u0000\u0000\u012e\u0133\u0003,\u0016"+
-    "\u0000\u012f\u0130\u0005#\u0000\u0000\u0130\u0132\u0003,\u0016\u0000\u0131"+
-    "\u012f\u0001\u0000\u0000\u0000\u0132\u0135\u0001\u0000\u0000\u0000\u0133"+
-    "\u0131\u0001\u0000\u0000\u0000\u0133\u0134\u0001\u0000\u0000\u0000\u0134"+
-    ")\u0001\u0000\u0000\u0000\u0135\u0133\u0001\u0000\u0000\u0000\u0136\u013b"+
-    "\u0003.\u0017\u0000\u0137\u0138\u0005#\u0000\u0000\u0138\u013a\u0003."+
-    "\u0017\u0000\u0139\u0137\u0001\u0000\u0000\u0000\u013a\u013d\u0001\u0000"+
-    "\u0000\u0000\u013b\u0139\u0001\u0000\u0000\u0000\u013b\u013c\u0001\u0000"+
-    "\u0000\u0000\u013c+\u0001\u0000\u0000\u0000\u013d\u013b\u0001\u0000\u0000"+
-    "\u0000\u013e\u013f\u0007\u0003\u0000\u0000\u013f-\u0001\u0000\u0000\u0000"+
-    "\u0140\u0141\u0007\u0004\u0000\u0000\u0141/\u0001\u0000\u0000\u0000\u0142"+
-    "\u016d\u0005,\u0000\u0000\u0143\u0144\u0003P(\u0000\u0144\u0145\u0005"+
-    "A\u0000\u0000\u0145\u016d\u0001\u0000\u0000\u0000\u0146\u016d\u0003N\'"+
-    "\u0000\u0147\u016d\u0003P(\u0000\u0148\u016d\u0003J%\u0000\u0149\u016d"+
-    "\u0005/\u0000\u0000\u014a\u016d\u0003R)\u0000\u014b\u014c\u0005?\u0000"+
-    "\u0000\u014c\u0151\u0003L&\u0000\u014d\u014e\u0005!\u0000\u0000\u014e"+
-    "\u0150\u0003L&\u0000\u014f\u014d\u0001\u0000\u0000\u0000\u0150\u0153\u0001"+
-    "\u0000\u0000\u0000\u0151\u014f\u0001\u0000\u0000\u0000\u0151\u0152\u0001"+
-    "\u0000\u0000\u0000\u0152\u0154\u0001\u0000\u0000\u0000\u0153\u0151\u0001"+
-    "\u0000\u0000\u0000\u0154\u0155\u0005@\u0000\u0000\u0155\u016d\u0001\u0000"+
-    "\u0000\u0000\u0156\u0157\u0005?\u0000\u0000\u0157\u015c\u0003J%\u0000"+
-    "\u0158\u0159\u0005!\u0000\u0000\u0159\u015b\u0003J%\u0000\u015a\u0158"+
-    "\u0001\u0000\u0000\u0000\u015b\u015e\u0001\u0000\u0000\u0000\u015c\u015a"+
-    "\u0001\u0000\u0000\u0000\u015c\u015d\u0001\u0000\u0000\u0000\u015d\u015f"+
-    "\u0001\u0000\u0000\u0000\u015e\u015c\u0001\u0000\u0000\u0000\u015f\u0160"+
-    "\u0005@\u0000\u0000\u0160\u016d\u0001\u0000\u0000\u0000\u0161\u0162\u0005"+
-    "?\u0000\u0000\u0162\u0167\u0003R)\u0000\u0163\u0164\u0005!\u0000\u0000"+
-    "\u0164\u0166\u0003R)\u0000\u0165\u0163\u0001\u0000\u0000\u0000\u0166\u0169"+
-    "\u0001\u0000\u0000\u0000\u0167\u0165\u0001\u0000\u0000\u0000\u0167\u0168"+
-    "\u0001\u0000\u0000\u0000\u0168\u016a\u0001\u0000\u0000\u0000\u0169\u0167"+
-    "\u0001\u0000\u0000\u0000\u016a\u016b\u0005@\u0000\u0000\u016b\u016d\u0001"+
-    "\u0000\u0000\u0000\u016c\u0142\u0001\u0000\u0000\u0000\u016c\u0143\u0001"+
-    "\u0000\u0000\u0000\u016c\u0146\u0001\u0000\u0000\u0000\u016c\u0147\u0001"+
-    "\u0000\u0000\u0000\u016c\u0148\u0001\u0000\u0000\u0000\u016c\u0149\u0001"+
-    "\u0000\u0000\u0000\u016c\u014a\u0001\u0000\u0000\u0000\u016c\u014b\u0001"+
-    "\u0000\u0000\u0000\u016c\u0156\u0001\u0000\u0000\u0000\u016c\u0161\u0001"+
-    "\u0000\u0000\u0000\u016d1\u0001\u0000\u0000\u0000\u016e\u016f\u0005\n"+
-    "\u0000\u0000\u016f\u0170\u0005\u001b\u0000\u0000\u01703\u0001\u0000\u0000"+
-    "\u0000\u0171\u0172\u0005\u000f\u0000\u0000\u0172\u0177\u00036\u001b\u0000"+
-    "\u0173\u0174\u0005!\u0000\u0000\u0174\u0176\u00036\u001b\u0000\u0175\u0173"+
-    "\u0001\u0000\u0000\u0000\u0176\u0179\u0001\u0000\u0000\u0000\u0177\u0175"+
-    "\u0001\u0000\u0000\u0000\u0177\u0178\u0001\u0000\u0000\u0000\u01785\u0001"+
-    "\u0000\u0000\u0000\u0179\u0177\u0001\u0000\u0000\u0000\u017a\u017c\u0003"+
-    "\n\u0005\u0000\u017b\u017d\u0007\u0005\u0000\u0000\u017c\u017b\u0001\u0000"+
-    "\u0000\u0000\u017c\u017d\u0001\u0000\u0000\u0000\u017d\u0180\u0001\u0000"+
-    "\u0000\u0000\u017e\u017f\u0005-\u0000\u0000\u017f\u0181\u0007\u0006\u0000"+
-    "\u0000\u0180\u017e\u0001\u0000\u0000\u0000\u0180\u0181\u0001\u0000\u0000"+
-    "\u0000\u01817\u0001\u0000\u0000\u0000\u0182\u0183\u0005\t\u0000\u0000"+
-    "\u0183\u0188\u0003*\u0015\u0000\u0184\u0185\u0005!\u0000\u0000\u0185\u0187"+
-    "\u0003*\u0015\u0000\u0186\u0184\u0001\u0000\u0000\u0000\u0187\u018a\u0001"+
-    "\u0000\u0000\u0000\u0188\u0186\u0001\u0000\u0000\u0000\u0188\u0189\u0001"+
-    "\u0000\u0000\u0000\u01899\u0001\u0000\u0000\u0000\u018a\u0188\u0001\u0000"+
-    "\u0000\u0000\u018b\u018c\u0005\u0002\u0000\u0000\u018c\u0191\u0003*\u0015"+
-    "\u0000\u018d\u018e\u0005!\u0000\u0000\u018e\u0190\u0003*\u0015\u0000\u018f"+
-    "\u018d\u0001\u0000\u0000\u0000\u0190\u0193\u0001\u0000\u0000\u0000\u0191"+
-    "\u018f\u0001\u0000\u0000\u0000\u0191\u0192\u0001\u0000\u0000\u0000\u0192"+
-    ";\u0001\u0000\u0000\u0000\u0193\u0191\u0001\u0000\u0000\u0000\u0194\u0195"+
-    "\u0005\f\u0000\u0000\u0195\u019a\u0003>\u001f\u0000\u0196\u0197\u0005"+
-    "!\u0000\u0000\u0197\u0199\u0003>\u001f\u0000\u0198\u0196\u0001\u0000\u0000"+
-    "\u0000\u0199\u019c\u0001\u0000\u0000\u0000\u019a\u0198\u0001\u0000\u0000"+
-    "\u0000\u019a\u019b\u0001\u0000\u0000\u0000\u019b=\u0001\u0000\u0000\u0000"+
-    "\u019c\u019a\u0001\u0000\u0000\u0000\u019d\u019e\u0003*\u0015\u0000\u019e"+
-    "\u019f\u0005O\u0000\u0000\u019f\u01a0\u0003*\u0015\u0000\u01a0?\u0001"+
-    "\u0000\u0000\u0000\u01a1\u01a2\u0005\u0001\u0000\u0000\u01a2\u01a3\u0003"+
-    "\u0012\t\u0000\u01a3\u01a5\u0003R)\u0000\u01a4\u01a6\u0003F#\u0000\u01a5"+
-    "\u01a4\u0001\u0000\u0000\u0000\u01a5\u01a6\u0001\u0000\u0000\u0000\u01a6"+
-    "A\u0001\u0000\u0000\u0000\u01a7\u01a8\u0005\u0007\u0000\u0000\u01a8\u01a9"+
-    "\u0003\u0012\t\u0000\u01a9\u01aa\u0003R)\u0000\u01aaC\u0001\u0000\u0000"+
-    "\u0000\u01ab\u01ac\u0005\u000b\u0000\u0000\u01ac\u01ad\u0003(\u0014\u0000"+
-    "\u01adE\u0001\u0000\u0000\u0000\u01ae\u01b3\u0003H$\u0000\u01af\u01b0"+
-    "\u0005!\u0000\u0000\u01b0\u01b2\u0003H$\u0000\u01b1\u01af\u0001\u0000"+
-    "\u0000\u0000\u01b2\u01b5\u0001\u0000\u0000\u0000\u01b3\u01b1\u0001\u0000"+
-    "\u0000\u0000\u01b3\u01b4\u0001\u0000\u0000\u0000\u01b4G\u0001\u0000\u0000"+
-    "\u0000\u01b5\u01b3\u0001\u0000\u0000\u0000\u01b6\u01b7\u0003,\u0016\u0000"+
-    "\u01b7\u01b8\u0005 \u0000\u0000\u01b8\u01b9\u00030\u0018\u0000\u01b9I"+
-    "\u0001\u0000\u0000\u0000\u01ba\u01bb\u0007\u0007\u0000\u0000\u01bbK\u0001"+
-    "\u0000\u0000\u0000\u01bc\u01bf\u0003N\'\u0000\u01bd\u01bf\u0003P(\u0000"+
-    "\u01be\u01bc\u0001\u0000\u0000\u0000\u01be\u01bd\u0001\u0000\u0000\u0000"+
-    "\u01bfM\u0001\u0000\u0000\u0000\u01c0\u01c2\u0007\u0000\u0000\u0000\u01c1"+
-    "\u01c0\u0001\u0000\u0000\u0000\u01c1\u01c2\u0001\u0000\u0000\u0000\u01c2"+
-    "\u01c3\u0001\u0000\u0000\u0000\u01c3\u01c4\u0005\u001c\u0000\u0000\u01c4"+
-    "O\u0001\u0000\u0000\u0000\u01c5\u01c7\u0007\u0000\u0000\u0000\u01c6\u01c5"+
-    "\u0001\u0000\u0000\u0000\u01c6\u01c7\u0001\u0000\u0000\u0000\u01c7\u01c8"+
-    "\u0001\u0000\u0000\u0000\u01c8\u01c9\u0005\u001b\u0000\u0000\u01c9Q\u0001"+
-    "\u0000\u0000\u0000\u01ca\u01cb\u0005\u001a\u0000\u0000\u01cbS\u0001\u0000"+
-    "\u0000\u0000\u01cc\u01cd\u0007\b\u0000\u0000\u01cdU\u0001\u0000\u0000"+
-    "\u0000\u01ce\u01cf\u0005\u0005\u0000\u0000\u01cf\u01d0\u0003X,\u0000\u01d0"+
-    "W\u0001\u0000\u0000\u0000\u01d1\u01d2\u0005?\u0000\u0000\u01d2\u01d3\u0003"+
-    "\u0002\u0001\u0000\u01d3\u01d4\u0005@\u0000\u0000\u01d4Y\u0001\u0000\u0000"+
-    "\u0000\u01d5\u01d6\u0005\u000e\u0000\u0000\u01d6\u01da\u0005_\u0000\u0000"+
-    "\u01d7\u01d8\u0005\u000e\u0000\u0000\u01d8\u01da\u0005`\u0000\u0000\u01d9"+
-    "\u01d5\u0001\u0000\u0000\u0000\u01d9\u01d7\u0001\u0000\u0000\u0000\u01da"+
-    "[\u0001\u0000\u0000\u0000\u01db\u01df\u0005\u0003\u0000\u0000\u01dc\u01de"+
-    "\u0003`0\u0000\u01dd\u01dc\u0001\u0000\u0000\u0000\u01de\u01e1\u0001\u0000"+
-    "\u0000\u0000\u01df\u01dd\u0001\u0000\u0000\u0000\u01df\u01e0\u0001\u0000"+
-    "\u0000\u0000\u01e0\u01e2\u0001\u0000\u0000\u0000\u01e1\u01df\u0001\u0000"+
-    "\u0000\u0000\u01e2\u01e5\u0005U\u0000\u0000\u01e3\u01e4\u0005S\u0000\u0000"+
-    "\u01e4\u01e6\u0003*\u0015\u0000\u01e5\u01e3\u0001\u0000\u0000\u0000\u01e5"+
-    "\u01e6\u0001\u0000\u0000\u0000\u01e6\u01f0\u0001\u0000\u0000\u0000\u01e7"+
-    "\u01e8\u0005T\u0000\u0000\u01e8\u01ed\u0003^/\u0000\u01e9\u01ea\u0005"+
-    "!\u0000\u0000\u01ea\u01ec\u0003^/\u0000\u01eb\u01e9\u0001\u0000\u0000"+
-    "\u0000\u01ec\u01ef\u0001\u0000\u0000\u0000\u01ed\u01eb\u0001\u0000\u0000"+
-    "\u0000\u01ed\u01ee\u0001\u0000\u0000\u0000\u01ee\u01f1\u0001\u0000\u0000"+
-    "\u0000\u01ef\u01ed\u0001\u0000\u0000\u0000\u01f0\u01e7\u0001\u0000\u0000"+
-    "\u0000\u01f0\u01f1\u0001\u0000\u0000\u0000\u01f1]\u0001\u0000\u0000\u0000"+
-    "\u01f2\u01f3\u0003*\u0015\u0000\u01f3\u01f4\u0005 \u0000\u0000\u01f4\u01f6"+
-    "\u0001\u0000\u0000\u0000\u01f5\u01f2\u0001\u0000\u0000\u0000\u01f5\u01f6"+
-    "\u0001\u0000\u0000\u0000\u01f6\u01f7\u0001\u0000\u0000\u0000\u01f7\u01f8"+
-    "\u0003*\u0015\u0000\u01f8_\u0001\u0000\u0000\u0000\u01f9\u01fa\u0005?"+
-    "\u0000\u0000\u01fa\u01fb\u0005e\u0000\u0000\u01fb\u01fc\u0005d\u0000\u0000"+
-    "\u01fc\u01fd\u0005e\u0000\u0000\u01fd\u01fe\u0005@\u0000\u0000\u01fea"+
-    "\u0001\u0000\u0000\u00002mt\u0083\u008f\u0098\u00a0\u00a4\u00ac\u00ae"+
-    "\u00b3\u00ba\u00bf\u00c6\u00cc\u00d4\u00d6\u00e0\u00ea\u00ed\u00f9\u0101"+
-    "\u0109\u010d\u0116\u0120\u0124\u012a\u0133\u013b\u0151\u015c\u0167\u016c"+
-    "\u0177\u017c\u0180\u0188\u0191\u019a\u01a5\u01b3\u01be\u01c1\u01c6\u01d9"+
-    "\u01df\u01e5\u01ed\u01f0\u01f5";
+    "\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0005"+
+    "\u0018\u0153\b\u0018\n\u0018\f\u0018\u0156\t\u0018\u0001\u0018\u0001\u0018"+
+    "\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0005\u0018\u015e\b\u0018"+
+    "\n\u0018\f\u0018\u0161\t\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
+    "\u0018\u0001\u0018\u0001\u0018\u0005\u0018\u0169\b\u0018\n\u0018\f\u0018"+
+    "\u016c\t\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u0170\b\u0018\u0001"+
+    "\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+    "\u001a\u0005\u001a\u0179\b\u001a\n\u001a\f\u001a\u017c\t\u001a\u0001\u001b"+
+    "\u0001\u001b\u0003\u001b\u0180\b\u001b\u0001\u001b\u0001\u001b\u0003\u001b"+
+    "\u0184\b\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0005\u001c"+
+    "\u018a\b\u001c\n\u001c\f\u001c\u018d\t\u001c\u0001\u001d\u0001\u001d\u0001"+
+    "\u001d\u0001\u001d\u0005\u001d\u0193\b\u001d\n\u001d\f\u001d\u0196\t\u001d"+
+    "\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0005\u001e\u019c\b\u001e"+
+    "\n\u001e\f\u001e\u019f\t\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
+    "\u001f\u0001 \u0001 \u0001 \u0001 \u0003 \u01a9\b \u0001!\u0001!\u0001"+
+    "!\u0001!\u0001\"\u0001\"\u0001\"\u0001#\u0001#\u0001#\u0005#\u01b5\b#"+
+    "\n#\f#\u01b8\t#\u0001$\u0001$\u0001$\u0001$\u0001%\u0001%\u0001&\u0001"+
+    "&\u0003&\u01c2\b&\u0001\'\u0003\'\u01c5\b\'\u0001\'\u0001\'\u0001(\u0003"+
+    "(\u01ca\b(\u0001(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001+\u0001+\u0001"+
+    "+\u0001,\u0001,\u0001,\u0001,\u0001-\u0001-\u0001-\u0001-\u0003-\u01dd"+
+    "\b-\u0001.\u0001.\u0005.\u01e1\b.\n.\f.\u01e4\t.\u0001.\u0001.\u0001."+
+    "\u0003.\u01e9\b.\u0001.\u0001.\u0001.\u0001.\u0005.\u01ef\b.\n.\f.\u01f2"+
+    "\t.\u0003.\u01f4\b.\u0001/\u0001/\u0001/\u0003/\u01f9\b/\u0001/\u0001"+
+    "/\u00010\u00010\u00010\u00010\u00010\u00011\u00011\u00011\u00011\u0001"+
+    "1\u00011\u00011\u0000\u0003\u0002\n\u00102\u0000\u0002\u0004\u0006\b\n"+
+    "\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.0246"+
+    "8:<>@BDFHJLNPRTVXZ\\^`b\u0000\t\u0001\u0000;<\u0001\u0000=?\u0002\u0000"+
+    "CCHH\u0001\u0000BC\u0002\u0000CCLL\u0002\u0000  ##\u0001\u0000&\'\u0002"+
+    "\u0000%%33\u0001\u00004:\u0223\u0000d\u0001\u0000\u0000\u0000\u0002g\u0001"+
+    "\u0000\u0000\u0000\u0004v\u0001\u0000\u0000\u0000\u0006\u0086\u0001\u0000"+
+    "\u0000\u0000\b\u0088\u0001\u0000\u0000\u0000\n\u00a7\u0001\u0000\u0000"+
+    "\u0000\f\u00c2\u0001\u0000\u0000\u0000\u000e\u00c9\u0001\u0000\u0000\u0000"+
+    "\u0010\u00cf\u0001\u0000\u0000\u0000\u0012\u00e3\u0001\u0000\u0000\u0000"+
+    "\u0014\u00e5\u0001\u0000\u0000\u0000\u0016\u00f4\u0001\u0000\u0000\u0000"+
+    "\u0018\u00f7\u0001\u0000\u0000\u0000\u001a\u0104\u0001\u0000\u0000\u0000"+
+    "\u001c\u0106\u0001\u0000\u0000\u0000\u001e\u0112\u0001\u0000\u0000\u0000"+
+    " \u011e\u0001\u0000\u0000\u0000\"\u0121\u0001\u0000\u0000\u0000$\u0129"+
+    "\u0001\u0000\u0000\u0000&\u012f\u0001\u0000\u0000\u0000(\u0131\u0001\u0000"+
+    "\u0000\u0000*\u0139\u0001\u0000\u0000\u0000,\u0141\u0001\u0000\u0000\u0000"+
+    ".\u0143\u0001\u0000\u0000\u00000\u016f\u0001\u0000\u0000\u00002\u0171"+
+    "\u0001\u0000\u0000\u00004\u0174\u0001\u0000\u0000\u00006\u017d\u0001\u0000"+
+    "\u0000\u00008\u0185\u0001\u0000\u0000\u0000:\u018e\u0001\u0000\u0000\u0000"+
+    "<\u0197\u0001\u0000\u0000\u0000>\u01a0\u0001\u0000\u0000\u0000@\u01a4"+
+    "\u0001\u0000\u0000\u0000B\u01aa\u0001\u0000\u0000\u0000D\u01ae\u0001\u0000"+
+    "\u0000\u0000F\u01b1\u0001\u0000\u0000\u0000H\u01b9\u0001\u0000\u0000\u0000"+
+    "J\u01bd\u0001\u0000\u0000\u0000L\u01c1\u0001\u0000\u0000\u0000N\u01c4"+
+    "\u0001\u0000\u0000\u0000P\u01c9\u0001\u0000\u0000\u0000R\u01cd\u0001\u0000"+
+    "\u0000\u0000T\u01cf\u0001\u0000\u0000\u0000V\u01d1\u0001\u0000\u0000\u0000"+
+    "X\u01d4\u0001\u0000\u0000\u0000Z\u01dc\u0001\u0000\u0000\u0000\\\u01de"+
+    "\u0001\u0000\u0000\u0000^\u01f8\u0001\u0000\u0000\u0000`\u01fc\u0001\u0000"+
+    "\u0000\u0000b\u0201\u0001\u0000\u0000\u0000de\u0003\u0002\u0001\u0000"+
+    "ef\u0005\u0000\u0000\u0001f\u0001\u0001\u0000\u0000\u0000gh\u0006\u0001"+
+    "\uffff\uffff\u0000hi\u0003\u0004\u0002\u0000io\u0001\u0000\u0000\u0000"+
+    "jk\n\u0001\u0000\u0000kl\u0005\u001a\u0000\u0000ln\u0003\u0006\u0003\u0000"+
+    "mj\u0001\u0000\u0000\u0000nq\u0001\u0000\u0000\u0000om\u0001\u0000\u0000"+
+    "\u0000op\u0001\u0000\u0000\u0000p\u0003\u0001\u0000\u0000\u0000qo\u0001"+
+    "\u0000\u0000\u0000rw\u0003V+\u0000sw\u0003\u001c\u000e\u0000tw\u0003\u0016"+
+    "\u000b\u0000uw\u0003Z-\u0000vr\u0001\u0000\u0000\u0000vs\u0001\u0000\u0000"+
+    "\u0000vt\u0001\u0000\u0000\u0000vu\u0001\u0000\u0000\u0000w\u0005\u0001"+
+    "\u0000\u0000\u0000x\u0087\u0003 \u0010\u0000y\u0087\u0003$\u0012\u0000"+
+    "z\u0087\u00032\u0019\u0000{\u0087\u00038\u001c\u0000|\u0087\u00034\u001a"+
+    "\u0000}\u0087\u0003\"\u0011\u0000~\u0087\u0003\b\u0004\u0000\u007f\u0087"+
+    "\u0003:\u001d\u0000\u0080\u0087\u0003<\u001e\u0000\u0081\u0087\u0003@"+
+    " \u0000\u0082\u0087\u0003B!\u0000\u0083\u0087\u0003\\.\u0000\u0084\u0087"+
+    "\u0003D\"\u0000\u0085\u0087\u0003`0\u0000\u0086x\u0001\u0000\u0000\u0000"+
+    "\u0086y\u0001\u0000\u0000\u0000\u0086z\u0001\u0000\u0000\u0000\u0086{"+
+    "\u0001\u0000\u0000\u0000\u0086|\u0001\u0000\u0000\u0000\u0086}\u0001\u0000"+
+    "\u0000\u0000\u0086~\u0001\u0000\u0000\u0000\u0086\u007f\u0001\u0000\u0000"+
+    "\u0000\u0086\u0080\u0001\u0000\u0000\u0000\u0086\u0081\u0001\u0000\u0000"+
+    "\u0000\u0086\u0082\u0001\u0000\u0000\u0000\u0086\u0083\u0001\u0000\u0000"+
+    "\u0000\u0086\u0084\u0001\u0000\u0000\u0000\u0086\u0085\u0001\u0000\u0000"+
+    "\u0000\u0087\u0007\u0001\u0000\u0000\u0000\u0088\u0089\u0005\u0012\u0000"+
+    "\u0000\u0089\u008a\u0003\n\u0005\u0000\u008a\t\u0001\u0000\u0000\u0000"+
+    "\u008b\u008c\u0006\u0005\uffff\uffff\u0000\u008c\u008d\u0005,\u0000\u0000"+
+    "\u008d\u00a8\u0003\n\u0005\u0007\u008e\u00a8\u0003\u000e\u0007\u0000\u008f"+
+    "\u00a8\u0003\f\u0006\u0000\u0090\u0092\u0003\u000e\u0007\u0000\u0091\u0093"+
+    "\u0005,\u0000\u0000\u0092\u0091\u0001\u0000\u0000\u0000\u0092\u0093\u0001"+
+    "\u0000\u0000\u0000\u0093\u0094\u0001\u0000\u0000\u0000\u0094\u0095\u0005"+
+    ")\u0000\u0000\u0095\u0096\u0005(\u0000\u0000\u0096\u009b\u0003\u000e\u0007"+
+    "\u0000\u0097\u0098\u0005\"\u0000\u0000\u0098\u009a\u0003\u000e\u0007\u0000"+
+    "\u0099\u0097\u0001\u0000\u0000\u0000\u009a\u009d\u0001\u0000\u0000\u0000"+
+    "\u009b\u0099\u0001\u0000\u0000\u0000\u009b\u009c\u0001\u0000\u0000\u0000"+
+    "\u009c\u009e\u0001\u0000\u0000\u0000\u009d\u009b\u0001\u0000\u0000\u0000"+
+    "\u009e\u009f\u00052\u0000\u0000\u009f\u00a8\u0001\u0000\u0000\u0000\u00a0"+
+    "\u00a1\u0003\u000e\u0007\u0000\u00a1\u00a3\u0005*\u0000\u0000\u00a2\u00a4"+
+    "\u0005,\u0000\u0000\u00a3\u00a2\u0001\u0000\u0000\u0000\u00a3\u00a4\u0001"+
+    "\u0000\u0000\u0000\u00a4\u00a5\u0001\u0000\u0000\u0000\u00a5\u00a6\u0005"+
+    "-\u0000\u0000\u00a6\u00a8\u0001\u0000\u0000\u0000\u00a7\u008b\u0001\u0000"+
+    "\u0000\u0000\u00a7\u008e\u0001\u0000\u0000\u0000\u00a7\u008f\u0001\u0000"+
+    "\u0000\u0000\u00a7\u0090\u0001\u0000\u0000\u0000\u00a7\u00a0\u0001\u0000"+
+    "\u0000\u0000\u00a8\u00b1\u0001\u0000\u0000\u0000\u00a9\u00aa\n\u0004\u0000"+
+    "\u0000\u00aa\u00ab\u0005\u001f\u0000\u0000\u00ab\u00b0\u0003\n\u0005\u0005"+
+    "\u00ac\u00ad\n\u0003\u0000\u0000\u00ad\u00ae\u0005/\u0000\u0000\u00ae"+
+    "\u00b0\u0003\n\u0005\u0004\u00af\u00a9\u0001\u0000\u0000\u0000\u00af\u00ac"+
+    "\u0001\u0000\u0000\u0000\u00b0\u00b3\u0001\u0000\u0000\u0000\u00b1\u00af"+
+    "\u0001\u0000\u0000\u0000\u00b1\u00b2\u0001\u0000\u0000\u0000\u00b2\u000b"+
+    "\u0001\u0000\u0000\u0000\u00b3\u00b1\u0001\u0000\u0000\u0000\u00b4\u00b6"+
+    "\u0003\u000e\u0007\u0000\u00b5\u00b7\u0005,\u0000\u0000\u00b6\u00b5\u0001"+
+    "\u0000\u0000\u0000\u00b6\u00b7\u0001\u0000\u0000\u0000\u00b7\u00b8\u0001"+
+    "\u0000\u0000\u0000\u00b8\u00b9\u0005+\u0000\u0000\u00b9\u00ba\u0003R)"+
+    "\u0000\u00ba\u00c3\u0001\u0000\u0000\u0000\u00bb\u00bd\u0003\u000e\u0007"+
+    "\u0000\u00bc\u00be\u0005,\u0000\u0000\u00bd\u00bc\u0001\u0000\u0000\u0000"+
+    "\u00bd\u00be\u0001\u0000\u0000\u0000\u00be\u00bf\u0001\u0000\u0000\u0000"+
+    "\u00bf\u00c0\u00051\u0000\u0000\u00c0\u00c1\u0003R)\u0000\u00c1\u00c3"+
+    "\u0001\u0000\u0000\u0000\u00c2\u00b4\u0001\u0000\u0000\u0000\u00c2\u00bb"+
+    "\u0001\u0000\u0000\u0000\u00c3\r\u0001\u0000\u0000\u0000\u00c4\u00ca\u0003"+
+    "\u0010\b\u0000\u00c5\u00c6\u0003\u0010\b\u0000\u00c6\u00c7\u0003T*\u0000"+
+    "\u00c7\u00c8\u0003\u0010\b\u0000\u00c8\u00ca\u0001\u0000\u0000\u0000\u00c9"+
+    "\u00c4\u0001\u0000\u0000\u0000\u00c9\u00c5\u0001\u0000\u0000\u0000\u00ca"+
+    "\u000f\u0001\u0000\u0000\u0000\u00cb\u00cc\u0006\b\uffff\uffff\u0000\u00cc"+
+    "\u00d0\u0003\u0012\t\u0000\u00cd\u00ce\u0007\u0000\u0000\u0000\u00ce\u00d0"+
+    "\u0003\u0010\b\u0003\u00cf\u00cb\u0001\u0000\u0000\u0000\u00cf\u00cd\u0001"+
+    "\u0000\u0000\u0000\u00d0\u00d9\u0001\u0000\u0000\u0000\u00d1\u00d2\n\u0002"+
+    "\u0000\u0000\u00d2\u00d3\u0007\u0001\u0000\u0000\u00d3\u00d8\u0003\u0010"+
+    "\b\u0003\u00d4\u00d5\n\u0001\u0000\u0000\u00d5\u00d6\u0007\u0000\u0000"+
+    "\u0000\u00d6\u00d8\u0003\u0010\b\u0002\u00d7\u00d1\u0001\u0000\u0000\u0000"+
+    "\u00d7\u00d4\u0001\u0000\u0000\u0000\u00d8\u00db\u0001\u0000\u0000\u0000"+
+    "\u00d9\u00d7\u0001\u0000\u0000\u0000\u00d9\u00da\u0001\u0000\u0000\u0000"+
+    "\u00da\u0011\u0001\u0000\u0000\u0000\u00db\u00d9\u0001\u0000\u0000\u0000"+
+    "\u00dc\u00e4\u00030\u0018\u0000\u00dd\u00e4\u0003(\u0014\u0000\u00de\u00e4"+
+    "\u0003\u0014\n\u0000\u00df\u00e0\u0005(\u0000\u0000\u00e0\u00e1\u0003"+
+    "\n\u0005\u0000\u00e1\u00e2\u00052\u0000\u0000\u00e2\u00e4\u0001\u0000"+
+    "\u0000\u0000\u00e3\u00dc\u0001\u0000\u0000\u0000\u00e3\u00dd\u0001\u0000"+
+    "\u0000\u0000\u00e3\u00de\u0001\u0000\u0000\u0000\u00e3\u00df\u0001\u0000"+
+    "\u0000\u0000\u00e4\u0013\u0001\u0000\u0000\u0000\u00e5\u00e6\u0003,\u0016"+
+    "\u0000\u00e6\u00f0\u0005(\u0000\u0000\u00e7\u00f1\u0005=\u0000\u0000\u00e8"+
+    "\u00ed\u0003\n\u0005\u0000\u00e9\u00ea\u0005\"\u0000\u0000\u00ea\u00ec"+
+    "\u0003\n\u0005\u0000\u00eb\u00e9\u0001\u0000\u0000\u0000\u00ec\u00ef\u0001"+
+    "\u0000\u0000\u0000\u00ed\u00eb\u0001\u0000\u0000\u0000\u00ed\u00ee\u0001"+
+    "\u0000\u0000\u0000\u00ee\u00f1\u0001\u0000\u0000\u0000\u00ef\u00ed\u0001"+
+    "\u0000\u0000\u0000\u00f0\u00e7\u0001\u0000\u0000\u0000\u00f0\u00e8\u0001"+
+    "\u0000\u0000\u0000\u00f0\u00f1\u0001\u0000\u0000\u0000\u00f1\u00f2\u0001"+
+    "\u0000\u0000\u0000\u00f2\u00f3\u00052\u0000\u0000\u00f3\u0015\u0001\u0000"+
+    "\u0000\u0000\u00f4\u00f5\u0005\u000e\u0000\u0000\u00f5\u00f6\u0003\u0018"+
+    "\f\u0000\u00f6\u0017\u0001\u0000\u0000\u0000\u00f7\u00fc\u0003\u001a\r"+
+    "\u0000\u00f8\u00f9\u0005\"\u0000\u0000\u00f9\u00fb\u0003\u001a\r\u0000"+
+    "\u00fa\u00f8\u0001\u0000\u0000\u0000\u00fb\u00fe\u0001\u0000\u0000\u0000"+
+    "\u00fc\u00fa\u0001\u0000\u0000\u0000\u00fc\u00fd\u0001\u0000\u0000\u0000"+
+    "\u00fd\u0019\u0001\u0000\u0000\u0000\u00fe\u00fc\u0001\u0000\u0000\u0000"+
+    "\u00ff\u0105\u0003\n\u0005\u0000\u0100\u0101\u0003(\u0014\u0000\u0101"+
+    "\u0102\u0005!\u0000\u0000\u0102\u0103\u0003\n\u0005\u0000\u0103\u0105"+
+    "\u0001\u0000\u0000\u0000\u0104\u00ff\u0001\u0000\u0000\u0000\u0104\u0100"+
+    "\u0001\u0000\u0000\u0000\u0105\u001b\u0001\u0000\u0000\u0000\u0106\u0107"+
+    "\u0005\u0006\u0000\u0000\u0107\u010c\u0003&\u0013\u0000\u0108\u0109\u0005"+
+    "\"\u0000\u0000\u0109\u010b\u0003&\u0013\u0000\u010a\u0108\u0001\u0000"+
+    "\u0000\u0000\u010b\u010e\u0001\u0000\u0000\u0000\u010c\u010a\u0001\u0000"+
+    "\u0000\u0000\u010c\u010d\u0001\u0000\u0000\u0000\u010d\u0110\u0001\u0000"+
+    "\u0000\u0000\u010e\u010c\u0001\u0000\u0000\u0000\u010f\u0111\u0003\u001e"+
+    "\u000f\u0000\u0110\u010f\u0001\u0000\u0000\u0000\u0110\u0111\u0001\u0000"+
+    "\u0000\u0000\u0111\u001d\u0001\u0000\u0000\u0000\u0112\u0113\u0005@\u0000"+
+    "\u0000\u0113\u0114\u0005G\u0000\u0000\u0114\u0119\u0003&\u0013\u0000\u0115"+
+    "\u0116\u0005\"\u0000\u0000\u0116\u0118\u0003&\u0013\u0000\u0117\u0115"+
+    "\u0001\u0000\u0000\u0000\u0118\u011b\u0001\u0000\u0000\u0000\u0119\u0117"+
+    "\u0001\u0000\u0000\u0000\u0119\u011a\u0001\u0000\u0000\u0000\u011a\u011c"+
+    "\u0001\u0000\u0000\u0000\u011b\u0119\u0001\u0000\u0000\u0000\u011c\u011d"+
+    "\u0005A\u0000\u0000\u011d\u001f\u0001\u0000\u0000\u0000\u011e\u011f\u0005"+
+    "\u0004\u0000\u0000\u011f\u0120\u0003\u0018\f\u0000\u0120!\u0001\u0000"+
+    "\u0000\u0000\u0121\u0123\u0005\u0011\u0000\u0000\u0122\u0124\u0003\u0018"+
+    "\f\u0000\u0123\u0122\u0001\u0000\u0000\u0000\u0123\u0124\u0001\u0000\u0000"+
+    "\u0000\u0124\u0127\u0001\u0000\u0000\u0000\u0125\u0126\u0005\u001e\u0000"+
+    "\u0000\u0126\u0128\u0003\u0018\f\u0000\u0127\u0125\u0001\u0000\u0000\u0000"+
+    "\u0127\u0128\u0001\u0000\u0000\u0000\u0128#\u0001\u0000\u0000\u0000\u0129"+
+    "\u012a\u0005\b\u0000\u0000\u012a\u012d\u0003\u0018\f\u0000\u012b\u012c"+
+    "\u0005\u001e\u0000\u0000\u012c\u012e\u0003\u0018\f\u0000\u012d\u012b\u0001"+
+    "\u0000\u0000\u0000\u012d\u012e\u0001\u0000\u0000\u0000\u012e%\u0001\u0000"+
+    "\u0000\u0000\u012f\u0130\u0007\u0002\u0000\u0000\u0130\'\u0001\u0000\u0000"+
+    "\u0000\u0131\u0136\u0003,\u0016\u0000\u0132\u0133\u0005$\u0000\u0000\u0133"+
+    "\u0135\u0003,\u0016\u0000\u0134\u0132\u0001\u0000\u0000\u0000\u0135\u0138"+
+    "\u0001\u0000\u0000\u0000\u0136\u0134\u0001\u0000\u0000\u0000\u0136\u0137"+
+    "\u0001\u0000\u0000\u0000\u0137)\u0001\u0000\u0000\u0000\u0138\u0136\u0001"+
+    "\u0000\u0000\u0000\u0139\u013e\u0003.\u0017\u0000\u013a\u013b\u0005$\u0000"+
+    "\u0000\u013b\u013d\u0003.\u0017\u0000\u013c\u013a\u0001\u0000\u0000\u0000"+
+    "\u013d\u0140\u0001\u0000\u0000\u0000\u013e\u013c\u0001\u0000\u0000\u0000"+
+    "\u013e\u013f\u0001\u0000\u0000\u0000\u013f+\u0001\u0000\u0000\u0000\u0140"+
+    "\u013e\u0001\u0000\u0000\u0000\u0141\u0142\u0007\u0003\u0000\u0000\u0142"+
+    "-\u0001\u0000\u0000\u0000\u0143\u0144\u0007\u0004\u0000\u0000\u0144/\u0001"+
+    "\u0000\u0000\u0000\u0145\u0170\u0005-\u0000\u0000\u0146\u0147\u0003P("+
+    "\u0000\u0147\u0148\u0005B\u0000\u0000\u0148\u0170\u0001\u0000\u0000\u0000"+
+    "\u0149\u0170\u0003N\'\u0000\u014a\u0170\u0003P(\u0000\u014b\u0170\u0003"+
+    "J%\u0000\u014c\u0170\u00050\u0000\u0000\u014d\u0170\u0003R)\u0000\u014e"+
+    "\u014f\u0005@\u0000\u0000\u014f\u0154\u0003L&\u0000\u0150\u0151\u0005"+
+    "\"\u0000\u0000\u0151\u0153\u0003L&\u0000\u0152\u0150\u0001\u0000\u0000"+
+    "\u0000\u0153\u0156\u0001\u0000\u0000\u0000\u0154\u0152\u0001\u0000\u0000"+
+    "\u0000\u0154\u0155\u0001\u0000\u0000\u0000\u0155\u0157\u0001\u0000\u0000"+
+    "\u0000\u0156\u0154\u0001\u0000\u0000\u0000\u0157\u0158\u0005A\u0000\u0000"+
+    "\u0158\u0170\u0001\u0000\u0000\u0000\u0159\u015a\u0005@\u0000\u0000\u015a"+
+    "\u015f\u0003J%\u0000\u015b\u015c\u0005\"\u0000\u0000\u015c\u015e\u0003"+
+    "J%\u0000\u015d\u015b\u0001\u0000\u0000\u0000\u015e\u0161\u0001\u0000\u0000"+
+    "\u0000\u015f\u015d\u0001\u0000\u0000\u0000\u015f\u0160\u0001\u0000\u0000"+
+    "\u0000\u0160\u0162\u0001\u0000\u0000\u0000\u0161\u015f\u0001\u0000\u0000"+
+    "\u0000\u0162\u0163\u0005A\u0000\u0000\u0163\u0170\u0001\u0000\u0000\u0000"+
+    "\u0164\u0165\u0005@\u0000\u0000\u0165\u016a\u0003R)\u0000\u0166\u0167"+
+    "\u0005\"\u0000\u0000\u0167\u0169\u0003R)\u0000\u0168\u0166\u0001\u0000"+
+    "\u0000\u0000\u0169\u016c\u0001\u0000\u0000\u0000\u016a\u0168\u0001\u0000"+
+    "\u0000\u0000\u016a\u016b\u0001\u0000\u0000\u0000\u016b\u016d\u0001\u0000"+
+    "\u0000\u0000\u016c\u016a\u0001\u0000\u0000\u0000\u016d\u016e\u0005A\u0000"+
+    "\u0000\u016e\u0170\u0001\u0000\u0000\u0000\u016f\u0145\u0001\u0000\u0000"+
+    "\u0000\u016f\u0146\u0001\u0000\u0000\u0000\u016f\u0149\u0001\u0000\u0000"+
+    "\u0000\u016f\u014a\u0001\u0000\u0000\u0000\u016f\u014b\u0001\u0000\u0000"+
+    "\u0000\u016f\u014c\u0001\u0000\u0000\u0000\u016f\u014d\u0001\u0000\u0000"+
+    "\u0000\u016f\u014e\u0001\u0000\u0000\u0000\u016f\u0159\u0001\u0000\u0000"+
+    "\u0000\u016f\u0164\u0001\u0000\u0000\u0000\u01701\u0001\u0000\u0000\u0000"+
+    "\u0171\u0172\u0005\n\u0000\u0000\u0172\u0173\u0005\u001c\u0000\u0000\u0173"+
+    "3\u0001\u0000\u0000\u0000\u0174\u0175\u0005\u0010\u0000\u0000\u0175\u017a"+
+    "\u00036\u001b\u0000\u0176\u0177\u0005\"\u0000\u0000\u0177\u0179\u0003"+
+    "6\u001b\u0000\u0178\u0176\u0001\u0000\u0000\u0000\u0179\u017c\u0001\u0000"+
+    "\u0000\u0000\u017a\u0178\u0001\u0000\u0000\u0000\u017a\u017b\u0001\u0000"+
+    "\u0000\u0000\u017b5\u0001\u0000\u0000\u0000\u017c\u017a\u0001\u0000\u0000"+
+    "\u0000\u017d\u017f\u0003\n\u0005\u0000\u017e\u0180\u0007\u0005\u0000\u0000"+
+    "\u017f\u017e\u0001\u0000\u0000\u0000\u017f\u0180\u0001\u0000\u0000\u0000"+
+    "\u0180\u0183\u0001\u0000\u0000\u0000\u0181\u0182\u0005.\u0000\u0000\u0182"+
+    "\u0184\u0007\u0006\u0000\u0000\u0183\u0181\u0001\u0000\u0000\u0000\u0183"+
+    "\u0184\u0001\u0000\u0000\u0000\u01847\u0001\u0000\u0000\u0000\u0185\u0186"+
+    "\u0005\t\u0000\u0000\u0186\u018b\u0003*\u0015\u0000\u0187\u0188\u0005"+
+    "\"\u0000\u0000\u0188\u018a\u0003*\u0015\u0000\u0189\u0187\u0001\u0000"+
+    "\u0000\u0000\u018a\u018d\u0001\u0000\u0000\u0000\u018b\u0189\u0001\u0000"+
+    "\u0000\u0000\u018b\u018c\u0001\u0000\u0000\u0000\u018c9\u0001\u0000\u0000"+
+    "\u0000\u018d\u018b\u0001\u0000\u0000\u0000\u018e\u018f\u0005\u0002\u0000"+
+    "\u0000\u018f\u0194\u0003*\u0015\u0000\u0190\u0191\u0005\"\u0000\u0000"+
+    "\u0191\u0193\u0003*\u0015\u0000\u0192\u0190\u0001\u0000\u0000\u0000\u0193"+
+    "\u0196\u0001\u0000\u0000\u0000\u0194\u0192\u0001\u0000\u0000\u0000\u0194"+
+    "\u0195\u0001\u0000\u0000\u0000\u0195;\u0001\u0000\u0000\u0000\u0196\u0194"+
+    "\u0001\u0000\u0000\u0000\u0197\u0198\u0005\r\u0000\u0000\u0198\u019d\u0003"+
+    ">\u001f\u0000\u0199\u019a\u0005\"\u0000\u0000\u019a\u019c\u0003>\u001f"+
+    "\u0000\u019b\u0199\u0001\u0000\u0000\u0000\u019c\u019f\u0001\u0000\u0000"+
+    "\u0000\u019d\u019b\u0001\u0000\u0000\u0000\u019d\u019e\u0001\u0000\u0000"+
+    "\u0000\u019e=\u0001\u0000\u0000\u0000\u019f\u019d\u0001\u0000\u0000\u0000"+
+    "\u01a0\u01a1\u0003*\u0015\u0000\u01a1\u01a2\u0005P\u0000\u0000\u01a2\u01a3"+
+    "\u0003*\u0015\u0000\u01a3?\u0001\u0000\u0000\u0000\u01a4\u01a5\u0005\u0001"+
+    "\u0000\u0000\u01a5\u01a6\u0003\u0012\t\u0000\u01a6\u01a8\u0003R)\u0000"+
+    "\u01a7\u01a9\u0003F#\u0000\u01a8\u01a7\u0001\u0000\u0000\u0000\u01a8\u01a9"+
+    "\u0001\u0000\u0000\u0000\u01a9A\u0001\u0000\u0000\u0000\u01aa\u01ab\u0005"+
+    "\u0007\u0000\u0000\u01ab\u01ac\u0003\u0012\t\u0000\u01ac\u01ad\u0003R"+
+    ")\u0000\u01adC\u0001\u0000\u0000\u0000\u01ae\u01af\u0005\f\u0000\u0000"+
+    "\u01af\u01b0\u0003(\u0014\u0000\u01b0E\u0001\u0000\u0000\u0000\u01b1\u01b6"+
+    "\u0003H$\u0000\u01b2\u01b3\u0005\"\u0000\u0000\u01b3\u01b5\u0003H$\u0000"+
+    "\u01b4\u01b2\u0001\u0000\u0000\u0000\u01b5\u01b8\u0001\u0000\u0000\u0000"+
+    "\u01b6\u01b4\u0001\u0000\u0000\u0000\u01b6\u01b7\u0001\u0000\u0000\u0000"+
+    "\u01b7G\u0001\u0000\u0000\u0000\u01b8\u01b6\u0001\u0000\u0000\u0000\u01b9"+
+    "\u01ba\u0003,\u0016\u0000\u01ba\u01bb\u0005!\u0000\u0000\u01bb\u01bc\u0003"+
+    "0\u0018\u0000\u01bcI\u0001\u0000\u0000\u0000\u01bd\u01be\u0007\u0007\u0000"+
+    "\u0000\u01beK\u0001\u0000\u0000\u0000\u01bf\u01c2\u0003N\'\u0000\u01c0"+
+    "\u01c2\u0003P(\u0000\u01c1\u01bf\u0001\u0000\u0000\u0000\u01c1\u01c0\u0001"+
+    "\u0000\u0000\u0000\u01c2M\u0001\u0000\u0000\u0000\u01c3\u01c5\u0007\u0000"+
+    "\u0000\u0000\u01c4\u01c3\u0001\u0000\u0000\u0000\u01c4\u01c5\u0001\u0000"+
+    "\u0000\u0000\u01c5\u01c6\u0001\u0000\u0000\u0000\u01c6\u01c7\u0005\u001d"+
+    "\u0000\u0000\u01c7O\u0001\u0000\u0000\u0000\u01c8\u01ca\u0007\u0000\u0000"+
+    "\u0000\u01c9\u01c8\u0001\u0000\u0000\u0000\u01c9\u01ca\u0001\u0000\u0000"+
+    "\u0000\u01ca\u01cb\u0001\u0000\u0000\u0000\u01cb\u01cc\u0005\u001c\u0000"+
+    "\u0000\u01ccQ\u0001\u0000\u0000\u0000\u01cd\u01ce\u0005\u001b\u0000\u0000"+
+    "\u01ceS\u0001\u0000\u0000\u0000\u01cf\u01d0\u0007\b\u0000\u0000\u01d0"+
+    "U\u0001\u0000\u0000\u0000\u01d1\u01d2\u0005\u0005\u0000\u0000\u01d2\u01d3"+
+    "\u0003X,\u0000\u01d3W\u0001\u0000\u0000\u0000\u01d4\u01d5\u0005@\u0000"+
+    "\u0000\u01d5\u01d6\u0003\u0002\u0001\u0000\u01d6\u01d7\u0005A\u0000\u0000"+
+    "\u01d7Y\u0001\u0000\u0000\u0000\u01d8\u01d9\u0005\u000f\u0000\u0000\u01d9"+
+    "\u01dd\u0005`\u0000\u0000\u01da\u01db\u0005\u000f\u0000\u0000\u01db\u01dd"+
+    "\u0005a\u0000\u0000\u01dc\u01d8\u0001\u0000\u0000\u0000\u01dc\u01da\u0001"+
+    "\u0000\u0000\u0000\u01dd[\u0001\u0000\u0000\u0000\u01de\u01e2\u0005\u0003"+
+    "\u0000\u0000\u01df\u01e1\u0003b1\u0000\u01e0\u01df\u0001\u0000\u0000\u0000"+
+    "\u01e1\u01e4\u0001\u0000\u0000\u0000\u01e2\u01e0\u0001\u0000\u0000\u0000"+
+    "\u01e2\u01e3\u0001\u0000\u0000\u0000\u01e3\u01e5\u0001\u0000\u0000\u0000"+
+    "\u01e4\u01e2\u0001\u0000\u0000\u0000\u01e5\u01e8\u0005V\u0000\u0000\u01e6"+
+    "\u01e7\u0005T\u0000\u0000\u01e7\u01e9\u0003*\u0015\u0000\u01e8\u01e6\u0001"+
+    "\u0000\u0000\u0000\u01e8\u01e9\u0001\u0000\u0000\u0000\u01e9\u01f3\u0001"+
+    "\u0000\u0000\u0000\u01ea\u01eb\u0005U\u0000\u0000\u01eb\u01f0\u0003^/"+
+    "\u0000\u01ec\u01ed\u0005\"\u0000\u0000\u01ed\u01ef\u0003^/\u0000\u01ee"+
+    "\u01ec\u0001\u0000\u0000\u0000\u01ef\u01f2\u0001\u0000\u0000\u0000\u01f0"+
+    "\u01ee\u0001\u0000\u0000\u0000\u01f0\u01f1\u0001\u0000\u0000\u0000\u01f1"+
+    "\u01f4\u0001\u0000\u0000\u0000\u01f2\u01f0\u0001\u0000\u0000\u0000\u01f3"+
+    "\u01ea\u0001\u0000\u0000\u0000\u01f3\u01f4\u0001\u0000\u0000\u0000\u01f4"+
+    "]\u0001\u0000\u0000\u0000\u01f5\u01f6\u0003*\u0015\u0000\u01f6\u01f7\u0005"+
+    "!\u0000\u0000\u01f7\u01f9\u0001\u0000\u0000\u0000\u01f8\u01f5\u0001\u0000"+
+    "\u0000\u0000\u01f8\u01f9\u0001\u0000\u0000\u0000\u01f9\u01fa\u0001\u0000"+
+    "\u0000\u0000\u01fa\u01fb\u0003*\u0015\u0000\u01fb_\u0001\u0000\u0000\u0000"+
+    "\u01fc\u01fd\u0005\u000b\u0000\u0000\u01fd\u01fe\u0005V\u0000\u0000\u01fe"+
+    "\u01ff\u0005T\u0000\u0000\u01ff\u0200\u0003*\u0015\u0000\u0200a\u0001"+
+    "\u0000\u0000\u0000\u0201\u0202\u0005@\u0000\u0000\u0202\u0203\u0005f\u0000"+
+    "\u0000\u0203\u0204\u0005e\u0000\u0000\u0204\u0205\u0005f\u0000\u0000\u0205"+
+    "\u0206\u0005A\u0000\u0000\u0206c\u0001\u0000\u0000\u00002ov\u0086\u0092"+
+    "\u009b\u00a3\u00a7\u00af\u00b1\u00b6\u00bd\u00c2\u00c9\u00cf\u00d7\u00d9"+
+    "\u00e3\u00ed\u00f0\u00fc\u0104\u010c\u0110\u0119\u0123\u0127\u012d\u0136"+
+    "\u013e\u0154\u015f\u016a\u016f\u017a\u017f\u0183\u018b\u0194\u019d\u01a8"+
+    "\u01b6\u01c1\u01c4\u01c9\u01dc\u01e2\u01e8\u01f0\u01f3\u01f8";
   public static final ATN _ATN =
     new ATNDeserializer().deserialize(_serializedATN.toCharArray());
   static {
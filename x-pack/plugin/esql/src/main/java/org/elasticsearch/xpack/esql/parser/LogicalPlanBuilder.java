@@ -22,6 +22,7 @@ import org.elasticsearch.xpack.esql.plan.logical.Explain;
 import org.elasticsearch.xpack.esql.plan.logical.Grok;
 import org.elasticsearch.xpack.esql.plan.logical.InlineStats;
 import org.elasticsearch.xpack.esql.plan.logical.Keep;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.logical.MvExpand;
 import org.elasticsearch.xpack.esql.plan.logical.Rename;
 import org.elasticsearch.xpack.esql.plan.logical.Row;
@@ -328,6 +329,27 @@ public class LogicalPlanBuilder extends ExpressionBuilder {
         };
     }
 
+    @Override
+    public PlanFactory visitLookupCommand(EsqlBaseParser.LookupCommandContext ctx) {
+        return p -> {
+            var source = source(ctx);
+            NamedExpression matchField = visitQualifiedNamePattern(ctx.matchField);
+            if (matchField.name().contains("*")) {
+                throw new ParsingException(source, "Using wildcards (*) in LOOKUP ON is not allowed [{}]", matchField.name());
+            }
+            String tableName = ctx.tableName.getText();
+            return new Lookup(
+                source,
+                p,
+                new Literal(source(ctx.tableName), tableName, DataTypes.KEYWORD),
+                matchField,
+                null,
+                null,
+                null
+            );
+        };
+    }
+
     private Mode enrichMode(List<EsqlBaseParser.SettingContext> setting) {
         if (setting == null || setting.isEmpty()) {
             return null;
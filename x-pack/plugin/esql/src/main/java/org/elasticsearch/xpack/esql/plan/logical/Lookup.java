@@ -0,0 +1,130 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.plan.logical;
+
+import org.elasticsearch.xpack.ql.capabilities.Resolvables;
+import org.elasticsearch.xpack.ql.expression.Attribute;
+import org.elasticsearch.xpack.ql.expression.Expression;
+import org.elasticsearch.xpack.ql.expression.NamedExpression;
+import org.elasticsearch.xpack.ql.index.EsIndex;
+import org.elasticsearch.xpack.ql.plan.logical.LogicalPlan;
+import org.elasticsearch.xpack.ql.plan.logical.UnaryPlan;
+import org.elasticsearch.xpack.ql.tree.NodeInfo;
+import org.elasticsearch.xpack.ql.tree.Source;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.elasticsearch.xpack.esql.expression.NamedExpressions.mergeOutputAttributes;
+
+/**
+ * Joins each row of its child with the rows of the lookup index that have the same
+ * value in the match field. Rows without a match are kept with {@code null}s in
+ * the fields of the lookup index, like {@link Enrich}.
+ */
+public class Lookup extends UnaryPlan {
+    private final Expression tableName;
+    private final NamedExpression matchField;
+    private final EsIndex index;
+    private final NamedExpression lookupKey;
+    private final List<Attribute> lookupFields;
+    private List<Attribute> output;
+
+    /**
+     * @param tableName the name of the lookup index as written in the query
+     * @param matchField the field of the child to match on
+     * @param index the lookup index or {@code null} until it's resolved
+     * @param lookupKey the field of the lookup index to match on or {@code null} until it's resolved
+     * @param lookupFields the fields of the lookup index added to each row, not including the {@code lookupKey}
+     */
+    public Lookup(
+        Source source,
+        LogicalPlan child,
+        Expression tableName,
+        NamedExpression matchField,
+        EsIndex index,
+        NamedExpression lookupKey,
+        List<Attribute> lookupFields
+    ) {
+        super(source, child);
+        this.tableName = tableName;
+        this.matchField = matchField;
+        this.index = index;
+        this.lookupKey = lookupKey;
+        this.lookupFields = lookupFields;
+    }
+
+    public Expression tableName() {
+        return tableName;
+    }
+
+    public NamedExpression matchField() {
+        return matchField;
+    }
+
+    public EsIndex index() {
+        return index;
+    }
+
+    public NamedExpression lookupKey() {
+        return lookupKey;
+    }
+
+    public List<Attribute> lookupFields() {
+        return lookupFields;
+    }
+
+    @Override
+    public boolean expressionsResolved() {
+        return tableName.resolved()
+            && matchField.resolved()
+            && index != null
+            && lookupKey != null
+            && lookupKey.resolved()
+            && Resolvables.resolved(lookupFields);
+    }
+
+    @Override
+    public UnaryPlan replaceChild(LogicalPlan newChild) {
+        return new Lookup(source(), newChild, tableName, matchField, index, lookupKey, lookupFields);
+    }
+
+    @Override
+    protected NodeInfo<? extends LogicalPlan> info() {
+        return NodeInfo.create(this, Lookup::new, child(), tableName, matchField, index, lookupKey, lookupFields);
+    }
+
+    @Override
+    public List<Attribute> output() {
+        if (lookupFields == null) {
+            return child().output();
+        }
+        if (this.output == null) {
+            this.output = mergeOutputAttributes(lookupFields, child().output());
+        }
+        return output;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (super.equals(o) == false) return false;
+        Lookup lookup = (Lookup) o;
+        return Objects.equals(tableName, lookup.tableName)
+            && Objects.equals(matchField, lookup.matchField)
+            && Objects.equals(index, lookup.index)
+            && Objects.equals(lookupKey, lookup.lookupKey)
+            && Objects.equals(lookupFields, lookup.lookupFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), tableName, matchField, index, lookupKey, lookupFields);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+package org.elasticsearch.xpack.esql.plan.physical;
+
+import org.elasticsearch.xpack.ql.expression.Attribute;
+import org.elasticsearch.xpack.ql.expression.NamedExpression;
+import org.elasticsearch.xpack.ql.tree.NodeInfo;
+import org.elasticsearch.xpack.ql.tree.Source;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.elasticsearch.xpack.esql.expression.NamedExpressions.mergeOutputAttributes;
+
+/**
+ * Left joins its child with the rows that {@link #lookup()} reads from the lookup index.
+ * Runs on the coordinating node: the rows of the lookup index are fetched from the data
+ * nodes through their own exchange and hashed on {@link #lookupKey()}, then each page of
+ * the child probes that hash on {@link #matchField()}.
+ */
+public class HashJoinExec extends UnaryExec implements EstimatesRowSize {
+
+    private final FragmentExec lookup;
+    private final NamedExpression matchField;
+    private final Attribute lookupKey;
+    private final List<Attribute> lookupFields;
+
+    /**
+     * @param lookup the plan that reads the lookup index, its output is the {@code lookupKey} followed by the {@code lookupFields}
+     * @param matchField the match field in the source data
+     * @param lookupKey the match field in the lookup index
+     * @param lookupFields the fields of the lookup index added to each row
+     */
+    public HashJoinExec(
+        Source source,
+        PhysicalPlan child,
+        FragmentExec lookup,
+        NamedExpression matchField,
+        Attribute lookupKey,
+        List<Attribute> lookupFields
+    ) {
+        super(source, child);
+        this.lookup = lookup;
+        this.matchField = matchField;
+        this.lookupKey = lookupKey;
+        this.lookupFields = lookupFields;
+    }
+
+    @Override
+    protected NodeInfo<HashJoinExec> info() {
+        return NodeInfo.create(this, HashJoinExec::new, child(), lookup, matchField, lookupKey, lookupFields);
+    }
+
+    @Override
+    public HashJoinExec replaceChild(PhysicalPlan newChild) {
+        return new HashJoinExec(source(), newChild, lookup, matchField, lookupKey, lookupFields);
+    }
+
+    public FragmentExec lookup() {
+        return lookup;
+    }
+
+    public NamedExpression matchField() {
+        return matchField;
+    }
+
+    public Attribute lookupKey() {
+        return lookupKey;
+    }
+
+    public List<Attribute> lookupFields() {
+        return lookupFields;
+    }
+
+    @Override
+    public List<Attribute> output() {
+        return mergeOutputAttributes(lookupFields, child().output());
+    }
+
+    @Override
+    public PhysicalPlan estimateRowSize(State state) {
+        state.add(false, lookupFields);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (super.equals(o) == false) return false;
+        HashJoinExec that = (HashJoinExec) o;
+        return Objects.equals(lookup, that.lookup)
+            && Objects.equals(matchField, that.matchField)
+            && Objects.equals(lookupKey, that.lookupKey)
+            && Objects.equals(lookupFields, that.lookupFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), lookup, matchField, lookupKey, lookupFields);
+    }
+}
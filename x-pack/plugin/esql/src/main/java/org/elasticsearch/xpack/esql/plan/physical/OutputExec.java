@@ -8,6 +8,7 @@
 package org.elasticsearch.xpack.esql.plan.physical;
 
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.xpack.ql.tree.NodeInfo;
 import org.elasticsearch.xpack.ql.tree.Source;
 
@@ -16,28 +17,42 @@ import java.util.function.Consumer;
 public class OutputExec extends UnaryExec {
 
     private final Consumer<Page> pageConsumer;
+    /**
+     * Receives snapshots of the results computed so far. {@code null} if nobody wants them.
+     */
+    @Nullable
+    private final Consumer<Page> partialPageConsumer;
 
     public OutputExec(PhysicalPlan child, Consumer<Page> pageConsumer) {
-        super(null, child);
-        this.pageConsumer = pageConsumer;
+        this(null, child, pageConsumer, null);
+    }
+
+    public OutputExec(PhysicalPlan child, Consumer<Page> pageConsumer, @Nullable Consumer<Page> partialPageConsumer) {
+        this(null, child, pageConsumer, partialPageConsumer);
     }
 
-    public OutputExec(Source source, PhysicalPlan child, Consumer<Page> pageConsumer) {
+    public OutputExec(Source source, PhysicalPlan child, Consumer<Page> pageConsumer, @Nullable Consumer<Page> partialPageConsumer) {
         super(source, child);
         this.pageConsumer = pageConsumer;
+        this.partialPageConsumer = partialPageConsumer;
     }
 
     public Consumer<Page> getPageConsumer() {
         return pageConsumer;
     }
 
+    @Nullable
+    public Consumer<Page> getPartialPageConsumer() {
+        return partialPageConsumer;
+    }
+
     @Override
     public UnaryExec replaceChild(PhysicalPlan newChild) {
-        return new OutputExec(source(), newChild, pageConsumer);
+        return new OutputExec(source(), newChild, pageConsumer, partialPageConsumer);
     }
 
     @Override
     protected NodeInfo<? extends PhysicalPlan> info() {
-        return NodeInfo.create(this, OutputExec::new, child(), pageConsumer);
+        return NodeInfo.create(this, OutputExec::new, child(), pageConsumer, partialPageConsumer);
     }
 }
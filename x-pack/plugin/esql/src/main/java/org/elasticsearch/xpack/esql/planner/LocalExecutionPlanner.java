@@ -34,14 +34,20 @@ import org.elasticsearch.compute.operator.SinkOperator;
 import org.elasticsearch.compute.operator.SinkOperator.SinkOperatorFactory;
 import org.elasticsearch.compute.operator.SourceOperator;
 import org.elasticsearch.compute.operator.SourceOperator.SourceOperatorFactory;
+import org.elasticsearch.compute.operator.SpillConfig;
 import org.elasticsearch.compute.operator.StringExtractOperator;
 import org.elasticsearch.compute.operator.exchange.ExchangeSinkHandler;
 import org.elasticsearch.compute.operator.exchange.ExchangeSinkOperator.ExchangeSinkOperatorFactory;
 import org.elasticsearch.compute.operator.exchange.ExchangeSourceHandler;
 import org.elasticsearch.compute.operator.exchange.ExchangeSourceOperator.ExchangeSourceOperatorFactory;
+import org.elasticsearch.compute.operator.exchange.HashPartitionExchanger;
+import org.elasticsearch.compute.operator.join.HashJoinBridge;
+import org.elasticsearch.compute.operator.join.HashJoinBuildOperator;
+import org.elasticsearch.compute.operator.join.HashJoinOperator;
 import org.elasticsearch.compute.operator.topn.TopNEncoder;
 import org.elasticsearch.compute.operator.topn.TopNOperator;
 import org.elasticsearch.compute.operator.topn.TopNOperator.TopNOperatorFactory;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasables;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.logging.LogManager;
@@ -57,6 +63,7 @@ import org.elasticsearch.xpack.esql.plan.physical.DissectExec;
 import org.elasticsearch.xpack.esql.plan.physical.EnrichExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsQueryExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec;
+import org.elasticsearch.xpack.esql.plan.physical.EstimatesRowSize;
 import org.elasticsearch.xpack.esql.plan.physical.EvalExec;
 import org.elasticsearch.xpack.esql.plan.physical.ExchangeExec;
 import org.elasticsearch.xpack.esql.plan.physical.ExchangeSinkExec;
@@ -64,6 +71,7 @@ import org.elasticsearch.xpack.esql.plan.physical.ExchangeSourceExec;
 import org.elasticsearch.xpack.esql.plan.physical.FieldExtractExec;
 import org.elasticsearch.xpack.esql.plan.physical.FilterExec;
 import org.elasticsearch.xpack.esql.plan.physical.GrokExec;
+import org.elasticsearch.xpack.esql.plan.physical.HashJoinExec;
 import org.elasticsearch.xpack.esql.plan.physical.LimitExec;
 import org.elasticsearch.xpack.esql.plan.physical.LocalSourceExec;
 import org.elasticsearch.xpack.esql.plan.physical.MvExpandExec;
@@ -85,6 +93,7 @@ import org.elasticsearch.xpack.ql.expression.NamedExpression;
 import org.elasticsearch.xpack.ql.expression.Order;
 import org.elasticsearch.xpack.ql.util.Holder;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -116,8 +125,10 @@ public class LocalExecutionPlanner {
     private final EsqlConfiguration configuration;
     private final ExchangeSourceHandler exchangeSourceHandler;
     private final ExchangeSinkHandler exchangeSinkHandler;
+    private final ExchangeSourceHandler joinSourceHandler;
     private final EnrichLookupService enrichLookupService;
     private final PhysicalOperationProviders physicalOperationProviders;
+    private final Path spillDirectory;
 
     public LocalExecutionPlanner(
         String sessionId,
@@ -129,8 +140,10 @@ public class LocalExecutionPlanner {
         EsqlConfiguration configuration,
         ExchangeSourceHandler exchangeSourceHandler,
         ExchangeSinkHandler exchangeSinkHandler,
+        @Nullable ExchangeSourceHandler joinSourceHandler,
         EnrichLookupService enrichLookupService,
-        PhysicalOperationProviders physicalOperationProviders
+        PhysicalOperationProviders physicalOperationProviders,
+        @Nullable Path spillDirectory
     ) {
         this.sessionId = sessionId;
         this.clusterAlias = clusterAlias;
@@ -140,8 +153,10 @@ public class LocalExecutionPlanner {
         this.settings = settings;
         this.exchangeSourceHandler = exchangeSourceHandler;
         this.exchangeSinkHandler = exchangeSinkHandler;
+        this.joinSourceHandler = joinSourceHandler;
         this.enrichLookupService = enrichLookupService;
         this.physicalOperationProviders = physicalOperationProviders;
+        this.spillDirectory = spillDirectory;
         this.configuration = configuration;
     }
 
@@ -155,7 +170,8 @@ public class LocalExecutionPlanner {
             configuration.pragmas(),
             bigArrays,
             blockFactory,
-            settings
+            settings,
+            spillDirectory
         );
 
         // workaround for https://github.com/elastic/elasticsearch/issues/99782
@@ -169,7 +185,15 @@ public class LocalExecutionPlanner {
         final TimeValue statusInterval = configuration.pragmas().statusInterval();
         context.addDriverFactory(
             new DriverFactory(
-                new DriverSupplier(context.bigArrays, context.blockFactory, physicalOperation, statusInterval, settings),
+                new DriverSupplier(
+                    context.bigArrays,
+                    context.blockFactory,
+                    physicalOperation,
+                    statusInterval,
+                    context.queryPragmas().partialResultsInterval(),
+                    context.queryPragmas().vectorizedEval(),
+                    settings
+                ),
                 context.driverParallelism().get()
             )
         );
@@ -218,6 +242,8 @@ public class LocalExecutionPlanner {
         // lookups and joins
         else if (node instanceof EnrichExec enrich) {
             return planEnrich(enrich, context);
+        } else if (node instanceof HashJoinExec join) {
+            return planHashJoin(join, context);
         }
         // output
         else if (node instanceof OutputExec outputExec) {
@@ -231,9 +257,84 @@ public class LocalExecutionPlanner {
 
     private PhysicalOperation planAggregation(AggregateExec aggregate, LocalExecutionPlannerContext context) {
         var source = plan(aggregate.child(), context);
+        int partitions = context.queryPragmas().finalAggregationPartitions();
+        if (partitions > 1
+            && aggregate.getMode() == AggregateExec.Mode.FINAL
+            && aggregate.groupings().isEmpty() == false
+            && aggregate.child() instanceof ExchangeSourceExec exchangeSource
+            && exchangeSource.isIntermediateAgg()
+            && context.driverParallelism().get() == DriverParallelism.SINGLE) {
+            return planPartitionedFinalAggregation(aggregate, source, partitions, context);
+        }
         return physicalOperationProviders.groupingPhysicalOperation(aggregate, source, context);
     }
 
+    /**
+     * Split the final reduction of a grouping aggregation across {@code partitions} drivers. The
+     * intermediate pages coming from the exchange are routed by the hash of their group keys so
+     * each driver finalizes a disjoint slice of the groups. Their output is gathered back into a
+     * single driver which runs whatever comes after the aggregation.
+     */
+    private PhysicalOperation planPartitionedFinalAggregation(
+        AggregateExec aggregate,
+        PhysicalOperation source,
+        int partitions,
+        LocalExecutionPlannerContext context
+    ) {
+        // intermediate pages always have the group keys first, see AbstractPhysicalOperationProviders#intermediateAttributes
+        int[] keyChannels = new int[aggregate.groupings().size()];
+        for (int i = 0; i < keyChannels.length; i++) {
+            keyChannels[i] = i;
+        }
+        int bufferSize = context.queryPragmas().exchangeBufferSize();
+        var partitioner = new HashPartitionExchanger(partitions, keyChannels, bufferSize);
+        var gather = new HashPartitionExchanger(1, new int[0], bufferSize);
+        final TimeValue statusInterval = context.queryPragmas().statusInterval();
+
+        var partitioning = source.withSink(
+            new ExchangeSinkOperatorFactory(partitioner::createExchangeSink, Function.identity()),
+            source.layout
+        );
+        context.addDriverFactory(
+            new DriverFactory(
+                new DriverSupplier(
+                    context.bigArrays,
+                    context.blockFactory,
+                    partitioning,
+                    statusInterval,
+                    TimeValue.ZERO,
+                    context.queryPragmas().vectorizedEval(),
+                    settings
+                ),
+                DriverParallelism.SINGLE
+            )
+        );
+
+        var partition = PhysicalOperation.fromSource(new ExchangeSourceOperatorFactory(partitioner::createExchangeSource), source.layout);
+        var finalAggregation = physicalOperationProviders.groupingPhysicalOperation(aggregate, partition, context);
+        var finalAggregationDrivers = finalAggregation.withSink(
+            new ExchangeSinkOperatorFactory(gather::createExchangeSink, Function.identity()),
+            finalAggregation.layout
+        );
+        context.addDriverFactory(
+            new DriverFactory(
+                new DriverSupplier(
+                    context.bigArrays,
+                    context.blockFactory,
+                    finalAggregationDrivers,
+                    statusInterval,
+                    // each of these drivers only sees some of the groups so their snapshots aren't worth much
+                    TimeValue.ZERO,
+                    context.queryPragmas().vectorizedEval(),
+                    settings
+                ),
+                new DriverParallelism(DriverParallelism.Type.DATA_PARALLELISM, partitions)
+            )
+        );
+
+        return PhysicalOperation.fromSource(new ExchangeSourceOperatorFactory(gather::createExchangeSource), finalAggregation.layout);
+    }
+
     private PhysicalOperation planEsQueryNode(EsQueryExec esQueryExec, LocalExecutionPlannerContext context) {
         return physicalOperationProviders.sourcePhysicalOperation(esQueryExec, context);
     }
@@ -271,7 +372,8 @@ public class LocalExecutionPlanner {
             new OutputOperatorFactory(
                 Expressions.names(output),
                 alignPageToAttributes(output, source.layout),
-                outputExec.getPageConsumer()
+                outputExec.getPageConsumer(),
+                outputExec.getPartialPageConsumer()
             ),
             source.layout
         );
@@ -387,7 +489,8 @@ public class LocalExecutionPlanner {
                 asList(elementTypes),
                 asList(encoders),
                 orders,
-                context.pageSize(2000 + topNExec.estimatedRowSize())
+                context.pageSize(2000 + topNExec.estimatedRowSize()),
+                context.spillConfig()
             ),
             source.layout
         );
@@ -477,6 +580,59 @@ public class LocalExecutionPlanner {
         );
     }
 
+    /**
+     * Plan a driver that reads the lookup side of the join from {@link #joinSourceHandler} into
+     * a hash table and probe that table from the driver of the child. The key of the lookup side
+     * is dropped from the output because the match field already has its value.
+     */
+    private PhysicalOperation planHashJoin(HashJoinExec join, LocalExecutionPlannerContext context) {
+        Objects.requireNonNull(joinSourceHandler, "join ExchangeSourceHandler wasn't provided");
+        PhysicalOperation source = plan(join.child(), context);
+        List<Attribute> lookupOutput = join.lookup().output();
+        List<ElementType> lookupTypes = lookupOutput.stream().map(a -> PlannerUtils.toElementType(a.dataType())).toList();
+        Layout lookupLayout = new Layout.Builder().append(lookupOutput).build();
+        int lookupKeyChannel = lookupLayout.get(join.lookupKey().id()).channel();
+
+        HashJoinBridge bridge = new HashJoinBridge();
+        var build = PhysicalOperation.fromSource(new ExchangeSourceOperatorFactory(joinSourceHandler::createExchangeSource), lookupLayout)
+            .withSink(new HashJoinBuildOperator.Factory(bridge, lookupKeyChannel, lookupTypes), lookupLayout);
+        context.addDriverFactory(
+            new DriverFactory(
+                new DriverSupplier(
+                    context.bigArrays,
+                    context.blockFactory,
+                    build,
+                    context.queryPragmas().statusInterval(),
+                    TimeValue.ZERO,
+                    context.queryPragmas().vectorizedEval(),
+                    settings
+                ),
+                DriverParallelism.SINGLE
+            )
+        );
+
+        Layout.Builder joinedLayout = source.layout.builder();
+        joinedLayout.append(lookupOutput);
+        int matchChannel = source.layout.get(join.matchField().id()).channel();
+        // the probe only splits pages when rows match many times so size them by what the join adds to each row
+        int lookupRowSize = lookupOutput.stream().mapToInt(a -> EstimatesRowSize.estimateSize(a.dataType())).sum();
+        PhysicalOperation joined = source.with(
+            new HashJoinOperator.Factory(bridge, matchChannel, HashJoinOperator.JoinType.LEFT, context.pageSize(lookupRowSize)),
+            joinedLayout.build()
+        );
+
+        int lookupKeyOutputChannel = source.layout.numberOfChannels() + lookupKeyChannel;
+        List<Integer> projection = new ArrayList<>();
+        for (int channel = 0; channel < joined.layout.numberOfChannels(); channel++) {
+            if (channel != lookupKeyOutputChannel) {
+                projection.add(channel);
+            }
+        }
+        Layout.Builder layout = source.layout.builder();
+        layout.append(join.lookupFields());
+        return joined.with(new ProjectOperatorFactory(projection), layout.build());
+    }
+
     private ExpressionEvaluator.Factory toEvaluator(Expression exp, Layout layout) {
         return EvalMapper.toEvaluator(exp, layout);
     }
@@ -665,7 +821,8 @@ public class LocalExecutionPlanner {
         QueryPragmas queryPragmas,
         BigArrays bigArrays,
         BlockFactory blockFactory,
-        Settings settings
+        Settings settings,
+        @Nullable Path spillDirectory
     ) {
         void addDriverFactory(DriverFactory driverFactory) {
             driverFactories.add(driverFactory);
@@ -687,6 +844,19 @@ public class LocalExecutionPlanner {
             }
             return Math.max(SourceOperator.MIN_TARGET_PAGE_SIZE, SourceOperator.TARGET_PAGE_SIZE / estimatedRowSize);
         }
+
+        /**
+         * How operators that can spill their state to disk should do it, or {@code null}
+         * if spilling is disabled for this query.
+         */
+        @Nullable
+        SpillConfig spillConfig() {
+            double threshold = queryPragmas.spillMemoryThreshold();
+            if (threshold <= 0 || spillDirectory == null) {
+                return null;
+            }
+            return new SpillConfig(spillDirectory, threshold);
+        }
     }
 
     record DriverSupplier(
@@ -694,6 +864,8 @@ public class LocalExecutionPlanner {
         BlockFactory blockFactory,
         PhysicalOperation physicalOperation,
         TimeValue statusInterval,
+        TimeValue partialResultsInterval,
+        boolean vectorizedEval,
         Settings settings
     ) implements Function<String, Driver>, Describable {
         @Override
@@ -708,7 +880,7 @@ public class LocalExecutionPlanner {
                 localBreakerSettings.overReservedBytes(),
                 localBreakerSettings.maxOverReservedBytes()
             );
-            var driverContext = new DriverContext(bigArrays, blockFactory.newChildFactory(localBreaker));
+            var driverContext = new DriverContext(bigArrays, blockFactory.newChildFactory(localBreaker), vectorizedEval);
             try {
                 source = physicalOperation.source(driverContext);
                 physicalOperation.operators(operators, driverContext);
@@ -722,6 +894,7 @@ public class LocalExecutionPlanner {
                     operators,
                     sink,
                     statusInterval,
+                    partialResultsInterval,
                     localBreaker
                 );
             } finally {
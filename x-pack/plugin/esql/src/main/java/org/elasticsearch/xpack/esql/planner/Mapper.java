@@ -13,6 +13,7 @@ import org.elasticsearch.xpack.esql.plan.logical.Dissect;
 import org.elasticsearch.xpack.esql.plan.logical.Enrich;
 import org.elasticsearch.xpack.esql.plan.logical.Eval;
 import org.elasticsearch.xpack.esql.plan.logical.Grok;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.logical.MvExpand;
 import org.elasticsearch.xpack.esql.plan.logical.Row;
 import org.elasticsearch.xpack.esql.plan.logical.TopN;
@@ -28,6 +29,7 @@ import org.elasticsearch.xpack.esql.plan.physical.ExchangeExec;
 import org.elasticsearch.xpack.esql.plan.physical.FilterExec;
 import org.elasticsearch.xpack.esql.plan.physical.FragmentExec;
 import org.elasticsearch.xpack.esql.plan.physical.GrokExec;
+import org.elasticsearch.xpack.esql.plan.physical.HashJoinExec;
 import org.elasticsearch.xpack.esql.plan.physical.LimitExec;
 import org.elasticsearch.xpack.esql.plan.physical.LocalSourceExec;
 import org.elasticsearch.xpack.esql.plan.physical.MvExpandExec;
@@ -37,6 +39,7 @@ import org.elasticsearch.xpack.esql.plan.physical.ProjectExec;
 import org.elasticsearch.xpack.esql.plan.physical.RowExec;
 import org.elasticsearch.xpack.esql.plan.physical.ShowExec;
 import org.elasticsearch.xpack.esql.plan.physical.TopNExec;
+import org.elasticsearch.xpack.ql.expression.Attribute;
 import org.elasticsearch.xpack.ql.expression.function.FunctionRegistry;
 import org.elasticsearch.xpack.ql.plan.logical.Aggregate;
 import org.elasticsearch.xpack.ql.plan.logical.EsRelation;
@@ -46,6 +49,9 @@ import org.elasticsearch.xpack.ql.plan.logical.LogicalPlan;
 import org.elasticsearch.xpack.ql.plan.logical.OrderBy;
 import org.elasticsearch.xpack.ql.plan.logical.Project;
 import org.elasticsearch.xpack.ql.plan.logical.UnaryPlan;
+import org.elasticsearch.xpack.ql.util.CollectionUtils;
+
+import java.util.List;
 
 import static org.elasticsearch.xpack.esql.plan.physical.AggregateExec.Mode;
 import static org.elasticsearch.xpack.esql.plan.physical.AggregateExec.Mode.FINAL;
@@ -105,6 +111,12 @@ public class Mapper {
                     child = addExchangeForFragment(enrich.child(), child);
                     return map(enrich, child);
                 }
+                // the lookup index is hashed on the coordinating node so the join runs there too
+                if (p instanceof Lookup lookup) {
+                    assert localMode == false : "lookup must not be included to a fragment and re-planned locally";
+                    child = addExchangeForFragment(lookup.child(), child);
+                    return map(lookup, child);
+                }
                 // in case of a fragment, push to it any current streaming operator
                 if (isPipelineBreaker(p) == false) {
                     return new FragmentExec(p);
@@ -157,6 +169,14 @@ public class Mapper {
             );
         }
 
+        if (p instanceof Lookup lookup) {
+            Attribute lookupKey = lookup.lookupKey().toAttribute();
+            List<Attribute> lookupOutput = CollectionUtils.combine(List.of(lookupKey), lookup.lookupFields());
+            EsRelation relation = new EsRelation(lookup.source(), lookup.index(), lookupOutput, false);
+            FragmentExec fragment = new FragmentExec(new Project(lookup.source(), relation, lookupOutput));
+            return new HashJoinExec(lookup.source(), child, fragment, lookup.matchField(), lookupKey, lookup.lookupFields());
+        }
+
         if (p instanceof MvExpand mvExpand) {
             return new MvExpandExec(mvExpand.source(), map(mvExpand.child()), mvExpand.target(), mvExpand.expanded());
         }
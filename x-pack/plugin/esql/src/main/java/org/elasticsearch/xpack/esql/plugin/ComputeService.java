@@ -26,6 +26,7 @@ import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.concurrent.ThreadContext;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.lucene.ValuesSourceReaderCache;
 import org.elasticsearch.compute.operator.Driver;
 import org.elasticsearch.compute.operator.DriverProfile;
 import org.elasticsearch.compute.operator.DriverTaskRunner;
@@ -35,6 +36,7 @@ import org.elasticsearch.compute.operator.exchange.ExchangeSink;
 import org.elasticsearch.compute.operator.exchange.ExchangeSinkHandler;
 import org.elasticsearch.compute.operator.exchange.ExchangeSourceHandler;
 import org.elasticsearch.core.IOUtils;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
 import org.elasticsearch.core.Releasables;
 import org.elasticsearch.core.Tuple;
@@ -61,15 +63,19 @@ import org.elasticsearch.transport.TransportRequestHandler;
 import org.elasticsearch.transport.TransportRequestOptions;
 import org.elasticsearch.transport.TransportService;
 import org.elasticsearch.xpack.esql.action.EsqlQueryAction;
+import org.elasticsearch.xpack.esql.action.EsqlQueryTask;
 import org.elasticsearch.xpack.esql.enrich.EnrichLookupService;
 import org.elasticsearch.xpack.esql.plan.physical.ExchangeSinkExec;
 import org.elasticsearch.xpack.esql.plan.physical.ExchangeSourceExec;
+import org.elasticsearch.xpack.esql.plan.physical.FragmentExec;
+import org.elasticsearch.xpack.esql.plan.physical.HashJoinExec;
 import org.elasticsearch.xpack.esql.plan.physical.OutputExec;
 import org.elasticsearch.xpack.esql.plan.physical.PhysicalPlan;
 import org.elasticsearch.xpack.esql.planner.EsPhysicalOperationProviders;
 import org.elasticsearch.xpack.esql.planner.LocalExecutionPlanner;
 import org.elasticsearch.xpack.esql.planner.PlannerUtils;
 import org.elasticsearch.xpack.esql.session.EsqlConfiguration;
+import org.elasticsearch.xpack.ql.util.Holder;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -79,6 +85,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static org.elasticsearch.xpack.esql.plugin.EsqlPlugin.ESQL_THREAD_POOL_NAME;
@@ -94,6 +101,8 @@ public class ComputeService {
     private final SearchService searchService;
     private final BigArrays bigArrays;
     private final BlockFactory blockFactory;
+    private final ValuesSourceReaderCache valuesSourceReaderCache;
+    private final SpillDirectory spillDirectory;
 
     private final TransportService transportService;
     private final Executor esqlExecutor;
@@ -110,12 +119,16 @@ public class ComputeService {
         ClusterService clusterService,
         ThreadPool threadPool,
         BigArrays bigArrays,
-        BlockFactory blockFactory
+        BlockFactory blockFactory,
+        ValuesSourceReaderCache valuesSourceReaderCache,
+        SpillDirectory spillDirectory
     ) {
         this.searchService = searchService;
         this.transportService = transportService;
         this.bigArrays = bigArrays.withCircuitBreaking();
         this.blockFactory = blockFactory;
+        this.valuesSourceReaderCache = valuesSourceReaderCache;
+        this.spillDirectory = spillDirectory;
         this.esqlExecutor = threadPool.executor(ESQL_THREAD_POOL_NAME);
         transportService.registerRequestHandler(DATA_ACTION_NAME, this.esqlExecutor, DataNodeRequest::new, new DataNodeRequestHandler());
         transportService.registerRequestHandler(
@@ -146,7 +159,18 @@ public class ComputeService {
             collectedPages.forEach(p -> Releasables.closeExpectNoException(p::releaseBlocks));
             l.onFailure(e);
         });
-        PhysicalPlan coordinatorPlan = new OutputExec(coordinatorAndDataNodePlan.v1(), collectedPages::add);
+        Consumer<Page> pageConsumer = collectedPages::add;
+        Consumer<Page> partialPageConsumer = null;
+        if (rootTask instanceof EsqlQueryTask asyncTask) {
+            // let the async task share the pages as partial results until they are handed to the response
+            listener = ActionListener.runBefore(listener, asyncTask::stopCollecting);
+            pageConsumer = page -> {
+                collectedPages.add(page);
+                asyncTask.onPage(page);
+            };
+            partialPageConsumer = asyncTask::onSnapshot;
+        }
+        PhysicalPlan coordinatorPlan = new OutputExec(coordinatorAndDataNodePlan.v1(), pageConsumer, partialPageConsumer);
         PhysicalPlan dataNodePlan = coordinatorAndDataNodePlan.v2();
         if (dataNodePlan != null && dataNodePlan instanceof ExchangeSinkExec == false) {
             assert false : "expected data node plan starts with an ExchangeSink; got " + dataNodePlan;
@@ -156,6 +180,8 @@ public class ComputeService {
         Map<String, OriginalIndices> clusterToConcreteIndices = transportService.getRemoteClusterService()
             .groupIndices(SearchRequest.DEFAULT_INDICES_OPTIONS, PlannerUtils.planConcreteIndices(physicalPlan).toArray(String[]::new));
         QueryPragmas queryPragmas = configuration.pragmas();
+        Holder<HashJoinExec> join = new Holder<>();
+        physicalPlan.forEachDown(HashJoinExec.class, join::set);
         if (dataNodePlan == null) {
             if (clusterToConcreteIndices.values().stream().allMatch(v -> v.indices().length == 0) == false) {
                 String error = "expected no concrete indices without data node plan; got " + clusterToConcreteIndices;
@@ -163,21 +189,24 @@ public class ComputeService {
                 listener.onFailure(new IllegalStateException(error));
                 return;
             }
-            var computeContext = new ComputeContext(
-                sessionId,
-                RemoteClusterAware.LOCAL_CLUSTER_GROUP_KEY,
-                List.of(),
-                configuration,
-                null,
-                null
-            );
-            runCompute(
-                rootTask,
-                computeContext,
-                coordinatorPlan,
-                listener.map(driverProfiles -> new Result(collectedPages, driverProfiles))
-            );
-            return;
+            if (join.get() == null) {
+                var computeContext = new ComputeContext(
+                    sessionId,
+                    RemoteClusterAware.LOCAL_CLUSTER_GROUP_KEY,
+                    List.of(),
+                    configuration,
+                    null,
+                    null,
+                    null
+                );
+                runCompute(
+                    rootTask,
+                    computeContext,
+                    coordinatorPlan,
+                    listener.map(driverProfiles -> new Result(collectedPages, driverProfiles))
+                );
+                return;
+            }
         } else {
             if (clusterToConcreteIndices.values().stream().allMatch(v -> v.indices().length == 0)) {
                 var error = "expected concrete indices with data node plan but got empty; data node plan " + dataNodePlan;
@@ -198,14 +227,30 @@ public class ComputeService {
             queryPragmas.exchangeBufferSize(),
             transportService.getThreadPool().executor(ESQL_THREAD_POOL_NAME)
         );
+        // the rows of the lookup index come back through their own exchange to be hashed here
+        final var joinSource = join.get() == null
+            ? null
+            : new ExchangeSourceHandler(
+                queryPragmas.exchangeBufferSize(),
+                transportService.getThreadPool().executor(ESQL_THREAD_POOL_NAME)
+            );
         try (
             Releasable ignored = exchangeSource.addEmptySink();
+            Releasable ignoredJoin = joinSource == null ? () -> {} : joinSource.addEmptySink();
             RefCountingListener refs = new RefCountingListener(listener.map(unused -> new Result(collectedPages, collectedProfiles)))
         ) {
             // run compute on the coordinator
             runCompute(
                 rootTask,
-                new ComputeContext(sessionId, RemoteClusterAware.LOCAL_CLUSTER_GROUP_KEY, List.of(), configuration, exchangeSource, null),
+                new ComputeContext(
+                    sessionId,
+                    RemoteClusterAware.LOCAL_CLUSTER_GROUP_KEY,
+                    List.of(),
+                    configuration,
+                    exchangeSource,
+                    null,
+                    joinSource
+                ),
                 coordinatorPlan,
                 cancelOnFailure(rootTask, cancelled, refs.acquire()).map(driverProfiles -> {
                     responseHeadersCollector.collect();
@@ -236,6 +281,28 @@ public class ComputeService {
                     })
                 );
             }
+            // reads the lookup index on the data nodes of the main cluster into the join on the coordinator
+            if (joinSource != null) {
+                FragmentExec lookup = join.get().lookup();
+                startComputeOnDataNodes(
+                    sessionId + "/lookup",
+                    RemoteClusterAware.LOCAL_CLUSTER_GROUP_KEY,
+                    rootTask,
+                    configuration,
+                    new ExchangeSinkExec(lookup.source(), lookup.output(), false, lookup),
+                    PlannerUtils.planConcreteIndices(lookup),
+                    PlannerUtils.planOriginalIndices(lookup),
+                    joinSource,
+                    ActionListener.releaseAfter(refs.acquire(), joinSource.addEmptySink()),
+                    () -> cancelOnFailure(rootTask, cancelled, refs.acquire()).map(response -> {
+                        responseHeadersCollector.collect();
+                        if (configuration.profile()) {
+                            collectedProfiles.addAll(response.getProfiles());
+                        }
+                        return null;
+                    })
+                );
+            }
             // starts computes on remote cluster
             startComputeOnRemoteClusters(
                 sessionId,
@@ -299,7 +366,10 @@ public class ComputeService {
                 // For each target node, first open a remote exchange on the remote node, then link the exchange source to
                 // the new remote exchange sink, and initialize the computation on the target node via data-node-request.
                 for (DataNode node : dataNodes) {
-                    var dataNodeListener = ActionListener.releaseAfter(dataNodeListenerSupplier.get(), refs.acquire());
+                    var dataNodeListener = ActionListener.releaseAfter(
+                        trackProgress(parentTask, node, dataNodeListenerSupplier.get()),
+                        refs.acquire()
+                    );
                     var queryPragmas = configuration.pragmas();
                     ExchangeService.openExchange(
                         transportService,
@@ -325,6 +395,25 @@ public class ComputeService {
         }, parentListener::onFailure));
     }
 
+    /**
+     * Report the progress of an async query as each data node completes its shards.
+     */
+    private static ActionListener<ComputeResponse> trackProgress(
+        CancellableTask parentTask,
+        DataNode node,
+        ActionListener<ComputeResponse> listener
+    ) {
+        if (parentTask instanceof EsqlQueryTask asyncTask) {
+            int shards = node.shardIds.size();
+            asyncTask.addShards(shards);
+            return listener.map(response -> {
+                asyncTask.onShardsCompleted(shards);
+                return response;
+            });
+        }
+        return listener;
+    }
+
     private void startComputeOnRemoteClusters(
         String sessionId,
         CancellableTask rootTask,
@@ -404,8 +493,10 @@ public class ComputeService {
                 context.configuration,
                 context.exchangeSource(),
                 context.exchangeSink(),
+                context.joinSource(),
                 enrichLookupService,
-                new EsPhysicalOperationProviders(contexts)
+                new EsPhysicalOperationProviders(contexts, valuesSourceReaderCache),
+                spillDirectory.path()
             );
 
             LOGGER.debug("Received physical plan:\n{}", plan);
@@ -629,7 +720,7 @@ public class ComputeService {
             List<ShardId> shardIds = request.shardIds().subList(startBatchIndex, endBatchIndex);
             acquireSearchContexts(clusterAlias, shardIds, configuration, request.aliasFilters(), ActionListener.wrap(searchContexts -> {
                 assert ThreadPool.assertCurrentThreadPool(ESQL_THREAD_POOL_NAME, ESQL_WORKER_THREAD_POOL_NAME);
-                var computeContext = new ComputeContext(sessionId, clusterAlias, searchContexts, configuration, null, exchangeSink);
+                var computeContext = new ComputeContext(sessionId, clusterAlias, searchContexts, configuration, null, exchangeSink, null);
                 runCompute(
                     parentTask,
                     computeContext,
@@ -749,7 +840,7 @@ public class ComputeService {
             );
             runCompute(
                 parentTask,
-                new ComputeContext(localSessionId, clusterAlias, List.of(), configuration, exchangeSource, exchangeSink),
+                new ComputeContext(localSessionId, clusterAlias, List.of(), configuration, exchangeSource, exchangeSink, null),
                 coordinatorPlan,
                 cancelOnFailure(parentTask, cancelled, refs.acquire()).map(driverProfiles -> {
                     responseHeadersCollector.collect();
@@ -786,6 +877,7 @@ public class ComputeService {
         List<SearchContext> searchContexts,
         EsqlConfiguration configuration,
         ExchangeSourceHandler exchangeSource,
-        ExchangeSinkHandler exchangeSink
+        ExchangeSinkHandler exchangeSink,
+        @Nullable ExchangeSourceHandler joinSource
     ) {}
 }
@@ -23,6 +23,7 @@ import org.elasticsearch.common.util.concurrent.EsExecutors;
 import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.lucene.LuceneOperator;
+import org.elasticsearch.compute.lucene.ValuesSourceReaderCache;
 import org.elasticsearch.compute.lucene.ValuesSourceReaderOperator;
 import org.elasticsearch.compute.operator.AbstractPageMappingOperator;
 import org.elasticsearch.compute.operator.DriverStatus;
@@ -32,6 +33,7 @@ import org.elasticsearch.compute.operator.exchange.ExchangeService;
 import org.elasticsearch.compute.operator.exchange.ExchangeSinkOperator;
 import org.elasticsearch.compute.operator.exchange.ExchangeSourceOperator;
 import org.elasticsearch.compute.operator.topn.TopNOperatorStatus;
+import org.elasticsearch.core.Releasables;
 import org.elasticsearch.features.NodeFeature;
 import org.elasticsearch.plugins.ActionPlugin;
 import org.elasticsearch.plugins.Plugin;
@@ -55,6 +57,7 @@ import org.elasticsearch.xpack.esql.querydsl.query.SingleValueQuery;
 import org.elasticsearch.xpack.esql.type.EsqlDataTypeRegistry;
 import org.elasticsearch.xpack.ql.index.IndexResolver;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -86,6 +89,18 @@ public class EsqlPlugin extends Plugin implements ActionPlugin {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Size of the node level cache of doc values decoded by {@link ValuesSourceReaderOperator}.
+     * Disabled by default.
+     */
+    public static final Setting<ByteSizeValue> VALUES_SOURCE_READER_CACHE_SIZE = Setting.memorySizeSetting(
+        "esql.values_source_reader.cache.size",
+        ByteSizeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    private ValuesSourceReaderCache valuesSourceReaderCache;
+
     @Override
     public Collection<?> createComponents(PluginServices services) {
         CircuitBreaker circuitBreaker = services.indicesService().getBigArrays().breakerService().getBreaker("request");
@@ -97,6 +112,11 @@ public class EsqlPlugin extends Plugin implements ActionPlugin {
         );
         BigArrays bigArrays = services.indicesService().getBigArrays().withCircuitBreaking();
         BlockFactory blockFactory = new BlockFactory(circuitBreaker, bigArrays, maxPrimitiveArrayBlockSize);
+        long valuesSourceReaderCacheSize = VALUES_SOURCE_READER_CACHE_SIZE.get(settings).getBytes();
+        valuesSourceReaderCache = new ValuesSourceReaderCache(
+            ValuesSourceReaderCache.cacheBlockFactory(valuesSourceReaderCacheSize, maxPrimitiveArrayBlockSize),
+            valuesSourceReaderCacheSize
+        );
         return List.of(
             new PlanExecutor(
                 new IndexResolver(
@@ -112,10 +132,18 @@ public class EsqlPlugin extends Plugin implements ActionPlugin {
                 EsqlPlugin.ESQL_THREAD_POOL_NAME,
                 blockFactory
             ),
-            blockFactory
+            blockFactory,
+            valuesSourceReaderCache,
+            new SpillDirectory(services.environment().tmpFile())
         );
     }
 
+    @Override
+    public void close() throws IOException {
+        // release the cached blocks when the node shuts down
+        Releasables.close(valuesSourceReaderCache);
+    }
+
     /**
      * The settings defined by the ESQL plugin.
      *
@@ -123,7 +151,7 @@ public class EsqlPlugin extends Plugin implements ActionPlugin {
      */
     @Override
     public List<Setting<?>> getSettings() {
-        return List.of(QUERY_RESULT_TRUNCATION_DEFAULT_SIZE, QUERY_RESULT_TRUNCATION_MAX_SIZE);
+        return List.of(QUERY_RESULT_TRUNCATION_DEFAULT_SIZE, QUERY_RESULT_TRUNCATION_MAX_SIZE, VALUES_SOURCE_READER_CACHE_SIZE);
     }
 
     @Override
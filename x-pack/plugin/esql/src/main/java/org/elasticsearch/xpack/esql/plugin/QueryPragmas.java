@@ -55,6 +55,33 @@ public final class QueryPragmas implements Writeable {
 
     public static final Setting<Integer> MAX_CONCURRENT_SHARDS_PER_NODE = Setting.intSetting("max_concurrent_shards_per_node", 10, 1, 100);
 
+    /**
+     * The number of hash partitions the final reduction of a grouping aggregation is split into
+     * on the coordinator. Each partition is finalized by its own driver. {@code 1} runs the final
+     * reduction in a single driver.
+     */
+    public static final Setting<Integer> FINAL_AGGREGATION_PARTITIONS = Setting.intSetting("final_aggregation_partitions", 1, 1, 128);
+
+    /**
+     * The fraction of the request circuit breaker's limit above which grouping aggregation
+     * operators spill their state to disk. Defaults to {@code 0} which disables spilling.
+     */
+    public static final Setting<Double> SPILL_MEMORY_THRESHOLD = Setting.doubleSetting("spill_memory_threshold", 0.0, 0.0, 1.0);
+
+    /**
+     * The minimum interval between flushes of the intermediate state of aggregations and
+     * snapshots of the results computed so far. {@code 0} disables partial results. Async
+     * queries default to {@link #DEFAULT_ASYNC_PARTIAL_RESULTS_INTERVAL}.
+     */
+    public static final Setting<TimeValue> PARTIAL_RESULTS_INTERVAL = Setting.timeSetting("partial_results_interval", TimeValue.ZERO);
+
+    public static final TimeValue DEFAULT_ASYNC_PARTIAL_RESULTS_INTERVAL = TimeValue.timeValueSeconds(1);
+
+    /**
+     * Should arithmetic and comparisons over dense numeric vectors be evaluated in bulk?
+     */
+    public static final Setting<Boolean> VECTORIZED_EVAL = Setting.boolSetting("vectorized_eval", true);
+
     public static final QueryPragmas EMPTY = new QueryPragmas(Settings.EMPTY);
 
     private final Settings settings;
@@ -124,6 +151,44 @@ public final class QueryPragmas implements Writeable {
         return MAX_CONCURRENT_SHARDS_PER_NODE.get(settings);
     }
 
+    /**
+     * The number of partitions the final reduction of a grouping aggregation is split into.
+     */
+    public int finalAggregationPartitions() {
+        return FINAL_AGGREGATION_PARTITIONS.get(settings);
+    }
+
+    /**
+     * The fraction of the request circuit breaker's limit above which grouping aggregation
+     * operators spill their state to disk. {@code 0} disables spilling.
+     */
+    public double spillMemoryThreshold() {
+        return SPILL_MEMORY_THRESHOLD.get(settings);
+    }
+
+    /**
+     * The minimum interval between partial results. {@code 0} disables them.
+     */
+    public TimeValue partialResultsInterval() {
+        return PARTIAL_RESULTS_INTERVAL.get(settings);
+    }
+
+    /**
+     * The pragmas for an async query. Those report partial results unless the request says otherwise.
+     */
+    public QueryPragmas forAsyncQuery() {
+        if (PARTIAL_RESULTS_INTERVAL.exists(settings)) {
+            return this;
+        }
+        return new QueryPragmas(
+            Settings.builder().put(settings).put(PARTIAL_RESULTS_INTERVAL.getKey(), DEFAULT_ASYNC_PARTIAL_RESULTS_INTERVAL).build()
+        );
+    }
+
+    public boolean vectorizedEval() {
+        return VECTORIZED_EVAL.get(settings);
+    }
+
     public boolean isEmpty() {
         return settings.isEmpty();
     }
@@ -0,0 +1,19 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.plugin;
+
+import org.elasticsearch.env.Environment;
+
+import java.nio.file.Path;
+
+/**
+ * The directory that operators on this node spill their state to. It's the node's
+ * {@link Environment#tmpFile() temporary directory} which the security manager
+ * already lets us write to.
+ */
+public record SpillDirectory(Path path) {}
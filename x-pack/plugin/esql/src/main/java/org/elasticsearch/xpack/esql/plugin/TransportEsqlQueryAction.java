@@ -19,6 +19,7 @@ import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.concurrent.EsExecutors;
 import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.lucene.ValuesSourceReaderCache;
 import org.elasticsearch.compute.operator.exchange.ExchangeService;
 import org.elasticsearch.search.SearchService;
 import org.elasticsearch.tasks.CancellableTask;
@@ -57,6 +58,7 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
     private final ComputeService computeService;
     private final ExchangeService exchangeService;
     private final ClusterService clusterService;
+    private final BlockFactory blockFactory;
     private final Executor requestExecutor;
     private final EnrichPolicyResolver enrichPolicyResolver;
     private final EnrichLookupService enrichLookupService;
@@ -74,6 +76,8 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
         ThreadPool threadPool,
         BigArrays bigArrays,
         BlockFactory blockFactory,
+        ValuesSourceReaderCache valuesSourceReaderCache,
+        SpillDirectory spillDirectory,
         Client client,
         NamedWriteableRegistry registry
 
@@ -82,6 +86,7 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
         super(EsqlQueryAction.NAME, transportService, actionFilters, EsqlQueryRequest::new, EsExecutors.DIRECT_EXECUTOR_SERVICE);
         this.planExecutor = planExecutor;
         this.clusterService = clusterService;
+        this.blockFactory = blockFactory;
         this.requestExecutor = threadPool.executor(EsqlPlugin.ESQL_THREAD_POOL_NAME);
         exchangeService.registerTransportHandler(transportService);
         this.exchangeService = exchangeService;
@@ -95,7 +100,9 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
             clusterService,
             threadPool,
             bigArrays,
-            blockFactory
+            blockFactory,
+            valuesSourceReaderCache,
+            spillDirectory
         );
         this.asyncTaskManagementService = new AsyncTaskManagementService<>(
             XPackPlugin.ASYNC_RESULTS_INDEX,
@@ -150,7 +157,7 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
             // TODO: plug-in security
             null,
             clusterService.getClusterName().value(),
-            request.pragmas(),
+            task instanceof EsqlQueryTask ? request.pragmas().forAsyncQuery() : request.pragmas(),
             clusterService.getClusterSettings().get(EsqlPlugin.QUERY_RESULT_TRUNCATION_MAX_SIZE),
             clusterService.getClusterSettings().get(EsqlPlugin.QUERY_RESULT_TRUNCATION_DEFAULT_SIZE),
             request.query(),
@@ -162,17 +169,20 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
             sessionId,
             configuration,
             enrichPolicyResolver,
-            listener.delegateFailureAndWrap(
-                (delegate, physicalPlan) -> computeService.execute(
+            listener.delegateFailureAndWrap((delegate, physicalPlan) -> {
+                List<ColumnInfo> columns = physicalPlan.output()
+                    .stream()
+                    .map(c -> new ColumnInfo(c.qualifiedName(), EsqlDataTypes.outputType(c.dataType())))
+                    .toList();
+                if (task instanceof EsqlQueryTask asyncTask) {
+                    asyncTask.setColumns(columns, request.columnar());
+                }
+                computeService.execute(
                     sessionId,
                     (CancellableTask) task,
                     physicalPlan,
                     configuration,
                     delegate.map(result -> {
-                        List<ColumnInfo> columns = physicalPlan.output()
-                            .stream()
-                            .map(c -> new ColumnInfo(c.qualifiedName(), EsqlDataTypes.outputType(c.dataType())))
-                            .toList();
                         EsqlQueryResponse.Profile profile = configuration.profile()
                             ? new EsqlQueryResponse.Profile(result.profiles())
                             : null;
@@ -183,8 +193,8 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
                             return new EsqlQueryResponse(columns, result.pages(), profile, request.columnar(), request.async());
                         }
                     })
-                )
-            )
+                );
+            })
         );
     }
 
@@ -225,7 +235,8 @@ public class TransportEsqlQueryAction extends HandledTransportAction<EsqlQueryRe
             headers,
             originHeaders,
             asyncExecutionId,
-            request.keepAlive()
+            request.keepAlive(),
+            blockFactory
         );
     }
 
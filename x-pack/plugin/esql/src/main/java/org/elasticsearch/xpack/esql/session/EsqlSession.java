@@ -9,8 +9,10 @@ package org.elasticsearch.xpack.esql.session;
 
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.fieldcaps.FieldCapabilities;
+import org.elasticsearch.action.support.RefCountingListener;
 import org.elasticsearch.common.Strings;
 import org.elasticsearch.common.regex.Regex;
+import org.elasticsearch.common.util.concurrent.ConcurrentCollections;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.logging.LogManager;
 import org.elasticsearch.logging.Logger;
@@ -140,12 +142,36 @@ public class EsqlSession {
             return;
         }
 
-        preAnalyze(parsed, (indices, policies) -> {
-            Analyzer analyzer = new Analyzer(new AnalyzerContext(configuration, functionRegistry, indices, policies), verifier);
+        preAnalyzeLookups(parsed, listener.delegateFailureAndWrap((l, lookups) -> preAnalyze(parsed, (indices, policies) -> {
+            Analyzer analyzer = new Analyzer(new AnalyzerContext(configuration, functionRegistry, indices, policies, lookups), verifier);
             var plan = analyzer.analyze(parsed);
             LOGGER.debug("Analyzed plan:\n{}", plan);
             return plan;
-        }, listener);
+        }, l)));
+    }
+
+    /**
+     * Resolves the indices of the LOOKUP commands. All of their fields are joined to the rows
+     * so, unlike the main index, they are resolved with all of their fields.
+     */
+    private void preAnalyzeLookups(LogicalPlan parsed, ActionListener<Map<String, IndexResolution>> listener) {
+        PreAnalyzer.PreAnalysis preAnalysis = preAnalyzer.preAnalyze(parsed);
+        Set<String> tables = preAnalysis.lookups.stream().map(l -> (String) l.tableName().fold()).collect(Collectors.toSet());
+        Map<String, IndexResolution> resolutions = ConcurrentCollections.newConcurrentMap();
+        try (RefCountingListener refs = new RefCountingListener(listener.map(unused -> resolutions))) {
+            for (String table : tables) {
+                indexResolver.resolveAsMergedMapping(
+                    table,
+                    IndexResolver.ALL_FIELDS,
+                    false,
+                    Map.of(),
+                    refs.acquire(resolution -> resolutions.put(table, resolution)),
+                    EsqlSession::specificValidity,
+                    IndexResolver.PRESERVE_PROPERTIES,
+                    IndexResolver.INDEX_METADATA_FIELD
+                );
+            }
+        }
     }
 
     private <T> void preAnalyze(LogicalPlan parsed, BiFunction<IndexResolution, EnrichResolution, T> action, ActionListener<T> listener) {
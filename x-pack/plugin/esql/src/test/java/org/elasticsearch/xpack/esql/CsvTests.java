@@ -16,6 +16,7 @@ import org.elasticsearch.common.Randomness;
 import org.elasticsearch.common.breaker.CircuitBreaker;
 import org.elasticsearch.common.collect.Iterators;
 import org.elasticsearch.common.logging.HeaderWarning;
+import org.elasticsearch.common.lucene.BytesRefs;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.util.BigArrays;
@@ -63,7 +64,10 @@ import org.elasticsearch.xpack.esql.optimizer.TestLocalPhysicalPlanOptimizer;
 import org.elasticsearch.xpack.esql.optimizer.TestPhysicalPlanOptimizer;
 import org.elasticsearch.xpack.esql.parser.EsqlParser;
 import org.elasticsearch.xpack.esql.plan.logical.Enrich;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.physical.EstimatesRowSize;
+import org.elasticsearch.xpack.esql.plan.physical.ExchangeSinkExec;
+import org.elasticsearch.xpack.esql.plan.physical.HashJoinExec;
 import org.elasticsearch.xpack.esql.plan.physical.LocalSourceExec;
 import org.elasticsearch.xpack.esql.plan.physical.OutputExec;
 import org.elasticsearch.xpack.esql.plan.physical.PhysicalPlan;
@@ -84,6 +88,7 @@ import org.elasticsearch.xpack.ql.expression.function.FunctionRegistry;
 import org.elasticsearch.xpack.ql.index.EsIndex;
 import org.elasticsearch.xpack.ql.index.IndexResolution;
 import org.elasticsearch.xpack.ql.plan.logical.LogicalPlan;
+import org.elasticsearch.xpack.ql.util.Holder;
 import org.junit.After;
 import org.junit.Before;
 import org.mockito.Mockito;
@@ -92,6 +97,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -288,6 +294,23 @@ public class CsvTests extends ESTestCase {
         return enrichResolution;
     }
 
+    private static Map<String, IndexResolution> loadLookupResolutions(LogicalPlan parsed) {
+        Map<String, IndexResolution> resolutions = new HashMap<>();
+        parsed.forEachUp(Lookup.class, lookup -> {
+            var dataset = lookupDataset(BytesRefs.toString(lookup.tableName().fold()));
+            resolutions.put(dataset.indexName(), loadIndexResolution(dataset.mappingFileName(), dataset.indexName()));
+        });
+        return resolutions;
+    }
+
+    private static CsvTestsDataLoader.TestsDataset lookupDataset(String indexName) {
+        var dataset = CSV_DATASET_MAP.get(indexName);
+        if (dataset == null) {
+            throw new IllegalArgumentException("unknown CSV dataset for lookup table [" + indexName + "]");
+        }
+        return dataset;
+    }
+
     private static EnrichPolicy loadEnrichPolicyMapping(String policyFileName) {
         URL policyMapping = CsvTestsDataLoader.class.getResource("/" + policyFileName);
         assertThat(policyMapping, is(notNullValue()));
@@ -302,7 +325,11 @@ public class CsvTests extends ESTestCase {
     private PhysicalPlan physicalPlan(LogicalPlan parsed, CsvTestsDataLoader.TestsDataset dataset) {
         var indexResolution = loadIndexResolution(dataset.mappingFileName(), dataset.indexName());
         var enrichPolicies = loadEnrichPolicies();
-        var analyzer = new Analyzer(new AnalyzerContext(configuration, functionRegistry, indexResolution, enrichPolicies), TEST_VERIFIER);
+        var lookups = loadLookupResolutions(parsed);
+        var analyzer = new Analyzer(
+            new AnalyzerContext(configuration, functionRegistry, indexResolution, enrichPolicies, lookups),
+            TEST_VERIFIER
+        );
         var analyzed = analyzer.analyze(parsed);
         var logicalOptimized = new LogicalPlanOptimizer(new LogicalOptimizerContext(configuration)).optimize(analyzed);
         var physicalPlan = mapper.map(logicalOptimized);
@@ -340,6 +367,8 @@ public class CsvTests extends ESTestCase {
         String sessionId = "csv-test";
         ExchangeSourceHandler exchangeSource = new ExchangeSourceHandler(between(1, 64), threadPool.executor(ESQL_THREAD_POOL_NAME));
         ExchangeSinkHandler exchangeSink = new ExchangeSinkHandler(between(1, 64), threadPool::relativeTimeInMillis);
+        ExchangeSourceHandler joinSource = new ExchangeSourceHandler(between(1, 64), threadPool.executor(ESQL_THREAD_POOL_NAME));
+        ExchangeSinkHandler joinSink = new ExchangeSinkHandler(between(1, 64), threadPool::relativeTimeInMillis);
         Settings.Builder settings = Settings.builder();
 
         BlockFactory blockFactory = new BlockFactory(
@@ -357,8 +386,10 @@ public class CsvTests extends ESTestCase {
             configuration,
             exchangeSource,
             exchangeSink,
+            joinSource,
             Mockito.mock(EnrichLookupService.class),
-            testOperationProviders(testDataset)
+            testOperationProviders(testDataset),
+            createTempDir()
         );
         //
         // Keep in sync with ComputeService#execute
@@ -404,6 +435,37 @@ public class CsvTests extends ESTestCase {
                 drivers.addAll(dataNodeExecutionPlan.createDrivers(sessionId));
                 Randomness.shuffle(drivers);
             }
+            Holder<HashJoinExec> join = new Holder<>();
+            physicalPlan.forEachDown(HashJoinExec.class, join::set);
+            if (join.get() != null) {
+                // the lookup index is read on its own "data node" with a planner that sees only its data
+                var lookup = join.get().lookup();
+                var lookupDataset = lookupDataset(PlannerUtils.planOriginalIndices(lookup)[0]);
+                LocalExecutionPlanner lookupPlanner = new LocalExecutionPlanner(
+                    sessionId,
+                    "",
+                    new CancellableTask(1, "transport", "esql", null, TaskId.EMPTY_TASK_ID, Map.of()),
+                    bigArrays,
+                    blockFactory,
+                    randomNodeSettings(),
+                    configuration,
+                    null,
+                    joinSink,
+                    null,
+                    Mockito.mock(EnrichLookupService.class),
+                    testOperationProviders(lookupDataset),
+                    createTempDir()
+                );
+                var searchStats = new DisabledSearchStats();
+                var lookupPlan = PlannerUtils.localPlan(
+                    new ExchangeSinkExec(lookup.source(), lookup.output(), false, lookup),
+                    new LocalLogicalPlanOptimizer(new LocalLogicalOptimizerContext(configuration, searchStats)),
+                    new TestLocalPhysicalPlanOptimizer(new LocalPhysicalOptimizerContext(configuration, searchStats))
+                );
+                joinSource.addRemoteSink(joinSink::fetchPageAsync, randomIntBetween(1, 3));
+                drivers.addAll(lookupPlanner.plan(lookupPlan).createDrivers(sessionId));
+                Randomness.shuffle(drivers);
+            }
             // Execute the driver
             DriverRunner runner = new DriverRunner(threadPool.getThreadContext()) {
                 @Override
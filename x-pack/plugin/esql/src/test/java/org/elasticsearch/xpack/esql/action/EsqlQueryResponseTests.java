@@ -386,6 +386,26 @@ public class EsqlQueryResponseTests extends AbstractChunkedSerializingTestCase<E
         }
     }
 
+    public void testBasicXContentPartial() {
+        try (
+            EsqlQueryResponse response = new EsqlQueryResponse(
+                List.of(new ColumnInfo("foo", "integer")),
+                List.of(new Page(blockFactory.newIntArrayVector(new int[] { 40 }, 1).asBlock())),
+                null,
+                false,
+                "id-123",
+                true,
+                true,
+                new EsqlQueryResponse.Progress(5, 2)
+            )
+        ) {
+            assertTrue(response.isPartial());
+            assertThat(Strings.toString(response), equalTo("""
+                {"id":"id-123","is_running":true,"is_partial":true,"progress":{"total_shards":5,"completed_shards":2},\
+                "columns":[{"name":"foo","type":"integer"}],"values":[[40]]}"""));
+        }
+    }
+
     public void testNullColumnsXContentDropNulls() {
         try (
             EsqlQueryResponse response = new EsqlQueryResponse(
@@ -0,0 +1,125 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.action;
+
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.MockBigArrays;
+import org.elasticsearch.common.util.PageCacheRecycler;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.tasks.TaskId;
+import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.xpack.core.async.AsyncExecutionId;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class EsqlQueryTaskTests extends ESTestCase {
+    private BlockFactory blockFactory;
+
+    @Before
+    public void newBlockFactory() {
+        BigArrays bigArrays = new MockBigArrays(PageCacheRecycler.NON_RECYCLING_INSTANCE, ByteSizeValue.ofGb(1)).withCircuitBreaking();
+        blockFactory = new BlockFactory(bigArrays.breakerService().getBreaker(CircuitBreaker.REQUEST), bigArrays);
+    }
+
+    @After
+    public void blockFactoryEmpty() {
+        assertThat(blockFactory.breaker().getUsed(), equalTo(0L));
+    }
+
+    private EsqlQueryTask task() {
+        return new EsqlQueryTask(
+            1,
+            "transport",
+            EsqlQueryAction.NAME,
+            "test",
+            TaskId.EMPTY_TASK_ID,
+            Map.of(),
+            Map.of(),
+            new AsyncExecutionId("0", new TaskId("node", 1)),
+            TimeValue.timeValueMinutes(1),
+            blockFactory
+        );
+    }
+
+    public void testPartialResults() {
+        EsqlQueryTask task = task();
+        task.setColumns(List.of(new ColumnInfo("foo", "integer")), false);
+        task.addShards(3);
+        task.addShards(2);
+        task.onShardsCompleted(2);
+        Page page = new Page(blockFactory.newIntArrayVector(new int[] { 40, 80 }, 2).asBlock());
+        try {
+            task.onPage(page);
+            try (EsqlQueryResponse response = task.getCurrentResult()) {
+                assertTrue(response.isRunning());
+                assertTrue(response.isPartial());
+                assertThat(response.progress(), equalTo(new EsqlQueryResponse.Progress(5, 2)));
+                assertThat(response.columns(), equalTo(List.of(new ColumnInfo("foo", "integer"))));
+                assertThat(response.pages(), hasSize(1));
+                IntBlock copy = response.pages().get(0).getBlock(0);
+                assertNotSame(page.getBlock(0), copy);
+                assertThat(copy.getInt(0), equalTo(40));
+                assertThat(copy.getInt(1), equalTo(80));
+            }
+            assertFalse(page.getBlock(0).isReleased());
+
+            task.stopCollecting();
+            try (EsqlQueryResponse response = task.getCurrentResult()) {
+                assertThat(response.pages(), hasSize(0));
+            }
+            task.onPage(page);
+            try (EsqlQueryResponse response = task.getCurrentResult()) {
+                assertThat(response.pages(), hasSize(0));
+            }
+        } finally {
+            page.releaseBlocks();
+        }
+    }
+
+    public void testSnapshot() {
+        EsqlQueryTask task = task();
+        task.setColumns(List.of(new ColumnInfo("foo", "integer")), false);
+        task.onSnapshot(new Page(blockFactory.newConstantIntBlockWith(1, 1)));
+        task.onSnapshot(new Page(blockFactory.newConstantIntBlockWith(2, 1)));
+        try (EsqlQueryResponse response = task.getCurrentResult()) {
+            assertTrue(response.isPartial());
+            assertThat(response.pages(), hasSize(1));
+            IntBlock copy = response.pages().get(0).getBlock(0);
+            assertThat(copy.getInt(0), equalTo(2));
+        }
+
+        // pages the coordinator has produced win over snapshots
+        Page page = new Page(blockFactory.newIntArrayVector(new int[] { 40, 80 }, 2).asBlock());
+        try {
+            task.onPage(page);
+            try (EsqlQueryResponse response = task.getCurrentResult()) {
+                assertThat(response.pages(), hasSize(1));
+                assertThat(response.pages().get(0).getPositionCount(), equalTo(2));
+            }
+            task.stopCollecting();
+        } finally {
+            page.releaseBlocks();
+        }
+
+        task.onSnapshot(new Page(blockFactory.newConstantIntBlockWith(3, 1)));
+        try (EsqlQueryResponse response = task.getCurrentResult()) {
+            assertThat(response.pages(), hasSize(0));
+        }
+    }
+}
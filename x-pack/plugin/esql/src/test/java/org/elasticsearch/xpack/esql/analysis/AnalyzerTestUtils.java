@@ -43,7 +43,13 @@ public final class AnalyzerTestUtils {
 
     public static Analyzer analyzer(IndexResolution indexResolution, Verifier verifier) {
         return new Analyzer(
-            new AnalyzerContext(EsqlTestUtils.TEST_CFG, new EsqlFunctionRegistry(), indexResolution, defaultEnrichResolution()),
+            new AnalyzerContext(
+                EsqlTestUtils.TEST_CFG,
+                new EsqlFunctionRegistry(),
+                indexResolution,
+                defaultEnrichResolution(),
+                defaultLookupResolution()
+            ),
             verifier
         );
     }
@@ -92,6 +98,10 @@ public final class AnalyzerTestUtils {
         return loadEnrichPolicyResolution("languages", "language_code", "languages_idx", "mapping-languages.json");
     }
 
+    public static Map<String, IndexResolution> defaultLookupResolution() {
+        return Map.of("languages", loadMapping("mapping-languages.json", "languages"));
+    }
+
     public static EnrichResolution loadEnrichPolicyResolution(String policyName, String matchField, String idxName, String mappingFile) {
         IndexResolution mapping = loadMapping(mappingFile, idxName);
         List<String> enrichFields = new ArrayList<>(mapping.get().mapping().keySet());
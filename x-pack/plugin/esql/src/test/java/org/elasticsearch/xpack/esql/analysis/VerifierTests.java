@@ -355,6 +355,22 @@ public class VerifierTests extends ESTestCase {
         assertEquals("1:23: invalid stats declaration; [avg] is not an aggregate function", error("from test | stats c = avg"));
     }
 
+    public void testLookup() {
+        assertEquals("1:20: Unknown index [nope]", error("from test | lookup nope on first_name"));
+        assertEquals("1:33: Unknown column [first_name] in lookup index [languages]", error("from test | lookup languages on first_name"));
+        assertEquals(
+            "1:66: Cannot match field [language_code] of type [integer] with field of type [keyword] in lookup index [languages]",
+            error("from test | eval language_code = languages | lookup languages on language_code")
+        );
+        assertEquals(
+            "1:93: only one LOOKUP is supported per query",
+            error(
+                "from test | eval language_code = to_string(languages) | lookup languages on language_code "
+                    + "| lookup languages on language_code"
+            )
+        );
+    }
+
     private String error(String query) {
         return error(query, defaultAnalyzer);
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.formatter;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.bytes.ReleasableBytesReference;
+import org.elasticsearch.common.io.stream.BytesStreamOutput;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.transport.BytesRefRecycler;
+import org.elasticsearch.xpack.esql.TestBlockFactory;
+import org.elasticsearch.xpack.esql.action.ColumnInfo;
+import org.elasticsearch.xpack.esql.action.EsqlQueryResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class ArrowResponseTests extends ESTestCase {
+    private static final BlockFactory blockFactory = TestBlockFactory.getNonBreakingInstance();
+
+    /**
+     * The stream that {@link #response()} is encoded to. It was decoded with Arrow's own
+     * {@code ArrowStreamReader} (Arrow Java 16.1.0) which read back the schema and every value
+     * of the response. If the encoding changes on purpose then regenerate this file and check
+     * it with a real Arrow reader again.
+     */
+    private static final String EXPECTED_STREAM = "response.arrow";
+
+    private EsqlQueryResponse response() {
+        return new EsqlQueryResponse(
+            List.of(
+                new ColumnInfo("k", "keyword"),
+                new ColumnInfo("i", "integer"),
+                new ColumnInfo("l", "long"),
+                new ColumnInfo("d", "double"),
+                new ColumnInfo("b", "boolean"),
+                new ColumnInfo("t", "date"),
+                new ColumnInfo("n", "null"),
+                new ColumnInfo("u", "unsigned_long")
+            ),
+            List.of(
+                new Page(
+                    blockFactory.newBytesRefBlockBuilder(3)
+                        .appendBytesRef(new BytesRef("cat"))
+                        .appendNull()
+                        .appendBytesRef(new BytesRef("mouse"))
+                        .build(),
+                    blockFactory.newIntBlockBuilder(3).appendInt(Integer.MIN_VALUE).appendInt(0).appendNull().build(),
+                    blockFactory.newLongBlockBuilder(3).appendLong(1).appendLong(-2).appendNull().build(),
+                    blockFactory.newDoubleBlockBuilder(3).appendDouble(1.5).appendNull().appendDouble(-0.25).build(),
+                    blockFactory.newBooleanArrayVector(new boolean[] { true, false, true }, 3).asBlock(),
+                    blockFactory.newLongBlockBuilder(3).appendLong(1_700_000_000_000L).appendNull().appendLong(0).build(),
+                    blockFactory.newConstantNullBlock(3),
+                    blockFactory.newLongArrayVector(new long[] { Long.MIN_VALUE, -1, 0 }, 3).asBlock()
+                ),
+                new Page(
+                    blockFactory.newBytesRefBlockBuilder(0).build(),
+                    blockFactory.newIntBlockBuilder(0).build(),
+                    blockFactory.newLongBlockBuilder(0).build(),
+                    blockFactory.newDoubleBlockBuilder(0).build(),
+                    blockFactory.newBooleanBlockBuilder(0).build(),
+                    blockFactory.newLongBlockBuilder(0).build(),
+                    blockFactory.newConstantNullBlock(0),
+                    blockFactory.newLongBlockBuilder(0).build()
+                )
+            ),
+            null,
+            randomBoolean(),
+            false
+        );
+    }
+
+    public void testStream() throws IOException {
+        byte[] expected;
+        try (InputStream in = ArrowResponseTests.class.getResourceAsStream(EXPECTED_STREAM)) {
+            expected = in.readAllBytes();
+        }
+        try (EsqlQueryResponse response = response()) {
+            assertArrayEquals(expected, encode(new ArrowResponse(response)));
+        }
+    }
+
+    public void testMultivalued() {
+        try (
+            EsqlQueryResponse response = new EsqlQueryResponse(
+                List.of(new ColumnInfo("l", "long")),
+                List.of(
+                    new Page(
+                        blockFactory.newLongBlockBuilder(1).beginPositionEntry().appendLong(1).appendLong(2).endPositionEntry().build()
+                    )
+                ),
+                null,
+                false,
+                false
+            )
+        ) {
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new ArrowResponse(response));
+            assertThat(
+                e.getMessage(),
+                equalTo(
+                    "column [l] is multivalued which isn't supported by the [arrow] format, "
+                        + "use MV_EXPAND or an MV_ function to remove the extra values"
+                )
+            );
+        }
+    }
+
+    private static byte[] encode(ArrowResponse arrow) throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput();
+        while (arrow.isDone() == false) {
+            try (ReleasableBytesReference chunk = arrow.encodeChunk(between(1, 1024), BytesRefRecycler.NON_RECYCLING_INSTANCE)) {
+                chunk.writeTo(out);
+            }
+        }
+        return BytesReference.toBytes(out.bytes());
+    }
+}
@@ -66,6 +66,7 @@ import org.elasticsearch.xpack.esql.plan.physical.FieldExtractExec;
 import org.elasticsearch.xpack.esql.plan.physical.FilterExec;
 import org.elasticsearch.xpack.esql.plan.physical.FragmentExec;
 import org.elasticsearch.xpack.esql.plan.physical.GrokExec;
+import org.elasticsearch.xpack.esql.plan.physical.HashJoinExec;
 import org.elasticsearch.xpack.esql.plan.physical.LimitExec;
 import org.elasticsearch.xpack.esql.plan.physical.MvExpandExec;
 import org.elasticsearch.xpack.esql.plan.physical.OrderExec;
@@ -135,6 +136,7 @@ public class PlanNamedTypesTests extends ESTestCase {
         FilterExec.class,
         FragmentExec.class,
         GrokExec.class,
+        HashJoinExec.class,
         LimitExec.class,
         MvExpandExec.class,
         OrderExec.class,
@@ -49,6 +49,7 @@ import org.elasticsearch.xpack.esql.plan.logical.Dissect;
 import org.elasticsearch.xpack.esql.plan.logical.Enrich;
 import org.elasticsearch.xpack.esql.plan.logical.Eval;
 import org.elasticsearch.xpack.esql.plan.logical.Grok;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.logical.MvExpand;
 import org.elasticsearch.xpack.esql.plan.logical.Row;
 import org.elasticsearch.xpack.esql.plan.logical.TopN;
@@ -142,7 +143,13 @@ public class LogicalPlanOptimizerTests extends ESTestCase {
         EsIndex test = new EsIndex("test", mapping, Set.of("test"));
         IndexResolution getIndexResult = IndexResolution.valid(test);
         analyzer = new Analyzer(
-            new AnalyzerContext(EsqlTestUtils.TEST_CFG, new EsqlFunctionRegistry(), getIndexResult, enrichResolution),
+            new AnalyzerContext(
+                EsqlTestUtils.TEST_CFG,
+                new EsqlFunctionRegistry(),
+                getIndexResult,
+                enrichResolution,
+                AnalyzerTestUtils.defaultLookupResolution()
+            ),
             TEST_VERIFIER
         );
 
@@ -1776,6 +1783,30 @@ public class LogicalPlanOptimizerTests extends ESTestCase {
         as(eval.child(), EsRelation.class);
     }
 
+    /**
+     * Expects
+     * Limit[10[INTEGER]]
+     * \_Lookup[languages[KEYWORD],language_code{r}#4,...]
+     *   \_Eval[[TOSTRING(languages{f}#9) AS language_code]]
+     *     \_Limit[10[INTEGER]]
+     *       \_EsRelation[test][_meta_field{f}#12, emp_no{f}#6, first_name{f}#7, ..]
+     */
+    public void testCopyLimitBelowLookup() {
+        LogicalPlan plan = optimizedPlan("""
+            from test
+            | eval language_code = to_string(languages)
+            | lookup languages on language_code
+            | limit 10
+            """);
+        var limit = as(plan, Limit.class);
+        assertThat(limit.limit().fold(), equalTo(10));
+        var lookup = as(limit.child(), Lookup.class);
+        var eval = as(lookup.child(), Eval.class);
+        limit = as(eval.child(), Limit.class);
+        assertThat(limit.limit().fold(), equalTo(10));
+        as(limit.child(), EsRelation.class);
+    }
+
     /**
      * Expects
      * EsqlProject[[a{r}#3, last_name{f}#9]]
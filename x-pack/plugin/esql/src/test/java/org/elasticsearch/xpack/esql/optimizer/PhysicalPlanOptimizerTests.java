@@ -124,9 +124,11 @@ import static org.elasticsearch.xpack.ql.expression.function.scalar.FunctionTest
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
 // @TestLogging(value = "org.elasticsearch.xpack.esql:TRACE", reason = "debug")
@@ -717,15 +719,99 @@ public class PhysicalPlanOptimizerTests extends ESTestCase {
         var exchange = asRemoteExchange(topN.child());
         var project = as(exchange.child(), ProjectExec.class);
         var extract = as(project.child(), FieldExtractExec.class);
-        var topNLocal = as(extract.child(), TopNExec.class);
-        // All fields except emp_no are loaded after this topn. We load an extra int for the doc and segment mapping.
-        assertThat(topNLocal.estimatedRowSize(), equalTo(allFieldRowSize + Integer.BYTES));
-
-        var extractForEval = as(topNLocal.child(), FieldExtractExec.class);
-        var eval = as(extractForEval.child(), EvalExec.class);
+        // the sort doesn't need nullsum so the top n moves below the eval and into the source
+        var eval = as(extract.child(), EvalExec.class);
         var source = source(eval.child());
-        // emp_no and nullsum are longs, doc id is an int
-        assertThat(source.estimatedRowSize(), equalTo(Integer.BYTES * 2 + Integer.BYTES));
+        assertThat(source.limit(), is(topN.limit()));
+        assertThat(source.sorts(), is(sorts(topN.order())));
+        // All fields and nullsum are loaded after the sort. An int for the doc, one for the segment, two for the doc map.
+        assertThat(source.estimatedRowSize(), equalTo(allFieldRowSize + Integer.BYTES * 5));
+    }
+
+    /**
+     * Expected
+     * TopNExec[[Order[emp_no{f}#5,ASC,LAST]],5[INTEGER],0]
+     * \_ExchangeExec[[],false]
+     *   \_ProjectExec[[_meta_field{f}#11, emp_no{f}#5, first_name{f}#6, !gender, languages{f}#8, last_name{f}#9, salary{f}#10, x{r}#3]]
+     *     \_FieldExtractExec[_meta_field{f}#11, emp_no{f}#5, languages{f}#8, la..]
+     *       \_EvalExec[[CONCAT(first_name{f}#6,[2d][KEYWORD]) AS x]]
+     *         \_FieldExtractExec[first_name{f}#6]
+     *           \_EsQueryExec[test], query[][_doc{f}#12], limit[5], sort[[FieldSort[field=emp_no{f}#5, direction=ASC, nulls=LAST]]]
+     */
+    public void testTopNPushedPastEval() {
+        var optimized = optimizedPlan(physicalPlan("""
+            from test
+            | eval x = concat(first_name, "-")
+            | sort emp_no
+            | limit 5
+            """));
+
+        var topN = as(optimized, TopNExec.class);
+        var exchange = asRemoteExchange(topN.child());
+        var project = as(exchange.child(), ProjectExec.class);
+        var extractRest = as(project.child(), FieldExtractExec.class);
+        assertThat(names(extractRest.attributesToExtract()), not(hasItem("first_name")));
+        var eval = as(extractRest.child(), EvalExec.class);
+        var extractForEval = as(eval.child(), FieldExtractExec.class);
+        assertThat(names(extractForEval.attributesToExtract()), contains("first_name"));
+        var source = source(extractForEval.child());
+        assertThat(source.limit(), is(topN.limit()));
+        assertThat(source.sorts(), is(sorts(topN.order())));
+    }
+
+    /**
+     * Expected
+     * TopNExec[[Order[gender{f}#6,ASC,LAST]],5[INTEGER],0]
+     * \_ExchangeExec[[],false]
+     *   \_ProjectExec[[_meta_field{f}#11, emp_no{f}#5, first_name{f}#6, gender{f}#7, languages{f}#8, last_name{f}#9, salary{f}#10, b{r}#3]]
+     *     \_FieldExtractExec[_meta_field{f}#11, emp_no{f}#5, languages{f}#8, la..]
+     *       \_DissectExec[first_name{f}#6,Parser[pattern=%{b} , appendSeparator=, parser=..],[b{r}#3]]
+     *         \_FieldExtractExec[first_name{f}#6]
+     *           \_TopNExec[[Order[gender{f}#7,ASC,LAST]],5[INTEGER],..]
+     *             \_FieldExtractExec[gender{f}#7]
+     *               \_EsQueryExec[test], query[][_doc{f}#12], limit[], sort[]
+     */
+    public void testTopNPushedPastDissect() {
+        var optimized = optimizedPlan(physicalPlan("""
+            from test
+            | dissect first_name "%{b} "
+            | sort gender
+            | limit 5
+            """));
+
+        var topN = as(optimized, TopNExec.class);
+        var exchange = asRemoteExchange(topN.child());
+        var project = as(exchange.child(), ProjectExec.class);
+        var extractRest = as(project.child(), FieldExtractExec.class);
+        var dissect = as(extractRest.child(), DissectExec.class);
+        var extractForDissect = as(dissect.child(), FieldExtractExec.class);
+        assertThat(names(extractForDissect.attributesToExtract()), contains("first_name"));
+        // only the sort key is loaded before the top n
+        var topNLocal = as(extractForDissect.child(), TopNExec.class);
+        var extractForSort = as(topNLocal.child(), FieldExtractExec.class);
+        assertThat(names(extractForSort.attributesToExtract()), contains("gender"));
+        var source = source(extractForSort.child());
+        assertNull(source.sorts());
+    }
+
+    public void testTopNNotPushedPastEvalItSortsOn() {
+        var optimized = optimizedPlan(physicalPlan("""
+            from test
+            | eval x = concat(first_name, "-")
+            | sort x
+            | limit 5
+            """));
+
+        var topN = as(optimized, TopNExec.class);
+        var exchange = asRemoteExchange(topN.child());
+        var project = as(exchange.child(), ProjectExec.class);
+        var extractRest = as(project.child(), FieldExtractExec.class);
+        var topNLocal = as(extractRest.child(), TopNExec.class);
+        var eval = as(topNLocal.child(), EvalExec.class);
+        var extractForEval = as(eval.child(), FieldExtractExec.class);
+        assertThat(names(extractForEval.attributesToExtract()), contains("first_name"));
+        var source = source(extractForEval.child());
+        assertNull(source.sorts());
     }
 
     public void testPushAndInequalitiesFilter() {
@@ -24,6 +24,7 @@ import org.elasticsearch.xpack.esql.plan.logical.Eval;
 import org.elasticsearch.xpack.esql.plan.logical.Explain;
 import org.elasticsearch.xpack.esql.plan.logical.Grok;
 import org.elasticsearch.xpack.esql.plan.logical.InlineStats;
+import org.elasticsearch.xpack.esql.plan.logical.Lookup;
 import org.elasticsearch.xpack.esql.plan.logical.MvExpand;
 import org.elasticsearch.xpack.esql.plan.logical.Row;
 import org.elasticsearch.xpack.ql.capabilities.UnresolvedException;
@@ -735,6 +736,23 @@ public class StatementParserTests extends ESTestCase {
         );
     }
 
+    public void testLookup() {
+        assertEquals(
+            new Lookup(
+                EMPTY,
+                PROCESSING_CMD_INPUT,
+                new Literal(EMPTY, "languages", KEYWORD),
+                new UnresolvedAttribute(EMPTY, "language_code"),
+                null,
+                null,
+                null
+            ),
+            processingCommand("lookup languages ON language_code")
+        );
+
+        expectError("from a | lookup languages on foo*", "Using wildcards (*) in LOOKUP ON is not allowed [foo*]");
+    }
+
     public void testMvExpand() {
         LogicalPlan cmd = processingCommand("mv_expand a");
         assertEquals(MvExpand.class, cmd.getClass());
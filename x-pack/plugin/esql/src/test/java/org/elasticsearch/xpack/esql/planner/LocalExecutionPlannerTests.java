@@ -129,7 +129,9 @@ public class LocalExecutionPlannerTests extends MapperServiceTestCase {
             null,
             null,
             null,
-            esPhysicalOperationProviders()
+            null,
+            esPhysicalOperationProviders(),
+            null
         );
     }
 
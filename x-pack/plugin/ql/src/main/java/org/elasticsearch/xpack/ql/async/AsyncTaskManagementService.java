@@ -353,10 +353,18 @@ public class AsyncTaskManagementService<
         Task task,
         ActionListener<StoredAsyncResponse<Response>> listener
     ) {
+        final Response response;
         try {
-            listener.onResponse(new StoredAsyncResponse<>(task.getCurrentResult(), task.getExpirationTimeMillis()));
+            response = task.getCurrentResult();
         } catch (Exception ex) {
             listener.onFailure(ex);
+            return;
+        }
+        // the current result is built fresh for this request so release it once the listener is done with it
+        try {
+            listener.onResponse(new StoredAsyncResponse<>(response, task.getExpirationTimeMillis()));
+        } finally {
+            response.decRef();
         }
     }
 }